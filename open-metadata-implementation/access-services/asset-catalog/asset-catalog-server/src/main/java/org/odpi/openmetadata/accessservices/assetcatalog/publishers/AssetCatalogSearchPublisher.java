@@ -3,8 +3,8 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.publishers;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +17,7 @@ import java.io.Serializable;
 public class AssetCatalogSearchPublisher {
 
     private static final Logger LOG = LoggerFactory.getLogger(AssetCatalogSearchPublisher.class);
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
+    private static final ObjectWriter OBJECT_WRITER = OMRSJSONCodec.getWriter();
 
     private final OpenMetadataTopicConnector topicConnector;
 
@@ -3,8 +3,6 @@
 
 package org.odpi.openmetadata.accessservices.assetowner.connectors.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.accessservices.assetowner.events.AssetOwnerOutTopicEvent;
 import org.odpi.openmetadata.accessservices.assetowner.ffdc.AssetOwnerAuditCode;
 import org.odpi.openmetadata.accessservices.assetowner.ffdc.AssetOwnerErrorCode;
@@ -12,8 +10,6 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicSenderConnectorBase;
 
-import java.util.concurrent.CompletionException;
-
 
 /**
  * AssetOwnerOutTopicServerConnector is the java implementation of the
@@ -22,8 +18,6 @@ import java.util.concurrent.CompletionException;
 public class AssetOwnerOutTopicServerConnector extends OpenMetadataTopicSenderConnectorBase
 {
 
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
-
     /**
      * Send the request to the embedded event bus connector(s).
      *
@@ -37,26 +31,15 @@ public class AssetOwnerOutTopicServerConnector extends OpenMetadataTopicSenderCo
 
         try
         {
-            String eventString = OBJECT_WRITER.writeValueAsString(event);
-            super.sendEvent(eventString).join();
-
-            if (super.auditLog != null)
-            {
-                super.auditLog.logMessage(methodName,
-                                          AssetOwnerAuditCode.OUT_TOPIC_EVENT.getMessageDefinition(event.getEventType().getEventTypeName()),
-                                          eventString);
-            }
-        }
-        catch (CompletionException error)
-        {
-            if (error.getCause() instanceof ConnectorCheckedException)
-            {
-                throw (ConnectorCheckedException) error.getCause();
-            }
-            else if (error.getCause() instanceof InvalidParameterException)
-            {
-                throw (InvalidParameterException) error.getCause();
-            }
+            String eventString = super.serializeEvent(event);
+            super.sendEvent(eventString).thenRun(() -> {
+                if (super.auditLog != null)
+                {
+                    super.auditLog.logMessage(methodName,
+                                              AssetOwnerAuditCode.OUT_TOPIC_EVENT.getMessageDefinition(event.getEventType().getEventTypeName()),
+                                              eventString);
+                }
+            });
         }
         catch (InvalidParameterException | ConnectorCheckedException error)
         {
@@ -23,6 +23,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -246,6 +247,122 @@ public interface DataEngineClient {
                                                                       PropertyServerException,
                                                                       ConnectorCheckedException;
 
+    /**
+     * Create or update a batch of schema types.  The default implementation sends the elements one at a time;
+     * clients that support batch requests override it.
+     *
+     * @param userId      the name of the calling user
+     * @param schemaTypes list of schema types
+     *
+     * @return the unique identifiers (guids) of the schema types, in the order they were supplied
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws ConnectorCheckedException  internal problem with the connector
+     */
+    default List<String> createOrUpdateSchemaTypes(String userId, List<SchemaType> schemaTypes) throws InvalidParameterException,
+                                                                                                       UserNotAuthorizedException,
+                                                                                                       PropertyServerException,
+                                                                                                       ConnectorCheckedException {
+        List<String> guids = new ArrayList<>();
+
+        if (schemaTypes != null) {
+            for (SchemaType schemaType : schemaTypes) {
+                guids.add(createOrUpdateSchemaType(userId, schemaType));
+            }
+        }
+
+        return guids;
+    }
+
+    /**
+     * Create or update a batch of processes.  The default implementation sends the elements one at a time;
+     * clients that support batch requests override it.
+     *
+     * @param userId    the name of the calling user
+     * @param processes list of processes
+     *
+     * @return the unique identifiers (guids) of the processes, in the order they were supplied
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws ConnectorCheckedException  internal problem with the connector
+     */
+    default List<String> createOrUpdateProcesses(String userId, List<Process> processes) throws InvalidParameterException,
+                                                                                                UserNotAuthorizedException,
+                                                                                                PropertyServerException,
+                                                                                                ConnectorCheckedException {
+        List<String> guids = new ArrayList<>();
+
+        if (processes != null) {
+            for (Process process : processes) {
+                guids.add(createOrUpdateProcess(userId, process));
+            }
+        }
+
+        return guids;
+    }
+
+    /**
+     * Add a batch of ProcessHierarchy relationships.  The default implementation sends the elements one at a time;
+     * clients that support batch requests override it.
+     *
+     * @param userId             the name of the calling user
+     * @param processHierarchies list of process hierarchies
+     *
+     * @return the unique identifiers (guids) of the child processes, in the order they were supplied
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws ConnectorCheckedException  internal problem with the connector
+     */
+    default List<String> addProcessHierarchies(String userId, List<ProcessHierarchy> processHierarchies) throws InvalidParameterException,
+                                                                                                                UserNotAuthorizedException,
+                                                                                                                PropertyServerException,
+                                                                                                                ConnectorCheckedException {
+        List<String> guids = new ArrayList<>();
+
+        if (processHierarchies != null) {
+            for (ProcessHierarchy processHierarchy : processHierarchies) {
+                guids.add(addProcessHierarchy(userId, processHierarchy));
+            }
+        }
+
+        return guids;
+    }
+
+    /**
+     * Create or update a batch of data files.  The default implementation sends the elements one at a time;
+     * clients that support batch requests override it.
+     *
+     * @param userId    the name of the calling user
+     * @param dataFiles list of data files
+     *
+     * @return the unique identifiers (guids) of the data files, in the order they were supplied
+     *
+     * @throws InvalidParameterException  the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     * @throws ConnectorCheckedException  internal problem with the connector
+     */
+    default List<String> upsertDataFiles(String userId, List<DataFile> dataFiles) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException,
+                                                                                         ConnectorCheckedException {
+        List<String> guids = new ArrayList<>();
+
+        if (dataFiles != null) {
+            for (DataFile dataFile : dataFiles) {
+                guids.add(upsertDataFile(userId, dataFile));
+            }
+        }
+
+        return guids;
+    }
+
     /**
      * Sets external source system name using the data engine client
      *
@@ -21,6 +21,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineOMASAPIRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataFilesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseSchemaRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DeleteRequestBody;
@@ -29,11 +30,14 @@ import org.odpi.openmetadata.accessservices.dataengine.rest.FindRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFlowsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortImplementationRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchiesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchyRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessingStateRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.RelationalTableRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypeRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.TopicRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
@@ -75,6 +79,7 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
     private static final String TOPIC_URL_TEMPLATE = DATA_ENGINE_PATH + "topics";
     private static final String EVENT_TYPE_URL_TEMPLATE = DATA_ENGINE_PATH + "event-types";
     private static final String PROCESSING_STATE_URL_TEMPLATE = DATA_ENGINE_PATH + "processing-state";
+    private static final String BATCH_URL_SUFFIX = "/batch";
 
     private static final String PROCESS_METHOD_NAME = "createOrUpdateProcess";
     private static final String PROCESS_DELETE_METHOD_NAME = "deleteProcess";
@@ -104,6 +109,10 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
     private static final String EVENT_TYPE_METHOD_NAME = "upsertEventType";
     private static final String TOPIC_DELETE_METHOD_NAME = "deleteTopic";
     private static final String EVENT_TYPE_DELETE_METHOD_NAME = "deleteEventType";
+    private static final String SCHEMA_TYPES_METHOD_NAME = "createOrUpdateSchemaTypes";
+    private static final String PROCESSES_METHOD_NAME = "createOrUpdateProcesses";
+    private static final String PROCESS_HIERARCHIES_METHOD_NAME = "addProcessHierarchies";
+    private static final String DATA_FILES_METHOD_NAME = "upsertDataFiles";
 
     private final String serverPlatformRootURL;
     private String externalSourceName;
@@ -340,6 +349,78 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
         callVoidPostRESTCall(userId, methodName, DATA_FLOWS_URL_TEMPLATE, requestBody);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> createOrUpdateSchemaTypes(String userId, List<SchemaType> schemaTypes) throws InvalidParameterException,
+                                                                                                      PropertyServerException,
+                                                                                                      UserNotAuthorizedException {
+        final String methodName = SCHEMA_TYPES_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        SchemaTypesRequestBody requestBody = new SchemaTypesRequestBody();
+        requestBody.setSchemaTypes(schemaTypes);
+        requestBody.setExternalSourceName(externalSourceName);
+
+        return callGUIDListPostRESTCall(userId, methodName, SCHEMA_TYPE_URL_TEMPLATE + BATCH_URL_SUFFIX, requestBody);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> createOrUpdateProcesses(String userId, List<Process> processes) throws InvalidParameterException,
+                                                                                               PropertyServerException,
+                                                                                               UserNotAuthorizedException {
+        final String methodName = PROCESSES_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        ProcessesRequestBody requestBody = new ProcessesRequestBody();
+        requestBody.setProcesses(processes);
+        requestBody.setExternalSourceName(externalSourceName);
+
+        return callGUIDListPostRESTCall(userId, methodName, PROCESS_URL_TEMPLATE + BATCH_URL_SUFFIX, requestBody);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> addProcessHierarchies(String userId, List<ProcessHierarchy> processHierarchies) throws InvalidParameterException,
+                                                                                                               PropertyServerException,
+                                                                                                               UserNotAuthorizedException {
+        final String methodName = PROCESS_HIERARCHIES_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        ProcessHierarchiesRequestBody requestBody = new ProcessHierarchiesRequestBody();
+        requestBody.setProcessHierarchies(processHierarchies);
+        requestBody.setExternalSourceName(externalSourceName);
+
+        return callGUIDListPostRESTCall(userId, methodName, PROCESS_HIERARCHY_URL_TEMPLATE + BATCH_URL_SUFFIX, requestBody);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> upsertDataFiles(String userId, List<DataFile> dataFiles) throws InvalidParameterException,
+                                                                                        PropertyServerException,
+                                                                                        UserNotAuthorizedException {
+        final String methodName = DATA_FILES_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        DataFilesRequestBody requestBody = new DataFilesRequestBody();
+        requestBody.setDataFiles(dataFiles);
+        requestBody.setExternalSourceName(externalSourceName);
+
+        return callGUIDListPostRESTCall(userId, methodName, DATA_FILE_URL_TEMPLATE + BATCH_URL_SUFFIX, requestBody);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -612,6 +693,15 @@ public class DataEngineRESTClient extends OCFRESTClient implements DataEngineCli
         return restResult.getGUID();
     }
 
+    private List<String> callGUIDListPostRESTCall(String userId, String methodName, String urlTemplate, DataEngineOMASAPIRequestBody requestBody,
+                                                  Object... params) throws PropertyServerException, InvalidParameterException,
+                                                                           UserNotAuthorizedException {
+        GUIDListResponse restResult = super.callGUIDListPostRESTCall(methodName, serverPlatformRootURL + urlTemplate, requestBody, serverName,
+                userId, params);
+
+        return restResult.getGUIDs();
+    }
+
     private void callVoidDeleteRESTCall(String userId, String methodName, String urlTemplate, DataEngineOMASAPIRequestBody requestBody,
                                         Object... params) throws PropertyServerException {
         super.callDeleteRESTCall(methodName, VoidResponse.class, serverPlatformRootURL + urlTemplate, requestBody, serverName, userId, params);
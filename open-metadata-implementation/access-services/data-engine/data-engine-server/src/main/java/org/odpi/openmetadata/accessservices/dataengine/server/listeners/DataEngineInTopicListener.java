@@ -3,12 +3,11 @@
 package org.odpi.openmetadata.accessservices.dataengine.server.listeners;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventHeader;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineAuditCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEngineEventProcessor;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +20,6 @@ import java.io.IOException;
  */
 public class DataEngineInTopicListener implements OpenMetadataTopicListener {
     private static final Logger log = LoggerFactory.getLogger(DataEngineInTopicListener.class);
-    private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
     private final AuditLog auditLog;
     private final DataEngineEventProcessor dataEngineEventProcessor;
 
@@ -51,7 +49,7 @@ public class DataEngineInTopicListener implements OpenMetadataTopicListener {
         } else {
 
             try {
-                DataEngineEventHeader dataEngineEventHeader = OBJECT_READER.readValue(dataEngineEvent, DataEngineEventHeader.class);
+                DataEngineEventHeader dataEngineEventHeader = OMRSJSONCodec.readValue(dataEngineEvent, DataEngineEventHeader.class);
 
                 if ((dataEngineEventHeader != null)) {
                     switch (dataEngineEventHeader.getDataEngineEventType()) {
@@ -2,8 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.dataengine.server.processors;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineRegistrationEvent;
@@ -31,6 +29,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotDeletedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
@@ -50,7 +49,6 @@ import static org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataA
  */
 
 public class DataEngineEventProcessor {
-    private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
     private static final Logger log = LoggerFactory.getLogger(DataEngineEventProcessor.class);
     private static final String DEBUG_MESSAGE_METHOD = "Calling method: {}";
 
@@ -83,7 +81,7 @@ public class DataEngineEventProcessor {
 
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DataEngineRegistrationEvent dataEngineRegistrationEvent = OBJECT_READER.readValue(dataEngineEvent, DataEngineRegistrationEvent.class);
+            DataEngineRegistrationEvent dataEngineRegistrationEvent = OMRSJSONCodec.readValue(dataEngineEvent, DataEngineRegistrationEvent.class);
             dataEngineRESTServices.createExternalDataEngine(dataEngineRegistrationEvent.getUserId(), serverName,
                     dataEngineRegistrationEvent.getEngine());
 
@@ -102,7 +100,7 @@ public class DataEngineEventProcessor {
 
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            PortAliasEvent portAliasEvent = OBJECT_READER.readValue(dataEngineEvent, PortAliasEvent.class);
+            PortAliasEvent portAliasEvent = OMRSJSONCodec.readValue(dataEngineEvent, PortAliasEvent.class);
 
             String userId = portAliasEvent.getUserId();
             String externalSourceName = portAliasEvent.getExternalSourceName();
@@ -130,7 +128,7 @@ public class DataEngineEventProcessor {
 
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            ProcessHierarchyEvent processHierarchyEvent = OBJECT_READER.readValue(dataEngineEvent, ProcessHierarchyEvent.class);
+            ProcessHierarchyEvent processHierarchyEvent = OMRSJSONCodec.readValue(dataEngineEvent, ProcessHierarchyEvent.class);
 
             dataEngineRESTServices.addProcessHierarchyToProcess(processHierarchyEvent.getUserId(), serverName,
                     processHierarchyEvent.getProcessHierarchy(),
@@ -151,7 +149,7 @@ public class DataEngineEventProcessor {
 
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            PortImplementationEvent portImplementationEvent = OBJECT_READER.readValue(dataEngineEvent, PortImplementationEvent.class);
+            PortImplementationEvent portImplementationEvent = OMRSJSONCodec.readValue(dataEngineEvent, PortImplementationEvent.class);
             String externalSourceName = portImplementationEvent.getExternalSourceName();
             String userId = portImplementationEvent.getUserId();
             PortImplementation portImplementation = portImplementationEvent.getPortImplementation();
@@ -183,7 +181,7 @@ public class DataEngineEventProcessor {
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
 
         try {
-            DataFlowsEvent dataFlowsEvent = OBJECT_READER.readValue(dataEngineEvent, DataFlowsEvent.class);
+            DataFlowsEvent dataFlowsEvent = OMRSJSONCodec.readValue(dataEngineEvent, DataFlowsEvent.class);
 
             if (CollectionUtils.isEmpty(dataFlowsEvent.getDataFlows())) {
                 return;
@@ -208,7 +206,7 @@ public class DataEngineEventProcessor {
 
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            ProcessEvent processesEvent = OBJECT_READER.readValue(dataEngineEvent, ProcessEvent.class);
+            ProcessEvent processesEvent = OMRSJSONCodec.readValue(dataEngineEvent, ProcessEvent.class);
 
             dataEngineRESTServices.upsertProcess(processesEvent.getUserId(), serverName, processesEvent.getProcess(),
                     processesEvent.getExternalSourceName());
@@ -227,7 +225,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processSchemaTypeEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            SchemaTypeEvent schemaEvent = OBJECT_READER.readValue(schemaTypeEvent, SchemaTypeEvent.class);
+            SchemaTypeEvent schemaEvent = OMRSJSONCodec.readValue(schemaTypeEvent, SchemaTypeEvent.class);
 
             String portGUID = null;
             if (StringUtils.isNotEmpty(schemaEvent.getPortQualifiedName())) {
@@ -250,7 +248,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteSchemaTypeEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteSchemaType(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -268,7 +266,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteDataEngineEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteExternalDataEngine(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -286,7 +284,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteProcessEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteProcess(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -319,7 +317,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDatabaseEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DatabaseEvent databaseEvent = OBJECT_READER.readValue(dataEngineEvent, DatabaseEvent.class);
+            DatabaseEvent databaseEvent = OMRSJSONCodec.readValue(dataEngineEvent, DatabaseEvent.class);
 
             dataEngineRESTServices.upsertDatabase(databaseEvent.getUserId(), serverName, databaseEvent.getDatabase(),
                     databaseEvent.getExternalSourceName());
@@ -337,7 +335,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDatabaseSchemaEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DatabaseSchemaEvent databaseSchemaEvent = OBJECT_READER.readValue(dataEngineEvent, DatabaseSchemaEvent.class);
+            DatabaseSchemaEvent databaseSchemaEvent = OMRSJSONCodec.readValue(dataEngineEvent, DatabaseSchemaEvent.class);
 
             dataEngineRESTServices.upsertDatabaseSchema(databaseSchemaEvent.getUserId(), serverName,
                     databaseSchemaEvent.getDatabaseQualifiedName(), databaseSchemaEvent.getDatabaseSchema(),
@@ -357,7 +355,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processRelationalTableEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            RelationalTableEvent relationalTableEvent = OBJECT_READER.readValue(dataEngineEvent, RelationalTableEvent.class);
+            RelationalTableEvent relationalTableEvent = OMRSJSONCodec.readValue(dataEngineEvent, RelationalTableEvent.class);
 
             dataEngineRESTServices.upsertRelationalTable(relationalTableEvent.getUserId(), serverName,
                     relationalTableEvent.getDatabaseSchemaQualifiedName(), relationalTableEvent.getRelationalTable(),
@@ -376,7 +374,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDataFileEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DataFileEvent dataFileEvent = OBJECT_READER.readValue(dataEngineEvent, DataFileEvent.class);
+            DataFileEvent dataFileEvent = OMRSJSONCodec.readValue(dataEngineEvent, DataFileEvent.class);
 
             dataEngineRESTServices.upsertDataFile(dataFileEvent.getUserId(), serverName, dataFileEvent.getDataFile(),
                     dataFileEvent.getExternalSourceName());
@@ -394,7 +392,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteDatabaseEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteDatabase(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -412,7 +410,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteDatabaseSchemaEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteDatabaseSchema(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -430,7 +428,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteRelationalTableEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteRelationalTable(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -448,7 +446,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteDataFileEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteDataFile(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -466,7 +464,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteFolderEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteFolder(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -484,7 +482,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteConnectionEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteConnection(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -502,7 +500,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteEndpointEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteEndpoint(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -520,7 +518,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processTopicEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            TopicEvent topicEvent = OBJECT_READER.readValue(dataEngineEvent, TopicEvent.class);
+            TopicEvent topicEvent = OMRSJSONCodec.readValue(dataEngineEvent, TopicEvent.class);
 
             dataEngineRESTServices.upsertTopic(topicEvent.getUserId(), serverName, topicEvent.getTopic(), topicEvent.getExternalSourceName());
         } catch (IOException | UserNotAuthorizedException | PropertyServerException | InvalidParameterException e) {
@@ -537,7 +535,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processEventTypeEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            EventTypeEvent eventTypeEvent = OBJECT_READER.readValue(dataEngineEvent, EventTypeEvent.class);
+            EventTypeEvent eventTypeEvent = OMRSJSONCodec.readValue(dataEngineEvent, EventTypeEvent.class);
             String topicGUID = dataEngineRESTServices.getTopicGUID(eventTypeEvent.getUserId(), serverName, eventTypeEvent.getTopicQualifiedName(),
                     methodName);
 
@@ -557,7 +555,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteTopicEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteTopic(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -575,7 +573,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processDeleteEventTypeEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deleteEventType(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), deleteEvent.getDeleteSemantic());
@@ -593,7 +591,7 @@ public class DataEngineEventProcessor {
         final String methodName = "processProcessingStateEvent";
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            ProcessingStateEvent event = OBJECT_READER.readValue(dataEngineEvent, ProcessingStateEvent.class);
+            ProcessingStateEvent event = OMRSJSONCodec.readValue(dataEngineEvent, ProcessingStateEvent.class);
 
             dataEngineRESTServices.upsertProcessingState(event.getUserId(), serverName, event.getProcessingState(),
                     event.getExternalSourceName());
@@ -605,7 +603,7 @@ public class DataEngineEventProcessor {
     private void deletePort(String dataEngineEvent, String methodName, String portType) {
         log.trace(DEBUG_MESSAGE_METHOD, methodName);
         try {
-            DeleteEvent deleteEvent = OBJECT_READER.readValue(dataEngineEvent, DeleteEvent.class);
+            DeleteEvent deleteEvent = OMRSJSONCodec.readValue(dataEngineEvent, DeleteEvent.class);
 
             dataEngineRESTServices.deletePort(deleteEvent.getUserId(), serverName, deleteEvent.getExternalSourceName(),
                     deleteEvent.getGuid(), deleteEvent.getQualifiedName(), portType, deleteEvent.getDeleteSemantic());
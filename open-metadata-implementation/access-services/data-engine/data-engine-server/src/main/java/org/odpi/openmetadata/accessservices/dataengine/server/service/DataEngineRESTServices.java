@@ -30,6 +30,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineOMASAPIRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataFilesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseSchemaRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DeleteRequestBody;
@@ -38,11 +39,14 @@ import org.odpi.openmetadata.accessservices.dataengine.rest.FindRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFlowsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortImplementationRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchiesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchyRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessingStateRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.RelationalTableRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypeRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.TopicRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.server.admin.DataEngineInstanceHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineCollectionHandler;
@@ -77,6 +81,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -860,6 +865,172 @@ public class DataEngineRESTServices {
         return response;
     }
 
+    /**
+     * Create or update a batch of schema types, with their schema attributes and corresponding relationships.
+     * Each schema type is processed in turn; a failure is captured in the response and the remaining schema
+     * types are still processed.
+     *
+     * @param userId                 the name of the calling user
+     * @param serverName             name of server instance to call
+     * @param schemaTypesRequestBody properties of the schema types
+     *
+     * @return the unique identifiers (guids) of the schema types in request order (null for any that failed)
+     */
+    public GUIDListResponse upsertSchemaTypes(String userId, String serverName, SchemaTypesRequestBody schemaTypesRequestBody) {
+        final String methodName = "upsertSchemaTypes";
+
+        GUIDListResponse response = new GUIDListResponse();
+
+        try {
+            validateRequestBody(userId, serverName, schemaTypesRequestBody, methodName);
+
+            List<String> guids = new ArrayList<>();
+            if (CollectionUtils.isNotEmpty(schemaTypesRequestBody.getSchemaTypes())) {
+                for (SchemaType schemaType : schemaTypesRequestBody.getSchemaTypes()) {
+                    try {
+                        guids.add(upsertSchemaType(userId, serverName, null, schemaType, schemaTypesRequestBody.getExternalSourceName()));
+                    } catch (Exception error) {
+                        guids.add(null);
+                        restExceptionHandler.captureExceptions(response, error, methodName);
+                    }
+                }
+            }
+            response.setGUIDs(guids);
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
+    /**
+     * Create or update a batch of processes with their ports and schema types.  Each process is processed in turn;
+     * a failure is captured in the response and the remaining processes are still processed.
+     *
+     * @param userId               the name of the calling user
+     * @param serverName           name of server instance to call
+     * @param processesRequestBody properties of the processes
+     *
+     * @return the unique identifiers (guids) of the processes in request order (null for any that failed)
+     */
+    public GUIDListResponse upsertProcesses(String userId, String serverName, ProcessesRequestBody processesRequestBody) {
+        final String methodName = "upsertProcesses";
+
+        GUIDListResponse response = new GUIDListResponse();
+
+        try {
+            validateRequestBody(userId, serverName, processesRequestBody, methodName);
+
+            List<String> guids = new ArrayList<>();
+            if (CollectionUtils.isNotEmpty(processesRequestBody.getProcesses())) {
+                for (Process process : processesRequestBody.getProcesses()) {
+                    if (process == null) {
+                        guids.add(null);
+                        continue;
+                    }
+
+                    GUIDResponse processResponse = upsertProcess(userId, serverName, process, processesRequestBody.getExternalSourceName());
+
+                    guids.add(processResponse.getGUID());
+                    if (processResponse.getRelatedHTTPCode() != HttpStatus.OK.value()) {
+                        copyExceptions(processResponse, response);
+                    }
+                }
+            }
+            response.setGUIDs(guids);
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
+    /**
+     * Add a batch of ProcessHierarchy relationships.  Each process hierarchy is processed in turn; a failure is
+     * captured in the response and the remaining process hierarchies are still processed.
+     *
+     * @param userId                        the name of the calling user
+     * @param serverName                    name of server instance to call
+     * @param processHierarchiesRequestBody properties of the process hierarchies
+     *
+     * @return the unique identifiers (guids) of the child processes in request order (null for any that failed)
+     */
+    public GUIDListResponse addProcessHierarchies(String userId, String serverName,
+                                                  ProcessHierarchiesRequestBody processHierarchiesRequestBody) {
+        final String methodName = "addProcessHierarchies";
+
+        GUIDListResponse response = new GUIDListResponse();
+
+        try {
+            validateRequestBody(userId, serverName, processHierarchiesRequestBody, methodName);
+
+            List<String> guids = new ArrayList<>();
+            if (CollectionUtils.isNotEmpty(processHierarchiesRequestBody.getProcessHierarchies())) {
+                for (ProcessHierarchy processHierarchy : processHierarchiesRequestBody.getProcessHierarchies()) {
+                    try {
+                        guids.add(addProcessHierarchyToProcess(userId, serverName, processHierarchy,
+                                processHierarchiesRequestBody.getExternalSourceName()));
+                    } catch (Exception error) {
+                        log.error(EXCEPTION_WHILE_CREATING_PROCESS_HIERARCHY, processHierarchy, error.toString());
+                        guids.add(null);
+                        restExceptionHandler.captureExceptions(response, error, methodName);
+                    }
+                }
+            }
+            response.setGUIDs(guids);
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
+    /**
+     * Create or update a batch of DataFiles or CSVFiles, along with their schemas, columns and folder hierarchies.
+     * Each data file is processed in turn; a failure is captured in the response and the remaining data files
+     * are still processed.
+     *
+     * @param userId               the name of the calling user
+     * @param serverName           name of server instance to call
+     * @param dataFilesRequestBody properties of the data files
+     *
+     * @return the unique identifiers (guids) of the data files in request order (null for any that failed)
+     */
+    public GUIDListResponse upsertDataFiles(String userId, String serverName, DataFilesRequestBody dataFilesRequestBody) {
+        final String methodName = "upsertDataFiles";
+
+        GUIDListResponse response = new GUIDListResponse();
+
+        try {
+            validateRequestBody(userId, serverName, dataFilesRequestBody, methodName);
+
+            List<String> guids = new ArrayList<>();
+            if (CollectionUtils.isNotEmpty(dataFilesRequestBody.getDataFiles())) {
+                for (DataFile dataFile : dataFilesRequestBody.getDataFiles()) {
+                    try {
+                        guids.add(upsertDataFile(userId, serverName, dataFile, dataFilesRequestBody.getExternalSourceName()));
+                    } catch (Exception error) {
+                        guids.add(null);
+                        restExceptionHandler.captureExceptions(response, error, methodName);
+                    }
+                }
+            }
+            response.setGUIDs(guids);
+        } catch (Exception error) {
+            restExceptionHandler.captureExceptions(response, error, methodName);
+        }
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
     /**
      * Retrieve in topic connection details from the service instance hosting Data Engine access service
      *
@@ -1843,6 +2014,19 @@ public class DataEngineRESTServices {
 
     }
 
+    private void copyExceptions(FFDCResponseBase source, FFDCResponseBase target) {
+        target.setRelatedHTTPCode(source.getRelatedHTTPCode());
+        target.setExceptionClassName(source.getExceptionClassName());
+        target.setExceptionCausedBy(source.getExceptionCausedBy());
+        target.setActionDescription(source.getActionDescription());
+        target.setExceptionErrorMessage(source.getExceptionErrorMessage());
+        target.setExceptionErrorMessageId(source.getExceptionErrorMessageId());
+        target.setExceptionErrorMessageParameters(source.getExceptionErrorMessageParameters());
+        target.setExceptionSystemAction(source.getExceptionSystemAction());
+        target.setExceptionUserAction(source.getExceptionUserAction());
+        target.setExceptionProperties(source.getExceptionProperties());
+    }
+
     private void validateRequestBody(String userId, String serverName, DataEngineOMASAPIRequestBody requestBody, String methodName)
             throws InvalidParameterException {
         if (requestBody == null) {
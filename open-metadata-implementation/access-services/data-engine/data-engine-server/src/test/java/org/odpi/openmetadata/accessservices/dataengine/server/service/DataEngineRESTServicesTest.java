@@ -24,10 +24,13 @@ import org.odpi.openmetadata.accessservices.dataengine.model.DatabaseSchema;
 import org.odpi.openmetadata.accessservices.dataengine.model.DeleteSemantic;
 import org.odpi.openmetadata.accessservices.dataengine.model.EventType;
 import org.odpi.openmetadata.accessservices.dataengine.model.OwnerType;
+import org.odpi.openmetadata.accessservices.dataengine.model.ParentProcess;
 import org.odpi.openmetadata.accessservices.dataengine.model.PortAlias;
 import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
 import org.odpi.openmetadata.accessservices.dataengine.model.PortType;
 import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.ProcessContainmentType;
+import org.odpi.openmetadata.accessservices.dataengine.model.ProcessHierarchy;
 import org.odpi.openmetadata.accessservices.dataengine.model.ProcessingState;
 import org.odpi.openmetadata.accessservices.dataengine.model.RelationalTable;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
@@ -36,6 +39,7 @@ import org.odpi.openmetadata.accessservices.dataengine.model.Topic;
 import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataFilesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseSchemaRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DeleteRequestBody;
@@ -43,10 +47,13 @@ import org.odpi.openmetadata.accessservices.dataengine.rest.EventTypeRequestBody
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFlowsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortImplementationRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchiesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessingStateRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.RelationalTableRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypeRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.TopicRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.server.admin.DataEngineInstanceHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineCollectionHandler;
@@ -62,6 +69,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineTopicHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
+import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.PropertiesResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
@@ -73,6 +81,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
@@ -90,6 +99,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -152,6 +162,8 @@ class DataEngineRESTServicesTest {
     private static final int POSITION = 1;
     private static final String NATIVE_CLASS = "nativeClass";
     private static final String PROCESS_QUALIFIED_NAME = "processQName";
+    private static final String PARENT_PROCESS_QUALIFIED_NAME = "parentProcessQName";
+    private static final String UNKNOWN_PROCESS_QUALIFIED_NAME = "unknownProcessQName";
     private static final String COLLECTION_GUID = "collectionGUID";
     public static final String DATABASE_QUALIFIED_NAME = "databaseQualifiedName";
     private static final String TOPIC_QUALIFIED_NAME = "topicQualifiedName";
@@ -395,6 +407,161 @@ class DataEngineRESTServicesTest {
         verify(restExceptionHandler, times(1)).captureExceptions(any(GUIDResponse.class), eq(mockedException), eq(methodName));
     }
 
+    @Test
+    void upsertSchemaTypes() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockSchemaTypeHandler("upsertSchemaType");
+
+        when(dataEngineSchemaTypeHandler.upsertSchemaType(USER, getSchemaType(), null, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+
+        SchemaTypesRequestBody requestBody = mockSchemaTypesRequestBody();
+
+        GUIDListResponse response = dataEngineRESTServices.upsertSchemaTypes(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(GUID, GUID), response.getGUIDs());
+    }
+
+    @Test
+    void upsertSchemaTypes_ResponseWithCapturedInvalidParameterException() throws InvalidParameterException,
+                                                                                  PropertyServerException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  InvocationTargetException,
+                                                                                  NoSuchMethodException,
+                                                                                  InstantiationException,
+                                                                                  IllegalAccessException {
+        String methodName = "upsertSchemaType";
+
+        mockSchemaTypeHandler(methodName);
+
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
+        when(dataEngineSchemaTypeHandler.upsertSchemaType(USER, getSchemaType(), null, EXTERNAL_SOURCE_DE_QUALIFIED_NAME))
+                .thenThrow(mockedException).thenReturn(GUID);
+
+        SchemaTypesRequestBody requestBody = mockSchemaTypesRequestBody();
+
+        GUIDListResponse response = dataEngineRESTServices.upsertSchemaTypes(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(null, GUID), response.getGUIDs());
+        verify(restExceptionHandler, times(1)).captureExceptions(any(GUIDListResponse.class), eq(mockedException), eq("upsertSchemaTypes"));
+    }
+
+    @Test
+    void upsertProcesses() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockBatchProcessHandlers();
+
+        when(processHandler.createProcess(USER, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PROCESS_GUID);
+
+        ProcessesRequestBody requestBody = mockProcessesRequestBody();
+
+        GUIDListResponse response = dataEngineRESTServices.upsertProcesses(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(PROCESS_GUID, PROCESS_GUID), response.getGUIDs());
+        assertEquals(HttpStatus.OK.value(), response.getRelatedHTTPCode());
+        verify(processHandler, times(2)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+    }
+
+    @Test
+    void upsertProcesses_ResponseWithCapturedInvalidParameterException() throws InvalidParameterException,
+                                                                                PropertyServerException,
+                                                                                UserNotAuthorizedException,
+                                                                                InvocationTargetException,
+                                                                                NoSuchMethodException,
+                                                                                InstantiationException,
+                                                                                IllegalAccessException {
+        String methodName = "upsertProcess";
+
+        mockBatchProcessHandlers();
+
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
+        when(processHandler.createProcess(USER, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME))
+                .thenThrow(mockedException).thenReturn(PROCESS_GUID);
+        doAnswer(invocation -> {
+            GUIDResponse processResponse = invocation.getArgument(0);
+            processResponse.setRelatedHTTPCode(HttpStatus.BAD_REQUEST.value());
+            processResponse.setExceptionClassName(InvalidParameterException.class.getName());
+            return null;
+        }).when(restExceptionHandler).captureExceptions(any(GUIDResponse.class), eq(mockedException), eq(methodName));
+
+        ProcessesRequestBody requestBody = mockProcessesRequestBody();
+
+        GUIDListResponse response = dataEngineRESTServices.upsertProcesses(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(null, PROCESS_GUID), response.getGUIDs());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getRelatedHTTPCode());
+        assertEquals(InvalidParameterException.class.getName(), response.getExceptionClassName());
+        verify(restExceptionHandler, times(1)).captureExceptions(any(GUIDResponse.class), eq(mockedException), eq(methodName));
+        verify(processHandler, times(1)).updateProcessStatus(USER, PROCESS_GUID, InstanceStatus.ACTIVE, EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+    }
+
+    @Test
+    void addProcessHierarchies() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockProcessHandler("addProcessHierarchyToProcess");
+
+        Optional<EntityDetail> processEntity = mockEntityDetail(PROCESS_GUID);
+        when(processHandler.findProcessEntity(USER, PROCESS_QUALIFIED_NAME)).thenReturn(processEntity);
+
+        ProcessHierarchiesRequestBody requestBody = mockProcessHierarchiesRequestBody(getProcessHierarchy(PROCESS_QUALIFIED_NAME),
+                getProcessHierarchy(PROCESS_QUALIFIED_NAME));
+
+        GUIDListResponse response = dataEngineRESTServices.addProcessHierarchies(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(PROCESS_GUID, PROCESS_GUID), response.getGUIDs());
+        verify(processHandler, times(2)).upsertProcessHierarchyRelationship(eq(USER), any(ParentProcess.class), eq(PROCESS_GUID),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+    }
+
+    @Test
+    void addProcessHierarchies_ResponseWithCapturedInvalidParameterException() throws InvalidParameterException,
+                                                                                      PropertyServerException,
+                                                                                      UserNotAuthorizedException {
+        mockProcessHandler("addProcessHierarchyToProcess");
+
+        Optional<EntityDetail> processEntity = mockEntityDetail(PROCESS_GUID);
+        when(processHandler.findProcessEntity(USER, PROCESS_QUALIFIED_NAME)).thenReturn(processEntity);
+        when(processHandler.findProcessEntity(USER, UNKNOWN_PROCESS_QUALIFIED_NAME)).thenReturn(Optional.empty());
+
+        ProcessHierarchiesRequestBody requestBody = mockProcessHierarchiesRequestBody(getProcessHierarchy(UNKNOWN_PROCESS_QUALIFIED_NAME),
+                getProcessHierarchy(PROCESS_QUALIFIED_NAME));
+
+        GUIDListResponse response = dataEngineRESTServices.addProcessHierarchies(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(null, PROCESS_GUID), response.getGUIDs());
+        verify(restExceptionHandler, times(1)).captureExceptions(any(GUIDListResponse.class), any(InvalidParameterException.class),
+                eq("addProcessHierarchies"));
+        verify(processHandler, times(1)).upsertProcessHierarchyRelationship(eq(USER), any(ParentProcess.class), eq(PROCESS_GUID),
+                eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME));
+    }
+
+    @Test
+    void upsertDataFiles() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockBatchDataFileHandlers();
+
+        when(dataEngineDataFileHandler.upsertFileAssetIntoCatalog(eq(DATA_FILE_TYPE_NAME), eq(DATA_FILE_TYPE_GUID), any(), any(), any(),
+                eq(EXTERNAL_SOURCE_DE_GUID), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), eq(USER), eq("upsertDataFile"))).thenReturn(GUID);
+        when(dataEngineDataFileHandler.upsertFileAssetIntoCatalog(eq(CSV_FILE_TYPE_NAME), eq(CSV_FILE_TYPE_GUID), any(), any(), any(),
+                eq(EXTERNAL_SOURCE_DE_GUID), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), eq(USER), eq("upsertDataFile"))).thenReturn(GUID);
+
+        DataFilesRequestBody requestBody = mockDataFilesRequestBody(getDataFile(), getCsvFile());
+
+        GUIDListResponse response = dataEngineRESTServices.upsertDataFiles(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(GUID, GUID), response.getGUIDs());
+    }
+
+    @Test
+    void upsertDataFiles_ResponseWithCapturedPropertyServerException() throws InvalidParameterException,
+                                                                              PropertyServerException,
+                                                                              UserNotAuthorizedException,
+                                                                              InvocationTargetException,
+                                                                              NoSuchMethodException,
+                                                                              InstantiationException,
+                                                                              IllegalAccessException {
+        mockBatchDataFileHandlers();
+
+        PropertyServerException mockedException = mockException(PropertyServerException.class, "upsertDataFile");
+        when(dataEngineDataFileHandler.upsertFileAssetIntoCatalog(eq(DATA_FILE_TYPE_NAME), eq(DATA_FILE_TYPE_GUID), any(), any(), any(),
+                eq(EXTERNAL_SOURCE_DE_GUID), eq(EXTERNAL_SOURCE_DE_QUALIFIED_NAME), eq(USER), eq("upsertDataFile")))
+                .thenThrow(mockedException).thenReturn(GUID);
+
+        DataFilesRequestBody requestBody = mockDataFilesRequestBody(getDataFile(), getDataFile());
+
+        GUIDListResponse response = dataEngineRESTServices.upsertDataFiles(USER, SERVER_NAME, requestBody);
+        assertEquals(Arrays.asList(null, GUID), response.getGUIDs());
+        verify(restExceptionHandler, times(1)).captureExceptions(any(GUIDListResponse.class), eq(mockedException), eq("upsertDataFiles"));
+    }
+
     @Test
     void createPortImplementation() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         PortImplementationRequestBody requestBody = mockPortImplementationRequestBody();
@@ -1466,6 +1633,54 @@ class DataEngineRESTServicesTest {
         return requestBody;
     }
 
+    private SchemaTypesRequestBody mockSchemaTypesRequestBody() {
+        SchemaTypesRequestBody requestBody = new SchemaTypesRequestBody();
+        requestBody.setSchemaTypes(Arrays.asList(getSchemaType(), getSchemaType()));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        return requestBody;
+    }
+
+    private ProcessesRequestBody mockProcessesRequestBody() {
+        ProcessesRequestBody requestBody = new ProcessesRequestBody();
+        requestBody.setProcesses(Arrays.asList(process, process));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        return requestBody;
+    }
+
+    private ProcessHierarchiesRequestBody mockProcessHierarchiesRequestBody(ProcessHierarchy... processHierarchies) {
+        ProcessHierarchiesRequestBody requestBody = new ProcessHierarchiesRequestBody();
+        requestBody.setProcessHierarchies(Arrays.asList(processHierarchies));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        return requestBody;
+    }
+
+    private DataFilesRequestBody mockDataFilesRequestBody(DataFile... dataFiles) {
+        DataFilesRequestBody requestBody = new DataFilesRequestBody();
+        requestBody.setDataFiles(Arrays.asList(dataFiles));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        return requestBody;
+    }
+
+    private void mockBatchProcessHandlers() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockSchemaTypeHandler("upsertSchemaType");
+        mockPortHandler("upsertPortImplementation");
+        mockPortHandler("upsertPortAliasWithDelegation");
+        mockProcessHandler("upsertProcess");
+        mockProcessHandler("updateProcessStatus");
+        mockCollectionHandler("createCollection");
+        mockCollectionHandler("addProcessCollectionRelationship");
+
+        when(dataEnginePortHandler.createPortImplementation(USER, portImplementation, PROCESS_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(PORT_GUID);
+        when(dataEnginePortHandler.createPortAlias(USER, portAlias, PROCESS_GUID, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(dataEngineCollectionHandler.createCollection(USER, getCollection(), EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(COLLECTION_GUID);
+    }
+
+    private void mockBatchDataFileHandlers() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        mockDataFileHandler("upsertDataFile");
+        mockRegistrationHandler("upsertDataFile");
+        when(dataEngineRegistrationHandler.getExternalDataEngine(USER, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(EXTERNAL_SOURCE_DE_GUID);
+    }
+
     private ProcessingStateRequestBody mockProcessingStateRequestBody(ProcessingState processingState) {
         ProcessingStateRequestBody requestBody = new ProcessingStateRequestBody();
         requestBody.setProcessingState(processingState);
@@ -1620,6 +1835,16 @@ class DataEngineRESTServicesTest {
         return process;
     }
 
+    private ProcessHierarchy getProcessHierarchy(String childProcessQualifiedName) {
+        ProcessHierarchy processHierarchy = new ProcessHierarchy();
+
+        processHierarchy.setParentProcess(PARENT_PROCESS_QUALIFIED_NAME);
+        processHierarchy.setChildProcess(childProcessQualifiedName);
+        processHierarchy.setProcessContainmentType(ProcessContainmentType.OWNED);
+
+        return processHierarchy;
+    }
+
     private Database getDatabase() {
         Database database = new Database();
 
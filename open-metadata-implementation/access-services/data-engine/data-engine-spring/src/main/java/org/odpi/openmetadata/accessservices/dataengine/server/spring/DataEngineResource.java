@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFileRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.DataFilesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DatabaseSchemaRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DeleteRequestBody;
@@ -14,11 +15,14 @@ import org.odpi.openmetadata.accessservices.dataengine.rest.FindRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataFlowsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortImplementationRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchiesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessHierarchyRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.ProcessingStateRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.RelationalTableRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypeRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.SchemaTypesRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.TopicRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineRESTServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDListResponse;
@@ -269,6 +273,71 @@ public class DataEngineResource {
     }
 
 
+    /**
+     * Create or update a batch of schema types
+     *
+     * @param serverName             name of server instance to call
+     * @param userId                 the name of the calling user
+     * @param schemaTypesRequestBody properties of the schema types
+     *
+     * @return unique identifiers of the schema types, in request order
+     */
+    @PostMapping(path = "/schema-types/batch")
+    public GUIDListResponse upsertSchemaTypes(@PathVariable("userId") String userId,
+                                              @PathVariable("serverName") String serverName,
+                                              @RequestBody SchemaTypesRequestBody schemaTypesRequestBody) {
+        return restAPI.upsertSchemaTypes(userId, serverName, schemaTypesRequestBody);
+    }
+
+    /**
+     * Create or update a batch of processes
+     *
+     * @param serverName           name of server instance to call
+     * @param userId               the name of the calling user
+     * @param processesRequestBody properties of the processes
+     *
+     * @return unique identifiers of the processes, in request order
+     */
+    @PostMapping(path = "/processes/batch")
+    public GUIDListResponse upsertProcesses(@PathVariable("userId") String userId,
+                                            @PathVariable("serverName") String serverName,
+                                            @RequestBody ProcessesRequestBody processesRequestBody) {
+        return restAPI.upsertProcesses(userId, serverName, processesRequestBody);
+    }
+
+    /**
+     * Add a batch of ProcessHierarchy relationships
+     *
+     * @param serverName                    name of server instance to call
+     * @param userId                        the name of the calling user
+     * @param processHierarchiesRequestBody properties of the process hierarchies
+     *
+     * @return unique identifiers of the child processes, in request order
+     */
+    @PostMapping(path = "/process-hierarchies/batch")
+    public GUIDListResponse addProcessHierarchies(@PathVariable("userId") String userId,
+                                                  @PathVariable("serverName") String serverName,
+                                                  @RequestBody ProcessHierarchiesRequestBody processHierarchiesRequestBody) {
+        return restAPI.addProcessHierarchies(userId, serverName, processHierarchiesRequestBody);
+    }
+
+    /**
+     * Create or update a batch of data files
+     *
+     * @param serverName           name of server instance to call
+     * @param userId               the name of the calling user
+     * @param dataFilesRequestBody properties of the data files
+     *
+     * @return unique identifiers of the data files, in request order
+     */
+    @PostMapping(path = "/data-files/batch")
+    public GUIDListResponse upsertDataFiles(@PathVariable("userId") String userId,
+                                            @PathVariable("serverName") String serverName,
+                                            @RequestBody DataFilesRequestBody dataFilesRequestBody) {
+        return restAPI.upsertDataFiles(userId, serverName, dataFilesRequestBody);
+    }
+
+
     /***
      * Get connection details used to access Data Engine OMAS input topic
      *
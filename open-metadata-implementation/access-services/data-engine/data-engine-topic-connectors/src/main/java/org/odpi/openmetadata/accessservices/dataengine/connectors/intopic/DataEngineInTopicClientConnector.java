@@ -3,8 +3,6 @@
 
 package org.odpi.openmetadata.accessservices.dataengine.connectors.intopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.accessservices.dataengine.event.DataEngineEventHeader;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineAuditCode;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
@@ -22,8 +20,6 @@ import java.util.concurrent.CompletionException;
 public class DataEngineInTopicClientConnector extends OpenMetadataTopicSenderConnectorBase
 {
 
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
-
     /**
      * Send the request to the embedded event bus connector(s).
      *
@@ -38,7 +34,7 @@ public class DataEngineInTopicClientConnector extends OpenMetadataTopicSenderCon
         try
         {
 
-            String eventString = OBJECT_WRITER.writeValueAsString(event);
+            String eventString = super.serializeEvent(event);
             super.sendEvent(eventString).join();
 
             if (super.auditLog != null)
@@ -32,6 +32,11 @@ public enum DiscoveryEngineErrorCode implements ExceptionMessageSet
             "There is a coding error in the caller to the Discovery Engine OMAS.",
             "Correct the caller logic and retry the request."),
 
+    DUPLICATE_CLIENT_REFERENCE(400, "OMAS-DISCOVERY-ENGINE-400-018",
+            "The client reference {0} is used by more than one element in the annotation batch passed on the {1} operation",
+            "The request is rejected and none of the elements in the batch are created.",
+            "Correct the caller logic so that each element in the batch has a unique client reference and retry the request."),
+
     OMRS_NOT_INITIALIZED(404, "OMAS-DISCOVERY-ENGINE-404-002",
             "The open metadata repository services are not initialized for the {0} operation",
             "The system is unable to connect to the open metadata property server.",
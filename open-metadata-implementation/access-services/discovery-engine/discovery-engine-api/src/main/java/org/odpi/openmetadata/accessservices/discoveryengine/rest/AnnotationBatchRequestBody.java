@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationBatchElement;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AnnotationBatchRequestBody provides a structure for passing a tree of annotations, data fields and their attached
+ * annotations to be added to a discovery analysis report in a single request.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AnnotationBatchRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<AnnotationBatchElement> annotations = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AnnotationBatchRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AnnotationBatchRequestBody(AnnotationBatchRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            annotations = template.getAnnotations();
+        }
+    }
+
+
+    /**
+     * Return the top level annotations to link to the discovery analysis report.
+     *
+     * @return list of batch elements
+     */
+    public List<AnnotationBatchElement> getAnnotations()
+    {
+        return annotations;
+    }
+
+
+    /**
+     * Set up the top level annotations to link to the discovery analysis report.
+     *
+     * @param annotations list of batch elements
+     */
+    public void setAnnotations(List<AnnotationBatchElement> annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "AnnotationBatchRequestBody{" +
+                "annotations=" + annotations +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        AnnotationBatchRequestBody that = (AnnotationBatchRequestBody) objectToCompare;
+        return Objects.equals(getAnnotations(), that.getAnnotations());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getAnnotations());
+    }
+}
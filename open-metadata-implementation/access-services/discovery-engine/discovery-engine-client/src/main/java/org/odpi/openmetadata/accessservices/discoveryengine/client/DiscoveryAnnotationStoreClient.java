@@ -7,6 +7,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
 import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationBatchElement;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 
@@ -205,6 +206,25 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a tree of annotations, data fields and the annotations attached to the data fields.  The whole tree
+     * is sent to the Discovery Engine OMAS in a single request.
+     *
+     * @param annotations top level annotations with their nested elements
+     * @return map of client reference to unique identifier for each element that has a client reference
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    @Override
+    public  Map<String, String>  addAnnotationBatchToDiscoveryReport(List<AnnotationBatchElement> annotations) throws InvalidParameterException,
+                                                                                                                     UserNotAuthorizedException,
+                                                                                                                     PropertyServerException
+    {
+        return discoveryEngineClient.addAnnotationBatchToDiscoveryReport(userId, discoveryReport.getDiscoveryReportGUID(), annotations);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
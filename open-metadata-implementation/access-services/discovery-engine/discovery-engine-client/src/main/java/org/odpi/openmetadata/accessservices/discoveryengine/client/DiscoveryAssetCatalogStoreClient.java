@@ -30,7 +30,10 @@ public class DiscoveryAssetCatalogStoreClient extends DiscoveryAssetCatalogStore
                                             DiscoveryEngineClient discoveryEngineClient,
                                             int                   maxPageSize)
     {
-        super(userId, maxPageSize);
+        super(userId,
+              discoveryEngineClient == null ? null : discoveryEngineClient.getServerName(),
+              discoveryEngineClient == null ? null : discoveryEngineClient.getServerPlatformURLRoot(),
+              maxPageSize);
 
         this.discoveryEngineClient = discoveryEngineClient;
     }
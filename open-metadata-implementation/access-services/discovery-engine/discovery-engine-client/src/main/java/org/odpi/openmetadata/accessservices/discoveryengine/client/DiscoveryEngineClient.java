@@ -151,6 +151,28 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Return the name of the metadata server that this client connects to.
+     *
+     * @return server name
+     */
+    public String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Return the network address of the platform hosting the metadata server that this client connects to.
+     *
+     * @return URL root
+     */
+    public String getServerPlatformURLRoot()
+    {
+        return serverPlatformURLRoot;
+    }
+
+
     /**
      * Return the next set of assets to process.
      *
@@ -931,6 +953,48 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a tree of annotations, data fields and the annotations attached to the data fields in a single request.
+     * The top level annotations are linked directly off of the report.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations top level annotations with their nested elements
+     * @return map of client reference to unique identifier for each element that has a client reference
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    Map<String, String>  addAnnotationBatchToDiscoveryReport(String                       userId,
+                                                             String                       discoveryReportGUID,
+                                                             List<AnnotationBatchElement> annotations) throws InvalidParameterException,
+                                                                                                              UserNotAuthorizedException,
+                                                                                                              PropertyServerException
+    {
+        final String   methodName = "addAnnotationBatchToDiscoveryReport";
+        final String   annotationsParameterName = "annotations";
+        final String   reportGUIDParameterName = "discoveryReportGUID";
+        final String   urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/discovery-analysis-reports/{2}/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, reportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationBatchRequestBody requestBody = new AnnotationBatchRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        StringMapResponse restResult = restClient.callStringMapPostRESTCall(methodName,
+                                                                            urlTemplate,
+                                                                            requestBody,
+                                                                            serverName,
+                                                                            userId,
+                                                                            discoveryReportGUID);
+
+        return restResult.getStringMap();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.discoveryengine.client.rest;
 
 import org.odpi.openmetadata.accessservices.discoveryengine.rest.*;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
 import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.client.OCFRESTClient;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -88,6 +89,38 @@ public class ODFRESTClient extends OCFRESTClient
     }
 
 
+    /**
+     * Issue a POST REST call that returns a StringMapResponse object.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the REST call.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return StringMapResponse
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     */
+    public StringMapResponse callStringMapPostRESTCall(String    methodName,
+                                                       String    urlTemplate,
+                                                       Object    requestBody,
+                                                       Object... params) throws InvalidParameterException,
+                                                                                UserNotAuthorizedException,
+                                                                                PropertyServerException
+    {
+        StringMapResponse restResult = this.callPostRESTCall(methodName,
+                                                             StringMapResponse.class,
+                                                             urlTemplate,
+                                                             requestBody,
+                                                             params);
+
+        exceptionHandler.detectAndThrowStandardExceptions(methodName, restResult);
+
+        return restResult;
+    }
+
+
     /**
      * Issue a GET REST call that returns a DiscoveryEnginePropertiesResponse object.
      *
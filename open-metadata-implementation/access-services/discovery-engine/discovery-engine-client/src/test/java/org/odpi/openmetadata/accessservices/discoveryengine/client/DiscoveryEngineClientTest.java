@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.discoveryengine.client;
+
+import org.mockito.ArgumentCaptor;
+import org.odpi.openmetadata.accessservices.discoveryengine.client.rest.ODFRESTClient;
+import org.odpi.openmetadata.accessservices.discoveryengine.rest.AnnotationBatchRequestBody;
+import org.odpi.openmetadata.commonservices.ffdc.OMAGCommonErrorCode;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationBatchElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that a batch of annotations passes from the annotation store client through the discovery engine client
+ * to the batch REST call, that a failure reported by the server is returned to the caller, and that a missing
+ * batch is rejected without calling the server.
+ */
+public class DiscoveryEngineClientTest
+{
+    private static final String serverName            = "testServer";
+    private static final String serverPlatformURLRoot = "https://localhost:9443";
+    private static final String userId                = "testUser";
+    private static final String discoveryReportGUID   = "reportGUID";
+    private static final String methodName            = "addAnnotationBatchToDiscoveryReport";
+
+    private ODFRESTClient                  restClient;
+    private DiscoveryAnnotationStoreClient annotationStore;
+
+
+    /**
+     * Create the clients with a mocked REST client.
+     *
+     * @throws Exception unable to create the clients
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        restClient = mock(ODFRESTClient.class);
+
+        DiscoveryAnalysisReportClient discoveryReport = mock(DiscoveryAnalysisReportClient.class);
+
+        when(discoveryReport.getDiscoveryReportGUID()).thenReturn(discoveryReportGUID);
+
+        annotationStore = new DiscoveryAnnotationStoreClient(userId,
+                                                             "assetGUID",
+                                                             discoveryReport,
+                                                             new DiscoveryEngineClient(serverName, serverPlatformURLRoot, restClient, null));
+    }
+
+
+    /**
+     * Validate that the batch is sent in a single request and the map of client references is returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSuccessfulBatch() throws Exception
+    {
+        List<AnnotationBatchElement> annotations = Collections.singletonList(getAnnotationElement("ref1"));
+        Map<String, String>          guidMap     = new HashMap<>();
+        StringMapResponse            response    = new StringMapResponse();
+
+        guidMap.put("ref1", "guid1");
+        response.setStringMap(guidMap);
+
+        ArgumentCaptor<AnnotationBatchRequestBody> requestBody = ArgumentCaptor.forClass(AnnotationBatchRequestBody.class);
+
+        when(restClient.callStringMapPostRESTCall(eq(methodName),
+                                                  anyString(),
+                                                  requestBody.capture(),
+                                                  eq(serverName),
+                                                  eq(userId),
+                                                  eq(discoveryReportGUID))).thenReturn(response);
+
+        assertEquals(annotationStore.addAnnotationBatchToDiscoveryReport(annotations), guidMap);
+        assertEquals(requestBody.getValue().getAnnotations(), annotations);
+    }
+
+
+    /**
+     * Validate that a failure part-way through the batch on the server is returned to the caller.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPartialFailure() throws Exception
+    {
+        List<AnnotationBatchElement> annotations = new ArrayList<>();
+
+        annotations.add(getAnnotationElement("ref1"));
+        annotations.add(getAnnotationElement("ref2"));
+
+        PropertyServerException error = new PropertyServerException(OMAGCommonErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                                                         serverName,
+                                                                                                                                         "test"),
+                                                                    this.getClass().getName(),
+                                                                    methodName);
+
+        when(restClient.callStringMapPostRESTCall(eq(methodName),
+                                                  anyString(),
+                                                  any(),
+                                                  eq(serverName),
+                                                  eq(userId),
+                                                  eq(discoveryReportGUID))).thenThrow(error);
+
+        try
+        {
+            annotationStore.addAnnotationBatchToDiscoveryReport(annotations);
+            fail("the server failure was not returned");
+        }
+        catch (PropertyServerException returnedError)
+        {
+            assertEquals(returnedError, error);
+        }
+    }
+
+
+    /**
+     * Validate that a missing batch is rejected without calling the server and that an empty batch is passed on.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testNullAndEmptyInput() throws Exception
+    {
+        try
+        {
+            annotationStore.addAnnotationBatchToDiscoveryReport(null);
+            fail("a null batch was accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            verify(restClient, never()).callStringMapPostRESTCall(anyString(), anyString(), any(), any(), any(), any());
+        }
+
+        StringMapResponse response = new StringMapResponse();
+
+        response.setStringMap(new HashMap<>());
+
+        when(restClient.callStringMapPostRESTCall(eq(methodName),
+                                                  anyString(),
+                                                  any(),
+                                                  eq(serverName),
+                                                  eq(userId),
+                                                  eq(discoveryReportGUID))).thenReturn(response);
+
+        assertEquals(annotationStore.addAnnotationBatchToDiscoveryReport(new ArrayList<>()), new HashMap<>());
+    }
+
+
+    /**
+     * Return an annotation batch element.
+     *
+     * @param clientReference client reference
+     * @return batch element
+     */
+    private AnnotationBatchElement getAnnotationElement(String clientReference)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setAnnotationType(clientReference);
+
+        AnnotationBatchElement element = new AnnotationBatchElement();
+
+        element.setClientReference(clientReference);
+        element.setAnnotation(annotation);
+
+        return element;
+    }
+}
@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.accessservices.discoveryengine.server;
 
 import org.odpi.openmetadata.accessservices.discoveryengine.ffdc.DiscoveryEngineAuditCode;
+import org.odpi.openmetadata.accessservices.discoveryengine.ffdc.DiscoveryEngineErrorCode;
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
@@ -10,10 +12,17 @@ import org.odpi.openmetadata.commonservices.ffdc.rest.*;
 import org.odpi.openmetadata.accessservices.discoveryengine.rest.*;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -23,11 +32,11 @@ import java.util.Date;
  */
 public class DiscoveryEngineRESTServices
 {
-    private static final DiscoveryEngineServiceInstanceHandler instanceHandler = new DiscoveryEngineServiceInstanceHandler();
-
-    private        final RESTExceptionHandler restExceptionHandler = new RESTExceptionHandler();
-    private static final RESTCallLogger       restCallLogger       = new RESTCallLogger(LoggerFactory.getLogger(DiscoveryEngineRESTServices.class),
-                                                                                        instanceHandler.getServiceName());
+    private final DiscoveryEngineServiceInstanceHandler instanceHandler         = new DiscoveryEngineServiceInstanceHandler();
+    private final RESTExceptionHandler                  restExceptionHandler    = new RESTExceptionHandler();
+    private final InvalidParameterHandler               invalidParameterHandler = new InvalidParameterHandler();
+    private final RESTCallLogger                        restCallLogger          = new RESTCallLogger(LoggerFactory.getLogger(DiscoveryEngineRESTServices.class),
+                                                                                                     instanceHandler.getServiceName());
 
     /**
      * Default constructor
@@ -897,6 +906,377 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a tree of annotations, data fields and the annotations attached to the data fields in a single request.
+     * The top level annotations are linked directly off of the report.  The whole tree is validated before any
+     * element is created.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody top level annotations with their nested elements
+     *
+     * @return map of client reference to unique identifier for each new element or
+     *
+     *  InvalidParameterException one of the elements is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    public  StringMapResponse  addAnnotationBatchToDiscoveryReport(String                     serverName,
+                                                                   String                     userId,
+                                                                   String                     discoveryReportGUID,
+                                                                   AnnotationBatchRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationBatchToDiscoveryReport";
+        final String annotationsParameterName = "annotations";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog          auditLog = null;
+        StringMapResponse response = new StringMapResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                invalidParameterHandler.validateObject(requestBody.getAnnotations(), annotationsParameterName, methodName);
+
+                Set<String> clientReferences = new HashSet<>();
+
+                for (AnnotationBatchElement annotation : requestBody.getAnnotations())
+                {
+                    this.validateAnnotationBatchElement(annotation, annotationsParameterName, clientReferences, methodName);
+                }
+
+                AnnotationHandler<Annotation> annotationHandler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+                DataFieldHandler<DataField>   dataFieldHandler  = instanceHandler.getDataFieldHandler(userId, serverName, methodName);
+
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                Map<String, String> guidMap       = new HashMap<>();
+                Date                effectiveTime = new Date();
+
+                for (AnnotationBatchElement annotation : requestBody.getAnnotations())
+                {
+                    String annotationGUID = annotationHandler.addAnnotationToDiscoveryReport(userId,
+                                                                                            discoveryReportGUID,
+                                                                                            annotation.getAnnotation(),
+                                                                                            methodName);
+
+                    this.addAnnotationBatchElement(userId,
+                                                   annotationGUID,
+                                                   annotation,
+                                                   annotationHandler,
+                                                   dataFieldHandler,
+                                                   guidMap,
+                                                   effectiveTime,
+                                                   methodName);
+                }
+
+                response.setStringMap(guidMap);
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
+    /**
+     * Validate an annotation from a batch along with its nested elements.
+     *
+     * @param annotation batch element to validate
+     * @param parameterName name of the parameter that the element came from
+     * @param clientReferences client references used so far in the batch
+     * @param methodName calling method
+     * @throws InvalidParameterException the element is invalid
+     */
+    private void validateAnnotationBatchElement(AnnotationBatchElement annotation,
+                                                String                 parameterName,
+                                                Set<String>            clientReferences,
+                                                String                 methodName) throws InvalidParameterException
+    {
+        invalidParameterHandler.validateObject(annotation, parameterName, methodName);
+        invalidParameterHandler.validateObject(annotation.getAnnotation(), parameterName + ".annotation", methodName);
+
+        this.validateClientReference(annotation.getClientReference(), clientReferences, methodName);
+
+        if (annotation.getExtendedAnnotations() != null)
+        {
+            for (AnnotationBatchElement extendedAnnotation : annotation.getExtendedAnnotations())
+            {
+                this.validateAnnotationBatchElement(extendedAnnotation, parameterName + ".extendedAnnotations", clientReferences, methodName);
+            }
+        }
+
+        if (annotation.getDataFields() != null)
+        {
+            for (DataFieldBatchElement dataField : annotation.getDataFields())
+            {
+                this.validateDataFieldBatchElement(dataField, parameterName + ".dataFields", clientReferences, methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Validate a data field from a batch along with its nested elements.
+     *
+     * @param dataField batch element to validate
+     * @param parameterName name of the parameter that the element came from
+     * @param clientReferences client references used so far in the batch
+     * @param methodName calling method
+     * @throws InvalidParameterException the element is invalid
+     */
+    private void validateDataFieldBatchElement(DataFieldBatchElement dataField,
+                                               String                parameterName,
+                                               Set<String>           clientReferences,
+                                               String                methodName) throws InvalidParameterException
+    {
+        invalidParameterHandler.validateObject(dataField, parameterName, methodName);
+        invalidParameterHandler.validateObject(dataField.getDataField(), parameterName + ".dataField", methodName);
+
+        this.validateClientReference(dataField.getClientReference(), clientReferences, methodName);
+
+        if (dataField.getNestedDataFields() != null)
+        {
+            for (DataFieldBatchElement nestedDataField : dataField.getNestedDataFields())
+            {
+                this.validateDataFieldBatchElement(nestedDataField, parameterName + ".nestedDataFields", clientReferences, methodName);
+            }
+        }
+
+        if (dataField.getAnnotations() != null)
+        {
+            for (AnnotationBatchElement annotation : dataField.getAnnotations())
+            {
+                this.validateAnnotationBatchElement(annotation, parameterName + ".annotations", clientReferences, methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Check that a client reference is only used once in the batch.
+     *
+     * @param clientReference client reference (may be null)
+     * @param clientReferences client references used so far in the batch
+     * @param methodName calling method
+     * @throws InvalidParameterException the client reference is already in use
+     */
+    private void validateClientReference(String      clientReference,
+                                         Set<String> clientReferences,
+                                         String      methodName) throws InvalidParameterException
+    {
+        final String clientReferenceParameterName = "clientReference";
+
+        if ((clientReference != null) && (! clientReferences.add(clientReference)))
+        {
+            throw new InvalidParameterException(DiscoveryEngineErrorCode.DUPLICATE_CLIENT_REFERENCE.getMessageDefinition(clientReference, methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                clientReferenceParameterName);
+        }
+    }
+
+
+    /**
+     * Create the nested elements of an annotation that has just been created.
+     *
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the new annotation
+     * @param annotation batch element for the annotation
+     * @param annotationHandler handler for annotations
+     * @param dataFieldHandler handler for data fields
+     * @param guidMap map of client reference to unique identifier
+     * @param effectiveTime time that the elements are created
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    private void addAnnotationBatchElement(String                        userId,
+                                           String                        annotationGUID,
+                                           AnnotationBatchElement        annotation,
+                                           AnnotationHandler<Annotation> annotationHandler,
+                                           DataFieldHandler<DataField>   dataFieldHandler,
+                                           Map<String, String>           guidMap,
+                                           Date                          effectiveTime,
+                                           String                        methodName) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        if (annotation.getClientReference() != null)
+        {
+            guidMap.put(annotation.getClientReference(), annotationGUID);
+        }
+
+        if (annotation.getExtendedAnnotations() != null)
+        {
+            for (AnnotationBatchElement extendedAnnotation : annotation.getExtendedAnnotations())
+            {
+                String extendedAnnotationGUID = annotationHandler.addAnnotationToAnnotation(userId,
+                                                                                           annotationGUID,
+                                                                                           extendedAnnotation.getAnnotation(),
+                                                                                           methodName);
+
+                this.addAnnotationBatchElement(userId,
+                                               extendedAnnotationGUID,
+                                               extendedAnnotation,
+                                               annotationHandler,
+                                               dataFieldHandler,
+                                               guidMap,
+                                               effectiveTime,
+                                               methodName);
+            }
+        }
+
+        if (annotation.getDataFields() != null)
+        {
+            for (DataFieldBatchElement dataField : annotation.getDataFields())
+            {
+                DataField properties    = dataField.getDataField();
+                String    dataFieldGUID = dataFieldHandler.addDataFieldToDiscoveryReport(userId,
+                                                                                        null,
+                                                                                        null,
+                                                                                        annotationGUID,
+                                                                                        properties.getDataFieldPosition(),
+                                                                                        properties.getDataFieldName(),
+                                                                                        properties.getDataFieldType(),
+                                                                                        properties.getDataFieldDescription(),
+                                                                                        properties.getDataFieldAliases(),
+                                                                                        this.getDataFieldSortOrder(properties),
+                                                                                        properties.getDefaultValue(),
+                                                                                        properties.getAdditionalProperties(),
+                                                                                        false,
+                                                                                        false,
+                                                                                        effectiveTime,
+                                                                                        methodName);
+
+                this.addDataFieldBatchElement(userId,
+                                              dataFieldGUID,
+                                              dataField,
+                                              annotationHandler,
+                                              dataFieldHandler,
+                                              guidMap,
+                                              effectiveTime,
+                                              methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Create the nested elements of a data field that has just been created.
+     *
+     * @param userId identifier of calling user
+     * @param dataFieldGUID unique identifier of the new data field
+     * @param dataField batch element for the data field
+     * @param annotationHandler handler for annotations
+     * @param dataFieldHandler handler for data fields
+     * @param guidMap map of client reference to unique identifier
+     * @param effectiveTime time that the elements are created
+     * @param methodName calling method
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    private void addDataFieldBatchElement(String                        userId,
+                                          String                        dataFieldGUID,
+                                          DataFieldBatchElement         dataField,
+                                          AnnotationHandler<Annotation> annotationHandler,
+                                          DataFieldHandler<DataField>   dataFieldHandler,
+                                          Map<String, String>           guidMap,
+                                          Date                          effectiveTime,
+                                          String                        methodName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        if (dataField.getClientReference() != null)
+        {
+            guidMap.put(dataField.getClientReference(), dataFieldGUID);
+        }
+
+        if (dataField.getNestedDataFields() != null)
+        {
+            for (DataFieldBatchElement nestedDataField : dataField.getNestedDataFields())
+            {
+                DataField properties          = nestedDataField.getDataField();
+                String    nestedDataFieldGUID = dataFieldHandler.addDataFieldToDataField(userId,
+                                                                                        null,
+                                                                                        null,
+                                                                                        dataFieldGUID,
+                                                                                        properties.getDataFieldPosition(),
+                                                                                        properties.getDataFieldName(),
+                                                                                        properties.getDataFieldType(),
+                                                                                        properties.getDataFieldDescription(),
+                                                                                        properties.getDataFieldAliases(),
+                                                                                        this.getDataFieldSortOrder(properties),
+                                                                                        properties.getDefaultValue(),
+                                                                                        properties.getAdditionalProperties(),
+                                                                                        false,
+                                                                                        false,
+                                                                                        effectiveTime,
+                                                                                        methodName);
+
+                this.addDataFieldBatchElement(userId,
+                                              nestedDataFieldGUID,
+                                              nestedDataField,
+                                              annotationHandler,
+                                              dataFieldHandler,
+                                              guidMap,
+                                              effectiveTime,
+                                              methodName);
+            }
+        }
+
+        if (dataField.getAnnotations() != null)
+        {
+            for (AnnotationBatchElement annotation : dataField.getAnnotations())
+            {
+                String annotationGUID = annotationHandler.addAnnotationToDataField(userId,
+                                                                                  dataFieldGUID,
+                                                                                  annotation.getAnnotation(),
+                                                                                  methodName);
+
+                this.addAnnotationBatchElement(userId,
+                                               annotationGUID,
+                                               annotation,
+                                               annotationHandler,
+                                               dataFieldHandler,
+                                               guidMap,
+                                               effectiveTime,
+                                               methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Return the open type ordinal for the data field's sort order.
+     *
+     * @param dataField properties of the data field
+     * @return ordinal (0 if no sort order is set)
+     */
+    private int getDataFieldSortOrder(DataField dataField)
+    {
+        if (dataField.getDataFieldSortOrder() != null)
+        {
+            return dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
+        }
+
+        return 0;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -1284,22 +1664,22 @@ public class DiscoveryEngineRESTServices
                     dataFieldSortOrder = dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
                 }
 
-                handler.addDataFieldToDiscoveryReport(userId,
-                                                      null,
-                                                      null,
-                                                      annotationGUID,
-                                                      dataField.getDataFieldPosition(),
-                                                      dataField.getDataFieldName(),
-                                                      dataField.getDataFieldType(),
-                                                      dataField.getDataFieldDescription(),
-                                                      dataField.getDataFieldAliases(),
-                                                      dataFieldSortOrder,
-                                                      dataField.getDefaultValue(),
-                                                      dataField.getAdditionalProperties(),
-                                                      false,
-                                                      false,
-                                                      new Date(),
-                                                      methodName);
+                response.setGUID(handler.addDataFieldToDiscoveryReport(userId,
+                                                                       null,
+                                                                       null,
+                                                                       annotationGUID,
+                                                                       dataField.getDataFieldPosition(),
+                                                                       dataField.getDataFieldName(),
+                                                                       dataField.getDataFieldType(),
+                                                                       dataField.getDataFieldDescription(),
+                                                                       dataField.getDataFieldAliases(),
+                                                                       dataFieldSortOrder,
+                                                                       dataField.getDefaultValue(),
+                                                                       dataField.getAdditionalProperties(),
+                                                                       false,
+                                                                       false,
+                                                                       new Date(),
+                                                                       methodName));
             }
             else
             {
@@ -1358,22 +1738,22 @@ public class DiscoveryEngineRESTServices
                     dataFieldSortOrder = dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
                 }
 
-                handler.addDataFieldToDataField(userId,
-                                                null,
-                                                null,
-                                                parentDataFieldGUID,
-                                                dataField.getDataFieldPosition(),
-                                                dataField.getDataFieldName(),
-                                                dataField.getDataFieldType(),
-                                                dataField.getDataFieldDescription(),
-                                                dataField.getDataFieldAliases(),
-                                                dataFieldSortOrder,
-                                                dataField.getDefaultValue(),
-                                                dataField.getAdditionalProperties(),
-                                                false,
-                                                false,
-                                                new Date(),
-                                                methodName);
+                response.setGUID(handler.addDataFieldToDataField(userId,
+                                                                 null,
+                                                                 null,
+                                                                 parentDataFieldGUID,
+                                                                 dataField.getDataFieldPosition(),
+                                                                 dataField.getDataFieldName(),
+                                                                 dataField.getDataFieldType(),
+                                                                 dataField.getDataFieldDescription(),
+                                                                 dataField.getDataFieldAliases(),
+                                                                 dataFieldSortOrder,
+                                                                 dataField.getDefaultValue(),
+                                                                 dataField.getAdditionalProperties(),
+                                                                 false,
+                                                                 false,
+                                                                 new Date(),
+                                                                 methodName));
             }
             else
             {
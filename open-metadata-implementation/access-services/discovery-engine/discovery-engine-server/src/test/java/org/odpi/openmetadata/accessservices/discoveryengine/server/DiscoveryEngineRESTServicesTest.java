@@ -0,0 +1,321 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.discoveryengine.server;
+
+import org.odpi.openmetadata.accessservices.discoveryengine.rest.AnnotationBatchRequestBody;
+import org.odpi.openmetadata.commonservices.ffdc.OMAGCommonErrorCode;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
+import org.odpi.openmetadata.commonservices.generichandlers.AnnotationHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.DataFieldHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationBatchElement;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataFieldBatchElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that addAnnotationBatchToDiscoveryReport creates every element of the batch through the annotation and
+ * data field handlers and returns the unique identifiers by client reference, that a failure part-way through
+ * the batch is reported and stops the batch, and that missing or invalid input is rejected before any element
+ * is created.
+ */
+public class DiscoveryEngineRESTServicesTest
+{
+    private static final String serverName          = "testServer";
+    private static final String userId              = "testUser";
+    private static final String discoveryReportGUID = "reportGUID";
+    private static final String methodName          = "addAnnotationBatchToDiscoveryReport";
+
+    private DiscoveryEngineRESTServices   restServices;
+    private AnnotationHandler<Annotation> annotationHandler;
+    private DataFieldHandler<DataField>   dataFieldHandler;
+
+
+    /**
+     * Create the REST services with mocked handlers.
+     *
+     * @throws Exception unable to set up the mocks
+     */
+    @BeforeMethod
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception
+    {
+        DiscoveryEngineServiceInstanceHandler instanceHandler = mock(DiscoveryEngineServiceInstanceHandler.class);
+
+        annotationHandler = mock(AnnotationHandler.class);
+        dataFieldHandler  = mock(DataFieldHandler.class);
+
+        when(instanceHandler.getAnnotationHandler(userId, serverName, methodName)).thenReturn(annotationHandler);
+        when(instanceHandler.getDataFieldHandler(userId, serverName, methodName)).thenReturn(dataFieldHandler);
+
+        restServices = new DiscoveryEngineRESTServices();
+
+        Field instanceHandlerField = DiscoveryEngineRESTServices.class.getDeclaredField("instanceHandler");
+
+        instanceHandlerField.setAccessible(true);
+        instanceHandlerField.set(restServices, instanceHandler);
+    }
+
+
+    /**
+     * Validate that a batch with nested data fields and annotations is created in full.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSuccessfulBatch() throws Exception
+    {
+        Annotation topAnnotation      = getAnnotation("top");
+        Annotation extendedAnnotation = getAnnotation("extended");
+        Annotation fieldAnnotation    = getAnnotation("field");
+        Annotation secondAnnotation   = getAnnotation("second");
+
+        AnnotationBatchElement fieldAnnotationElement = getAnnotationElement("fieldAnnotationRef", fieldAnnotation);
+
+        DataFieldBatchElement nestedDataField = getDataFieldElement("nestedFieldRef", "nestedField");
+        DataFieldBatchElement dataField       = getDataFieldElement("fieldRef", "field");
+
+        dataField.setNestedDataFields(Collections.singletonList(nestedDataField));
+        dataField.setAnnotations(Collections.singletonList(fieldAnnotationElement));
+
+        AnnotationBatchElement topElement = getAnnotationElement("topRef", topAnnotation);
+
+        topElement.setExtendedAnnotations(Collections.singletonList(getAnnotationElement("extendedRef", extendedAnnotation)));
+        topElement.setDataFields(Collections.singletonList(dataField));
+
+        AnnotationBatchElement secondElement = getAnnotationElement(null, secondAnnotation);
+
+        when(annotationHandler.addAnnotationToDiscoveryReport(userId, discoveryReportGUID, topAnnotation, methodName)).thenReturn("topGUID");
+        when(annotationHandler.addAnnotationToDiscoveryReport(userId, discoveryReportGUID, secondAnnotation, methodName)).thenReturn("secondGUID");
+        when(annotationHandler.addAnnotationToAnnotation(userId, "topGUID", extendedAnnotation, methodName)).thenReturn("extendedGUID");
+        when(annotationHandler.addAnnotationToDataField(userId, "fieldGUID", fieldAnnotation, methodName)).thenReturn("fieldAnnotationGUID");
+        when(dataFieldHandler.addDataFieldToDiscoveryReport(eq(userId), isNull(), isNull(), eq("topGUID"),
+                                                            anyInt(), eq("field"), any(), any(), any(), anyInt(), any(), any(),
+                                                            anyBoolean(), anyBoolean(), any(), eq(methodName))).thenReturn("fieldGUID");
+        when(dataFieldHandler.addDataFieldToDataField(eq(userId), isNull(), isNull(), eq("fieldGUID"),
+                                                      anyInt(), eq("nestedField"), any(), any(), any(), anyInt(), any(), any(),
+                                                      anyBoolean(), anyBoolean(), any(), eq(methodName))).thenReturn("nestedFieldGUID");
+
+        StringMapResponse response = restServices.addAnnotationBatchToDiscoveryReport(serverName,
+                                                                                      userId,
+                                                                                      discoveryReportGUID,
+                                                                                      getRequestBody(Arrays.asList(topElement, secondElement)));
+
+        Map<String, String> expectedGUIDs = new HashMap<>();
+
+        expectedGUIDs.put("topRef", "topGUID");
+        expectedGUIDs.put("extendedRef", "extendedGUID");
+        expectedGUIDs.put("fieldRef", "fieldGUID");
+        expectedGUIDs.put("nestedFieldRef", "nestedFieldGUID");
+        expectedGUIDs.put("fieldAnnotationRef", "fieldAnnotationGUID");
+
+        assertEquals(response.getRelatedHTTPCode(), 200);
+        assertEquals(response.getStringMap(), expectedGUIDs);
+
+        verify(annotationHandler).addAnnotationToDiscoveryReport(userId, discoveryReportGUID, secondAnnotation, methodName);
+    }
+
+
+    /**
+     * Validate that a failure part-way through the batch is returned in the response and that the elements after
+     * the failure are not created.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPartialFailure() throws Exception
+    {
+        Annotation firstAnnotation  = getAnnotation("first");
+        Annotation failedAnnotation = getAnnotation("failed");
+        Annotation lastAnnotation   = getAnnotation("last");
+
+        PropertyServerException error = new PropertyServerException(OMAGCommonErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                                                         serverName,
+                                                                                                                                         "test"),
+                                                                    this.getClass().getName(),
+                                                                    methodName);
+
+        when(annotationHandler.addAnnotationToDiscoveryReport(userId, discoveryReportGUID, firstAnnotation, methodName)).thenReturn("firstGUID");
+        when(annotationHandler.addAnnotationToDiscoveryReport(userId, discoveryReportGUID, failedAnnotation, methodName)).thenThrow(error);
+
+        List<AnnotationBatchElement> annotations = new ArrayList<>();
+
+        annotations.add(getAnnotationElement("firstRef", firstAnnotation));
+        annotations.add(getAnnotationElement("failedRef", failedAnnotation));
+        annotations.add(getAnnotationElement("lastRef", lastAnnotation));
+
+        StringMapResponse response = restServices.addAnnotationBatchToDiscoveryReport(serverName,
+                                                                                      userId,
+                                                                                      discoveryReportGUID,
+                                                                                      getRequestBody(annotations));
+
+        assertEquals(response.getRelatedHTTPCode(), error.getReportedHTTPCode());
+        assertEquals(response.getExceptionClassName(), PropertyServerException.class.getName());
+        assertNull(response.getStringMap());
+
+        verify(annotationHandler).addAnnotationToDiscoveryReport(userId, discoveryReportGUID, firstAnnotation, methodName);
+        verify(annotationHandler, never()).addAnnotationToDiscoveryReport(userId, discoveryReportGUID, lastAnnotation, methodName);
+    }
+
+
+    /**
+     * Validate that a missing request body or annotation list is rejected and that an empty list creates nothing.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testNullAndEmptyInput() throws Exception
+    {
+        StringMapResponse response = restServices.addAnnotationBatchToDiscoveryReport(serverName, userId, discoveryReportGUID, null);
+
+        assertEquals(response.getRelatedHTTPCode(), 400);
+        assertEquals(response.getExceptionClassName(), InvalidParameterException.class.getName());
+
+        response = restServices.addAnnotationBatchToDiscoveryReport(serverName, userId, discoveryReportGUID, getRequestBody(null));
+
+        assertEquals(response.getRelatedHTTPCode(), 400);
+        assertEquals(response.getExceptionClassName(), InvalidParameterException.class.getName());
+
+        response = restServices.addAnnotationBatchToDiscoveryReport(serverName, userId, discoveryReportGUID, getRequestBody(new ArrayList<>()));
+
+        assertEquals(response.getRelatedHTTPCode(), 200);
+        assertEquals(response.getStringMap(), new HashMap<>());
+
+        verify(annotationHandler, never()).addAnnotationToDiscoveryReport(anyString(), anyString(), any(), anyString());
+    }
+
+
+    /**
+     * Validate that the whole batch is validated before any element is created.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testInvalidElementRejectsBatch() throws Exception
+    {
+        DataFieldBatchElement emptyDataField = new DataFieldBatchElement();
+        AnnotationBatchElement validElement  = getAnnotationElement("validRef", getAnnotation("valid"));
+        AnnotationBatchElement invalidElement = getAnnotationElement("invalidRef", getAnnotation("invalid"));
+
+        invalidElement.setDataFields(Collections.singletonList(emptyDataField));
+
+        StringMapResponse response = restServices.addAnnotationBatchToDiscoveryReport(serverName,
+                                                                                      userId,
+                                                                                      discoveryReportGUID,
+                                                                                      getRequestBody(Arrays.asList(validElement, invalidElement)));
+
+        assertEquals(response.getRelatedHTTPCode(), 400);
+
+        /*
+         * A client reference may only be used once in a batch.
+         */
+        response = restServices.addAnnotationBatchToDiscoveryReport(serverName,
+                                                                    userId,
+                                                                    discoveryReportGUID,
+                                                                    getRequestBody(Arrays.asList(getAnnotationElement("sameRef", getAnnotation("one")),
+                                                                                                 getAnnotationElement("sameRef", getAnnotation("two")))));
+
+        assertEquals(response.getRelatedHTTPCode(), 400);
+
+        verify(annotationHandler, never()).addAnnotationToDiscoveryReport(anyString(), anyString(), any(), anyString());
+    }
+
+
+    /**
+     * Return an annotation.
+     *
+     * @param annotationType distinguishing type
+     * @return annotation
+     */
+    private Annotation getAnnotation(String annotationType)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setAnnotationType(annotationType);
+
+        return annotation;
+    }
+
+
+    /**
+     * Return an annotation batch element.
+     *
+     * @param clientReference client reference or null
+     * @param annotation annotation
+     * @return batch element
+     */
+    private AnnotationBatchElement getAnnotationElement(String     clientReference,
+                                                        Annotation annotation)
+    {
+        AnnotationBatchElement element = new AnnotationBatchElement();
+
+        element.setClientReference(clientReference);
+        element.setAnnotation(annotation);
+
+        return element;
+    }
+
+
+    /**
+     * Return a data field batch element.
+     *
+     * @param clientReference client reference or null
+     * @param dataFieldName name of the data field
+     * @return batch element
+     */
+    private DataFieldBatchElement getDataFieldElement(String clientReference,
+                                                      String dataFieldName)
+    {
+        DataField dataField = new DataField();
+
+        dataField.setDataFieldName(dataFieldName);
+
+        DataFieldBatchElement element = new DataFieldBatchElement();
+
+        element.setClientReference(clientReference);
+        element.setDataField(dataField);
+
+        return element;
+    }
+
+
+    /**
+     * Return a request body.
+     *
+     * @param annotations annotations in the batch
+     * @return request body
+     */
+    private AnnotationBatchRequestBody getRequestBody(List<AnnotationBatchElement> annotations)
+    {
+        AnnotationBatchRequestBody requestBody = new AnnotationBatchRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        return requestBody;
+    }
+}
@@ -457,6 +457,35 @@ public class DiscoveryMetadataStoreResource
     }
 
 
+    /**
+     * Add a tree of annotations, data fields and the annotations attached to the data fields in a single request.
+     * The top level annotations are linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody top level annotations with their nested elements
+     *
+     * @return map of client reference to unique identifier for each new element or
+     *
+     *  InvalidParameterException one of the elements is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    @PostMapping(path = "/discovery-analysis-reports/{discoveryReportGUID}/annotations/batch")
+
+    public  StringMapResponse  addAnnotationBatchToDiscoveryReport(@PathVariable String                     serverName,
+                                                                   @PathVariable String                     userId,
+                                                                   @PathVariable String                     discoveryReportGUID,
+                                                                   @RequestBody  AnnotationBatchRequestBody requestBody)
+    {
+        return restAPI.addAnnotationBatchToDiscoveryReport(serverName,
+                                                           userId,
+                                                           discoveryReportGUID,
+                                                           requestBody);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -5,7 +5,6 @@
 package org.odpi.openmetadata.accessservices.securityofficer.server.publisher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.accessservices.securityofficer.api.ffdc.SecurityOfficerAuditCode;
 import org.odpi.openmetadata.accessservices.securityofficer.api.events.SecurityOfficerEvent;
@@ -14,6 +13,7 @@ import org.odpi.openmetadata.accessservices.securityofficer.api.ffdc.SecurityOff
 import org.odpi.openmetadata.accessservices.securityofficer.server.processors.SecurityOfficerEventProcessor;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -41,7 +41,7 @@ public class SecurityOfficerPublisher extends OMRSInstanceEventProcessor {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityOfficerPublisher.class);
     private static final String eventPublisherName = "Security Officer OMAS Event Publisher";
-    private static final ObjectWriter OBJECT_WRITER = new ObjectMapper().writer();
+    private static final ObjectWriter OBJECT_WRITER = OMRSJSONCodec.getWriter();
     private final SecurityOfficerEventProcessor securityOfficerEventProcessor;
     private final OpenMetadataTopicConnector openMetadataTopicConnector;
     private final OMRSRepositoryHelper repositoryHelper;
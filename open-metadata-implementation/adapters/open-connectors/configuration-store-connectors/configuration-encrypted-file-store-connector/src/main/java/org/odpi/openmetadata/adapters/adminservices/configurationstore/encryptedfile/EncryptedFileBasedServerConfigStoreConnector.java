@@ -21,19 +21,30 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * EncryptedFileBasedServerConfigStoreConnector is the OCF connector for the encrypted file based server
  * configuration store.
+ *
+ * Each connector instance caches the decrypted configuration document for each configuration file it reads, along with
+ * the file's modification time, size and file key at the time it was read.  A retrieve only reads and decrypts the file
+ * when these attributes have changed.  The connector obtains its encryption primitive once and reuses it.  Both the
+ * cached documents and the encryption primitive are discarded when the connector is disconnected.  Saves are
+ * written to a temporary file that is then renamed over the configuration file, so a reader never sees a partially
+ * written document.
  */
 public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll {
 
@@ -50,8 +61,17 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
     private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
     private static SecureRandom rng = null;
+
+    /*
+     * Decrypted configuration documents keyed by configuration file name.  They are only held by this connector
+     * instance and are cleared on disconnect.
+     */
+    private final Map<String, CachedServerConfig> configCache = new ConcurrentHashMap<>();
+
     private String configStoreName = null;
+    private Aead   aeadPrimitive   = null;
 
     /**
      * Default constructor
@@ -119,7 +139,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      * {@inheritDoc}
      */
     @Override
-    public void saveServerConfig(OMAGServerConfig omagServerConfig) {
+    public synchronized void saveServerConfig(OMAGServerConfig omagServerConfig) {
 
         final String methodName = "saveServerConfig";
         File configStoreFile = getConfigStoreFile();
@@ -134,9 +154,11 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                 log.debug("Writing encrypted server configuration.");
                 Aead aead = getAead(true);
                 if (aead != null) {
-                    String configStoreFileContents = OBJECT_WRITER.writeValueAsString(omagServerConfig);
-                    byte[] ciphertext = aead.encrypt(configStoreFileContents.getBytes(StandardCharsets.UTF_8), null);
-                    FileUtils.writeByteArrayToFile(configStoreFile, ciphertext, false);
+                    byte[] plaintext = OBJECT_WRITER.writeValueAsBytes(omagServerConfig);
+                    byte[] ciphertext = aead.encrypt(plaintext, null);
+                    writeFileAtomically(configStoreFile, ciphertext);
+                    // Write through to the cache so the next retrieve does not need to decrypt the file again
+                    configCache.put(getConfigStoreName(), new CachedServerConfig(readFileAttributes(configStoreFile), plaintext));
                 } else {
                     throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
                                                   this.getClass().getName(),
@@ -157,21 +179,39 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      * {@inheritDoc}
      */
     @Override
-    public OMAGServerConfig retrieveServerConfig() {
+    public synchronized OMAGServerConfig retrieveServerConfig() {
 
         final String methodName = "retrieveServerConfig";
         OMAGServerConfig newConfigProperties = null;
 
-        boolean isEnvVar = isEnvBasedKeystore();
-        boolean isKeyFile = isFileBasedKeystore();
-
         File configStoreFile = getConfigStoreFile();
         if (configStoreFile.exists()) {
 
+            // If the file has not changed since it was last decrypted, parse the cached document.  It is parsed on
+            // each call so that callers can update the configuration they are given without affecting the cache.
+            BasicFileAttributes fileAttributes = readFileAttributes(configStoreFile);
+            CachedServerConfig cachedServerConfig = configCache.get(getConfigStoreName());
+            if (cachedServerConfig != null && cachedServerConfig.isCurrent(fileAttributes)) {
+                try {
+                    log.debug("Retrieving cached server configuration properties");
+                    return OBJECT_READER.readValue(cachedServerConfig.getPlaintext(), OMAGServerConfig.class);
+                } catch (IOException e) {
+                    configCache.remove(getConfigStoreName());
+                }
+            }
+
+            byte[] configStoreFileContents;
+            try {
+                configStoreFileContents = Files.readAllBytes(configStoreFile.toPath());
+            } catch (IOException e) {
+                throw new OCFRuntimeException(DocStoreErrorCode.READ_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName, e);
+            }
+
             // If we have a configuration file, first try to read it as clear-text (unencrypted)...
             try {
                 log.debug("Attempting to retrieve clear-text server configuration properties");
-                String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
                 newConfigProperties = OBJECT_READER.readValue(configStoreFileContents, OMAGServerConfig.class);
                 // Assuming we are able to read it (unencrypted), immediately auto-encrypt it
                 log.info("Found unencrypted configuration document -- automatically encrypting it.");
@@ -179,7 +219,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
             } catch (IOException e) {
                 // If reading it as clear-text fails, and we have no keyset defined, then the configuration document
                 // is probably encrypted and we have no way of decrypting it
-                if (!(isEnvVar || isKeyFile)) {
+                if (!(aeadPrimitive != null || isEnvBasedKeystore() || isFileBasedKeystore())) {
                     throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
                                                   this.getClass().getName(),
                                                   methodName, e);
@@ -196,10 +236,9 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                     log.debug("Retrieving encrypted server configuration properties");
                     Aead aead = getAead(false);
                     if (aead != null) {
-                        byte[] ciphertext = FileUtils.readFileToByteArray(configStoreFile);
-                        byte[] decrypted = aead.decrypt(ciphertext, null);
-                        String configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
-                        newConfigProperties = OBJECT_READER.readValue(configStoreFileContents, OMAGServerConfig.class);
+                        byte[] decrypted = aead.decrypt(configStoreFileContents, null);
+                        newConfigProperties = OBJECT_READER.readValue(decrypted, OMAGServerConfig.class);
+                        configCache.put(getConfigStoreName(), new CachedServerConfig(fileAttributes, decrypted));
                     } else {
                         // If we have a configuration file, but no key anywhere to use to decrypt it, throw an error immediately
                         throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
@@ -213,6 +252,8 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                 }
             }
 
+        } else {
+            configCache.remove(getConfigStoreName());
         }
 
         return newConfigProperties;
@@ -223,10 +264,13 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      * {@inheritDoc}
      */
     @Override
-    public void removeServerConfig() {
+    public synchronized void removeServerConfig() {
         final String methodName = "removeServerConfig";
+        configCache.remove(getConfigStoreName());
         File keystore = getFileBasedKeystore(false);
-        if (keystore.exists()) {
+        // The keystore is about to be removed so the encryption primitive built from it can no longer be used
+        aeadPrimitive = null;
+        if (keystore != null && keystore.exists()) {
             try {
                 Files.delete(keystore.toPath());
             } catch (IOException e) {
@@ -253,10 +297,15 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
         Set<OMAGServerConfig> omagServerConfigSet = new HashSet<>();
         String templateString = getStoreTemplateName();
         Set<String> fileNames = getFileNames(templateString, methodName);
-        for (String fileName : fileNames) {
-            configStoreName = fileName;
-            OMAGServerConfig config = retrieveServerConfig();
-            omagServerConfigSet.add(config);
+        String originalConfigStoreName = configStoreName;
+        try {
+            for (String fileName : fileNames) {
+                configStoreName = fileName;
+                OMAGServerConfig config = retrieveServerConfig();
+                omagServerConfigSet.add(config);
+            }
+        } finally {
+            configStoreName = originalConfigStoreName;
         }
 
         return omagServerConfigSet;
@@ -460,8 +509,19 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
      * {@inheritDoc}
      */
     @Override
-    public void disconnect() {
+    public synchronized void disconnect() {
         log.debug("Closing Config Store.");
+        configCache.clear();
+        aeadPrimitive = null;
+    }
+
+    /**
+     * Return the number of configuration documents that are cached by this connector.
+     *
+     * @return count
+     */
+    int getCachedConfigCount() {
+        return configCache.size();
     }
 
     /**
@@ -494,22 +554,66 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     }
 
     /**
-     * Retrieve the Authenticated Encryption with Associated Data handler.
+     * Write the contents of the configuration file to a temporary file in the same directory and then rename it
+     * over the configuration file.  The rename is atomic where the file system supports it.
+     *
+     * @param configStoreFile configuration file
+     * @param contents new contents
+     * @throws IOException the file could not be written
+     */
+    private void writeFileAtomically(File configStoreFile, byte[] contents) throws IOException {
+        Path configStorePath = configStoreFile.getAbsoluteFile().toPath();
+        Path parentDirectory = configStorePath.getParent();
+        Files.createDirectories(parentDirectory);
+
+        Path temporaryPath = Files.createTempFile(parentDirectory, configStorePath.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+        try {
+            Files.write(temporaryPath, contents);
+            try {
+                Files.move(temporaryPath, configStorePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                log.debug("Atomic move not supported for {} -- replacing the file instead.", configStorePath);
+                Files.move(temporaryPath, configStorePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Read the attributes of the configuration file that are used to detect a change to the file.
+     *
+     * @param configStoreFile configuration file
+     * @return attributes or null if they cannot be read, in which case the cache is not used
+     */
+    private BasicFileAttributes readFileAttributes(File configStoreFile) {
+        try {
+            return Files.readAttributes(configStoreFile.toPath(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            log.debug("Unable to read the attributes of {} -- the configuration will not be cached.", configStoreFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Retrieve the Authenticated Encryption with Associated Data handler.  The handler is created once
+     * and then reused for the life of the connector.
      *
      * @param generateIfNotExists indicates whether to generate a handler if it does not exist (true) or not (false)
      * @return Aead
      * @throws GeneralSecurityException on any error
      */
-    private Aead getAead(boolean generateIfNotExists) throws GeneralSecurityException {
-        KeysetHandle keysetHandle = getKeysetHandleFromEnv();
-        if (keysetHandle == null) {
-            keysetHandle = getKeysetHandleFromFile(generateIfNotExists);
-        }
-        if (keysetHandle != null) {
-            return keysetHandle.getPrimitive(Aead.class);
-        } else {
-            return null;
+    private synchronized Aead getAead(boolean generateIfNotExists) throws GeneralSecurityException {
+        if (aeadPrimitive == null) {
+            KeysetHandle keysetHandle = getKeysetHandleFromEnv();
+            if (keysetHandle == null) {
+                keysetHandle = getKeysetHandleFromFile(generateIfNotExists);
+            }
+            if (keysetHandle != null) {
+                aeadPrimitive = keysetHandle.getPrimitive(Aead.class);
+            }
         }
+        return aeadPrimitive;
     }
 
     /**
@@ -749,4 +853,57 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
 
     }
 
+    /**
+     * A decrypted configuration document along with the attributes of the file it was read from.
+     */
+    private static class CachedServerConfig {
+
+        private final FileTime lastModifiedTime;
+        private final long     size;
+        private final Object   fileKey;
+        private final byte[]   plaintext;
+
+        /**
+         * Constructor
+         *
+         * @param fileAttributes attributes of the file when the document was read or written (may be null)
+         * @param plaintext decrypted document
+         */
+        CachedServerConfig(BasicFileAttributes fileAttributes, byte[] plaintext) {
+            if (fileAttributes == null) {
+                this.lastModifiedTime = null;
+                this.size = -1;
+                this.fileKey = null;
+            } else {
+                this.lastModifiedTime = fileAttributes.lastModifiedTime();
+                this.size = fileAttributes.size();
+                this.fileKey = fileAttributes.fileKey();
+            }
+            this.plaintext = plaintext;
+        }
+
+        /**
+         * Check whether the file still has the attributes it had when the document was cached.
+         *
+         * @param fileAttributes current attributes of the file
+         * @return true if the cached document can be used
+         */
+        boolean isCurrent(BasicFileAttributes fileAttributes) {
+            return fileAttributes != null
+                    && lastModifiedTime != null
+                    && lastModifiedTime.equals(fileAttributes.lastModifiedTime())
+                    && size == fileAttributes.size()
+                    && Objects.equals(fileKey, fileAttributes.fileKey());
+        }
+
+        /**
+         * Return the decrypted document.
+         *
+         * @return JSON bytes
+         */
+        byte[] getPlaintext() {
+            return plaintext;
+        }
+    }
+
 }
@@ -3,13 +3,22 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.encryptedfile;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SecurityTags;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +85,105 @@ public class TestEncryptedFileBasedServerConfigStoreConnector {
 
     }
 
+    @Test
+    void testConfigCache(@TempDir Path configDirectory) throws ConnectorCheckedException {
+
+        EncryptedFileBasedServerConfigStoreConnector connector = getConnector(configDirectory);
+        EncryptedFileBasedServerConfigStoreConnector otherConnector = getConnector(configDirectory);
+
+        try {
+            connector.saveServerConfig(getServerConfig("first"));
+            assertEquals(1, connector.getCachedConfigCount());
+
+            // Each retrieve returns a new copy so a caller can not change the cached document
+            OMAGServerConfig retrievedConfig = connector.retrieveServerConfig();
+            assertEquals(getServerConfig("first"), retrievedConfig);
+            retrievedConfig.setLocalServerName("changed");
+            assertEquals(getServerConfig("first"), connector.retrieveServerConfig());
+
+            // The cache is only held by the connector that read the file
+            assertEquals(0, otherConnector.getCachedConfigCount());
+
+            // A change to the file made by another connector is picked up
+            otherConnector.saveServerConfig(getServerConfig("second version"));
+            assertEquals(getServerConfig("second version"), connector.retrieveServerConfig());
+
+            // The decrypted documents are discarded on disconnect
+            connector.disconnect();
+            assertEquals(0, connector.getCachedConfigCount());
+            assertEquals(getServerConfig("second version"), otherConnector.retrieveServerConfig());
+        } finally {
+            otherConnector.removeServerConfig();
+            otherConnector.disconnect();
+        }
+
+        assertNull(connector.retrieveServerConfig());
+        assertEquals(0, connector.getCachedConfigCount());
+    }
+
+    @Test
+    void testAtomicSave(@TempDir Path configDirectory) throws ConnectorCheckedException, IOException {
+
+        EncryptedFileBasedServerConfigStoreConnector connector = getConnector(configDirectory);
+        Path configFile = configDirectory.resolve("testServer.config");
+
+        try {
+            connector.saveServerConfig(getServerConfig("first"));
+            byte[] firstContents = Files.readAllBytes(configFile);
+
+            // Saving over an existing file replaces it and leaves no temporary files behind
+            connector.saveServerConfig(getServerConfig("second version"));
+            byte[] secondContents = Files.readAllBytes(configFile);
+
+            assertFalse(new String(secondContents, StandardCharsets.ISO_8859_1).contains("second version"));
+            assertNotEquals(firstContents.length, secondContents.length);
+            try (Stream<Path> files = Files.list(configDirectory)) {
+                assertEquals(1, files.count());
+            }
+
+            connector.disconnect();
+            assertEquals(getServerConfig("second version"), connector.retrieveServerConfig());
+        } finally {
+            connector.removeServerConfig();
+            connector.disconnect();
+        }
+
+        assertFalse(Files.exists(configFile));
+    }
+
+    /**
+     * Return a started connector that stores the configuration in the supplied directory.
+     *
+     * @param configDirectory directory for the configuration files
+     * @return connector
+     * @throws ConnectorCheckedException the connector failed to start
+     */
+    private EncryptedFileBasedServerConfigStoreConnector getConnector(Path configDirectory) throws ConnectorCheckedException {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(configDirectory.toString() + File.separator + "{0}.config");
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        EncryptedFileBasedServerConfigStoreConnector connector = new EncryptedFileBasedServerConfigStoreConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setServerName("testServer");
+        connector.start();
+
+        return connector;
+    }
+
+    /**
+     * Return a configuration document.
+     *
+     * @param description description to distinguish the documents
+     * @return configuration document
+     */
+    private OMAGServerConfig getServerConfig(String description) {
+        OMAGServerConfig serverConfig = new OMAGServerConfig();
+        serverConfig.setLocalServerName("testServer");
+        serverConfig.setLocalServerDescription(description);
+        return serverConfig;
+    }
+
 }
@@ -74,4 +74,16 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Read each data record in turn, passing it to the supplied processor.  The file is read once, from start to
+     * finish, so this is the efficient way to process every record in a large file.
+     *
+     * @param recordProcessor callback for each record
+     * @return number of records passed to the processor
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    long              readRecords(CSVRecordProcessor recordProcessor) throws FileException, FileReadException;
 }
@@ -220,6 +220,53 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Read each data record in turn, passing it to the supplied processor.  The file is read once, from start to
+     * finish, so this is the efficient way to process every record in a large file.
+     *
+     * @param recordProcessor callback for each record
+     * @return number of records passed to the processor
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public long     readRecords(CSVRecordProcessor recordProcessor) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        long    recordNumber = 0;
+
+        File fileStore = super.getFile(methodName);
+
+        try (Scanner scanner = new Scanner(fileStore))
+        {
+            if ((columnNames == null) && (scanner.hasNext()))
+            {
+                /*
+                 * Skip the column names.
+                 */
+                scanner.nextLine();
+            }
+
+            while (scanner.hasNext())
+            {
+                recordProcessor.processRecord(recordNumber, parseRecord(scanner.nextLine()));
+                recordNumber ++;
+            }
+        }
+        catch (IOException  error)
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        error,
+                                        fileStoreName);
+        }
+
+        return recordNumber;
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
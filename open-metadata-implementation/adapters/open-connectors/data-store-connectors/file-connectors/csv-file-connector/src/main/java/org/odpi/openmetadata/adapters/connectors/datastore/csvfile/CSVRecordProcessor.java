@@ -0,0 +1,23 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.util.List;
+
+/**
+ * CSVRecordProcessor is implemented by a caller of CSVFileStore.readRecords to receive each data record
+ * as the file is read.
+ */
+public interface CSVRecordProcessor
+{
+    /**
+     * Process the next data record.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.
+     *
+     * @param recordNumber number of the record in the file
+     * @param recordValues List of strings, each string is the value from the column - null for an empty line.
+     */
+    void processRecord(long         recordNumber,
+                       List<String> recordValues);
+}
@@ -101,6 +101,15 @@ public class CSVFileStoreConnectorTest
             assertTrue(columnNames.size() == columns.size());
         }
 
+        List<List<String>> records = new ArrayList<>();
+
+        assertTrue(connector.readRecords((recordNumber, recordValues) -> records.add(recordValues)) == connector.getRecordCount());
+
+        for (int i=0; i<records.size(); i++)
+        {
+            assertTrue(records.get(i).equals(connector.readRecord(i)));
+        }
+
         try
         {
             connector.readRecord(10000);
@@ -3,11 +3,15 @@
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVRecordProcessor;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling.ColumnProfile;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling.TabularDataProfiler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +35,11 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
     private final static String BOOLEAN_UC_FALSE  = "FALSE";
     private final static String BOOLEAN_LC_FALSE  = "false";
 
+    private final static String SCHEMA_CLIENT_REFERENCE            = "schema";
+    private final static String MEASUREMENT_CLIENT_REFERENCE       = "measurement";
+    private final static String DATA_FIELD_CLIENT_REFERENCE_PREFIX = "data-field-";
+    private final static String PROFILE_CLIENT_REFERENCE_PREFIX    = "profile-";
+
 
 
     /**
@@ -72,62 +81,33 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
 
     /**
-     * Return the updated value count for this column.
+     * Return an integer configuration property for this discovery service.
      *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return value
      */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
+    private int getIntegerConfigurationProperty(String propertyName,
+                                                int    defaultValue)
     {
-        if (existingValueCount == null)
+        if (connectionProperties != null)
         {
-            Map<String, Integer> newValueCount = new HashMap<>();
-
-            newValueCount.put(newFieldValue, 1);
-
-            return newValueCount;
-        }
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
 
-        Integer   countForValue = existingValueCount.get(newFieldValue);
-
-        if (countForValue == null)
-        {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
-        {
-            existingValueCount.put(newFieldValue, countForValue + 1);
-        }
-
-        return existingValueCount;
-    }
-
-
-    /**
-     * Return the updated value list.
-     *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
-     */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
-    {
-        if (existingValueList == null)
-        {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
-
-            return newValueList;
-        }
-
-        if (! existingValueList.contains(newFieldValue))
-        {
-            existingValueList.add(newFieldValue);
+            if ((configurationProperties != null) && (configurationProperties.get(propertyName) != null))
+            {
+                try
+                {
+                    return Integer.parseInt(configurationProperties.get(propertyName).toString());
+                }
+                catch (NumberFormatException badValue)
+                {
+                    return defaultValue;
+                }
+            }
         }
 
-        return existingValueList;
+        return defaultValue;
     }
 
 
@@ -147,9 +127,9 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
         {
             CSVFileStoreConnector    assetConnector  = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
             DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
-            int                      size            = 0;
             int                      delimiterCount  = 0;
-            long                     recordCount     = assetConnector.getRecordCount();
+            long                     size            = 0;
+            long                     recordCount;
 
             SchemaAnalysisAnnotation  schemaAnnotation      = new SchemaAnalysisAnnotation();
 
@@ -157,16 +137,26 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
             schemaAnnotation.setSchemaTypeName("TabularSchemaType");
             schemaAnnotation.setAnnotationStatus(AnnotationStatus.NEW_ANNOTATION);
 
-            String schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
+            /*
+             * The schema annotation, its data fields and their profile annotations are built up as a tree
+             * and sent to the annotation store in a single batch once the file has been read.
+             */
+            AnnotationBatchElement schemaElement = new AnnotationBatchElement();
+
+            schemaElement.setClientReference(SCHEMA_CLIENT_REFERENCE);
+            schemaElement.setAnnotation(schemaAnnotation);
 
             List<String>                        columnNames = assetConnector.getColumnNames();
-            Map<Integer, DataField>             dataFields  = new HashMap<>();
-            Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
+            List<DataField>                     dataFields  = new ArrayList<>();
 
             if (columnNames != null)
             {
                 int position = 0;
 
+                /*
+                 * The data fields are held by their column's position in the record.  A column without a name
+                 * keeps its slot so the later columns line up with the values in each record.
+                 */
                 for (String  columnName : columnNames)
                 {
                     if (columnName != null)
@@ -175,15 +165,15 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                         dataField.setDataFieldPosition(position);
                         dataField.setDataFieldName(columnName);
-                        dataFields.put(position, dataField);
-
-                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
-
-                        dataProfiles.put(position, dataProfile);
+                        dataFields.add(dataField);
 
                         size = size + columnName.length();
                         position++;
                     }
+                    else
+                    {
+                        dataFields.add(null);
+                    }
                 }
 
                 if (position > 0)
@@ -193,41 +183,48 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
-                {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                /*
+                 * The records are read in a single pass.  The profiler keeps a bounded summary of each column.
+                 */
+                TabularDataProfiler profiler = new TabularDataProfiler(columnNames,
+                                                                       getIntegerConfigurationProperty(TabularDataProfiler.EXACT_COUNT_THRESHOLD_CONFIGURATION_PROPERTY,
+                                                                                                       TabularDataProfiler.DEFAULT_EXACT_COUNT_THRESHOLD),
+                                                                       getIntegerConfigurationProperty(TabularDataProfiler.TOP_VALUE_COUNT_CONFIGURATION_PROPERTY,
+                                                                                                       TabularDataProfiler.DEFAULT_TOP_VALUE_COUNT));
+                RecordProcessor     recordProcessor = new RecordProcessor(dataFields, profiler, delimiterCount);
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
-
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                recordCount = assetConnector.readRecords(recordProcessor);
+                size = size + recordProcessor.size;
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                List<DataFieldBatchElement> dataFieldElements = new ArrayList<>();
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                for (ColumnProfile columnProfile : profiler.getColumnProfiles())
+                {
+                    if ((columnProfile.getColumnPosition() < dataFields.size()) && (dataFields.get(columnProfile.getColumnPosition()) != null))
+                    {
+                        AnnotationBatchElement profileElement   = new AnnotationBatchElement();
+                        DataFieldBatchElement  dataFieldElement = new DataFieldBatchElement();
 
-                            recordLength = recordLength + fieldValue.length();
+                        profileElement.setClientReference(PROFILE_CLIENT_REFERENCE_PREFIX + columnProfile.getColumnPosition());
+                        profileElement.setAnnotation(columnProfile.getDataProfileAnnotation());
 
-                            columnPosition++;
-                        }
+                        dataFieldElement.setClientReference(DATA_FIELD_CLIENT_REFERENCE_PREFIX + columnProfile.getColumnPosition());
+                        dataFieldElement.setDataField(dataFields.get(columnProfile.getColumnPosition()));
+                        dataFieldElement.setAnnotations(Collections.singletonList(profileElement));
 
-                        size = size + recordLength + delimiterCount;
+                        dataFieldElements.add(dataFieldElement);
                     }
                 }
 
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
+                if (! dataFieldElements.isEmpty())
                 {
-                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
-
-                    annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
+                    schemaElement.setDataFields(dataFieldElements);
                 }
             }
+            else
+            {
+                recordCount = assetConnector.getRecordCount();
+            }
 
             DataSourcePhysicalStatusAnnotation measurementAnnotation = new DataSourcePhysicalStatusAnnotation();
             Map<String, String>                measurementProperties = new HashMap<>();
@@ -237,9 +234,19 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             measurementAnnotation.setModifiedTime(assetConnector.getLastUpdateDate());
             measurementAnnotation.setDataSourceProperties(measurementProperties);
-            measurementAnnotation.setSize(size);
+            measurementAnnotation.setSize((int) Math.min(size, Integer.MAX_VALUE));
+
+            AnnotationBatchElement measurementElement = new AnnotationBatchElement();
 
-            annotationStore.addAnnotationToDiscoveryReport(measurementAnnotation);
+            measurementElement.setClientReference(MEASUREMENT_CLIENT_REFERENCE);
+            measurementElement.setAnnotation(measurementAnnotation);
+
+            List<AnnotationBatchElement> annotations = new ArrayList<>();
+
+            annotations.add(schemaElement);
+            annotations.add(measurementElement);
+
+            annotationStore.addAnnotationBatchToDiscoveryReport(annotations);
         }
         catch (ConnectorCheckedException error)
         {
@@ -250,4 +257,70 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
             super.handleUnexpectedException(methodName, error);
         }
     }
+
+
+    /**
+     * RecordProcessor receives each record from the CSV file, works out the type of each data field,
+     * totals the size of the file and passes the record to the profiler.
+     */
+    private class RecordProcessor implements CSVRecordProcessor
+    {
+        private final List<DataField>     dataFields;
+        private final TabularDataProfiler profiler;
+        private final int                 delimiterCount;
+        private long                      size = 0;
+
+
+        /**
+         * Constructor
+         *
+         * @param dataFields data fields by column position - null for a column without a name
+         * @param profiler profiler for the column values
+         * @param delimiterCount number of delimiters in each record
+         */
+        RecordProcessor(List<DataField>     dataFields,
+                        TabularDataProfiler profiler,
+                        int                 delimiterCount)
+        {
+            this.dataFields     = dataFields;
+            this.profiler       = profiler;
+            this.delimiterCount = delimiterCount;
+        }
+
+
+        /**
+         * Process the next data record.
+         *
+         * @param recordNumber number of the record in the file
+         * @param recordValues List of strings, each string is the value from the column - null for an empty line.
+         */
+        @Override
+        public void processRecord(long         recordNumber,
+                                  List<String> recordValues)
+        {
+            if ((recordValues != null) && (! recordValues.isEmpty()))
+            {
+                int columnPosition = 0;
+                int recordLength   = 0;
+
+                for (String fieldValue : recordValues)
+                {
+                    if ((columnPosition < dataFields.size()) && (dataFields.get(columnPosition) != null))
+                    {
+                        DataField dataField = dataFields.get(columnPosition);
+
+                        dataField.setDataFieldType(getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                    }
+
+                    recordLength = recordLength + fieldValue.length();
+
+                    columnPosition++;
+                }
+
+                profiler.profileRecord(recordValues);
+
+                size = size + recordLength + delimiterCount;
+            }
+        }
+    }
 }
@@ -3,8 +3,12 @@
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling.TabularDataProfiler;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CSVDiscoveryServiceProvider provides the connector provider for the CSV Discovery Service
  */
@@ -34,6 +38,12 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(TabularDataProfiler.EXACT_COUNT_THRESHOLD_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(TabularDataProfiler.TOP_VALUE_COUNT_CONFIGURATION_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
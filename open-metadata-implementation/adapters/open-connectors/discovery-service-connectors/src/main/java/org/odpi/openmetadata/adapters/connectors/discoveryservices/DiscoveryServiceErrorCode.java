@@ -36,6 +36,11 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
                                "a discovery request type that is compatible with the asset, or changing the discovery service " +
                                "associated with the discovery request type to one that supports this type of asset."),
 
+    INVALID_CONFIGURATION_PROPERTY(400, "OMAG-DISCOVERY-SERVICE-400-002 ",
+             "Discovery service {0} has been configured with an invalid value of {1} for its {2} configuration property",
+             "The discovery service terminates without running any automated metadata discovery function.",
+             "Correct the value of the configuration property in the connection for the discovery service and retry the discovery request."),
+
     NO_ASSET(500, "OMAG-DISCOVERY-SERVICE-500-001 ",
             "No information about the asset {0} has been returned from the asset store for discovery service {1}.",
             "The discovery service terminates without running any automated metadata discovery function.",
@@ -45,6 +50,16 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
              "No type name is available for the asset passed to discovery service {0}.  The full asset contents are: {1}.",
              "The discovery service terminates without running any automated metadata discovery function.",
              "This is an unexpected condition because if the metadata server was unavailable, an exception would have been caught."),
+
+    EMBEDDED_SERVICE_FAILED(500, "OMAG-DISCOVERY-SERVICE-500-003 ",
+             "Discovery service {0} in discovery pipeline {1} failed with exception {2} and message {3}",
+             "The discovery pipeline stops starting new discovery services, waits for the running discovery services to complete and then terminates.",
+             "Use the exception and message to determine the cause of the failure in the discovery service.  Once the cause is resolved, retry the discovery request."),
+
+    PIPELINE_INTERRUPTED(500, "OMAG-DISCOVERY-SERVICE-500-004 ",
+             "Discovery pipeline {0} was interrupted while waiting for its discovery services to complete",
+             "The discovery pipeline terminates.  Some discovery services may not have run.",
+             "This typically happens when the discovery engine is shutting down.  Retry the discovery request once the discovery engine is running."),
         ;
 
 
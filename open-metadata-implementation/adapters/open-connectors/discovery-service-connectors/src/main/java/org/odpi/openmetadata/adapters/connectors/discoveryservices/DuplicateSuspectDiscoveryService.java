@@ -3,6 +3,8 @@
 
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
+import org.odpi.openmetadata.frameworks.connectors.duplicates.DuplicateBlockingKeyType;
+import org.odpi.openmetadata.frameworks.connectors.duplicates.DuplicateCandidateIndex;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -13,13 +15,16 @@ import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetCatalogStore;
 import org.odpi.openmetadata.frameworks.discovery.properties.SuspectDuplicateAnnotation;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * DuplicateSuspectDiscoveryService is a discovery service that looks for assets in the asset catalog that seem to be
- * duplicates of the asset supplied in the context.
+ * duplicates of the asset supplied in the context.  Each asset it sees is added to a duplicate candidate index that is
+ * shared with the other services working with the same asset catalog.
+ * Once that index has been fully loaded, the candidates come from the index rather than from catalog searches.
  */
 public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
 {
@@ -60,28 +65,43 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
             String       displayName              = asset.getDisplayName();
 
             DiscoveryAssetCatalogStore assetCatalogStore = discoveryContext.getAssetCatalogStore();
+            DuplicateCandidateIndex    candidateIndex    = this.getCandidateIndex(assetCatalogStore, methodName);
 
-            /*
-             * Just pull in up to the maximum page size - if locating more duplicates that this upper limit then there are bigger problems.
-             * Duplicate assets are returned based on qualified name, display name and endpoint address.
-             */
-            List<String> retrievedAssetGUIDs = assetCatalogStore.getAssetsByQualifiedName(qualifiedName,0, assetCatalogStore.getMaxPageSize());
-            this.captureDuplicateSuspects(retrievedAssetGUIDs, QUALIFIED_NAME_PROPERTY);
+            candidateIndex.updateElement(assetGUID, qualifiedName, displayName, endpointNetworkAddresses);
 
-            if (displayName != null)
+            if (candidateIndex.isLoaded())
             {
-                retrievedAssetGUIDs = assetCatalogStore.getAssetsByName(displayName,0, assetCatalogStore.getMaxPageSize());
-                this.captureDuplicateSuspects(retrievedAssetGUIDs, DISPLAY_NAME_PROPERTY);
-            }
+                /*
+                 * Every asset is in the index so the candidates can be read from the blocks that this asset belongs to.
+                 */
+                Map<String, List<String>> candidates = candidateIndex.getCandidates(assetGUID, EnumSet.allOf(DuplicateBlockingKeyType.class));
 
-            if (endpointNetworkAddresses != null)
+                suspectDuplicateReport.putAll(candidates);
+            }
+            else
             {
-                for (String networkAddress : endpointNetworkAddresses)
+                /*
+                 * Just pull in up to the maximum page size - if locating more duplicates that this upper limit then there are bigger problems.
+                 * Duplicate assets are returned based on qualified name, display name and endpoint address.
+                 */
+                List<String> retrievedAssetGUIDs = assetCatalogStore.getAssetsByQualifiedName(qualifiedName,0, assetCatalogStore.getMaxPageSize());
+                this.captureDuplicateSuspects(assetGUID, retrievedAssetGUIDs, QUALIFIED_NAME_PROPERTY);
+
+                if (displayName != null)
                 {
-                    if (networkAddress != null)
+                    retrievedAssetGUIDs = assetCatalogStore.getAssetsByName(displayName,0, assetCatalogStore.getMaxPageSize());
+                    this.captureDuplicateSuspects(assetGUID, retrievedAssetGUIDs, DISPLAY_NAME_PROPERTY);
+                }
+
+                if (endpointNetworkAddresses != null)
+                {
+                    for (String networkAddress : endpointNetworkAddresses)
                     {
-                        retrievedAssetGUIDs = assetCatalogStore.getAssetsByName(displayName,0, assetCatalogStore.getMaxPageSize());
-                        this.captureDuplicateSuspects(retrievedAssetGUIDs, NETWORK_ADDRESS_PROPERTY);
+                        if (networkAddress != null)
+                        {
+                            retrievedAssetGUIDs = assetCatalogStore.getAssetsByEndpoint(networkAddress,0, assetCatalogStore.getMaxPageSize());
+                            this.captureDuplicateSuspects(assetGUID, retrievedAssetGUIDs, NETWORK_ADDRESS_PROPERTY);
+                        }
                     }
                 }
             }
@@ -99,20 +119,77 @@ public class DuplicateSuspectDiscoveryService extends AuditableDiscoveryService
     }
 
 
+    /**
+     * Return the duplicate candidate index shared with the other connectors working with the same asset catalog.
+     *
+     * @param assetCatalogStore asset catalog that the candidates come from
+     * @param methodName calling method
+     * @return candidate index
+     * @throws ConnectorCheckedException the maximum load age configuration property is not a number
+     */
+    private DuplicateCandidateIndex getCandidateIndex(DiscoveryAssetCatalogStore assetCatalogStore,
+                                                      String                     methodName) throws ConnectorCheckedException
+    {
+        Map<String, Object> configurationProperties       = this.getConfigurationProperties();
+        String              metadataServerName            = null;
+        String              metadataServerPlatformURLRoot = null;
+
+        if (assetCatalogStore != null)
+        {
+            metadataServerName = assetCatalogStore.getMetadataServerName();
+            metadataServerPlatformURLRoot = assetCatalogStore.getMetadataServerPlatformURLRoot();
+        }
+
+        try
+        {
+            return DuplicateCandidateIndex.getConfiguredIndex(metadataServerName,
+                                                              metadataServerPlatformURLRoot,
+                                                              configurationProperties);
+        }
+        catch (NumberFormatException error)
+        {
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.INVALID_CONFIGURATION_PROPERTY.getMessageDefinition(discoveryServiceName,
+                                                                                                                              configurationProperties.get(DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY).toString(),
+                                                                                                                              DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Return the configuration properties from the connection.
+     *
+     * @return map of property names to values (may be null)
+     */
+    private Map<String, Object> getConfigurationProperties()
+    {
+        if (connectionProperties != null)
+        {
+            return connectionProperties.getConfigurationProperties();
+        }
+
+        return null;
+    }
+
+
     /**
      * Capture details of the assets that match on a specific property.
      *
+     * @param assetGUID unique identifier of the asset being analysed - it is not a duplicate of itself
      * @param duplicateSuspectGUIDs list of matching unique identifiers
      * @param propertyName property name that they match on
      */
-    private void captureDuplicateSuspects(List<String>    duplicateSuspectGUIDs,
+    private void captureDuplicateSuspects(String          assetGUID,
+                                          List<String>    duplicateSuspectGUIDs,
                                           String          propertyName)
     {
         if (duplicateSuspectGUIDs != null)
         {
             for (String duplicateSuspectGUID : duplicateSuspectGUIDs)
             {
-                if (duplicateSuspectGUID != null)
+                if ((duplicateSuspectGUID != null) && (! duplicateSuspectGUID.equals(assetGUID)))
                 {
                     List<String>  duplicateSuspectRecord = suspectDuplicateReport.get(duplicateSuspectGUID);
 
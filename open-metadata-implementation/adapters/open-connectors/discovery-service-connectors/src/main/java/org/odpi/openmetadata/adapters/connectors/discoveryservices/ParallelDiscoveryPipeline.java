@@ -0,0 +1,408 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs the supplied discovery services in parallel where
+ * they do not depend on one another.  Each embedded discovery service may declare the annotation types it consumes and
+ * produces in the configuration properties of its connection.  A discovery service runs after the earlier discovery services
+ * (in the order they are supplied) that produce the annotation types it consumes.  A discovery service that makes no
+ * declaration runs on its own, after all earlier discovery services have completed and before any later discovery
+ * services start.  This means a pipeline where no discovery service declares its annotation types behaves as
+ * the SequentialDiscoveryPipeline.
+ *
+ * The embedded discovery services share the pipeline's discovery context, so the annotation store must support
+ * concurrent requests.  The analysis step is recorded for each worker thread and the time taken by each discovery service
+ * is recorded in the discovery analysis report store.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    /**
+     * This implementation runs the supplied discovery services on a bounded pool of threads.  The first discovery service
+     * to fail stops any further discovery services from starting.  The discovery services that are running are allowed to
+     * complete and then the exception is returned.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        DiscoveryAnalysisReportStore discoveryReport = super.discoveryContext.getAnnotationStore().getDiscoveryReport();
+        List<PipelineStep>           pipelineSteps   = getPipelineSteps();
+
+        if (pipelineSteps.isEmpty())
+        {
+            return;
+        }
+
+        ExecutorService                 executorService   = Executors.newFixedThreadPool(Math.min(getMaxParallelServices(), pipelineSteps.size()));
+        CompletionService<PipelineStep> completionService = new ExecutorCompletionService<>(executorService);
+
+        Map<Future<PipelineStep>, PipelineStep> runningSteps   = new HashMap<>();
+        Set<PipelineStep>                       completedSteps = new HashSet<>();
+        List<PipelineStep>                      waitingSteps   = new ArrayList<>(pipelineSteps);
+        Exception                               firstFailure   = null;
+        PipelineStep                            failedStep     = null;
+
+        try
+        {
+            while ((! waitingSteps.isEmpty()) || (! runningSteps.isEmpty()))
+            {
+                if (firstFailure == null)
+                {
+                    List<PipelineStep> readySteps = new ArrayList<>();
+
+                    for (PipelineStep waitingStep : waitingSteps)
+                    {
+                        if (completedSteps.containsAll(waitingStep.dependencies))
+                        {
+                            readySteps.add(waitingStep);
+                        }
+                    }
+
+                    for (PipelineStep readyStep : readySteps)
+                    {
+                        waitingSteps.remove(readyStep);
+                        Future<PipelineStep> runningStep = completionService.submit(() ->
+                        {
+                            runPipelineStep(readyStep, discoveryReport);
+                            return readyStep;
+                        });
+
+                        runningSteps.put(runningStep, readyStep);
+                    }
+                }
+
+                if (runningSteps.isEmpty())
+                {
+                    /*
+                     * Nothing is running and nothing more will start because of an earlier failure.
+                     */
+                    break;
+                }
+
+                Future<PipelineStep> completedStep = completionService.take();
+                PipelineStep         finishedStep  = runningSteps.remove(completedStep);
+
+                try
+                {
+                    completedStep.get();
+                    completedSteps.add(finishedStep);
+                }
+                catch (ExecutionException stepFailure)
+                {
+                    if (firstFailure == null)
+                    {
+                        Throwable cause = stepFailure.getCause();
+
+                        if (cause instanceof Exception)
+                        {
+                            firstFailure = (Exception) cause;
+                        }
+                        else
+                        {
+                            firstFailure = stepFailure;
+                        }
+
+                        failedStep = finishedStep;
+                    }
+                }
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.PIPELINE_INTERRUPTED.getMessageDefinition(super.getConnectorInstanceId()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                interrupted);
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+
+        if (firstFailure instanceof ConnectorCheckedException)
+        {
+            throw (ConnectorCheckedException) firstFailure;
+        }
+        else if (firstFailure != null)
+        {
+            String failedServiceName = null;
+
+            if (failedStep != null)
+            {
+                failedServiceName = failedStep.discoveryService.getConnectorInstanceId();
+            }
+
+            throw new ConnectorCheckedException(DiscoveryServiceErrorCode.EMBEDDED_SERVICE_FAILED.getMessageDefinition(failedServiceName,
+                                                                                                                       super.getConnectorInstanceId(),
+                                                                                                                       firstFailure.getClass().getName(),
+                                                                                                                       firstFailure.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                firstFailure);
+        }
+    }
+
+
+    /**
+     * Run a single discovery service on the calling worker thread.
+     *
+     * @param pipelineStep step to run
+     * @param discoveryReport report store used to record the analysis step and its timing
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    private void runPipelineStep(PipelineStep                 pipelineStep,
+                                 DiscoveryAnalysisReportStore discoveryReport) throws ConnectorCheckedException
+    {
+        DiscoveryService discoveryService = pipelineStep.discoveryService;
+        String           analysisStep     = discoveryService.getConnectorInstanceId();
+        Date             startTime        = new Date();
+
+        discoveryReport.setThreadAnalysisStep(analysisStep);
+
+        try
+        {
+            discoveryService.setDiscoveryContext(super.discoveryContext);
+            discoveryService.start();
+            discoveryService.disconnect();
+        }
+        finally
+        {
+            discoveryReport.recordAnalysisStepTiming(analysisStep, startTime, new Date());
+            discoveryReport.setThreadAnalysisStep(null);
+        }
+    }
+
+
+    /**
+     * Build the pipeline steps from the embedded discovery services.  Each step records the earlier steps it must wait for.
+     *
+     * @return list of steps in the order they were supplied
+     */
+    private List<PipelineStep> getPipelineSteps()
+    {
+        List<PipelineStep> pipelineSteps = new ArrayList<>();
+        PipelineStep       lastBarrier   = null;
+
+        if (super.embeddedDiscoveryServices != null)
+        {
+            for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+            {
+                if (embeddedDiscoveryService != null)
+                {
+                    PipelineStep pipelineStep = new PipelineStep(embeddedDiscoveryService);
+
+                    if (pipelineStep.isBarrier())
+                    {
+                        pipelineStep.dependencies.addAll(pipelineSteps);
+                        lastBarrier = pipelineStep;
+                    }
+                    else
+                    {
+                        if (lastBarrier != null)
+                        {
+                            pipelineStep.dependencies.add(lastBarrier);
+                        }
+
+                        for (PipelineStep earlierStep : pipelineSteps)
+                        {
+                            if ((earlierStep.isBarrier()) || (! disjoint(earlierStep.producedAnnotationTypes, pipelineStep.consumedAnnotationTypes)))
+                            {
+                                pipelineStep.dependencies.add(earlierStep);
+                            }
+                        }
+                    }
+
+                    pipelineSteps.add(pipelineStep);
+                }
+            }
+        }
+
+        return pipelineSteps;
+    }
+
+
+    /**
+     * Return the maximum number of discovery services to run at once from the pipeline's configuration properties.
+     *
+     * @return count
+     */
+    private int getMaxParallelServices()
+    {
+        Object maxParallelServices = getConfigurationProperty(super.connectionProperties,
+                                                              ParallelDiscoveryPipelineProvider.MAX_PARALLEL_SERVICES_CONFIGURATION_PROPERTY);
+
+        if (maxParallelServices != null)
+        {
+            try
+            {
+                return Math.max(Integer.parseInt(maxParallelServices.toString()), 1);
+            }
+            catch (NumberFormatException badValue)
+            {
+                /*
+                 * Fall through to the default.
+                 */
+            }
+        }
+
+        return ParallelDiscoveryPipelineProvider.DEFAULT_MAX_PARALLEL_SERVICES;
+    }
+
+
+    /**
+     * Return a configuration property from a connection.
+     *
+     * @param connectionProperties connection
+     * @param propertyName name of the property
+     * @return value or null
+     */
+    private static Object getConfigurationProperty(ConnectionProperties connectionProperties,
+                                                   String               propertyName)
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                return configurationProperties.get(propertyName);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the annotation types listed in a configuration property of an embedded discovery service's connection.
+     *
+     * @param discoveryService embedded discovery service
+     * @param propertyName name of the property
+     * @return set of annotation type names or null if the property is not set
+     */
+    private static Set<String> getAnnotationTypes(DiscoveryService discoveryService,
+                                                  String           propertyName)
+    {
+        Object propertyValue = getConfigurationProperty(discoveryService.getConnection(), propertyName);
+
+        if (propertyValue == null)
+        {
+            return null;
+        }
+
+        Set<String> annotationTypes = new HashSet<>();
+
+        if (propertyValue instanceof Collection)
+        {
+            for (Object annotationType : (Collection<?>) propertyValue)
+            {
+                if (annotationType != null)
+                {
+                    annotationTypes.add(annotationType.toString().trim());
+                }
+            }
+        }
+        else
+        {
+            for (String annotationType : propertyValue.toString().split(","))
+            {
+                if (! annotationType.trim().isEmpty())
+                {
+                    annotationTypes.add(annotationType.trim());
+                }
+            }
+        }
+
+        return annotationTypes;
+    }
+
+
+    /**
+     * Return whether two sets of annotation types have no types in common.
+     *
+     * @param producedTypes annotation types produced by an earlier step
+     * @param consumedTypes annotation types consumed by a later step
+     * @return boolean
+     */
+    private static boolean disjoint(Set<String> producedTypes,
+                                    Set<String> consumedTypes)
+    {
+        if ((producedTypes == null) || (consumedTypes == null))
+        {
+            return true;
+        }
+
+        for (String consumedType : consumedTypes)
+        {
+            if (producedTypes.contains(consumedType))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * PipelineStep is a node in the dependency graph of the embedded discovery services.
+     */
+    private static class PipelineStep
+    {
+        private final DiscoveryService  discoveryService;
+        private final Set<String>       consumedAnnotationTypes;
+        private final Set<String>       producedAnnotationTypes;
+        private final Set<PipelineStep> dependencies = new HashSet<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param discoveryService embedded discovery service
+         */
+        PipelineStep(DiscoveryService discoveryService)
+        {
+            this.discoveryService        = discoveryService;
+            this.consumedAnnotationTypes = getAnnotationTypes(discoveryService, ParallelDiscoveryPipelineProvider.CONSUMED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY);
+            this.producedAnnotationTypes = getAnnotationTypes(discoveryService, ParallelDiscoveryPipelineProvider.PRODUCED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY);
+        }
+
+
+        /**
+         * Return whether the discovery service has not declared the annotation types it works with and so must run on its own.
+         *
+         * @return boolean
+         */
+        boolean isBarrier()
+        {
+            return (consumedAnnotationTypes == null) && (producedAnnotationTypes == null);
+        }
+    }
+}
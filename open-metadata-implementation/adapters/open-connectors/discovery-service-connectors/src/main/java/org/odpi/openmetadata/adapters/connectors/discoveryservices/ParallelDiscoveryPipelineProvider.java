@@ -0,0 +1,59 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    /*
+     * Configuration property of the pipeline's connection that sets the maximum number of discovery services that can run at once.
+     */
+    static final String  MAX_PARALLEL_SERVICES_CONFIGURATION_PROPERTY     = "maxParallelServices";
+    static final int     DEFAULT_MAX_PARALLEL_SERVICES                    = 4;
+
+    /*
+     * Configuration properties of each embedded discovery service's connection that list the annotation types
+     * the discovery service reads and writes.  The value may be a list or a comma-separated string.
+     */
+    static final String  CONSUMED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY = "consumedAnnotationTypes";
+    static final String  PRODUCED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY = "producedAnnotationTypes";
+
+    static final String  connectorTypeGUID = "6a0c6a4e-2b1d-4f3e-9d0b-5a7e8c1f4b92";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the parallel execution of discovery services, ordered by the annotation types they consume and produce.";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(MAX_PARALLEL_SERVICES_CONFIGURATION_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -7,6 +7,8 @@ import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
 
+import java.util.Date;
+
 /**
  * SequentialDiscoveryPipeline is a discovery pipeline that provides an inline sequential invocation of the supplied discovery services.
  */
@@ -26,10 +28,13 @@ public class SequentialDiscoveryPipeline extends DiscoveryPipeline
         {
             if (embeddedDiscoveryService != null)
             {
+                Date startTime = new Date();
+
                 embeddedDiscoveryService.setDiscoveryContext(super.discoveryContext);
                 discoveryReport.setAnalysisStep(embeddedDiscoveryService.getConnectorInstanceId());
                 embeddedDiscoveryService.start();
                 embeddedDiscoveryService.disconnect();
+                discoveryReport.recordAnalysisStepTiming(embeddedDiscoveryService.getConnectorInstanceId(), startTime, new Date());
             }
         }
     }
@@ -0,0 +1,432 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ColumnProfile accumulates the profile of the values in a single column.  The exact count of each distinct value
+ * is kept until the number of distinct values passes the exact count threshold.  After that, the distinct count
+ * comes from a HyperLogLog sketch and the value counts come from a space-saving top-K sketch.  The quantiles of numeric
+ * columns come from a t-digest sketch.
+ */
+public class ColumnProfile
+{
+    /*
+     * Names of the entries in the profile counts, flags and properties of the data profile annotation.
+     */
+    public static final String VALUE_COUNT_NAME               = "valueCount";
+    public static final String EMPTY_VALUE_COUNT_NAME         = "emptyValueCount";
+    public static final String DISTINCT_VALUE_COUNT_NAME      = "distinctValueCount";
+    public static final String MINIMUM_LENGTH_NAME            = "minimumLength";
+    public static final String DISTINCT_COUNT_ESTIMATED_NAME  = "distinctValueCountEstimated";
+    public static final String VALUE_COUNTS_ESTIMATED_NAME    = "valueCountsEstimated";
+    public static final String NUMERIC_NAME                   = "numeric";
+    public static final String PERCENTILE_NAME_PREFIX         = "percentile";
+
+    private static final int[] reportedPercentiles = { 1, 25, 50, 75, 99 };
+
+    private final int                  columnPosition;
+    private final String               columnName;
+    private final int                  exactCountThreshold;
+    private final int                  topValueCount;
+
+    private Map<String, Integer>       exactValueCounts = new LinkedHashMap<>();
+    private final HyperLogLogSketch    distinctValues   = new HyperLogLogSketch();
+    private final SpaceSavingSketch    frequentValues;
+    private TDigestSketch              numericValues    = new TDigestSketch();
+
+    private long                       valueCount       = 0;
+    private long                       emptyValueCount  = 0;
+    private int                        minimumLength    = Integer.MAX_VALUE;
+    private int                        maximumLength    = 0;
+    private double                     numericTotal     = 0;
+    private String                     lowestValue      = null;
+    private String                     highestValue     = null;
+
+
+    /**
+     * Create the profile for a column.
+     *
+     * @param columnPosition position of the column in the record
+     * @param columnName name of the column
+     * @param exactCountThreshold number of distinct values that can be counted exactly
+     * @param topValueCount number of frequent values to report once the counts are estimated
+     */
+    public ColumnProfile(int    columnPosition,
+                         String columnName,
+                         int    exactCountThreshold,
+                         int    topValueCount)
+    {
+        this.columnPosition      = columnPosition;
+        this.columnName          = columnName;
+        this.exactCountThreshold = Math.max(exactCountThreshold, 0);
+        this.topValueCount       = Math.max(topValueCount, 1);
+
+        /*
+         * The extra counters reduce the overestimate of the counts for the reported values.
+         */
+        this.frequentValues      = new SpaceSavingSketch(this.topValueCount * 10);
+    }
+
+
+    /**
+     * Add the next value in the column.
+     *
+     * @param value field value - null means the record did not have a value for this column
+     */
+    public void addValue(String value)
+    {
+        if (value == null)
+        {
+            return;
+        }
+
+        valueCount ++;
+
+        if (value.isEmpty())
+        {
+            emptyValueCount ++;
+        }
+
+        minimumLength = Math.min(minimumLength, value.length());
+        maximumLength = Math.max(maximumLength, value.length());
+
+        distinctValues.add(value);
+        frequentValues.add(value);
+
+        if (exactValueCounts != null)
+        {
+            exactValueCounts.merge(value, 1, Integer::sum);
+
+            if (exactValueCounts.size() > exactCountThreshold)
+            {
+                exactValueCounts = null;
+            }
+        }
+
+        if ((lowestValue == null) || (value.compareTo(lowestValue) < 0))
+        {
+            lowestValue = value;
+        }
+
+        if ((highestValue == null) || (value.compareTo(highestValue) > 0))
+        {
+            highestValue = value;
+        }
+
+        if ((numericValues != null) && (! value.isEmpty()))
+        {
+            double numericValue = parseNumber(value);
+
+            if (Double.isNaN(numericValue))
+            {
+                /*
+                 * The column is not numeric so quantiles are not meaningful.
+                 */
+                numericValues = null;
+            }
+            else
+            {
+                numericValues.add(numericValue);
+                numericTotal += numericValue;
+            }
+        }
+    }
+
+
+    /**
+     * Add the values profiled by another profile of the same column, for example one built from a different
+     * part of the data.  The exact counts are kept only if both profiles are still exact and the combined number of
+     * distinct values is within the exact count threshold.
+     *
+     * @param other profile to merge
+     */
+    public void merge(ColumnProfile other)
+    {
+        valueCount      += other.valueCount;
+        emptyValueCount += other.emptyValueCount;
+        minimumLength    = Math.min(minimumLength, other.minimumLength);
+        maximumLength    = Math.max(maximumLength, other.maximumLength);
+
+        distinctValues.merge(other.distinctValues);
+        frequentValues.merge(other.frequentValues);
+
+        if ((exactValueCounts != null) && (other.exactValueCounts != null))
+        {
+            for (Map.Entry<String, Integer> otherValueCount : other.exactValueCounts.entrySet())
+            {
+                exactValueCounts.merge(otherValueCount.getKey(), otherValueCount.getValue(), Integer::sum);
+            }
+
+            if (exactValueCounts.size() > exactCountThreshold)
+            {
+                exactValueCounts = null;
+            }
+        }
+        else
+        {
+            exactValueCounts = null;
+        }
+
+        if ((other.lowestValue != null) && ((lowestValue == null) || (other.lowestValue.compareTo(lowestValue) < 0)))
+        {
+            lowestValue = other.lowestValue;
+        }
+
+        if ((other.highestValue != null) && ((highestValue == null) || (other.highestValue.compareTo(highestValue) > 0)))
+        {
+            highestValue = other.highestValue;
+        }
+
+        if ((numericValues != null) && (other.numericValues != null))
+        {
+            numericValues.merge(other.numericValues);
+            numericTotal += other.numericTotal;
+        }
+        else
+        {
+            numericValues = null;
+        }
+    }
+
+
+    /**
+     * Return the position of the column in the record.
+     *
+     * @return int
+     */
+    public int getColumnPosition()
+    {
+        return columnPosition;
+    }
+
+
+    /**
+     * Return the name of the column.
+     *
+     * @return name
+     */
+    public String getColumnName()
+    {
+        return columnName;
+    }
+
+
+    /**
+     * Return the number of values in the column (including empty values).
+     *
+     * @return count
+     */
+    public long getValueCount()
+    {
+        return valueCount;
+    }
+
+
+    /**
+     * Return the number of empty values in the column.
+     *
+     * @return count
+     */
+    public long getEmptyValueCount()
+    {
+        return emptyValueCount;
+    }
+
+
+    /**
+     * Return whether the distinct values are still counted exactly.
+     *
+     * @return boolean
+     */
+    public boolean isExact()
+    {
+        return exactValueCounts != null;
+    }
+
+
+    /**
+     * Return the number of distinct values.  This is exact while isExact() is true and an estimate after that.
+     *
+     * @return count
+     */
+    public long getDistinctValueCount()
+    {
+        if (exactValueCounts != null)
+        {
+            return exactValueCounts.size();
+        }
+
+        return distinctValues.getEstimate();
+    }
+
+
+    /**
+     * Return the count for each value.  While isExact() is true this includes every distinct value.  After that,
+     * it includes the most frequent values with counts that may be overestimated.
+     *
+     * @return map of value to count
+     */
+    public Map<String, Integer> getValueCounts()
+    {
+        if (exactValueCounts != null)
+        {
+            return new LinkedHashMap<>(exactValueCounts);
+        }
+
+        Map<String, Integer> valueCounts = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Long> topValue : frequentValues.getTopValues(topValueCount).entrySet())
+        {
+            valueCounts.put(topValue.getKey(), (int) Math.min(topValue.getValue(), Integer.MAX_VALUE));
+        }
+
+        return valueCounts;
+    }
+
+
+    /**
+     * Return whether every non-empty value in the column is a number.
+     *
+     * @return boolean
+     */
+    public boolean isNumeric()
+    {
+        return (numericValues != null) && (numericValues.getCount() > 0);
+    }
+
+
+    /**
+     * Return the estimated value at the requested quantile of a numeric column.
+     *
+     * @param quantile value between 0 and 1
+     * @return value or NaN if the column is not numeric
+     */
+    public double getQuantile(double quantile)
+    {
+        if (isNumeric())
+        {
+            return numericValues.getQuantile(quantile);
+        }
+
+        return Double.NaN;
+    }
+
+
+    /**
+     * Return the profile of the column as a data profile annotation.
+     *
+     * @return annotation
+     */
+    public DataProfileAnnotation getDataProfileAnnotation()
+    {
+        DataProfileAnnotation dataProfile   = new DataProfileAnnotation();
+        Map<String, Long>     profileCounts = new HashMap<>();
+        Map<String, Boolean>  profileFlags  = new HashMap<>();
+
+        dataProfile.setLength(maximumLength);
+        dataProfile.setInferredLength(maximumLength);
+
+        profileCounts.put(VALUE_COUNT_NAME, valueCount);
+        profileCounts.put(EMPTY_VALUE_COUNT_NAME, emptyValueCount);
+        profileCounts.put(DISTINCT_VALUE_COUNT_NAME, getDistinctValueCount());
+
+        if (valueCount > 0)
+        {
+            profileCounts.put(MINIMUM_LENGTH_NAME, (long) minimumLength);
+        }
+
+        profileFlags.put(DISTINCT_COUNT_ESTIMATED_NAME, ! isExact());
+        profileFlags.put(VALUE_COUNTS_ESTIMATED_NAME, ! isExact());
+        profileFlags.put(NUMERIC_NAME, isNumeric());
+
+        dataProfile.setValueCount(getValueCounts());
+
+        if (exactValueCounts != null)
+        {
+            dataProfile.setValueList(new ArrayList<>(exactValueCounts.keySet()));
+        }
+
+        if (isNumeric())
+        {
+            Map<String, String> profileProperties = new HashMap<>();
+
+            for (int percentile : reportedPercentiles)
+            {
+                profileProperties.put(PERCENTILE_NAME_PREFIX + percentile, formatNumber(numericValues.getQuantile(percentile / 100.0)));
+            }
+
+            dataProfile.setProfileProperties(profileProperties);
+            dataProfile.setValueRangeFrom(formatNumber(numericValues.getMinimum()));
+            dataProfile.setValueRangeTo(formatNumber(numericValues.getMaximum()));
+            dataProfile.setAverageValue(formatNumber(numericTotal / numericValues.getCount()));
+        }
+        else
+        {
+            dataProfile.setValueRangeFrom(lowestValue);
+            dataProfile.setValueRangeTo(highestValue);
+        }
+
+        dataProfile.setProfileCounts(profileCounts);
+        dataProfile.setProfileFlags(profileFlags);
+
+        return dataProfile;
+    }
+
+
+    /**
+     * Return the numeric value of a field.  The first character is checked before parsing to avoid the cost of an
+     * exception for values that are obviously not numbers.
+     *
+     * @param value field value
+     * @return number or NaN if the value is not a number
+     */
+    private static double parseNumber(String value)
+    {
+        char firstCharacter = value.charAt(0);
+
+        if ((! Character.isDigit(firstCharacter)) && (firstCharacter != '-') && (firstCharacter != '+') && (firstCharacter != '.'))
+        {
+            return Double.NaN;
+        }
+
+        try
+        {
+            double number = Double.parseDouble(value);
+
+            if (Double.isInfinite(number))
+            {
+                return Double.NaN;
+            }
+
+            return number;
+        }
+        catch (NumberFormatException notNumeric)
+        {
+            return Double.NaN;
+        }
+    }
+
+
+    /**
+     * Format a number without a fractional part if it is a whole number.
+     *
+     * @param number value
+     * @return string
+     */
+    private static String formatNumber(double number)
+    {
+        if ((number == Math.rint(number)) && (Math.abs(number) < Long.MAX_VALUE))
+        {
+            return Long.toString((long) number);
+        }
+
+        return Double.toString(number);
+    }
+}
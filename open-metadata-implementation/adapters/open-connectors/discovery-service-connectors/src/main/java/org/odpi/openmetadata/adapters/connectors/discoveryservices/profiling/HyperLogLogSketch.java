@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+/**
+ * HyperLogLogSketch estimates the number of distinct values added to it using a fixed number of small registers.
+ * With the default precision of 14 the sketch uses 16KB and the standard error of the estimate is under 1%.
+ */
+public class HyperLogLogSketch
+{
+    static final int DEFAULT_PRECISION = 14;
+
+    private final int    precision;
+    private final int    registerCount;
+    private final byte[] registers;
+
+
+    /**
+     * Create a sketch with the default precision.
+     */
+    public HyperLogLogSketch()
+    {
+        this(DEFAULT_PRECISION);
+    }
+
+
+    /**
+     * Create a sketch with the requested precision.  The sketch has 2^precision registers.
+     *
+     * @param precision value between 4 and 18
+     */
+    public HyperLogLogSketch(int precision)
+    {
+        this.precision     = Math.min(Math.max(precision, 4), 18);
+        this.registerCount = 1 << this.precision;
+        this.registers     = new byte[registerCount];
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(String value)
+    {
+        long hash  = hash(value);
+        int  index = (int) (hash >>> (64 - precision));
+        long rest  = (hash << precision) | (1L << (precision - 1));
+        byte rank  = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+
+        if (rank > registers[index])
+        {
+            registers[index] = rank;
+        }
+    }
+
+
+    /**
+     * Add the values summarized by another sketch to this sketch.  The result is the same as if every value had been
+     * added to this sketch.
+     *
+     * @param other sketch with the same precision
+     * @throws IllegalArgumentException the sketches have different precisions
+     */
+    public void merge(HyperLogLogSketch other)
+    {
+        if (other.precision != precision)
+        {
+            throw new IllegalArgumentException("Unable to merge a HyperLogLog sketch of precision " + other.precision +
+                                                       " into a sketch of precision " + precision);
+        }
+
+        for (int i = 0; i < registerCount; i++)
+        {
+            if (other.registers[i] > registers[i])
+            {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values added to the sketch.
+     *
+     * @return estimate
+     */
+    public long getEstimate()
+    {
+        double sum        = 0;
+        int    emptyCount = 0;
+
+        for (byte register : registers)
+        {
+            sum += 1.0 / (1L << register);
+
+            if (register == 0)
+            {
+                emptyCount ++;
+            }
+        }
+
+        double alpha    = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+
+        if ((estimate <= 2.5 * registerCount) && (emptyCount > 0))
+        {
+            /*
+             * Linear counting is more accurate for small cardinalities.
+             */
+            estimate = registerCount * Math.log((double) registerCount / emptyCount);
+        }
+
+        return Math.round(estimate);
+    }
+
+
+    /**
+     * Return a well-distributed 64-bit hash of the value (FNV-1a followed by the MurmurHash3 finalizer).
+     *
+     * @param value value to hash
+     * @return hash
+     */
+    static long hash(String value)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        if (value != null)
+        {
+            for (int i = 0; i < value.length(); i++)
+            {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
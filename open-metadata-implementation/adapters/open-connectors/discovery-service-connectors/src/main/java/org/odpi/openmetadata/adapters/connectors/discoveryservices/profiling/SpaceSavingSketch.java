@@ -0,0 +1,216 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SpaceSavingSketch tracks the most frequent values added to it using a fixed number of counters.  When a new
+ * value arrives and all of the counters are in use, the counter with the lowest count is given to the new value.
+ * Any value that occurs more often than (number of values / capacity) is guaranteed to be tracked, and
+ * each count overestimates the true count by at most the error recorded with it.
+ */
+public class SpaceSavingSketch
+{
+    private final int                  capacity;
+    private final Map<String, Counter> counters;
+
+
+    /**
+     * Create a sketch.
+     *
+     * @param capacity number of counters
+     */
+    public SpaceSavingSketch(int capacity)
+    {
+        this.capacity = Math.max(capacity, 1);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(String value)
+    {
+        Counter counter = counters.get(value);
+
+        if (counter != null)
+        {
+            counter.count ++;
+        }
+        else if (counters.size() < capacity)
+        {
+            counters.put(value, new Counter(1, 0));
+        }
+        else
+        {
+            String  minimumValue   = null;
+            Counter minimumCounter = null;
+
+            for (Map.Entry<String, Counter> entry : counters.entrySet())
+            {
+                if ((minimumCounter == null) || (entry.getValue().count < minimumCounter.count))
+                {
+                    minimumValue   = entry.getKey();
+                    minimumCounter = entry.getValue();
+                }
+            }
+
+            counters.remove(minimumValue);
+            counters.put(value, new Counter(minimumCounter.count + 1, minimumCounter.count));
+        }
+    }
+
+
+    /**
+     * Add the values summarized by another sketch to this sketch.  A value that is not tracked by one of the sketches
+     * may have occurred up to that sketch's smallest count times, so that count is added to both its count and its
+     * error.  The counters with the highest counts are kept.
+     *
+     * @param other sketch to merge
+     */
+    public void merge(SpaceSavingSketch other)
+    {
+        long                 minimumCount      = this.getMinimumCount();
+        long                 otherMinimumCount = other.getMinimumCount();
+        Map<String, Counter> mergedCounters    = new HashMap<>();
+
+        for (Map.Entry<String, Counter> entry : counters.entrySet())
+        {
+            Counter otherCounter = other.counters.get(entry.getKey());
+
+            if (otherCounter != null)
+            {
+                mergedCounters.put(entry.getKey(), new Counter(entry.getValue().count + otherCounter.count,
+                                                               entry.getValue().error + otherCounter.error));
+            }
+            else
+            {
+                mergedCounters.put(entry.getKey(), new Counter(entry.getValue().count + otherMinimumCount,
+                                                               entry.getValue().error + otherMinimumCount));
+            }
+        }
+
+        for (Map.Entry<String, Counter> entry : other.counters.entrySet())
+        {
+            if (! counters.containsKey(entry.getKey()))
+            {
+                mergedCounters.put(entry.getKey(), new Counter(entry.getValue().count + minimumCount,
+                                                               entry.getValue().error + minimumCount));
+            }
+        }
+
+        List<Map.Entry<String, Counter>> entries = new ArrayList<>(mergedCounters.entrySet());
+
+        entries.sort((first, second) -> Long.compare(second.getValue().count, first.getValue().count));
+
+        counters.clear();
+
+        for (Map.Entry<String, Counter> entry : entries.subList(0, Math.min(capacity, entries.size())))
+        {
+            counters.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+
+    /**
+     * Return the most frequent values with their (possibly overestimated) counts, most frequent first.
+     *
+     * @param maxValues maximum number of values to return
+     * @return map of value to count
+     */
+    public Map<String, Long> getTopValues(int maxValues)
+    {
+        List<Map.Entry<String, Counter>> entries = new ArrayList<>(counters.entrySet());
+
+        entries.sort((first, second) -> Long.compare(second.getValue().count, first.getValue().count));
+
+        Map<String, Long> topValues = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Counter> entry : entries)
+        {
+            if (topValues.size() == maxValues)
+            {
+                break;
+            }
+
+            topValues.put(entry.getKey(), entry.getValue().count);
+        }
+
+        return topValues;
+    }
+
+
+    /**
+     * Return the maximum amount that the count for a tracked value may be overestimated by.
+     *
+     * @param value tracked value
+     * @return error or 0 if the value is not tracked
+     */
+    public long getError(String value)
+    {
+        Counter counter = counters.get(value);
+
+        if (counter == null)
+        {
+            return 0;
+        }
+
+        return counter.error;
+    }
+
+
+    /**
+     * Return the smallest count of a tracked value when every counter is in use.  This is the most times that a
+     * value that is not tracked can have occurred.
+     *
+     * @return count or 0 if there are unused counters
+     */
+    private long getMinimumCount()
+    {
+        if (counters.size() < capacity)
+        {
+            return 0;
+        }
+
+        long minimumCount = Long.MAX_VALUE;
+
+        for (Counter counter : counters.values())
+        {
+            minimumCount = Math.min(minimumCount, counter.count);
+        }
+
+        return minimumCount;
+    }
+
+
+    /**
+     * Counter for a tracked value.
+     */
+    private static class Counter
+    {
+        long count;
+        long error;
+
+
+        /**
+         * Constructor
+         *
+         * @param count initial count
+         * @param error maximum overestimate
+         */
+        Counter(long count,
+                long error)
+        {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
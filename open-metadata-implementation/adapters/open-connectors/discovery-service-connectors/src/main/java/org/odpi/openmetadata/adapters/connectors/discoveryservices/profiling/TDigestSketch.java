@@ -0,0 +1,357 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.Arrays;
+
+/**
+ * TDigestSketch estimates the quantiles of the numeric values added to it.  It is a merging t-digest: values are
+ * buffered and periodically merged into a list of weighted centroids.  The centroids are small near the
+ * extremes and larger in the middle of the distribution so that tail quantiles are accurate.  The number of
+ * centroids is bounded by the compression.
+ */
+public class TDigestSketch
+{
+    static final double DEFAULT_COMPRESSION = 100;
+
+    private final double   compression;
+    private final double[] bufferedValues;
+    private int            bufferedCount  = 0;
+
+    private double[]       centroidMeans;
+    private double[]       centroidWeights;
+    private int            centroidCount  = 0;
+    private double         totalWeight    = 0;
+
+    private double         minimum        = Double.NaN;
+    private double         maximum        = Double.NaN;
+
+
+    /**
+     * Create a sketch with the default compression.
+     */
+    public TDigestSketch()
+    {
+        this(DEFAULT_COMPRESSION);
+    }
+
+
+    /**
+     * Create a sketch with the requested compression.  Higher values give more accurate quantiles and use more memory.
+     *
+     * @param compression value of 10 or more
+     */
+    public TDigestSketch(double compression)
+    {
+        this.compression     = Math.max(compression, 10);
+        this.bufferedValues  = new double[(int) (this.compression * 5)];
+        this.centroidMeans   = new double[(int) (this.compression * 2) + 10];
+        this.centroidWeights = new double[centroidMeans.length];
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(double value)
+    {
+        if (Double.isNaN(value))
+        {
+            return;
+        }
+
+        if ((Double.isNaN(minimum)) || (value < minimum))
+        {
+            minimum = value;
+        }
+
+        if ((Double.isNaN(maximum)) || (value > maximum))
+        {
+            maximum = value;
+        }
+
+        bufferedValues[bufferedCount ++] = value;
+
+        if (bufferedCount == bufferedValues.length)
+        {
+            flush();
+        }
+    }
+
+
+    /**
+     * Add the values summarized by another sketch to this sketch.  The centroids of the other sketch are merged with
+     * the centroids of this sketch in the same way as buffered values.
+     *
+     * @param other sketch to merge
+     */
+    public void merge(TDigestSketch other)
+    {
+        other.flush();
+        this.flush();
+
+        if (other.centroidCount > 0)
+        {
+            mergeCentroids(Arrays.copyOf(other.centroidMeans, other.centroidCount),
+                           Arrays.copyOf(other.centroidWeights, other.centroidCount),
+                           other.centroidCount);
+
+            if ((Double.isNaN(minimum)) || (other.minimum < minimum))
+            {
+                minimum = other.minimum;
+            }
+
+            if ((Double.isNaN(maximum)) || (other.maximum > maximum))
+            {
+                maximum = other.maximum;
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of values added to the sketch.
+     *
+     * @return count
+     */
+    public long getCount()
+    {
+        return Math.round(totalWeight) + bufferedCount;
+    }
+
+
+    /**
+     * Return the estimated value at the requested quantile.
+     *
+     * @param quantile value between 0 and 1
+     * @return estimated value or NaN if no values have been added
+     */
+    public double getQuantile(double quantile)
+    {
+        flush();
+
+        if (centroidCount == 0)
+        {
+            return Double.NaN;
+        }
+
+        if (centroidCount == 1)
+        {
+            return centroidMeans[0];
+        }
+
+        double index = Math.min(Math.max(quantile, 0), 1) * totalWeight;
+
+        /*
+         * Each centroid's mean is placed at the middle of its weight.  Values between the extremes and the first or
+         * last centroid are interpolated from the minimum and maximum.
+         */
+        double previousPosition = 0;
+        double previousMean     = minimum;
+        double cumulativeWeight = 0;
+
+        for (int i = 0; i < centroidCount; i++)
+        {
+            double position = cumulativeWeight + centroidWeights[i] / 2;
+
+            if (index <= position)
+            {
+                return interpolate(index, previousPosition, previousMean, position, centroidMeans[i]);
+            }
+
+            previousPosition = position;
+            previousMean     = centroidMeans[i];
+            cumulativeWeight += centroidWeights[i];
+        }
+
+        return interpolate(index, previousPosition, previousMean, totalWeight, maximum);
+    }
+
+
+    /**
+     * Return the smallest value added to the sketch.
+     *
+     * @return value or NaN if no values have been added
+     */
+    public double getMinimum()
+    {
+        return minimum;
+    }
+
+
+    /**
+     * Return the largest value added to the sketch.
+     *
+     * @return value or NaN if no values have been added
+     */
+    public double getMaximum()
+    {
+        return maximum;
+    }
+
+
+    /**
+     * Linear interpolation between two points.
+     *
+     * @param x position to interpolate
+     * @param x0 first position
+     * @param y0 first value
+     * @param x1 second position
+     * @param y1 second value
+     * @return interpolated value
+     */
+    private static double interpolate(double x, double x0, double y0, double x1, double y1)
+    {
+        if (x1 <= x0)
+        {
+            return y1;
+        }
+
+        return y0 + (y1 - y0) * (x - x0) / (x1 - x0);
+    }
+
+
+    /**
+     * Return the scale function value for a quantile.  This is the k1 scale function that limits the size of the
+     * centroids near the tails of the distribution.
+     *
+     * @param quantile value between 0 and 1
+     * @return scale value
+     */
+    private double scale(double quantile)
+    {
+        return compression / (2 * Math.PI) * Math.asin(2 * quantile - 1);
+    }
+
+
+    /**
+     * Return the quantile for a scale function value.
+     *
+     * @param scale scale value
+     * @return quantile
+     */
+    private double inverseScale(double scale)
+    {
+        return (Math.sin(Math.min(Math.max(scale * 2 * Math.PI / compression, -Math.PI / 2), Math.PI / 2)) + 1) / 2;
+    }
+
+
+    /**
+     * Merge the buffered values into the centroids.
+     */
+    private void flush()
+    {
+        if (bufferedCount == 0)
+        {
+            return;
+        }
+
+        /*
+         * The centroids are already in order so only the buffered values need sorting before the two lists are merged.
+         */
+        Arrays.sort(bufferedValues, 0, bufferedCount);
+
+        double[] bufferedWeights = new double[bufferedCount];
+
+        Arrays.fill(bufferedWeights, 1.0);
+
+        mergeCentroids(bufferedValues, bufferedWeights, bufferedCount);
+
+        bufferedCount = 0;
+    }
+
+
+    /**
+     * Merge a sorted list of weighted points into the centroids.
+     *
+     * @param newMeans means of the points in ascending order
+     * @param newWeights weights of the points
+     * @param newCount number of points to merge
+     */
+    private void mergeCentroids(double[] newMeans,
+                                double[] newWeights,
+                                int      newCount)
+    {
+        int      pointCount     = centroidCount + newCount;
+        double[] means          = new double[pointCount];
+        double[] weights        = new double[pointCount];
+        int      centroidIndex  = 0;
+        int      newIndex       = 0;
+        double   newTotalWeight = totalWeight;
+
+        for (int i = 0; i < pointCount; i++)
+        {
+            if ((newIndex == newCount) ||
+                ((centroidIndex < centroidCount) && (centroidMeans[centroidIndex] <= newMeans[newIndex])))
+            {
+                means[i]   = centroidMeans[centroidIndex];
+                weights[i] = centroidWeights[centroidIndex];
+                centroidIndex ++;
+            }
+            else
+            {
+                means[i]   = newMeans[newIndex];
+                weights[i] = newWeights[newIndex];
+                newTotalWeight += newWeights[newIndex];
+                newIndex ++;
+            }
+        }
+
+        int    mergedCount    = 0;
+        double weightSoFar    = 0;
+        double weightLimit    = newTotalWeight * inverseScale(scale(0) + 1);
+
+        double currentMean    = means[0];
+        double currentWeight  = weights[0];
+
+        for (int i = 1; i < pointCount; i++)
+        {
+            double mean   = means[i];
+            double weight = weights[i];
+
+            if (weightSoFar + currentWeight + weight <= weightLimit)
+            {
+                currentWeight += weight;
+                currentMean   += (mean - currentMean) * weight / currentWeight;
+            }
+            else
+            {
+                mergedCount = addCentroid(mergedCount, currentMean, currentWeight);
+
+                weightSoFar += currentWeight;
+                weightLimit  = newTotalWeight * inverseScale(scale(weightSoFar / newTotalWeight) + 1);
+
+                currentMean   = mean;
+                currentWeight = weight;
+            }
+        }
+
+        centroidCount = addCentroid(mergedCount, currentMean, currentWeight);
+        totalWeight   = newTotalWeight;
+    }
+
+
+    /**
+     * Store a merged centroid, growing the centroid arrays if needed.
+     *
+     * @param index position of the centroid
+     * @param mean mean of the centroid
+     * @param weight weight of the centroid
+     * @return next position
+     */
+    private int addCentroid(int index, double mean, double weight)
+    {
+        if (index == centroidMeans.length)
+        {
+            centroidMeans   = Arrays.copyOf(centroidMeans, index * 2);
+            centroidWeights = Arrays.copyOf(centroidWeights, index * 2);
+        }
+
+        centroidMeans[index]   = mean;
+        centroidWeights[index] = weight;
+
+        return index + 1;
+    }
+}
@@ -0,0 +1,152 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TabularDataProfiler profiles the columns of tabular data in a single pass.  The discovery service passes each
+ * record to profileRecord as it reads the data and then retrieves a ColumnProfile for each column.
+ * The memory used for each column is bounded by the exact count threshold and the number of frequent values tracked,
+ * not by the number of records.  A column without a name keeps its position in the record but is not profiled.
+ */
+public class TabularDataProfiler
+{
+    /*
+     * Configuration properties that a tabular discovery service can use to tune the profiler.
+     */
+    public static final String EXACT_COUNT_THRESHOLD_CONFIGURATION_PROPERTY = "exactCountThreshold";
+    public static final String TOP_VALUE_COUNT_CONFIGURATION_PROPERTY       = "topValueCount";
+
+    public static final int    DEFAULT_EXACT_COUNT_THRESHOLD = 1000;
+    public static final int    DEFAULT_TOP_VALUE_COUNT       = 20;
+
+    private final List<ColumnProfile> columnSlots = new ArrayList<>();
+    private long                      recordCount = 0;
+
+
+    /**
+     * Create a profiler with the default settings.
+     *
+     * @param columnNames names of the columns in the order they appear in the records
+     */
+    public TabularDataProfiler(List<String> columnNames)
+    {
+        this(columnNames, DEFAULT_EXACT_COUNT_THRESHOLD, DEFAULT_TOP_VALUE_COUNT);
+    }
+
+
+    /**
+     * Create a profiler.
+     *
+     * @param columnNames names of the columns in the order they appear in the records - a null name skips the column
+     * @param exactCountThreshold number of distinct values in a column that can be counted exactly
+     * @param topValueCount number of frequent values to report once a column's counts are estimated
+     */
+    public TabularDataProfiler(List<String> columnNames,
+                               int          exactCountThreshold,
+                               int          topValueCount)
+    {
+        if (columnNames != null)
+        {
+            int position = 0;
+
+            for (String columnName : columnNames)
+            {
+                /*
+                 * The slot is kept for an unnamed column so that the values of the later columns
+                 * are profiled against the right column.
+                 */
+                if (columnName != null)
+                {
+                    columnSlots.add(new ColumnProfile(position, columnName, exactCountThreshold, topValueCount));
+                }
+                else
+                {
+                    columnSlots.add(null);
+                }
+
+                position++;
+            }
+        }
+    }
+
+
+    /**
+     * Profile the next record.  Values beyond the last named column are ignored.
+     *
+     * @param recordValues list of field values in column order - null or empty for a blank record
+     */
+    public void profileRecord(List<String> recordValues)
+    {
+        if ((recordValues == null) || (recordValues.isEmpty()))
+        {
+            return;
+        }
+
+        recordCount ++;
+
+        int columnCount = Math.min(recordValues.size(), columnSlots.size());
+
+        for (int columnPosition = 0; columnPosition < columnCount; columnPosition++)
+        {
+            ColumnProfile columnProfile = columnSlots.get(columnPosition);
+
+            if (columnProfile != null)
+            {
+                columnProfile.addValue(recordValues.get(columnPosition));
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of non-blank records profiled.
+     *
+     * @return count
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Return the profiles of the named columns in column order.  Each profile records the position of its column
+     * in the record.
+     *
+     * @return list of column profiles
+     */
+    public List<ColumnProfile> getColumnProfiles()
+    {
+        List<ColumnProfile> columnProfiles = new ArrayList<>();
+
+        for (ColumnProfile columnProfile : columnSlots)
+        {
+            if (columnProfile != null)
+            {
+                columnProfiles.add(columnProfile);
+            }
+        }
+
+        return columnProfiles;
+    }
+
+
+    /**
+     * Return the profile of the column at a position in the record.
+     *
+     * @param columnPosition position of the column
+     * @return column profile or null if the column has no name or the position is out of range
+     */
+    public ColumnProfile getColumnProfile(int columnPosition)
+    {
+        if ((columnPosition >= 0) && (columnPosition < columnSlots.size()))
+        {
+            return columnSlots.get(columnPosition);
+        }
+
+        return null;
+    }
+}
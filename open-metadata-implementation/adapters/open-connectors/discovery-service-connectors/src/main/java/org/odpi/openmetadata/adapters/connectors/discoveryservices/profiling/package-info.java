@@ -0,0 +1,9 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * Streaming profiling engine for tabular data.  The engine makes a single pass over the records and keeps a
+ * fixed-size summary (sketch) of each column so the memory needed does not grow with the size of the data.
+ * Exact results are kept while the number of distinct values in a column is small.
+ */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
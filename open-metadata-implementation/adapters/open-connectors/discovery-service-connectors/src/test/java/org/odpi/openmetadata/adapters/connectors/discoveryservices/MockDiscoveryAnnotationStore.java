@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnalysisReportStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * MockDiscoveryAnnotationStore keeps the annotations added to the discovery report in memory.  Like the real annotation
+ * store, it sets the analysis step of each new annotation from the discovery report.  The other requests are not used
+ * by the tests and return nothing.
+ */
+public class MockDiscoveryAnnotationStore extends DiscoveryAnnotationStore
+{
+    private final List<Annotation> newAnnotations = new ArrayList<>();
+
+
+    /**
+     * Constructor
+     */
+    public MockDiscoveryAnnotationStore()
+    {
+        super("testUser", "testAssetGUID", new DiscoveryAnalysisReportStore()
+        {
+        });
+    }
+
+
+    /**
+     * Return a copy of the annotations added to the discovery report.
+     *
+     * @return list of annotations
+     */
+    public synchronized List<Annotation> getAddedAnnotations()
+    {
+        return new ArrayList<>(newAnnotations);
+    }
+
+
+    @Override
+    public List<String> getTypesOfAnnotation()
+    {
+        return null;
+    }
+
+
+    @Override
+    public Map<String, String> getTypesOfAnnotationWithDescriptions()
+    {
+        return null;
+    }
+
+
+    @Override
+    public List<Annotation> getPreviousAnnotationsForAsset(int startingFrom,
+                                                           int maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public List<Annotation> getPreviousAnnotationsForAsset(AnnotationStatus status,
+                                                           int              startingFrom,
+                                                           int              maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public synchronized List<Annotation> getNewAnnotationsForAsset(int startingFrom,
+                                                                   int maximumResults)
+    {
+        return new ArrayList<>(newAnnotations);
+    }
+
+
+    @Override
+    public List<Annotation> getExtendedAnnotations(String annotationGUID,
+                                                   int    startingFrom,
+                                                   int    maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public Annotation getAnnotation(String annotationGUID)
+    {
+        return null;
+    }
+
+
+    @Override
+    public synchronized String addAnnotationToDiscoveryReport(Annotation annotation)
+    {
+        annotation.setAnalysisStep(discoveryReport.getAnalysisStep());
+        newAnnotations.add(annotation);
+
+        return UUID.randomUUID().toString();
+    }
+
+
+    @Override
+    public String addAnnotationToAnnotation(String     parentAnnotationGUID,
+                                            Annotation annotation)
+    {
+        return null;
+    }
+
+
+    @Override
+    public void updateAnnotation(Annotation annotation)
+    {
+    }
+
+
+    @Override
+    public void deleteAnnotation(String annotationGUID)
+    {
+    }
+
+
+    @Override
+    public List<DataField> getPreviousDataFieldsForAsset(int startingFrom,
+                                                         int maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public List<DataField> getNewDataFieldsForAsset(int startingFrom,
+                                                    int maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public List<DataField> getNestedDataFields(String parentDataFieldGUID,
+                                               int    startingFrom,
+                                               int    maximumResults)
+    {
+        return null;
+    }
+
+
+    @Override
+    public DataField getDataField(String dataFieldGUID)
+    {
+        return null;
+    }
+
+
+    @Override
+    public String addDataFieldToDiscoveryReport(String    annotationGUID,
+                                                DataField dataField)
+    {
+        return null;
+    }
+
+
+    @Override
+    public String addDataFieldToDataField(String    parentDataFieldGUID,
+                                          DataField dataField)
+    {
+        return null;
+    }
+
+
+    @Override
+    public String addAnnotationToDataField(String     parentDataFieldGUID,
+                                           Annotation annotation)
+    {
+        return null;
+    }
+
+
+    @Override
+    public void updateDataField(DataField dataField)
+    {
+    }
+
+
+    @Override
+    public void deleteDataField(String dataFieldGUID)
+    {
+    }
+}
@@ -0,0 +1,392 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that ParallelDiscoveryPipeline runs its discovery services in the order set by their annotation types,
+ * combines their annotations in the shared annotation store, stops on the first failure and always shuts down
+ * its worker threads.
+ */
+public class ParallelDiscoveryPipelineTest
+{
+    private static final long waitSeconds = 10L;
+
+    /*
+     * Events recorded by the discovery services in the order they happen.
+     */
+    private final List<String>  events        = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Thread>   workerThreads = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * ServiceAction is the work done by a mock discovery service between recording its start and end.
+     */
+    private interface ServiceAction
+    {
+        void run() throws Exception;
+    }
+
+
+    /**
+     * MockDiscoveryService records when it starts and ends and adds an annotation named after itself.
+     */
+    private class MockDiscoveryService extends DiscoveryService
+    {
+        private final String        serviceName;
+        private final ServiceAction action;
+
+
+        /**
+         * Constructor
+         *
+         * @param serviceName name of the service - also used as its connector instance id and annotation type
+         * @param consumedAnnotationTypes value of the consumedAnnotationTypes property or null
+         * @param producedAnnotationTypes value of the producedAnnotationTypes property or null
+         * @param action work to do
+         */
+        MockDiscoveryService(String        serviceName,
+                             Object        consumedAnnotationTypes,
+                             Object        producedAnnotationTypes,
+                             ServiceAction action)
+        {
+            this.serviceName = serviceName;
+            this.action      = action;
+
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            if (consumedAnnotationTypes != null)
+            {
+                configurationProperties.put(ParallelDiscoveryPipelineProvider.CONSUMED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY, consumedAnnotationTypes);
+            }
+            if (producedAnnotationTypes != null)
+            {
+                configurationProperties.put(ParallelDiscoveryPipelineProvider.PRODUCED_ANNOTATION_TYPES_CONFIGURATION_PROPERTY, producedAnnotationTypes);
+            }
+
+            Connection connection = new Connection();
+
+            connection.setConfigurationProperties(configurationProperties);
+
+            super.initialize(serviceName, new ConnectionProperties(connection));
+        }
+
+
+        /**
+         * Record the run of the discovery service.
+         *
+         * @throws ConnectorCheckedException failure from the action
+         */
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            super.start();
+
+            events.add("start:" + serviceName);
+            workerThreads.add(Thread.currentThread());
+
+            try
+            {
+                if (action != null)
+                {
+                    action.run();
+                }
+
+                Annotation annotation = new Annotation();
+
+                annotation.setAnnotationType(serviceName);
+                discoveryContext.getAnnotationStore().addAnnotationToDiscoveryReport(annotation);
+            }
+            catch (ConnectorCheckedException | RuntimeException error)
+            {
+                throw error;
+            }
+            catch (InterruptedException interrupted)
+            {
+                events.add("interrupted:" + serviceName);
+                Thread.currentThread().interrupt();
+            }
+            catch (Exception error)
+            {
+                throw new IllegalStateException(error);
+            }
+            finally
+            {
+                events.add("end:" + serviceName);
+            }
+        }
+    }
+
+
+    /**
+     * Clear the results of the previous test.
+     */
+    @BeforeMethod
+    public void clearEvents()
+    {
+        events.clear();
+        workerThreads.clear();
+    }
+
+
+    /**
+     * Create a pipeline for the discovery services.
+     *
+     * @param annotationStore annotation store for the discovery context
+     * @param maxParallelServices value for the maxParallelServices property
+     * @param discoveryServices embedded discovery services
+     * @return pipeline ready to start
+     */
+    private ParallelDiscoveryPipeline getPipeline(MockDiscoveryAnnotationStore annotationStore,
+                                                  int                          maxParallelServices,
+                                                  DiscoveryService...          discoveryServices)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(ParallelDiscoveryPipelineProvider.MAX_PARALLEL_SERVICES_CONFIGURATION_PROPERTY, maxParallelServices);
+
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(configurationProperties);
+
+        ParallelDiscoveryPipeline pipeline = new ParallelDiscoveryPipeline();
+
+        pipeline.initialize("TestPipeline", new ConnectionProperties(connection));
+        pipeline.initializeEmbeddedConnectors(new ArrayList<Connector>(Arrays.asList(discoveryServices)));
+        pipeline.setDiscoveryContext(new DiscoveryContext("testUser",
+                                                          "testAssetGUID",
+                                                          null,
+                                                          null,
+                                                          null,
+                                                          annotationStore,
+                                                          null));
+        return pipeline;
+    }
+
+
+    /**
+     * Wait for a latch, failing the discovery service if it is not released in time.
+     *
+     * @param latch latch to wait for
+     * @throws InterruptedException interrupted while waiting
+     */
+    private static void await(CountDownLatch latch) throws InterruptedException
+    {
+        if (! latch.await(waitSeconds, TimeUnit.SECONDS))
+        {
+            throw new IllegalStateException("Timed out waiting for another discovery service");
+        }
+    }
+
+
+    /**
+     * Check that the worker threads used by the pipeline have terminated.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void assertWorkersTerminated() throws InterruptedException
+    {
+        assertFalse(workerThreads.isEmpty());
+
+        for (Thread workerThread : workerThreads)
+        {
+            workerThread.join(TimeUnit.SECONDS.toMillis(waitSeconds));
+
+            assertFalse(workerThread.isAlive(), workerThread.getName());
+        }
+    }
+
+
+    @Test
+    public void testDependencyOrder() throws Exception
+    {
+        MockDiscoveryAnnotationStore annotationStore = new MockDiscoveryAnnotationStore();
+        CountDownLatch               columnsStarted  = new CountDownLatch(1);
+
+        /*
+         * Schema and Columns are independent so Schema only completes if Columns runs at the same time.
+         * Quality consumes both their annotation types.  Summary declares nothing so it runs on its own and Lineage,
+         * although it is independent of the others, runs after it.
+         */
+        ParallelDiscoveryPipeline pipeline = getPipeline(annotationStore,
+                                                         4,
+                                                         new MockDiscoveryService("Schema", "", "Schema", () -> await(columnsStarted)),
+                                                         new MockDiscoveryService("Columns", "", "Columns", columnsStarted::countDown),
+                                                         new MockDiscoveryService("Quality", Arrays.asList("Schema", "Columns"), "Quality", null),
+                                                         new MockDiscoveryService("Summary", null, null, null),
+                                                         new MockDiscoveryService("Lineage", "Other", "Lineage", null));
+
+        pipeline.start();
+
+        assertTrue(events.indexOf("start:Quality") > events.indexOf("end:Schema"), events.toString());
+        assertTrue(events.indexOf("start:Quality") > events.indexOf("end:Columns"), events.toString());
+        assertTrue(events.indexOf("start:Summary") > events.indexOf("end:Quality"), events.toString());
+        assertTrue(events.indexOf("start:Lineage") > events.indexOf("end:Summary"), events.toString());
+
+        /*
+         * Every annotation reaches the shared store tagged with the analysis step of the service that created it.
+         */
+        List<Annotation> annotations = annotationStore.getAddedAnnotations();
+
+        assertEquals(annotations.size(), 5);
+
+        for (Annotation annotation : annotations)
+        {
+            assertEquals(annotation.getAnalysisStep(), annotation.getAnnotationType());
+        }
+
+        assertEquals(annotationStore.getDiscoveryReport().getAnalysisStepTimings().keySet(),
+                     new HashSet<>(Arrays.asList("Schema", "Columns", "Quality", "Summary", "Lineage")));
+        assertEquals(annotationStore.getDiscoveryReport().getAnalysisStep(), null);
+
+        assertWorkersTerminated();
+    }
+
+
+    @Test
+    public void testSequentialWithoutDeclarations() throws Exception
+    {
+        MockDiscoveryAnnotationStore annotationStore = new MockDiscoveryAnnotationStore();
+
+        ParallelDiscoveryPipeline pipeline = getPipeline(annotationStore,
+                                                         4,
+                                                         new MockDiscoveryService("First", null, null, null),
+                                                         new MockDiscoveryService("Second", null, null, null),
+                                                         new MockDiscoveryService("Third", null, null, null));
+
+        pipeline.start();
+
+        assertEquals(events, Arrays.asList("start:First", "end:First", "start:Second", "end:Second", "start:Third", "end:Third"));
+        assertEquals(annotationStore.getAddedAnnotations().size(), 3);
+
+        assertWorkersTerminated();
+    }
+
+
+    @Test
+    public void testFailure() throws Exception
+    {
+        MockDiscoveryAnnotationStore annotationStore = new MockDiscoveryAnnotationStore();
+        CountDownLatch               slowStarted     = new CountDownLatch(1);
+        CountDownLatch               failureThrown   = new CountDownLatch(1);
+        RuntimeException             failure         = new IllegalArgumentException("Bad data");
+
+        /*
+         * Broken fails while Slow is running.  Slow is allowed to complete but Dependent, which consumes the annotations
+         * from Broken, and Later, which runs after the other services, never start.
+         */
+        ParallelDiscoveryPipeline pipeline = getPipeline(annotationStore,
+                                                         4,
+                                                         new MockDiscoveryService("Broken", "", "Broken", () ->
+                                                         {
+                                                             await(slowStarted);
+                                                             failureThrown.countDown();
+                                                             throw failure;
+                                                         }),
+                                                         new MockDiscoveryService("Slow", "", "Slow", () ->
+                                                         {
+                                                             slowStarted.countDown();
+                                                             await(failureThrown);
+                                                             Thread.sleep(200);
+                                                         }),
+                                                         new MockDiscoveryService("Dependent", "Broken", "Dependent", null),
+                                                         new MockDiscoveryService("Later", null, null, null));
+
+        try
+        {
+            pipeline.start();
+            fail("Pipeline did not report the failure");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("OMAG-DISCOVERY-SERVICE-500-003"), error.getReportedErrorMessageId());
+            assertEquals(error.getReportedCaughtException(), failure);
+        }
+
+        assertTrue(events.contains("end:Slow"), events.toString());
+        assertFalse(events.contains("start:Dependent"), events.toString());
+        assertFalse(events.contains("start:Later"), events.toString());
+        assertEquals(annotationStore.getAddedAnnotations().size(), 1);
+
+        assertWorkersTerminated();
+    }
+
+
+    @Test
+    public void testInterrupted() throws Exception
+    {
+        MockDiscoveryAnnotationStore annotationStore = new MockDiscoveryAnnotationStore();
+        CountDownLatch               blockedStarted  = new CountDownLatch(1);
+        CountDownLatch               neverReleased   = new CountDownLatch(1);
+        AtomicReference<Exception>   pipelineError   = new AtomicReference<>();
+
+        ParallelDiscoveryPipeline pipeline = getPipeline(annotationStore,
+                                                         2,
+                                                         new MockDiscoveryService("Blocked", "", "Blocked", () ->
+                                                         {
+                                                             blockedStarted.countDown();
+                                                             neverReleased.await();
+                                                         }),
+                                                         new MockDiscoveryService("Dependent", "Blocked", "Dependent", null));
+
+        Thread pipelineThread = new Thread(() ->
+        {
+            try
+            {
+                pipeline.start();
+            }
+            catch (Exception error)
+            {
+                pipelineError.set(error);
+            }
+        });
+
+        pipelineThread.start();
+
+        assertTrue(blockedStarted.await(waitSeconds, TimeUnit.SECONDS));
+
+        /*
+         * Interrupting the pipeline, as happens when the discovery engine shuts down, stops the running services.
+         */
+        pipelineThread.interrupt();
+        pipelineThread.join(TimeUnit.SECONDS.toMillis(waitSeconds));
+
+        assertFalse(pipelineThread.isAlive());
+        assertNotNull(pipelineError.get());
+        assertTrue(pipelineError.get() instanceof ConnectorCheckedException);
+        assertTrue(((ConnectorCheckedException) pipelineError.get()).getReportedErrorMessageId().startsWith("OMAG-DISCOVERY-SERVICE-500-004"));
+
+        assertWorkersTerminated();
+
+        assertTrue(events.contains("interrupted:Blocked"), events.toString());
+        assertFalse(events.contains("start:Dependent"), events.toString());
+    }
+}
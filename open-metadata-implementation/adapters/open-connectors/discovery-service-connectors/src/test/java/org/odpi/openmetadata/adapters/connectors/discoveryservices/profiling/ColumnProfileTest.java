@@ -0,0 +1,178 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that ColumnProfile counts exactly below its threshold, estimates above it, and merges profiles of
+ * different parts of the same column.
+ */
+public class ColumnProfileTest
+{
+    @Test
+    public void testExactProfile()
+    {
+        ColumnProfile profile = new ColumnProfile(0, "name", 10, 5);
+
+        profile.addValue("banana");
+        profile.addValue("apple");
+        profile.addValue("banana");
+        profile.addValue("");
+        profile.addValue(null);
+
+        assertTrue(profile.isExact());
+        assertFalse(profile.isNumeric());
+        assertEquals(profile.getValueCount(), 4L);
+        assertEquals(profile.getEmptyValueCount(), 1L);
+        assertEquals(profile.getDistinctValueCount(), 3L);
+        assertEquals(profile.getValueCounts().get("banana"), Integer.valueOf(2));
+
+        DataProfileAnnotation annotation = profile.getDataProfileAnnotation();
+
+        assertEquals(annotation.getLength(), 6);
+        assertEquals(annotation.getValueRangeFrom(), "");
+        assertEquals(annotation.getValueRangeTo(), "banana");
+        assertEquals(annotation.getValueList().size(), 3);
+        assertEquals(annotation.getProfileCounts().get(ColumnProfile.MINIMUM_LENGTH_NAME), Long.valueOf(0));
+        assertEquals(annotation.getProfileFlags().get(ColumnProfile.DISTINCT_COUNT_ESTIMATED_NAME), Boolean.FALSE);
+    }
+
+
+    @Test
+    public void testEstimatedProfile()
+    {
+        ColumnProfile profile = new ColumnProfile(1, "amount", 100, 5);
+        Random        random  = new Random(42);
+
+        /*
+         * 10000 distinct amounts between 0 and 100, with 0 occurring far more often than any other value.
+         */
+        for (int i = 0; i < 20000; i++)
+        {
+            if (i % 2 == 0)
+            {
+                profile.addValue("0");
+            }
+            else
+            {
+                profile.addValue(Double.toString(random.nextDouble() * 100));
+            }
+        }
+
+        assertFalse(profile.isExact());
+        assertTrue(profile.isNumeric());
+        assertEquals(profile.getValueCount(), 20000L);
+        assertEquals(profile.getDistinctValueCount(), 10001L, 300);
+        assertEquals(profile.getValueCounts().size(), 5);
+        assertEquals(profile.getValueCounts().keySet().iterator().next(), "0");
+        assertEquals(profile.getQuantile(0.25), 0.0, 0.001);
+        assertEquals(profile.getQuantile(0.75), 50.0, 2.0);
+
+        DataProfileAnnotation annotation = profile.getDataProfileAnnotation();
+
+        assertNull(annotation.getValueList());
+        assertEquals(annotation.getValueRangeFrom(), "0");
+        assertEquals(annotation.getProfileFlags().get(ColumnProfile.DISTINCT_COUNT_ESTIMATED_NAME), Boolean.TRUE);
+        assertEquals(annotation.getProfileFlags().get(ColumnProfile.NUMERIC_NAME), Boolean.TRUE);
+        assertEquals(Double.parseDouble(annotation.getProfileProperties().get(ColumnProfile.PERCENTILE_NAME_PREFIX + 75)), 50.0, 2.0);
+    }
+
+
+    @Test
+    public void testMergeExact()
+    {
+        ColumnProfile firstProfile  = new ColumnProfile(0, "count", 10, 5);
+        ColumnProfile secondProfile = new ColumnProfile(0, "count", 10, 5);
+
+        firstProfile.addValue("1");
+        firstProfile.addValue("2");
+        secondProfile.addValue("2");
+        secondProfile.addValue("30");
+        secondProfile.addValue("");
+
+        firstProfile.merge(secondProfile);
+
+        assertTrue(firstProfile.isExact());
+        assertTrue(firstProfile.isNumeric());
+        assertEquals(firstProfile.getValueCount(), 5L);
+        assertEquals(firstProfile.getEmptyValueCount(), 1L);
+        assertEquals(firstProfile.getDistinctValueCount(), 4L);
+        assertEquals(firstProfile.getValueCounts().get("2"), Integer.valueOf(2));
+
+        DataProfileAnnotation annotation = firstProfile.getDataProfileAnnotation();
+
+        assertEquals(annotation.getValueRangeFrom(), "1");
+        assertEquals(annotation.getValueRangeTo(), "30");
+        assertEquals(annotation.getAverageValue(), "8.75");
+        assertEquals(annotation.getLength(), 2);
+    }
+
+
+    @Test
+    public void testMergeEstimated()
+    {
+        ColumnProfile firstProfile    = new ColumnProfile(0, "code", 1000, 5);
+        ColumnProfile secondProfile   = new ColumnProfile(0, "code", 1000, 5);
+        ColumnProfile combinedProfile = new ColumnProfile(0, "code", 1000, 5);
+        Random        random          = new Random(7);
+
+        /*
+         * Each part has fewer than 1000 distinct values but together they have more.
+         */
+        for (int i = 0; i < 5000; i++)
+        {
+            String value = "code" + random.nextInt(800);
+
+            firstProfile.addValue(value);
+            combinedProfile.addValue(value);
+        }
+
+        for (int i = 0; i < 5000; i++)
+        {
+            String value = "code" + (400 + random.nextInt(800));
+
+            secondProfile.addValue(value);
+            combinedProfile.addValue(value);
+        }
+
+        secondProfile.addValue("text");
+        combinedProfile.addValue("text");
+
+        assertTrue(firstProfile.isExact());
+        assertTrue(secondProfile.isExact());
+
+        firstProfile.merge(secondProfile);
+
+        assertFalse(firstProfile.isExact());
+        assertFalse(firstProfile.isNumeric());
+        assertEquals(firstProfile.getValueCount(), combinedProfile.getValueCount());
+        assertEquals(firstProfile.getDistinctValueCount(), combinedProfile.getDistinctValueCount());
+        assertEquals(firstProfile.getDistinctValueCount(), 1201L, 36);
+        assertEquals(firstProfile.getDataProfileAnnotation().getValueRangeTo(), "text");
+    }
+
+
+    @Test
+    public void testMergeNumeric()
+    {
+        ColumnProfile firstProfile  = new ColumnProfile(0, "value", 10, 5);
+        ColumnProfile secondProfile = new ColumnProfile(0, "value", 10, 5);
+
+        firstProfile.addValue("1");
+        secondProfile.addValue("one");
+
+        firstProfile.merge(secondProfile);
+
+        assertFalse(firstProfile.isNumeric());
+        assertTrue(Double.isNaN(firstProfile.getQuantile(0.5)));
+    }
+}
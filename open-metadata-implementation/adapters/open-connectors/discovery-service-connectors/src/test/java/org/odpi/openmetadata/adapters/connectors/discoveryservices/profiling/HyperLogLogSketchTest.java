@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the accuracy of HyperLogLogSketch and that merged sketches give the estimate of their union.
+ */
+public class HyperLogLogSketchTest
+{
+    /**
+     * Assert that an estimate is within a relative error of the true count.
+     *
+     * @param estimate estimated count
+     * @param trueCount true count
+     * @param relativeError allowed error as a fraction of the true count
+     */
+    private void assertWithin(long   estimate,
+                              long   trueCount,
+                              double relativeError)
+    {
+        assertTrue(Math.abs(estimate - trueCount) <= trueCount * relativeError,
+                   "Estimate " + estimate + " is not within " + relativeError + " of " + trueCount);
+    }
+
+
+    @Test
+    public void testSmallCardinality()
+    {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+
+        assertEquals(sketch.getEstimate(), 0L);
+
+        for (int i = 0; i < 100; i++)
+        {
+            sketch.add("value" + i);
+            sketch.add("value" + i);
+        }
+
+        assertWithin(sketch.getEstimate(), 100, 0.02);
+    }
+
+
+    @Test
+    public void testLargeCardinality()
+    {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        Random            random = new Random(42);
+
+        /*
+         * The standard error with the default precision is 0.81% so 3% is nearly four standard errors.
+         */
+        for (int i = 0; i < 200000; i++)
+        {
+            sketch.add(Long.toHexString(random.nextLong()) + "-" + i);
+        }
+
+        assertWithin(sketch.getEstimate(), 200000, 0.03);
+    }
+
+
+    @Test
+    public void testMerge()
+    {
+        HyperLogLogSketch firstSketch    = new HyperLogLogSketch();
+        HyperLogLogSketch secondSketch   = new HyperLogLogSketch();
+        HyperLogLogSketch combinedSketch = new HyperLogLogSketch();
+
+        /*
+         * The two halves overlap by 20000 values.
+         */
+        for (int i = 0; i < 60000; i++)
+        {
+            firstSketch.add("value" + i);
+            combinedSketch.add("value" + i);
+        }
+
+        for (int i = 40000; i < 100000; i++)
+        {
+            secondSketch.add("value" + i);
+            combinedSketch.add("value" + i);
+        }
+
+        firstSketch.merge(secondSketch);
+
+        assertEquals(firstSketch.getEstimate(), combinedSketch.getEstimate());
+        assertWithin(firstSketch.getEstimate(), 100000, 0.03);
+    }
+
+
+    @Test
+    public void testMergePrecision()
+    {
+        try
+        {
+            new HyperLogLogSketch(12).merge(new HyperLogLogSketch(14));
+            fail("sketches with different precisions merged");
+        }
+        catch (IllegalArgumentException expected)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
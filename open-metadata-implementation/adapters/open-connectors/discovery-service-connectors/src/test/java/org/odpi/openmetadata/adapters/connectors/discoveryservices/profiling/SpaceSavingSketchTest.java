@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that SpaceSavingSketch finds the frequent values of a skewed stream, that its counts are within the
+ * recorded error, and that merged sketches keep these guarantees.
+ */
+public class SpaceSavingSketchTest
+{
+    private static final int valueCount  = 1000;
+    private static final int streamSize  = 100000;
+    private static final int capacity    = 100;
+    private static final int topCount    = 5;
+
+
+    /**
+     * Return a stream of values where value i occurs in proportion to 1/(i+1).
+     *
+     * @param seed seed for the random number generator
+     * @return stream of values
+     */
+    private List<String> getSkewedStream(long seed)
+    {
+        Random   random     = new Random(seed);
+        double[] cumulative = new double[valueCount];
+        double   total      = 0;
+
+        for (int i = 0; i < valueCount; i++)
+        {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+
+        List<String> stream = new ArrayList<>(streamSize);
+
+        for (int i = 0; i < streamSize; i++)
+        {
+            double target = random.nextDouble() * total;
+            int    value  = 0;
+
+            while (cumulative[value] < target)
+            {
+                value ++;
+            }
+
+            stream.add("value" + value);
+        }
+
+        return stream;
+    }
+
+
+    /**
+     * Count each value in a stream.
+     *
+     * @param stream values
+     * @param trueCounts map to add the counts to
+     */
+    private void countValues(List<String>      stream,
+                             Map<String, Long> trueCounts)
+    {
+        for (String value : stream)
+        {
+            trueCounts.merge(value, 1L, Long::sum);
+        }
+    }
+
+
+    /**
+     * Check that the most frequent values are reported and each reported count is within its error of the true count.
+     *
+     * @param sketch sketch to check
+     * @param trueCounts true counts
+     * @param totalCount number of values added
+     */
+    private void assertAccurate(SpaceSavingSketch sketch,
+                                Map<String, Long> trueCounts,
+                                long              totalCount)
+    {
+        Map<String, Long> topValues = sketch.getTopValues(topCount);
+
+        assertEquals(topValues.size(), topCount);
+
+        for (int i = 0; i < topCount; i++)
+        {
+            assertNotNull(topValues.get("value" + i), "value" + i + " not in " + topValues);
+        }
+
+        for (Map.Entry<String, Long> topValue : sketch.getTopValues(capacity).entrySet())
+        {
+            long trueCount = trueCounts.getOrDefault(topValue.getKey(), 0L);
+            long error     = sketch.getError(topValue.getKey());
+
+            assertTrue(topValue.getValue() >= trueCount, topValue.getKey());
+            assertTrue(topValue.getValue() - error <= trueCount, topValue.getKey());
+            assertTrue(error <= totalCount / capacity, topValue.getKey());
+        }
+    }
+
+
+    @Test
+    public void testExactCounts()
+    {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+
+        sketch.add("a");
+        sketch.add("b");
+        sketch.add("a");
+
+        Map<String, Long> topValues = sketch.getTopValues(10);
+
+        assertEquals(topValues.size(), 2);
+        assertEquals(topValues.keySet().iterator().next(), "a");
+        assertEquals(topValues.get("a"), Long.valueOf(2));
+        assertEquals(sketch.getError("a"), 0L);
+    }
+
+
+    @Test
+    public void testAccuracy()
+    {
+        List<String>      stream     = getSkewedStream(42);
+        Map<String, Long> trueCounts = new HashMap<>();
+        SpaceSavingSketch sketch     = new SpaceSavingSketch(capacity);
+
+        countValues(stream, trueCounts);
+
+        for (String value : stream)
+        {
+            sketch.add(value);
+        }
+
+        assertAccurate(sketch, trueCounts, streamSize);
+    }
+
+
+    @Test
+    public void testMerge()
+    {
+        List<String>      firstStream  = getSkewedStream(1);
+        List<String>      secondStream = getSkewedStream(2);
+        Map<String, Long> trueCounts   = new HashMap<>();
+        SpaceSavingSketch firstSketch  = new SpaceSavingSketch(capacity);
+        SpaceSavingSketch secondSketch = new SpaceSavingSketch(capacity);
+
+        countValues(firstStream, trueCounts);
+        countValues(secondStream, trueCounts);
+
+        for (String value : firstStream)
+        {
+            firstSketch.add(value);
+        }
+
+        for (String value : secondStream)
+        {
+            secondSketch.add(value);
+        }
+
+        firstSketch.merge(secondSketch);
+
+        assertEquals(firstSketch.getTopValues(capacity * 2).size(), capacity);
+        assertAccurate(firstSketch, trueCounts, streamSize * 2);
+    }
+}
@@ -0,0 +1,165 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate the accuracy of the quantiles from TDigestSketch and that merged sketches give the quantiles of the
+ * combined values.
+ */
+public class TDigestSketchTest
+{
+    private static final double[] quantiles = { 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 };
+
+
+    /**
+     * Return normally distributed values.
+     *
+     * @param seed seed for the random number generator
+     * @param count number of values
+     * @return values
+     */
+    private double[] getValues(long seed,
+                               int  count)
+    {
+        Random   random = new Random(seed);
+        double[] values = new double[count];
+
+        for (int i = 0; i < count; i++)
+        {
+            values[i] = random.nextGaussian() * 10 + 50;
+        }
+
+        return values;
+    }
+
+
+    /**
+     * Check that the estimated value for each quantile has a rank close to the quantile.
+     *
+     * @param sketch sketch to check
+     * @param sortedValues the values added to the sketch in ascending order
+     */
+    private void assertAccurate(TDigestSketch sketch,
+                                double[]      sortedValues)
+    {
+        assertEquals(sketch.getCount(), sortedValues.length);
+        assertEquals(sketch.getMinimum(), sortedValues[0]);
+        assertEquals(sketch.getMaximum(), sortedValues[sortedValues.length - 1]);
+
+        for (double quantile : quantiles)
+        {
+            double estimate = sketch.getQuantile(quantile);
+            int    rank     = Arrays.binarySearch(sortedValues, estimate);
+
+            if (rank < 0)
+            {
+                rank = - rank - 1;
+            }
+
+            double rankError = Math.abs((double) rank / sortedValues.length - quantile);
+
+            /*
+             * The tails are held in small centroids so they are more accurate than the middle.
+             */
+            double allowedError = ((quantile < 0.05) || (quantile > 0.95)) ? 0.002 : 0.01;
+
+            assertTrue(rankError <= allowedError, "Quantile " + quantile + " estimate " + estimate + " rank error " + rankError);
+        }
+    }
+
+
+    @Test
+    public void testEmpty()
+    {
+        TDigestSketch sketch = new TDigestSketch();
+
+        assertEquals(sketch.getCount(), 0L);
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMinimum()));
+    }
+
+
+    @Test
+    public void testSmallSample()
+    {
+        TDigestSketch sketch = new TDigestSketch();
+
+        for (int i = 1; i <= 9; i++)
+        {
+            sketch.add(i);
+        }
+
+        sketch.add(Double.NaN);
+
+        assertEquals(sketch.getCount(), 9L);
+        assertEquals(sketch.getQuantile(0.5), 5.0, 0.5);
+        assertEquals(sketch.getQuantile(0), 1.0);
+        assertEquals(sketch.getQuantile(1), 9.0);
+    }
+
+
+    @Test
+    public void testAccuracy()
+    {
+        double[]      values = getValues(42, 100000);
+        TDigestSketch sketch = new TDigestSketch();
+
+        for (double value : values)
+        {
+            sketch.add(value);
+        }
+
+        Arrays.sort(values);
+
+        assertAccurate(sketch, values);
+    }
+
+
+    @Test
+    public void testMerge()
+    {
+        double[]      firstValues  = getValues(1, 50000);
+        double[]      secondValues = getValues(2, 70000);
+        TDigestSketch firstSketch  = new TDigestSketch();
+        TDigestSketch secondSketch = new TDigestSketch();
+
+        /*
+         * The second set of values is shifted so the combined distribution is not the same as either part.
+         */
+        for (double value : firstValues)
+        {
+            firstSketch.add(value);
+        }
+
+        for (int i = 0; i < secondValues.length; i++)
+        {
+            secondValues[i] = secondValues[i] + 30;
+            secondSketch.add(secondValues[i]);
+        }
+
+        /*
+         * Leave some values in the buffer of the second sketch.
+         */
+        secondSketch.add(80);
+
+        firstSketch.merge(secondSketch);
+
+        double[] allValues = new double[firstValues.length + secondValues.length + 1];
+
+        System.arraycopy(firstValues, 0, allValues, 0, firstValues.length);
+        System.arraycopy(secondValues, 0, allValues, firstValues.length, secondValues.length);
+        allValues[allValues.length - 1] = 80;
+
+        Arrays.sort(allValues);
+
+        assertAccurate(firstSketch, allValues);
+    }
+}
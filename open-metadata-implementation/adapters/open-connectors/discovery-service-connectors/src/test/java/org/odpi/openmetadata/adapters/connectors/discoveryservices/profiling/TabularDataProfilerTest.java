@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that TabularDataProfiler profiles each value against the column in the same position.
+ */
+public class TabularDataProfilerTest
+{
+    @Test
+    public void testUnnamedColumn()
+    {
+        TabularDataProfiler profiler = new TabularDataProfiler(Arrays.asList("id", null, "amount"));
+
+        profiler.profileRecord(Arrays.asList("1", "ignored", "10"));
+        profiler.profileRecord(Arrays.asList("2", "ignored", "20"));
+        profiler.profileRecord(Arrays.asList("3", "ignored", "30", "extra"));
+        profiler.profileRecord(Arrays.asList("4"));
+        profiler.profileRecord(null);
+
+        assertEquals(profiler.getRecordCount(), 4L);
+
+        List<ColumnProfile> columnProfiles = profiler.getColumnProfiles();
+
+        assertEquals(columnProfiles.size(), 2);
+        assertNull(profiler.getColumnProfile(1));
+        assertNull(profiler.getColumnProfile(3));
+
+        /*
+         * The unnamed column keeps its slot so the amounts are profiled in the third column.
+         */
+        ColumnProfile amountProfile = profiler.getColumnProfile(2);
+
+        assertEquals(columnProfiles.get(1), amountProfile);
+        assertEquals(amountProfile.getColumnName(), "amount");
+        assertEquals(amountProfile.getColumnPosition(), 2);
+        assertEquals(amountProfile.getValueCount(), 3L);
+        assertTrue(amountProfile.isNumeric());
+        assertEquals(amountProfile.getQuantile(0.5), 20.0, 0.001);
+
+        assertEquals(profiler.getColumnProfile(0).getValueCount(), 4L);
+    }
+}
@@ -6,18 +6,21 @@ import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.errors.RetriableException;
-import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Properties;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -26,22 +29,70 @@ import java.util.concurrent.TimeUnit;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ * <p>
+ * Events are taken from a bounded send buffer and passed to Kafka without waiting for each acknowledgement.  Up to
+ * max_in_flight_sends events may be waiting for acknowledgement at once.  Every event is sent with the server identifier
+ * as its key, so they go to the same partition.  Kafka retries failed sends itself, and with the default producer
+ * properties (enable.idempotence, unlimited retries and no more than 5 in-flight requests per connection) it keeps
+ * these retried events in order.
+ * <p>
+ * An event is only returned to this class as failed when Kafka has given up on it.  With idempotence enabled, Kafka also
+ * fails the later events for the partition that were in flight.  A retryable failure puts the event in a retry backlog.
+ * While there are events in the backlog, the producer stops passing events to Kafka until every in-flight event has
+ * completed and then sends the backlog one event at a time, in the original order, waiting for each acknowledgement.
+ * Newer events are only sent once the backlog is empty.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable {
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
+
+    private static final long IDLE_WAIT_MS = 1000;
+
+    private final BlockingQueue<PendingEvent> sendBuffer;
+    private final PriorityQueue<PendingEvent> retryBacklog = new PriorityQueue<>(Comparator.comparingLong(PendingEvent::getSequenceNumber));
+    private final Semaphore inFlightPermits;
     private final AuditLog auditLog;
     private final String topicName;
     private final String localServerId;
     private final Properties producerProperties;
+    private final int maxInFlightSends;
+    private final int maxSendRetries;
+    private final long retryBackoffMs;
+    private final long sendBufferTimeoutMs;
     private volatile boolean running = true;
     private Producer<String, String> producer = null;
-    private long messageSendCount = 0;
-    private long kafkaSendAttemptCount = 0;
-    private long messagePublishRequestCount = 0;
-    private long inmemoryPutMessageCount = 0;
-    private long kafkaSendFailCount = 0;
-    private long messageFailedSendCount = 0;
+    private long nextRetryTime = 0;
+    private boolean recovering = false;
+    private long startTime = System.currentTimeMillis();
+
+    private final AtomicLong sequenceNumber = new AtomicLong(0);
+    private final AtomicLong messagePublishRequestCount = new AtomicLong(0);
+    private final AtomicLong messageSendCount = new AtomicLong(0);
+    private final AtomicLong kafkaSendAttemptCount = new AtomicLong(0);
+    private final AtomicLong kafkaSendFailCount = new AtomicLong(0);
+    private final AtomicLong messageRetryCount = new AtomicLong(0);
+    private final AtomicLong messageFailedSendCount = new AtomicLong(0);
+    private final AtomicLong totalSendLatencyNanos = new AtomicLong(0);
+    private final AtomicLong maxSendLatencyNanos = new AtomicLong(0);
+
+
+    /**
+     * An event waiting to be sent or acknowledged.
+     */
+    private static class PendingEvent {
+        private final long sequenceNumber;
+        private final String event;
+        private final long bufferedTime = System.nanoTime();
+        private int retryCount = 0;
+
+        PendingEvent(long sequenceNumber, String event) {
+            this.sequenceNumber = sequenceNumber;
+            this.event = event;
+        }
+
+        long getSequenceNumber() {
+            return sequenceNumber;
+        }
+    }
 
 
     /**
@@ -49,15 +100,22 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
      *
      * @param topicName          name of the topic to listen on.
      * @param localServerId      identifier to enable receiver to identify that an event came from this server.
+     * @param config             Egeria configuration for the producer.
      * @param producerProperties properties for the consumer.
      * @param auditLog           audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String topicName, String localServerId, Properties producerProperties,
-                                   AuditLog auditLog) {
+    KafkaOpenMetadataEventProducer(String topicName, String localServerId, KafkaOpenMetadataEventProducerConfiguration config,
+                                   Properties producerProperties, AuditLog auditLog) {
         this.auditLog = auditLog;
         this.topicName = topicName;
         this.localServerId = localServerId;
         this.producerProperties = producerProperties;
+        this.sendBuffer = new ArrayBlockingQueue<>(Math.max(1, config.getIntProperty(KafkaOpenMetadataEventProducerProperty.SEND_BUFFER_CAPACITY)));
+        this.sendBufferTimeoutMs = config.getLongProperty(KafkaOpenMetadataEventProducerProperty.SEND_BUFFER_TIMEOUT_MS);
+        this.maxInFlightSends = Math.max(1, config.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_SENDS));
+        this.inFlightPermits = new Semaphore(maxInFlightSends);
+        this.maxSendRetries = config.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_SEND_RETRIES);
+        this.retryBackoffMs = config.getLongProperty(KafkaOpenMetadataEventProducerProperty.RETRY_BACKOFF_MS);
 
         final String           actionDescription = "new producer";
 
@@ -71,26 +129,23 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
 
 
     /**
-     * Sends the supplied event to the topic.  It retries if Kafka is not responding.
+     * Passes the supplied event to Kafka without waiting for it to be acknowledged.  The outcome is
+     * processed by sendComplete on the Kafka producer's own thread.
      *
-     * @param event object containing the event properties.
-     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     * @param pendingEvent event to send
+     * @throws ConnectorCheckedException the connector is not able to create the Kafka producer
+     * @throws InterruptedException the thread was interrupted waiting for an in-flight slot
      */
-    private void publishEvent(String event) throws ConnectorCheckedException {
+    private void publishEvent(PendingEvent pendingEvent) throws ConnectorCheckedException, InterruptedException {
         final String methodName = "publishEvent";
-        final String messageFailedCountString = "Metrics: messageFailedSendCount {}";
-
-        boolean eventSent = false;
-        long eventRetryCount = 0;
-
-        messagePublishRequestCount++;
-        log.debug("Metrics: messagePublishRequestCount {}", messagePublishRequestCount);
 
         if (producer == null) {
             try {
                 log.debug("Creating new producer for topic {}", topicName);
-                producer = new KafkaProducer<>(producerProperties);
+                producer = this.createProducer();
             } catch (Exception error) {
+                this.retryEvent(pendingEvent);
+
                 if (auditLog != null) {
                     auditLog.logException(methodName,
                                           KafkaOpenMetadataTopicConnectorAuditCode.ERROR_CONNECTING_KAFKA_PRODUCER.getMessageDefinition(
@@ -102,84 +157,188 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
                                 error.getMessage()), this.getClass().getName(), methodName, error);
             }
         }
-        while (!eventSent) {
-            try {
-                log.debug("Sending message try {} [0 based] : {}", eventRetryCount,event);
-                ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topicName, localServerId, event);
-                kafkaSendAttemptCount++;
-                log.debug("Metrics: kafkaSendAttemptCount {}", kafkaSendAttemptCount);
-                producer.send(producerRecord).get();
-                eventSent = true;
-                messageSendCount++;
-                log.debug("Metrics: messageSendCount {}", messageSendCount);
-            } catch (ExecutionException error) {
-                kafkaSendFailCount++;
-                log.debug("Metrics: kafkaSendFailCount {}", kafkaSendFailCount);
-                /*
-                 * This may be a simple timeout or something else more
-                 */
-                log.debug("Kafka had trouble sending event: {} : Exception  message is {}", event, error.getMessage());
-
-                if (!isExceptionRetryable(error)) {
-                    /* kafka thinks this isn't a retryable problem */
-                    /* so let the caller try */
-
-                    log.debug("Exception not retryable, closing producer");
-                    producer.close();
-                    producer = null;
-
-                    messageFailedSendCount++;
-                    log.warn(messageFailedCountString, messageFailedSendCount);
-
-                    throw new ConnectorCheckedException(
-                            KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(
-                                    error.getClass().getName(), topicName, error.getMessage()),
-                            this.getClass().getName(), methodName, error);
+
+        inFlightPermits.acquire();
+
+        /*
+         * An earlier event may have failed while this one was being taken from the send buffer.  It must not
+         * be sent ahead of the events in the retry backlog.
+         */
+        synchronized (retryBacklog) {
+            PendingEvent oldestRetry = retryBacklog.peek();
+
+            if ((oldestRetry != null) && (oldestRetry.getSequenceNumber() < pendingEvent.getSequenceNumber())) {
+                retryBacklog.add(pendingEvent);
+                inFlightPermits.release();
+                return;
+            }
+        }
+
+        log.debug("Sending message try {} [0 based] : {}", pendingEvent.retryCount, pendingEvent.event);
+        kafkaSendAttemptCount.incrementAndGet();
+
+        try {
+            ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topicName, localServerId, pendingEvent.event);
+
+            producer.send(producerRecord, (metadata, error) -> this.sendComplete(pendingEvent, error));
+        } catch (Exception error) {
+            /*
+             * The producer rejected the record before sending it (for example, it could not get the topic's metadata
+             * within max.block.ms).  Start again with a new producer.
+             */
+            log.warn("Closed producer due to Exception in send {}", error.getMessage());
+            producer.close();
+            producer = null;
+
+            this.sendComplete(pendingEvent, error);
+        }
+    }
+
+
+    /**
+     * Create the Kafka producer.
+     *
+     * @return new producer
+     */
+    Producer<String, String> createProducer() {
+        return new KafkaProducer<>(producerProperties);
+    }
+
+
+    /**
+     * Record the outcome of sending an event.  The in-flight slot is only released once a failed event is in
+     * the retry backlog, so no newer event can be sent ahead of it.
+     *
+     * @param pendingEvent event that was sent
+     * @param error exception from Kafka or null if the event was acknowledged
+     */
+    private void sendComplete(PendingEvent pendingEvent, Exception error) {
+        try {
+            this.recordOutcome(pendingEvent, error);
+        } finally {
+            inFlightPermits.release();
+
+            synchronized (retryBacklog) {
+                retryBacklog.notifyAll();
+            }
+        }
+    }
+
+
+    /**
+     * Update the statistics for a sent event.  A retryable failure puts the event in the retry backlog, any other
+     * failure, or too many retries, discards it.
+     *
+     * @param pendingEvent event that was sent
+     * @param error exception from Kafka or null if the event was acknowledged
+     */
+    private void recordOutcome(PendingEvent pendingEvent, Exception error) {
+        final String methodName = "sendComplete";
+
+        if (error == null) {
+            long latency = System.nanoTime() - pendingEvent.bufferedTime;
+
+            messageSendCount.incrementAndGet();
+            totalSendLatencyNanos.addAndGet(latency);
+            maxSendLatencyNanos.accumulateAndGet(latency, Math::max);
+            return;
+        }
+
+        kafkaSendFailCount.incrementAndGet();
+        log.debug("Kafka had trouble sending event: {} : Exception  message is {}", pendingEvent.event, error.getMessage());
+
+        if (isExceptionRetryable(error) && (pendingEvent.retryCount < maxSendRetries)) {
+            boolean firstRetry = this.retryEvent(pendingEvent);
+
+            if (firstRetry && (auditLog != null)) {
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(
+                                            topicName, Long.toString(messageSendCount.get()),
+                                            Long.toString(this.getSendBufferSize()), error.getMessage()));
+            }
+        } else {
+            messageFailedSendCount.incrementAndGet();
+            log.warn("Metrics: messageFailedSendCount {}", messageFailedSendCount.get());
+
+            if (auditLog != null) {
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_DISCARDED.getMessageDefinition(
+                                            topicName, Integer.toString(pendingEvent.retryCount + 1),
+                                            error.getClass().getName(), error.getMessage()),
+                                    pendingEvent.event);
+            }
+        }
+    }
+
+
+    /**
+     * Add an event to the retry backlog and stop sending newer events until the backlog has been sent.
+     * The backlog is not sent until the retry backoff has passed since the latest failure.
+     *
+     * @param pendingEvent event to send again
+     * @return true if the backlog was empty
+     */
+    private boolean retryEvent(PendingEvent pendingEvent) {
+        pendingEvent.retryCount++;
+        messageRetryCount.incrementAndGet();
+
+        synchronized (retryBacklog) {
+            boolean firstRetry = retryBacklog.isEmpty();
+
+            nextRetryTime = System.currentTimeMillis() + retryBackoffMs;
+            recovering = true;
+            retryBacklog.add(pendingEvent);
+            retryBacklog.notifyAll();
+
+            return firstRetry;
+        }
+    }
+
+
+    /**
+     * Return the number of events passed to Kafka that have not completed.
+     *
+     * @return count
+     */
+    private int getInFlightCount() {
+        return maxInFlightSends - inFlightPermits.availablePermits();
+    }
+
+
+    /**
+     * Return the next event to send.  After a retryable failure, nothing is sent until all in-flight events have
+     * completed (they may fail and join the backlog).  Then, once the backoff has passed, the backlog is sent one
+     * event at a time.  Newer events are taken from the send buffer when the backlog has been sent and acknowledged.
+     *
+     * @return event or null if there is nothing to send yet
+     * @throws InterruptedException interrupted while waiting
+     */
+    private PendingEvent getNextEvent() throws InterruptedException {
+        synchronized (retryBacklog) {
+            if (recovering) {
+                if (this.getInFlightCount() > 0) {
+                    retryBacklog.wait(IDLE_WAIT_MS);
+
+                    return null;
                 }
-                if (eventRetryCount == 10) {
-                    /* we've retried now let the caller retry */
-                    producer.close();
-                    producer = null;
-                    messageFailedSendCount++;
-                    log.warn(messageFailedCountString, messageFailedSendCount);
-                    log.error("Retryable Exception closed producer after {} tries", eventRetryCount);
-                    break;
+
+                if (retryBacklog.isEmpty()) {
+                    recovering = false;
                 } else {
-                    if (eventRetryCount == 0) {
-                        log.debug("Retrying event warning - count is {}", eventRetryCount);
-                        if (auditLog != null) {
-                            auditLog.logMessage(methodName,
-                                                KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(
-                                                        topicName, Long.toString(messageSendCount),
-                                                        Long.toString(this.getSendBufferSize()), error.getMessage()));
-                        }
+                    long waitTime = nextRetryTime - System.currentTimeMillis();
+
+                    if (waitTime <= 0) {
+                        return retryBacklog.poll();
                     }
 
-                    eventRetryCount++;
-                }
-            } catch (WakeupException error) {
-                log.warn("Wake up for shut down");
-            } catch (Exception error) {
-                if (producer!=null) {
-                    producer.close();
-                    producer = null;
-                }
-                log.warn("Closed producer due to Exception in sendEvent {}",error.getMessage());
+                    retryBacklog.wait(Math.min(waitTime, IDLE_WAIT_MS));
 
-                if (error instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
+                    return null;
                 }
-
-                messageFailedSendCount++;
-                log.warn(messageFailedCountString, messageFailedSendCount);
-
-                throw new ConnectorCheckedException(
-                        KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(
-                                error.getClass().getName(), topicName, error.getMessage()), this.getClass().getName(),
-                        methodName, error);
             }
         }
 
+        return sendBuffer.poll(IDLE_WAIT_MS, TimeUnit.MILLISECONDS);
     }
 
 
@@ -204,47 +363,32 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
         }
 
         log.info("Main loop started for topic {}", topicName);
-        int sleepTime = 1000;
+        startTime = System.currentTimeMillis();
+
         while (isRunning()) {
             try {
-                String bufferedEvent = this.getEvent();
+                PendingEvent pendingEvent = this.getNextEvent();
 
-                /*
-                 * If there are no events waiting then sleep
-                 */
-                if (bufferedEvent == null) {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
-                } else {
-                    log.debug("Processing buffered events");
-                    /*
-                     * Send all waiting events
-                     */
-                    while (bufferedEvent != null) {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
-                    }
+                if (pendingEvent != null) {
+                    publishEvent(pendingEvent);
                 }
             } catch (InterruptedException error) {
-                log.debug("Woken up from sleep ");
+                log.debug("Interrupted while waiting to send events");
                 Thread.currentThread().interrupt();
+                break;
             } catch (Exception error) {
-                log.warn("Bad exception from sending events: {}",error.getMessage());
-
-                if (isExceptionRetryable(error)) {
-                    log.debug("Trying to recover");
-                    this.recoverAfterError();
-                } else {
-
-                    /* This is an unrecoverable error so clean up and shutdown*/
-                    break;
-                }
+                log.warn("Bad exception from sending events: {}", error.getMessage());
+                this.recoverAfterError();
             }
         }
         log.info("Exiting main loop for topic {} & cleaning up", topicName);
 
         /* producer may have already closed by exception handler in publishEvent */
         if (producer != null) {
-            log.debug("");
+            /*
+             * Wait for the events already passed to Kafka to be acknowledged.
+             */
+            producer.flush();
             producer.close();
             producer = null;
         }
@@ -253,55 +397,79 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
             auditLog.logMessage(actionDescription,
                                 KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(
                                         topicName, Integer.toString(getSendBufferSize()),
-                                        Long.toString(messageSendCount)), this.producerProperties.toString());
+                                        Long.toString(messageSendCount.get())), this.getStatistics().toString());
         }
     }
 
 
     /**
-     * Supports putting events to the in memory OMRS Topic
-     *
-     * @param newEvent event to publish
-     */
-    private void putEvent(String newEvent) {
-        inmemoryPutMessageCount++;
-        log.debug("Metrics: inmemoryPutMessageCount {}", inmemoryPutMessageCount);
-        log.debug("Metrics: sendBufferSize {}", sendBuffer.size());
-        sendBuffer.add(newEvent);
-    }
-
-
-    /**
-     * Returns the size of the send buffer
+     * Returns the number of events waiting to be sent, including those waiting to be retried.
      *
      * @return int
      */
     private int getSendBufferSize() {
-        return sendBuffer.size();
+        synchronized (retryBacklog) {
+            return sendBuffer.size() + retryBacklog.size();
+        }
     }
 
 
     /**
-     * Returns all the events found on the in memory OMRS Topic.
+     * Sends the supplied event to the topic.  The event is added to the send buffer and this method returns
+     * without waiting for it to be sent, unless the buffer is full.
      *
-     * @return list of received events.
+     * @param event OMRSEvent object containing the event properties.
+     * @throws ConnectorCheckedException the send buffer stayed full for longer than the send buffer timeout
      */
-    private String getEvent() {
-        if (sendBuffer.isEmpty()) {
-            return null;
+    public void sendEvent(String event) throws ConnectorCheckedException {
+        final String methodName = "sendEvent";
+
+        messagePublishRequestCount.incrementAndGet();
+
+        PendingEvent pendingEvent = new PendingEvent(sequenceNumber.incrementAndGet(), event);
+
+        try {
+            if (sendBuffer.offer(pendingEvent, sendBufferTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
         }
 
-        return sendBuffer.remove(0);
+        messageFailedSendCount.incrementAndGet();
+
+        throw new ConnectorCheckedException(
+                KafkaOpenMetadataTopicConnectorErrorCode.SEND_BUFFER_FULL.getMessageDefinition(
+                        topicName, Integer.toString(sendBuffer.size()), Long.toString(sendBufferTimeoutMs)),
+                this.getClass().getName(), methodName);
     }
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Return the throughput and latency statistics for the producer.  Latency is measured from the time
+     * the event is buffered to the time that Kafka acknowledges it.
      *
-     * @param event OMRSEvent object containing the event properties.
+     * @return map of statistic name to value
      */
-    public void sendEvent(String event) {
-        this.putEvent(event);
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+
+        long sent = messageSendCount.get();
+        long elapsedMs = Math.max(1L, System.currentTimeMillis() - startTime);
+
+        statistics.put("publishRequests", messagePublishRequestCount.get());
+        statistics.put("eventsSent", sent);
+        statistics.put("kafkaSendAttempts", kafkaSendAttemptCount.get());
+        statistics.put("kafkaSendFailures", kafkaSendFailCount.get());
+        statistics.put("eventsRetried", messageRetryCount.get());
+        statistics.put("eventsDiscarded", messageFailedSendCount.get());
+        statistics.put("eventsBuffered", this.getSendBufferSize());
+        statistics.put("eventsInFlight", this.getInFlightCount());
+        statistics.put("eventsPerSecond", (sent * 1000.0) / elapsedMs);
+        statistics.put("averageLatencyMs", (sent == 0) ? 0.0 : (totalSendLatencyNanos.get() / (double) sent) / 1000000.0);
+        statistics.put("maxLatencyMs", maxSendLatencyNanos.get() / 1000000.0);
+
+        return statistics;
     }
 
 
@@ -309,11 +477,10 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
      * Give time for an error to clear.
      */
     protected void recoverAfterError() {
-        long recoverySleepTimeSec = 10L;
-        log.info("Waiting {} seconds to recover", recoverySleepTimeSec);
+        log.info("Waiting {} milliseconds to recover", retryBackoffMs);
 
         try {
-            Thread.sleep(recoverySleepTimeSec * 1000L);
+            Thread.sleep(retryBackoffMs);
         } catch (InterruptedException e1) {
             log.debug("Interrupted while recovering with exception: {}", e1.getMessage());
             Thread.currentThread().interrupt();
@@ -335,7 +502,7 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
      * @return boolean
      */
     private boolean isRunning() {
-        return running;
+        return running && !Thread.currentThread().isInterrupted();
     }
 
 
@@ -346,19 +513,21 @@ public class KafkaOpenMetadataEventProducer implements Runnable {
         running = false;
     }
 
-    private boolean isExceptionRetryable(Exception error) {
+    /**
+     * Return whether the exception, or one of its causes, is one that Kafka says may succeed if retried.
+     *
+     * @param error exception from Kafka
+     * @return boolean
+     */
+    private boolean isExceptionRetryable(Throwable error) {
+        Throwable nested = error;
 
-        /*
-        This code would probably be more elegant if it used Throwables
-        however I don't want to add Throwabales to the search and I didn't want to cast
-         */
-        Throwable nested = null;
-        while ((nested = error.getCause()) != null) {
+        while (nested != null) {
             if (nested instanceof RetriableException) {
                 return true;
             }
 
-            error = new Exception(error.getCause());
+            nested = nested.getCause();
         }
         return false;
     }
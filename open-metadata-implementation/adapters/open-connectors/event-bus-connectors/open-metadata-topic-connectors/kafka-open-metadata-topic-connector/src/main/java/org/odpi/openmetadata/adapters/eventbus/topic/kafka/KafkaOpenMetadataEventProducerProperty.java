@@ -0,0 +1,56 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+	/*
+	 * Controls the maximum number of events waiting to be sent.  When the buffer is full,
+	 * the caller sending an event waits for space for up to the send buffer timeout.
+	 */
+	SEND_BUFFER_CAPACITY("send_buffer_capacity", "100000"),
+
+	/*
+	 * The number of milliseconds that a caller waits for space in a full send buffer before
+	 * the event is rejected with an exception.
+	 */
+	SEND_BUFFER_TIMEOUT_MS("send_buffer_timeout_ms", "60000"),
+
+	/*
+	 * The maximum number of events that have been passed to Kafka but not yet acknowledged.
+	 * When this is reached, the producer waits for acknowledgements before sending more events.
+	 */
+	MAX_IN_FLIGHT_SENDS("max_in_flight_sends", "1000"),
+
+	/*
+	 * The number of times an event that failed with a retryable error is sent again before it is discarded.
+	 * Kafka's own retries (see the retries and delivery.timeout.ms producer properties) happen before this.
+	 */
+	MAX_SEND_RETRIES("max_send_retries", "10"),
+
+	/*
+	 * The number of milliseconds to wait before sending events again after a retryable error.
+	 */
+	RETRY_BACKOFF_MS("retry_backoff_ms", "10000");
+
+	private final String propertyName;
+	private final String defaultValue;
+
+	KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+	{
+		this.propertyName = name;
+		this.defaultValue = defaultValue;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+}
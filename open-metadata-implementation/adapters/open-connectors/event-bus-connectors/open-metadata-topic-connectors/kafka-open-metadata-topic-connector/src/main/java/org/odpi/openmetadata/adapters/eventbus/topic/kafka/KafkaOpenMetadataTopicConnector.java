@@ -39,6 +39,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private final Properties producerProperties = new Properties();
+    private final Properties producerEgeriaProperties = new Properties();
     private final Properties consumerEgeriaProperties = new Properties();
     private final Properties consumerProperties = new Properties();
 
@@ -116,9 +117,11 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
         producerProperties.put("bootstrap.servers", "localhost:9092");
         producerProperties.put("acks", "all");
-        producerProperties.put("retries", 1);
-        producerProperties.put("batch.size", 16384);
-        producerProperties.put("linger.ms", 0);
+        producerProperties.put("retries", Integer.MAX_VALUE);
+        producerProperties.put("enable.idempotence", "true");
+        producerProperties.put("max.in.flight.requests.per.connection", 5);
+        producerProperties.put("batch.size", 65536);
+        producerProperties.put("linger.ms", 5);
         producerProperties.put("buffer.memory", 33554432);
         producerProperties.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
         producerProperties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
@@ -222,6 +225,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaConsumerPropertyName);
             copyProperties(propertiesObject, consumerEgeriaProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
         }
         catch (Exception   error)
         {
@@ -322,7 +328,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     private void initializeProducerAndProducerThread() {
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, auditLog);
+        KafkaOpenMetadataEventProducerConfiguration producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerConfig, producerProperties, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
     }
 
@@ -343,6 +350,22 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Return the throughput and latency statistics of the producer.
+     *
+     * @return map of statistic name to value (empty if the producer is not running)
+     */
+    public Map<String, Object> getProducerStatistics()
+    {
+        if (producer != null)
+        {
+            return producer.getStatistics();
+        }
+
+        return Collections.emptyMap();
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
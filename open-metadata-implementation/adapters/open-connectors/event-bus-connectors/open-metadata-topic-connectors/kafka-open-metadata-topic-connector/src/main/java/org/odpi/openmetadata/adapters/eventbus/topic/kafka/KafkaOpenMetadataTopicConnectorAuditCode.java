@@ -141,6 +141,13 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             "Check the  Kafka error logs for related messages that could " +
                     "indicate the cause of this error.  Work to clear the underlying error.  " +
                     "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka."),
+
+    EVENT_DISCARDED("OCF-KAFKA-TOPIC-CONNECTOR-0020",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Apache Kafka producer for topic {0} discarded an event after {1} attempts to send it.  The last attempt failed with a {2} exception with message {3}",
+            "The event, which is included with this message, is not sent.  The producer continues to send the events that follow it.",
+            "Use the exception to determine why Kafka rejected the event.  If the error is temporary, increase the max_send_retries " +
+                    "or retry_backoff_ms properties in egeria_kafka_producer."),
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -40,7 +40,13 @@ public enum KafkaOpenMetadataTopicConnectorErrorCode implements ExceptionMessage
     ERROR_CONNECTING_KAFKA_PRODUCER(400, "OCF-KAFKA-TOPIC-CONNECTOR-400-003 ",
             "Egeria encountered an exception while attempting to connect a message producer to a Kafka.  The message in the exception was: {0}",
             "Egeria is unable to produce events",
-            "Ensure that the Kafka service is available and that the connection properties are valid.")
+            "Ensure that the Kafka service is available and that the connection properties are valid."),
+
+    SEND_BUFFER_FULL(503, "OCF-KAFKA-TOPIC-CONNECTOR-503-004 ",
+            "The event could not be sent to topic {0} because the send buffer was full with {1} events for {2} milliseconds",
+            "The event is rejected.  Events are being produced faster than Kafka is accepting them.",
+            "Check that Kafka is running and look for earlier messages about errors sending events.  If Kafka is slow rather than " +
+                    "unavailable, increase the send_buffer_capacity or send_buffer_timeout_ms properties in egeria_kafka_producer.")
         ;
         private final ExceptionMessageDefinition messageDefinition;
 
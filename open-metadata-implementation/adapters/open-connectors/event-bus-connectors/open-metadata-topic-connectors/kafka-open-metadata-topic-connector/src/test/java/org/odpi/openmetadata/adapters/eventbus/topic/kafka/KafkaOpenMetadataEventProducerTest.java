@@ -0,0 +1,221 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that KafkaOpenMetadataEventProducer retries and discards failed events, and keeps events in order
+ * while it retries them.  The Kafka producer is replaced by a MockProducer so the test controls when each send completes.
+ */
+public class KafkaOpenMetadataEventProducerTest {
+    private static final long WAIT_MS = 10000;
+    private static final long SETTLE_MS = 200;
+
+    private final MockProducer<String, String> mockProducer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+
+
+    /**
+     * Return a producer that sends to the mock producer.
+     *
+     * @param maxSendRetries number of times a failed event is sent again
+     * @return producer
+     */
+    private KafkaOpenMetadataEventProducer getProducer(int maxSendRetries) {
+        Properties egeriaProperties = new Properties();
+
+        egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_SENDS.getPropertyName(), "10");
+        egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_SEND_RETRIES.getPropertyName(), Integer.toString(maxSendRetries));
+        egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.RETRY_BACKOFF_MS.getPropertyName(), "10");
+
+        return new KafkaOpenMetadataEventProducer("testTopic",
+                                                  "testServerId",
+                                                  new KafkaOpenMetadataEventProducerConfiguration(egeriaProperties, null),
+                                                  new Properties(),
+                                                  null) {
+            @Override
+            Producer<String, String> createProducer() {
+                return mockProducer;
+            }
+        };
+    }
+
+
+    /**
+     * Wait for the mock producer to have received the requested number of sends.
+     *
+     * @param sendCount number of sends
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitForSends(int sendCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+
+        while ((mockProducer.history().size() < sendCount) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(mockProducer.history().size(), sendCount);
+    }
+
+
+    /**
+     * Return the events passed to the mock producer in the order they were sent.
+     *
+     * @return list of events
+     */
+    private List<String> getSentEvents() {
+        List<String> sentEvents = new ArrayList<>();
+
+        for (ProducerRecord<String, String> producerRecord : mockProducer.history()) {
+            assertEquals(producerRecord.key(), "testServerId");
+            sentEvents.add(producerRecord.value());
+        }
+
+        return sentEvents;
+    }
+
+
+    /**
+     * Stop the producer's thread.
+     *
+     * @param producer producer to stop
+     * @param producerThread thread running the producer
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void stop(KafkaOpenMetadataEventProducer producer, Thread producerThread) throws InterruptedException {
+        producer.safeCloseProducer();
+        producerThread.join(WAIT_MS);
+    }
+
+
+    @Test
+    public void testSend() throws Exception {
+        KafkaOpenMetadataEventProducer producer       = this.getProducer(1);
+        Thread                         producerThread = new Thread(producer);
+
+        producerThread.start();
+
+        try {
+            producer.sendEvent("event1");
+            producer.sendEvent("event2");
+            producer.sendEvent("event3");
+
+            /*
+             * The events are passed to Kafka without waiting for each acknowledgement.
+             */
+            this.waitForSends(3);
+
+            assertTrue(mockProducer.completeNext());
+            assertTrue(mockProducer.completeNext());
+            assertTrue(mockProducer.completeNext());
+
+            assertEquals(this.getSentEvents(), Arrays.asList("event1", "event2", "event3"));
+            assertEquals(producer.getStatistics().get("eventsSent"), 3L);
+            assertEquals(producer.getStatistics().get("eventsInFlight"), 0);
+        } finally {
+            this.stop(producer, producerThread);
+        }
+
+        assertTrue(mockProducer.closed());
+    }
+
+
+    @Test
+    public void testRetryKeepsOrder() throws Exception {
+        KafkaOpenMetadataEventProducer producer       = this.getProducer(5);
+        Thread                         producerThread = new Thread(producer);
+
+        producerThread.start();
+
+        try {
+            producer.sendEvent("event1");
+            producer.sendEvent("event2");
+            this.waitForSends(2);
+
+            /*
+             * Nothing is retried while event2 is still in flight, and the new event3 is held back.
+             */
+            assertTrue(mockProducer.errorNext(new TimeoutException("test")));
+            producer.sendEvent("event3");
+            Thread.sleep(SETTLE_MS);
+            assertEquals(mockProducer.history().size(), 2);
+
+            /*
+             * Kafka fails the later in-flight events for the partition too.  The backlog is then sent one event at a time.
+             */
+            assertTrue(mockProducer.errorNext(new TimeoutException("test")));
+            this.waitForSends(3);
+            Thread.sleep(SETTLE_MS);
+            assertEquals(mockProducer.history().size(), 3);
+
+            assertTrue(mockProducer.completeNext());
+            this.waitForSends(4);
+            Thread.sleep(SETTLE_MS);
+            assertEquals(mockProducer.history().size(), 4);
+
+            assertTrue(mockProducer.completeNext());
+            this.waitForSends(5);
+            assertTrue(mockProducer.completeNext());
+
+            assertEquals(this.getSentEvents(), Arrays.asList("event1", "event2", "event1", "event2", "event3"));
+            assertEquals(producer.getStatistics().get("eventsSent"), 3L);
+            assertEquals(producer.getStatistics().get("eventsRetried"), 2L);
+            assertEquals(producer.getStatistics().get("eventsDiscarded"), 0L);
+        } finally {
+            this.stop(producer, producerThread);
+        }
+    }
+
+
+    @Test
+    public void testDiscard() throws Exception {
+        KafkaOpenMetadataEventProducer producer       = this.getProducer(1);
+        Thread                         producerThread = new Thread(producer);
+
+        producerThread.start();
+
+        try {
+            /*
+             * An error that is not retryable discards the event straight away.
+             */
+            producer.sendEvent("event1");
+            this.waitForSends(1);
+            assertTrue(mockProducer.errorNext(new RecordTooLargeException("test")));
+
+            producer.sendEvent("event2");
+            this.waitForSends(2);
+
+            /*
+             * A retryable error is retried until max_send_retries is reached.
+             */
+            assertTrue(mockProducer.errorNext(new TimeoutException("test")));
+            this.waitForSends(3);
+            assertTrue(mockProducer.errorNext(new TimeoutException("test")));
+
+            producer.sendEvent("event3");
+            this.waitForSends(4);
+            assertTrue(mockProducer.completeNext());
+
+            assertEquals(this.getSentEvents(), Arrays.asList("event1", "event2", "event2", "event3"));
+            assertEquals(producer.getStatistics().get("eventsSent"), 1L);
+            assertEquals(producer.getStatistics().get("eventsRetried"), 1L);
+            assertEquals(producer.getStatistics().get("eventsDiscarded"), 2L);
+        } finally {
+            this.stop(producer, producerThread);
+        }
+    }
+}
@@ -198,6 +198,12 @@ public enum GovernanceActionConnectorsAuditCode implements AuditLogMessageSet
                                "The {0} governance action service is unable to retrieve the template {1} configured in property {2}.  The asset {3} was created without a template",
                                "The asset is created with the supplied parameters.",
                                "Determine whether the template name is specified incorrectly, or if the name is correct, why it is not accessible to governance service.  Once the situation has been corrected, future assets will be created with the right template.  However this asset may need some remediation to add the values that would have been added by the template."),
+
+    PROVISIONED_FILES("GOVERNANCE-ACTION-CONNECTORS-0024",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} governance action service has provisioned {1} files from {2} to folder {3}",
+                      "The files have been copied or moved.  Files recorded in the provisioning manifest by an earlier run of this request were not provisioned again.",
+                      "No action is required.  This is part of the normal operation of the service."),
     ;
 
     private final String                     logMessageId;
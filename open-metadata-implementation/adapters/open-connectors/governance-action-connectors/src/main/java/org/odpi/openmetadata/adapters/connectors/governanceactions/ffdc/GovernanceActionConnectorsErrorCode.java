@@ -66,6 +66,11 @@ public enum GovernanceActionConnectorsErrorCode implements ExceptionMessageSet
                         "The source file is passed to the governance action service through the request parameters or via the TargetForAction " +
                                 "relationship.  Correct the information passed to the governance service and rerun the request"),
 
+    INVALID_CONFIGURATION_PROPERTY(400, "GOVERNANCE-ACTION-CONNECTORS-400-007",
+                                   "The {0} governance action service has been configured with an invalid value of {1} for its {2} configuration property",
+                                   "The governance action service is unable to start because the value of the configuration property is not valid.",
+                                   "Correct the value of the configuration property in the connection for the governance action service and rerun the request."),
+
     FILES_LOCATION_NOT_FOUND(404, "GOVERNANCE-ACTION-CONNECTORS-404-001",
              "The directory named {0} in the Connection object {1} does not exist",
              "The connector is unable to locate the file it has been asked to work with.",
@@ -0,0 +1,386 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+
+/**
+ * FileProvisioner performs the file operations for the MoveCopyFileGovernanceActionConnector.  Copies are made
+ * with FileChannel.transferTo (which lets the operating system copy the data without passing it through the JVM)
+ * into a temporary file that is renamed into place once it is complete, so a partial file is never visible under
+ * the destination name.  Moves use an atomic rename when the source and destination are on the same file system.
+ * When verification is requested, the CRC-32C checksums of the source and destination are compared.
+ * A list of files may be provisioned in parallel.
+ */
+class FileProvisioner
+{
+    private static final String PART_FILE_SUFFIX = ".part";
+    private static final int    BUFFER_SIZE      = 64 * 1024;
+
+
+    /**
+     * Private constructor - use the static methods.
+     */
+    private FileProvisioner()
+    {
+    }
+
+
+    /**
+     * Return the files named by a source file name.  This may name a single file, a folder (meaning every file in the
+     * folder) or contain a glob pattern in its last element (such as /landing/*.csv).  An existing file is always
+     * treated as a single file, even if its name contains glob pattern characters.
+     *
+     * @param sourceFileName name of the source file, folder or pattern
+     * @return sorted list of file path names
+     * @throws IOException the folder could not be read
+     */
+    static List<String> getSourceFileNames(String sourceFileName) throws IOException
+    {
+        List<String> sourceFileNames = new ArrayList<>();
+        Path         sourcePath      = Paths.get(sourceFileName);
+
+        if (Files.isDirectory(sourcePath))
+        {
+            try (DirectoryStream<Path> folder = Files.newDirectoryStream(sourcePath))
+            {
+                for (Path file : folder)
+                {
+                    if (Files.isRegularFile(file))
+                    {
+                        sourceFileNames.add(file.toString());
+                    }
+                }
+            }
+        }
+        else if ((! Files.exists(sourcePath)) &&
+                 (isGlobPattern(sourcePath.getFileName() == null ? null : sourcePath.getFileName().toString())))
+        {
+            Path        folderPath  = sourcePath.toAbsolutePath().getParent();
+            PathMatcher fileMatcher = sourcePath.getFileSystem().getPathMatcher("glob:" + sourcePath.getFileName().toString());
+
+            if ((folderPath != null) && (Files.isDirectory(folderPath)))
+            {
+                try (DirectoryStream<Path> folder = Files.newDirectoryStream(folderPath))
+                {
+                    for (Path file : folder)
+                    {
+                        if ((Files.isRegularFile(file)) && (fileMatcher.matches(file.getFileName())))
+                        {
+                            sourceFileNames.add(sourcePath.resolveSibling(file.getFileName()).toString());
+                        }
+                    }
+                }
+            }
+        }
+        else
+        {
+            sourceFileNames.add(sourceFileName);
+        }
+
+        Collections.sort(sourceFileNames);
+
+        return sourceFileNames;
+    }
+
+
+    /**
+     * Provision a list of files, in parallel if there is more than one.  Files that the manifest shows were provisioned
+     * by an earlier run of the request are skipped.  Every file is attempted even if some fail, and the errors are
+     * returned to the caller so that it can still process the files that were provisioned.
+     *
+     * @param sourceFileNames names of the source files
+     * @param manifest record of the files provisioned so far (may be null)
+     * @param parallelism maximum number of files to provision at the same time
+     * @param singleFileProvisioner provisions one file
+     * @param errors list to add the errors from the files that could not be provisioned to
+     * @return map of source file name to destination file name (or null if the file was not provisioned), in source order
+     * @throws InterruptedException interrupted while waiting for the files to be provisioned
+     */
+    static Map<String, String> provisionFiles(List<String>          sourceFileNames,
+                                              ProvisioningManifest  manifest,
+                                              int                   parallelism,
+                                              SingleFileProvisioner singleFileProvisioner,
+                                              List<Exception>       errors) throws InterruptedException
+    {
+        Map<String, String>         destinationFileNames = new LinkedHashMap<>();
+        Map<String, Future<String>> pendingFiles         = new LinkedHashMap<>();
+        ExecutorService             executorService      = null;
+
+        try
+        {
+            for (String sourceFileName : sourceFileNames)
+            {
+                String previousDestinationFileName = null;
+
+                if (manifest != null)
+                {
+                    previousDestinationFileName = manifest.getDestinationFileName(sourceFileName);
+                }
+
+                if (previousDestinationFileName != null)
+                {
+                    destinationFileNames.put(sourceFileName, previousDestinationFileName);
+                }
+                else if ((sourceFileNames.size() == 1) || (parallelism <= 1))
+                {
+                    String destinationFileName = null;
+
+                    try
+                    {
+                        destinationFileName = singleFileProvisioner.provisionFile(sourceFileName);
+                    }
+                    catch (IOException | RuntimeException error)
+                    {
+                        errors.add(error);
+                    }
+
+                    destinationFileNames.put(sourceFileName, destinationFileName);
+                }
+                else
+                {
+                    if (executorService == null)
+                    {
+                        executorService = Executors.newFixedThreadPool(Math.min(parallelism, sourceFileNames.size()));
+                    }
+
+                    destinationFileNames.put(sourceFileName, null);
+                    pendingFiles.put(sourceFileName, executorService.submit(() -> singleFileProvisioner.provisionFile(sourceFileName)));
+                }
+            }
+
+            for (Map.Entry<String, Future<String>> pendingFile : pendingFiles.entrySet())
+            {
+                try
+                {
+                    destinationFileNames.put(pendingFile.getKey(), pendingFile.getValue().get());
+                }
+                catch (ExecutionException error)
+                {
+                    errors.add((error.getCause() instanceof Exception) ? (Exception)error.getCause() : error);
+                }
+            }
+        }
+        finally
+        {
+            if (executorService != null)
+            {
+                executorService.shutdown();
+            }
+        }
+
+        return destinationFileNames;
+    }
+
+
+    /**
+     * Copy or move a file to a destination that has already been reserved (created empty) by the caller.  If the
+     * operation fails, the reserved destination file is removed.
+     *
+     * @param sourceFileName name of the source file
+     * @param destinationFileName name of the reserved destination file
+     * @param copyFile copy the file (true) or move it (false)
+     * @param verifyChecksum compare the checksums of the source and destination after the data is copied
+     * @return hexadecimal CRC-32C checksum of the file, or null if it was not calculated
+     * @throws IOException the file could not be provisioned, or the checksums do not match
+     */
+    static String provisionFile(String  sourceFileName,
+                                String  destinationFileName,
+                                boolean copyFile,
+                                boolean verifyChecksum) throws IOException
+    {
+        Path sourcePath      = Paths.get(sourceFileName);
+        Path destinationPath = Paths.get(destinationFileName);
+
+        try
+        {
+            if (! copyFile)
+            {
+                try
+                {
+                    /*
+                     * A rename within a file system moves no data so there is nothing to verify.
+                     */
+                    Files.move(sourcePath, destinationPath, StandardCopyOption.ATOMIC_MOVE);
+
+                    return null;
+                }
+                catch (AtomicMoveNotSupportedException differentFileSystems)
+                {
+                    /*
+                     * Fall through to copy the file and then remove the source.
+                     */
+                }
+            }
+
+            String checksum = copyFile(sourcePath, destinationPath, verifyChecksum);
+
+            if (! copyFile)
+            {
+                Files.delete(sourcePath);
+            }
+
+            return checksum;
+        }
+        catch (IOException | RuntimeException error)
+        {
+            Files.deleteIfExists(destinationPath);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the CRC-32C checksum of a file, reading it in a single streaming pass.
+     *
+     * @param filePath file to read
+     * @return hexadecimal checksum
+     * @throws IOException the file could not be read
+     */
+    static String getChecksum(Path filePath) throws IOException
+    {
+        CRC32C     checksum = new CRC32C();
+        ByteBuffer buffer   = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ))
+        {
+            while (channel.read(buffer) != -1)
+            {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        return Long.toHexString(checksum.getValue());
+    }
+
+
+    /**
+     * Copy a file through a temporary file that is renamed over the reserved destination once it is complete.
+     * The last modified time of the source is kept.
+     *
+     * @param sourcePath source file
+     * @param destinationPath reserved destination file
+     * @param verifyChecksum compare the checksums of the source and the temporary file before it is renamed
+     * @return hexadecimal checksum, or null if it was not calculated
+     * @throws IOException the file could not be copied, or the checksums do not match
+     */
+    private static String copyFile(Path    sourcePath,
+                                   Path    destinationPath,
+                                   boolean verifyChecksum) throws IOException
+    {
+        Path   partPath = destinationPath.resolveSibling(destinationPath.getFileName().toString() + PART_FILE_SUFFIX);
+        String checksum = null;
+
+        try
+        {
+            try (FileChannel sourceChannel = FileChannel.open(sourcePath, StandardOpenOption.READ);
+                 FileChannel partChannel   = FileChannel.open(partPath,
+                                                              StandardOpenOption.CREATE,
+                                                              StandardOpenOption.TRUNCATE_EXISTING,
+                                                              StandardOpenOption.WRITE))
+            {
+                long size     = sourceChannel.size();
+                long position = 0;
+
+                while (position < size)
+                {
+                    position = position + sourceChannel.transferTo(position, size - position, partChannel);
+                }
+
+                partChannel.force(true);
+            }
+
+            if (verifyChecksum)
+            {
+                checksum = getChecksum(sourcePath);
+
+                String copyChecksum = getChecksum(partPath);
+
+                if (! checksum.equals(copyChecksum))
+                {
+                    throw new IOException("The checksum " + copyChecksum + " of the copy of " + sourcePath +
+                                                  " does not match the checksum " + checksum + " of the original");
+                }
+            }
+
+            Files.setLastModifiedTime(partPath, Files.getLastModifiedTime(sourcePath));
+
+            try
+            {
+                Files.move(partPath, destinationPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException notSupported)
+            {
+                Files.move(partPath, destinationPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(partPath);
+        }
+
+        return checksum;
+    }
+
+
+    /**
+     * Return whether a file name contains glob pattern characters.
+     *
+     * @param fileName file name
+     * @return flag
+     */
+    private static boolean isGlobPattern(String fileName)
+    {
+        if (fileName != null)
+        {
+            for (char character : fileName.toCharArray())
+            {
+                if ((character == '*') || (character == '?') || (character == '[') || (character == '{'))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * SingleFileProvisioner provisions one of the files in a list.
+     */
+    interface SingleFileProvisioner
+    {
+        /**
+         * Copy or move a file.
+         *
+         * @param sourceFileName name of the source file
+         * @return name of the destination file, or null if no destination file name is available
+         * @throws IOException the file could not be provisioned
+         */
+        String provisionFile(String sourceFileName) throws IOException;
+    }
+}
@@ -16,6 +16,9 @@ import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.text.MessageFormat;
 import java.util.*;
 
@@ -29,6 +32,11 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
      */
     private static final Map<String, Integer> fileIndexMap = new HashMap<>();
 
+    /*
+     * The number of files provisioned at the same time when the source is a folder or pattern.
+     */
+    private static final int DEFAULT_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     private final PropertyHelper propertyHelper = new PropertyHelper();
 
     private String  topLevelProcessName                  = "MoveCopyFileGovernanceActionConnector";
@@ -40,6 +48,9 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
     private String  destinationFolderName                = null;
     private boolean copyFile                             = true;
     private boolean deleteFile                           = false;
+    private boolean verifyChecksum                       = true;
+    private String  manifestFileName                     = null;
+    private int     parallelism                          = DEFAULT_PARALLELISM;
 
     /*
      * This describes the default lineage pattern
@@ -106,69 +117,99 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
 
 
     /**
-     * Perform the file provisioning.
+     * Reserve the name of the destination file by creating it empty.  Creating the file is atomic so two
+     * provisioning threads (or processes) can not choose the same name.
+     *
+     * @param destinationFolderName folder name where the file is to be copied to
+     * @param sourceFile File object pointing to the source file
+     * @param fileNamePattern pattern to generate the destination filename (or null to use the source file name)
+     * @return name of the reserved file or null if no name is available
+     * @throws IOException the file could not be created
+     */
+    private static synchronized String reserveDestinationFile(String destinationFolderName,
+                                                              File   sourceFile,
+                                                              String fileNamePattern) throws IOException
+    {
+        String destinationFileName = getDestinationFileName(null, destinationFolderName, sourceFile, fileNamePattern);
+
+        while (destinationFileName != null)
+        {
+            try
+            {
+                Files.createFile(Paths.get(destinationFileName));
+
+                return destinationFileName;
+            }
+            catch (FileAlreadyExistsException alreadyExists)
+            {
+                destinationFileName = getDestinationFileName(destinationFileName, destinationFolderName, sourceFile, fileNamePattern);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Perform the file provisioning.  Only the choice of destination file name is serialized so that several files
+     * can be provisioned in parallel.
      *
      * @param governanceServiceName name of requesting service
      * @param destinationFolderName name of the folder where the file is to be provisioned into
      * @param sourceFilePathName full path name of the source file
      * @param fileNamePattern patten for generating the name of the destination file
      * @param copyFile is this a copy of a move?
+     * @param verifyChecksum should the checksum of the copy be compared with the original?
+     * @param manifest record of the files provisioned so far (may be null)
      * @param auditLog logging destination
      * @return name of new file
+     * @throws IOException the file could not be provisioned
      */
-    private static synchronized String provisionFile(String   governanceServiceName,
-                                                     String   destinationFolderName,
-                                                     String   sourceFilePathName,
-                                                     String   fileNamePattern,
-                                                     boolean  copyFile,
-                                                     AuditLog auditLog) throws IOException
+    private static String provisionFile(String               governanceServiceName,
+                                        String               destinationFolderName,
+                                        String               sourceFilePathName,
+                                        String               fileNamePattern,
+                                        boolean              copyFile,
+                                        boolean              verifyChecksum,
+                                        ProvisioningManifest manifest,
+                                        AuditLog             auditLog) throws IOException
     {
         final String methodName = "provisionFile";
 
-        File   sourceFile          = new File(sourceFilePathName);
-        File   destinationFolder   = new File(destinationFolderName);
+        File sourceFile = new File(sourceFilePathName);
 
-        if (! destinationFolder.exists())
-        {
-            FileUtils.forceMkdir(destinationFolder);
-        }
+        Files.createDirectories(Paths.get(destinationFolderName));
 
-        String destinationFileName = getDestinationFileName(null, destinationFolderName, sourceFile, fileNamePattern);
+        String destinationFileName = reserveDestinationFile(destinationFolderName, sourceFile, fileNamePattern);
 
-        while (destinationFileName != null)
+        if (destinationFileName != null)
         {
-            File destinationFile = new File(destinationFileName);
-            if (! FileUtils.directoryContains(destinationFolder, destinationFile))
+            if (auditLog != null)
             {
                 if (copyFile)
                 {
-                    if (auditLog != null)
-                    {
-                        auditLog.logMessage(methodName,
-                                            GovernanceActionConnectorsAuditCode.COPY_FILE.getMessageDefinition(governanceServiceName,
-                                                                                                               sourceFilePathName,
-                                                                                                               destinationFileName));
-                    }
-
-                    FileUtils.copyFile(sourceFile, destinationFile, true);
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.COPY_FILE.getMessageDefinition(governanceServiceName,
+                                                                                                           sourceFilePathName,
+                                                                                                           destinationFileName));
                 }
                 else
                 {
-                    if (auditLog != null)
-                    {
-                        auditLog.logMessage(methodName,
-                                            GovernanceActionConnectorsAuditCode.MOVE_FILE.getMessageDefinition(governanceServiceName,
-                                                                                                               sourceFilePathName,
-                                                                                                               destinationFileName));
-                    }
-
-                    FileUtils.moveFile(sourceFile, destinationFile);
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.MOVE_FILE.getMessageDefinition(governanceServiceName,
+                                                                                                           sourceFilePathName,
+                                                                                                           destinationFileName));
                 }
+            }
 
-                return destinationFileName;
+            String checksum = FileProvisioner.provisionFile(sourceFilePathName, destinationFileName, copyFile, verifyChecksum);
+
+            if (manifest != null)
+            {
+                manifest.recordProvisioned(sourceFilePathName, destinationFileName, checksum);
             }
 
-            destinationFileName = getDestinationFileName(destinationFileName, destinationFolderName, sourceFile, fileNamePattern);
+            return destinationFileName;
         }
 
         /*
@@ -284,6 +325,36 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             {
                 childProcessLineage = false;
             }
+
+            Object noChecksumOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.NO_CHECKSUM_VERIFICATION_PROPERTY);
+
+            if (noChecksumOption != null)
+            {
+                verifyChecksum = false;
+            }
+
+            Object parallelismOption = configurationProperties.get(MoveCopyFileGovernanceActionProvider.PARALLELISM_PROPERTY);
+
+            if (parallelismOption != null)
+            {
+                try
+                {
+                    parallelism = Integer.parseInt(parallelismOption.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    parallelism = 0;
+                }
+
+                if (parallelism < 1)
+                {
+                    throw new ConnectorCheckedException(GovernanceActionConnectorsErrorCode.INVALID_CONFIGURATION_PROPERTY.getMessageDefinition(governanceServiceName,
+                                                                                                                                               parallelismOption.toString(),
+                                                                                                                                               MoveCopyFileGovernanceActionProvider.PARALLELISM_PROPERTY),
+                                                        this.getClass().getName(),
+                                                        methodName);
+                }
+            }
         }
 
         /*
@@ -330,6 +401,12 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
                         case MoveCopyFileGovernanceActionProvider.LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY:
                             destinationLineageToFile = false;
                             break;
+                        case MoveCopyFileGovernanceActionProvider.NO_CHECKSUM_VERIFICATION_PROPERTY:
+                            verifyChecksum = false;
+                            break;
+                        case MoveCopyFileGovernanceActionProvider.MANIFEST_FILE_PROPERTY:
+                            manifestFileName = requestParameters.get(requestParameterName);
+                            break;
                     }
                 }
             }
@@ -397,33 +474,115 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             }
             else
             {
-                String destinationFileName = provisionFile(governanceServiceName,
-                                                           destinationFolderName,
-                                                           sourceFileName,
-                                                           destinationFileNamePattern,
-                                                           copyFile,
-                                                           auditLog);
+                final ProvisioningManifest manifest;
 
-                if (destinationFileName != null)
+                if (manifestFileName != null)
+                {
+                    manifest = new ProvisioningManifest(manifestFileName);
+                }
+                else
                 {
-                    String newActionTargetGUID = null;
+                    manifest = null;
+                }
 
-                    if (createLineage)
+                List<String>        sourceFileNames      = FileProvisioner.getSourceFileNames(sourceFileName);
+                List<Exception>     provisioningErrors   = new ArrayList<>();
+                Map<String, String> destinationFileNames = FileProvisioner.provisionFiles(sourceFileNames,
+                                                                                          manifest,
+                                                                                          parallelism,
+                                                                                          (String sourceFilePathName) -> provisionFile(governanceServiceName,
+                                                                                                                                       destinationFolderName,
+                                                                                                                                       sourceFilePathName,
+                                                                                                                                       destinationFileNamePattern,
+                                                                                                                                       copyFile,
+                                                                                                                                       verifyChecksum,
+                                                                                                                                       manifest,
+                                                                                                                                       auditLog),
+                                                                                          provisioningErrors);
+                Map<String, String> provisionedFileNames = new LinkedHashMap<>();
+
+                for (Map.Entry<String, String> destinationFileName : destinationFileNames.entrySet())
+                {
+                    if (destinationFileName.getValue() != null)
                     {
-                        newActionTargetGUID = createLineage(destinationFileName);
+                        provisionedFileNames.put(destinationFileName.getKey(), destinationFileName.getValue());
                     }
+                }
 
-                    if (newActionTargetGUID != null)
+                /*
+                 * Lineage is created for every file that was provisioned, even if other files in the request failed.
+                 */
+                if ((createLineage) && (! provisionedFileNames.isEmpty()))
+                {
+                    newActionTargets = new ArrayList<>();
+
+                    String      processGUID            = null;
+                    Set<String> linkedSourceGUIDs      = new HashSet<>();
+                    Set<String> linkedDestinationGUIDs = new HashSet<>();
+
+                    for (String sourceFilePathName : provisionedFileNames.keySet())
                     {
-                        newActionTargets = new ArrayList<>();
+                        String newActionTargetGUID = null;
+
+                        if (manifest != null)
+                        {
+                            newActionTargetGUID = manifest.getAssetGUID(sourceFilePathName);
+                        }
+
+                        if (newActionTargetGUID == null)
+                        {
+                            if (processGUID == null)
+                            {
+                                processGUID = getProcessGUID();
+                            }
+
+                            newActionTargetGUID = createLineage(sourceFilePathName,
+                                                                provisionedFileNames.get(sourceFilePathName),
+                                                                sourceFileNames.size() == 1,
+                                                                processGUID,
+                                                                linkedSourceGUIDs,
+                                                                linkedDestinationGUIDs);
+
+                            if ((manifest != null) && (newActionTargetGUID != null))
+                            {
+                                manifest.recordCatalogued(sourceFilePathName, newActionTargetGUID);
+                            }
+                        }
 
-                        NewActionTarget actionTarget = new NewActionTarget();
+                        if (newActionTargetGUID != null)
+                        {
+                            NewActionTarget actionTarget = new NewActionTarget();
 
-                        actionTarget.setActionTargetGUID(newActionTargetGUID);
-                        actionTarget.setActionTargetName(MoveCopyFileGovernanceActionProvider.NEW_ASSET_GUID_PROPERTY);
-                        newActionTargets.add(actionTarget);
+                            actionTarget.setActionTargetGUID(newActionTargetGUID);
+                            actionTarget.setActionTargetName(MoveCopyFileGovernanceActionProvider.NEW_ASSET_GUID_PROPERTY);
+                            newActionTargets.add(actionTarget);
+                        }
                     }
 
+                    if (newActionTargets.isEmpty())
+                    {
+                        newActionTargets = null;
+                    }
+                }
+
+                if ((sourceFileNames.size() > 1) && (auditLog != null))
+                {
+                    auditLog.logMessage(methodName,
+                                        GovernanceActionConnectorsAuditCode.PROVISIONED_FILES.getMessageDefinition(governanceServiceName,
+                                                                                                                   Integer.toString(provisionedFileNames.size()),
+                                                                                                                   sourceFileName,
+                                                                                                                   destinationFolderName));
+                }
+
+                if (! provisioningErrors.isEmpty())
+                {
+                    /*
+                     * The files that were provisioned are passed as action targets with the failure.
+                     */
+                    throw provisioningErrors.get(0);
+                }
+                else if ((! destinationFileNames.isEmpty()) && (provisionedFileNames.size() == destinationFileNames.size()))
+                {
                     outputGuards.add(MoveCopyFileGovernanceActionProvider.PROVISIONING_COMPLETE_GUARD);
                     completionStatus = CompletionStatus.ACTIONED;
                 }
@@ -713,33 +872,24 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
 
 
     /**
-     * Create the lineage mapping for the provisioning process.  This governance action service supports a number of lineage patterns.
-     * It assumes the source file / folder is catalogued.  It attaches it to the metadata element that represents this process
-     * (if needed) and the destination file / folder.
+     * Return the process that the lineage for this run of the governance action service is attached to.  The top level
+     * process is created if it does not exist, along with a child process for this run if child process lineage is requested.
+     * This is called once for each run, however many files are provisioned.
      *
-     * @param destinationFilePathName name of the file that was created
-     * @return unique identifier if the new file asset
+     * @return unique identifier of the process
      *
      * @throws InvalidParameterException one of the parameters passed to open metadata is invalid (probably a bug in this code)
      * @throws UserNotAuthorizedException the userId for the connector does not have the authority it needs
      * @throws PropertyServerException there is a problem with the metadata server(s)
      */
-    private String createLineage(String destinationFilePathName) throws InvalidParameterException,
-                                                                        UserNotAuthorizedException,
-                                                                        PropertyServerException
+    private String getProcessGUID() throws InvalidParameterException,
+                                           UserNotAuthorizedException,
+                                           PropertyServerException
     {
-        final String methodName              = "createLineage";
         final String childProcessTypeName    = "TransientEmbeddedProcess";
         final String topLevelProcessTypeName = "DeployedConnector";
 
-        OpenMetadataStore metadataStore = governanceContext.getOpenMetadataStore();
-
-        String fileName = FilenameUtils.getName(destinationFilePathName);
-        String fileExtension = FilenameUtils.getExtension(destinationFilePathName);
-        String newFileGUID;
-
         String topLevelProcessGUID = governanceContext.getOpenMetadataStore().getMetadataElementGUIDByUniqueName(topLevelProcessName, null, true, false, null);
-        String processGUID;
 
         if (topLevelProcessGUID == null)
         {
@@ -766,30 +916,73 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
 
         if (childProcessLineage)
         {
-            processGUID = governanceContext.createChildProcess(childProcessTypeName,
-                                                               ElementStatus.ACTIVE,
-                                                               topLevelProcessName + connectorInstanceId,
-                                                               topLevelProcessName,
-                                                               null,
-                                                               topLevelProcessGUID);
+            return governanceContext.createChildProcess(childProcessTypeName,
+                                                        ElementStatus.ACTIVE,
+                                                        topLevelProcessName + connectorInstanceId,
+                                                        topLevelProcessName,
+                                                        null,
+                                                        topLevelProcessGUID);
         }
-        else
+
+        return topLevelProcessGUID;
+    }
+
+
+    /**
+     * Create the lineage mapping for one provisioned file.  This governance action service supports a number of lineage patterns.
+     * It assumes the source file / folder is catalogued.  It attaches it to the metadata element that represents this process
+     * (if needed) and the destination file / folder.  When the lineage is drawn from the source folder or to the destination
+     * folder, many files share the same folder so the GUIDs already linked to the process are passed in to ensure each
+     * DataFlow relationship is only created once per request.
+     *
+     * @param sourceFilePathName name of the file that was copied or moved
+     * @param destinationFilePathName name of the file that was created
+     * @param useSourceFileGUID the source file was supplied as an action target (only true when there is a single source file)
+     * @param processGUID unique identifier of the process returned by getProcessGUID
+     * @param linkedSourceGUIDs unique identifiers of the elements already linked into the process by this request
+     * @param linkedDestinationGUIDs unique identifiers of the elements the process is already linked to by this request
+     * @return unique identifier if the new file asset
+     *
+     * @throws InvalidParameterException one of the parameters passed to open metadata is invalid (probably a bug in this code)
+     * @throws UserNotAuthorizedException the userId for the connector does not have the authority it needs
+     * @throws PropertyServerException there is a problem with the metadata server(s)
+     */
+    private String createLineage(String      sourceFilePathName,
+                                 String      destinationFilePathName,
+                                 boolean     useSourceFileGUID,
+                                 String      processGUID,
+                                 Set<String> linkedSourceGUIDs,
+                                 Set<String> linkedDestinationGUIDs) throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException
+    {
+        final String methodName = "createLineage";
+
+        OpenMetadataStore metadataStore = governanceContext.getOpenMetadataStore();
+
+        String fileName = FilenameUtils.getName(destinationFilePathName);
+        String fileExtension = FilenameUtils.getExtension(destinationFilePathName);
+        String newFileGUID;
+
+        String sourceGUID = null;
+
+        if (useSourceFileGUID)
         {
-            processGUID = topLevelProcessGUID;
+            sourceGUID = sourceFileGUID;
         }
 
-        if (sourceFileGUID == null)
+        if (sourceGUID == null)
         {
-            sourceFileGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFileName, "pathName", true, false, null);
+            sourceGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFilePathName, "pathName", true, false, null);
 
-            if (sourceFileGUID == null)
+            if (sourceGUID == null)
             {
-                sourceFileGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFileName, null, true, false, null);
+                sourceGUID = metadataStore.getMetadataElementGUIDByUniqueName(sourceFilePathName, null, true, false, null);
             }
 
-            if (! sourceLineageFromFile)
+            if ((sourceGUID != null) && (! sourceLineageFromFile))
             {
-                sourceFileGUID = getFolderGUID(sourceFileGUID);
+                sourceGUID = getFolderGUID(sourceGUID);
             }
         }
 
@@ -826,19 +1019,21 @@ public class MoveCopyFileGovernanceActionConnector extends ProvisioningGovernanc
             newFileGUID = getFolderGUID(newFileGUID);
         }
 
-        sourceFileGUID = governanceContext.getOpenMetadataStore().getMetadataElementGUIDByUniqueName(sourceFileName, "pathName", true, false, null);
-        if (sourceFileGUID != null)
+        if ((sourceGUID != null) && (linkedSourceGUIDs.add(sourceGUID)))
         {
-            governanceContext.createLineageRelationship("DataFlow", sourceFileGUID, null, null, null, processGUID);
+            governanceContext.createLineageRelationship("DataFlow", sourceGUID, null, null, null, processGUID);
         }
 
-        governanceContext.createLineageRelationship("DataFlow", processGUID, null, null, null, newFileGUID);
+        if (linkedDestinationGUIDs.add(newFileGUID))
+        {
+            governanceContext.createLineageRelationship("DataFlow", processGUID, null, null, null, newFileGUID);
+        }
 
         if (auditLog != null)
         {
             auditLog.logMessage(methodName,
                                 GovernanceActionConnectorsAuditCode.CREATED_LINEAGE.getMessageDefinition(governanceServiceName,
-                                                                                                         sourceFileGUID,
+                                                                                                         sourceGUID,
                                                                                                          processGUID,
                                                                                                          newFileGUID));
         }
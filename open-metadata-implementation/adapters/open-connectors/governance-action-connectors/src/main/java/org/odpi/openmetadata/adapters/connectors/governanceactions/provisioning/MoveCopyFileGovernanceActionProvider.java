@@ -30,6 +30,9 @@ public class MoveCopyFileGovernanceActionProvider extends GovernanceActionServic
     static final String TOP_LEVEL_PROCESS_ONLY_LINEAGE_PROPERTY                    = "topLevelProcessLineageOnly";
     static final String LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY                = "lineageToDestinationFolderOnly";
     static final String LINEAGE_FROM_SOURCE_FOLDER_ONLY_PROPERTY                   = "lineageFromSourceFolderOnly";
+    static final String NO_CHECKSUM_VERIFICATION_PROPERTY                          = "noChecksumVerification";
+    static final String MANIFEST_FILE_PROPERTY                                     = "manifestFile";
+    static final String PARALLELISM_PROPERTY                                       = "parallelism";
 
     static final String COPY_REQUEST_TYPE   = "copy-file";
     static final String MOVE_REQUEST_TYPE   = "move-file";
@@ -71,6 +74,8 @@ public class MoveCopyFileGovernanceActionProvider extends GovernanceActionServic
         supportedRequestParameters.add(TOP_LEVEL_PROCESS_ONLY_LINEAGE_PROPERTY);
         supportedRequestParameters.add(LINEAGE_FROM_SOURCE_FOLDER_ONLY_PROPERTY);
         supportedRequestParameters.add(LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY);
+        supportedRequestParameters.add(NO_CHECKSUM_VERIFICATION_PROPERTY);
+        supportedRequestParameters.add(MANIFEST_FILE_PROPERTY);
 
         supportedTargetActionNames = new ArrayList<>();
         supportedTargetActionNames.add(SOURCE_FILE_PROPERTY);
@@ -102,6 +107,8 @@ public class MoveCopyFileGovernanceActionProvider extends GovernanceActionServic
         recognizedConfigurationProperties.add(TOP_LEVEL_PROCESS_ONLY_LINEAGE_PROPERTY);
         recognizedConfigurationProperties.add(LINEAGE_FROM_SOURCE_FOLDER_ONLY_PROPERTY);
         recognizedConfigurationProperties.add(LINEAGE_TO_DESTINATION_FOLDER_ONLY_PROPERTY);
+        recognizedConfigurationProperties.add(NO_CHECKSUM_VERIFICATION_PROPERTY);
+        recognizedConfigurationProperties.add(PARALLELISM_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
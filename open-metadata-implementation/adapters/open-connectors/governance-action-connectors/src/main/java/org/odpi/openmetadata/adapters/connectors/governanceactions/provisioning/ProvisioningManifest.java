@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProvisioningManifest records the progress of the MoveCopyFileGovernanceActionConnector so that a restarted
+ * request skips the files that were provisioned before.  Each line of the manifest file is appended (and synced)
+ * as soon as a step completes.  It holds the source file name, destination file name, checksum and (once the
+ * destination has been catalogued) the unique identifier of the new asset, separated by tabs.  Later lines for a
+ * source file replace earlier ones.
+ */
+class ProvisioningManifest
+{
+    private static final String SEPARATOR    = "\t";
+    private static final String EMPTY_COLUMN = "-";
+
+    private final Path                  manifestPath;
+    private final Map<String, String[]> entries = new HashMap<>();
+
+
+    /**
+     * Constructor loads any existing entries from the manifest file.
+     *
+     * @param manifestFileName name of the manifest file
+     * @throws IOException the manifest file exists but could not be read
+     */
+    ProvisioningManifest(String manifestFileName) throws IOException
+    {
+        this.manifestPath = Paths.get(manifestFileName);
+
+        if (Files.exists(manifestPath))
+        {
+            List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+
+            for (String line : lines)
+            {
+                String[] columns = line.split(SEPARATOR);
+
+                /*
+                 * A line that was only partly written when the process stopped is ignored.
+                 */
+                if (columns.length == 4)
+                {
+                    entries.put(columns[0], columns);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the destination of a source file that has already been provisioned.
+     *
+     * @param sourceFileName name of the source file
+     * @return destination file name or null if the file has not been provisioned
+     */
+    synchronized String getDestinationFileName(String sourceFileName)
+    {
+        String[] entry = entries.get(sourceFileName);
+
+        if (entry != null)
+        {
+            return entry[1];
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the unique identifier of the asset created for a source file that has already been provisioned.
+     *
+     * @param sourceFileName name of the source file
+     * @return unique identifier or null if the destination file has not been catalogued
+     */
+    synchronized String getAssetGUID(String sourceFileName)
+    {
+        String[] entry = entries.get(sourceFileName);
+
+        if (entry != null)
+        {
+            return getColumn(entry[3]);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record that a file has been copied or moved.
+     *
+     * @param sourceFileName name of the source file
+     * @param destinationFileName name of the destination file
+     * @param checksum checksum of the file (may be null)
+     * @throws IOException the manifest could not be written
+     */
+    synchronized void recordProvisioned(String sourceFileName,
+                                        String destinationFileName,
+                                        String checksum) throws IOException
+    {
+        this.appendEntry(new String[]{ sourceFileName, destinationFileName, setColumn(checksum), EMPTY_COLUMN });
+    }
+
+
+    /**
+     * Record that the destination of a file has been catalogued.
+     *
+     * @param sourceFileName name of the source file
+     * @param assetGUID unique identifier of the new asset
+     * @throws IOException the manifest could not be written
+     */
+    synchronized void recordCatalogued(String sourceFileName,
+                                       String assetGUID) throws IOException
+    {
+        String[] entry = entries.get(sourceFileName);
+
+        if (entry != null)
+        {
+            this.appendEntry(new String[]{ entry[0], entry[1], entry[2], setColumn(assetGUID) });
+        }
+    }
+
+
+    /**
+     * Add an entry to the manifest file and the in-memory map.
+     *
+     * @param entry columns of the entry
+     * @throws IOException the manifest could not be written
+     */
+    private void appendEntry(String[] entry) throws IOException
+    {
+        String line = String.join(SEPARATOR, entry) + System.lineSeparator();
+
+        Files.write(manifestPath,
+                    line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND,
+                    StandardOpenOption.DSYNC);
+
+        entries.put(entry[0], entry);
+    }
+
+
+    /**
+     * Convert a stored column to its value.
+     *
+     * @param column stored column
+     * @return value or null
+     */
+    private static String getColumn(String column)
+    {
+        if (EMPTY_COLUMN.equals(column))
+        {
+            return null;
+        }
+
+        return column;
+    }
+
+
+    /**
+     * Convert a value to a stored column.
+     *
+     * @param value value or null
+     * @return stored column
+     */
+    private static String setColumn(String value)
+    {
+        if (value == null)
+        {
+            return EMPTY_COLUMN;
+        }
+
+        return value;
+    }
+}
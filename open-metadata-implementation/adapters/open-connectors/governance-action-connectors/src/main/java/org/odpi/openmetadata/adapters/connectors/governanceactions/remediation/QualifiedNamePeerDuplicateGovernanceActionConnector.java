@@ -4,32 +4,55 @@ package org.odpi.openmetadata.adapters.connectors.governanceactions.remediation;
 
 
 import org.odpi.openmetadata.adapters.connectors.governanceactions.ffdc.GovernanceActionConnectorsErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.duplicates.DuplicateBlockingKeyType;
+import org.odpi.openmetadata.frameworks.connectors.duplicates.DuplicateCandidateIndex;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementType;
 import org.odpi.openmetadata.frameworks.governanceaction.OpenMetadataStore;
 import org.odpi.openmetadata.frameworks.governanceaction.RemediationGovernanceActionService;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.CompletionStatus;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.search.ElementProperties;
 import org.odpi.openmetadata.frameworks.governanceaction.search.MatchCriteria;
 import org.odpi.openmetadata.frameworks.governanceaction.search.PrimitiveTypeCategory;
 import org.odpi.openmetadata.frameworks.governanceaction.search.PrimitiveTypePropertyValue;
 import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyComparisonOperator;
 import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyCondition;
+import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyValue;
 import org.odpi.openmetadata.frameworks.governanceaction.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * QualifiedNamePeerDuplicateGovernanceActionConnector checks the qualified name to determine the duplicates of the entity that is passed
- * as an action target.
+ * as an action target.  When the batchMode request parameter is true, it loads every asset into the duplicate candidate
+ * index shared by the services working with the same metadata server, and links each group of assets with the same qualified
+ * name in one pass.  Once the index is loaded, the candidate duplicates of an asset passed as an action target are taken from
+ * the index rather than from a search.  Assets created or deleted since the load are not in the index, so it is only used
+ * until the maximum load age has passed.  After that, the duplicates are found by searching until the next batch run
+ * reloads the index.
+ *
+ * The index blocks on a normalized form of the qualified name, so the assets it returns are only candidates.  Assets are
+ * only linked as peer duplicates when their qualified names are identical.
  */
 public class QualifiedNamePeerDuplicateGovernanceActionConnector extends RemediationGovernanceActionService
 {
     private static final String QUALIFIED_NAME_PROPERTY = "qualifiedName";
+    private static final String NAME_PROPERTY           = "name";
+    private static final String DISPLAY_NAME_PROPERTY   = "displayName";
+    private static final String ASSET_TYPE_NAME         = "Asset";
+    private static final int    BATCH_PAGE_SIZE         = 100;
 
     /**
      * Indicates that the governance action service is completely configured and can begin processing.
@@ -49,9 +72,24 @@ public class QualifiedNamePeerDuplicateGovernanceActionConnector extends Remedia
         List<String> outputGuards = new ArrayList<>();
         CompletionStatus completionStatus = CompletionStatus.INVALID;
 
+        DuplicateCandidateIndex candidateIndex = this.getCandidateIndex(methodName);
+
         try
         {
-            if (governanceContext.getActionTargetElements() == null)
+            if (this.isBatchMode())
+            {
+                if (this.linkDuplicateClusters(candidateIndex))
+                {
+                    outputGuards.add(QualifiedNamePeerDuplicateGovernanceActionProvider.DUPLICATE_ASSIGNED_GUARD);
+                }
+                else
+                {
+                    outputGuards.add(QualifiedNamePeerDuplicateGovernanceActionProvider.NO_DUPLICATION_DETECTED_GUARD);
+                }
+
+                completionStatus = CompletionStatus.ACTIONED;
+            }
+            else if (governanceContext.getActionTargetElements() == null)
             {
                 completionStatus = CompletionStatus.FAILED;
                 outputGuards.add(QualifiedNamePeerDuplicateGovernanceActionProvider.NO_TARGETS_DETECTED_GUARD);
@@ -63,36 +101,71 @@ public class QualifiedNamePeerDuplicateGovernanceActionConnector extends Remedia
 
                 OpenMetadataStore store = governanceContext.getOpenMetadataStore();
 
+                String targetElementGUID = targetElement.getElementGUID();
                 String qualifiedName = targetElement.getElementProperties().getPropertyValueMap().get(QUALIFIED_NAME_PROPERTY).valueAsString();
-                SearchProperties searchProperties = getSearchProperties(qualifiedName);
-                List<OpenMetadataElement> elements = store.findMetadataElements(targetElement.getType().getTypeId(),
-                                                                                null,
-                                                                                searchProperties,
-                                                                                null,
-                                                                                null,
-                                                                                null,
-                                                                                null,
-                                                                                false,
-                                                                                true,
-                                                                                new Date(),
-                                                                                0,
-                                                                                0);
-
-                if (elements != null)
+                List<String> duplicateElementGUIDs = null;
+
+                if ((candidateIndex.isLoaded()) && (this.isAsset(targetElement.getType())))
                 {
-                    String targetElementGUID = targetElement.getElementGUID();
-                    if (elements.size() == 1 && elements.get(0).getElementGUID().equalsIgnoreCase(targetElementGUID))
+                    /*
+                     * Every asset is in the index so the duplicates can be read from the target's qualified name block
+                     * after bringing the target's own entry up to date.
+                     */
+                    candidateIndex.updateElement(targetElementGUID, qualifiedName, this.getDisplayName(targetElement.getElementProperties()), null);
+
+                    Map<String, List<String>> candidates = candidateIndex.getCandidates(targetElementGUID, EnumSet.of(DuplicateBlockingKeyType.QUALIFIED_NAME));
+
+                    duplicateElementGUIDs = new ArrayList<>();
+
+                    for (String candidateGUID : candidates.keySet())
                     {
-                        outputGuards.add(QualifiedNamePeerDuplicateGovernanceActionProvider.NO_DUPLICATION_DETECTED_GUARD);
+                        OpenMetadataElement candidate = store.getMetadataElementByGUID(candidateGUID, false, true, new Date());
+
+                        if ((candidate != null) &&
+                                    (qualifiedName.equals(this.getStringProperty(candidate.getElementProperties(), QUALIFIED_NAME_PROPERTY))))
+                        {
+                            duplicateElementGUIDs.add(candidateGUID);
+                        }
                     }
-                    for (OpenMetadataElement duplicateAsset : elements)
+                }
+                else
+                {
+                    SearchProperties searchProperties = getSearchProperties(qualifiedName);
+                    List<OpenMetadataElement> elements = store.findMetadataElements(targetElement.getType().getTypeId(),
+                                                                                    null,
+                                                                                    searchProperties,
+                                                                                    null,
+                                                                                    null,
+                                                                                    null,
+                                                                                    null,
+                                                                                    false,
+                                                                                    true,
+                                                                                    new Date(),
+                                                                                    0,
+                                                                                    0);
+
+                    if (elements != null)
                     {
-                        String duplicateAssetGUID = duplicateAsset.getElementGUID();
-                        if (duplicateAssetGUID.equalsIgnoreCase(targetElementGUID))
+                        duplicateElementGUIDs = new ArrayList<>();
+
+                        for (OpenMetadataElement element : elements)
                         {
-                            continue;
+                            if (! element.getElementGUID().equalsIgnoreCase(targetElementGUID))
+                            {
+                                duplicateElementGUIDs.add(element.getElementGUID());
+                            }
                         }
+                    }
+                }
 
+                if (duplicateElementGUIDs != null)
+                {
+                    if (duplicateElementGUIDs.isEmpty())
+                    {
+                        outputGuards.add(QualifiedNamePeerDuplicateGovernanceActionProvider.NO_DUPLICATION_DETECTED_GUARD);
+                    }
+                    for (String duplicateAssetGUID : duplicateElementGUIDs)
+                    {
                         governanceContext.linkElementsAsPeerDuplicates(targetElementGUID,
                                                            duplicateAssetGUID,
                                                            1,
@@ -127,6 +200,239 @@ public class QualifiedNamePeerDuplicateGovernanceActionConnector extends Remedia
     }
 
 
+    /**
+     * Load every asset into the duplicate candidate index and link the assets in each cluster that have identical
+     * qualified names as peer duplicates of the first of those assets.
+     *
+     * @param candidateIndex index to load
+     * @return true if any duplicates were linked
+     * @throws InvalidParameterException the search parameters are invalid
+     * @throws UserNotAuthorizedException the governance action service is not authorized to retrieve or link the assets
+     * @throws PropertyServerException there is a problem with the metadata store
+     */
+    private boolean linkDuplicateClusters(DuplicateCandidateIndex candidateIndex) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        OpenMetadataStore   store          = governanceContext.getOpenMetadataStore();
+        Map<String, String> qualifiedNames = new HashMap<>();
+        int                 startFrom      = 0;
+
+        List<OpenMetadataElement> assets = store.findMetadataElements(ASSET_TYPE_NAME,
+                                                                      null,
+                                                                      null,
+                                                                      null,
+                                                                      null,
+                                                                      null,
+                                                                      null,
+                                                                      false,
+                                                                      true,
+                                                                      new Date(),
+                                                                      startFrom,
+                                                                      BATCH_PAGE_SIZE);
+
+        while (assets != null)
+        {
+            for (OpenMetadataElement asset : assets)
+            {
+                if (asset != null)
+                {
+                    String qualifiedName = this.getStringProperty(asset.getElementProperties(), QUALIFIED_NAME_PROPERTY);
+
+                    candidateIndex.updateElement(asset.getElementGUID(),
+                                                 qualifiedName,
+                                                 this.getDisplayName(asset.getElementProperties()),
+                                                 null);
+                    qualifiedNames.put(asset.getElementGUID(), qualifiedName);
+                }
+            }
+
+            if (assets.size() < BATCH_PAGE_SIZE)
+            {
+                break;
+            }
+
+            startFrom = startFrom + BATCH_PAGE_SIZE;
+            assets = store.findMetadataElements(ASSET_TYPE_NAME,
+                                                null,
+                                                null,
+                                                null,
+                                                null,
+                                                null,
+                                                null,
+                                                false,
+                                                true,
+                                                new Date(),
+                                                startFrom,
+                                                BATCH_PAGE_SIZE);
+        }
+
+        candidateIndex.retainElements(qualifiedNames.keySet());
+        candidateIndex.setLoaded(true);
+
+        boolean duplicatesLinked = false;
+
+        for (List<String> cluster : candidateIndex.getDuplicateClusters(EnumSet.of(DuplicateBlockingKeyType.QUALIFIED_NAME)))
+        {
+            /*
+             * The cluster shares a normalized qualified name.  Only the assets with identical qualified names are duplicates.
+             */
+            Map<String, String> firstElementGUIDs = new HashMap<>();
+
+            for (String elementGUID : cluster)
+            {
+                String qualifiedName    = qualifiedNames.get(elementGUID);
+                String firstElementGUID = firstElementGUIDs.putIfAbsent(qualifiedName, elementGUID);
+
+                if (firstElementGUID != null)
+                {
+                    governanceContext.linkElementsAsPeerDuplicates(firstElementGUID,
+                                                                   elementGUID,
+                                                                   1,
+                                                                   null,
+                                                                   null,
+                                                                   null,
+                                                                   null,
+                                                                   null,
+                                                                   true);
+                    duplicatesLinked = true;
+                }
+            }
+        }
+
+        return duplicatesLinked;
+    }
+
+
+    /**
+     * Return whether the batchMode request parameter is set to true.
+     *
+     * @return flag
+     */
+    private boolean isBatchMode()
+    {
+        Map<String, String> requestParameters = governanceContext.getRequestParameters();
+
+        if (requestParameters != null)
+        {
+            return Boolean.parseBoolean(requestParameters.get(QualifiedNamePeerDuplicateGovernanceActionProvider.BATCH_MODE_PARAMETER));
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the duplicate candidate index shared with the other services working with the same metadata server.
+     *
+     * @param methodName calling method
+     * @return candidate index
+     * @throws ConnectorCheckedException the maximum load age configuration property is not a number
+     */
+    private DuplicateCandidateIndex getCandidateIndex(String methodName) throws ConnectorCheckedException
+    {
+        OpenMetadataStore   store                   = governanceContext.getOpenMetadataStore();
+        Map<String, Object> configurationProperties = this.getConfigurationProperties();
+
+        try
+        {
+            return DuplicateCandidateIndex.getConfiguredIndex(store.getMetadataServerName(),
+                                                              store.getMetadataServerPlatformURLRoot(),
+                                                              configurationProperties);
+        }
+        catch (NumberFormatException error)
+        {
+            throw new ConnectorCheckedException(GovernanceActionConnectorsErrorCode.INVALID_CONFIGURATION_PROPERTY.getMessageDefinition(governanceServiceName,
+                                                                                                                                        configurationProperties.get(DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY).toString(),
+                                                                                                                                        DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+    }
+
+
+    /**
+     * Return the configuration properties from the connection.
+     *
+     * @return map of property names to values (may be null)
+     */
+    private Map<String, Object> getConfigurationProperties()
+    {
+        if (connectionProperties != null)
+        {
+            return connectionProperties.getConfigurationProperties();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return whether the element type is Asset or one of its subtypes.
+     *
+     * @param elementType type of the element
+     * @return flag
+     */
+    private boolean isAsset(ElementType elementType)
+    {
+        if (elementType != null)
+        {
+            if (ASSET_TYPE_NAME.equals(elementType.getTypeName()))
+            {
+                return true;
+            }
+
+            return (elementType.getSuperTypeNames() != null) && (elementType.getSuperTypeNames().contains(ASSET_TYPE_NAME));
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the display name of an element.  Assets store it in the name property; other elements use displayName.
+     *
+     * @param elementProperties properties of the element
+     * @return display name or null
+     */
+    private String getDisplayName(ElementProperties elementProperties)
+    {
+        String displayName = this.getStringProperty(elementProperties, NAME_PROPERTY);
+
+        if (displayName == null)
+        {
+            displayName = this.getStringProperty(elementProperties, DISPLAY_NAME_PROPERTY);
+        }
+
+        return displayName;
+    }
+
+
+    /**
+     * Return the value of a property as a string.
+     *
+     * @param elementProperties properties of the element
+     * @param propertyName name of the property
+     * @return value or null
+     */
+    private String getStringProperty(ElementProperties elementProperties,
+                                     String            propertyName)
+    {
+        if (elementProperties != null)
+        {
+            PropertyValue propertyValue = elementProperties.getPropertyValue(propertyName);
+
+            if (propertyValue != null)
+            {
+                return propertyValue.valueAsString();
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Build up property parameters for a search.
      *
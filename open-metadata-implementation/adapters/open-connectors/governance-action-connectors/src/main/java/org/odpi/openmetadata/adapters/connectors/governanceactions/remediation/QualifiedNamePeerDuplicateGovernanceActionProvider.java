@@ -3,10 +3,12 @@
 
 package org.odpi.openmetadata.adapters.connectors.governanceactions.remediation;
 
+import org.odpi.openmetadata.frameworks.connectors.duplicates.DuplicateCandidateIndex;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.governanceaction.GovernanceActionServiceProviderBase;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * QualifiedNamePeerDuplicateGovernanceActionProvider is the OCF connector provider for the Deduplication Governance Action Service.
@@ -25,6 +27,12 @@ public class QualifiedNamePeerDuplicateGovernanceActionProvider extends Governan
     static final String DUPLICATE_DETECTION_FAILED_GUARD = "duplicate-detection-failed";
     static final String NO_TARGETS_DETECTED_GUARD       = "no-targets-detected";
 
+    /*
+     * When this request parameter is set to true, every asset is loaded into the duplicate candidate index and each
+     * cluster of assets with the same qualified name is linked as peer duplicates.
+     */
+    static final String BATCH_MODE_PARAMETER = "batchMode";
+
     private static final String connectorClassName = QualifiedNamePeerDuplicateGovernanceActionConnector.class.getName();
 
 
@@ -44,6 +52,9 @@ public class QualifiedNamePeerDuplicateGovernanceActionProvider extends Governan
         supportedGuards.add(DUPLICATE_DETECTION_FAILED_GUARD);
         supportedGuards.add(NO_TARGETS_DETECTED_GUARD);
 
+        supportedRequestParameters = new ArrayList<>();
+        supportedRequestParameters.add(BATCH_MODE_PARAMETER);
+
         super.setConnectorClassName(connectorClassName);
 
         ConnectorType connectorType = new ConnectorType();
@@ -54,6 +65,11 @@ public class QualifiedNamePeerDuplicateGovernanceActionProvider extends Governan
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(DuplicateCandidateIndex.INDEX_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
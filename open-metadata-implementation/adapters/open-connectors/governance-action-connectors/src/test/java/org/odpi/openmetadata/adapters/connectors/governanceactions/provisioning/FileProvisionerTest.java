@@ -0,0 +1,232 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that FileProvisioner finds the source files, copies and moves them safely, and provisions a list of files
+ * in parallel, returning the files that were provisioned even when others fail.
+ */
+public class FileProvisionerTest
+{
+    private Path writeFile(Path folder, String fileName, String contents) throws IOException
+    {
+        return Files.write(folder.resolve(fileName), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Validate the files found for a folder, a pattern and a single file.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testSourceFileNames() throws Exception
+    {
+        Path folder = Files.createTempDirectory("provisioning-source");
+
+        writeFile(folder, "b.csv", "b");
+        writeFile(folder, "a.csv", "a");
+        writeFile(folder, "c.txt", "c");
+        writeFile(folder, "report[1].csv", "report");
+        Files.createDirectory(folder.resolve("subfolder"));
+
+        assertEquals(FileProvisioner.getSourceFileNames(folder.toString()),
+                     Arrays.asList(folder.resolve("a.csv").toString(),
+                                   folder.resolve("b.csv").toString(),
+                                   folder.resolve("c.txt").toString(),
+                                   folder.resolve("report[1].csv").toString()));
+
+        assertEquals(FileProvisioner.getSourceFileNames(folder.resolve("*.txt").toString()),
+                     Collections.singletonList(folder.resolve("c.txt").toString()));
+
+        assertEquals(FileProvisioner.getSourceFileNames(folder.resolve("?.csv").toString()),
+                     Arrays.asList(folder.resolve("a.csv").toString(), folder.resolve("b.csv").toString()));
+
+        /*
+         * An existing file whose name looks like a pattern is a single file.
+         */
+        assertEquals(FileProvisioner.getSourceFileNames(folder.resolve("report[1].csv").toString()),
+                     Collections.singletonList(folder.resolve("report[1].csv").toString()));
+
+        /*
+         * A missing file is returned so that the error is reported when it is provisioned.
+         */
+        assertEquals(FileProvisioner.getSourceFileNames(folder.resolve("missing.csv").toString()),
+                     Collections.singletonList(folder.resolve("missing.csv").toString()));
+        assertTrue(FileProvisioner.getSourceFileNames(folder.resolve("*.json").toString()).isEmpty());
+    }
+
+
+    /**
+     * Validate copying and moving a file.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testProvisionFile() throws Exception
+    {
+        Path sourceFolder      = Files.createTempDirectory("provisioning-source");
+        Path destinationFolder = Files.createTempDirectory("provisioning-destination");
+        Path sourceFile        = writeFile(sourceFolder, "data.csv", "column1,column2\n1,2\n");
+
+        Path copyFile = Files.createFile(destinationFolder.resolve("copy.csv"));
+
+        String checksum = FileProvisioner.provisionFile(sourceFile.toString(), copyFile.toString(), true, true);
+
+        assertEquals(checksum, FileProvisioner.getChecksum(sourceFile));
+        assertEquals(new String(Files.readAllBytes(copyFile), StandardCharsets.UTF_8), "column1,column2\n1,2\n");
+        assertEquals(Files.getLastModifiedTime(copyFile), Files.getLastModifiedTime(sourceFile));
+        assertFalse(Files.exists(destinationFolder.resolve("copy.csv.part")));
+
+        assertNull(FileProvisioner.provisionFile(sourceFile.toString(), copyFile.toString(), true, false));
+
+        Path moveFile = Files.createFile(destinationFolder.resolve("move.csv"));
+
+        FileProvisioner.provisionFile(sourceFile.toString(), moveFile.toString(), false, true);
+
+        assertFalse(Files.exists(sourceFile));
+        assertEquals(new String(Files.readAllBytes(moveFile), StandardCharsets.UTF_8), "column1,column2\n1,2\n");
+
+        /*
+         * The reserved destination is removed if the file can not be provisioned.
+         */
+        Path failedFile = Files.createFile(destinationFolder.resolve("failed.csv"));
+
+        try
+        {
+            FileProvisioner.provisionFile(sourceFile.toString(), failedFile.toString(), true, true);
+            fail("missing source file provisioned");
+        }
+        catch (IOException expected)
+        {
+            assertFalse(Files.exists(failedFile));
+        }
+    }
+
+
+    /**
+     * Validate that a list of files is provisioned in parallel and that the files that succeed are returned along
+     * with the errors from those that fail.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testProvisionFiles() throws Exception
+    {
+        List<String> sourceFileNames = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+        {
+            sourceFileNames.add("file" + i);
+        }
+
+        Set<String>     threadNames = ConcurrentHashMap.newKeySet();
+        List<Exception> errors      = new ArrayList<>();
+
+        Map<String, String> destinationFileNames = FileProvisioner.provisionFiles(sourceFileNames,
+                                                                                  null,
+                                                                                  4,
+                                                                                  (String sourceFileName) ->
+                                                                                  {
+                                                                                      threadNames.add(Thread.currentThread().getName());
+
+                                                                                      if ("file3".equals(sourceFileName))
+                                                                                      {
+                                                                                          throw new IOException("test failure");
+                                                                                      }
+                                                                                      else if ("file7".equals(sourceFileName))
+                                                                                      {
+                                                                                          return null;
+                                                                                      }
+
+                                                                                      return sourceFileName + ".copy";
+                                                                                  },
+                                                                                  errors);
+
+        assertEquals(new ArrayList<>(destinationFileNames.keySet()), sourceFileNames);
+        assertEquals(destinationFileNames.get("file0"), "file0.copy");
+        assertEquals(destinationFileNames.get("file9"), "file9.copy");
+        assertNull(destinationFileNames.get("file3"));
+        assertNull(destinationFileNames.get("file7"));
+        assertFalse(threadNames.contains(Thread.currentThread().getName()));
+
+        assertEquals(errors.size(), 1);
+        assertEquals(errors.get(0).getMessage(), "test failure");
+
+        /*
+         * Without parallelism, the files are provisioned on the calling thread and every file is still attempted.
+         */
+        threadNames.clear();
+        errors.clear();
+
+        destinationFileNames = FileProvisioner.provisionFiles(sourceFileNames,
+                                                              null,
+                                                              1,
+                                                              (String sourceFileName) ->
+                                                              {
+                                                                  threadNames.add(Thread.currentThread().getName());
+
+                                                                  if ("file3".equals(sourceFileName))
+                                                                  {
+                                                                      throw new IOException("test failure");
+                                                                  }
+
+                                                                  return sourceFileName + ".copy";
+                                                              },
+                                                              errors);
+
+        assertEquals(threadNames, Collections.singleton(Thread.currentThread().getName()));
+        assertEquals(destinationFileNames.get("file9"), "file9.copy");
+        assertEquals(errors.size(), 1);
+    }
+
+
+    /**
+     * Validate that the files recorded in the manifest are not provisioned again.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testProvisionFilesWithManifest() throws Exception
+    {
+        Path                 folder   = Files.createTempDirectory("provisioning-manifest");
+        ProvisioningManifest manifest = new ProvisioningManifest(folder.resolve("manifest.txt").toString());
+        List<String>         provisioned = Collections.synchronizedList(new ArrayList<>());
+        List<Exception>      errors   = new ArrayList<>();
+
+        manifest.recordProvisioned("file1", "earlier.copy", null);
+
+        Map<String, String> destinationFileNames = FileProvisioner.provisionFiles(Arrays.asList("file1", "file2", "file3"),
+                                                                                  manifest,
+                                                                                  4,
+                                                                                  (String sourceFileName) ->
+                                                                                  {
+                                                                                      provisioned.add(sourceFileName);
+                                                                                      return sourceFileName + ".copy";
+                                                                                  },
+                                                                                  errors);
+
+        assertEquals(destinationFileNames.get("file1"), "earlier.copy");
+        assertEquals(destinationFileNames.get("file2"), "file2.copy");
+        assertFalse(provisioned.contains("file1"));
+        assertEquals(provisioned.size(), 2);
+        assertTrue(errors.isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.governanceactions.provisioning;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that ProvisioningManifest records the progress of a request and that a new instance reads it back,
+ * ignoring a line that was only partly written.
+ */
+public class ProvisioningManifestTest
+{
+    /**
+     * Validate that entries are recorded and reloaded.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testManifest() throws Exception
+    {
+        Path   folder           = Files.createTempDirectory("provisioning-manifest");
+        String manifestFileName = folder.resolve("manifest.txt").toString();
+
+        ProvisioningManifest manifest = new ProvisioningManifest(manifestFileName);
+
+        assertNull(manifest.getDestinationFileName("source1"));
+
+        manifest.recordProvisioned("source1", "destination1", "abc123");
+        manifest.recordProvisioned("source2", "destination2", null);
+        manifest.recordCatalogued("source1", "guid1");
+
+        /*
+         * A file that has not been provisioned can not be catalogued.
+         */
+        manifest.recordCatalogued("source3", "guid3");
+
+        assertEquals(manifest.getDestinationFileName("source1"), "destination1");
+        assertEquals(manifest.getAssetGUID("source1"), "guid1");
+        assertNull(manifest.getAssetGUID("source2"));
+        assertNull(manifest.getDestinationFileName("source3"));
+
+        /*
+         * The process stopped while it was writing a line.
+         */
+        Files.write(folder.resolve("manifest.txt"), "source3\tdest".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ProvisioningManifest reloadedManifest = new ProvisioningManifest(manifestFileName);
+
+        assertEquals(reloadedManifest.getDestinationFileName("source1"), "destination1");
+        assertEquals(reloadedManifest.getAssetGUID("source1"), "guid1");
+        assertEquals(reloadedManifest.getDestinationFileName("source2"), "destination2");
+        assertNull(reloadedManifest.getAssetGUID("source2"));
+        assertNull(reloadedManifest.getDestinationFileName("source3"));
+    }
+}
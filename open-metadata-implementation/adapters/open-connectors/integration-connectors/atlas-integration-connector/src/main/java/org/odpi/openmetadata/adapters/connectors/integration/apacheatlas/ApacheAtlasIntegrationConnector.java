@@ -11,9 +11,10 @@ import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.Glossa
 import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryTermElement;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
-import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasGlossaryAnchorElement;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementStatus;
@@ -23,9 +24,13 @@ import org.odpi.openmetadata.integrationservices.catalog.connector.CatalogIntegr
 import org.odpi.openmetadata.integrationservices.catalog.connector.GlossaryExchangeService;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -41,6 +46,11 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
     private GlossaryExchangeService  glossaryExchangeService = null;
     private ApacheAtlasRESTClient    atlasClient = null;
 
+    /*
+     * The version of each glossary and term last pushed to Apache Atlas, keyed by glossary GUID.
+     */
+    private final Map<String, AtlasGlossaryWatermark> glossaryWatermarks = new ConcurrentHashMap<>();
+
 
     /**
      * Indicates that the connector is completely configured and can begin processing.
@@ -126,9 +136,8 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
      *
-     * This method performs two sweeps. It first retrieves the topics from the event broker (Kafka) and validates that are in the
-     * catalog - adding or updating them if necessary. The second sweep is to ensure that all the topics catalogued
-     * actually exist in the event broker.
+     * This method retrieves the glossaries of interest and pushes each one, along with the terms that have changed since the
+     * last successful push, to Apache Atlas.  The versions pushed are recorded in a watermark for each glossary.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -139,30 +148,33 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
 
         try
         {
+            List<GlossaryElement> glossaries;
+
             if (glossaryQualifiedName == null)
             {
-                List<GlossaryElement> glossaries = glossaryExchangeService.findGlossaries(".*", 0, 0, new Date());
-
-                if (glossaries != null)
-                {
-                    for (GlossaryElement glossary : glossaries)
-                    {
-                        this.refreshGlossary(glossary);
-                    }
-                }
+                glossaries = glossaryExchangeService.findGlossaries(".*", 0, 0, new Date());
             }
             else
             {
-                List<GlossaryElement> glossaries = glossaryExchangeService.getGlossariesByName(glossaryGUID, 0, 0, new Date());
+                glossaries = glossaryExchangeService.getGlossariesByName(glossaryQualifiedName, 0, 0, new Date());
+            }
 
-                if (glossaries != null)
+            Set<String> glossaryGUIDs = new HashSet<>();
+
+            if (glossaries != null)
+            {
+                for (GlossaryElement glossary : glossaries)
                 {
-                    for (GlossaryElement glossary : glossaries)
-                    {
-                        this.refreshGlossary(glossary);
-                    }
+                    glossaryGUIDs.add(glossary.getElementHeader().getGUID());
+
+                    this.refreshGlossary(glossary);
                 }
             }
+
+            /*
+             * Forget the glossaries that have been deleted.
+             */
+            glossaryWatermarks.keySet().retainAll(glossaryGUIDs);
         }
         catch (InvalidParameterException error)
         {
@@ -363,15 +375,90 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
     }
 
 
-    private void refreshGlossary(GlossaryElement glossaryElement)
+    /**
+     * Push a glossary to Apache Atlas if it has changed since the last push, followed by its terms that have changed.
+     * The terms are sent through the bulk entity REST API.  The watermark is only moved on for the elements that
+     * Apache Atlas accepted, so a failure part way through is picked up by the next refresh.
+     *
+     * @param glossaryElement glossary from open metadata
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to retrieve the terms
+     * @throws PropertyServerException there is a problem in the metadata server or Apache Atlas
+     */
+    private void refreshGlossary(GlossaryElement glossaryElement) throws InvalidParameterException,
+                                                                         UserNotAuthorizedException,
+                                                                         PropertyServerException
     {
+        final String methodName = "refreshGlossary";
+
         if (glossaryElement != null)
         {
-            AtlasGlossaryAnchorElement atlasGlossaryAnchor = atlasClient.syncGlossary(glossaryElement);
+            ElementHeader          glossaryHeader = glossaryElement.getElementHeader();
+            AtlasGlossaryWatermark watermark      = glossaryWatermarks.computeIfAbsent(glossaryHeader.getGUID(), glossaryGUID -> new AtlasGlossaryWatermark());
+
+            if (watermark.isGlossaryChanged(glossaryHeader))
+            {
+                atlasClient.syncGlossary(glossaryElement);
+
+                watermark.setGlossarySynchronized(glossaryHeader, glossaryElement.getGlossaryProperties().getQualifiedName());
+            }
+
+            List<GlossaryTermElement> changedTerms  = new ArrayList<>();
+            List<String>              termGUIDs     = new ArrayList<>();
+            int                       startFrom     = 0;
+            List<GlossaryTermElement> glossaryTerms = glossaryExchangeService.getTermsForGlossary(glossaryHeader.getGUID(), startFrom, 0, new Date());
+
+            while (glossaryTerms != null)
+            {
+                startFrom = startFrom + glossaryTerms.size();
 
-            if (atlasGlossaryAnchor != null)
+                for (GlossaryTermElement glossaryTerm : glossaryTerms)
+                {
+                    termGUIDs.add(glossaryTerm.getElementHeader().getGUID());
+
+                    if ((glossaryTerm.getElementHeader().getStatus() == ElementStatus.ACTIVE) &&
+                        (watermark.isTermChanged(glossaryTerm.getElementHeader())))
+                    {
+                        changedTerms.add(glossaryTerm);
+                    }
+                }
+
+                glossaryTerms = glossaryExchangeService.getTermsForGlossary(glossaryHeader.getGUID(), startFrom, 0, new Date());
+            }
+
+            this.syncGlossaryTerms(changedTerms, watermark);
+
+            watermark.retainTerms(termGUIDs);
+
+            if (auditLog != null)
             {
+                auditLog.logMessage(methodName,
+                                    ApacheAtlasAuditCode.GLOSSARY_SYNCHRONIZED.getMessageDefinition(connectorName,
+                                                                                                    watermark.getQualifiedName(),
+                                                                                                    Integer.toString(changedTerms.size()),
+                                                                                                    Integer.toString(termGUIDs.size() - changedTerms.size())));
+            }
+        }
+    }
 
+
+    /**
+     * Push a list of changed terms to Apache Atlas and move the watermark on for each one.
+     *
+     * @param changedTerms terms from open metadata
+     * @param watermark watermark of the glossary that the terms belong to
+     * @throws PropertyServerException there is a problem calling Apache Atlas
+     */
+    private void syncGlossaryTerms(List<GlossaryTermElement> changedTerms,
+                                   AtlasGlossaryWatermark    watermark) throws PropertyServerException
+    {
+        if (! changedTerms.isEmpty())
+        {
+            atlasClient.syncGlossaryTerms(changedTerms, watermark.getQualifiedName());
+
+            for (GlossaryTermElement glossaryTerm : changedTerms)
+            {
+                watermark.setTermSynchronized(glossaryTerm.getElementHeader());
             }
         }
     }
@@ -386,7 +473,7 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
 
             if (glossaryTerm != null)
             {
-                this.refreshGlossaryTerm(glossaryTerm, null);
+                this.refreshGlossaryTerm(glossaryTerm);
             }
         }
         catch (InvalidParameterException notFound)
@@ -410,12 +497,22 @@ public class ApacheAtlasIntegrationConnector extends CatalogIntegratorConnector
     }
 
 
-    private void refreshGlossaryTerm(GlossaryTermElement        glossaryTerm,
-                                     AtlasGlossaryAnchorElement atlasGlossaryAnchor)
+    /**
+     * Push a changed term to Apache Atlas.  Terms from a glossary that has not been pushed yet are left for the next refresh.
+     *
+     * @param glossaryTerm term from open metadata
+     * @throws PropertyServerException there is a problem calling Apache Atlas
+     */
+    private void refreshGlossaryTerm(GlossaryTermElement glossaryTerm) throws PropertyServerException
     {
         if (glossaryTerm.getElementHeader().getStatus() == ElementStatus.ACTIVE)
         {
-            atlasClient.syncGlossaryTerm(glossaryTerm, atlasGlossaryAnchor);
+            AtlasGlossaryWatermark watermark = glossaryWatermarks.get(myContext.getAnchorGUID(glossaryTerm.getElementHeader()));
+
+            if ((watermark != null) && (watermark.getQualifiedName() != null) && (watermark.isTermChanged(glossaryTerm.getElementHeader())))
+            {
+                this.syncGlossaryTerms(Collections.singletonList(glossaryTerm), watermark);
+            }
         }
     }
 
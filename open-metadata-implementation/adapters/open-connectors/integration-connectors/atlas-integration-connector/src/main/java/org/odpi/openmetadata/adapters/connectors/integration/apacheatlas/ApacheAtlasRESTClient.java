@@ -5,9 +5,14 @@ package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas;
 
 import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryElement;
 import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryTermElement;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryProperties;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryTermProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.ffdc.ApacheAtlasErrorCode;
-import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasGlossaryAnchorElement;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasEntitiesWithExtInfo;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasEntity;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasEntityHeader;
+import org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties.AtlasEntityMutationResponse;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.factory.RESTClientFactory;
 import org.odpi.openmetadata.adapters.connectors.restclients.spring.SpringRESTClientConnector;
@@ -16,7 +21,11 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -31,6 +40,24 @@ public class ApacheAtlasRESTClient
 
     private final RESTClientConnector clientConnector;    /* Initialized in constructor */
 
+    private int maxEntitiesPerRequest = DEFAULT_MAX_ENTITIES_PER_REQUEST;
+
+    static final int DEFAULT_MAX_ENTITIES_PER_REQUEST = 100;
+
+    private static final String ATLAS_GLOSSARY_TYPE_NAME        = "AtlasGlossary";
+    private static final String ATLAS_GLOSSARY_TERM_TYPE_NAME   = "AtlasGlossaryTerm";
+    private static final String QUALIFIED_NAME_ATTRIBUTE        = "qualifiedName";
+    private static final String NAME_ATTRIBUTE                  = "name";
+    private static final String SHORT_DESCRIPTION_ATTRIBUTE     = "shortDescription";
+    private static final String LONG_DESCRIPTION_ATTRIBUTE      = "longDescription";
+    private static final String LANGUAGE_ATTRIBUTE              = "language";
+    private static final String USAGE_ATTRIBUTE                 = "usage";
+    private static final String EXAMPLES_ATTRIBUTE              = "examples";
+    private static final String ABBREVIATION_ATTRIBUTE          = "abbreviation";
+    private static final String ADDITIONAL_ATTRIBUTES_ATTRIBUTE = "additionalAttributes";
+    private static final String ANCHOR_ATTRIBUTE                = "anchor";
+    private static final String EGERIA_GUID_ATTRIBUTE           = "egeriaGUID";
+
 
     /**
      * Constructor for no authentication with audit log.
@@ -112,47 +139,246 @@ public class ApacheAtlasRESTClient
     }
 
 
-    AtlasGlossaryAnchorElement syncGlossary(GlossaryElement egeriaGlossary)
+    /**
+     * Create or update the glossary in Apache Atlas that matches an open metadata glossary.  Apache Atlas matches
+     * the glossary on its qualified name.
+     *
+     * @param egeriaGlossary glossary from open metadata
+     * @return unique identifier of the glossary in Apache Atlas, or null if Apache Atlas did not need to change it
+     * @throws PropertyServerException there was a problem calling Apache Atlas
+     */
+    String syncGlossary(GlossaryElement egeriaGlossary) throws PropertyServerException
     {
-        String atlasGUID = null;
+        final String methodName = "syncGlossary";
 
-        /*
-         * Retrieve the named glossary
-         */
+        AtlasEntity         atlasGlossary = new AtlasEntity();
+        Map<String, Object> attributes    = new HashMap<>();
 
-        /*
-         * If found, update glossary
-         */
+        GlossaryProperties glossaryProperties = egeriaGlossary.getGlossaryProperties();
 
-        /*
-         * If not found create glossary
-         */
+        if (glossaryProperties != null)
+        {
+            addAttribute(attributes, QUALIFIED_NAME_ATTRIBUTE, glossaryProperties.getQualifiedName());
+            addAttribute(attributes, NAME_ATTRIBUTE, glossaryProperties.getDisplayName());
+            addAttribute(attributes, LONG_DESCRIPTION_ATTRIBUTE, glossaryProperties.getDescription());
+            addAttribute(attributes, LANGUAGE_ATTRIBUTE, glossaryProperties.getLanguage());
+            addAttribute(attributes, USAGE_ATTRIBUTE, glossaryProperties.getUsage());
+        }
 
-        return null;
+        atlasGlossary.setTypeName(ATLAS_GLOSSARY_TYPE_NAME);
+        atlasGlossary.setGuid(getNewEntityGUID(0));
+        atlasGlossary.setAttributes(attributes);
+
+        AtlasEntityMutationResponse response = this.callBulkEntityRESTCall(methodName, Collections.singletonList(atlasGlossary));
+
+        return getAssignedGUIDs(Collections.singletonList(atlasGlossary), response).get(0);
     }
 
 
-    String syncGlossaryTerm(GlossaryTermElement        egeriaGlossaryTerm,
-                            AtlasGlossaryAnchorElement atlasGlossaryAnchor)
+    /**
+     * Create or update the terms in Apache Atlas that match a list of open metadata glossary terms.  The terms are
+     * sent through the bulk entity REST API, up to maxEntitiesPerRequest in each call.  Apache Atlas matches the
+     * terms on their qualified names and anchors them to the glossary with the supplied qualified name.
+     *
+     * @param egeriaGlossaryTerms glossary terms from open metadata
+     * @param glossaryQualifiedName qualified name of the glossary that the terms belong to
+     * @return map of open metadata unique identifier to Apache Atlas unique identifier for the terms that Apache Atlas changed
+     * @throws PropertyServerException there was a problem calling Apache Atlas - the terms in earlier calls were sent successfully
+     */
+    Map<String, String> syncGlossaryTerms(List<GlossaryTermElement> egeriaGlossaryTerms,
+                                          String                    glossaryQualifiedName) throws PropertyServerException
     {
-        String atlasGUID = null;
-        /*
-         * Retrieve the terms from the glossary
-         */
+        final String methodName = "syncGlossaryTerms";
+
+        Map<String, String> atlasGUIDs = new HashMap<>();
+
+        if (egeriaGlossaryTerms == null)
+        {
+            return atlasGUIDs;
+        }
+
+        Map<String, Object> uniqueAttributes = new HashMap<>();
+        Map<String, Object> anchor           = new HashMap<>();
 
-        /*
-         * Scan the terms to match on the egeriaGUID
-         */
+        uniqueAttributes.put(QUALIFIED_NAME_ATTRIBUTE, glossaryQualifiedName);
+        anchor.put("typeName", ATLAS_GLOSSARY_TYPE_NAME);
+        anchor.put("uniqueAttributes", uniqueAttributes);
 
-        /*
-         * If a match is found; update if required
-         */
+        for (int batchStart = 0; batchStart < egeriaGlossaryTerms.size(); batchStart = batchStart + maxEntitiesPerRequest)
+        {
+            List<GlossaryTermElement> batch      = egeriaGlossaryTerms.subList(batchStart, Math.min(batchStart + maxEntitiesPerRequest, egeriaGlossaryTerms.size()));
+            List<AtlasEntity>         atlasTerms = new ArrayList<>();
+
+            for (GlossaryTermElement egeriaGlossaryTerm : batch)
+            {
+                AtlasEntity         atlasTerm            = new AtlasEntity();
+                Map<String, Object> attributes           = new HashMap<>();
+                Map<String, Object> additionalAttributes = new HashMap<>();
+
+                GlossaryTermProperties termProperties = egeriaGlossaryTerm.getGlossaryTermProperties();
+
+                if (termProperties != null)
+                {
+                    addAttribute(attributes, QUALIFIED_NAME_ATTRIBUTE, termProperties.getQualifiedName());
+                    addAttribute(attributes, NAME_ATTRIBUTE, termProperties.getDisplayName());
+                    addAttribute(attributes, SHORT_DESCRIPTION_ATTRIBUTE, termProperties.getSummary());
+                    addAttribute(attributes, LONG_DESCRIPTION_ATTRIBUTE, termProperties.getDescription());
+                    addAttribute(attributes, EXAMPLES_ATTRIBUTE, termProperties.getExamples());
+                    addAttribute(attributes, ABBREVIATION_ATTRIBUTE, termProperties.getAbbreviation());
+                    addAttribute(attributes, USAGE_ATTRIBUTE, termProperties.getUsage());
+                }
+
+                additionalAttributes.put(EGERIA_GUID_ATTRIBUTE, egeriaGlossaryTerm.getElementHeader().getGUID());
+                attributes.put(ADDITIONAL_ATTRIBUTES_ATTRIBUTE, additionalAttributes);
+
+                atlasTerm.setTypeName(ATLAS_GLOSSARY_TERM_TYPE_NAME);
+                atlasTerm.setGuid(getNewEntityGUID(atlasTerms.size()));
+                atlasTerm.setAttributes(attributes);
+                atlasTerm.setRelationshipAttributes(Collections.singletonMap(ANCHOR_ATTRIBUTE, anchor));
+
+                atlasTerms.add(atlasTerm);
+            }
+
+            AtlasEntityMutationResponse response      = this.callBulkEntityRESTCall(methodName, atlasTerms);
+            List<String>                assignedGUIDs = getAssignedGUIDs(atlasTerms, response);
+
+            for (int i = 0; i < batch.size(); i++)
+            {
+                if (assignedGUIDs.get(i) != null)
+                {
+                    atlasGUIDs.put(batch.get(i).getElementHeader().getGUID(), assignedGUIDs.get(i));
+                }
+            }
+        }
+
+        return atlasGUIDs;
+    }
+
+
+    /**
+     * Set the maximum number of entities sent in each call to the bulk entity REST API.
+     *
+     * @param maxEntitiesPerRequest number of entities
+     */
+    void setMaxEntitiesPerRequest(int maxEntitiesPerRequest)
+    {
+        this.maxEntitiesPerRequest = Math.max(1, maxEntitiesPerRequest);
+    }
+
+
+    /**
+     * Send a list of entities to the bulk entity REST API.  Apache Atlas creates the entities that it does not
+     * have and updates the others.
+     *
+     * @param methodName calling method
+     * @param atlasEntities entities to create or update
+     * @return response from Apache Atlas
+     * @throws PropertyServerException there was a problem calling Apache Atlas
+     */
+    private AtlasEntityMutationResponse callBulkEntityRESTCall(String            methodName,
+                                                               List<AtlasEntity> atlasEntities) throws PropertyServerException
+    {
+        final String urlTemplate = "/api/atlas/v2/entity/bulk";
 
-        /*
-         * If no match; create a new term
-         */
+        AtlasEntitiesWithExtInfo requestBody = new AtlasEntitiesWithExtInfo();
 
-        return atlasGUID;
+        requestBody.setEntities(atlasEntities);
+
+        return this.callPostRESTCallNoParams(methodName, AtlasEntityMutationResponse.class, url + urlTemplate, requestBody);
+    }
+
+
+    /**
+     * Return the unique identifiers that Apache Atlas used for each of the entities in a bulk request.  New entities are
+     * matched through the GUID assignments and existing entities through their qualified names.
+     *
+     * @param atlasEntities entities in the request
+     * @param response response from Apache Atlas
+     * @return list of unique identifiers in the same order as the request - null if the entity was not changed
+     */
+    private List<String> getAssignedGUIDs(List<AtlasEntity>           atlasEntities,
+                                          AtlasEntityMutationResponse response)
+    {
+        Map<String, String> qualifiedNameGUIDs = new HashMap<>();
+        Map<String, String> guidAssignments    = null;
+
+        if (response != null)
+        {
+            guidAssignments = response.getGuidAssignments();
+
+            if (response.getMutatedEntities() != null)
+            {
+                for (List<AtlasEntityHeader> mutatedEntities : response.getMutatedEntities().values())
+                {
+                    if (mutatedEntities != null)
+                    {
+                        for (AtlasEntityHeader mutatedEntity : mutatedEntities)
+                        {
+                            if ((mutatedEntity.getAttributes() != null) && (mutatedEntity.getAttributes().get(QUALIFIED_NAME_ATTRIBUTE) != null))
+                            {
+                                qualifiedNameGUIDs.put(mutatedEntity.getAttributes().get(QUALIFIED_NAME_ATTRIBUTE).toString(), mutatedEntity.getGuid());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<String> assignedGUIDs = new ArrayList<>();
+
+        for (AtlasEntity atlasEntity : atlasEntities)
+        {
+            String assignedGUID = null;
+
+            if (guidAssignments != null)
+            {
+                assignedGUID = guidAssignments.get(atlasEntity.getGuid());
+            }
+
+            if ((assignedGUID == null) && (atlasEntity.getAttributes() != null))
+            {
+                Object qualifiedName = atlasEntity.getAttributes().get(QUALIFIED_NAME_ATTRIBUTE);
+
+                if (qualifiedName != null)
+                {
+                    assignedGUID = qualifiedNameGUIDs.get(qualifiedName.toString());
+                }
+            }
+
+            assignedGUIDs.add(assignedGUID);
+        }
+
+        return assignedGUIDs;
+    }
+
+
+    /**
+     * Add an attribute to an entity if it has a value.  Attributes that are not sent are left unchanged by Apache Atlas.
+     *
+     * @param attributes attributes of the entity
+     * @param attributeName name of the attribute
+     * @param attributeValue value of the attribute (may be null)
+     */
+    private static void addAttribute(Map<String, Object> attributes,
+                                     String              attributeName,
+                                     Object              attributeValue)
+    {
+        if (attributeValue != null)
+        {
+            attributes.put(attributeName, attributeValue);
+        }
+    }
+
+
+    /**
+     * Return the placeholder unique identifier for a new entity in a bulk request.  Apache Atlas uses negative numbers.
+     *
+     * @param index position of the entity in the request
+     * @return placeholder unique identifier
+     */
+    private static String getNewEntityGUID(int index)
+    {
+        return Integer.toString(-(index + 1));
     }
 
 
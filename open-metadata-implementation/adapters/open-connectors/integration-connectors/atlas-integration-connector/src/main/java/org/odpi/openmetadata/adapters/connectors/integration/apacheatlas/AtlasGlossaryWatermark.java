@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementVersions;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * AtlasGlossaryWatermark records, for one open metadata glossary, the version of the glossary and of each of its terms
+ * that was last pushed to Apache Atlas successfully.  An element only needs to be pushed again if its version
+ * (or, when the repository does not maintain versions, its update time) has moved on since then.
+ */
+class AtlasGlossaryWatermark
+{
+    private       SyncMark              glossaryMark  = null;
+    private       String                qualifiedName = null;
+    private final Map<String, SyncMark> termMarks     = new HashMap<>();
+
+
+    /**
+     * Constructor.
+     */
+    AtlasGlossaryWatermark()
+    {
+    }
+
+
+    /**
+     * Return the qualified name of the glossary when it was last pushed to Apache Atlas.
+     *
+     * @return string name or null if the glossary has not been pushed
+     */
+    synchronized String getQualifiedName()
+    {
+        return qualifiedName;
+    }
+
+
+    /**
+     * Return whether the glossary has changed since it was last pushed to Apache Atlas.
+     *
+     * @param glossaryHeader header of the glossary from open metadata
+     * @return flag
+     */
+    synchronized boolean isGlossaryChanged(ElementHeader glossaryHeader)
+    {
+        return isChanged(glossaryMark, glossaryHeader);
+    }
+
+
+    /**
+     * Record that the glossary has been pushed to Apache Atlas.
+     *
+     * @param glossaryHeader header of the glossary from open metadata
+     * @param qualifiedName qualified name of the glossary
+     */
+    synchronized void setGlossarySynchronized(ElementHeader glossaryHeader,
+                                              String        qualifiedName)
+    {
+        this.glossaryMark  = getMark(glossaryHeader);
+        this.qualifiedName = qualifiedName;
+    }
+
+
+    /**
+     * Return whether a term has changed since it was last pushed to Apache Atlas.
+     *
+     * @param termHeader header of the term from open metadata
+     * @return flag
+     */
+    synchronized boolean isTermChanged(ElementHeader termHeader)
+    {
+        return isChanged(termMarks.get(termHeader.getGUID()), termHeader);
+    }
+
+
+    /**
+     * Record that a term has been pushed to Apache Atlas.
+     *
+     * @param termHeader header of the term from open metadata
+     */
+    synchronized void setTermSynchronized(ElementHeader termHeader)
+    {
+        termMarks.put(termHeader.getGUID(), getMark(termHeader));
+    }
+
+
+    /**
+     * Forget the terms that are no longer in the glossary.
+     *
+     * @param termGUIDs unique identifiers of the terms currently in the glossary
+     */
+    synchronized void retainTerms(Collection<String> termGUIDs)
+    {
+        termMarks.keySet().retainAll(termGUIDs);
+    }
+
+
+    /**
+     * Compare the version information of an element with the mark recorded when it was last pushed.
+     *
+     * @param mark recorded mark (null if never pushed)
+     * @param elementHeader current header of the element
+     * @return true if the element needs to be pushed
+     */
+    private static boolean isChanged(SyncMark      mark,
+                                     ElementHeader elementHeader)
+    {
+        if (mark == null)
+        {
+            return true;
+        }
+
+        SyncMark currentMark = getMark(elementHeader);
+
+        if ((currentMark.version == 0L) && (currentMark.updateTime == 0L))
+        {
+            /*
+             * No version information is available so the element is always pushed.
+             */
+            return true;
+        }
+
+        if ((currentMark.version != 0L) || (mark.version != 0L))
+        {
+            return currentMark.version != mark.version;
+        }
+
+        return currentMark.updateTime > mark.updateTime;
+    }
+
+
+    /**
+     * Extract the version information from an element header.
+     *
+     * @param elementHeader header of the element
+     * @return mark
+     */
+    private static SyncMark getMark(ElementHeader elementHeader)
+    {
+        ElementVersions versions = elementHeader.getVersions();
+
+        if (versions == null)
+        {
+            return new SyncMark(0L, 0L);
+        }
+
+        Date updateTime = versions.getUpdateTime();
+
+        if (updateTime == null)
+        {
+            updateTime = versions.getCreateTime();
+        }
+
+        return new SyncMark(versions.getVersion(), updateTime == null ? 0L : updateTime.getTime());
+    }
+
+
+    /**
+     * The version and update time of an element when it was pushed.
+     */
+    private static class SyncMark
+    {
+        private final long version;
+        private final long updateTime;
+
+        SyncMark(long version,
+                 long updateTime)
+        {
+            this.version    = version;
+            this.updateTime = updateTime;
+        }
+    }
+}
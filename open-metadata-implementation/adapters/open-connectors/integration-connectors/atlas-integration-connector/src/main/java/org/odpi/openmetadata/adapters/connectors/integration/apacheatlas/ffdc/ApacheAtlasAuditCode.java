@@ -114,6 +114,13 @@ public enum ApacheAtlasAuditCode implements AuditLogMessageSet
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the Topic was archived."),
 
+    GLOSSARY_SYNCHRONIZED("APACHE-ATLAS-INTEGRATION-CONNECTOR-0021",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector has synchronized glossary {1} with Apache Atlas: {2} changed terms were sent and {3} unchanged terms were skipped",
+                      "The connector compared the versions of the glossary and its terms with the versions it last sent to Apache Atlas " +
+                              "and sent only the elements that had changed.",
+                      "No action is required.  This message records the amount of work done by the refresh."),
+
 
     CLIENT_SIDE_REST_API_ERROR( "APACHE-ATLAS-INTEGRATION-CONNECTOR-0030",
                                 OMRSAuditLogRecordSeverity.EXCEPTION,
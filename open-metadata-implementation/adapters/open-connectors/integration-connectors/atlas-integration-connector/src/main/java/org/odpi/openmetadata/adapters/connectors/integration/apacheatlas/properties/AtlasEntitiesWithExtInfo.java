@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AtlasEntitiesWithExtInfo is the request body of the Apache Atlas bulk entity REST API.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AtlasEntitiesWithExtInfo
+{
+    private List<AtlasEntity> entities = null;
+
+
+    /**
+     * Standard constructor
+     */
+    public AtlasEntitiesWithExtInfo()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object to copy
+     */
+    public AtlasEntitiesWithExtInfo(AtlasEntitiesWithExtInfo template)
+    {
+        if (template != null)
+        {
+            entities = template.getEntities();
+        }
+    }
+
+
+    /**
+     * Return the entities to create or update.
+     *
+     * @return list
+     */
+    public List<AtlasEntity> getEntities()
+    {
+        return entities;
+    }
+
+
+    /**
+     * Set up the entities to create or update.
+     *
+     * @param entities list
+     */
+    public void setEntities(List<AtlasEntity> entities)
+    {
+        this.entities = entities;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AtlasEntitiesWithExtInfo{" +
+                       "entities=" + entities +
+                       '}';
+    }
+}
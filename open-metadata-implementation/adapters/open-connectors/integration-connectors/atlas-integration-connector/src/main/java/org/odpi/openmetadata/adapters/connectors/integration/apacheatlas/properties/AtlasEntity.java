@@ -0,0 +1,184 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AtlasEntity is an entity instance sent to, or returned by, the Apache Atlas entity REST API.  Glossaries and glossary
+ * terms are entities of type AtlasGlossary and AtlasGlossaryTerm.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AtlasEntity
+{
+    private String              typeName               = null;
+    private String              guid                   = null;
+    private Long                version                = null;
+    private Map<String, Object> attributes             = null;
+    private Map<String, Object> relationshipAttributes = null;
+
+
+    /**
+     * Standard constructor
+     */
+    public AtlasEntity()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object to copy
+     */
+    public AtlasEntity(AtlasEntity template)
+    {
+        if (template != null)
+        {
+            typeName = template.getTypeName();
+            guid = template.getGuid();
+            version = template.getVersion();
+            attributes = template.getAttributes();
+            relationshipAttributes = template.getRelationshipAttributes();
+        }
+    }
+
+
+    /**
+     * Return the name of the entity's type.
+     *
+     * @return string
+     */
+    public String getTypeName()
+    {
+        return typeName;
+    }
+
+
+    /**
+     * Set up the name of the entity's type.
+     *
+     * @param typeName string
+     */
+    public void setTypeName(String typeName)
+    {
+        this.typeName = typeName;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity.  A negative number is used for new entities so that the
+     * assigned identifier can be matched up in the response.
+     *
+     * @return string
+     */
+    public String getGuid()
+    {
+        return guid;
+    }
+
+
+    /**
+     * Set up the unique identifier of the entity.  A negative number is used for new entities so that the
+     * assigned identifier can be matched up in the response.
+     *
+     * @param guid string
+     */
+    public void setGuid(String guid)
+    {
+        this.guid = guid;
+    }
+
+
+    /**
+     * Return the version of the entity maintained by Apache Atlas.
+     *
+     * @return long
+     */
+    public Long getVersion()
+    {
+        return version;
+    }
+
+
+    /**
+     * Set up the version of the entity maintained by Apache Atlas.
+     *
+     * @param version long
+     */
+    public void setVersion(Long version)
+    {
+        this.version = version;
+    }
+
+
+    /**
+     * Return the attributes of the entity.
+     *
+     * @return map
+     */
+    public Map<String, Object> getAttributes()
+    {
+        return attributes;
+    }
+
+
+    /**
+     * Set up the attributes of the entity.
+     *
+     * @param attributes map
+     */
+    public void setAttributes(Map<String, Object> attributes)
+    {
+        this.attributes = attributes;
+    }
+
+
+    /**
+     * Return the attributes that link the entity to other entities.
+     *
+     * @return map
+     */
+    public Map<String, Object> getRelationshipAttributes()
+    {
+        return relationshipAttributes;
+    }
+
+
+    /**
+     * Set up the attributes that link the entity to other entities.
+     *
+     * @param relationshipAttributes map
+     */
+    public void setRelationshipAttributes(Map<String, Object> relationshipAttributes)
+    {
+        this.relationshipAttributes = relationshipAttributes;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AtlasEntity{" +
+                       "typeName='" + typeName + '\'' +
+                       ", guid='" + guid + '\'' +
+                       ", version=" + version +
+                       ", attributes=" + attributes +
+                       ", relationshipAttributes=" + relationshipAttributes +
+                       '}';
+    }
+}
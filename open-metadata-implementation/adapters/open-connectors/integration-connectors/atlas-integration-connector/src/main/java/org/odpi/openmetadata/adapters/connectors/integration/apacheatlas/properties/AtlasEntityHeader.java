@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AtlasEntityHeader identifies an entity in the response from the Apache Atlas entity REST API.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AtlasEntityHeader
+{
+    private String              typeName   = null;
+    private String              guid       = null;
+    private Map<String, Object> attributes = null;
+
+
+    /**
+     * Standard constructor
+     */
+    public AtlasEntityHeader()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object to copy
+     */
+    public AtlasEntityHeader(AtlasEntityHeader template)
+    {
+        if (template != null)
+        {
+            typeName = template.getTypeName();
+            guid = template.getGuid();
+            attributes = template.getAttributes();
+        }
+    }
+
+
+    /**
+     * Return the name of the entity's type.
+     *
+     * @return string
+     */
+    public String getTypeName()
+    {
+        return typeName;
+    }
+
+
+    /**
+     * Set up the name of the entity's type.
+     *
+     * @param typeName string
+     */
+    public void setTypeName(String typeName)
+    {
+        this.typeName = typeName;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity.
+     *
+     * @return string
+     */
+    public String getGuid()
+    {
+        return guid;
+    }
+
+
+    /**
+     * Set up the unique identifier of the entity.
+     *
+     * @param guid string
+     */
+    public void setGuid(String guid)
+    {
+        this.guid = guid;
+    }
+
+
+    /**
+     * Return the unique attributes of the entity.
+     *
+     * @return map
+     */
+    public Map<String, Object> getAttributes()
+    {
+        return attributes;
+    }
+
+
+    /**
+     * Set up the unique attributes of the entity.
+     *
+     * @param attributes map
+     */
+    public void setAttributes(Map<String, Object> attributes)
+    {
+        this.attributes = attributes;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AtlasEntityHeader{" +
+                       "typeName='" + typeName + '\'' +
+                       ", guid='" + guid + '\'' +
+                       ", attributes=" + attributes +
+                       '}';
+    }
+}
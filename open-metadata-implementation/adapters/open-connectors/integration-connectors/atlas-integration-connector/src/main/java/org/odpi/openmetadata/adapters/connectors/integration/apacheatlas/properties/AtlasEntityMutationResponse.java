@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AtlasEntityMutationResponse is the response from the Apache Atlas bulk entity REST API.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AtlasEntityMutationResponse
+{
+    private Map<String, List<AtlasEntityHeader>> mutatedEntities = null;
+    private Map<String, String>                  guidAssignments = null;
+
+
+    /**
+     * Standard constructor
+     */
+    public AtlasEntityMutationResponse()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor
+     *
+     * @param template object to copy
+     */
+    public AtlasEntityMutationResponse(AtlasEntityMutationResponse template)
+    {
+        if (template != null)
+        {
+            mutatedEntities = template.getMutatedEntities();
+            guidAssignments = template.getGuidAssignments();
+        }
+    }
+
+
+    /**
+     * Return the entities that were changed, grouped by the type of change (CREATE, UPDATE, PARTIAL_UPDATE or DELETE).
+     *
+     * @return map
+     */
+    public Map<String, List<AtlasEntityHeader>> getMutatedEntities()
+    {
+        return mutatedEntities;
+    }
+
+
+    /**
+     * Set up the entities that were changed, grouped by the type of change (CREATE, UPDATE, PARTIAL_UPDATE or DELETE).
+     *
+     * @param mutatedEntities map
+     */
+    public void setMutatedEntities(Map<String, List<AtlasEntityHeader>> mutatedEntities)
+    {
+        this.mutatedEntities = mutatedEntities;
+    }
+
+
+    /**
+     * Return the unique identifiers assigned to new entities, keyed by the negative number supplied in the request.
+     *
+     * @return map
+     */
+    public Map<String, String> getGuidAssignments()
+    {
+        return guidAssignments;
+    }
+
+
+    /**
+     * Set up the unique identifiers assigned to new entities, keyed by the negative number supplied in the request.
+     *
+     * @param guidAssignments map
+     */
+    public void setGuidAssignments(Map<String, String> guidAssignments)
+    {
+        this.guidAssignments = guidAssignments;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AtlasEntityMutationResponse{" +
+                       "mutatedEntities=" + mutatedEntities +
+                       ", guidAssignments=" + guidAssignments +
+                       '}';
+    }
+}
@@ -0,0 +1,315 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryElement;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryTermElement;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryProperties;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryTermProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementVersions;
+import org.odpi.openmetadata.integrationservices.catalog.connector.GlossaryExchangeService;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that a refresh of the ApacheAtlasIntegrationConnector only pushes the glossary terms that have changed
+ * since Apache Atlas last accepted them.  The open metadata glossary comes from a mocked GlossaryExchangeService and
+ * the pushes go to a stub Apache Atlas server.
+ */
+public class ApacheAtlasIntegrationConnectorTest
+{
+    private static final String BULK_ENTITY_PATH = "/api/atlas/v2/entity/bulk";
+    private static final String GLOSSARY_GUID    = "glossary";
+
+    private HttpServer                      stubAtlasServer = null;
+    private final List<String>              requestBodies   = new ArrayList<>();
+    private int                             responseCode    = 200;
+    private final List<GlossaryTermElement> glossaryTerms   = new ArrayList<>();
+    private ApacheAtlasIntegrationConnector connector       = null;
+
+
+    /**
+     * Start a stub Apache Atlas server and create a connector that pushes one glossary to it.
+     *
+     * @throws Exception the server or connector could not be set up
+     */
+    @BeforeMethod public void setUp() throws Exception
+    {
+        requestBodies.clear();
+        glossaryTerms.clear();
+        responseCode = 200;
+
+        stubAtlasServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubAtlasServer.createContext(BULK_ENTITY_PATH, this::handleBulkRequest);
+        stubAtlasServer.start();
+
+        GlossaryExchangeService glossaryExchangeService = mock(GlossaryExchangeService.class);
+
+        when(glossaryExchangeService.findGlossaries(eq(".*"), anyInt(), anyInt(), any())).thenReturn(Collections.singletonList(getGlossary()));
+        when(glossaryExchangeService.getTermsForGlossary(eq(GLOSSARY_GUID), anyInt(), anyInt(), any())).thenAnswer(invocation ->
+        {
+            int startFrom = invocation.getArgument(1);
+
+            if ((startFrom == 0) && (! glossaryTerms.isEmpty()))
+            {
+                return new ArrayList<>(glossaryTerms);
+            }
+
+            return null;
+        });
+
+        connector = new ApacheAtlasIntegrationConnector();
+
+        setField("glossaryExchangeService", glossaryExchangeService);
+        setField("atlasClient", new ApacheAtlasRESTClient("Stub Apache Atlas",
+                                                          "http://localhost:" + stubAtlasServer.getAddress().getPort(),
+                                                          null));
+    }
+
+
+    /**
+     * Stop the stub Apache Atlas server.
+     */
+    @AfterMethod public void tearDown()
+    {
+        stubAtlasServer.stop(0);
+    }
+
+
+    /**
+     * Test that a refresh skips the glossary and the terms that are unchanged since the last push.
+     *
+     * @throws Exception the refresh failed
+     */
+    @Test public void testUnchangedTermsSkipped() throws Exception
+    {
+        glossaryTerms.add(getTerm("term-1", "Term One", 1L));
+        glossaryTerms.add(getTerm("term-2", "Term Two", 1L));
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 2);
+        assertTrue(requestBodies.get(0).contains("\"AtlasGlossary\""));
+        assertTrue(requestBodies.get(1).contains("\"Term One\""));
+        assertTrue(requestBodies.get(1).contains("\"Term Two\""));
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 2);
+
+        glossaryTerms.set(1, getTerm("term-2", "Term Two", 2L));
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 3);
+        assertFalse(requestBodies.get(2).contains("\"Term One\""));
+        assertTrue(requestBodies.get(2).contains("\"Term Two\""));
+    }
+
+
+    /**
+     * Test that the watermark only moves on once Apache Atlas has accepted the batch, so a rejected batch is
+     * sent again on the next refresh.
+     *
+     * @throws Exception the refresh failed
+     */
+    @Test public void testWatermarkMovesAfterAtlasAccepts() throws Exception
+    {
+        glossaryTerms.add(getTerm("term-1", "Term One", 1L));
+
+        responseCode = 500;
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 1);
+        assertTrue(requestBodies.get(0).contains("\"AtlasGlossary\""));
+
+        responseCode = 200;
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 3);
+        assertTrue(requestBodies.get(1).contains("\"AtlasGlossary\""));
+        assertTrue(requestBodies.get(2).contains("\"Term One\""));
+
+        glossaryTerms.set(0, getTerm("term-1", "Term One", 2L));
+        responseCode = 500;
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 4);
+        assertTrue(requestBodies.get(3).contains("\"Term One\""));
+
+        responseCode = 200;
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 5);
+        assertTrue(requestBodies.get(4).contains("\"Term One\""));
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 5);
+    }
+
+
+    /**
+     * Test that a term that is removed from the glossary is forgotten, so it is pushed again if it returns.
+     *
+     * @throws Exception the refresh failed
+     */
+    @Test public void testRemovedTermsForgotten() throws Exception
+    {
+        GlossaryTermElement termOne = getTerm("term-1", "Term One", 1L);
+        GlossaryTermElement termTwo = getTerm("term-2", "Term Two", 1L);
+
+        glossaryTerms.add(termOne);
+        glossaryTerms.add(termTwo);
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 2);
+
+        glossaryTerms.remove(termTwo);
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 2);
+
+        glossaryTerms.add(termTwo);
+
+        connector.refresh();
+
+        assertEquals(requestBodies.size(), 3);
+        assertFalse(requestBodies.get(2).contains("\"Term One\""));
+        assertTrue(requestBodies.get(2).contains("\"Term Two\""));
+    }
+
+
+    /**
+     * Set a private field of the connector.
+     *
+     * @param fieldName name of the field
+     * @param value new value
+     * @throws Exception the field could not be set
+     */
+    private void setField(String fieldName,
+                          Object value) throws Exception
+    {
+        Field field = ApacheAtlasIntegrationConnector.class.getDeclaredField(fieldName);
+
+        field.setAccessible(true);
+        field.set(connector, value);
+    }
+
+
+    /**
+     * Return the glossary.
+     *
+     * @return glossary
+     */
+    private GlossaryElement getGlossary()
+    {
+        GlossaryElement    glossary   = new GlossaryElement();
+        GlossaryProperties properties = new GlossaryProperties();
+
+        properties.setQualifiedName("Glossary:Test");
+        properties.setDisplayName("Test Glossary");
+        glossary.setElementHeader(getHeader(GLOSSARY_GUID, 1L));
+        glossary.setGlossaryProperties(properties);
+
+        return glossary;
+    }
+
+
+    /**
+     * Return a glossary term.
+     *
+     * @param guid unique identifier of the term
+     * @param displayName display name of the term
+     * @param version version of the term
+     * @return term
+     */
+    private GlossaryTermElement getTerm(String guid,
+                                        String displayName,
+                                        long   version)
+    {
+        GlossaryTermElement    term       = new GlossaryTermElement();
+        GlossaryTermProperties properties = new GlossaryTermProperties();
+
+        properties.setQualifiedName("GlossaryTerm:" + displayName);
+        properties.setDisplayName(displayName);
+        term.setElementHeader(getHeader(guid, version));
+        term.setGlossaryTermProperties(properties);
+
+        return term;
+    }
+
+
+    /**
+     * Return the header of an active element.
+     *
+     * @param guid unique identifier of the element
+     * @param version version of the element
+     * @return element header
+     */
+    private ElementHeader getHeader(String guid,
+                                    long   version)
+    {
+        ElementHeader   elementHeader = new ElementHeader();
+        ElementVersions versions      = new ElementVersions();
+
+        versions.setVersion(version);
+        elementHeader.setGUID(guid);
+        elementHeader.setStatus(ElementStatus.ACTIVE);
+        elementHeader.setVersions(versions);
+
+        return elementHeader;
+    }
+
+
+    /**
+     * Record a request to the bulk entity REST API and return an empty mutation response.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException the request could not be read or the response written
+     */
+    private void handleBulkRequest(HttpExchange exchange) throws IOException
+    {
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        byte[] responseBody = "{}".getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseCode, responseBody.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(responseBody);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryElement;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryTermElement;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryProperties;
+import org.odpi.openmetadata.accessservices.assetmanager.properties.GlossaryTermProperties;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate the calls that the ApacheAtlasRESTClient makes to the Apache Atlas bulk entity REST API
+ * using a stub Apache Atlas server.
+ */
+public class ApacheAtlasRESTClientTest
+{
+    private static final String BULK_ENTITY_PATH = "/api/atlas/v2/entity/bulk";
+
+    private HttpServer         stubAtlasServer = null;
+    private final List<String> requestBodies   = new ArrayList<>();
+    private final List<String> responseBodies  = new ArrayList<>();
+    private int                responseCode    = 200;
+
+
+    /**
+     * Start a stub Apache Atlas server that records each request and returns the next queued response.
+     *
+     * @throws IOException the server could not start
+     */
+    @BeforeMethod public void startStubAtlasServer() throws IOException
+    {
+        requestBodies.clear();
+        responseBodies.clear();
+        responseCode = 200;
+
+        stubAtlasServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubAtlasServer.createContext(BULK_ENTITY_PATH, this::handleBulkRequest);
+        stubAtlasServer.start();
+    }
+
+
+    /**
+     * Stop the stub Apache Atlas server.
+     */
+    @AfterMethod public void stopStubAtlasServer()
+    {
+        stubAtlasServer.stop(0);
+    }
+
+
+    /**
+     * Test that terms are sent in batches and the assigned GUIDs are returned.
+     *
+     * @throws Exception the client failed
+     */
+    @Test public void testSyncGlossaryTermsInBatches() throws Exception
+    {
+        responseBodies.add("{\"guidAssignments\":{\"-1\":\"atlas-term-1\",\"-2\":\"atlas-term-2\"}}");
+        responseBodies.add("{\"guidAssignments\":{\"-1\":\"atlas-term-3\"}}");
+
+        ApacheAtlasRESTClient client = getClient();
+
+        client.setMaxEntitiesPerRequest(2);
+
+        List<GlossaryTermElement> terms = new ArrayList<>();
+
+        terms.add(getTerm("term-1", "Term One"));
+        terms.add(getTerm("term-2", "Term Two"));
+        terms.add(getTerm("term-3", "Term Three"));
+
+        Map<String, String> atlasGUIDs = client.syncGlossaryTerms(terms, "Glossary:Test");
+
+        assertEquals(requestBodies.size(), 2);
+        assertTrue(requestBodies.get(0).contains("\"Term One\""));
+        assertTrue(requestBodies.get(0).contains("\"Term Two\""));
+        assertTrue(requestBodies.get(1).contains("\"Term Three\""));
+        assertTrue(requestBodies.get(1).contains("\"AtlasGlossaryTerm\""));
+        assertTrue(requestBodies.get(1).contains("\"Glossary:Test\""));
+
+        assertEquals(atlasGUIDs.get("term-1"), "atlas-term-1");
+        assertEquals(atlasGUIDs.get("term-2"), "atlas-term-2");
+        assertEquals(atlasGUIDs.get("term-3"), "atlas-term-3");
+    }
+
+
+    /**
+     * Test that an existing glossary is matched on its qualified name and that an unchanged glossary returns null.
+     *
+     * @throws Exception the client failed
+     */
+    @Test public void testSyncGlossary() throws Exception
+    {
+        responseBodies.add("{\"mutatedEntities\":{\"UPDATE\":[{\"typeName\":\"AtlasGlossary\",\"guid\":\"atlas-glossary\"," +
+                                   "\"attributes\":{\"qualifiedName\":\"Glossary:Test\"}}]}}");
+        responseBodies.add("{}");
+
+        ApacheAtlasRESTClient client     = getClient();
+        GlossaryElement       glossary   = new GlossaryElement();
+        GlossaryProperties    properties = new GlossaryProperties();
+
+        properties.setQualifiedName("Glossary:Test");
+        properties.setDisplayName("Test Glossary");
+        glossary.setGlossaryProperties(properties);
+
+        assertEquals(client.syncGlossary(glossary), "atlas-glossary");
+        assertNull(client.syncGlossary(glossary));
+        assertTrue(requestBodies.get(0).contains("\"AtlasGlossary\""));
+    }
+
+
+    /**
+     * Test that an error from Apache Atlas is returned as an exception.
+     *
+     * @throws Exception the client failed to start
+     */
+    @Test public void testAtlasError() throws Exception
+    {
+        responseCode = 500;
+        responseBodies.add("{\"errorCode\":\"ATLAS-500-00-001\"}");
+
+        List<GlossaryTermElement> terms = new ArrayList<>();
+
+        terms.add(getTerm("term-1", "Term One"));
+
+        try
+        {
+            getClient().syncGlossaryTerms(terms, "Glossary:Test");
+            fail("PropertyServerException expected");
+        }
+        catch (PropertyServerException expected)
+        {
+            assertEquals(requestBodies.size(), 1);
+        }
+    }
+
+
+    /**
+     * Return a client for the stub server.
+     *
+     * @return client
+     * @throws Exception the client could not be created
+     */
+    private ApacheAtlasRESTClient getClient() throws Exception
+    {
+        return new ApacheAtlasRESTClient("Stub Apache Atlas",
+                                         "http://localhost:" + stubAtlasServer.getAddress().getPort(),
+                                         null);
+    }
+
+
+    /**
+     * Return a glossary term.
+     *
+     * @param guid unique identifier of the term
+     * @param displayName display name of the term
+     * @return term
+     */
+    private GlossaryTermElement getTerm(String guid,
+                                        String displayName)
+    {
+        GlossaryTermElement    term          = new GlossaryTermElement();
+        ElementHeader          elementHeader = new ElementHeader();
+        GlossaryTermProperties properties    = new GlossaryTermProperties();
+
+        elementHeader.setGUID(guid);
+        properties.setQualifiedName("GlossaryTerm:" + displayName);
+        properties.setDisplayName(displayName);
+        term.setElementHeader(elementHeader);
+        term.setGlossaryTermProperties(properties);
+
+        return term;
+    }
+
+
+    /**
+     * Record a request to the bulk entity REST API and return the next queued response.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException the request could not be read or the response written
+     */
+    private void handleBulkRequest(HttpExchange exchange) throws IOException
+    {
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        byte[] responseBody = responseBodies.remove(0).getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseCode, responseBody.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(responseBody);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.apacheatlas;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementHeader;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ElementVersions;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate the decisions made by the AtlasGlossaryWatermark about which glossaries and terms need to be pushed
+ * to Apache Atlas again.
+ */
+public class AtlasGlossaryWatermarkTest
+{
+    private static final long UPDATE_TIME = 1_000_000L;
+
+
+    /**
+     * Test that elements that have never been pushed are always changed.
+     */
+    @Test public void testNotSynchronized()
+    {
+        AtlasGlossaryWatermark watermark = new AtlasGlossaryWatermark();
+
+        assertNull(watermark.getQualifiedName());
+        assertTrue(watermark.isGlossaryChanged(getHeader("glossary", 1L, UPDATE_TIME)));
+        assertTrue(watermark.isTermChanged(getHeader("term-1", 1L, UPDATE_TIME)));
+    }
+
+
+    /**
+     * Test that the version is used to detect a change when the repository maintains versions,
+     * and that the update time is then ignored.
+     */
+    @Test public void testVersion()
+    {
+        AtlasGlossaryWatermark watermark = new AtlasGlossaryWatermark();
+
+        watermark.setGlossarySynchronized(getHeader("glossary", 3L, UPDATE_TIME), "Glossary:Test");
+        watermark.setTermSynchronized(getHeader("term-1", 3L, UPDATE_TIME));
+
+        assertEquals(watermark.getQualifiedName(), "Glossary:Test");
+
+        assertFalse(watermark.isGlossaryChanged(getHeader("glossary", 3L, UPDATE_TIME)));
+        assertFalse(watermark.isGlossaryChanged(getHeader("glossary", 3L, UPDATE_TIME + 10L)));
+        assertTrue(watermark.isGlossaryChanged(getHeader("glossary", 4L, UPDATE_TIME)));
+
+        assertFalse(watermark.isTermChanged(getHeader("term-1", 3L, UPDATE_TIME)));
+        assertFalse(watermark.isTermChanged(getHeader("term-1", 3L, UPDATE_TIME + 10L)));
+        assertTrue(watermark.isTermChanged(getHeader("term-1", 4L, UPDATE_TIME)));
+        assertTrue(watermark.isTermChanged(getHeader("term-2", 3L, UPDATE_TIME)));
+    }
+
+
+    /**
+     * Test that the update time (or the create time if the element has not been updated) is used to detect
+     * a change when the repository does not maintain versions.
+     */
+    @Test public void testUpdateTimeFallback()
+    {
+        AtlasGlossaryWatermark watermark = new AtlasGlossaryWatermark();
+
+        watermark.setGlossarySynchronized(getHeader("glossary", 0L, UPDATE_TIME), "Glossary:Test");
+        watermark.setTermSynchronized(getCreatedHeader("term-1", UPDATE_TIME));
+
+        assertFalse(watermark.isGlossaryChanged(getHeader("glossary", 0L, UPDATE_TIME)));
+        assertFalse(watermark.isGlossaryChanged(getHeader("glossary", 0L, UPDATE_TIME - 10L)));
+        assertTrue(watermark.isGlossaryChanged(getHeader("glossary", 0L, UPDATE_TIME + 10L)));
+
+        assertFalse(watermark.isTermChanged(getCreatedHeader("term-1", UPDATE_TIME)));
+        assertFalse(watermark.isTermChanged(getHeader("term-1", 0L, UPDATE_TIME)));
+        assertTrue(watermark.isTermChanged(getHeader("term-1", 0L, UPDATE_TIME + 10L)));
+
+        /*
+         * A version that appears later is a change.
+         */
+        assertTrue(watermark.isTermChanged(getHeader("term-1", 1L, UPDATE_TIME)));
+    }
+
+
+    /**
+     * Test that elements without any version information are pushed on every refresh.
+     */
+    @Test public void testNoVersionInformation()
+    {
+        AtlasGlossaryWatermark watermark  = new AtlasGlossaryWatermark();
+        ElementHeader          termHeader = new ElementHeader();
+
+        termHeader.setGUID("term-1");
+
+        watermark.setGlossarySynchronized(getHeader("glossary", 0L, 0L), "Glossary:Test");
+        watermark.setTermSynchronized(termHeader);
+
+        assertTrue(watermark.isGlossaryChanged(getHeader("glossary", 0L, 0L)));
+        assertTrue(watermark.isTermChanged(termHeader));
+    }
+
+
+    /**
+     * Test that the terms that are no longer in the glossary are forgotten.
+     */
+    @Test public void testRetainTerms()
+    {
+        AtlasGlossaryWatermark watermark = new AtlasGlossaryWatermark();
+
+        watermark.setTermSynchronized(getHeader("term-1", 1L, UPDATE_TIME));
+        watermark.setTermSynchronized(getHeader("term-2", 1L, UPDATE_TIME));
+
+        watermark.retainTerms(Collections.singletonList("term-1"));
+
+        assertFalse(watermark.isTermChanged(getHeader("term-1", 1L, UPDATE_TIME)));
+        assertTrue(watermark.isTermChanged(getHeader("term-2", 1L, UPDATE_TIME)));
+    }
+
+
+    /**
+     * Return an element header with version information.
+     *
+     * @param guid unique identifier of the element
+     * @param version version number (0 means the repository does not maintain versions)
+     * @param updateTime time of the last update (0 means none)
+     * @return element header
+     */
+    private ElementHeader getHeader(String guid,
+                                    long   version,
+                                    long   updateTime)
+    {
+        ElementHeader   elementHeader = new ElementHeader();
+        ElementVersions versions      = new ElementVersions();
+
+        versions.setVersion(version);
+
+        if (updateTime != 0L)
+        {
+            versions.setUpdateTime(new Date(updateTime));
+        }
+
+        elementHeader.setGUID(guid);
+        elementHeader.setVersions(versions);
+
+        return elementHeader;
+    }
+
+
+    /**
+     * Return an element header for an element that has been created but not updated, from a repository
+     * that does not maintain versions.
+     *
+     * @param guid unique identifier of the element
+     * @param createTime time that the element was created
+     * @return element header
+     */
+    private ElementHeader getCreatedHeader(String guid,
+                                           long   createTime)
+    {
+        ElementHeader   elementHeader = new ElementHeader();
+        ElementVersions versions      = new ElementVersions();
+
+        versions.setCreateTime(new Date(createTime));
+
+        elementHeader.setGUID(guid);
+        elementHeader.setVersions(versions);
+
+        return elementHeader;
+    }
+}
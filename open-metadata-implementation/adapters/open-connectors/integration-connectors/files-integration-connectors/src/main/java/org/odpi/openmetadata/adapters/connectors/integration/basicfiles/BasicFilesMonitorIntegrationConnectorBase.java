@@ -5,8 +5,6 @@ package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
 
 import org.apache.commons.io.monitor.FileAlterationListener;
 import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
-import org.apache.commons.io.monitor.FileAlterationMonitor;
-import org.apache.commons.io.monitor.FileAlterationObserver;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.FileFolderElement;
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsErrorCode;
@@ -18,6 +16,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegratorConnector;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,13 +29,14 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 {
     String  templateQualifiedName = null;
     boolean allowCatalogDelete    = false;
+    boolean pollingMonitor        = false;
 
     private String            fileDirectoryName = null;
     private FileFolderElement dataFolderElement = null;
     private File              dataFolderFile    = null;
 
 
-    private final Map<String, FileAlterationMonitor> monitors = new HashMap<>();
+    private final Map<String, DirectoryMonitor> monitors = new HashMap<>();
 
     private static final int POLL_INTERVAL = 500; // milliseconds
 
@@ -73,6 +73,11 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                 allowCatalogDelete = true;
             }
 
+            if (configurationProperties.containsKey(BasicFilesMonitorIntegrationProviderBase.POLLING_MONITOR_CONFIGURATION_PROPERTY))
+            {
+                pollingMonitor = true;
+            }
+
             templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
         }
 
@@ -286,7 +291,8 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     /**
      * Register a listener for a particular directory (folder).  This results in events whenever there are changes to the files and
-     * folders immediately in this directory.
+     * folders in this directory or any directory nested within it.  The file system's native change notifications are used
+     * unless polling is requested in the configuration or the file system does not support them.
      *
      * @param directory directory to monitor
      * @param methodName calling method
@@ -294,37 +300,77 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void initiateDirectoryMonitoring(File   directory,
                                                   String methodName)
     {
-        FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
-        FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
-        FileAlterationListener listener = this.getListener();
+        String directoryPathName = directory.getAbsolutePath();
 
-        observer.addListener(listener);
-        monitor.addObserver(observer);
+        for (String monitoredPathName : monitors.keySet())
+        {
+            if ((directoryPathName.equals(monitoredPathName)) || (directoryPathName.startsWith(monitoredPathName + File.separator)))
+            {
+                /*
+                 * Already covered by the monitor of an enclosing directory.
+                 */
+                return;
+            }
+        }
 
-        monitors.put(directory.getName(), monitor);
+        FileAlterationListener listener = this.getListener();
+        DirectoryMonitor       monitor  = null;
 
         if (auditLog != null)
         {
             auditLog.logMessage(methodName,
                                 BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STARTING.getMessageDefinition(connectorName,
-                                                                                                                            directory.getAbsolutePath()));
+                                                                                                                            directoryPathName));
         }
 
-        try
+        if (! pollingMonitor)
         {
-            monitor.start();
+            DirectoryMonitor nativeMonitor = new WatchServiceDirectoryMonitor(directory.toPath(), listener);
+
+            try
+            {
+                nativeMonitor.start();
+                monitor = nativeMonitor;
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        BasicFilesIntegrationConnectorsAuditCode.NATIVE_MONITORING_UNAVAILABLE.getMessageDefinition(connectorName,
+                                                                                                                                    directoryPathName,
+                                                                                                                                    error.getClass().getName(),
+                                                                                                                                    error.getMessage()));
+                }
+            }
         }
-        catch (Exception error)
+
+        if (monitor == null)
         {
-            if (auditLog != null)
+            DirectoryMonitor fallbackMonitor = new PollingDirectoryMonitor(directory, POLL_INTERVAL, listener);
+
+            try
             {
-                auditLog.logException(methodName,
-                                      BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_MONITOR_START.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                 connectorName,
-                                                                                                                                 directory.getAbsolutePath(),
-                                                                                                                                 error.getMessage()),
-                                      error);
+                fallbackMonitor.start();
+                monitor = fallbackMonitor;
             }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_MONITOR_START.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                     connectorName,
+                                                                                                                                     directoryPathName,
+                                                                                                                                     error.getMessage()),
+                                          error);
+                }
+            }
+        }
+
+        if (monitor != null)
+        {
+            monitors.put(directoryPathName, monitor);
         }
     }
 
@@ -337,10 +383,16 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     abstract FileAlterationListenerAdaptor getListener();
 
 
+    /**
+     * Stop the monitoring of a directory.  Nothing happens if the directory is not the top of a monitored tree.
+     *
+     * @param fileName absolute path name of the directory
+     * @param methodName calling method
+     */
     synchronized void stopDirectoryMonitoring(String fileName,
                                               String methodName)
     {
-        FileAlterationMonitor monitor = monitors.get(fileName);
+        DirectoryMonitor monitor = monitors.get(fileName);
 
         if (monitor != null)
         {
@@ -355,7 +407,7 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
             try
             {
-                monitor.stop(POLL_INTERVAL * 2);
+                monitor.stop();
             }
             catch (Exception error)
             {
@@ -383,7 +435,7 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     {
         final String methodName = "disconnect";
 
-        for (String fileName : monitors.keySet())
+        for (String fileName : new ArrayList<>(monitors.keySet()))
         {
             this.stopDirectoryMonitoring(fileName, methodName);
         }
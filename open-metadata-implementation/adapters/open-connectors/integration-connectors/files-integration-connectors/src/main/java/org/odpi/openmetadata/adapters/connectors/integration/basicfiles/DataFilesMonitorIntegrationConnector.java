@@ -94,7 +94,7 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
             final String methodName = "onDirectoryDelete";
 
             log.debug("Folder deleted: " + directory.getName());
-            stopDirectoryMonitoring(directory.getName(), methodName);
+            stopDirectoryMonitoring(directory.getAbsolutePath(), methodName);
         }
     }
 
@@ -217,7 +217,7 @@ public class DataFolderMonitorIntegrationConnector extends BasicFilesMonitorInte
             final String methodName = "onDirectoryDelete";
 
             log.debug("Folder deleted: " + directory.getName());
-            stopDirectoryMonitoring(directory.getName(), methodName);
+            stopDirectoryMonitoring(directory.getAbsolutePath(), methodName);
         }
     }
 }
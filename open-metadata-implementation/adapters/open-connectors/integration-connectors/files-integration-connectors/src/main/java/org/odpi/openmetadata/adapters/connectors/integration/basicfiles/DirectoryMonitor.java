@@ -0,0 +1,28 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+
+/**
+ * DirectoryMonitor is the source of file events for the basic files integration connectors.  An implementation
+ * watches a directory and the directories nested within it, and reports the files and directories that are created,
+ * changed and deleted to a FileAlterationListener.  The events are reported on a thread owned by the monitor.
+ */
+interface DirectoryMonitor
+{
+    /**
+     * Begin monitoring the directory.
+     *
+     * @throws Exception the monitoring can not be started - for example, the file system does not support it
+     */
+    void start() throws Exception;
+
+
+    /**
+     * Stop monitoring the directory.  No more events are reported once this returns.
+     *
+     * @throws Exception there was a problem stopping the monitoring thread
+     */
+    void stop() throws Exception;
+}
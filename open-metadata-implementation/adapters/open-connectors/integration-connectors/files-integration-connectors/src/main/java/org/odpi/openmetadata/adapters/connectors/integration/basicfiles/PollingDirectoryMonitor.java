@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.apache.commons.io.monitor.FileAlterationMonitor;
+import org.apache.commons.io.monitor.FileAlterationObserver;
+
+import java.io.File;
+
+
+/**
+ * PollingDirectoryMonitor uses the Apache Commons FileAlterationMonitor to detect changes by comparing the
+ * state of every file in the directory tree at each poll interval.  Its cost grows with the size of the tree, so it is
+ * only used when the file system does not support native change notifications, or it is requested in the
+ * connector's configuration.
+ */
+class PollingDirectoryMonitor implements DirectoryMonitor
+{
+    private final FileAlterationMonitor monitor;
+    private final long                  pollInterval;
+
+
+    /**
+     * Constructor.
+     *
+     * @param directory root of the directory tree to monitor
+     * @param pollInterval milliseconds between each poll
+     * @param listener destination of the file events
+     */
+    PollingDirectoryMonitor(File                   directory,
+                            long                   pollInterval,
+                            FileAlterationListener listener)
+    {
+        FileAlterationObserver observer = new FileAlterationObserver(directory);
+
+        observer.addListener(listener);
+
+        this.pollInterval = pollInterval;
+        this.monitor = new FileAlterationMonitor(pollInterval);
+        this.monitor.addObserver(observer);
+    }
+
+
+    /**
+     * Begin polling the directory.
+     *
+     * @throws Exception the monitor is already running
+     */
+    @Override
+    public void start() throws Exception
+    {
+        monitor.start();
+    }
+
+
+    /**
+     * Stop polling the directory, waiting for any poll in progress.
+     *
+     * @throws Exception the monitor is not running
+     */
+    @Override
+    public void stop() throws Exception
+    {
+        monitor.stop(pollInterval * 2);
+    }
+}
@@ -0,0 +1,433 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * WatchServiceDirectoryMonitor uses the native change notifications of the file system (inotify on Linux) through
+ * java.nio.file.WatchService.  Each directory in the tree is registered when monitoring starts, and each new directory
+ * is registered as it is created, so the work done is in proportion to the rate of change rather than the size of the tree.
+ *
+ * The monitor remembers the files in each directory and their last modified time.  This is used to suppress
+ * the duplicate events that the file system sends for a single change, and to recover when the file system drops
+ * events (an OVERFLOW event) by rescanning only the directory that overflowed.
+ *
+ * All events are delivered on the monitor's own thread, which is also the only thread that changes its state.
+ */
+class WatchServiceDirectoryMonitor implements DirectoryMonitor
+{
+    private static final Logger log = LoggerFactory.getLogger(WatchServiceDirectoryMonitor.class);
+
+    private static final long STOP_TIMEOUT = 1000; // milliseconds
+
+    private final Path                   rootDirectory;
+    private final FileAlterationListener listener;
+
+    private final Map<WatchKey, Path>         keyDirectories = new HashMap<>();
+    private final Map<Path, WatchKey>         directoryKeys  = new HashMap<>();
+    private final Map<Path, Map<Path, Long>>  directoryFiles = new HashMap<>();
+
+    private WatchService watchService  = null;
+    private Thread       monitorThread = null;
+
+
+    /**
+     * Constructor.
+     *
+     * @param rootDirectory root of the directory tree to monitor
+     * @param listener destination of the file events
+     */
+    WatchServiceDirectoryMonitor(Path                   rootDirectory,
+                                 FileAlterationListener listener)
+    {
+        this.rootDirectory = rootDirectory.toAbsolutePath();
+        this.listener = listener;
+    }
+
+
+    /**
+     * Register every directory in the tree and start the thread that processes the events.
+     *
+     * @throws IOException the file system does not support watching or a directory could not be registered
+     */
+    @Override
+    public void start() throws IOException
+    {
+        watchService = rootDirectory.getFileSystem().newWatchService();
+
+        try
+        {
+            this.registerTree(rootDirectory, false);
+        }
+        catch (IOException | RuntimeException error)
+        {
+            watchService.close();
+            throw error;
+        }
+
+        monitorThread = new Thread(this::processEvents, "WatchServiceDirectoryMonitor:" + rootDirectory);
+        monitorThread.setDaemon(true);
+        monitorThread.start();
+    }
+
+
+    /**
+     * Close the watch service, which releases the native resources and ends the monitor thread.
+     *
+     * @throws IOException the watch service could not be closed
+     * @throws InterruptedException interrupted waiting for the monitor thread
+     */
+    @Override
+    public void stop() throws IOException, InterruptedException
+    {
+        if (watchService != null)
+        {
+            watchService.close();
+        }
+
+        if ((monitorThread != null) && (monitorThread != Thread.currentThread()))
+        {
+            monitorThread.join(STOP_TIMEOUT);
+        }
+    }
+
+
+    /**
+     * Return the number of directories that are registered with the watch service.
+     *
+     * @return count
+     */
+    int getWatchedDirectoryCount()
+    {
+        return directoryKeys.size();
+    }
+
+
+    /**
+     * Wait for events and pass them to the listener until the watch service is closed.
+     */
+    private void processEvents()
+    {
+        while (true)
+        {
+            WatchKey watchKey;
+
+            try
+            {
+                watchKey = watchService.take();
+            }
+            catch (ClosedWatchServiceException | InterruptedException stopped)
+            {
+                return;
+            }
+
+            Path directory = keyDirectories.get(watchKey);
+
+            if (directory != null)
+            {
+                for (WatchEvent<?> event : watchKey.pollEvents())
+                {
+                    try
+                    {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                        {
+                            log.debug("Events lost for directory: " + directory);
+                            this.rescanDirectory(directory);
+                        }
+                        else if (event.context() instanceof Path)
+                        {
+                            Path child = directory.resolve((Path) event.context());
+
+                            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE)
+                            {
+                                this.entryCreated(child);
+                            }
+                            else if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY)
+                            {
+                                this.entryModified(child);
+                            }
+                            else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+                            {
+                                this.entryDeleted(child);
+                            }
+                        }
+                    }
+                    catch (ClosedWatchServiceException stopped)
+                    {
+                        return;
+                    }
+                    catch (Exception error)
+                    {
+                        log.debug("Unable to process event " + event.kind() + " in directory " + directory, error);
+                    }
+                }
+            }
+
+            if ((! watchKey.reset()) && (directory != null) && (directoryKeys.containsKey(directory)))
+            {
+                /*
+                 * The directory has gone (or can no longer be watched) and the delete event from its parent
+                 * has not been seen yet.
+                 */
+                this.entryDeleted(directory);
+            }
+        }
+    }
+
+
+    /**
+     * Process a new file or directory.  The contents of a new directory are reported since files can be
+     * created in it before it is registered.
+     *
+     * @param child new file or directory
+     * @throws IOException the new directory could not be registered
+     */
+    void entryCreated(Path child) throws IOException
+    {
+        if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS))
+        {
+            if (! directoryKeys.containsKey(child))
+            {
+                listener.onDirectoryCreate(child.toFile());
+                this.registerTree(child, true);
+            }
+        }
+        else
+        {
+            this.entryModified(child);
+        }
+    }
+
+
+    /**
+     * Process a file that may have been created or changed.  Duplicate events for the same change are ignored.
+     *
+     * @param child changed file
+     */
+    void entryModified(Path child)
+    {
+        Map<Path, Long> files = directoryFiles.get(child.getParent());
+
+        if ((files != null) && (Files.isRegularFile(child, LinkOption.NOFOLLOW_LINKS)))
+        {
+            Long lastModified         = child.toFile().lastModified();
+            Long previousLastModified = files.put(child, lastModified);
+
+            if (previousLastModified == null)
+            {
+                listener.onFileCreate(child.toFile());
+            }
+            else if (! previousLastModified.equals(lastModified))
+            {
+                listener.onFileChange(child.toFile());
+            }
+        }
+    }
+
+
+    /**
+     * Process a deleted file or directory.  For a directory, the files and directories that were nested in it
+     * are reported as deleted before the directory itself.
+     *
+     * @param child deleted file or directory
+     */
+    void entryDeleted(Path child)
+    {
+        if (directoryKeys.containsKey(child))
+        {
+            List<Path> deletedDirectories = new ArrayList<>();
+
+            for (Path directory : directoryKeys.keySet())
+            {
+                if (directory.startsWith(child))
+                {
+                    deletedDirectories.add(directory);
+                }
+            }
+
+            /*
+             * Deepest first.
+             */
+            deletedDirectories.sort((path1, path2) -> path2.getNameCount() - path1.getNameCount());
+
+            for (Path directory : deletedDirectories)
+            {
+                Map<Path, Long> files = directoryFiles.remove(directory);
+
+                if (files != null)
+                {
+                    for (Path file : files.keySet())
+                    {
+                        listener.onFileDelete(file.toFile());
+                    }
+                }
+
+                WatchKey watchKey = directoryKeys.remove(directory);
+
+                if (watchKey != null)
+                {
+                    keyDirectories.remove(watchKey);
+                    watchKey.cancel();
+                }
+
+                listener.onDirectoryDelete(directory.toFile());
+            }
+        }
+        else
+        {
+            Map<Path, Long> files = directoryFiles.get(child.getParent());
+
+            if ((files != null) && (files.remove(child) != null))
+            {
+                listener.onFileDelete(child.toFile());
+            }
+        }
+    }
+
+
+    /**
+     * Compare the contents of a single directory with what the monitor last saw and report the differences.
+     * This recovers from lost events without walking the rest of the tree.
+     *
+     * @param directory directory to rescan
+     * @throws IOException the directory can not be read
+     */
+    void rescanDirectory(Path directory) throws IOException
+    {
+        if (! Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS))
+        {
+            this.entryDeleted(directory);
+            return;
+        }
+
+        Set<Path> currentEntries = new HashSet<>();
+
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory))
+        {
+            for (Path entry : entries)
+            {
+                currentEntries.add(entry);
+                this.entryCreated(entry);
+            }
+        }
+
+        List<Path> missingEntries = new ArrayList<>();
+        Map<Path, Long> files = directoryFiles.get(directory);
+
+        if (files != null)
+        {
+            for (Path file : files.keySet())
+            {
+                if (! currentEntries.contains(file))
+                {
+                    missingEntries.add(file);
+                }
+            }
+        }
+
+        for (Path subDirectory : directoryKeys.keySet())
+        {
+            if ((directory.equals(subDirectory.getParent())) && (! currentEntries.contains(subDirectory)))
+            {
+                missingEntries.add(subDirectory);
+            }
+        }
+
+        for (Path missingEntry : missingEntries)
+        {
+            this.entryDeleted(missingEntry);
+        }
+    }
+
+
+    /**
+     * Register a directory and all the directories nested within it.  The files found are remembered.
+     *
+     * @param directory top of the tree to register
+     * @param reportContents should the files and directories found be reported as created?
+     * @throws IOException a directory could not be registered
+     */
+    private void registerTree(Path    directory,
+                              boolean reportContents) throws IOException
+    {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException
+            {
+                if (directoryKeys.containsKey(dir))
+                {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
+                if ((reportContents) && (! dir.equals(directory)))
+                {
+                    listener.onDirectoryCreate(dir.toFile());
+                }
+
+                WatchKey watchKey = dir.register(watchService,
+                                                 StandardWatchEventKinds.ENTRY_CREATE,
+                                                 StandardWatchEventKinds.ENTRY_DELETE,
+                                                 StandardWatchEventKinds.ENTRY_MODIFY);
+
+                keyDirectories.put(watchKey, dir);
+                directoryKeys.put(dir, watchKey);
+                directoryFiles.put(dir, new HashMap<>());
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+            {
+                Map<Path, Long> files = directoryFiles.get(file.getParent());
+
+                if ((files != null) && (attributes.isRegularFile()) && (! files.containsKey(file)))
+                {
+                    files.put(file, attributes.lastModifiedTime().toMillis());
+
+                    if (reportContents)
+                    {
+                        listener.onFileCreate(file.toFile());
+                    }
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException error)
+            {
+                /*
+                 * The file was deleted, or can not be read, while the tree was walked.
+                 */
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
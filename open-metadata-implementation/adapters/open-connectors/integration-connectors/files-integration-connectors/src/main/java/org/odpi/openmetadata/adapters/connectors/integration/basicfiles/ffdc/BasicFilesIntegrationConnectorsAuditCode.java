@@ -62,15 +62,15 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
     DIRECTORY_MONITORING_STARTING("BASIC-FILES-INTEGRATION-CONNECTORS-0005",
                               OMRSAuditLogRecordSeverity.INFO,
                               "The {0} integration connector is initiating the monitoring of file directory {1}",
-                              "The connector is calling the monitoring library from Apache Commons. " +
+                              "The connector is registering the directory tree with the file system's change notifications (or polling where these are not available). " +
                                       "This will start a background thread to monitor the file directory.  Any changes to the files in the " +
                                       "directory will be reported to this integration connector.",
                               "No action is required unless there are errors that follow indicating that the monitoring of the directory failed to start."),
 
     UNEXPECTED_EXC_MONITOR_START("BASIC-FILES-INTEGRATION-CONNECTORS-0006",
                                      OMRSAuditLogRecordSeverity.ERROR,
-                                     "An unexpected {0} exception was returned to the {1} integration connector by the Apache Commons " +
-                                             "FileAlterationMonitor for directory {2} while it was starting the monitoring service.  The error message was {3}",
+                                     "An unexpected {0} exception was returned to the {1} integration connector by the directory " +
+                                             "monitor for directory {2} while it was starting the monitoring service.  The error message was {3}",
                                      "The exception is logged and the integration connector continues to synchronize metadata " +
                                              "through the refresh process.",
                                      "Use the message in the unexpected exception to determine the root cause of the error. Once this is " +
@@ -80,15 +80,15 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
     DIRECTORY_MONITORING_STOPPING("BASIC-FILES-INTEGRATION-CONNECTORS-0007",
                                   OMRSAuditLogRecordSeverity.INFO,
                                   "The {0} integration connector is stopping the monitoring of file directory {1}",
-                                  "The connector is calling the monitoring library from Apache Commons to stop the monitoring of the directory.  " +
+                                  "The connector is stopping the monitoring of the directory tree.  " +
                                           "This will stop the background thread monitoring the file directory.  Any changes to the files in the " +
                                           "directory will be ignored by the connector.",
                                   "No action is required unless there are errors that follow indicating that the monitoring failed to stop."),
 
     UNEXPECTED_EXC_MONITOR_STOP("BASIC-FILES-INTEGRATION-CONNECTORS-0008",
                                  OMRSAuditLogRecordSeverity.ERROR,
-                                 "An unexpected {0} exception was returned to the {1} integration connector by the Apache Commons " +
-                                         "FileAlterationMonitor for directory {2} while it stopping the monitoring service.  The error message was {3}",
+                                 "An unexpected {0} exception was returned to the {1} integration connector by the directory " +
+                                         "monitor for directory {2} while it stopping the monitoring service.  The error message was {3}",
                                  "The exception is logged and the integration connector continues to shutdown.",
                                  "Use the message in the unexpected exception to determine the root cause of the error. Once this is " +
                                          "resolved, follow the instructions in the messages produced by the integration daemon to restart the connector."),
@@ -179,7 +179,12 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the DataFile was archived."),
 
-
+    NATIVE_MONITORING_UNAVAILABLE("BASIC-FILES-INTEGRATION-CONNECTORS-0021",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is unable to use the native file system notifications to monitor file directory {1} because of a {2} exception with message {3}; it will poll the directory instead",
+                      "The connector monitors the directory by regularly comparing the state of every file in it.  This uses more CPU and IO as the number of files grows.",
+                      "If the file system should support change notifications (for example, inotify on Linux), check the operating system limits on the number of watches.  " +
+                              "Set the pollingMonitor configuration property to use polling without attempting native notifications."),
     ;
 
     private final String                     logMessageId;
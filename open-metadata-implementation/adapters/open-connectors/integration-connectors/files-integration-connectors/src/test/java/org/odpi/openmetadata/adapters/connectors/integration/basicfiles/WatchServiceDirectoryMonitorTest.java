@@ -0,0 +1,158 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the WatchServiceDirectoryMonitor reports changes in nested directories, suppresses duplicate events
+ * and recovers lost events by rescanning a directory.
+ */
+public class WatchServiceDirectoryMonitorTest
+{
+    private static final long EVENT_TIMEOUT = 10000;
+
+
+    /**
+     * Records each event as a string.
+     */
+    private static class RecordingListener extends FileAlterationListenerAdaptor
+    {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onFileCreate(File file)
+        {
+            events.add("create:" + file.getName());
+        }
+
+        @Override
+        public void onFileChange(File file)
+        {
+            events.add("change:" + file.getName());
+        }
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            events.add("delete:" + file.getName());
+        }
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            events.add("createDirectory:" + directory.getName());
+        }
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            events.add("deleteDirectory:" + directory.getName());
+        }
+    }
+
+
+    /**
+     * Wait for an event to be reported.
+     *
+     * @param listener listener receiving the events
+     * @param event expected event
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitForEvent(RecordingListener listener, String event) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + EVENT_TIMEOUT;
+
+        while ((! listener.events.contains(event)) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(20);
+        }
+
+        assertTrue(listener.events.contains(event), event + " not in " + listener.events);
+    }
+
+
+    /**
+     * Test that events are reported from the root and from new nested directories.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test public void testNestedEvents() throws Exception
+    {
+        Path              root     = Files.createTempDirectory("watchTest");
+        RecordingListener listener = new RecordingListener();
+
+        Files.createDirectories(root.resolve("existing"));
+
+        WatchServiceDirectoryMonitor monitor = new WatchServiceDirectoryMonitor(root, listener);
+
+        monitor.start();
+
+        try
+        {
+            assertEquals(monitor.getWatchedDirectoryCount(), 2);
+
+            Files.write(root.resolve("existing").resolve("file1.csv"), "a".getBytes());
+            waitForEvent(listener, "create:file1.csv");
+
+            Path newDirectory = Files.createDirectories(root.resolve("new"));
+            Files.write(newDirectory.resolve("file2.csv"), "b".getBytes());
+
+            waitForEvent(listener, "createDirectory:new");
+            waitForEvent(listener, "create:file2.csv");
+
+            Files.delete(newDirectory.resolve("file2.csv"));
+            waitForEvent(listener, "delete:file2.csv");
+
+            Files.delete(newDirectory);
+            waitForEvent(listener, "deleteDirectory:new");
+
+            assertEquals(Collections.frequency(listener.events, "create:file2.csv"), 1);
+        }
+        finally
+        {
+            monitor.stop();
+        }
+    }
+
+
+    /**
+     * Test that a rescan reports only the differences.
+     *
+     * @throws Exception problem with the file system
+     */
+    @Test public void testRescan() throws Exception
+    {
+        Path              root     = Files.createTempDirectory("rescanTest");
+        RecordingListener listener = new RecordingListener();
+
+        Files.write(root.resolve("unchanged.csv"), "a".getBytes());
+        Files.write(root.resolve("deleted.csv"), "b".getBytes());
+
+        WatchServiceDirectoryMonitor monitor = new WatchServiceDirectoryMonitor(root, listener);
+
+        monitor.start();
+        monitor.stop();
+
+        Files.delete(root.resolve("deleted.csv"));
+        Files.write(root.resolve("added.csv"), "c".getBytes());
+
+        monitor.rescanDirectory(root);
+
+        assertEquals(listener.events.size(), 2, listener.events.toString());
+        assertTrue(listener.events.contains("create:added.csv"));
+        assertTrue(listener.events.contains("delete:deleted.csv"));
+    }
+}
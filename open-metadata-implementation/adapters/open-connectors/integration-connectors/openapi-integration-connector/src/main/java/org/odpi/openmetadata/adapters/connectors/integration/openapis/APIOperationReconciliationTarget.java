@@ -0,0 +1,252 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.APIOperationElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.APIOperationProperties;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPIOperation;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.integration.reconciliation.PropertyFingerprint;
+import org.odpi.openmetadata.frameworks.integration.reconciliation.ReconciliationSnapshotEntry;
+import org.odpi.openmetadata.frameworks.integration.reconciliation.ReconciliationTarget;
+import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * APIOperationReconciliationTarget maintains the API operations catalogued for one API.  The operations that are
+ * already catalogued are retrieved with a single call to getOperationsForAPI rather than looking up each operation
+ * by name.  Operations are only created or updated when their display name or description has changed.
+ */
+class APIOperationReconciliationTarget implements ReconciliationTarget<APIOperationReconciliationTarget.Operation>
+{
+    private static final String DISPLAY_NAME_PROPERTY_NAME = "displayName";
+    private static final String DESCRIPTION_PROPERTY_NAME  = "description";
+
+    private final APIIntegratorContext myContext;
+    private final String               apiGUID;
+
+
+    /**
+     * An operation from the open API specification along with the qualified name of its catalog element.
+     */
+    static class Operation
+    {
+        private final String           qualifiedName;
+        private final OpenAPIOperation operation;
+
+
+        /**
+         * Constructor.
+         *
+         * @param qualifiedName unique name of the API operation in the catalog
+         * @param operation operation extracted from the open API specification
+         */
+        Operation(String           qualifiedName,
+                  OpenAPIOperation operation)
+        {
+            this.qualifiedName = qualifiedName;
+            this.operation     = operation;
+        }
+
+
+        /**
+         * Return the unique name of the API operation in the catalog.
+         *
+         * @return qualified name
+         */
+        String getQualifiedName()
+        {
+            return qualifiedName;
+        }
+
+
+        /**
+         * Return the operation extracted from the open API specification.
+         *
+         * @return operation
+         */
+        OpenAPIOperation getOperation()
+        {
+            return operation;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param myContext context for the connector
+     * @param apiGUID unique identifier of the API that the operations belong to
+     */
+    APIOperationReconciliationTarget(APIIntegratorContext myContext,
+                                     String               apiGUID)
+    {
+        this.myContext = myContext;
+        this.apiGUID   = apiGUID;
+    }
+
+
+    /**
+     * Return the key for an operation - this is the qualified name of its catalog element.
+     *
+     * @param operation operation from the open API specification
+     * @return key
+     */
+    @Override
+    public String getKey(Operation operation)
+    {
+        return operation.getQualifiedName();
+    }
+
+
+    /**
+     * Return the fingerprint of the properties of an operation that are catalogued.
+     *
+     * @param operation operation from the open API specification
+     * @return fingerprint
+     */
+    @Override
+    public String getFingerprint(Operation operation)
+    {
+        return getFingerprint(operation.getOperation().getOperationId(), operation.getOperation().getDescription());
+    }
+
+
+    /**
+     * Return the operations that are catalogued for the API.
+     *
+     * @return map of qualified name to catalog element
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to retrieve the operations
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    @Override
+    public Map<String, ReconciliationSnapshotEntry> getCataloguedElements() throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException,
+                                                                                   PropertyServerException
+    {
+        Map<String, ReconciliationSnapshotEntry> cataloguedOperations = new HashMap<>();
+
+        List<APIOperationElement> apiOperationElements = myContext.getOperationsForAPI(apiGUID, 0, 0);
+
+        if (apiOperationElements != null)
+        {
+            for (APIOperationElement apiOperationElement : apiOperationElements)
+            {
+                if ((apiOperationElement != null) &&
+                    (apiOperationElement.getElementHeader() != null) &&
+                    (apiOperationElement.getProperties() != null) &&
+                    (apiOperationElement.getProperties().getQualifiedName() != null))
+                {
+                    APIOperationProperties properties = apiOperationElement.getProperties();
+
+                    cataloguedOperations.put(properties.getQualifiedName(),
+                                             new ReconciliationSnapshotEntry(apiOperationElement.getElementHeader().getGUID(),
+                                                                             getFingerprint(properties.getDisplayName(),
+                                                                                            properties.getDescription())));
+                }
+            }
+        }
+
+        return cataloguedOperations;
+    }
+
+
+    /**
+     * Catalog a new API operation.
+     *
+     * @param operation operation from the open API specification
+     * @return unique identifier of the new API operation
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to create the operation
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    @Override
+    public String createElement(Operation operation) throws InvalidParameterException,
+                                                            UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        return myContext.createAPIOperation(apiGUID, getProperties(operation));
+    }
+
+
+    /**
+     * Update the catalog element for an API operation whose description has changed.
+     *
+     * @param elementGUID unique identifier of the API operation
+     * @param operation operation from the open API specification
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to update the operation
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    @Override
+    public void updateElement(String    elementGUID,
+                              Operation operation) throws InvalidParameterException,
+                                                          UserNotAuthorizedException,
+                                                          PropertyServerException
+    {
+        myContext.updateAPIOperation(elementGUID, true, getProperties(operation));
+    }
+
+
+    /**
+     * Remove the catalog element for an API operation that is no longer in the open API specification.
+     *
+     * @param elementGUID unique identifier of the API operation
+     * @param key qualified name of the API operation
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to remove the operation
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    @Override
+    public void deleteElement(String elementGUID,
+                              String key) throws InvalidParameterException,
+                                                 UserNotAuthorizedException,
+                                                 PropertyServerException
+    {
+        myContext.removeAPIOperation(elementGUID, key);
+    }
+
+
+    /**
+     * Return the catalog properties for an operation.
+     *
+     * @param operation operation from the open API specification
+     * @return properties
+     */
+    private APIOperationProperties getProperties(Operation operation)
+    {
+        APIOperationProperties properties = new APIOperationProperties();
+
+        properties.setQualifiedName(operation.getQualifiedName());
+        properties.setDisplayName(operation.getOperation().getOperationId());
+        properties.setDescription(operation.getOperation().getDescription());
+
+        return properties;
+    }
+
+
+    /**
+     * Return the fingerprint of the catalogued properties of an operation.
+     *
+     * @param displayName display name of the operation
+     * @param description description of the operation
+     * @return fingerprint
+     */
+    private static String getFingerprint(String displayName,
+                                         String description)
+    {
+        Map<String, String> properties = new HashMap<>();
+
+        properties.put(DISPLAY_NAME_PROPERTY_NAME, displayName);
+        properties.put(DESCRIPTION_PROPERTY_NAME, description);
+
+        return PropertyFingerprint.getFingerprint(properties);
+    }
+}
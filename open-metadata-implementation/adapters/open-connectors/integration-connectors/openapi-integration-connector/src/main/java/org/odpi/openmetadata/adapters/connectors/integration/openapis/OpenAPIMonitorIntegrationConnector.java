@@ -8,9 +8,7 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.accessservices.datamanager.api.DataManagerEventListener;
 import org.odpi.openmetadata.accessservices.datamanager.events.DataManagerOutboundEvent;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.APIElement;
-import org.odpi.openmetadata.accessservices.datamanager.metadataelements.APIOperationElement;
 import org.odpi.openmetadata.accessservices.datamanager.metadataelements.EndpointElement;
-import org.odpi.openmetadata.accessservices.datamanager.properties.APIOperationProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.APIProperties;
 import org.odpi.openmetadata.accessservices.datamanager.properties.EndpointProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.openapis.ffdc.OpenAPIIntegrationConnectorAuditCode;
@@ -25,9 +23,12 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.integration.reconciliation.ReconciliationEngine;
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorContext;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,13 +38,17 @@ import java.util.Map;
  */
 public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector implements DataManagerEventListener
 {
-    private static final String urlMarker = "http";
+    private static final String urlMarker          = "http";
+    private static final String snapshotFileSuffix = ".snapshot";
 
     private String templateQualifiedName = null;
     private String targetRootURL = null;
+    private String snapshotDirectory = null;
 
     private final Map<String, RESTClient> restClients = new HashMap<>();
 
+    private final Map<String, ReconciliationEngine<APIOperationReconciliationTarget.Operation>> operationEngines = new HashMap<>();
+
     private APIIntegratorContext myContext = null;
     public static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
 
@@ -78,6 +83,13 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
         if (configurationProperties != null)
         {
             templateQualifiedName = configurationProperties.get(OpenAPIMonitorIntegrationProvider.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+
+            Object snapshotDirectoryProperty = configurationProperties.get(OpenAPIMonitorIntegrationProvider.SNAPSHOT_DIRECTORY_CONFIGURATION_PROPERTY);
+
+            if (snapshotDirectoryProperty != null)
+            {
+                snapshotDirectory = snapshotDirectoryProperty.toString();
+            }
         }
 
         try
@@ -371,62 +383,36 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 
                             if (openAPISpecification.getPaths() != null)
                             {
-                                Map<String, OpenAPIPathDescription> paths = openAPISpecification.getPaths();
+                                Map<String, OpenAPIPathDescription>                           paths           = openAPISpecification.getPaths();
+                                Map<String, List<APIOperationReconciliationTarget.Operation>> operationsByAPI = new HashMap<>();
 
                                 for (String pathName : paths.keySet())
                                 {
-                                    String apiOperationGUID;
-                                    String apiOperationQualifiedName;
-
                                     OpenAPIPathDescription pathDescription = paths.get(pathName);
 
-                                    if (pathDescription.getGet() != null)
-                                    {
-                                        apiOperationQualifiedName = "GET " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getGet());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-
-                                    if (pathDescription.getPost() != null)
-                                    {
-                                        apiOperationQualifiedName = "POST " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPost());
-
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-
-
-                                    if (pathDescription.getPut() != null)
-                                    {
-                                        apiOperationQualifiedName = "PUT " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPut());
+                                    addOperation(operationsByAPI, apiGUIDMap, "GET " + pathName, pathDescription.getGet());
+                                    addOperation(operationsByAPI, apiGUIDMap, "POST " + pathName, pathDescription.getPost());
+                                    addOperation(operationsByAPI, apiGUIDMap, "PUT " + pathName, pathDescription.getPut());
+                                    addOperation(operationsByAPI, apiGUIDMap, "DELETE " + pathName, pathDescription.getDelete());
+                                }
 
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
+                                /*
+                                 * The operations already catalogued for each API are retrieved in one call and only the
+                                 * operations that are new or have changed are sent to the metadata server.
+                                 */
+                                for (String apiGUID : operationsByAPI.keySet())
+                                {
+                                    ReconciliationEngine<APIOperationReconciliationTarget.Operation> operationEngine = getOperationEngine(apiGUID);
 
+                                    operationEngine.reconcile(operationsByAPI.get(apiGUID));
 
-                                    if (pathDescription.getDelete() != null)
+                                    for (APIOperationReconciliationTarget.Operation operation : operationsByAPI.get(apiGUID))
                                     {
-                                        apiOperationQualifiedName = "DELETE " + pathName;
-
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getDelete());
+                                        String apiOperationGUID = operationEngine.getElementGUID(operation.getQualifiedName());
 
                                         if (apiOperationGUID != null)
                                         {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
+                                            apiOperationGUIDMap.put(operation.getQualifiedName(), apiOperationGUID);
                                         }
                                     }
                                 }
@@ -583,75 +569,76 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 
 
     /**
-     * Catalog an API operation if not already catalogued.  The GUID is returned but the caller is responsible for adding the new GUID to
-     * the apiGUIDMap.
+     * Add an operation from the open API specification to the list of operations for its API.  The operation is
+     * skipped if it is not defined or its API is not catalogued.
      *
+     * @param operationsByAPI map of API GUID to the operations that belong to it
      * @param apiGUIDMap map of known guids
      * @param apiOperationQualifiedName unique name for the API operation in the open metadata catalog.
      * @param operation operation extracted from the open metadata specification.
-     * @return unique identifier of the API operation in the open metadata catalog
-     * @throws InvalidParameterException one of the parameters is not correct
-     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
-     * @throws PropertyServerException there is an issue with one of the open metadata repositories
      */
-    private String getAPIOperationGUID(Map<String, String> apiGUIDMap,
-                                       String              apiOperationQualifiedName,
-                                       OpenAPIOperation    operation) throws InvalidParameterException,
-                                                                             UserNotAuthorizedException,
-                                                                             PropertyServerException
+    private void addOperation(Map<String, List<APIOperationReconciliationTarget.Operation>> operationsByAPI,
+                              Map<String, String>                                           apiGUIDMap,
+                              String                                                        apiOperationQualifiedName,
+                              OpenAPIOperation                                              operation)
     {
-        String apiOperationGUID = null;
-        String apiGUID          = null;
-
-        List<String> tags = operation.getTags();
-
-        if (tags != null)
+        if (operation != null)
         {
-            for (String tag : tags)
-            {
-                /*
-                 * The API operation has already been retrieved from the catalog and its GUID is known.
-                 */
-                apiGUID = apiGUIDMap.get(tag);
-            }
-        }
+            String       apiGUID = null;
+            List<String> tags    = operation.getTags();
 
-        if (apiGUID != null)
-        {
-            /*
-             * The GUID is not known -  It may have been catalogued in a previous run of this connector - or not yet catalogued.  The retrieve
-             * should return all elements with the same qualified name - there should be only one.  This code could be enhanced to validate that
-             * when there are duplicates, they are logged and the selected one is the one created by this process.
-             */
-            List<APIOperationElement> apiOperationElements = myContext.getAPIOperationsByName(apiOperationQualifiedName, 0, 0);
-
-            if (apiOperationElements != null)
+            if (tags != null)
             {
-                for (APIOperationElement apiOperationElement : apiOperationElements)
+                for (String tag : tags)
                 {
-                    if (apiOperationQualifiedName.equals(apiOperationElement.getProperties().getQualifiedName()))
-                    {
-                        apiOperationGUID = apiOperationElement.getElementHeader().getGUID();
-                    }
+                    /*
+                     * The API has already been retrieved from the catalog and its GUID is known.
+                     */
+                    apiGUID = apiGUIDMap.get(tag);
                 }
             }
 
-            if (apiOperationGUID == null)
+            if (apiGUID != null)
             {
-                /*
-                 * Catalog the API Operation
-                 */
-                APIOperationProperties properties = new APIOperationProperties();
+                operationsByAPI.computeIfAbsent(apiGUID, guid -> new ArrayList<>()).add(new APIOperationReconciliationTarget.Operation(apiOperationQualifiedName,
+                                                                                                                                      operation));
+            }
+        }
+    }
 
-                properties.setQualifiedName(apiOperationQualifiedName);
-                properties.setDisplayName(operation.getOperationId());
-                properties.setDescription(operation.getDescription());
 
-                apiOperationGUID = myContext.createAPIOperation(apiGUID, properties);
-            }
+    /**
+     * Return the reconciliation engine for the operations of an API.  The engine remembers the operations catalogued
+     * on earlier refreshes.  If the snapshotDirectory configuration property is set, this memory is saved in a
+     * file for the API in that directory so that it survives a restart of the connector.
+     *
+     * @param apiGUID unique identifier of the API
+     * @return reconciliation engine
+     */
+    private ReconciliationEngine<APIOperationReconciliationTarget.Operation> getOperationEngine(String apiGUID)
+    {
+        return operationEngines.computeIfAbsent(apiGUID,
+                                                guid -> new ReconciliationEngine<>(connectorName,
+                                                                                   new APIOperationReconciliationTarget(myContext, guid),
+                                                                                   getSnapshotFileName(guid),
+                                                                                   false));
+    }
+
+
+    /**
+     * Return the name of the file used to save the snapshot of the operations of an API.
+     *
+     * @param apiGUID unique identifier of the API
+     * @return file name or null if the snapshot is kept in memory only
+     */
+    private String getSnapshotFileName(String apiGUID)
+    {
+        if (snapshotDirectory != null)
+        {
+            return new File(snapshotDirectory, apiGUID + snapshotFileSuffix).getPath();
         }
 
-        return apiOperationGUID;
+        return null;
     }
 
 
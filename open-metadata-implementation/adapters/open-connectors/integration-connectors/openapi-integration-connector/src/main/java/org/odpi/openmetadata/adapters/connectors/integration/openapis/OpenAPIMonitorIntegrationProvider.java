@@ -40,6 +40,7 @@ public class OpenAPIMonitorIntegrationProvider extends IntegrationConnectorProvi
     private static final Class<?> connectorClass       = OpenAPIMonitorIntegrationConnector.class;
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
+    static final String SNAPSHOT_DIRECTORY_CONFIGURATION_PROPERTY      = "snapshotDirectory";
 
 
     /**
@@ -67,6 +68,7 @@ public class OpenAPIMonitorIntegrationProvider extends IntegrationConnectorProvi
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(SNAPSHOT_DIRECTORY_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
         super.connectorTypeBean = connectorType;
@@ -2,18 +2,22 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageEventListener;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 
 import java.io.File;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,12 +26,21 @@ import java.util.UUID;
  * FileBasedOpenLineageLogStoreConnector provides a connector implementation for a file based open lineage log.
  * The open lineage log is stored in a directory and each open lineage event record is stored as a file with a filename built
  * from the record's unique identifier (runId), time and status. The record is stored in a subdirectory that is made from the namespace and job.
+ * Alternatively, when the segmentedLog configuration property is set, the events are appended to rolling segment files
+ * in the directory (see OpenLineageLogSegmentStore).  This avoids creating a file and directories for every event and
+ * allows the events for a job or run to be retrieved without walking the directory tree.
  */
 public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreConnectorBase
 {
-    private static final String defaultLogDirectory = "open-lineage-log";
+    private static final String defaultLogDirectory       = "open-lineage-log";
+    private static final long   defaultMaxSegmentSize     = 64L * 1024L * 1024L;
+    private static final int    defaultGroupCommitSize    = 100;
+    private static final long   defaultMaxCommitInterval  = OpenLineageLogSegmentStore.DEFAULT_MAX_COMMIT_INTERVAL;
 
-    private String logStoreDirectoryName = null;
+    private static final ObjectReader OBJECT_READER = OMRSJSONCodec.getReader(OpenLineageRunEvent.class);
+
+    private String                     logStoreDirectoryName = null;
+    private OpenLineageLogSegmentStore segmentStore          = null;
 
 
     /**
@@ -68,6 +81,45 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             File logStoreDirectory = new File(logStoreDirectoryName);
 
             FileUtils.forceMkdir(logStoreDirectory);
+
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if ((configurationProperties != null) &&
+                (Boolean.parseBoolean(String.valueOf(configurationProperties.get(FileBasedOpenLineageLogStoreProvider.SEGMENTED_LOG_CONFIGURATION_PROPERTY)))))
+            {
+                long    maxSegmentSize    = defaultMaxSegmentSize;
+                int     groupCommitSize   = defaultGroupCommitSize;
+                long    maxCommitInterval = defaultMaxCommitInterval;
+                boolean compressSegments  = Boolean.parseBoolean(String.valueOf(configurationProperties.get(FileBasedOpenLineageLogStoreProvider.COMPRESS_SEGMENTS_CONFIGURATION_PROPERTY)));
+
+                Object maxSegmentSizeProperty = configurationProperties.get(FileBasedOpenLineageLogStoreProvider.MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY);
+
+                if (maxSegmentSizeProperty != null)
+                {
+                    maxSegmentSize = Long.parseLong(maxSegmentSizeProperty.toString());
+                }
+
+                Object groupCommitSizeProperty = configurationProperties.get(FileBasedOpenLineageLogStoreProvider.GROUP_COMMIT_SIZE_CONFIGURATION_PROPERTY);
+
+                if (groupCommitSizeProperty != null)
+                {
+                    groupCommitSize = Integer.parseInt(groupCommitSizeProperty.toString());
+                }
+
+                Object maxCommitIntervalProperty = configurationProperties.get(FileBasedOpenLineageLogStoreProvider.MAX_COMMIT_INTERVAL_CONFIGURATION_PROPERTY);
+
+                if (maxCommitIntervalProperty != null)
+                {
+                    maxCommitInterval = Long.parseLong(maxCommitIntervalProperty.toString());
+                }
+
+                segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory,
+                                                              maxSegmentSize,
+                                                              groupCommitSize,
+                                                              maxCommitInterval,
+                                                              compressSegments);
+                segmentStore.open();
+            }
         }
         catch (Exception error)
         {
@@ -135,6 +187,13 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     }
                 }
 
+                if (segmentStore != null)
+                {
+                    segmentStore.appendEvent(zonedDateTime.toInstant().toEpochMilli(), namespace, jobName, runId, rawEvent);
+
+                    return;
+                }
+
                 String timestamp = zonedDateTime.getYear() + "-" +
                                            zonedDateTime.getMonthValue() +  "-" +
                                            zonedDateTime.getDayOfMonth() +  ":" +
@@ -174,4 +233,170 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             super.logNoRawEvent(openLineageEvent, methodName);
         }
     }
+
+
+    /**
+     * Return the raw events stored for a job in event time order.  This is only supported when the log is segmented.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @return list of raw events
+     * @throws PropertyServerException the log is not segmented or can not be read
+     */
+    public List<String> getEventsForJob(String namespace,
+                                        String jobName) throws PropertyServerException
+    {
+        final String methodName = "getEventsForJob";
+
+        this.validateSegmentedLog(methodName);
+
+        try
+        {
+            return segmentStore.getEventsForJob(namespace, jobName);
+        }
+        catch (Exception error)
+        {
+            throw this.getReadException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Return the raw events stored for a run in event time order.  This is only supported when the log is segmented.
+     *
+     * @param runId unique identifier of the run
+     * @return list of raw events
+     * @throws PropertyServerException the log is not segmented or can not be read
+     */
+    public List<String> getEventsForRun(String runId) throws PropertyServerException
+    {
+        final String methodName = "getEventsForRun";
+
+        this.validateSegmentedLog(methodName);
+
+        try
+        {
+            return segmentStore.getEventsForRun(runId);
+        }
+        catch (Exception error)
+        {
+            throw this.getReadException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Pass each of the stored events to the listener.  The events are streamed from the segments one segment at a time.
+     * This is only supported when the log is segmented.
+     *
+     * @param listener listener to receive the events
+     * @throws PropertyServerException the log is not segmented or can not be read
+     */
+    public void replayEvents(OpenLineageEventListener listener) throws PropertyServerException
+    {
+        final String methodName = "replayEvents";
+
+        this.validateSegmentedLog(methodName);
+
+        try
+        {
+            segmentStore.replayEvents((String rawEvent) -> listener.processOpenLineageRunEvent(this.getOpenLineageEvent(rawEvent), rawEvent));
+        }
+        catch (Exception error)
+        {
+            throw this.getReadException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Flush any buffered events and close the current segment.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        final String methodName = "disconnect";
+
+        if (segmentStore != null)
+        {
+            try
+            {
+                segmentStore.close();
+            }
+            catch (Exception error)
+            {
+                throw new ConnectorCheckedException(
+                        OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           methodName,
+                                                                                                           error.getMessage()),
+                        this.getClass().getName(),
+                        methodName,
+                        error);
+            }
+        }
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Convert a stored event into the Egeria beans.  Events with facets that can not be parsed are passed as raw events only.
+     *
+     * @param rawEvent JSON payload of the event
+     * @return bean or null
+     */
+    private OpenLineageRunEvent getOpenLineageEvent(String rawEvent)
+    {
+        try
+        {
+            return OBJECT_READER.readValue(rawEvent);
+        }
+        catch (Exception error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Queries are only supported by the segmented log.
+     *
+     * @param methodName calling method
+     * @throws PropertyServerException the log is not segmented
+     */
+    private void validateSegmentedLog(String methodName) throws PropertyServerException
+    {
+        if (segmentStore == null)
+        {
+            throw new PropertyServerException(OpenLineageIntegrationConnectorErrorCode.NOT_SEGMENTED_LOG.getMessageDefinition(connectorName,
+                                                                                                                              methodName,
+                                                                                                                              logStoreDirectoryName),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+    }
+
+
+    /**
+     * Build the exception for an error reading the segments.
+     *
+     * @param error caught exception
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private PropertyServerException getReadException(Exception error,
+                                                     String    methodName)
+    {
+        return new PropertyServerException(
+                OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                   error.getClass().getName(),
+                                                                                                   methodName,
+                                                                                                   error.getMessage()),
+                this.getClass().getName(),
+                methodName,
+                error);
+    }
 }
@@ -6,12 +6,26 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.integration.connectors.IntegrationConnectorProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * FileBasedOpenLineageLogStoreProvider is the OCF connector provider for the file based open lineage log store.
  */
 public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorProvider
 {
+    /*
+     * Configuration properties.  Setting segmentedLog to true switches the connector from writing one file per event to
+     * appending events to rolling segment files.  The other properties tune the segments.  Buffered events are
+     * committed when groupCommitSize events are waiting or maxCommitInterval milliseconds have passed.
+     */
+    static final String SEGMENTED_LOG_CONFIGURATION_PROPERTY       = "segmentedLog";
+    static final String MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY    = "maxSegmentSize";
+    static final String GROUP_COMMIT_SIZE_CONFIGURATION_PROPERTY   = "groupCommitSize";
+    static final String MAX_COMMIT_INTERVAL_CONFIGURATION_PROPERTY = "maxCommitInterval";
+    static final String COMPRESS_SEGMENTS_CONFIGURATION_PROPERTY   = "compressSegments";
+
     /*
      * Unique identifier of the connector for the audit log.
      */
@@ -60,6 +74,15 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(SEGMENTED_LOG_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_SEGMENT_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(GROUP_COMMIT_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MAX_COMMIT_INTERVAL_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(COMPRESS_SEGMENTS_CONFIGURATION_PROPERTY);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
 
         /*
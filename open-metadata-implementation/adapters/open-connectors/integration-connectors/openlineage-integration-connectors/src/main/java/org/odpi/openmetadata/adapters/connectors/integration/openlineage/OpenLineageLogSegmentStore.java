@@ -0,0 +1,861 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * OpenLineageLogSegmentStore manages an append-only open lineage log made up of rolling segment files.
+ * Each raw event is written as a single line of a segment file (optionally GZIP compressed).  Alongside each segment is
+ * a small index file with one line per event recording its event time, namespace, job name, run id and line number
+ * in the segment.  Writes are buffered and committed to disk as a group, when enough events have been added, when the
+ * maximum commit interval has passed or when a reader needs to see them.  A commit forces the segment and its index to
+ * the storage device so committed events survive a crash.  Once a segment reaches its maximum size, it is closed and a
+ * new segment is started.
+ * Queries use the index files to locate the segments that hold events for a job or run so that only those segments
+ * are read.  Readers commit any buffered events and read the files while holding the store's lock so they never see
+ * a partially written line.  Whether a segment is compressed is taken from its file name, so segments written before
+ * the compression setting changed can still be read.
+ */
+public class OpenLineageLogSegmentStore
+{
+    static final String SEGMENT_FILE_PREFIX     = "segment-";
+    static final String SEGMENT_FILE_EXTENSION  = ".jsonl";
+    static final String COMPRESSED_EXTENSION    = ".gz";
+    static final String INDEX_FILE_EXTENSION    = ".idx";
+
+    static final long   DEFAULT_MAX_COMMIT_INTERVAL = 1000L;
+
+    private static final String INDEX_SEPARATOR = "\t";
+
+    private final File    logStoreDirectory;
+    private final long    maxSegmentSize;
+    private final int     groupCommitSize;
+    private final long    maxCommitInterval;
+    private final boolean compressSegments;
+
+    private long                     currentSegmentNumber  = 0;
+    private File                     currentSegmentFile    = null;
+    private FileOutputStream         currentSegmentOutput  = null;
+    private FileOutputStream         currentIndexOutput    = null;
+    private CountingStream           currentSegmentStream  = null;
+    private BufferedWriter           currentSegmentWriter  = null;
+    private BufferedWriter           currentIndexWriter    = null;
+    private long                     currentLineNumber     = 0;
+    private int                      uncommittedEventCount = 0;
+    private ScheduledExecutorService commitScheduler       = null;
+
+
+    /**
+     * Constructor for a store that commits buffered events at least every second.
+     *
+     * @param logStoreDirectory directory where the segments are stored
+     * @param maxSegmentSize number of bytes that may be written to a segment file before it rolls
+     * @param groupCommitSize number of events to buffer before they are flushed to disk
+     * @param compressSegments should the segment files be compressed?
+     */
+    public OpenLineageLogSegmentStore(File    logStoreDirectory,
+                                      long    maxSegmentSize,
+                                      int     groupCommitSize,
+                                      boolean compressSegments)
+    {
+        this(logStoreDirectory, maxSegmentSize, groupCommitSize, DEFAULT_MAX_COMMIT_INTERVAL, compressSegments);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param logStoreDirectory directory where the segments are stored
+     * @param maxSegmentSize number of bytes that may be written to a segment file before it rolls
+     * @param groupCommitSize number of events to buffer before they are flushed to disk
+     * @param maxCommitInterval maximum number of milliseconds that an event is buffered before it is flushed to disk
+     * @param compressSegments should the segment files be compressed?
+     */
+    public OpenLineageLogSegmentStore(File    logStoreDirectory,
+                                      long    maxSegmentSize,
+                                      int     groupCommitSize,
+                                      long    maxCommitInterval,
+                                      boolean compressSegments)
+    {
+        this.logStoreDirectory = logStoreDirectory;
+        this.maxSegmentSize    = maxSegmentSize;
+        this.groupCommitSize   = Math.max(groupCommitSize, 1);
+        this.maxCommitInterval = Math.max(maxCommitInterval, 1L);
+        this.compressSegments  = compressSegments;
+    }
+
+
+    /**
+     * Locate any existing segments so that new events are written to a fresh segment after them, and start the
+     * thread that commits buffered events when the maximum commit interval has passed.
+     * Existing segments are never reopened for append since a compressed segment may not be extended.
+     */
+    public synchronized void open()
+    {
+        for (long segmentNumber : this.getSegmentNumbers())
+        {
+            if (segmentNumber > currentSegmentNumber)
+            {
+                currentSegmentNumber = segmentNumber;
+            }
+        }
+
+        if (commitScheduler == null)
+        {
+            commitScheduler = Executors.newSingleThreadScheduledExecutor((Runnable runnable) ->
+                                                                         {
+                                                                             Thread thread = new Thread(runnable, "OpenLineageLogCommit:" + logStoreDirectory.getName());
+
+                                                                             thread.setDaemon(true);
+                                                                             return thread;
+                                                                         });
+
+            commitScheduler.scheduleWithFixedDelay(this::commitQuietly, maxCommitInterval, maxCommitInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Append an event to the current segment, rolling to a new segment if the current one is full.
+     *
+     * @param eventTime time of the event in milliseconds since epoch
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @param runId unique identifier of the run
+     * @param rawEvent JSON payload of the event
+     * @throws IOException problem writing to the file system
+     */
+    public synchronized void appendEvent(long   eventTime,
+                                         String namespace,
+                                         String jobName,
+                                         String runId,
+                                         String rawEvent) throws IOException
+    {
+        if ((currentSegmentWriter == null) || (currentSegmentStream.getByteCount() >= maxSegmentSize))
+        {
+            this.rollSegment();
+        }
+
+        /*
+         * Each event must occupy exactly one line of the segment.
+         */
+        currentSegmentWriter.write(rawEvent.replace('\n', ' ').replace('\r', ' '));
+        currentSegmentWriter.newLine();
+
+        currentIndexWriter.write(eventTime + INDEX_SEPARATOR +
+                                         this.escape(namespace) + INDEX_SEPARATOR +
+                                         this.escape(jobName) + INDEX_SEPARATOR +
+                                         this.escape(runId) + INDEX_SEPARATOR +
+                                         currentLineNumber);
+        currentIndexWriter.newLine();
+
+        currentLineNumber++;
+        uncommittedEventCount++;
+
+        if (uncommittedEventCount >= groupCommitSize)
+        {
+            this.commit();
+        }
+    }
+
+
+    /**
+     * Flush any buffered events to the files and force them to the storage device.
+     *
+     * @throws IOException problem writing to the file system
+     */
+    public synchronized void commit() throws IOException
+    {
+        if ((currentSegmentWriter != null) && (uncommittedEventCount > 0))
+        {
+            currentSegmentWriter.flush();
+            currentIndexWriter.flush();
+
+            /*
+             * The segment is forced before its index so the index never refers to a line that was lost.
+             */
+            currentSegmentOutput.getChannel().force(false);
+            currentIndexOutput.getChannel().force(false);
+        }
+
+        uncommittedEventCount = 0;
+    }
+
+
+    /**
+     * Commit the current segment, stop the commit thread and close the segment.
+     *
+     * @throws IOException problem writing to the file system
+     */
+    public synchronized void close() throws IOException
+    {
+        if (commitScheduler != null)
+        {
+            commitScheduler.shutdown();
+            commitScheduler = null;
+        }
+
+        this.closeSegment();
+    }
+
+
+    /**
+     * Return all the raw events for the requested job in event time order.
+     *
+     * @param namespace namespace of the job
+     * @param jobName name of the job
+     * @return list of raw events
+     * @throws IOException problem reading from the file system
+     */
+    public List<String> getEventsForJob(String namespace,
+                                        String jobName) throws IOException
+    {
+        String escapedNamespace = this.escape(namespace);
+        String escapedJobName   = this.escape(jobName);
+
+        return this.getMatchingEvents((IndexEntry indexEntry) -> escapedNamespace.equals(indexEntry.namespace) &&
+                                                                         escapedJobName.equals(indexEntry.jobName));
+    }
+
+
+    /**
+     * Return all the raw events for the requested run in event time order.
+     *
+     * @param runId unique identifier of the run
+     * @return list of raw events
+     * @throws IOException problem reading from the file system
+     */
+    public List<String> getEventsForRun(String runId) throws IOException
+    {
+        String escapedRunId = this.escape(runId);
+
+        return this.getMatchingEvents((IndexEntry indexEntry) -> escapedRunId.equals(indexEntry.runId));
+    }
+
+
+    /**
+     * Pass every stored event to the consumer in event time order.  Segments whose event times overlap are merged
+     * together.  Since events are mostly appended in time order, only a few segments are held in memory at a time.
+     * The consumer is called without holding the store's lock so it may append new events; these are not replayed.
+     *
+     * @param consumer callback for each raw event
+     * @throws IOException problem reading from the file system
+     */
+    public void replayEvents(RawEventConsumer consumer) throws IOException
+    {
+        List<SegmentIndex> segmentIndexes = this.readIndexes();
+
+        segmentIndexes.sort(Comparator.comparingLong((SegmentIndex segmentIndex) -> segmentIndex.minEventTime)
+                                      .thenComparingLong((SegmentIndex segmentIndex) -> segmentIndex.segmentNumber));
+
+        int groupStart = 0;
+
+        while (groupStart < segmentIndexes.size())
+        {
+            /*
+             * Every segment in a later group only holds events that are after all the events in this group.
+             */
+            long groupMaxEventTime = segmentIndexes.get(groupStart).maxEventTime;
+            int  groupEnd          = groupStart + 1;
+
+            while ((groupEnd < segmentIndexes.size()) && (segmentIndexes.get(groupEnd).minEventTime <= groupMaxEventTime))
+            {
+                groupMaxEventTime = Math.max(groupMaxEventTime, segmentIndexes.get(groupEnd).maxEventTime);
+                groupEnd++;
+            }
+
+            for (TimedEvent timedEvent : this.readEvents(segmentIndexes.subList(groupStart, groupEnd), null))
+            {
+                consumer.processRawEvent(timedEvent.rawEvent);
+            }
+
+            groupStart = groupEnd;
+        }
+    }
+
+
+    /**
+     * Return the raw events that match the filter, sorted by event time.  Only segments with at least one matching
+     * index entry are read.
+     *
+     * @param filter test for each index entry
+     * @return list of raw events
+     * @throws IOException problem reading from the file system
+     */
+    private List<String> getMatchingEvents(IndexFilter filter) throws IOException
+    {
+        List<String> results = new ArrayList<>();
+
+        for (TimedEvent timedEvent : this.readEvents(this.readIndexes(), filter))
+        {
+            results.add(timedEvent.rawEvent);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Commit any buffered events and read the index of every segment.  Segments without any entries are skipped.
+     *
+     * @return list of segment indexes in segment number order
+     * @throws IOException problem reading from the file system
+     */
+    private synchronized List<SegmentIndex> readIndexes() throws IOException
+    {
+        this.commit();
+
+        List<SegmentIndex> segmentIndexes = new ArrayList<>();
+
+        for (long segmentNumber : this.getSegmentNumbers())
+        {
+            List<IndexEntry> indexEntries = this.readIndex(segmentNumber);
+
+            if (! indexEntries.isEmpty())
+            {
+                segmentIndexes.add(new SegmentIndex(segmentNumber, indexEntries));
+            }
+        }
+
+        return segmentIndexes;
+    }
+
+
+    /**
+     * Read the events from a set of segments and return them sorted by event time.  Events with the same event time
+     * are returned in the order they were written.
+     *
+     * @param segmentIndexes indexes of the segments to read
+     * @param filter test for each index entry, or null for all entries
+     * @return list of events
+     * @throws IOException problem reading from the file system
+     */
+    private synchronized List<TimedEvent> readEvents(List<SegmentIndex> segmentIndexes,
+                                                     IndexFilter        filter) throws IOException
+    {
+        this.commit();
+
+        List<TimedEvent> events = new ArrayList<>();
+
+        for (SegmentIndex segmentIndex : segmentIndexes)
+        {
+            Map<Long, Long> requestedLines = new HashMap<>();
+
+            for (IndexEntry indexEntry : segmentIndex.indexEntries)
+            {
+                if ((filter == null) || (filter.matches(indexEntry)))
+                {
+                    requestedLines.put(indexEntry.lineNumber, indexEntry.eventTime);
+                }
+            }
+
+            if (! requestedLines.isEmpty())
+            {
+                Map<Long, String> segmentLines = this.readSegmentLines(segmentIndex.segmentNumber, requestedLines.keySet());
+
+                for (Map.Entry<Long, String> segmentLine : segmentLines.entrySet())
+                {
+                    events.add(new TimedEvent(requestedLines.get(segmentLine.getKey()),
+                                              segmentIndex.segmentNumber,
+                                              segmentLine.getKey(),
+                                              segmentLine.getValue()));
+                }
+            }
+        }
+
+        events.sort(Comparator.comparingLong((TimedEvent timedEvent) -> timedEvent.eventTime)
+                              .thenComparingLong((TimedEvent timedEvent) -> timedEvent.segmentNumber)
+                              .thenComparingLong((TimedEvent timedEvent) -> timedEvent.lineNumber));
+
+        return events;
+    }
+
+
+    /**
+     * Commit buffered events from the commit thread.  A failure is left for the next append or commit to report.
+     */
+    private synchronized void commitQuietly()
+    {
+        try
+        {
+            this.commit();
+        }
+        catch (IOException error)
+        {
+            // the events stay buffered and the next append, commit or close reports the problem
+        }
+    }
+
+
+    /**
+     * Commit and close the current segment (if any).
+     *
+     * @throws IOException problem writing to the file system
+     */
+    private void closeSegment() throws IOException
+    {
+        if (currentSegmentWriter != null)
+        {
+            this.commit();
+
+            currentSegmentWriter.close();
+            currentIndexWriter.close();
+
+            currentSegmentWriter = null;
+            currentIndexWriter   = null;
+            currentSegmentStream = null;
+            currentSegmentOutput = null;
+            currentIndexOutput   = null;
+            currentSegmentFile   = null;
+        }
+
+        uncommittedEventCount = 0;
+    }
+
+
+    /**
+     * Close the current segment (if any) and start a new one.
+     *
+     * @throws IOException problem writing to the file system
+     */
+    private void rollSegment() throws IOException
+    {
+        this.closeSegment();
+
+        currentSegmentNumber++;
+        currentLineNumber  = 0;
+        currentSegmentFile = this.getSegmentFile(currentSegmentNumber, compressSegments);
+
+        currentSegmentOutput = new FileOutputStream(currentSegmentFile, false);
+        currentIndexOutput   = new FileOutputStream(this.getIndexFile(currentSegmentNumber), false);
+        currentSegmentStream = new CountingStream(currentSegmentOutput);
+
+        OutputStream segmentStream = currentSegmentStream;
+
+        if (compressSegments)
+        {
+            /*
+             * Sync flush means a commit pushes all buffered events through the compressor so that they can be read
+             * back before the segment is closed.
+             */
+            segmentStream = new GZIPOutputStream(currentSegmentStream, true);
+        }
+
+        currentSegmentWriter = new BufferedWriter(new OutputStreamWriter(segmentStream, StandardCharsets.UTF_8));
+        currentIndexWriter   = new BufferedWriter(new OutputStreamWriter(currentIndexOutput, StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Return the sorted list of segment numbers found in the log store directory.
+     *
+     * @return list of segment numbers
+     */
+    private List<Long> getSegmentNumbers()
+    {
+        List<Long> segmentNumbers = new ArrayList<>();
+
+        String[] fileNames = logStoreDirectory.list();
+
+        if (fileNames != null)
+        {
+            for (String fileName : fileNames)
+            {
+                if ((fileName.startsWith(SEGMENT_FILE_PREFIX)) && (fileName.endsWith(INDEX_FILE_EXTENSION)))
+                {
+                    try
+                    {
+                        segmentNumbers.add(Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                                                                             fileName.length() - INDEX_FILE_EXTENSION.length())));
+                    }
+                    catch (NumberFormatException notASegment)
+                    {
+                        // ignore files that are not created by this store
+                    }
+                }
+            }
+        }
+
+        segmentNumbers.sort(Long::compareTo);
+
+        return segmentNumbers;
+    }
+
+
+    /**
+     * Read the index entries for a segment.
+     *
+     * @param segmentNumber segment to read
+     * @return list of index entries
+     * @throws IOException problem reading from the file system
+     */
+    private List<IndexEntry> readIndex(long segmentNumber) throws IOException
+    {
+        List<IndexEntry> indexEntries = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.getIndexFile(segmentNumber)),
+                                                                              StandardCharsets.UTF_8)))
+        {
+            String line = reader.readLine();
+
+            while (line != null)
+            {
+                String[] fields = line.split(INDEX_SEPARATOR, -1);
+
+                if (fields.length == 5)
+                {
+                    try
+                    {
+                        indexEntries.add(new IndexEntry(Long.parseLong(fields[0]), fields[1], fields[2], fields[3], Long.parseLong(fields[4])));
+                    }
+                    catch (NumberFormatException incompleteEntry)
+                    {
+                        // ignore an entry left incomplete by a failure while it was being written
+                    }
+                }
+
+                line = reader.readLine();
+            }
+        }
+
+        return indexEntries;
+    }
+
+
+    /**
+     * Read lines from a segment file.
+     *
+     * @param segmentNumber segment to read
+     * @param lineNumbers lines to return, or null for all lines
+     * @return map of line number to line content
+     * @throws IOException problem reading from the file system
+     */
+    private Map<Long, String> readSegmentLines(long      segmentNumber,
+                                               Set<Long> lineNumbers) throws IOException
+    {
+        Map<Long, String> lines = new HashMap<>();
+        Set<Long>    requestedLines = lineNumbers == null ? null : new HashSet<>(lineNumbers);
+
+        /*
+         * The segment may have been written with a different compression setting.
+         */
+        File segmentFile = this.getSegmentFile(segmentNumber, true);
+
+        if (! segmentFile.exists())
+        {
+            segmentFile = this.getSegmentFile(segmentNumber, false);
+
+            if (! segmentFile.exists())
+            {
+                return lines;
+            }
+        }
+
+        InputStream inputStream = new FileInputStream(segmentFile);
+
+        if (segmentFile.getName().endsWith(COMPRESSED_EXTENSION))
+        {
+            inputStream = new CommittedContentStream(new GZIPInputStream(inputStream));
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))
+        {
+            long   lineNumber = 0;
+            String line       = reader.readLine();
+
+            while ((line != null) && ((requestedLines == null) || (! requestedLines.isEmpty())))
+            {
+                if ((requestedLines == null) || (requestedLines.remove(lineNumber)))
+                {
+                    lines.put(lineNumber, line);
+                }
+
+                lineNumber++;
+                line = reader.readLine();
+            }
+        }
+
+        return lines;
+    }
+
+
+    /**
+     * Return the file for a segment.
+     *
+     * @param segmentNumber number of the segment
+     * @param compressed is the segment compressed?
+     * @return file
+     */
+    private File getSegmentFile(long    segmentNumber,
+                                boolean compressed)
+    {
+        String fileName = this.getSegmentBaseName(segmentNumber) + SEGMENT_FILE_EXTENSION;
+
+        if (compressed)
+        {
+            fileName = fileName + COMPRESSED_EXTENSION;
+        }
+
+        return new File(logStoreDirectory, fileName);
+    }
+
+
+    /**
+     * Return the index file for a segment.
+     *
+     * @param segmentNumber number of the segment
+     * @return file
+     */
+    private File getIndexFile(long segmentNumber)
+    {
+        return new File(logStoreDirectory, this.getSegmentBaseName(segmentNumber) + INDEX_FILE_EXTENSION);
+    }
+
+
+    /**
+     * Return the file name of a segment without its extension.  The number is zero-padded so the files list in order.
+     *
+     * @param segmentNumber number of the segment
+     * @return file name
+     */
+    private String getSegmentBaseName(long segmentNumber)
+    {
+        return SEGMENT_FILE_PREFIX + String.format("%010d", segmentNumber);
+    }
+
+
+    /**
+     * Remove the characters used to structure the index from a value.
+     *
+     * @param value value to store in the index
+     * @return escaped value
+     */
+    private String escape(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+
+    /**
+     * RawEventConsumer is called for each event during a replay.
+     */
+    public interface RawEventConsumer
+    {
+        /**
+         * Process a raw event.
+         *
+         * @param rawEvent JSON payload of the event
+         */
+        void processRawEvent(String rawEvent);
+    }
+
+
+    /**
+     * IndexFilter selects index entries for a query.
+     */
+    private interface IndexFilter
+    {
+        /**
+         * Return whether the index entry is of interest.
+         *
+         * @param indexEntry entry from a segment index
+         * @return boolean
+         */
+        boolean matches(IndexEntry indexEntry);
+    }
+
+
+    /**
+     * IndexEntry is one line from a segment index.
+     */
+    private static class IndexEntry
+    {
+        final long   eventTime;
+        final String namespace;
+        final String jobName;
+        final String runId;
+        final long   lineNumber;
+
+        IndexEntry(long   eventTime,
+                   String namespace,
+                   String jobName,
+                   String runId,
+                   long   lineNumber)
+        {
+            this.eventTime  = eventTime;
+            this.namespace  = namespace;
+            this.jobName    = jobName;
+            this.runId      = runId;
+            this.lineNumber = lineNumber;
+        }
+    }
+
+
+    /**
+     * SegmentIndex holds the index entries of a segment along with the range of their event times.
+     */
+    private static class SegmentIndex
+    {
+        final long             segmentNumber;
+        final List<IndexEntry> indexEntries;
+        final long             minEventTime;
+        final long             maxEventTime;
+
+        SegmentIndex(long             segmentNumber,
+                     List<IndexEntry> indexEntries)
+        {
+            long minTime = Long.MAX_VALUE;
+            long maxTime = Long.MIN_VALUE;
+
+            for (IndexEntry indexEntry : indexEntries)
+            {
+                minTime = Math.min(minTime, indexEntry.eventTime);
+                maxTime = Math.max(maxTime, indexEntry.eventTime);
+            }
+
+            this.segmentNumber = segmentNumber;
+            this.indexEntries  = indexEntries;
+            this.minEventTime  = minTime;
+            this.maxEventTime  = maxTime;
+        }
+    }
+
+
+    /**
+     * TimedEvent is a raw event with its event time and position in the log so that events can be sorted.
+     */
+    private static class TimedEvent
+    {
+        final long   eventTime;
+        final long   segmentNumber;
+        final long   lineNumber;
+        final String rawEvent;
+
+        TimedEvent(long   eventTime,
+                   long   segmentNumber,
+                   long   lineNumber,
+                   String rawEvent)
+        {
+            this.eventTime     = eventTime;
+            this.segmentNumber = segmentNumber;
+            this.lineNumber    = lineNumber;
+            this.rawEvent      = rawEvent;
+        }
+    }
+
+
+    /**
+     * CommittedContentStream reads a compressed segment.  A compressed segment that is still being written has no GZIP trailer
+     * so the end of its committed content is detected by an EOFException which is turned into a normal end of stream.
+     */
+    private static class CommittedContentStream extends FilterInputStream
+    {
+        CommittedContentStream(InputStream inputStream)
+        {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            try
+            {
+                return super.read();
+            }
+            catch (EOFException endOfCommittedContent)
+            {
+                return -1;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            try
+            {
+                return super.read(b, off, len);
+            }
+            catch (EOFException endOfCommittedContent)
+            {
+                return -1;
+            }
+        }
+    }
+
+
+    /**
+     * CountingStream tracks the number of bytes written to the segment so it knows when to roll.
+     */
+    private static class CountingStream extends OutputStream
+    {
+        private final OutputStream outputStream;
+        private long               byteCount = 0;
+
+        CountingStream(OutputStream outputStream)
+        {
+            this.outputStream = outputStream;
+        }
+
+        long getByteCount()
+        {
+            return byteCount;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            outputStream.write(b);
+            byteCount++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            outputStream.write(b, off, len);
+            byteCount = byteCount + len;
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            outputStream.close();
+        }
+    }
+}
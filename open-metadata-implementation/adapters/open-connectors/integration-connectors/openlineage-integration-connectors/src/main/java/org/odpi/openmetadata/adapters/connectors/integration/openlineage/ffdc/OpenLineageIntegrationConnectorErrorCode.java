@@ -35,6 +35,11 @@ public enum OpenLineageIntegrationConnectorErrorCode implements ExceptionMessage
                          "The {0} integration connector received an null raw open lineage event in method {1} when working with open lineage events",
                          "The connector is unable to process an open lineage events because it has no content.",
                          "Validate the set up and source of the events and retry the request once it is resolved."),
+
+    NOT_SEGMENTED_LOG(400, "OPEN-LINEAGE-INTEGRATION-CONNECTOR-400-001",
+                         "The {0} integration connector can not support method {1} because the open lineage log in directory {2} is not configured as a segmented log",
+                         "The connector is only able to query and replay open lineage events that are stored in segment files.",
+                         "Set the segmentedLog configuration property in the connector's connection to true and restart the connector."),
     ;
 
 
@@ -0,0 +1,286 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that events appended to the segmented open lineage log can be retrieved by job and run, and replayed,
+ * for both plain and compressed segments, including segments written with a different compression setting and
+ * reads made while events are being appended.
+ */
+public class OpenLineageLogSegmentStoreTest
+{
+    /**
+     * Validate an uncompressed log.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testPlainSegments() throws Exception
+    {
+        testSegments(false);
+    }
+
+
+    /**
+     * Validate a compressed log.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testCompressedSegments() throws Exception
+    {
+        testSegments(true);
+    }
+
+
+    private void testSegments(boolean compressSegments) throws Exception
+    {
+        File logStoreDirectory = Files.createTempDirectory("open-lineage-log").toFile();
+
+        OpenLineageLogSegmentStore segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 64, 3, compressSegments);
+
+        segmentStore.open();
+
+        for (int i = 0; i < 20; i++)
+        {
+            segmentStore.appendEvent(1000L + i, "namespace", "job" + (i % 2), "run" + (i % 5), "{\"event\":" + i + "}");
+        }
+
+        /*
+         * The log rolls so there must be more than one index file.
+         */
+        String[] fileNames = logStoreDirectory.list();
+        int      indexCount = 0;
+
+        assertTrue(fileNames != null);
+
+        for (String fileName : fileNames)
+        {
+            if (fileName.endsWith(OpenLineageLogSegmentStore.INDEX_FILE_EXTENSION))
+            {
+                indexCount++;
+            }
+        }
+
+        assertTrue(indexCount > 1);
+
+        List<String> jobEvents = segmentStore.getEventsForJob("namespace", "job1");
+
+        assertEquals(jobEvents.size(), 10);
+        assertEquals(jobEvents.get(0), "{\"event\":1}");
+        assertEquals(jobEvents.get(9), "{\"event\":19}");
+
+        List<String> runEvents = segmentStore.getEventsForRun("run2");
+
+        assertEquals(runEvents.size(), 4);
+        assertEquals(runEvents.get(0), "{\"event\":2}");
+
+        List<String> replayedEvents = new ArrayList<>();
+
+        segmentStore.replayEvents(replayedEvents::add);
+
+        assertEquals(replayedEvents.size(), 20);
+        assertEquals(replayedEvents.get(19), "{\"event\":19}");
+
+        segmentStore.close();
+
+        /*
+         * Restarting the store starts a new segment and keeps the old events.
+         */
+        segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 64, 3, compressSegments);
+        segmentStore.open();
+        segmentStore.appendEvent(2000L, "namespace", "job1", "run9", "{\"event\":20}");
+
+        jobEvents = segmentStore.getEventsForJob("namespace", "job1");
+
+        assertEquals(jobEvents.size(), 11);
+        assertEquals(jobEvents.get(10), "{\"event\":20}");
+
+        segmentStore.close();
+    }
+
+
+    /**
+     * Validate that a replay merges segments whose event times overlap.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testReplayOrder() throws Exception
+    {
+        File logStoreDirectory = Files.createTempDirectory("open-lineage-log").toFile();
+
+        OpenLineageLogSegmentStore segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 64, 3, false);
+
+        segmentStore.open();
+
+        /*
+         * Events arrive late so the event times in the segments overlap.
+         */
+        for (int i = 0; i < 20; i++)
+        {
+            long eventTime = (i % 2 == 0) ? 1000L + i : 900L + i;
+
+            segmentStore.appendEvent(eventTime, "namespace", "job", "run", Long.toString(eventTime));
+        }
+
+        List<String> replayedEvents = new ArrayList<>();
+
+        segmentStore.replayEvents(replayedEvents::add);
+
+        assertEquals(replayedEvents.size(), 20);
+
+        for (int i = 1; i < replayedEvents.size(); i++)
+        {
+            assertTrue(Long.parseLong(replayedEvents.get(i - 1)) <= Long.parseLong(replayedEvents.get(i)));
+        }
+
+        segmentStore.close();
+    }
+
+
+    /**
+     * Validate that segments remain readable after the compression setting is changed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testCompressionChange() throws Exception
+    {
+        File logStoreDirectory = Files.createTempDirectory("open-lineage-log").toFile();
+
+        OpenLineageLogSegmentStore segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 64, 3, true);
+
+        segmentStore.open();
+
+        for (int i = 0; i < 5; i++)
+        {
+            segmentStore.appendEvent(1000L + i, "namespace", "job", "run", "{\"event\":" + i + "}");
+        }
+
+        segmentStore.close();
+
+        segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 64, 3, false);
+        segmentStore.open();
+
+        for (int i = 5; i < 10; i++)
+        {
+            segmentStore.appendEvent(1000L + i, "namespace", "job", "run", "{\"event\":" + i + "}");
+        }
+
+        List<String> jobEvents = segmentStore.getEventsForJob("namespace", "job");
+
+        assertEquals(jobEvents.size(), 10);
+        assertEquals(jobEvents.get(0), "{\"event\":0}");
+        assertEquals(jobEvents.get(9), "{\"event\":9}");
+
+        segmentStore.close();
+    }
+
+
+    /**
+     * Validate that reads made while events are being appended only see complete events.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testConcurrentReads() throws Exception
+    {
+        for (boolean compressSegments : new boolean[]{false, true})
+        {
+            File logStoreDirectory = Files.createTempDirectory("open-lineage-log").toFile();
+
+            OpenLineageLogSegmentStore segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 4096, 50, compressSegments);
+            ExecutorService            executor     = Executors.newSingleThreadExecutor();
+
+            segmentStore.open();
+
+            try
+            {
+                Future<?> writer = executor.submit(() ->
+                {
+                    for (int i = 0; i < 2000; i++)
+                    {
+                        segmentStore.appendEvent(1000L + i, "namespace", "job", "run", "{\"event\":" + i + "}");
+                    }
+
+                    return null;
+                });
+
+                while (! writer.isDone())
+                {
+                    List<String> jobEvents = segmentStore.getEventsForJob("namespace", "job");
+
+                    for (int i = 0; i < jobEvents.size(); i++)
+                    {
+                        assertEquals(jobEvents.get(i), "{\"event\":" + i + "}");
+                    }
+                }
+
+                writer.get();
+
+                List<String> replayedEvents = new ArrayList<>();
+
+                segmentStore.replayEvents(replayedEvents::add);
+                assertEquals(replayedEvents.size(), 2000);
+            }
+            finally
+            {
+                executor.shutdownNow();
+                segmentStore.close();
+            }
+        }
+    }
+
+
+    /**
+     * Validate that a buffered event is committed to the segment file once the maximum commit interval has passed,
+     * even though the group commit size has not been reached.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testCommitInterval() throws Exception
+    {
+        File logStoreDirectory = Files.createTempDirectory("open-lineage-log").toFile();
+
+        OpenLineageLogSegmentStore segmentStore = new OpenLineageLogSegmentStore(logStoreDirectory, 1024, 100, 50, false);
+
+        segmentStore.open();
+
+        try
+        {
+            segmentStore.appendEvent(1000L, "namespace", "job", "run", "{\"event\":0}");
+
+            List<String> segmentLines = new ArrayList<>();
+            long         deadline     = System.currentTimeMillis() + 5000;
+
+            while ((segmentLines.isEmpty()) && (System.currentTimeMillis() < deadline))
+            {
+                Thread.sleep(50);
+
+                File[] segmentFiles = logStoreDirectory.listFiles((File directory, String fileName) -> fileName.endsWith(OpenLineageLogSegmentStore.SEGMENT_FILE_EXTENSION));
+
+                if ((segmentFiles != null) && (segmentFiles.length == 1))
+                {
+                    segmentLines = Files.readAllLines(segmentFiles[0].toPath());
+                }
+            }
+
+            assertEquals(segmentLines.size(), 1);
+            assertEquals(segmentLines.get(0), "{\"event\":0}");
+        }
+        finally
+        {
+            segmentStore.close();
+        }
+    }
+}
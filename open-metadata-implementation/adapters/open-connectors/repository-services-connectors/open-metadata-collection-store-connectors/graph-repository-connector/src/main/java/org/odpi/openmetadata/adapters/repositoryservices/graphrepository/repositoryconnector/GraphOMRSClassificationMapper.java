@@ -4,11 +4,9 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
@@ -57,10 +55,6 @@ public class GraphOMRSClassificationMapper {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSClassificationMapper.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
-
     private final String metadataCollectionId;
     private final String repositoryName;
     private final OMRSRepositoryHelper repositoryHelper;
@@ -127,7 +121,7 @@ public class GraphOMRSClassificationMapper {
             // First write properties as json - useful for handling collections and possibly for full text/string matching???
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(classificationProperties);
+                jsonString = OMRSJSONCodec.writeValueAsString(classificationProperties);
                 log.debug("{} classification has serialized properties {}", methodName, jsonString);
                 vertex.property("classificationProperties", jsonString);
             } catch (Exception exc) {
@@ -322,7 +316,7 @@ public class GraphOMRSClassificationMapper {
         if (maintainedByList != null && !maintainedByList.isEmpty()) {
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(maintainedByList);
+                jsonString = OMRSJSONCodec.writeValueAsString(maintainedByList);
                 vertex.property(PROPERTY_KEY_CLASSIFICATION_MAINTAINED_BY, jsonString);
 
             } catch (Exception exc) {
@@ -352,7 +346,7 @@ public class GraphOMRSClassificationMapper {
         if (mappingProperties != null && !mappingProperties.isEmpty()) {
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(mappingProperties);
+                jsonString = OMRSJSONCodec.writeValueAsString(mappingProperties);
                 vertex.property(PROPERTY_KEY_CLASSIFICATION_MAPPING_PROPERTIES, jsonString);
 
             } catch (Exception exc) {
@@ -389,7 +383,7 @@ public class GraphOMRSClassificationMapper {
 
         if (stringProps != null) {
             try {
-                InstanceProperties instanceProperties = OBJECT_READER.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONCodec.readValue(stringProps, InstanceProperties.class);
                 log.debug("{} classification has deserialized properties {}", methodName, instanceProperties);
                 classification.setProperties(instanceProperties);
             } catch (Exception exc) {
@@ -464,7 +458,7 @@ public class GraphOMRSClassificationMapper {
         String maintainedByString = (String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_MAINTAINED_BY);
         if (maintainedByString != null) {
             try {
-                List<String> maintainedByList = (List<String>) OBJECT_READER.readValue(maintainedByString, List.class);
+                List<String> maintainedByList = (List<String>) OMRSJSONCodec.readValue(maintainedByString, List.class);
                 log.debug("{} vertex has deserialized maintainedBy list {}", methodName, maintainedByList);
                 classification.setMaintainedBy(maintainedByList);
 
@@ -485,7 +479,7 @@ public class GraphOMRSClassificationMapper {
         if (mappingPropertiesString != null) {
             try {
                 TypeReference<Map<String, Serializable>> typeReference = new TypeReference<Map<String, Serializable>>() {};
-                Map<String, Serializable> mappingPropertiesMap = OBJECT_MAPPER.readValue(mappingPropertiesString, typeReference);
+                Map<String, Serializable> mappingPropertiesMap = OMRSJSONCodec.readValue(mappingPropertiesString, typeReference);
                 log.debug("{} vertex has deserialized mappingProperties {}", methodName, mappingPropertiesMap);
                 classification.setMappingProperties(mappingPropertiesMap);
 
@@ -4,13 +4,11 @@ package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.reposi
 
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
@@ -45,10 +43,6 @@ public class GraphOMRSEntityMapper {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSEntityMapper.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
-
     private final String                          repositoryName;
     private final OMRSRepositoryHelper            repositoryHelper;
     private final GraphOMRSClassificationMapper   classificationMapper;
@@ -136,7 +130,7 @@ public class GraphOMRSEntityMapper {
             // First write properties as json - useful for handling collections and possibly for full text/string matching???
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(instanceProperties);
+                jsonString = OMRSJSONCodec.writeValueAsString(instanceProperties);
                 log.debug("{} entity has serialized properties {}", methodName, jsonString);
                 vertex.property("instanceProperties", jsonString);
             } catch (Exception exc) {
@@ -197,7 +191,7 @@ public class GraphOMRSEntityMapper {
             // First approach was to write properties as json - could be useful for text/string matching???
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(uniqueProperties);
+                jsonString = OMRSJSONCodec.writeValueAsString(uniqueProperties);
                 log.debug("{} entity proxy has serialized unique properties {}", methodName, jsonString);
                 vertex.property("instanceProperties", jsonString);
             } catch (Exception exc) {
@@ -383,7 +377,7 @@ public class GraphOMRSEntityMapper {
             List<String> maintainers = entity.getMaintainedBy();
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(maintainers);
+                jsonString = OMRSJSONCodec.writeValueAsString(maintainers);
                 log.debug("{} entity maintainedBy serialized to {}", methodName, jsonString);
                 vertex.property(PROPERTY_KEY_ENTITY_MAINTAINED_BY, jsonString);
             }
@@ -416,7 +410,7 @@ public class GraphOMRSEntityMapper {
             Map<String, Serializable> mappingProperties = entity.getMappingProperties();
             String jsonString;
             try {
-                jsonString = OBJECT_WRITER.writeValueAsString(mappingProperties);
+                jsonString = OMRSJSONCodec.writeValueAsString(mappingProperties);
                 log.debug("{} entity maintainedBy serialized to {}", methodName, jsonString);
                 vertex.property(PROPERTY_KEY_ENTITY_MAPPING_PROPERTIES, jsonString);
             }
@@ -470,7 +464,7 @@ public class GraphOMRSEntityMapper {
 
         if (stringProps != null) {
             try {
-                InstanceProperties instanceProperties = OBJECT_READER.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONCodec.readValue(stringProps, InstanceProperties.class);
                 log.debug("{} entity has deserialized properties {}", methodName, instanceProperties);
                 entity.setProperties(instanceProperties);
             } catch (Exception exc) {
@@ -520,7 +514,7 @@ public class GraphOMRSEntityMapper {
 
         if (stringProps != null) {
             try {
-                InstanceProperties instanceProperties = OBJECT_READER.readValue(stringProps, InstanceProperties.class);
+                InstanceProperties instanceProperties = OMRSJSONCodec.readValue(stringProps, InstanceProperties.class);
                 log.debug("{} entity has deserialized properties {}", methodName, instanceProperties);
                 List<TypeDefAttribute> propertiesDefinition = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
                 InstanceProperties uniqueAttributes = new InstanceProperties();
@@ -623,7 +617,7 @@ public class GraphOMRSEntityMapper {
         String maintainedByString = (String) getVertexProperty(vertex, PROPERTY_KEY_ENTITY_MAINTAINED_BY);
         if (maintainedByString != null) {
             try {
-                List<String> maintainedByList = (List<String>) OBJECT_READER.readValue(maintainedByString, List.class);
+                List<String> maintainedByList = (List<String>) OMRSJSONCodec.readValue(maintainedByString, List.class);
                 log.debug("{} entity has deserialized maintainedBy {}", methodName, maintainedByList);
                 entity.setMaintainedBy(maintainedByList);
             } catch (Exception exc) {
@@ -643,7 +637,7 @@ public class GraphOMRSEntityMapper {
         if (mappingPropertiesString != null) {
             try {
                 TypeReference<Map<String, Serializable>> typeReference = new TypeReference<Map<String, Serializable>>() {};
-                Map<String, Serializable> mappingPropertiesMap = OBJECT_MAPPER.readValue(mappingPropertiesString, typeReference);
+                Map<String, Serializable> mappingPropertiesMap = OMRSJSONCodec.readValue(mappingPropertiesString, typeReference);
                 log.debug("{} entity has deserialized mappingProperties {}", methodName, mappingPropertiesMap);
                 entity.setMappingProperties(mappingPropertiesMap);
             } catch (Exception exc) {
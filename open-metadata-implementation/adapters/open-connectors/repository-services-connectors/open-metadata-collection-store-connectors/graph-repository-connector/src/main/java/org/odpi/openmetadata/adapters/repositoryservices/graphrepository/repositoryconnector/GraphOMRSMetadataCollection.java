@@ -27,6 +27,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstancePageCollector;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityConflictException;
@@ -1151,7 +1152,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             super.reportUnsupportedOptionalFunction(methodName);
         }
 
-        List<Relationship> filteredRelationships = new ArrayList<>();
+        OMRSInstancePageCollector<Relationship> filteredRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
         List<Relationship> relationships = graphStore.getRelationshipsForEntity(entityGUID);
 
         for (Relationship  relationship : relationships) {
@@ -1174,18 +1175,13 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
             }
-        }
 
-        if (filteredRelationships.isEmpty())
-        {
-            return null;
+            if (filteredRelationships.isComplete()) {
+                break;
+            }
         }
 
-        return repositoryHelper.formatRelationshipResults(filteredRelationships,
-                fromRelationshipElement,
-                sequencingProperty,
-                sequencingOrder,
-                pageSize);
+        return filteredRelationships.getResults();
     }
 
 
@@ -1293,7 +1289,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         {
 
             // Perform status and classification filtering
-            List<EntityDetail> retainedEntities = new ArrayList<>();
+            OMRSInstancePageCollector<EntityDetail> retainedEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
             for (EntityDetail entity : foundEntities)
             {
                 if (entity != null)
@@ -1305,10 +1301,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedEntities.add(entity);
                     }
                 }
+
+                if (retainedEntities.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
             // Eliminate soft deleted entities and apply status and classification filtering if any was requested
-            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+            entities = retainedEntities.getResults();
         }
 
         return entities;
@@ -1590,7 +1591,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         if (foundRelationships != null)
         {
             // Eliminate soft deleted relationships and apply status  filtering if any was requested
-            List<Relationship> retainedRelationships = new ArrayList<>();
+            OMRSInstancePageCollector<Relationship> retainedRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
             for (Relationship relationship : foundRelationships)
             {
                 if (relationship != null)
@@ -1600,10 +1601,15 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedRelationships.add(relationship);
                     }
                 }
+
+                if (retainedRelationships.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
 
-            relationships = repositoryHelper.formatRelationshipResults(retainedRelationships, fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
+            relationships = retainedRelationships.getResults();
         }
 
         return relationships;
@@ -1722,7 +1728,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         {
 
             // Eliminate soft deleted entities and apply status and classification filtering if any was requested
-            List<EntityDetail> retainedEntities = new ArrayList<>();
+            OMRSInstancePageCollector<EntityDetail> retainedEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
             for (EntityDetail entity : foundEntities)
             {
                 if (entity != null)
@@ -1734,9 +1740,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedEntities.add(entity);
                     }
                 }
+
+                if (retainedEntities.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
-            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+            entities = retainedEntities.getResults();
         }
 
         return entities;
@@ -1832,7 +1843,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         if (foundRelationships != null)
         {
             // Eliminate soft deleted entities and apply status and classification filtering if any was requested
-            List<Relationship> retainedRelationships = new ArrayList<>();
+            OMRSInstancePageCollector<Relationship> retainedRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
             for (Relationship relationship : foundRelationships)
             {
                 if (relationship != null)
@@ -1842,9 +1853,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedRelationships.add(relationship);
                     }
                 }
+
+                if (retainedRelationships.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
-            relationships = repositoryHelper.formatRelationshipResults(retainedRelationships, fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
+            relationships = retainedRelationships.getResults();
         }
 
         return relationships;
@@ -2049,7 +2065,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             /*
              * Eliminate soft deleted entities and apply status and classification filtering if any was requested
              */
-            List<EntityDetail> retainedEntities = new ArrayList<>();
+            OMRSInstancePageCollector<EntityDetail> retainedEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
             for (EntityDetail entity : foundEntities)
             {
                 if (entity != null)
@@ -2061,9 +2077,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedEntities.add(entity);
                     }
                 }
+
+                if (retainedEntities.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
-            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+            entities = retainedEntities.getResults();
         }
 
         return entities;
@@ -2213,7 +2234,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             /*
              * Eliminate soft deleted relationships and apply status filtering if any was requested
              */
-            List<Relationship> retainedRelationships = new ArrayList<>();
+            OMRSInstancePageCollector<Relationship> retainedRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
 
             for (Relationship relationship : foundRelationships)
             {
@@ -2224,9 +2245,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         retainedRelationships.add(relationship);
                     }
                 }
+
+                if (retainedRelationships.isComplete())
+                {
+                    break;
+                }
             }
             // Perform sequencing and paging
-            relationships = repositoryHelper.formatRelationshipResults(retainedRelationships, fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
+            relationships = retainedRelationships.getResults();
         }
 
         return relationships;
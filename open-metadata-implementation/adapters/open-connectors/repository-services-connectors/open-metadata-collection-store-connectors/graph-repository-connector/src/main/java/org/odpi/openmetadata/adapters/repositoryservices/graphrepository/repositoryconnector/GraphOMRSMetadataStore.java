@@ -8527,7 +8527,7 @@ class GraphOMRSMetadataStore {
         }
 
         InstanceProperties arrayValues = apv.getArrayValues();
-        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstanceProperties();
+        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstancePropertiesView();
         Collection<InstancePropertyValue> arrayPropValues = arrayElementProperties.values();
 
         PrimitiveDefCategory allElementsPrimCat = null;
@@ -8998,7 +8998,7 @@ class GraphOMRSMetadataStore {
         }
 
         InstanceProperties arrayValues = apv.getArrayValues();
-        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstanceProperties();
+        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstancePropertiesView();
         Collection<InstancePropertyValue> arrayPropValues = arrayElementProperties.values();
 
         PrimitiveDefCategory allElementsPrimCat = null;
@@ -9706,7 +9706,7 @@ class GraphOMRSMetadataStore {
     private Collection<InstancePropertyValue> getArrayElementValues(ArrayPropertyValue apv)
     {
         InstanceProperties arrayValues = apv.getArrayValues();
-        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstanceProperties();
+        Map<String, InstancePropertyValue> arrayElementProperties = arrayValues.getInstancePropertiesView();
         return arrayElementProperties.values();
     }
 
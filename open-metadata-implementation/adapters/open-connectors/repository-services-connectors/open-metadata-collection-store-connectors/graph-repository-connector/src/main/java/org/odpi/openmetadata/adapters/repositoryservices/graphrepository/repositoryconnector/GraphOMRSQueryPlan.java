@@ -505,7 +505,7 @@ public class GraphOMRSQueryPlan {
         {
             propertyNames = new ArrayList<>();
 
-            Map<String, InstancePropertyValue> propertyMap = matchProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue> propertyMap = matchProperties.getInstancePropertiesView();
             if (propertyMap != null)
             {
                 Set<String> propertyKeys = propertyMap.keySet();
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstancePageCollector;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -301,7 +302,10 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
         repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        List<Relationship> entityRelationships = new ArrayList<>();
+        OMRSInstancePageCollector<Relationship> entityRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement,
+                                                                                                      sequencingProperty,
+                                                                                                      sequencingOrder,
+                                                                                                      pageSize);
 
         Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
 
@@ -328,18 +332,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     }
                 }
             }
-        }
 
-        if (entityRelationships.isEmpty())
-        {
-            return null;
+            if (entityRelationships.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatRelationshipResults(entityRelationships,
-                                                          fromRelationshipElement,
-                                                          sequencingProperty,
-                                                          sequencingOrder,
-                                                          pageSize);
+        return entityRelationships.getResults();
     }
 
 
@@ -417,7 +417,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating in entity since it iterates through all
          * the stored entities.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
+        OMRSInstancePageCollector<EntityDetail> foundEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
         Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
 
         for (EntityDetail  entity : entityStore.values())
@@ -436,9 +436,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundEntities.add(entity);
                 }
             }
+
+            if (foundEntities.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        return foundEntities.getResults();
     }
 
 
@@ -514,7 +519,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating in entity since it iterates through all
          * the stored entities.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
+        OMRSInstancePageCollector<EntityDetail> foundEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
         Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
 
         for (EntityDetail  entity : entityStore.values())
@@ -529,9 +534,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundEntities.add(entity);
                 }
             }
+
+            if (foundEntities.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        return foundEntities.getResults();
     }
 
 
@@ -613,7 +623,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * the stored entities.
          */
         Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-        List<EntityDetail>          foundEntities = new ArrayList<>();
+        OMRSInstancePageCollector<EntityDetail> foundEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
@@ -656,9 +666,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     }
                 }
             }
+
+            if (foundEntities.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        return foundEntities.getResults();
     }
 
 
@@ -737,7 +752,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating in entity since it iterates through all
          * the stored entities.
          */
-        List<EntityDetail>   foundEntities = new ArrayList<>();
+        OMRSInstancePageCollector<EntityDetail> foundEntities = new OMRSInstancePageCollector<>(fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
 
         for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
         {
@@ -754,9 +769,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundEntities.add(entity);
                 }
             }
+
+            if (foundEntities.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        return foundEntities.getResults();
     }
 
 
@@ -1023,7 +1043,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating a relationship since it iterates through all
          * the stored entities.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
+        OMRSInstancePageCollector<Relationship> foundRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
         Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
 
         for (Relationship  relationship : relationshipStore.values())
@@ -1037,13 +1057,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundRelationships.add(relationship);
                 }
             }
+
+            if (foundRelationships.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatRelationshipResults(foundRelationships,
-                fromRelationshipElement,
-                sequencingProperty,
-                sequencingOrder,
-                pageSize);
+        return foundRelationships.getResults();
     }
 
 
@@ -1122,7 +1143,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating a relationship since it iterates through all
          * the stored entities.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
+        OMRSInstancePageCollector<Relationship> foundRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
         Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
 
         for (Relationship  relationship : relationshipStore.values())
@@ -1139,13 +1160,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundRelationships.add(relationship);
                 }
             }
+
+            if (foundRelationships.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatRelationshipResults(foundRelationships,
-                                                          fromRelationshipElement,
-                                                          sequencingProperty,
-                                                          sequencingOrder,
-                                                          pageSize);
+        return foundRelationships.getResults();
     }
 
 
@@ -1221,7 +1243,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * This is a brute force implementation of locating a relationship since it iterates through all
          * the stored relationships.
          */
-        List<Relationship>  foundRelationships = new ArrayList<>();
+        OMRSInstancePageCollector<Relationship> foundRelationships = new OMRSInstancePageCollector<>(fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
 
         for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
         {
@@ -1237,13 +1259,14 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                     foundRelationships.add(relationship);
                 }
             }
+
+            if (foundRelationships.isComplete())
+            {
+                break;
+            }
         }
 
-        return repositoryHelper.formatRelationshipResults(foundRelationships,
-                                         fromRelationshipElement,
-                                         sequencingProperty,
-                                         sequencingOrder,
-                                         pageSize);
+        return foundRelationships.getResults();
     }
 
 
@@ -33,6 +33,8 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
     private int        pollIntervalInSeconds   = 60;
     private int        batchWindowInSeconds    = 86400;
     private boolean    eventsClientEnabled     = false;
+    private int        batchSize               = 100;
+    private int        batchThreadCount        = 4;
 
     /**
      * Default constructor
@@ -53,6 +55,8 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
             this.dataEngineConnection    = template.dataEngineConnection;
             this.pollIntervalInSeconds   = template.pollIntervalInSeconds;
             this.batchWindowInSeconds    = template.batchWindowInSeconds;
+            this.batchSize               = template.batchSize;
+            this.batchThreadCount        = template.batchThreadCount;
         }
     }
 
@@ -125,6 +129,35 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
      */
     public void setBatchWindowInSeconds(int batchWindowInSeconds) { this.batchWindowInSeconds = batchWindowInSeconds; }
 
+    /**
+     * Provide the maximum number of changed elements of the same type that are sent to the Data Engine OMAS in a
+     * single request. Note that this is only used by Data Engine Connectors that require polling in order to find
+     * changes.
+     * @return int
+     */
+    public int getBatchSize() { return batchSize; }
+
+    /**
+     * Set the maximum number of changed elements of the same type that are sent to the Data Engine OMAS in a
+     * single request.
+     * @param batchSize the maximum number of elements in each request
+     */
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    /**
+     * Provide the number of requests that the proxy sends to the Data Engine OMAS at the same time. Only the
+     * batches for elements of the same type are sent together, so the dependencies between types are respected.
+     * @return int
+     */
+    public int getBatchThreadCount() { return batchThreadCount; }
+
+    /**
+     * Set the number of requests that the proxy sends to the Data Engine OMAS at the same time.
+     * @param batchThreadCount the number of concurrent requests
+     * @see #getBatchThreadCount()
+     */
+    public void setBatchThreadCount(int batchThreadCount) { this.batchThreadCount = batchThreadCount; }
+
     /**
      * {@inheritDoc}
      */
@@ -136,7 +169,9 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
         return Objects.equals(getAccessServiceRootURL(), that.getAccessServiceRootURL()) &&
                 Objects.equals(getAccessServiceServerName(), that.getAccessServiceServerName()) &&
                 Objects.equals(getDataEngineConnection(), that.getDataEngineConnection()) &&
-                Objects.equals(getPollIntervalInSeconds(), that.getPollIntervalInSeconds());
+                Objects.equals(getPollIntervalInSeconds(), that.getPollIntervalInSeconds()) &&
+                getBatchSize() == that.getBatchSize() &&
+                getBatchThreadCount() == that.getBatchThreadCount();
     }
 
     /**
@@ -145,7 +180,7 @@ public class DataEngineProxyConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode() {
         return Objects.hash(getAccessServiceRootURL(), getAccessServiceServerName(),
-                getDataEngineConnection(), getPollIntervalInSeconds());
+                getDataEngineConnection(), getPollIntervalInSeconds(), getBatchSize(), getBatchThreadCount());
     }
 
     /**
@@ -25,9 +25,15 @@ public class EngineConfig extends AdminServicesConfigHeader
 {
     private static final long    serialVersionUID = 1L;
 
-    private String engineId            = UUID.randomUUID().toString();
-    private String engineQualifiedName = null;
-    private String engineUserId        = null;
+    public static final int defaultMaxConcurrentServices = 10;
+    public static final int defaultMaxQueuedRequests     = 1000;
+
+    private String  engineId              = UUID.randomUUID().toString();
+    private String  engineQualifiedName   = null;
+    private String  engineUserId          = null;
+    private int     maxConcurrentServices = defaultMaxConcurrentServices;
+    private int     maxQueuedRequests     = defaultMaxQueuedRequests;
+    private boolean useVirtualThreads     = false;
 
 
     /**
@@ -50,9 +56,12 @@ public class EngineConfig extends AdminServicesConfigHeader
 
         if (template != null)
         {
-            engineId            = template.getEngineId();
-            engineQualifiedName = template.getEngineQualifiedName();
-            engineUserId        = template.getEngineUserId();
+            engineId              = template.getEngineId();
+            engineQualifiedName   = template.getEngineQualifiedName();
+            engineUserId          = template.getEngineUserId();
+            maxConcurrentServices = template.getMaxConcurrentServices();
+            maxQueuedRequests     = template.getMaxQueuedRequests();
+            useVirtualThreads     = template.getUseVirtualThreads();
         }
     }
 
@@ -127,6 +136,76 @@ public class EngineConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of governance services that the governance engine can run at once.
+     *
+     * @return int
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that the governance engine can run at once.
+     *
+     * @param maxConcurrentServices int
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        this.maxConcurrentServices = maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the maximum number of requests that can wait for the governance engine to have a free thread.
+     * Further requests are rejected (or, for governance actions, left for later processing).
+     *
+     * @return int
+     */
+    public int getMaxQueuedRequests()
+    {
+        return maxQueuedRequests;
+    }
+
+
+    /**
+     * Set up the maximum number of requests that can wait for the governance engine to have a free thread.
+     * Further requests are rejected (or, for governance actions, left for later processing).
+     *
+     * @param maxQueuedRequests int
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests)
+    {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+
+    /**
+     * Return whether the governance engine should run its governance services on virtual threads.
+     * This is ignored if the Java runtime does not support virtual threads.
+     *
+     * @return boolean
+     */
+    public boolean getUseVirtualThreads()
+    {
+        return useVirtualThreads;
+    }
+
+
+    /**
+     * Set up whether the governance engine should run its governance services on virtual threads.
+     * This is ignored if the Java runtime does not support virtual threads.
+     *
+     * @param useVirtualThreads boolean
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads)
+    {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -139,6 +218,9 @@ public class EngineConfig extends AdminServicesConfigHeader
                        "engineId=" + engineId +
                        ", engineQualifiedName='" + engineQualifiedName + '\'' +
                        ", engineUserId='" + engineUserId + '\'' +
+                       ", maxConcurrentServices=" + maxConcurrentServices +
+                       ", maxQueuedRequests=" + maxQueuedRequests +
+                       ", useVirtualThreads=" + useVirtualThreads +
                        '}';
     }
 
@@ -161,7 +243,10 @@ public class EngineConfig extends AdminServicesConfigHeader
             return false;
         }
         EngineConfig that = (EngineConfig) objectToCompare;
-        return Objects.equals(engineId, that.engineId) &&
+        return maxConcurrentServices == that.maxConcurrentServices &&
+                       maxQueuedRequests == that.maxQueuedRequests &&
+                       useVirtualThreads == that.useVirtualThreads &&
+                       Objects.equals(engineId, that.engineId) &&
                        Objects.equals(engineQualifiedName, that.engineQualifiedName) &&
                        Objects.equals(engineUserId, that.engineUserId);
     }
@@ -175,6 +260,7 @@ public class EngineConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId());
+        return Objects.hash(getEngineId(), getEngineQualifiedName(), getEngineUserId(),
+                            getMaxConcurrentServices(), getMaxQueuedRequests(), getUseVirtualThreads());
     }
 }
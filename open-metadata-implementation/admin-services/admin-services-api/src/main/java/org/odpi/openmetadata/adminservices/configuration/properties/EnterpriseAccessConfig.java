@@ -35,6 +35,14 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *     <li>
  *         remoteEnterpriseOMRSTopicConnection - connection for the remote (external) enterprise OMRS Topic connector.
  *     </li>
+ *     <li>
+ *         enterpriseInstanceCacheSize - maximum number of instances held in the cache of federated retrievals.
+ *                                     Zero (the default) means the cache is not used.
+ *     </li>
+ *     <li>
+ *         enterpriseInstanceCacheMaxAge - number of milliseconds that an instance in the cache of federated
+ *                                       retrievals is used for.  Zero means use the default.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -49,6 +57,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private Connection                       enterpriseOMRSTopicConnection       = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion  = null;
     private Connection                       remoteEnterpriseOMRSTopicConnection = null;
+    private int                              enterpriseInstanceCacheSize         = 0;
+    private long                             enterpriseInstanceCacheMaxAge       = 0;
 
 
     /**
@@ -76,6 +86,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             this.enterpriseOMRSTopicConnection = template.getEnterpriseOMRSTopicConnection();
             this.enterpriseOMRSTopicProtocolVersion = template.getEnterpriseOMRSTopicProtocolVersion();
             this.remoteEnterpriseOMRSTopicConnection = template.getRemoteEnterpriseOMRSTopicConnection();
+            this.enterpriseInstanceCacheSize = template.getEnterpriseInstanceCacheSize();
+            this.enterpriseInstanceCacheMaxAge = template.getEnterpriseInstanceCacheMaxAge();
         }
     }
 
@@ -219,6 +231,51 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of instances held in the cache of federated retrievals.  The cache is kept up to
+     * date by the events on the enterprise OMRS topic.
+     *
+     * @return count - zero means the cache is not used
+     */
+    public int getEnterpriseInstanceCacheSize()
+    {
+        return enterpriseInstanceCacheSize;
+    }
+
+
+    /**
+     * Set up the maximum number of instances held in the cache of federated retrievals.
+     *
+     * @param enterpriseInstanceCacheSize count - zero means the cache is not used
+     */
+    public void setEnterpriseInstanceCacheSize(int enterpriseInstanceCacheSize)
+    {
+        this.enterpriseInstanceCacheSize = enterpriseInstanceCacheSize;
+    }
+
+
+    /**
+     * Return the number of milliseconds that an instance in the cache of federated retrievals is used for.
+     *
+     * @return milliseconds - zero means use the default
+     */
+    public long getEnterpriseInstanceCacheMaxAge()
+    {
+        return enterpriseInstanceCacheMaxAge;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that an instance in the cache of federated retrievals is used for.
+     *
+     * @param enterpriseInstanceCacheMaxAge milliseconds - zero means use the default
+     */
+    public void setEnterpriseInstanceCacheMaxAge(long enterpriseInstanceCacheMaxAge)
+    {
+        this.enterpriseInstanceCacheMaxAge = enterpriseInstanceCacheMaxAge;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -233,6 +290,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        ", enterpriseOMRSTopicConnection=" + enterpriseOMRSTopicConnection +
                        ", enterpriseOMRSTopicProtocolVersion=" + enterpriseOMRSTopicProtocolVersion +
                        ", remoteEnterpriseOMRSTopicConnection=" + remoteEnterpriseOMRSTopicConnection +
+                       ", enterpriseInstanceCacheSize=" + enterpriseInstanceCacheSize +
+                       ", enterpriseInstanceCacheMaxAge=" + enterpriseInstanceCacheMaxAge +
                        '}';
     }
 
@@ -259,7 +318,9 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        Objects.equals(enterpriseMetadataCollectionId, that.enterpriseMetadataCollectionId) &&
                        Objects.equals(enterpriseOMRSTopicConnection, that.enterpriseOMRSTopicConnection) &&
                        enterpriseOMRSTopicProtocolVersion == that.enterpriseOMRSTopicProtocolVersion &&
-                       Objects.equals(remoteEnterpriseOMRSTopicConnection, that.remoteEnterpriseOMRSTopicConnection);
+                       Objects.equals(remoteEnterpriseOMRSTopicConnection, that.remoteEnterpriseOMRSTopicConnection) &&
+                       enterpriseInstanceCacheSize == that.enterpriseInstanceCacheSize &&
+                       enterpriseInstanceCacheMaxAge == that.enterpriseInstanceCacheMaxAge;
     }
 
 
@@ -273,6 +334,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     public int hashCode()
     {
         return Objects.hash(enterpriseMetadataCollectionName, enterpriseMetadataCollectionId, enterpriseOMRSTopicConnection,
-                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection);
+                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection,
+                            enterpriseInstanceCacheSize, enterpriseInstanceCacheMaxAge);
     }
 }
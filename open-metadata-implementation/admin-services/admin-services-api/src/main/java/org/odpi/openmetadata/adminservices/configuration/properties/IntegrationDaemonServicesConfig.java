@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.configuration.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * IntegrationDaemonServicesConfig provides the properties that control the integration daemon services themselves
+ * rather than the integration services and integration groups that they run.
+ *
+ * <ul>
+ *     <li>
+ *         refreshThreads - the number of threads that the integration daemon uses to call refresh() on its
+ *         integration connectors.
+ *
+ *         The default value is 4.
+ *     </li>
+ * </ul>
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class IntegrationDaemonServicesConfig extends AdminServicesConfigHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    public static final int      defaultRefreshThreads = 4;
+
+    private int refreshThreads = defaultRefreshThreads;
+
+
+    /**
+     * Default constructor
+     */
+    public IntegrationDaemonServicesConfig()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public IntegrationDaemonServicesConfig(IntegrationDaemonServicesConfig template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            refreshThreads = template.getRefreshThreads();
+        }
+    }
+
+
+    /**
+     * Return the number of threads that the integration daemon uses to call refresh() on its integration connectors.
+     *
+     * @return int number of threads
+     */
+    public int getRefreshThreads()
+    {
+        return refreshThreads;
+    }
+
+
+    /**
+     * Set up the number of threads that the integration daemon uses to call refresh() on its integration connectors.
+     *
+     * @param refreshThreads int number of threads
+     */
+    public void setRefreshThreads(int refreshThreads)
+    {
+        this.refreshThreads = refreshThreads;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "IntegrationDaemonServicesConfig{" +
+                       "refreshThreads=" + refreshThreads +
+                       '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        IntegrationDaemonServicesConfig that = (IntegrationDaemonServicesConfig) objectToCompare;
+        return refreshThreads == that.refreshThreads;
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(refreshThreads);
+    }
+}
@@ -104,6 +104,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     private List<AccessServiceConfig>       accessServicesConfig            = null;
     private List<IntegrationServiceConfig>  integrationServicesConfig       = null;
     private List<IntegrationGroupConfig>    dynamicIntegrationGroupsConfig  = null;
+    private IntegrationDaemonServicesConfig integrationDaemonServicesConfig = null;
     private List<ViewServiceConfig>         viewServicesConfig              = null;
     private RepositoryServicesConfig        repositoryServicesConfig        = null;
     private ConformanceSuiteConfig          conformanceSuiteConfig          = null;
@@ -148,6 +149,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
             accessServicesConfig            = template.getAccessServicesConfig();
             integrationServicesConfig       = template.getIntegrationServicesConfig();
             dynamicIntegrationGroupsConfig  = template.getDynamicIntegrationGroupsConfig();
+            integrationDaemonServicesConfig = template.getIntegrationDaemonServicesConfig();
             engineHostServicesConfig        = template.getEngineHostServicesConfig();
             viewServicesConfig              = template.getViewServicesConfig();
             repositoryServicesConfig        = template.getRepositoryServicesConfig();
@@ -495,6 +497,29 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration for the integration daemon services that control an integration daemon OMAG Server.
+     * Null means use the default values.
+     *
+     * @return properties for an integration daemon
+     */
+    public IntegrationDaemonServicesConfig getIntegrationDaemonServicesConfig()
+    {
+        return integrationDaemonServicesConfig;
+    }
+
+
+    /**
+     * Set up the configuration for the integration daemon services that control an integration daemon OMAG Server.
+     *
+     * @param integrationDaemonServicesConfig properties for an integration daemon
+     */
+    public void setIntegrationDaemonServicesConfig(IntegrationDaemonServicesConfig integrationDaemonServicesConfig)
+    {
+        this.integrationDaemonServicesConfig = integrationDaemonServicesConfig;
+    }
+
+
     /**
      * Return the configuration for the registered Open Metadata View Services (OMVSs).  Used in a view server.
      *
@@ -671,6 +696,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
                        ", eventBusConfig=" + eventBusConfig +
                        ", accessServicesConfig=" + accessServicesConfig +
                        ", integrationServicesConfig=" + integrationServicesConfig +
+                       ", integrationDaemonServicesConfig=" + integrationDaemonServicesConfig +
                        ", engineHostServicesConfig=" + engineHostServicesConfig +
                        ", viewServicesConfig=" + viewServicesConfig +
                        ", repositoryServicesConfig=" + repositoryServicesConfig +
@@ -714,6 +740,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
                        Objects.equals(getEventBusConfig(), that.getEventBusConfig()) &&
                        Objects.equals(getAccessServicesConfig(), that.getAccessServicesConfig()) &&
                        Objects.equals(getIntegrationServicesConfig(), that.getIntegrationServicesConfig()) &&
+                       Objects.equals(getIntegrationDaemonServicesConfig(), that.getIntegrationDaemonServicesConfig()) &&
                        Objects.equals(getEngineHostServicesConfig(), that.getEngineHostServicesConfig()) &&
                        Objects.equals(getViewServicesConfig(), that.getViewServicesConfig()) &&
                        Objects.equals(getRepositoryServicesConfig(), that.getRepositoryServicesConfig()) &&
@@ -735,7 +762,7 @@ public class OMAGServerConfig extends AdminServicesConfigHeader
         return Objects.hash(getVersionId(), getLocalServerId(), getLocalServerName(), getLocalServerDescription(), getLocalServerType(), getOrganizationName(),
                             getLocalServerURL(),
                             getLocalServerUserId(), getLocalServerPassword(), getMaxPageSize(), getServerSecurityConnection(), getEventBusConfig(),
-                            getAccessServicesConfig(), getIntegrationServicesConfig(), getEngineHostServicesConfig(), getViewServicesConfig(),
+                            getAccessServicesConfig(), getIntegrationServicesConfig(), getIntegrationDaemonServicesConfig(), getEngineHostServicesConfig(), getViewServicesConfig(),
                             getRepositoryServicesConfig(), getConformanceSuiteConfig(),
                             getOpenLineageServerConfig(),
                             getDataEngineProxyConfig(), getAuditTrail());
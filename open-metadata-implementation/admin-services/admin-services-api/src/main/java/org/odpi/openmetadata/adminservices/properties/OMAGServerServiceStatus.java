@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
@@ -23,8 +24,9 @@ public class OMAGServerServiceStatus implements Serializable
 {
     private static final long    serialVersionUID = 1L;
 
-    private String             serviceName   = null;
-    private ServerActiveStatus serviceStatus = ServerActiveStatus.UNKNOWN;
+    private String             serviceName       = null;
+    private ServerActiveStatus serviceStatus     = ServerActiveStatus.UNKNOWN;
+    private Map<String, Long>  serviceStatistics = null;
 
 
     /**
@@ -79,6 +81,28 @@ public class OMAGServerServiceStatus implements Serializable
     }
 
 
+    /**
+     * Return the statistics reported by the service, such as the use of its caches.
+     *
+     * @return map of statistic name to value or null if the service does not report statistics
+     */
+    public Map<String, Long> getServiceStatistics()
+    {
+        return serviceStatistics;
+    }
+
+
+    /**
+     * Set up the statistics reported by the service.
+     *
+     * @param serviceStatistics map of statistic name to value
+     */
+    public void setServiceStatistics(Map<String, Long> serviceStatistics)
+    {
+        this.serviceStatistics = serviceStatistics;
+    }
+
+
     /**
      * JSON like toString method
      *
@@ -90,6 +114,7 @@ public class OMAGServerServiceStatus implements Serializable
         return "OMAGServerServiceStatus{" +
                        "serviceName='" + serviceName + '\'' +
                        ", serviceStatus=" + serviceStatus +
+                       ", serviceStatistics=" + serviceStatistics +
                        '}';
     }
 
@@ -113,7 +138,8 @@ public class OMAGServerServiceStatus implements Serializable
         }
         OMAGServerServiceStatus that = (OMAGServerServiceStatus) objectToCompare;
         return Objects.equals(serviceName, that.serviceName) &&
-                       serviceStatus == that.serviceStatus;
+                       serviceStatus == that.serviceStatus &&
+                       Objects.equals(serviceStatistics, that.serviceStatistics);
     }
 
 
@@ -125,6 +151,6 @@ public class OMAGServerServiceStatus implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(serviceName, serviceStatus);
+        return Objects.hash(serviceName, serviceStatus, serviceStatistics);
     }
 }
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adminservices.server;
 
 import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.CommonServicesDescription;
 import org.odpi.openmetadata.adminservices.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.ServerTypeClassification;
 import org.odpi.openmetadata.adminservices.registration.ViewServiceAdmin;
@@ -114,6 +115,12 @@ class OMAGOperationalServicesInstance extends OMAGServerServiceInstance
             serviceStatus.setServiceName(serviceName);
             serviceStatus.setServiceStatus(serviceStatusMap.get(serviceName));
 
+            if ((operationalRepositoryServices != null) &&
+                (CommonServicesDescription.REPOSITORY_SERVICES.getServiceName().equals(serviceName)))
+            {
+                serviceStatus.setServiceStatistics(operationalRepositoryServices.getEnterpriseInstanceCacheStatistics());
+            }
+
             serviceStatuses.add(serviceStatus);
         }
 
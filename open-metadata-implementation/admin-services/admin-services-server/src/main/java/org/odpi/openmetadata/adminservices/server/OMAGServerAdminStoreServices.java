@@ -33,7 +33,11 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataPlatformSecurit
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -43,11 +47,17 @@ import java.util.Set;
  * server's configuration document is stored in its own file.  However, it is possible to override
  * the default location using setConfigurationStoreConnection.  This override affects all
  * server instances in this process.
+ *
+ * The configuration store connector for each server is created and started on first use and then reused
+ * for later requests, so that any state it builds up (such as encryption keys or a cached document) is
+ * not thrown away after every call.  The connectors are discarded when the store connection changes.
  */
 public class OMAGServerAdminStoreServices
 {
     private static Connection  configurationStoreConnection = null;
 
+    private static final Map<String, OMAGServerConfigStore> serverConfigStores = new HashMap<>();
+
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerAdminStoreServices.class),
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
@@ -78,6 +88,8 @@ public class OMAGServerAdminStoreServices
             errorHandler.validatePlatformConnection(connection, methodName);
 
             configurationStoreConnection = connection;
+
+            this.clearServerConfigStores();
         }
         catch (OMAGInvalidParameterException error)
         {
@@ -153,6 +165,8 @@ public class OMAGServerAdminStoreServices
             OpenMetadataPlatformSecurityVerifier.validateUserAsOperatorForPlatform(userId);
 
             configurationStoreConnection = null;
+
+            this.clearServerConfigStores();
         }
         catch (UserNotAuthorizedException error)
         {
@@ -213,7 +227,53 @@ public class OMAGServerAdminStoreServices
 
 
     /**
-     * Retrieve the connection to the config file.
+     * Disconnect and discard the cached configuration store connectors.  This is called when the
+     * connection for the configuration store changes.
+     */
+    private void clearServerConfigStores()
+    {
+        List<OMAGServerConfigStore> oldServerConfigStores;
+
+        synchronized (serverConfigStores)
+        {
+            oldServerConfigStores = new ArrayList<>(serverConfigStores.values());
+            serverConfigStores.clear();
+        }
+
+        for (OMAGServerConfigStore serverConfigStore : oldServerConfigStores)
+        {
+            this.disconnectServerConfigStore(serverConfigStore);
+        }
+    }
+
+
+    /**
+     * Disconnect a configuration store connector that is no longer needed.
+     *
+     * @param serverConfigStore connector to disconnect
+     */
+    private void disconnectServerConfigStore(OMAGServerConfigStore serverConfigStore)
+    {
+        if (serverConfigStore instanceof Connector)
+        {
+            try
+            {
+                synchronized (serverConfigStore)
+                {
+                    ((Connector) serverConfigStore).disconnect();
+                }
+            }
+            catch (Exception error)
+            {
+                // nothing to do - the connector is being discarded
+            }
+        }
+    }
+
+
+    /**
+     * Retrieve the connection to the config file.  The connector is created and started the first time it is
+     * requested for a server and then reused.
      *
      * @param serverName  name of the server
      * @param methodName  method requesting the server details
@@ -223,6 +283,16 @@ public class OMAGServerAdminStoreServices
     private OMAGServerConfigStore getServerConfigStore(String   serverName,
                                                        String   methodName) throws OMAGInvalidParameterException
     {
+        synchronized (serverConfigStores)
+        {
+            OMAGServerConfigStore serverConfigStore = serverConfigStores.get(serverName);
+
+            if (serverConfigStore != null)
+            {
+                return serverConfigStore;
+            }
+        }
+
         Connection   connection = this.getConnection(serverName);
 
         try
@@ -237,6 +307,22 @@ public class OMAGServerAdminStoreServices
 
             connector.start();
 
+            OMAGServerConfigStore existingServerConfigStore;
+
+            synchronized (serverConfigStores)
+            {
+                existingServerConfigStore = serverConfigStores.putIfAbsent(serverName, serverConfigStore);
+            }
+
+            if (existingServerConfigStore != null)
+            {
+                /*
+                 * Another request created a connector for this server at the same time.
+                 */
+                this.disconnectServerConfigStore(serverConfigStore);
+                return existingServerConfigStore;
+            }
+
             return serverConfigStore;
         }
         catch (Exception   error)
@@ -352,7 +438,10 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            serverConfig = serverConfigStore.retrieveServerConfig();
+            synchronized (serverConfigStore)
+            {
+                serverConfig = serverConfigStore.retrieveServerConfig();
+            }
         }
 
         if (serverConfig == null)
@@ -554,14 +643,25 @@ public class OMAGServerAdminStoreServices
             if (serverConfig != null)
             {
                 validateConfigServerName(serverName, serverConfig.getLocalServerName(), methodName);
-                serverConfigStore.saveServerConfig(serverConfig);
+
+                synchronized (serverConfigStore)
+                {
+                    serverConfigStore.saveServerConfig(serverConfig);
+                }
             }
             else
             {
                 /*
                  * If the server config is null we delete the file rather than have an empty file hanging around.
+                 * A store may remove state that is shared between servers (such as an encryption key) so
+                 * all the cached connectors are discarded.
                  */
-                serverConfigStore.removeServerConfig();
+                synchronized (serverConfigStore)
+                {
+                    serverConfigStore.removeServerConfig();
+                }
+
+                this.clearServerConfigStores();
             }
         }
     }
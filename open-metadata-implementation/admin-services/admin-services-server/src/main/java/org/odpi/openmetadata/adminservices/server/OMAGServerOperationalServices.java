@@ -24,6 +24,7 @@ import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerExcept
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.admin.GAFMetadataOperationalServices;
 import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.commonservices.repositoryhandler.DuplicateClusterIndex;
 import org.odpi.openmetadata.frameworkservices.ocf.metadatamanagement.admin.OCFMetadataOperationalServices;
 import org.odpi.openmetadata.conformance.server.ConformanceSuiteOperationalServices;
 import org.odpi.openmetadata.frameworkservices.oif.admin.OIFMetadataOperationalServices;
@@ -426,6 +427,28 @@ public class OMAGServerOperationalServices
                  */
                 OMRSTopicConnector enterpriseTopicConnector = operationalRepositoryServices.getEnterpriseOMRSTopicConnector();
 
+                /*
+                 * The access services share an index of the duplicate clusters in the cohorts.  It is kept up to date from
+                 * the enterprise topic and so must be registered before the access services are initialized.
+                 */
+                if (enterpriseTopicConnector != null)
+                {
+                    final String duplicateClusterIndexName = "Duplicate Cluster Index";
+
+                    DuplicateClusterIndex duplicateClusterIndex = new DuplicateClusterIndex();
+
+                    enterpriseTopicConnector.registerListener(duplicateClusterIndex, duplicateClusterIndexName);
+                    DuplicateClusterIndex.setServerIndex(serverName, duplicateClusterIndex);
+
+                    /*
+                     * The security verifier caches the read decisions of the server security connector.  Decisions
+                     * about elements that have changed are discarded when their events are received.
+                     */
+                    final String securityDecisionCacheName = "Security Decision Cache";
+
+                    enterpriseTopicConnector.registerListener(securityVerifier.getDecisionCache(), securityDecisionCacheName);
+                }
+
                 initializeAccessServices(instance,
                                          configuration.getAccessServicesConfig(),
                                          operationalRepositoryServices,
@@ -1119,7 +1142,8 @@ public class OMAGServerOperationalServices
                                                                configuration.getLocalServerId(),
                                                                configuration.getLocalServerUserId(),
                                                                configuration.getLocalServerPassword(),
-                                                               configuration.getMaxPageSize());
+                                                               configuration.getMaxPageSize(),
+                                                               configuration.getIntegrationDaemonServicesConfig());
 
             instance.setOperationalIntegrationDaemon(integrationDaemonOperationalServices);
             List<String> integrationServices = integrationDaemonOperationalServices.initialize(configuration.getIntegrationServicesConfig(),
@@ -1373,6 +1397,7 @@ public class OMAGServerOperationalServices
                 instance.setServerActiveStatus(ServerActiveStatus.INACTIVE);
 
                 instanceHandler.removeServerServiceInstance(serverName);
+                DuplicateClusterIndex.removeServerIndex(serverName);
 
                 if (auditLog != null)
                 {
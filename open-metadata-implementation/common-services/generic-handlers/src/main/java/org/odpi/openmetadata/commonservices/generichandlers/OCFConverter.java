@@ -236,14 +236,7 @@ public abstract class OCFConverter<B> extends OpenMetadataAPIGenericConverter<B>
 
         if (properties != null)
         {
-            Map<String, InstancePropertyValue> instancePropertiesMap = properties.getInstanceProperties();
-
-            if (instancePropertiesMap != null)
-            {
-                instancePropertiesMap.remove(OpenMetadataAPIMapper.OWNER_TYPE_PROPERTY_NAME);
-            }
-
-            properties.setInstanceProperties(instancePropertiesMap);
+            properties.setProperty(OpenMetadataAPIMapper.OWNER_TYPE_PROPERTY_NAME, null);
         }
 
         return ownerType;
@@ -262,30 +255,25 @@ public abstract class OCFConverter<B> extends OpenMetadataAPIGenericConverter<B>
 
         if (properties != null)
         {
-            Map<String, InstancePropertyValue> instancePropertiesMap = properties.getInstanceProperties();
+            InstancePropertyValue instancePropertyValue = properties.getPropertyValue(OpenMetadataAPIMapper.OWNER_TYPE_PROPERTY_NAME);
 
-            if (instancePropertiesMap != null)
+            if (instancePropertyValue instanceof EnumPropertyValue)
             {
-                InstancePropertyValue instancePropertyValue = instancePropertiesMap.get(OpenMetadataAPIMapper.OWNER_TYPE_PROPERTY_NAME);
+                EnumPropertyValue enumPropertyValue = (EnumPropertyValue) instancePropertyValue;
 
-                if (instancePropertyValue instanceof EnumPropertyValue)
+                switch (enumPropertyValue.getOrdinal())
                 {
-                    EnumPropertyValue enumPropertyValue = (EnumPropertyValue) instancePropertyValue;
+                    case 0:
+                        ownerType = OwnerType.USER_ID;
+                        break;
 
-                    switch (enumPropertyValue.getOrdinal())
-                    {
-                        case 0:
-                            ownerType = OwnerType.USER_ID;
-                            break;
-
-                        case 1:
-                            ownerType = OwnerType.PROFILE_ID;
-                            break;
+                    case 1:
+                        ownerType = OwnerType.PROFILE_ID;
+                        break;
 
-                        case 99:
-                            ownerType = OwnerType.OTHER;
-                            break;
-                    }
+                    case 99:
+                        ownerType = OwnerType.OTHER;
+                        break;
                 }
             }
         }
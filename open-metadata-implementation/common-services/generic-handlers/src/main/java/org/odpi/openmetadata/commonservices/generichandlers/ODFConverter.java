@@ -10,7 +10,6 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -1254,9 +1253,7 @@ public abstract class ODFConverter<B> extends OCFConverter<B>
 
         if (properties != null)
         {
-            Map<String, InstancePropertyValue> instancePropertiesMap = properties.getInstanceProperties();
-
-            InstancePropertyValue instancePropertyValue = instancePropertiesMap.get(OpenMetadataAPIMapper.ANNOTATION_STATUS_PROPERTY_NAME);
+            InstancePropertyValue instancePropertyValue = properties.getPropertyValue(OpenMetadataAPIMapper.ANNOTATION_STATUS_PROPERTY_NAME);
 
             if (instancePropertyValue instanceof EnumPropertyValue)
             {
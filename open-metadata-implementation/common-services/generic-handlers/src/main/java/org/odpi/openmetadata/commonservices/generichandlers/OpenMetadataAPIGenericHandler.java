@@ -1046,13 +1046,11 @@ public class OpenMetadataAPIGenericHandler<B>
             }
             else if (suppliedProperties != null)
             {
-                Map<String, InstancePropertyValue>  propertyMap = suppliedProperties.getInstanceProperties();
-
-                for (String propertyName : propertyMap.keySet())
+                for (Map.Entry<String, InstancePropertyValue> suppliedProperty : suppliedProperties.getInstancePropertiesView().entrySet())
                 {
-                    if (propertyName != null)
+                    if (suppliedProperty.getKey() != null)
                     {
-                        newProperties.setProperty(propertyName, propertyMap.get(propertyName));
+                        newProperties.setProperty(suppliedProperty.getKey(), suppliedProperty.getValue());
                     }
                 }
 
@@ -3261,6 +3259,35 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Pass each new page of entities retrieved by a search to the security verifier so that it can decide which of
+     * the entities the calling user is allowed to read in a single call.  The decisions are cached and so the
+     * validation of each entity as it is taken from the iterator does not need to call the security connector again.
+     *
+     * @param userId calling user
+     * @param iterator iterator retrieving the search results
+     * @param serviceSupportedZones supported zones for calling service
+     * @param methodName calling method
+     */
+    private void validateRetrievedEntities(String                        userId,
+                                           RepositoryIteratorForEntities iterator,
+                                           List<String>                  serviceSupportedZones,
+                                           String                        methodName)
+    {
+        List<EntityDetail> retrievedEntities = iterator.getNewlyRetrievedEntities();
+
+        if (retrievedEntities != null)
+        {
+            securityVerifier.validateUserForElementListRead(userId,
+                                                            retrievedEntities,
+                                                            serviceSupportedZones,
+                                                            repositoryHelper,
+                                                            serviceName,
+                                                            methodName);
+        }
+    }
+
+
     /**
      * Validates that the unique property is not already in use across all types that contain the unique property.
      *
@@ -9211,19 +9238,21 @@ public class OpenMetadataAPIGenericHandler<B>
                     String displayName = "";
                     String qualifiedName = "";
 
-                    if (relatedEntity.getProperties() !=null && relatedEntity.getProperties().getInstanceProperties() != null )
+                    InstanceProperties relatedEntityProperties = relatedEntity.getProperties();
+
+                    if (relatedEntityProperties != null)
                     {
-                        if (relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME) != null)
+                        if (relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME) != null)
                         {
-                            displayName = relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME).toString();
+                            displayName = relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.DISPLAY_NAME_PROPERTY_NAME).toString();
                         }
-                        else if (relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.NAME_PROPERTY_NAME) != null)
+                        else if (relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.NAME_PROPERTY_NAME) != null)
                         {
-                            displayName = relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.NAME_PROPERTY_NAME).toString();
+                            displayName = relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.NAME_PROPERTY_NAME).toString();
                         }
-                        if ( relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME)!=null)
+                        if (relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME) != null)
                         {
-                            qualifiedName = relatedEntity.getProperties().getInstanceProperties().get(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME).toString();
+                            qualifiedName = relatedEntityProperties.getPropertyValue(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME).toString();
                         }
                     }
 
@@ -10040,6 +10069,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (duplicateEntities.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -10210,6 +10241,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (duplicateEntities.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -10777,6 +10810,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -11144,6 +11179,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -11675,6 +11712,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -12406,6 +12445,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
+            this.validateRetrievedEntities(userId, iterator, serviceSupportedZones, methodName);
+
             EntityDetail entity = iterator.getNext();
 
             if (entity != null)
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.metadatasecurity.properties.Asset;
 import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -96,6 +97,42 @@ public interface OpenMetadataAssetSecurity
                                    Asset  asset) throws UserNotAuthorizedException;
 
 
+    /**
+     * Tests for whether a specific user should have read access to each asset in a page of search results.
+     * The default implementation calls validateUserForAssetRead for each asset.  A connector that can make
+     * the decision for many assets at once should override it.
+     *
+     * @param userId identifier of user
+     * @param assets list of asset details
+     * @return the assets that the user can read
+     */
+    default List<Asset> validateUserForAssetListRead(String      userId,
+                                                     List<Asset> assets)
+    {
+        List<Asset> visibleAssets = new ArrayList<>();
+
+        if (assets != null)
+        {
+            for (Asset asset : assets)
+            {
+                try
+                {
+                    this.validateUserForAssetRead(userId, asset);
+                    visibleAssets.add(asset);
+                }
+                catch (UserNotAuthorizedException notVisible)
+                {
+                    /*
+                     * Skip the asset.
+                     */
+                }
+            }
+        }
+
+        return visibleAssets;
+    }
+
+
     /**
      * Tests for whether a specific user should have the right to update an asset.
      * This is used for a general asset update, which may include changes to the
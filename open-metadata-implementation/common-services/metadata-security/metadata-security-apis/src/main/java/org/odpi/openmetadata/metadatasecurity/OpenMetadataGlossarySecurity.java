@@ -5,6 +5,9 @@ package org.odpi.openmetadata.metadatasecurity;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.metadatasecurity.properties.Glossary;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * OpenMetadataGlossarySecurity assures the access to glossary content.
@@ -53,6 +56,42 @@ public interface OpenMetadataGlossarySecurity
                                       Glossary  glossary) throws UserNotAuthorizedException;
 
 
+    /**
+     * Tests for whether a specific user should have read access to each glossary in a page of search results.
+     * The default implementation calls validateUserForGlossaryRead for each glossary.  A connector that can make
+     * the decision for many glossaries at once should override it.
+     *
+     * @param userId identifier of user
+     * @param glossaries list of glossary details
+     * @return the glossaries that the user can read
+     */
+    default List<Glossary> validateUserForGlossaryListRead(String         userId,
+                                                           List<Glossary> glossaries)
+    {
+        List<Glossary> visibleGlossaries = new ArrayList<>();
+
+        if (glossaries != null)
+        {
+            for (Glossary glossary : glossaries)
+            {
+                try
+                {
+                    this.validateUserForGlossaryRead(userId, glossary);
+                    visibleGlossaries.add(glossary);
+                }
+                catch (UserNotAuthorizedException notVisible)
+                {
+                    /*
+                     * Skip the glossary.
+                     */
+                }
+            }
+        }
+
+        return visibleGlossaries;
+    }
+
+
     /**
      * Tests for whether a specific user should have the right to update the properties/classifications of a glossary.
      *
@@ -0,0 +1,423 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenMetadataSecurityDecisionCache remembers the decisions made by the open metadata server security connector
+ * when users read elements.  A decision is keyed by the calling user, the operation, the supported zones of the
+ * calling service and the element's unique identifier and version (which includes the versions of its
+ * classifications).  A change to the element therefore means a new decision is needed.
+ * <p>
+ * Decisions are discarded once they are older than the maximum decision age, so changes to the security connector's
+ * own rules are picked up.  They are also discarded when an instance event on the enterprise OMRS topic reports that
+ * the element has changed.  The number of elements is bounded, and the least recently used elements are discarded
+ * first.
+ * </p>
+ * <p>
+ * The limits are set from the configuration properties of the server security connector's connection.
+ * Setting either limit to zero disables the cache so every check calls the security connector.
+ * </p>
+ */
+public class OpenMetadataSecurityDecisionCache implements OMRSTopicRepositoryEventListener
+{
+    /**
+     * Name of the configuration property that sets the maximum number of elements to remember decisions for.
+     */
+    public static final String MAX_ELEMENTS_CONFIGURATION_PROPERTY     = "decisionCacheMaxElements";
+
+    /**
+     * Name of the configuration property that sets the number of seconds that a decision is used for.
+     */
+    public static final String MAX_DECISION_AGE_CONFIGURATION_PROPERTY = "decisionCacheMaxDecisionAgeSeconds";
+
+    public static final int  DEFAULT_MAX_ELEMENTS     = 10000;
+    public static final long DEFAULT_MAX_DECISION_AGE = 60000; // milliseconds
+
+    private volatile int                          maxElements;
+    private volatile long                         maxDecisionAge;
+    private final Map<String, ElementDecisions>   elementDecisions;
+
+
+    /**
+     * Constructor for a cache with the default limits.
+     */
+    public OpenMetadataSecurityDecisionCache()
+    {
+        this(DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DECISION_AGE);
+    }
+
+
+    /**
+     * Constructor for a cache with specific limits.
+     *
+     * @param maxElements maximum number of elements to remember decisions for (zero disables the cache)
+     * @param maxDecisionAge number of milliseconds that a decision is used for (zero disables the cache)
+     */
+    public OpenMetadataSecurityDecisionCache(int  maxElements,
+                                             long maxDecisionAge)
+    {
+        this.maxElements      = maxElements;
+        this.maxDecisionAge   = maxDecisionAge;
+        this.elementDecisions = new LinkedHashMap<String, ElementDecisions>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ElementDecisions> eldest)
+            {
+                return size() > OpenMetadataSecurityDecisionCache.this.maxElements;
+            }
+        };
+    }
+
+
+    /**
+     * Set the limits of the cache from the configuration properties of the security connector's connection.
+     * The default limits are used for properties that are not set.  All existing decisions are discarded.
+     *
+     * @param configurationProperties configuration properties (may be null)
+     * @throws NumberFormatException one of the limits is not a number
+     */
+    public synchronized void setLimits(Map<String, Object> configurationProperties)
+    {
+        int  newMaxElements    = DEFAULT_MAX_ELEMENTS;
+        long newMaxDecisionAge = DEFAULT_MAX_DECISION_AGE;
+
+        if (configurationProperties != null)
+        {
+            Object maxElementsProperty    = configurationProperties.get(MAX_ELEMENTS_CONFIGURATION_PROPERTY);
+            Object maxDecisionAgeProperty = configurationProperties.get(MAX_DECISION_AGE_CONFIGURATION_PROPERTY);
+
+            if (maxElementsProperty != null)
+            {
+                newMaxElements = Integer.parseInt(maxElementsProperty.toString());
+            }
+
+            if (maxDecisionAgeProperty != null)
+            {
+                newMaxDecisionAge = Long.parseLong(maxDecisionAgeProperty.toString()) * 1000;
+            }
+        }
+
+        this.setLimits(newMaxElements, newMaxDecisionAge);
+    }
+
+
+    /**
+     * Set the limits of the cache.  All existing decisions are discarded.
+     *
+     * @param maxElements maximum number of elements to remember decisions for (zero disables the cache)
+     * @param maxDecisionAge number of milliseconds that a decision is used for (zero disables the cache)
+     */
+    public synchronized void setLimits(int  maxElements,
+                                       long maxDecisionAge)
+    {
+        this.maxElements = maxElements;
+        this.maxDecisionAge = maxDecisionAge;
+
+        elementDecisions.clear();
+    }
+
+
+    /**
+     * Return whether decisions are being cached.
+     *
+     * @return flag
+     */
+    public boolean isEnabled()
+    {
+        return (maxElements > 0) && (maxDecisionAge > 0);
+    }
+
+
+    /**
+     * Return the decision for a user to perform an operation on an element.
+     *
+     * @param userId calling user
+     * @param operation name of the operation
+     * @param supportedZones supported zones of the calling service
+     * @param entity element
+     * @return decision or null if no decision has been made for this version of the element
+     */
+    public synchronized Decision getDecision(String        userId,
+                                             String        operation,
+                                             List<String>  supportedZones,
+                                             EntityDetail  entity)
+    {
+        if ((! this.isEnabled()) || (entity == null) || (entity.getGUID() == null))
+        {
+            return null;
+        }
+
+        ElementDecisions decisions = elementDecisions.get(entity.getGUID());
+
+        if ((decisions == null) || (! decisions.elementVersion.equals(getElementVersion(entity))))
+        {
+            return null;
+        }
+
+        String   decisionKey = getDecisionKey(userId, operation, supportedZones);
+        Decision decision    = decisions.decisions.get(decisionKey);
+
+        if ((decision != null) && (System.currentTimeMillis() - decision.decisionTime > maxDecisionAge))
+        {
+            decisions.decisions.remove(decisionKey);
+            return null;
+        }
+
+        return decision;
+    }
+
+
+    /**
+     * Save the decision for a user to perform an operation on an element.
+     *
+     * @param userId calling user
+     * @param operation name of the operation
+     * @param supportedZones supported zones of the calling service
+     * @param entity element
+     * @param rejection exception from the security connector, or null if the operation is allowed
+     */
+    public synchronized void saveDecision(String                     userId,
+                                          String                     operation,
+                                          List<String>               supportedZones,
+                                          EntityDetail               entity,
+                                          UserNotAuthorizedException rejection)
+    {
+        if ((! this.isEnabled()) || (entity == null) || (entity.getGUID() == null))
+        {
+            return;
+        }
+
+        String           elementVersion = getElementVersion(entity);
+        ElementDecisions decisions      = elementDecisions.get(entity.getGUID());
+
+        if ((decisions == null) || (! decisions.elementVersion.equals(elementVersion)))
+        {
+            decisions = new ElementDecisions(elementVersion);
+            elementDecisions.put(entity.getGUID(), decisions);
+        }
+
+        decisions.decisions.put(getDecisionKey(userId, operation, supportedZones), new Decision(rejection));
+    }
+
+
+    /**
+     * Forget the decisions for an element.
+     *
+     * @param elementGUID unique identifier of the element
+     */
+    public synchronized void removeElement(String elementGUID)
+    {
+        if (elementGUID != null)
+        {
+            elementDecisions.remove(elementGUID);
+        }
+    }
+
+
+    /**
+     * Forget all decisions.  This is called when the security connector changes.
+     */
+    public synchronized void clear()
+    {
+        elementDecisions.clear();
+    }
+
+
+    /**
+     * Return the number of elements that have decisions.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return elementDecisions.size();
+    }
+
+
+    /**
+     * Return the version of an element, including the versions of its classifications since they are passed to the
+     * security connector with the element's properties.
+     *
+     * @param entity element
+     * @return version string
+     */
+    private String getElementVersion(EntityDetail entity)
+    {
+        StringBuilder elementVersion = new StringBuilder(Long.toString(entity.getVersion()));
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if (classification != null)
+                {
+                    elementVersion.append(':').append(classification.getName()).append('.').append(classification.getVersion());
+                }
+            }
+        }
+
+        return elementVersion.toString();
+    }
+
+
+    /**
+     * Return the key for the decisions about an element.
+     *
+     * @param userId calling user
+     * @param operation name of the operation
+     * @param supportedZones supported zones of the calling service
+     * @return key
+     */
+    private String getDecisionKey(String        userId,
+                                  String        operation,
+                                  List<String>  supportedZones)
+    {
+        return userId + ':' + operation + ':' + supportedZones;
+    }
+
+
+    /**
+     * Type definition events do not affect decisions.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+    }
+
+
+    /**
+     * Forget the decisions for an element that has changed.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if ((event == null) || (event.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        OMRSInstanceEventType eventType = event.getInstanceEventType();
+
+        switch (eventType)
+        {
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case CLASSIFIED_ENTITY_EVENT:
+            case DECLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+            case DELETED_ENTITY_EVENT:
+            case PURGED_ENTITY_EVENT:
+            case RESTORED_ENTITY_EVENT:
+            case RETYPED_ENTITY_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                if (event.getInstanceGUID() != null)
+                {
+                    this.removeElement(event.getInstanceGUID());
+                }
+                else if (event.getEntity() != null)
+                {
+                    this.removeElement(event.getEntity().getGUID());
+                }
+                else if (event.getEntityProxy() != null)
+                {
+                    this.removeElement(event.getEntityProxy().getGUID());
+                }
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                this.removeElement(event.getOriginalInstanceGUID());
+                break;
+
+            default:
+                break;
+        }
+    }
+
+
+    /**
+     * ElementDecisions holds the decisions made for one version of an element.
+     */
+    private static class ElementDecisions
+    {
+        private final String                elementVersion;
+        private final Map<String, Decision> decisions = new HashMap<>();
+
+
+        /**
+         * Constructor for a version of an element.
+         *
+         * @param elementVersion version of the element and its classifications
+         */
+        private ElementDecisions(String elementVersion)
+        {
+            this.elementVersion = elementVersion;
+        }
+    }
+
+
+    /**
+     * Decision is the outcome of a call to the security connector.
+     */
+    public static class Decision
+    {
+        private final UserNotAuthorizedException rejection;
+        private final long                       decisionTime = System.currentTimeMillis();
+
+
+        /**
+         * Constructor for a decision.
+         *
+         * @param rejection exception from the security connector, or null if the operation is allowed
+         */
+        private Decision(UserNotAuthorizedException rejection)
+        {
+            this.rejection = rejection;
+        }
+
+
+        /**
+         * Return whether the operation is allowed.
+         *
+         * @return flag
+         */
+        public boolean isAllowed()
+        {
+            return rejection == null;
+        }
+
+
+        /**
+         * Throw a copy of the security connector's exception if the operation was rejected.  A new exception is
+         * created each time so that its stack trace shows the current request.
+         *
+         * @throws UserNotAuthorizedException the user is not authorized to perform the operation
+         */
+        public void validate() throws UserNotAuthorizedException
+        {
+            if (rejection != null)
+            {
+                throw new UserNotAuthorizedException(rejection);
+            }
+        }
+    }
+}
@@ -118,6 +118,13 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private static final String OWNER_PROPERTY_NAME_PROPERTY_NAME         = "ownerPropertyName";                   /* from Area 4 */
     private static final String OWNER_TYPE_PROPERTY_NAME                  = "ownerType"; /* deprecated */
 
+    private static final String ASSET_TYPE_NAME                           = "Asset";
+    private static final String GLOSSARY_TYPE_NAME                        = "Glossary";
+
+    private static final String ASSET_READ_OPERATION                      = "AssetRead";
+    private static final String GLOSSARY_READ_OPERATION                   = "GlossaryRead";
+    private static final String CONNECTION_READ_OPERATION                 = "ConnectionRead";
+
 
     private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
     private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
@@ -127,7 +134,8 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
     private OpenMetadataGlossarySecurity   glossarySecurityConnector   = null;
 
-    private final InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+    private final InvalidParameterHandler           invalidParameterHandler = new InvalidParameterHandler();
+    private final OpenMetadataSecurityDecisionCache decisionCache           = new OpenMetadataSecurityDecisionCache();
 
     /**
      * Default constructor
@@ -152,8 +160,35 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                         AuditLog                                                                  auditLog,
                                                         org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection   connection) throws InvalidParameterException
     {
+        final String methodName = "registerSecurityValidator";
+
         OpenMetadataServerSecurityConnector connector;
 
+        /*
+         * Decisions made by a previous connector no longer apply.
+         */
+        if (connection != null)
+        {
+            try
+            {
+                decisionCache.setLimits(connection.getConfigurationProperties());
+            }
+            catch (NumberFormatException error)
+            {
+                throw new InvalidParameterException(OpenMetadataSecurityErrorCode.BAD_SERVER_SECURITY_CONNECTION.getMessageDefinition(serverName,
+                                                                                                                                      error.getMessage(),
+                                                                                                                                      connection.toString()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error,
+                                                    "connection");
+            }
+        }
+        else
+        {
+            decisionCache.clear();
+        }
+
         try
         {
             /*
@@ -201,6 +236,18 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Return the cache of the read decisions made by the security connector.  It needs to receive the instance
+     * events from the enterprise OMRS topic so that decisions about changed elements are discarded.
+     *
+     * @return decision cache
+     */
+    public OpenMetadataSecurityDecisionCache getDecisionCache()
+    {
+        return decisionCache;
+    }
+
+
     /**
      * Return the Open Metadata Server Security Connector for the connection.
      *
@@ -988,9 +1035,29 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                           String               serviceName,
                                           String               methodName) throws UserNotAuthorizedException
     {
-        Connection connectionBean = this.getConnectionFromEntity(entity, repositoryHelper, serviceName, methodName);
+        if (connectionSecurityConnector != null)
+        {
+            OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(userId, CONNECTION_READ_OPERATION, null, entity);
+
+            if (decision != null)
+            {
+                decision.validate();
+                return;
+            }
 
-        this.validateUserForConnection(userId, connectionBean);
+            Connection connectionBean = this.getConnectionFromEntity(entity, repositoryHelper, serviceName, methodName);
+
+            try
+            {
+                this.validateUserForConnection(userId, connectionBean);
+                decisionCache.saveDecision(userId, CONNECTION_READ_OPERATION, null, entity, null);
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.saveDecision(userId, CONNECTION_READ_OPERATION, null, entity, error);
+                throw error;
+            }
+        }
     }
 
 
@@ -1315,12 +1382,133 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
         if (assetSecurityConnector != null)
         {
+            OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(userId,
+                                                                                            ASSET_READ_OPERATION,
+                                                                                            suppliedSupportedZones,
+                                                                                            assetEntity);
+
+            if (decision != null)
+            {
+                decision.validate();
+                return;
+            }
+
             /*
              * Create the bean for the security module then call the appropriate security method.
              */
             Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
 
-            assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+            try
+            {
+                assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+                decisionCache.saveDecision(userId, ASSET_READ_OPERATION, suppliedSupportedZones, assetEntity, null);
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.saveDecision(userId, ASSET_READ_OPERATION, suppliedSupportedZones, assetEntity, error);
+                throw error;
+            }
+        }
+    }
+
+
+    /**
+     * Ask the security connector to decide which of the assets and glossaries in a page of search results the
+     * user can read.  The elements that the user can read are recorded in the decision cache so that the checks
+     * made as each element is returned do not call the security connector again.  Elements that the user can not
+     * read are checked again individually so that the security connector's own exception is returned.
+     * Nothing is done if the decision cache is disabled.
+     *
+     * @param userId calling user
+     * @param entities page of entities retrieved from the repositories
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     */
+    public void validateUserForElementListRead(String               userId,
+                                               List<EntityDetail>   entities,
+                                               List<String>         suppliedSupportedZones,
+                                               OMRSRepositoryHelper repositoryHelper,
+                                               String               serviceName,
+                                               String               methodName)
+    {
+        /*
+         * Without the decision cache the elements are checked individually anyway.
+         */
+        if ((entities == null) ||
+            ((assetSecurityConnector == null) && (glossarySecurityConnector == null)) ||
+            (! decisionCache.isEnabled()))
+        {
+            return;
+        }
+
+        Map<String, EntityDetail> assetEntities    = new HashMap<>();
+        Map<String, EntityDetail> glossaryEntities = new HashMap<>();
+        List<Asset>               assetBeans       = new ArrayList<>();
+        List<Glossary>            glossaryBeans    = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if ((entity != null) && (entity.getGUID() != null) && (entity.getType() != null))
+            {
+                String typeName = entity.getType().getTypeDefName();
+
+                if ((assetSecurityConnector != null) &&
+                    (repositoryHelper.isTypeOf(serviceName, typeName, ASSET_TYPE_NAME)) &&
+                    (decisionCache.getDecision(userId, ASSET_READ_OPERATION, suppliedSupportedZones, entity) == null))
+                {
+                    assetEntities.put(entity.getGUID(), entity);
+                    assetBeans.add(this.getAssetBeanFromEntity(entity, repositoryHelper, serviceName, methodName));
+                }
+                else if ((glossarySecurityConnector != null) &&
+                         (repositoryHelper.isTypeOf(serviceName, typeName, GLOSSARY_TYPE_NAME)) &&
+                         (decisionCache.getDecision(userId, GLOSSARY_READ_OPERATION, null, entity) == null))
+                {
+                    glossaryEntities.put(entity.getGUID(), entity);
+                    glossaryBeans.add(this.getGlossaryBeanFromEntity(entity, repositoryHelper, serviceName, methodName));
+                }
+            }
+        }
+
+        if (! assetBeans.isEmpty())
+        {
+            List<Asset> visibleAssets = assetSecurityConnector.validateUserForAssetListRead(userId, assetBeans);
+
+            if (visibleAssets != null)
+            {
+                for (Asset visibleAsset : visibleAssets)
+                {
+                    if (visibleAsset != null)
+                    {
+                        decisionCache.saveDecision(userId,
+                                                   ASSET_READ_OPERATION,
+                                                   suppliedSupportedZones,
+                                                   assetEntities.get(visibleAsset.getGUID()),
+                                                   null);
+                    }
+                }
+            }
+        }
+
+        if (! glossaryBeans.isEmpty())
+        {
+            List<Glossary> visibleGlossaries = glossarySecurityConnector.validateUserForGlossaryListRead(userId, glossaryBeans);
+
+            if (visibleGlossaries != null)
+            {
+                for (Glossary visibleGlossary : visibleGlossaries)
+                {
+                    if (visibleGlossary != null)
+                    {
+                        decisionCache.saveDecision(userId,
+                                                   GLOSSARY_READ_OPERATION,
+                                                   null,
+                                                   glossaryEntities.get(visibleGlossary.getGUID()),
+                                                   null);
+                    }
+                }
+            }
         }
     }
 
@@ -1942,12 +2130,29 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (glossarySecurityConnector != null)
         {
+            OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(userId, GLOSSARY_READ_OPERATION, null, entity);
+
+            if (decision != null)
+            {
+                decision.validate();
+                return;
+            }
+
             /*
              * Create the bean for the security module then call the appropriate security method.
              */
             Glossary glossary = this.getGlossaryBeanFromEntity(entity, repositoryHelper, serviceName, methodName);
 
-            glossarySecurityConnector.validateUserForGlossaryRead(userId, glossary);
+            try
+            {
+                glossarySecurityConnector.validateUserForGlossaryRead(userId, glossary);
+                decisionCache.saveDecision(userId, GLOSSARY_READ_OPERATION, null, entity, null);
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.saveDecision(userId, GLOSSARY_READ_OPERATION, null, entity, error);
+                throw error;
+            }
         }
     }
 
@@ -0,0 +1,236 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OpenMetadataSecurityDecisionCache only returns decisions for the same user, operation and version
+ * of an element, forgets decisions when the element changes or the decision is too old, and can be disabled.
+ */
+public class OpenMetadataSecurityDecisionCacheTest
+{
+    private static final String       operation      = "assetRead";
+    private static final List<String> supportedZones = Collections.singletonList("quarantine");
+
+
+    /**
+     * Return an entity to make decisions about.
+     *
+     * @param guid unique identifier
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF, "TestTypeGUID", "Asset", 1L));
+
+        return entity;
+    }
+
+
+    /**
+     * Return the exception that the security connector would throw.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the element
+     * @return exception
+     */
+    private UserNotAuthorizedException getRejection(String userId,
+                                                    String guid)
+    {
+        return new UserNotAuthorizedException(OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_ACCESS.getMessageDefinition(userId, guid),
+                                              this.getClass().getName(),
+                                              "getRejection",
+                                              userId);
+    }
+
+
+    @Test
+    public void testUserIsolation() throws Exception
+    {
+        OpenMetadataSecurityDecisionCache cache  = new OpenMetadataSecurityDecisionCache();
+        EntityDetail                      entity = getEntity("guid1", 1L);
+
+        cache.saveDecision("allowedUser", operation, supportedZones, entity, null);
+        cache.saveDecision("rejectedUser", operation, supportedZones, entity, getRejection("rejectedUser", "guid1"));
+
+        assertTrue(cache.getDecision("allowedUser", operation, supportedZones, entity).isAllowed());
+        assertFalse(cache.getDecision("rejectedUser", operation, supportedZones, entity).isAllowed());
+
+        /*
+         * Decisions are not shared between users, operations or supported zones.
+         */
+        assertNull(cache.getDecision("otherUser", operation, supportedZones, entity));
+        assertNull(cache.getDecision("allowedUser", "assetUpdate", supportedZones, entity));
+        assertNull(cache.getDecision("allowedUser", operation, null, entity));
+
+        /*
+         * A new version of the element needs a new decision.
+         */
+        assertNull(cache.getDecision("allowedUser", operation, supportedZones, getEntity("guid1", 2L)));
+        assertNull(cache.getDecision("allowedUser", operation, supportedZones, getEntity("guid2", 1L)));
+    }
+
+
+    @Test
+    public void testNewRejection()
+    {
+        OpenMetadataSecurityDecisionCache cache     = new OpenMetadataSecurityDecisionCache();
+        EntityDetail                      entity    = getEntity("guid1", 1L);
+        UserNotAuthorizedException        rejection = getRejection("rejectedUser", "guid1");
+
+        cache.saveDecision("rejectedUser", operation, supportedZones, entity, rejection);
+
+        OpenMetadataSecurityDecisionCache.Decision decision = cache.getDecision("rejectedUser", operation, supportedZones, entity);
+
+        UserNotAuthorizedException firstError  = null;
+        UserNotAuthorizedException secondError = null;
+
+        try
+        {
+            decision.validate();
+            fail("rejection not thrown");
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            firstError = error;
+        }
+
+        try
+        {
+            decision.validate();
+            fail("rejection not thrown");
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            secondError = error;
+        }
+
+        /*
+         * Each request gets its own exception with the security connector's message.
+         */
+        assertNotSame(firstError, rejection);
+        assertNotSame(firstError, secondError);
+        assertEquals(firstError.getReportedErrorMessage(), rejection.getReportedErrorMessage());
+        assertEquals(firstError.getUserId(), "rejectedUser");
+    }
+
+
+    @Test
+    public void testInstanceEvents()
+    {
+        OpenMetadataSecurityDecisionCache cache   = new OpenMetadataSecurityDecisionCache();
+        EntityDetail                      entity1 = getEntity("guid1", 1L);
+        EntityDetail                      entity2 = getEntity("guid2", 1L);
+
+        cache.saveDecision("testUser", operation, supportedZones, entity1, null);
+        cache.saveDecision("testUser", operation, supportedZones, entity2, null);
+        assertEquals(cache.size(), 2);
+
+        /*
+         * Events for new elements do not affect the decisions.
+         */
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("guid3", 1L)));
+        assertEquals(cache.size(), 2);
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity1, getEntity("guid1", 2L)));
+        assertNull(cache.getDecision("testUser", operation, supportedZones, entity1));
+        assertNotNull(cache.getDecision("testUser", operation, supportedZones, entity2));
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, entity2));
+        assertNull(cache.getDecision("testUser", operation, supportedZones, entity2));
+        assertEquals(cache.size(), 0);
+    }
+
+
+    @Test
+    public void testExpiry() throws Exception
+    {
+        OpenMetadataSecurityDecisionCache cache  = new OpenMetadataSecurityDecisionCache(10, 50L);
+        EntityDetail                      entity = getEntity("guid1", 1L);
+
+        cache.saveDecision("testUser", operation, supportedZones, entity, null);
+        assertNotNull(cache.getDecision("testUser", operation, supportedZones, entity));
+
+        Thread.sleep(100L);
+
+        assertNull(cache.getDecision("testUser", operation, supportedZones, entity));
+    }
+
+
+    @Test
+    public void testMaxElements()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(2, 60000L);
+
+        cache.saveDecision("testUser", operation, supportedZones, getEntity("guid1", 1L), null);
+        cache.saveDecision("testUser", operation, supportedZones, getEntity("guid2", 1L), null);
+        cache.saveDecision("testUser", operation, supportedZones, getEntity("guid3", 1L), null);
+
+        assertEquals(cache.size(), 2);
+        assertNull(cache.getDecision("testUser", operation, supportedZones, getEntity("guid1", 1L)));
+        assertNotNull(cache.getDecision("testUser", operation, supportedZones, getEntity("guid3", 1L)));
+    }
+
+
+    @Test
+    public void testConfiguration()
+    {
+        OpenMetadataSecurityDecisionCache cache  = new OpenMetadataSecurityDecisionCache();
+        EntityDetail                      entity = getEntity("guid1", 1L);
+        Map<String, Object>               configurationProperties = new HashMap<>();
+
+        assertTrue(cache.isEnabled());
+        cache.saveDecision("testUser", operation, supportedZones, entity, null);
+
+        /*
+         * Zero disables the cache and the existing decisions are discarded.
+         */
+        configurationProperties.put(OpenMetadataSecurityDecisionCache.MAX_DECISION_AGE_CONFIGURATION_PROPERTY, 0);
+        cache.setLimits(configurationProperties);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(cache.size(), 0);
+
+        cache.saveDecision("testUser", operation, supportedZones, entity, null);
+        assertNull(cache.getDecision("testUser", operation, supportedZones, entity));
+        assertEquals(cache.size(), 0);
+
+        configurationProperties.put(OpenMetadataSecurityDecisionCache.MAX_DECISION_AGE_CONFIGURATION_PROPERTY, "30");
+        configurationProperties.put(OpenMetadataSecurityDecisionCache.MAX_ELEMENTS_CONFIGURATION_PROPERTY, "0");
+        cache.setLimits(configurationProperties);
+        assertFalse(cache.isEnabled());
+
+        cache.setLimits(null);
+        assertTrue(cache.isEnabled());
+
+        cache.saveDecision("testUser", operation, supportedZones, entity, null);
+        assertNotNull(cache.getDecision("testUser", operation, supportedZones, entity));
+    }
+}
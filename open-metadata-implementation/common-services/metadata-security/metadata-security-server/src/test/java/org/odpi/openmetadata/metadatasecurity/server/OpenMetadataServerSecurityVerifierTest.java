@@ -0,0 +1,368 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.metadatasecurity.OpenMetadataAssetSecurity;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OpenMetadataServerSecurityVerifier checks a page of assets with a single call to the security
+ * connector and then uses the decision cache for the checks made as each asset is returned.
+ */
+public class OpenMetadataServerSecurityVerifierTest
+{
+    private static final String serviceName = "TestService";
+    private static final String methodName  = "TestMethod";
+    private static final String userId      = "testUser";
+
+    private static final AtomicInteger assetReadCount     = new AtomicInteger();
+    private static final AtomicInteger assetListReadCount = new AtomicInteger();
+
+
+    /**
+     * Security connector that hides the assets whose unique identifier starts with "hidden".
+     */
+    public static class TestSecurityConnector extends OpenMetadataServerSecurityConnector implements OpenMetadataAssetSecurity
+    {
+        @Override
+        public List<String> setSupportedZonesForUser(List<String> supportedZones,
+                                                     String       serviceName,
+                                                     String       user)
+        {
+            return supportedZones;
+        }
+
+
+        @Override
+        public List<String> setAssetZonesToDefault(List<String> defaultZones,
+                                                   Asset        asset)
+        {
+            return defaultZones;
+        }
+
+
+        @Override
+        public List<String> verifyAssetZones(List<String> defaultZones,
+                                             List<String> supportedZones,
+                                             List<String> publishZones,
+                                             Asset        originalAsset,
+                                             Asset        updatedAsset)
+        {
+            return defaultZones;
+        }
+
+
+        @Override
+        public void validateUserForAssetCreate(String userId,
+                                               Asset  asset)
+        {
+        }
+
+
+        @Override
+        public void validateUserForAssetRead(String userId,
+                                             Asset  asset) throws UserNotAuthorizedException
+        {
+            assetReadCount.incrementAndGet();
+
+            if (asset.getGUID().startsWith("hidden"))
+            {
+                super.throwUnauthorizedAssetAccess(userId, asset, "validateUserForAssetRead");
+            }
+        }
+
+
+        @Override
+        public List<Asset> validateUserForAssetListRead(String      userId,
+                                                        List<Asset> assets)
+        {
+            assetListReadCount.incrementAndGet();
+
+            return OpenMetadataAssetSecurity.super.validateUserForAssetListRead(userId, assets);
+        }
+
+
+        @Override
+        public void validateUserForAssetDetailUpdate(String           userId,
+                                                     Asset            originalAsset,
+                                                     AssetAuditHeader originalAssetAuditHeader,
+                                                     Asset            newAsset)
+        {
+        }
+
+
+        @Override
+        public void validateUserForAssetAttachmentUpdate(String userId,
+                                                         Asset  asset)
+        {
+        }
+
+
+        @Override
+        public void validateUserForAssetFeedback(String userId,
+                                                 Asset  asset)
+        {
+        }
+
+
+        @Override
+        public void validateUserForAssetDelete(String userId,
+                                               Asset  asset)
+        {
+        }
+    }
+
+
+    /**
+     * Provider for the test security connector.
+     */
+    public static class TestSecurityProvider extends OpenMetadataServerSecurityProvider
+    {
+        public TestSecurityProvider()
+        {
+            super();
+            super.setConnectorClassName(TestSecurityConnector.class.getName());
+        }
+    }
+
+
+    /**
+     * Return a verifier that is using the test security connector.
+     *
+     * @param configurationProperties configuration properties for the security connector's connection
+     * @return verifier
+     * @throws Exception the connector could not be created
+     */
+    private OpenMetadataServerSecurityVerifier getVerifier(Map<String, Object> configurationProperties) throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier      = new OpenMetadataServerSecurityVerifier();
+        Connection                         connection    = new Connection();
+        ConnectorType                      connectorType = new ConnectorType();
+
+        connectorType.setConnectorProviderClassName(TestSecurityProvider.class.getName());
+        connection.setConnectorType(connectorType);
+        connection.setConfigurationProperties(configurationProperties);
+
+        verifier.registerSecurityValidator("serverUser", "TestServer", null, connection);
+
+        assetReadCount.set(0);
+        assetListReadCount.set(0);
+
+        return verifier;
+    }
+
+
+    /**
+     * Return a repository helper that recognizes every type as an asset and returns no properties.
+     *
+     * @return repository helper
+     */
+    private OMRSRepositoryHelper getRepositoryHelper()
+    {
+        return (OMRSRepositoryHelper)Proxy.newProxyInstance(OMRSRepositoryHelper.class.getClassLoader(),
+                                                            new Class<?>[]{OMRSRepositoryHelper.class},
+                                                            (proxy, method, args) ->
+                                                            {
+                                                                if ("isTypeOf".equals(method.getName()))
+                                                                {
+                                                                    return "Asset".equals(args[2]);
+                                                                }
+                                                                else if (method.getReturnType() == boolean.class)
+                                                                {
+                                                                    return false;
+                                                                }
+                                                                else if (method.getReturnType() == int.class)
+                                                                {
+                                                                    return 0;
+                                                                }
+                                                                else if (method.getReturnType() == long.class)
+                                                                {
+                                                                    return 0L;
+                                                                }
+
+                                                                return null;
+                                                            });
+    }
+
+
+    /**
+     * Return a page of assets where the last one is hidden from the user.
+     *
+     * @return entities
+     */
+    private List<EntityDetail> getAssetPage()
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : new String[]{"guid1", "guid2", "hiddenGuid3"})
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setVersion(1L);
+            entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF, "TestTypeGUID", "DataSet", 1L));
+            entity.setProperties(new InstanceProperties());
+
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Read each asset in the page and return the number that are visible.
+     *
+     * @param verifier verifier to test
+     * @param repositoryHelper repository helper
+     * @param entities page of assets
+     * @param rejections exceptions returned for the assets that are not visible
+     * @return count of visible assets
+     * @throws Exception unexpected error
+     */
+    private int readAssets(OpenMetadataServerSecurityVerifier verifier,
+                           OMRSRepositoryHelper               repositoryHelper,
+                           List<EntityDetail>                 entities,
+                           List<UserNotAuthorizedException>   rejections) throws Exception
+    {
+        int visibleCount = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            try
+            {
+                verifier.validateUserForAssetRead(userId,
+                                                  entity.getGUID(),
+                                                  "assetGUID",
+                                                  entity,
+                                                  null,
+                                                  repositoryHelper,
+                                                  serviceName,
+                                                  methodName);
+                visibleCount ++;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                rejections.add(error);
+            }
+        }
+
+        return visibleCount;
+    }
+
+
+    @Test
+    public void testPageCheck() throws Exception
+    {
+        OpenMetadataServerSecurityVerifier verifier         = getVerifier(null);
+        OMRSRepositoryHelper               repositoryHelper = getRepositoryHelper();
+        List<EntityDetail>                 entities         = getAssetPage();
+        List<UserNotAuthorizedException>   rejections       = new ArrayList<>();
+
+        verifier.validateUserForElementListRead(userId, entities, null, repositoryHelper, serviceName, methodName);
+
+        assertEquals(assetListReadCount.get(), 1);
+        assertEquals(assetReadCount.get(), 3);
+
+        /*
+         * The visible assets are returned from the cache.  The hidden asset is checked again so the
+         * security connector's exception is returned.
+         */
+        assertEquals(readAssets(verifier, repositoryHelper, entities, rejections), 2);
+        assertEquals(assetReadCount.get(), 4);
+        assertEquals(rejections.size(), 1);
+
+        /*
+         * The rejection is now in the cache and each request gets its own exception.
+         */
+        assertEquals(readAssets(verifier, repositoryHelper, entities, rejections), 2);
+        assertEquals(assetReadCount.get(), 4);
+        assertEquals(rejections.size(), 2);
+        assertNotSame(rejections.get(0), rejections.get(1));
+
+        /*
+         * The whole page is in the cache so the security connector is not called.
+         */
+        verifier.validateUserForElementListRead(userId, entities, null, repositoryHelper, serviceName, methodName);
+        assertEquals(assetListReadCount.get(), 1);
+
+        /*
+         * A different user needs new decisions.
+         */
+        verifier.validateUserForElementListRead("otherUser", entities, null, repositoryHelper, serviceName, methodName);
+        assertEquals(assetListReadCount.get(), 2);
+    }
+
+
+    @Test
+    public void testDisabledCache() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(OpenMetadataSecurityDecisionCache.MAX_DECISION_AGE_CONFIGURATION_PROPERTY, 0);
+
+        OpenMetadataServerSecurityVerifier verifier         = getVerifier(configurationProperties);
+        OMRSRepositoryHelper               repositoryHelper = getRepositoryHelper();
+        List<EntityDetail>                 entities         = getAssetPage();
+        List<UserNotAuthorizedException>   rejections       = new ArrayList<>();
+
+        assertFalse(verifier.getDecisionCache().isEnabled());
+
+        /*
+         * Without the cache, the page check is skipped and every read calls the security connector.
+         */
+        verifier.validateUserForElementListRead(userId, entities, null, repositoryHelper, serviceName, methodName);
+        assertEquals(assetListReadCount.get(), 0);
+
+        assertEquals(readAssets(verifier, repositoryHelper, entities, rejections), 2);
+        assertEquals(readAssets(verifier, repositoryHelper, entities, rejections), 2);
+        assertEquals(assetReadCount.get(), 6);
+        assertEquals(rejections.size(), 2);
+    }
+
+
+    @Test
+    public void testBadConfiguration() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(OpenMetadataSecurityDecisionCache.MAX_ELEMENTS_CONFIGURATION_PROPERTY, "lots");
+
+        try
+        {
+            getVerifier(configurationProperties);
+            fail("bad configuration accepted");
+        }
+        catch (InvalidParameterException expected)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
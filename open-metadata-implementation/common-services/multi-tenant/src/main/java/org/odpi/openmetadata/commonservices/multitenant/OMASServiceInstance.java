@@ -4,6 +4,7 @@ package org.odpi.openmetadata.commonservices.multitenant;
 
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceAuditCode;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceErrorCode;
+import org.odpi.openmetadata.commonservices.repositoryhandler.DuplicateClusterIndex;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -142,7 +143,12 @@ public class OMASServiceInstance extends AuditableServerServiceInstance
                 this.repositoryHelper = repositoryConnector.getRepositoryHelper();
 
                 this.errorHandler = new RepositoryErrorHandler(repositoryHelper, serviceName, serverName, auditLog);
-                this.repositoryHandler = new RepositoryHandler(auditLog, repositoryHelper, errorHandler, metadataCollection, maxPageSize);
+                this.repositoryHandler = new RepositoryHandler(auditLog,
+                                                               repositoryHelper,
+                                                               errorHandler,
+                                                               metadataCollection,
+                                                               maxPageSize,
+                                                               DuplicateClusterIndex.getServerIndex(serverName));
                 this.supportedZones = supportedZones;
                 this.defaultZones = defaultZones;
                 this.publishZones = publishZones;
@@ -0,0 +1,1148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DuplicateClusterIndex is a materialized view of the duplicate clusters known to an OMAG Server.  A cluster is a set of
+ * entities that are linked, directly or indirectly, by active PeerDuplicateLink relationships.  For each entity in a
+ * cluster, the index records its active peers and the entities linked to it through ConsolidatedDuplicateLink relationships.
+ * It also records whether the ConsolidatedDuplicate classification of a consolidated entity has a status that allows it
+ * to be used.
+ * <p>
+ * The DuplicateEntityIterator retrieves the whole cluster of an entity with a single lookup and only queries the
+ * repository for the relationships of the entities whose links the index has not seen yet.  The results of these queries
+ * are saved in the index.  After that, the index is kept up to date from the instance events received on the
+ * enterprise OMRS topic.  Since events are processed asynchronously, a change made by another member is visible to
+ * the index a short time after it is made in the repository.
+ * </p>
+ * <p>
+ * The index is shared by all callers so it only stores the results of queries that are not filtered by effective time
+ * or lineage.  The effectivity dates of each relationship are saved with it and the caller's effective time is applied
+ * when a cluster is retrieved.  The repository may also return different relationships to different users, so a link
+ * is only returned to the users whose own queries retrieved it.  A new link received in an event is not returned to
+ * anyone; instead, the entities at its ends are queried again by the next user that needs them.
+ * </p>
+ * <p>
+ * There is one index for each server.  It is created when the server starts, registered with the enterprise topic
+ * and then retrieved by the repository handlers of the access services through getServerIndex().
+ * </p>
+ */
+public class DuplicateClusterIndex implements OMRSTopicRepositoryEventListener
+{
+    static final String consolidatedDuplicate         = "ConsolidatedDuplicate";
+    static final String consolidatedDuplicateLinkGUID = "a1fabffd-d6ec-4b2d-bfe4-646f27c07c82";
+    static final String peerDuplicateLinkGUID         = "a94b2929-9e62-4b12-98ab-8ac45691e5bd";
+
+    static final String statusPropertyName            = "statusIdentifier";
+    static final int    statusThreshold               = 1;
+
+    private static final Map<String, DuplicateClusterIndex> serverIndexes = new ConcurrentHashMap<>();
+
+    private final Map<String, DuplicateEntry> entries = new HashMap<>();
+    private final Map<String, DuplicateLink>  links   = new HashMap<>();
+
+
+    /**
+     * Save the index for a server.
+     *
+     * @param serverName name of the server
+     * @param index index maintained from the server's enterprise topic
+     */
+    public static void setServerIndex(String                serverName,
+                                      DuplicateClusterIndex index)
+    {
+        if ((serverName != null) && (index != null))
+        {
+            serverIndexes.put(serverName, index);
+        }
+    }
+
+
+    /**
+     * Return the index for a server.
+     *
+     * @param serverName name of the server
+     * @return index or null if the server does not maintain one
+     */
+    public static DuplicateClusterIndex getServerIndex(String serverName)
+    {
+        if (serverName == null)
+        {
+            return null;
+        }
+
+        return serverIndexes.get(serverName);
+    }
+
+
+    /**
+     * Discard the index for a server that is shutting down.
+     *
+     * @param serverName name of the server
+     */
+    public static void removeServerIndex(String serverName)
+    {
+        if (serverName != null)
+        {
+            serverIndexes.remove(serverName);
+        }
+    }
+
+
+    /**
+     * Return a copy of the cluster that an entity belongs to, as seen by a user at an effective time.  The cluster
+     * only includes the links that the user has retrieved from the repository and that are effective at the requested time.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param effectiveTime the time that the links must be effective for (null for any time)
+     * @return cluster or null if the index knows nothing about the entity
+     */
+    public synchronized DuplicateCluster getCluster(String userId,
+                                                    String entityGUID,
+                                                    Date   effectiveTime)
+    {
+        DuplicateEntry entry = entries.get(entityGUID);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        Set<String>                       memberGUIDs          = this.getReachableEntities(entityGUID, userId, effectiveTime);
+        String                            clusterId            = null;
+        Map<String, List<String>>         peers                = new HashMap<>();
+        Map<String, List<String>>         consolidatedEntities = new HashMap<>();
+        Map<String, Boolean>              consolidatedStatus   = new HashMap<>();
+
+        for (String memberGUID : memberGUIDs)
+        {
+            DuplicateEntry member = entries.get(memberGUID);
+
+            if ((clusterId == null) || (memberGUID.compareTo(clusterId) < 0))
+            {
+                clusterId = memberGUID;
+            }
+
+            if (member.peersKnownUsers.contains(userId))
+            {
+                peers.put(memberGUID, this.getLinkedEntities(member.activePeers, userId, effectiveTime));
+            }
+
+            if (member.consolidatedEntitiesKnownUsers.contains(userId))
+            {
+                List<String> consolidatedEntityGUIDs = this.getLinkedEntities(member.consolidatedEntities, userId, effectiveTime);
+
+                consolidatedEntities.put(memberGUID, consolidatedEntityGUIDs);
+
+                for (String consolidatedEntityGUID : consolidatedEntityGUIDs)
+                {
+                    Boolean consolidatedActive = this.isConsolidatedDuplicateActive(consolidatedEntityGUID, effectiveTime);
+
+                    if (consolidatedActive != null)
+                    {
+                        consolidatedStatus.put(consolidatedEntityGUID, consolidatedActive);
+                    }
+                }
+            }
+        }
+
+        return new DuplicateCluster(clusterId, new ArrayList<>(memberGUIDs), peers, consolidatedEntities, consolidatedStatus);
+    }
+
+
+    /**
+     * Record the complete list of PeerDuplicateLink relationships for an entity that were returned to a user by a query
+     * that is not filtered by effective time.  Relationships with a status below the threshold are not active and are
+     * not recorded.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param relationships all of the PeerDuplicateLink relationships attached to the entity
+     * @param effectiveTime the time that the returned peers must be effective for (null for any time)
+     * @return unique identifiers of the active peers
+     */
+    public synchronized List<String> savePeerLinks(String             userId,
+                                                   String             entityGUID,
+                                                   List<Relationship> relationships,
+                                                   Date               effectiveTime)
+    {
+        DuplicateEntry entry = this.getEntry(entityGUID);
+
+        this.saveUserLinks(userId, entry.activePeers, relationships, true);
+
+        entry.peersKnownUsers.add(userId);
+
+        return this.getLinkedEntities(entry.activePeers, userId, effectiveTime);
+    }
+
+
+    /**
+     * Record the complete list of ConsolidatedDuplicateLink relationships where the entity is the duplicate (end 1)
+     * that were returned to a user by a query that is not filtered by effective time.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param relationships all of the ConsolidatedDuplicateLink relationships from the entity
+     * @param effectiveTime the time that the returned consolidated entities must be effective for (null for any time)
+     * @return unique identifiers of the consolidated entities
+     */
+    public synchronized List<String> saveConsolidatedLinks(String             userId,
+                                                           String             entityGUID,
+                                                           List<Relationship> relationships,
+                                                           Date               effectiveTime)
+    {
+        DuplicateEntry entry = this.getEntry(entityGUID);
+
+        this.saveUserLinks(userId, entry.consolidatedEntities, relationships, false);
+
+        entry.consolidatedEntitiesKnownUsers.add(userId);
+
+        return this.getLinkedEntities(entry.consolidatedEntities, userId, effectiveTime);
+    }
+
+
+    /**
+     * Save the relationships retrieved by a user and stop returning the user any of the entity's links that the
+     * query did not retrieve.  A link that no user can see is removed.
+     *
+     * @param userId calling user
+     * @param entityLinks map of relationship GUID to linked entity for the links of this type attached to the entity
+     * @param relationships relationships retrieved by the user
+     * @param peer are these PeerDuplicateLink relationships (or ConsolidatedDuplicateLink relationships)
+     */
+    private void saveUserLinks(String              userId,
+                               Map<String, String> entityLinks,
+                               List<Relationship>  relationships,
+                               boolean             peer)
+    {
+        Set<String> retrievedGUIDs = new HashSet<>();
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                DuplicateLink link;
+
+                if (peer)
+                {
+                    link = this.savePeerLink(relationship);
+                }
+                else
+                {
+                    link = this.saveConsolidatedLink(relationship);
+                }
+
+                if (link != null)
+                {
+                    link.visibleToUsers.add(userId);
+                    retrievedGUIDs.add(link.relationshipGUID);
+                }
+            }
+        }
+
+        for (String relationshipGUID : new ArrayList<>(entityLinks.keySet()))
+        {
+            DuplicateLink link = links.get(relationshipGUID);
+
+            if ((link != null) && (! retrievedGUIDs.contains(relationshipGUID)))
+            {
+                link.visibleToUsers.remove(userId);
+
+                if (link.visibleToUsers.isEmpty())
+                {
+                    this.removeLink(relationshipGUID);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the entities at the other end of the links that a user has retrieved and that are effective at the
+     * requested time.
+     *
+     * @param entityLinks map of relationship GUID to linked entity
+     * @param userId calling user
+     * @param effectiveTime the time that the links must be effective for (null for any time)
+     * @return list of unique identifiers
+     */
+    private List<String> getLinkedEntities(Map<String, String> entityLinks,
+                                           String              userId,
+                                           Date                effectiveTime)
+    {
+        List<String> linkedEntityGUIDs = new ArrayList<>();
+
+        for (Map.Entry<String, String> entityLink : entityLinks.entrySet())
+        {
+            if (this.isVisible(links.get(entityLink.getKey()), userId, effectiveTime))
+            {
+                linkedEntityGUIDs.add(entityLink.getValue());
+            }
+        }
+
+        return linkedEntityGUIDs;
+    }
+
+
+    /**
+     * Return whether a link has been retrieved by a user and is effective at the requested time.
+     *
+     * @param link indexed link
+     * @param userId calling user
+     * @param effectiveTime the time that the link must be effective for (null for any time)
+     * @return flag
+     */
+    private boolean isVisible(DuplicateLink link,
+                              String        userId,
+                              Date          effectiveTime)
+    {
+        return (link != null) &&
+               (link.visibleToUsers.contains(userId)) &&
+               (isEffective(link.effectiveFromTime, link.effectiveToTime, effectiveTime));
+    }
+
+
+    /**
+     * Record whether the ConsolidatedDuplicate classification of a consolidated entity allows it to be used.
+     *
+     * @param consolidatedEntity entity retrieved from the repository
+     */
+    public synchronized void saveConsolidatedDuplicateStatus(EntityDetail consolidatedEntity)
+    {
+        if ((consolidatedEntity != null) && (consolidatedEntity.getGUID() != null))
+        {
+            Classification consolidatedDuplicateClassification = null;
+
+            if (consolidatedEntity.getClassifications() != null)
+            {
+                for (Classification classification : consolidatedEntity.getClassifications())
+                {
+                    if ((classification != null) && (consolidatedDuplicate.equals(classification.getName())))
+                    {
+                        consolidatedDuplicateClassification = classification;
+                    }
+                }
+            }
+
+            this.saveConsolidatedDuplicateStatus(consolidatedEntity.getGUID(), consolidatedDuplicateClassification);
+        }
+    }
+
+
+    /**
+     * Return whether the ConsolidatedDuplicate classification of an entity allows it to be used as the consolidated entity.
+     * The status is not known if the classification is not effective at the requested time.
+     *
+     * @param consolidatedEntityGUID unique identifier of the consolidated entity
+     * @param effectiveTime the time that the classification must be effective for (null for any time)
+     * @return flag or null if not known
+     */
+    public synchronized Boolean isConsolidatedDuplicateActive(String consolidatedEntityGUID,
+                                                              Date   effectiveTime)
+    {
+        DuplicateEntry entry = entries.get(consolidatedEntityGUID);
+
+        if ((entry == null) || (! isEffective(entry.consolidatedDuplicateFromTime, entry.consolidatedDuplicateToTime, effectiveTime)))
+        {
+            return null;
+        }
+
+        return entry.consolidatedDuplicateActive;
+    }
+
+
+    /**
+     * Forget an entity and the relationships attached to it.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    public synchronized void removeEntity(String entityGUID)
+    {
+        if (entityGUID == null)
+        {
+            return;
+        }
+
+        /*
+         * The repository removes the relationships of an entity when it is deleted, including those where it is
+         * the consolidated entity.
+         */
+        for (DuplicateLink link : new ArrayList<>(links.values()))
+        {
+            if (entityGUID.equals(link.end1GUID) || entityGUID.equals(link.end2GUID))
+            {
+                this.removeLink(link.relationshipGUID);
+            }
+        }
+
+        DuplicateEntry entry = entries.remove(entityGUID);
+
+        if (entry != null)
+        {
+            entry.cluster.remove(entityGUID);
+        }
+    }
+
+
+    /**
+     * Return the number of entities in the index.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+
+    /**
+     * Add, update or remove a PeerDuplicateLink relationship depending on its status.  The users that can see an
+     * existing link are not changed.
+     *
+     * @param relationship relationship from the repository or an event
+     * @return indexed link or null if the relationship is not active
+     */
+    private DuplicateLink savePeerLink(Relationship relationship)
+    {
+        if ((relationship == null) || (relationship.getGUID() == null) ||
+            (relationship.getEntityOneProxy() == null) || (relationship.getEntityTwoProxy() == null))
+        {
+            return null;
+        }
+
+        if (! isActive(relationship.getProperties()))
+        {
+            this.removeLink(relationship.getGUID());
+
+            return null;
+        }
+
+        DuplicateLink link = links.get(relationship.getGUID());
+
+        if (link == null)
+        {
+            String end1GUID = relationship.getEntityOneProxy().getGUID();
+            String end2GUID = relationship.getEntityTwoProxy().getGUID();
+
+            DuplicateEntry end1 = this.getEntry(end1GUID);
+            DuplicateEntry end2 = this.getEntry(end2GUID);
+
+            link = new DuplicateLink(relationship.getGUID(), true, end1GUID, end2GUID);
+
+            links.put(relationship.getGUID(), link);
+            end1.activePeers.put(relationship.getGUID(), end2GUID);
+            end2.activePeers.put(relationship.getGUID(), end1GUID);
+
+            this.mergeClusters(end1, end2);
+        }
+
+        link.setEffectivity(relationship.getProperties());
+
+        return link;
+    }
+
+
+    /**
+     * Add or update a ConsolidatedDuplicateLink relationship.  End 1 is the duplicate and end 2 is the consolidated entity.
+     * The users that can see an existing link are not changed.
+     *
+     * @param relationship relationship from the repository or an event
+     * @return indexed link
+     */
+    private DuplicateLink saveConsolidatedLink(Relationship relationship)
+    {
+        if ((relationship == null) || (relationship.getGUID() == null) ||
+            (relationship.getEntityOneProxy() == null) || (relationship.getEntityTwoProxy() == null))
+        {
+            return null;
+        }
+
+        DuplicateLink link = links.get(relationship.getGUID());
+
+        if (link == null)
+        {
+            String end1GUID = relationship.getEntityOneProxy().getGUID();
+            String end2GUID = relationship.getEntityTwoProxy().getGUID();
+
+            link = new DuplicateLink(relationship.getGUID(), false, end1GUID, end2GUID);
+
+            links.put(relationship.getGUID(), link);
+            this.getEntry(end1GUID).consolidatedEntities.put(relationship.getGUID(), end2GUID);
+        }
+
+        link.setEffectivity(relationship.getProperties());
+
+        return link;
+    }
+
+
+    /**
+     * Record the status of a ConsolidatedDuplicate classification.
+     *
+     * @param consolidatedEntityGUID unique identifier of the classified entity
+     * @param classification classification or null if the entity is not classified
+     */
+    private void saveConsolidatedDuplicateStatus(String         consolidatedEntityGUID,
+                                                 Classification classification)
+    {
+        DuplicateEntry entry = this.getEntry(consolidatedEntityGUID);
+
+        entry.consolidatedDuplicateActive = (classification != null) && (isActive(classification.getProperties()));
+        entry.consolidatedDuplicateFromTime = null;
+        entry.consolidatedDuplicateToTime = null;
+
+        if ((classification != null) && (classification.getProperties() != null))
+        {
+            entry.consolidatedDuplicateFromTime = classification.getProperties().getEffectiveFromTime();
+            entry.consolidatedDuplicateToTime = classification.getProperties().getEffectiveToTime();
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the index, splitting the cluster if the two entities are no longer connected.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     */
+    private void removeLink(String relationshipGUID)
+    {
+        DuplicateLink link = links.remove(relationshipGUID);
+
+        if (link != null)
+        {
+            DuplicateEntry end1 = entries.get(link.end1GUID);
+            DuplicateEntry end2 = entries.get(link.end2GUID);
+
+            if (link.peer)
+            {
+                if (end1 != null)
+                {
+                    end1.activePeers.remove(relationshipGUID);
+                }
+
+                if (end2 != null)
+                {
+                    end2.activePeers.remove(relationshipGUID);
+                }
+
+                if ((end1 != null) && (end2 != null))
+                {
+                    this.splitCluster(end1, end2);
+                }
+            }
+            else if (end1 != null)
+            {
+                end1.consolidatedEntities.remove(relationshipGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Combine the clusters of two entities that are now linked.  The smaller cluster is moved into the larger one.
+     *
+     * @param end1 entry for one end of the link
+     * @param end2 entry for the other end of the link
+     */
+    private void mergeClusters(DuplicateEntry end1,
+                               DuplicateEntry end2)
+    {
+        if (end1.cluster != end2.cluster)
+        {
+            Set<String> larger  = end1.cluster.size() >= end2.cluster.size() ? end1.cluster : end2.cluster;
+            Set<String> smaller = larger == end1.cluster ? end2.cluster : end1.cluster;
+
+            for (String memberGUID : smaller)
+            {
+                entries.get(memberGUID).cluster = larger;
+            }
+
+            larger.addAll(smaller);
+        }
+    }
+
+
+    /**
+     * Check whether two entities that were linked are still connected through other links.  If not, the entities
+     * reachable from end 2 become a new cluster.
+     *
+     * @param end1 entry for one end of the removed link
+     * @param end2 entry for the other end of the removed link
+     */
+    private void splitCluster(DuplicateEntry end1,
+                              DuplicateEntry end2)
+    {
+        Set<String> reachable = this.getReachableEntities(end2.guid);
+
+        if (! reachable.contains(end1.guid))
+        {
+            end1.cluster.removeAll(reachable);
+
+            for (String memberGUID : reachable)
+            {
+                entries.get(memberGUID).cluster = reachable;
+            }
+        }
+    }
+
+
+    /**
+     * Return the entities reachable from an entity through active peer links.
+     *
+     * @param entityGUID starting entity
+     * @return set of unique identifiers including the starting entity
+     */
+    private Set<String> getReachableEntities(String entityGUID)
+    {
+        Set<String>   reachable = new HashSet<>();
+        Deque<String> toVisit   = new ArrayDeque<>();
+
+        reachable.add(entityGUID);
+        toVisit.push(entityGUID);
+
+        while (! toVisit.isEmpty())
+        {
+            DuplicateEntry entry = entries.get(toVisit.pop());
+
+            if (entry != null)
+            {
+                for (String peerGUID : entry.activePeers.values())
+                {
+                    if (reachable.add(peerGUID))
+                    {
+                        toVisit.push(peerGUID);
+                    }
+                }
+            }
+        }
+
+        return reachable;
+    }
+
+
+    /**
+     * Return the entities reachable from an entity through the active peer links that a user has retrieved and that
+     * are effective at the requested time.
+     *
+     * @param entityGUID starting entity
+     * @param userId calling user
+     * @param effectiveTime the time that the links must be effective for (null for any time)
+     * @return set of unique identifiers including the starting entity
+     */
+    private Set<String> getReachableEntities(String entityGUID,
+                                             String userId,
+                                             Date   effectiveTime)
+    {
+        Set<String>   reachable = new HashSet<>();
+        Deque<String> toVisit   = new ArrayDeque<>();
+
+        reachable.add(entityGUID);
+        toVisit.push(entityGUID);
+
+        while (! toVisit.isEmpty())
+        {
+            DuplicateEntry entry = entries.get(toVisit.pop());
+
+            if (entry != null)
+            {
+                for (Map.Entry<String, String> activePeer : entry.activePeers.entrySet())
+                {
+                    if ((this.isVisible(links.get(activePeer.getKey()), userId, effectiveTime)) && (reachable.add(activePeer.getValue())))
+                    {
+                        toVisit.push(activePeer.getValue());
+                    }
+                }
+            }
+        }
+
+        return reachable;
+    }
+
+
+    /**
+     * Return the entry for an entity, creating it if necessary.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return entry
+     */
+    private DuplicateEntry getEntry(String entityGUID)
+    {
+        return entries.computeIfAbsent(entityGUID, DuplicateEntry::new);
+    }
+
+
+    /**
+     * Return whether the status in a relationship or classification meets the threshold.  A missing status is zero.
+     *
+     * @param properties properties of the relationship or classification
+     * @return flag
+     */
+    private static boolean isActive(InstanceProperties properties)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue statusValue = properties.getPropertyValue(statusPropertyName);
+
+            if (statusValue instanceof PrimitivePropertyValue)
+            {
+                Object status = ((PrimitivePropertyValue)statusValue).getPrimitiveValue();
+
+                if (status instanceof Integer)
+                {
+                    return ((Integer)status >= statusThreshold);
+                }
+            }
+        }
+
+        return (0 >= statusThreshold);
+    }
+
+
+    /**
+     * Return whether an instance with the supplied effectivity dates is effective at the requested time.
+     *
+     * @param effectiveFromTime start of the effectivity period or null
+     * @param effectiveToTime end of the effectivity period or null
+     * @param effectiveTime requested time or null for any time
+     * @return flag
+     */
+    private static boolean isEffective(Date effectiveFromTime,
+                                       Date effectiveToTime,
+                                       Date effectiveTime)
+    {
+        if (effectiveTime == null)
+        {
+            return true;
+        }
+
+        if ((effectiveFromTime != null) && (effectiveTime.before(effectiveFromTime)))
+        {
+            return false;
+        }
+
+        return ! ((effectiveToTime != null) && (effectiveTime.after(effectiveToTime)));
+    }
+
+
+    /**
+     * Type definition events do not affect duplicate clusters.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+    }
+
+
+    /**
+     * Update the index from an instance event.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public synchronized void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if ((event == null) || (event.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        OMRSInstanceEventType eventType = event.getInstanceEventType();
+
+        switch (eventType)
+        {
+            case NEW_RELATIONSHIP_EVENT:
+            case UPDATED_RELATIONSHIP_EVENT:
+            case UNDONE_RELATIONSHIP_EVENT:
+            case RESTORED_RELATIONSHIP_EVENT:
+            case RETYPED_RELATIONSHIP_EVENT:
+            case RE_HOMED_RELATIONSHIP_EVENT:
+            case REFRESHED_RELATIONSHIP_EVENT:
+                this.saveRelationship(event.getRelationship());
+                break;
+
+            case RE_IDENTIFIED_RELATIONSHIP_EVENT:
+                this.removeLink(event.getOriginalInstanceGUID());
+                this.saveRelationship(event.getRelationship());
+                break;
+
+            case DELETED_RELATIONSHIP_EVENT:
+            case PURGED_RELATIONSHIP_EVENT:
+            case DELETE_PURGED_RELATIONSHIP_EVENT:
+                this.removeLink(event.getInstanceGUID());
+
+                if (event.getRelationship() != null)
+                {
+                    this.removeLink(event.getRelationship().getGUID());
+                }
+                break;
+
+            case DELETED_ENTITY_EVENT:
+            case PURGED_ENTITY_EVENT:
+            case DELETE_PURGED_ENTITY_EVENT:
+                this.removeEntity(event.getInstanceGUID());
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                /*
+                 * The relationships of the entity now refer to the new GUID so the entities linked to it need to
+                 * be queried again.
+                 */
+                this.forgetLinkedEntities(event.getOriginalInstanceGUID());
+                this.removeEntity(event.getOriginalInstanceGUID());
+                break;
+
+            case CLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+                if ((event.getClassification() != null) && (consolidatedDuplicate.equals(event.getClassification().getName())))
+                {
+                    this.saveConsolidatedDuplicateStatus(this.getClassifiedEntityGUID(event), event.getClassification());
+                }
+                break;
+
+            case DECLASSIFIED_ENTITY_EVENT:
+                if ((event.getOriginalClassification() != null) && (consolidatedDuplicate.equals(event.getOriginalClassification().getName())))
+                {
+                    this.saveConsolidatedDuplicateStatus(this.getClassifiedEntityGUID(event), null);
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+
+    /**
+     * Update or remove a relationship received in an event depending on its type.  The event does not say which users
+     * can see a relationship that is not in the index yet, so the entities at its ends are queried again instead.
+     *
+     * @param relationship relationship from the event
+     */
+    private void saveRelationship(Relationship relationship)
+    {
+        if ((relationship != null) && (relationship.getType() != null))
+        {
+            String typeGUID = relationship.getType().getTypeDefGUID();
+
+            if ((peerDuplicateLinkGUID.equals(typeGUID)) || (consolidatedDuplicateLinkGUID.equals(typeGUID)))
+            {
+                boolean peer = peerDuplicateLinkGUID.equals(typeGUID);
+
+                if (links.containsKey(relationship.getGUID()))
+                {
+                    if (peer)
+                    {
+                        this.savePeerLink(relationship);
+                    }
+                    else
+                    {
+                        this.saveConsolidatedLink(relationship);
+                    }
+                }
+                else if ((! peer) || (isActive(relationship.getProperties())))
+                {
+                    this.forgetLinks(relationship);
+                }
+            }
+            else
+            {
+                /*
+                 * The relationship may have been retyped from one of the duplicate link types.
+                 */
+                this.removeLink(relationship.getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Mark the entities at the ends of a relationship that is not in the index as needing their links to be queried
+     * from the repository.
+     *
+     * @param relationship relationship from an event
+     */
+    private void forgetLinks(Relationship relationship)
+    {
+        for (EntitySummary end : new EntitySummary[]{ relationship.getEntityOneProxy(), relationship.getEntityTwoProxy() })
+        {
+            if (end != null)
+            {
+                DuplicateEntry entry = entries.get(end.getGUID());
+
+                if (entry != null)
+                {
+                    entry.peersKnownUsers.clear();
+                    entry.consolidatedEntitiesKnownUsers.clear();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Mark the entities linked to an entity as needing their links to be queried from the repository.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void forgetLinkedEntities(String entityGUID)
+    {
+        for (DuplicateLink link : links.values())
+        {
+            if (entityGUID.equals(link.end1GUID) || entityGUID.equals(link.end2GUID))
+            {
+                for (String endGUID : new String[]{ link.end1GUID, link.end2GUID })
+                {
+                    DuplicateEntry entry = entries.get(endGUID);
+
+                    if (entry != null)
+                    {
+                        entry.peersKnownUsers.clear();
+                        entry.consolidatedEntitiesKnownUsers.clear();
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the GUID of the entity in a classification event.
+     *
+     * @param event classification event
+     * @return unique identifier
+     */
+    private String getClassifiedEntityGUID(OMRSInstanceEvent event)
+    {
+        EntitySummary entity = event.getEntity();
+
+        if (entity == null)
+        {
+            entity = event.getEntityProxy();
+        }
+
+        if ((entity != null) && (entity.getGUID() != null))
+        {
+            return entity.getGUID();
+        }
+
+        return event.getInstanceGUID();
+    }
+
+
+    /**
+     * DuplicateEntry describes the links of one entity.  All entries of a cluster share the same set of member GUIDs.
+     */
+    private static class DuplicateEntry
+    {
+        private final String              guid;
+        private final Map<String, String> activePeers          = new HashMap<>(); // relationship GUID to peer GUID
+        private final Map<String, String> consolidatedEntities = new HashMap<>(); // relationship GUID to consolidated GUID
+        private final Set<String>         peersKnownUsers                = new HashSet<>(); // users that retrieved all peer links
+        private final Set<String>         consolidatedEntitiesKnownUsers = new HashSet<>(); // users that retrieved all consolidated links
+        private Boolean                   consolidatedDuplicateActive   = null;
+        private Date                      consolidatedDuplicateFromTime = null;
+        private Date                      consolidatedDuplicateToTime   = null;
+        private Set<String>               cluster = new HashSet<>();
+
+
+        /**
+         * Constructor for an entity that is not linked to any peers.
+         *
+         * @param guid unique identifier of the entity
+         */
+        private DuplicateEntry(String guid)
+        {
+            this.guid = guid;
+            this.cluster.add(guid);
+        }
+    }
+
+
+    /**
+     * DuplicateLink records the ends of an indexed relationship so it can be removed when only its GUID is known.
+     * It also records the effectivity dates of the relationship and the users that have retrieved it.
+     */
+    private static class DuplicateLink
+    {
+        private final String      relationshipGUID;
+        private final boolean     peer;
+        private final String      end1GUID;
+        private final String      end2GUID;
+        private final Set<String> visibleToUsers    = new HashSet<>();
+        private Date              effectiveFromTime = null;
+        private Date              effectiveToTime   = null;
+
+
+        /**
+         * Constructor.
+         *
+         * @param relationshipGUID unique identifier of the relationship
+         * @param peer is this a PeerDuplicateLink (or a ConsolidatedDuplicateLink)
+         * @param end1GUID entity at end 1
+         * @param end2GUID entity at end 2
+         */
+        private DuplicateLink(String  relationshipGUID,
+                              boolean peer,
+                              String  end1GUID,
+                              String  end2GUID)
+        {
+            this.relationshipGUID = relationshipGUID;
+            this.peer = peer;
+            this.end1GUID = end1GUID;
+            this.end2GUID = end2GUID;
+        }
+
+
+        /**
+         * Save the effectivity dates from the latest version of the relationship.
+         *
+         * @param properties properties of the relationship
+         */
+        private void setEffectivity(InstanceProperties properties)
+        {
+            if (properties == null)
+            {
+                effectiveFromTime = null;
+                effectiveToTime = null;
+            }
+            else
+            {
+                effectiveFromTime = properties.getEffectiveFromTime();
+                effectiveToTime = properties.getEffectiveToTime();
+            }
+        }
+    }
+
+
+    /**
+     * DuplicateCluster is a copy of a cluster taken from the index.  It is not updated when the index changes.
+     */
+    public static class DuplicateCluster
+    {
+        private final String                    clusterId;
+        private final List<String>              memberGUIDs;
+        private final Map<String, List<String>> activePeers;
+        private final Map<String, List<String>> consolidatedEntities;
+        private final Map<String, Boolean>      consolidatedDuplicateStatus;
+
+
+        /**
+         * Constructor.
+         *
+         * @param clusterId identifier of the cluster - the lowest member GUID
+         * @param memberGUIDs unique identifiers of the entities in the cluster
+         * @param activePeers map of member GUID to the GUIDs of its active peers, for members with known peers
+         * @param consolidatedEntities map of member GUID to its consolidated entities, for members with known consolidated entities
+         * @param consolidatedDuplicateStatus map of consolidated entity GUID to the usability of its ConsolidatedDuplicate classification
+         */
+        private DuplicateCluster(String                    clusterId,
+                                 List<String>              memberGUIDs,
+                                 Map<String, List<String>> activePeers,
+                                 Map<String, List<String>> consolidatedEntities,
+                                 Map<String, Boolean>      consolidatedDuplicateStatus)
+        {
+            this.clusterId = clusterId;
+            this.memberGUIDs = memberGUIDs;
+            this.activePeers = activePeers;
+            this.consolidatedEntities = consolidatedEntities;
+            this.consolidatedDuplicateStatus = consolidatedDuplicateStatus;
+        }
+
+
+        /**
+         * Return the identifier of the cluster.  This is the lowest GUID of its members.
+         *
+         * @return string identifier
+         */
+        public String getClusterId()
+        {
+            return clusterId;
+        }
+
+
+        /**
+         * Return the unique identifiers of the entities in the cluster.
+         *
+         * @return list of GUIDs
+         */
+        public List<String> getMemberGUIDs()
+        {
+            return Collections.unmodifiableList(memberGUIDs);
+        }
+
+
+        /**
+         * Return whether an entity is part of this cluster.
+         *
+         * @param entityGUID unique identifier of the entity
+         * @return flag
+         */
+        public boolean isMember(String entityGUID)
+        {
+            return memberGUIDs.contains(entityGUID);
+        }
+
+
+        /**
+         * Return the active peers of a member.
+         *
+         * @param entityGUID unique identifier of the member
+         * @return list of GUIDs or null if the peers of the member are not known
+         */
+        public List<String> getActivePeerGUIDs(String entityGUID)
+        {
+            return activePeers.get(entityGUID);
+        }
+
+
+        /**
+         * Return the entities that a member is consolidated into.
+         *
+         * @param entityGUID unique identifier of the member
+         * @return list of GUIDs or null if the consolidated entities of the member are not known
+         */
+        public List<String> getConsolidatedEntityGUIDs(String entityGUID)
+        {
+            return consolidatedEntities.get(entityGUID);
+        }
+
+
+        /**
+         * Return whether the ConsolidatedDuplicate classification of a consolidated entity allows it to be used.
+         *
+         * @param consolidatedEntityGUID unique identifier of the consolidated entity
+         * @return flag or null if not known
+         */
+        public Boolean isConsolidatedDuplicateActive(String consolidatedEntityGUID)
+        {
+            return consolidatedDuplicateStatus.get(consolidatedEntityGUID);
+        }
+    }
+}
@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 /**
  * DuplicateEntityIterator retrieves the list of entities that need to be processed for a specific entity.
  * The first entity returned is the principle entity or its consolidated replacement.  After that are the peer duplicates.
+ * If the server maintains a DuplicateClusterIndex, the links between the duplicates are taken from the cluster of the
+ * principle entity and the repository is only queried for the links of entities that are not in the index yet.
  *
  * Note: this class is not thread-safe - use only within a single-threaded request.
  */
@@ -53,8 +55,10 @@ public class DuplicateEntityIterator
     private final boolean                 forLineage;
     private final boolean                 forDuplicateProcessing;
     private final Date                    effectiveTime;
+    private final DuplicateClusterIndex   clusterIndex;
 
-    private EntityDetail cachedEntity = null;
+    private EntityDetail                           cachedEntity = null;
+    private DuplicateClusterIndex.DuplicateCluster cluster      = null;
 
     private final Set<String>        processedPeerGUIDs = new HashSet<>();
     private final List<EntityDetail> unprocessedPeers   = new ArrayList<>();
@@ -99,6 +103,7 @@ public class DuplicateEntityIterator
         this.forDuplicateProcessing = forDuplicateProcessing;
         this.effectiveTime = effectiveTime;
         this.methodName = methodName;
+        this.clusterIndex = repositoryHandler.getDuplicateClusterIndex();
         this.unprocessedPeers.add(startingEntity);
 
         fillCache();
@@ -195,12 +200,7 @@ public class DuplicateEntityIterator
                      * First look to see if there is a consolidated entity.  This will take precedence.  Notice that the type of the retrieved
                      * entity is used to validate the type of the consolidated entity.
                      */
-                    EntityDetail consolidatedEntity = this.getConsolidatedEntity(userId,
-                                                                                 processingEntity,
-                                                                                 processingEntity.getType().getTypeDefName(),
-                                                                                 forLineage,
-                                                                                 effectiveTime,
-                                                                                 methodName);
+                    EntityDetail consolidatedEntity = this.getIndexedConsolidatedEntity(processingEntity);
 
                     /*
                      * If a consolidated entity is returned, it must have an appropriate status before it can be used.
@@ -240,61 +240,28 @@ public class DuplicateEntityIterator
                     /*
                      * Retrieve the peers of this entity and save them for later processing.
                      */
-                    RepositoryRelationshipsIterator peerIterator = new RepositoryRelationshipsIterator(repositoryHandler,
-                                                                                                       invalidParameterHandler,
-                                                                                                       userId,
-                                                                                                       processingEntity,
-                                                                                                       entityTypeName,
-                                                                                                       peerDuplicateLinkGUID,
-                                                                                                       peerDuplicateLink,
-                                                                                                       0,
-                                                                                                       true,
-                                                                                                       true,
-                                                                                                       0,
-                                                                                                       invalidParameterHandler.getMaxPagingSize(),
-                                                                                                       null,
-                                                                                                       methodName);
-
-                    while (peerIterator.moreToReceive())
+                    DuplicateClusterIndex.DuplicateCluster entityCluster = this.getCluster(processingEntity.getGUID());
+                    List<String>                           peerGUIDs     = null;
+
+                    if (entityCluster != null)
                     {
-                        try
-                        {
-                            Relationship relationship = peerIterator.getNext();
+                        peerGUIDs = entityCluster.getActivePeerGUIDs(processingEntity.getGUID());
+                    }
 
-                            if (errorHandler.validateStatus(statusPropertyName, statusThreshold, relationship.getProperties(), methodName))
-                            {
-                                EntityProxy peerProxy = repositoryHandler.getOtherEnd(processingEntity.getGUID(), relationship);
+                    if (peerGUIDs == null)
+                    {
+                        peerGUIDs = this.getPeerGUIDs(processingEntity);
+                    }
 
-                                if (! processedPeerGUIDs.contains(peerProxy.getGUID()))
-                                {
-                                    /*
-                                     * It is important that all peers are included in the processing even if they are not valid to return to the caller.
-                                     */
-                                    final String guidParameterName = "peerProxy.getGUID()";
-
-                                    /*
-                                     * Filter out the peers that were already added to the list of unprocessed peers.
-                                     */
-                                    if(!unprocessedPeers.stream().map(InstanceHeader::getGUID).collect(Collectors.toList()).contains(peerProxy.getGUID()))
-                                    {
-                                        EntityDetail peerEntity = repositoryHandler.validateEntityGUID(userId,
-                                                                                                       peerProxy.getGUID(),
-                                                                                                       guidParameterName,
-                                                                                                       entityTypeName,
-                                                                                                       methodName);
-
-                                        /*
-                                        * Save the entity for later processing since it may link to peer entities that the current processing entity
-                                        * does not know about.
-                                        */
-                                        unprocessedPeers.add(peerEntity);
-                                    }
-                                }
-                            }
+                    for (String peerGUID : peerGUIDs)
+                    {
+                        try
+                        {
+                            this.addUnprocessedPeer(peerGUID);
                         }
                         catch (Exception error)
                         {
-                            log.debug("Ignored unreachable relationship/entity: " + error);
+                            log.debug("Ignored unreachable entity: " + error);
                         }
                     }
                 }
@@ -312,6 +279,241 @@ public class DuplicateEntityIterator
     }
 
 
+    /**
+     * Return the cluster of an entity from the index.  The cluster retrieved for the principle entity is normally
+     * used for all of its peers.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return cluster or null if there is no index or the entity is not in it
+     */
+    private DuplicateClusterIndex.DuplicateCluster getCluster(String entityGUID)
+    {
+        if (clusterIndex == null)
+        {
+            return null;
+        }
+
+        if ((cluster != null) && (cluster.isMember(entityGUID)))
+        {
+            return cluster;
+        }
+
+        DuplicateClusterIndex.DuplicateCluster entityCluster = clusterIndex.getCluster(userId, entityGUID, effectiveTime);
+
+        if (entityCluster != null)
+        {
+            cluster = entityCluster;
+        }
+
+        return entityCluster;
+    }
+
+
+    /**
+     * Query the repository for the active peers of an entity that are effective at the requested time.  If all of the
+     * PeerDuplicateLink relationships are retrieved, they are saved in the index.
+     *
+     * @param processingEntity entity to query
+     * @return list of peer GUIDs
+     * @throws InvalidParameterException bad parameters
+     * @throws UserNotAuthorizedException broader security failure
+     * @throws PropertyServerException logic error
+     */
+    private List<String> getPeerGUIDs(EntityDetail processingEntity) throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException
+    {
+        RepositoryRelationshipsIterator peerIterator = new RepositoryRelationshipsIterator(repositoryHandler,
+                                                                                           invalidParameterHandler,
+                                                                                           userId,
+                                                                                           processingEntity,
+                                                                                           entityTypeName,
+                                                                                           peerDuplicateLinkGUID,
+                                                                                           peerDuplicateLink,
+                                                                                           0,
+                                                                                           true,
+                                                                                           true,
+                                                                                           0,
+                                                                                           invalidParameterHandler.getMaxPagingSize(),
+                                                                                           null,
+                                                                                           methodName);
+
+        List<Relationship> relationships = new ArrayList<>();
+        List<String>       peerGUIDs     = new ArrayList<>();
+        boolean            allRetrieved  = true;
+
+        while (peerIterator.moreToReceive())
+        {
+            try
+            {
+                Relationship relationship = peerIterator.getNext();
+
+                relationships.add(relationship);
+
+                if ((errorHandler.validateStatus(statusPropertyName, statusThreshold, relationship.getProperties(), methodName)) &&
+                    (repositoryHandler.isCorrectEffectiveTime(relationship.getProperties(), effectiveTime)))
+                {
+                    EntityProxy peerProxy = repositoryHandler.getOtherEnd(processingEntity.getGUID(), relationship);
+
+                    peerGUIDs.add(peerProxy.getGUID());
+                }
+            }
+            catch (Exception error)
+            {
+                log.debug("Ignored unreachable relationship: " + error);
+                allRetrieved = false;
+            }
+        }
+
+        if ((clusterIndex != null) && (allRetrieved))
+        {
+            clusterIndex.savePeerLinks(userId, processingEntity.getGUID(), relationships, effectiveTime);
+        }
+
+        return peerGUIDs;
+    }
+
+
+    /**
+     * Retrieve a peer entity and save it for later processing.
+     *
+     * @param peerGUID unique identifier of the peer
+     * @throws InvalidParameterException bad parameters
+     * @throws UserNotAuthorizedException broader security failure
+     * @throws PropertyServerException logic error
+     */
+    private void addUnprocessedPeer(String peerGUID) throws InvalidParameterException,
+                                                            UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        if (! processedPeerGUIDs.contains(peerGUID))
+        {
+            /*
+             * It is important that all peers are included in the processing even if they are not valid to return to the caller.
+             */
+            final String guidParameterName = "peerGUID";
+
+            /*
+             * Filter out the peers that were already added to the list of unprocessed peers.
+             */
+            if(!unprocessedPeers.stream().map(InstanceHeader::getGUID).collect(Collectors.toList()).contains(peerGUID))
+            {
+                EntityDetail peerEntity = repositoryHandler.validateEntityGUID(userId,
+                                                                               peerGUID,
+                                                                               guidParameterName,
+                                                                               entityTypeName,
+                                                                               methodName);
+
+                /*
+                 * Save the entity for later processing since it may link to peer entities that the current processing entity
+                 * does not know about.
+                 */
+                unprocessedPeers.add(peerEntity);
+            }
+        }
+    }
+
+
+    /**
+     * Return the consolidated entity for an entity, using the index to avoid querying the ConsolidatedDuplicateLink
+     * relationships where possible.  If the index knows that the consolidated entity can not be used, it is not retrieved.
+     *
+     * @param processingEntity entity that is a known duplicate
+     * @return consolidated entity or null
+     * @throws InvalidParameterException bad parameters
+     * @throws UserNotAuthorizedException broader security failure
+     * @throws PropertyServerException logic error
+     */
+    private EntityDetail getIndexedConsolidatedEntity(EntityDetail processingEntity) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        String processingEntityTypeName = processingEntity.getType().getTypeDefName();
+
+        if (clusterIndex == null)
+        {
+            return this.getConsolidatedEntity(userId, processingEntity, processingEntityTypeName, forLineage, effectiveTime, methodName);
+        }
+
+        DuplicateClusterIndex.DuplicateCluster entityCluster           = this.getCluster(processingEntity.getGUID());
+        List<String>                           consolidatedEntityGUIDs = null;
+
+        if (entityCluster != null)
+        {
+            consolidatedEntityGUIDs = entityCluster.getConsolidatedEntityGUIDs(processingEntity.getGUID());
+        }
+
+        if (consolidatedEntityGUIDs == null)
+        {
+            /*
+             * The index is shared with other callers so it is populated from a query that is not filtered by lineage
+             * or effective time.  The caller's effective time is applied by the index.
+             */
+            List<Relationship> relationships = repositoryHandler.getRelationshipsByType(userId,
+                                                                                        processingEntity,
+                                                                                        processingEntityTypeName,
+                                                                                        consolidatedDuplicateLinkGUID,
+                                                                                        consolidatedDuplicateLinkName,
+                                                                                        2,
+                                                                                        true,
+                                                                                        true,
+                                                                                        null,
+                                                                                        0,
+                                                                                        0,
+                                                                                        null,
+                                                                                        methodName);
+
+            consolidatedEntityGUIDs = clusterIndex.saveConsolidatedLinks(userId, processingEntity.getGUID(), relationships, effectiveTime);
+        }
+
+        if (consolidatedEntityGUIDs.isEmpty())
+        {
+            return null;
+        }
+        else if (consolidatedEntityGUIDs.size() > 1)
+        {
+            /*
+             * Query the repository again so the ambiguity is reported in the usual way.
+             */
+            return this.getConsolidatedEntity(userId, processingEntity, processingEntityTypeName, forLineage, effectiveTime, methodName);
+        }
+
+        String  consolidatedEntityGUID = consolidatedEntityGUIDs.get(0);
+        Boolean consolidatedActive     = null;
+
+        if (entityCluster != null)
+        {
+            consolidatedActive = entityCluster.isConsolidatedDuplicateActive(consolidatedEntityGUID);
+        }
+
+        if (consolidatedActive == null)
+        {
+            consolidatedActive = clusterIndex.isConsolidatedDuplicateActive(consolidatedEntityGUID, effectiveTime);
+        }
+
+        if (Boolean.FALSE.equals(consolidatedActive))
+        {
+            log.debug("Ignoring consolidated entity: " +  consolidatedEntityGUID + " due to indexed status setting");
+            return null;
+        }
+
+        final String guidParameterName = "consolidatedEntityGUID";
+
+        EntityDetail consolidatedEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                            consolidatedEntityGUID,
+                                                                            guidParameterName,
+                                                                            processingEntityTypeName,
+                                                                            forLineage,
+                                                                            true,
+                                                                            effectiveTime,
+                                                                            methodName);
+
+        clusterIndex.saveConsolidatedDuplicateStatus(consolidatedEntity);
+
+        return consolidatedEntity;
+    }
+
+
     /**
      * Validate if the entity matches the request parameters.
      * @param entity entity to test
@@ -44,6 +44,7 @@ public class RepositoryHandler
     private final OMRSMetadataCollection  metadataCollection;
     private final int                     maxPageSize;
     private final AuditLog                auditLog;
+    private final DuplicateClusterIndex   duplicateClusterIndex;
 
     private static final Logger log = LoggerFactory.getLogger(RepositoryHandler.class);
 
@@ -62,18 +63,52 @@ public class RepositoryHandler
                              RepositoryErrorHandler errorHandler,
                              OMRSMetadataCollection metadataCollection,
                              int                    maxPageSize)
+    {
+        this(auditLog, repositoryHelper, errorHandler, metadataCollection, maxPageSize, null);
+    }
+
+
+    /**
+     * Construct the handler with the server's index of duplicate clusters.  The index is used to retrieve the peers
+     * and consolidated entity of a known duplicate without querying the relationships that link them.
+     *
+     * @param auditLog              logging destination
+     * @param repositoryHelper      helper class for manipulating OMRS objects
+     * @param errorHandler          generates error messages and exceptions
+     * @param metadataCollection    access to the repository content.
+     * @param maxPageSize           maximum number of instances that can be returned on a single call
+     * @param duplicateClusterIndex index of duplicate clusters maintained from the server's events (or null)
+     */
+    public RepositoryHandler(AuditLog               auditLog,
+                             OMRSRepositoryHelper   repositoryHelper,
+                             RepositoryErrorHandler errorHandler,
+                             OMRSMetadataCollection metadataCollection,
+                             int                    maxPageSize,
+                             DuplicateClusterIndex  duplicateClusterIndex)
     {
         this.auditLog = auditLog;
         this.repositoryHelper = repositoryHelper;
         this.errorHandler = errorHandler;
         this.metadataCollection = metadataCollection;
         this.maxPageSize = maxPageSize;
+        this.duplicateClusterIndex = duplicateClusterIndex;
         this.invalidParameterHandler = new InvalidParameterHandler();
 
         invalidParameterHandler.setMaxPagingSize(maxPageSize);
     }
 
 
+    /**
+     * Return the index of duplicate clusters used when deduplicating entities.
+     *
+     * @return index or null if the repository is queried for the links between duplicates
+     */
+    DuplicateClusterIndex getDuplicateClusterIndex()
+    {
+        return duplicateClusterIndex;
+    }
+
+
     /**
      * Return a flag to indicate whether the effectivity dates in the properties of an element indicate that the element is not
      * effective at the supplied effectiveTime.  If a null effectiveTime is supplied then it is assumed to be "any".
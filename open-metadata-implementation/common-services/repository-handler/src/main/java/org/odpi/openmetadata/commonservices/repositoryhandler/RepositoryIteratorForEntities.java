@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -24,6 +25,8 @@ public abstract class RepositoryIteratorForEntities extends RepositoryIterator
 
     protected List<EntityDetail> entitiesCache = null;
 
+    private   List<EntityDetail> lastRetrievedPage = null;
+
 
     /**
      * Constructor takes the parameters used to call the repository handler.
@@ -105,4 +108,24 @@ public abstract class RepositoryIteratorForEntities extends RepositoryIterator
             return null;
         }
     }
+
+
+    /**
+     * Return the page of entities most recently retrieved from the repositories if it has not been returned by an earlier
+     * call to this method.  This allows the caller to process a whole page at once (for example to make security
+     * decisions) before the entities are returned one at a time by getNext().
+     *
+     * @return list of entities that have not yet been returned by getNext(), or null if there is no new page
+     */
+    public List<EntityDetail> getNewlyRetrievedEntities()
+    {
+        if ((entitiesCache == null) || (entitiesCache.isEmpty()) || (entitiesCache == lastRetrievedPage))
+        {
+            return null;
+        }
+
+        lastRetrievedPage = entitiesCache;
+
+        return new ArrayList<>(entitiesCache);
+    }
 }
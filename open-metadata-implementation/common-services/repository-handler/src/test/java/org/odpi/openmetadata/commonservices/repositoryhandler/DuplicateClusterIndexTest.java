@@ -0,0 +1,274 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that DuplicateClusterIndex maintains the clusters of linked duplicates as links are added and removed, and
+ * only returns the links that each user has retrieved and that are effective at the requested time.
+ */
+public class DuplicateClusterIndexTest
+{
+    private static final String userId      = "testUser";
+    private static final String otherUserId = "otherUser";
+
+
+    private Relationship getLink(String relationshipGUID, String typeGUID, String end1GUID, String end2GUID, int status)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+
+        type.setTypeDefGUID(typeGUID);
+        relationship.setGUID(relationshipGUID);
+        relationship.setType(type);
+
+        EntityProxy end1 = new EntityProxy();
+        EntityProxy end2 = new EntityProxy();
+
+        end1.setGUID(end1GUID);
+        end2.setGUID(end2GUID);
+        relationship.setEntityOneProxy(end1);
+        relationship.setEntityTwoProxy(end2);
+
+        relationship.setProperties(getStatusProperties(status));
+
+        return relationship;
+    }
+
+
+    private InstanceProperties getStatusProperties(int status)
+    {
+        PrimitivePropertyValue statusValue = new PrimitivePropertyValue();
+        InstanceProperties     properties  = new InstanceProperties();
+
+        statusValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+        statusValue.setPrimitiveValue(status);
+        properties.setProperty(DuplicateClusterIndex.statusPropertyName, statusValue);
+
+        return properties;
+    }
+
+
+    private Relationship getPeerLink(String relationshipGUID, String end1GUID, String end2GUID, int status)
+    {
+        return getLink(relationshipGUID, DuplicateClusterIndex.peerDuplicateLinkGUID, end1GUID, end2GUID, status);
+    }
+
+
+    private Relationship getPeerLink(String relationshipGUID, String end1GUID, String end2GUID, int status, Date effectiveFromTime, Date effectiveToTime)
+    {
+        Relationship       relationship = getPeerLink(relationshipGUID, end1GUID, end2GUID, status);
+        InstanceProperties properties   = getStatusProperties(status);
+
+        properties.setEffectiveFromTime(effectiveFromTime);
+        properties.setEffectiveToTime(effectiveToTime);
+        relationship.setProperties(properties);
+
+        return relationship;
+    }
+
+
+    @Test
+    public void testClusterFromQueries()
+    {
+        DuplicateClusterIndex index = new DuplicateClusterIndex();
+
+        assertNull(index.getCluster(userId, "a", null));
+
+        assertEquals(index.savePeerLinks(userId,
+                                         "a",
+                                         Arrays.asList(getPeerLink("r1", "a", "b", 1),
+                                                       getPeerLink("r2", "c", "a", 0)),
+                                         null),
+                     Collections.singletonList("b"));
+        index.savePeerLinks(userId,
+                            "b",
+                            Arrays.asList(getPeerLink("r1", "a", "b", 1),
+                                          getPeerLink("r3", "b", "d", 2)),
+                            null);
+
+        DuplicateClusterIndex.DuplicateCluster cluster = index.getCluster(userId, "d", null);
+
+        assertEquals(cluster.getClusterId(), "a");
+        assertEquals(new HashSet<>(cluster.getMemberGUIDs()), new HashSet<>(Arrays.asList("a", "b", "d")));
+        assertEquals(cluster.getActivePeerGUIDs("a"), Collections.singletonList("b"));
+        assertEquals(new HashSet<>(cluster.getActivePeerGUIDs("b")), new HashSet<>(Arrays.asList("a", "d")));
+        assertNull(cluster.getActivePeerGUIDs("d"));
+        assertFalse(cluster.isMember("c"));
+    }
+
+
+    @Test
+    public void testUserIsolation()
+    {
+        DuplicateClusterIndex index = new DuplicateClusterIndex();
+
+        index.savePeerLinks(userId, "a", Arrays.asList(getPeerLink("r1", "a", "b", 1), getPeerLink("r2", "a", "c", 1)), null);
+
+        /*
+         * The other user's query does not return r2 so the other user never sees it.
+         */
+        index.savePeerLinks(otherUserId, "a", Collections.singletonList(getPeerLink("r1", "a", "b", 1)), null);
+
+        assertEquals(new HashSet<>(index.getCluster(userId, "a", null).getMemberGUIDs()), new HashSet<>(Arrays.asList("a", "b", "c")));
+        assertEquals(new HashSet<>(index.getCluster(otherUserId, "a", null).getMemberGUIDs()), new HashSet<>(Arrays.asList("a", "b")));
+        assertEquals(index.getCluster(otherUserId, "a", null).getActivePeerGUIDs("a"), Collections.singletonList("b"));
+
+        /*
+         * A user that has not queried the entity does not see any of its links.
+         */
+        assertEquals(index.getCluster("thirdUser", "a", null).getMemberGUIDs(), Collections.singletonList("a"));
+        assertNull(index.getCluster("thirdUser", "a", null).getActivePeerGUIDs("a"));
+
+        /*
+         * When no user can see a link it is removed from the index.
+         */
+        index.savePeerLinks(userId, "a", Collections.singletonList(getPeerLink("r1", "a", "b", 1)), null);
+
+        assertEquals(index.getCluster(userId, "c", null).getMemberGUIDs(), Collections.singletonList("c"));
+    }
+
+
+    @Test
+    public void testEffectivity()
+    {
+        DuplicateClusterIndex index  = new DuplicateClusterIndex();
+        Date                  before = new Date(1000L);
+        Date                  during = new Date(2000L);
+        Date                  after  = new Date(4000L);
+
+        assertEquals(index.savePeerLinks(userId,
+                                         "a",
+                                         Collections.singletonList(getPeerLink("r1", "a", "b", 1, new Date(1500L), new Date(3000L))),
+                                         before),
+                     Collections.emptyList());
+
+        assertEquals(index.getCluster(userId, "a", during).getActivePeerGUIDs("a"), Collections.singletonList("b"));
+        assertEquals(index.getCluster(userId, "a", null).getActivePeerGUIDs("a"), Collections.singletonList("b"));
+        assertEquals(index.getCluster(userId, "a", before).getActivePeerGUIDs("a"), Collections.emptyList());
+        assertEquals(index.getCluster(userId, "a", after).getMemberGUIDs(), Collections.singletonList("a"));
+
+        /*
+         * A change to the effectivity dates is picked up from the event.
+         */
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                         getPeerLink("r1", "a", "b", 1, new Date(1500L), null)));
+
+        assertEquals(index.getCluster(userId, "a", after).getActivePeerGUIDs("a"), Collections.singletonList("b"));
+    }
+
+
+    @Test
+    public void testClusterFromEvents()
+    {
+        DuplicateClusterIndex index = new DuplicateClusterIndex();
+
+        index.savePeerLinks(userId, "a", Collections.emptyList(), null);
+        index.savePeerLinks(userId, "b", Collections.singletonList(getPeerLink("r2", "b", "c", 1)), null);
+
+        /*
+         * A new link is not returned to anyone, but the entities at its ends need to be queried again.
+         */
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, getPeerLink("r1", "a", "b", 1)));
+
+        assertEquals(index.getCluster(userId, "a", null).getMemberGUIDs(), Collections.singletonList("a"));
+        assertNull(index.getCluster(userId, "a", null).getActivePeerGUIDs("a"));
+        assertNull(index.getCluster(userId, "b", null).getActivePeerGUIDs("b"));
+
+        index.savePeerLinks(userId, "a", Collections.singletonList(getPeerLink("r1", "a", "b", 1)), null);
+
+        assertEquals(index.getCluster(userId, "a", null).getMemberGUIDs().size(), 3);
+        assertEquals(index.getCluster(userId, "a", null).getActivePeerGUIDs("a"), Collections.singletonList("b"));
+
+        /*
+         * Lowering the status of a link makes it inactive and splits the cluster.
+         */
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT, getPeerLink("r2", "b", "c", 0)));
+
+        assertEquals(new HashSet<>(index.getCluster(userId, "a", null).getMemberGUIDs()), new HashSet<>(Arrays.asList("a", "b")));
+        assertEquals(index.getCluster(userId, "c", null).getMemberGUIDs(), Collections.singletonList("c"));
+
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                         "entityTypeGUID",
+                                                         "entityTypeName",
+                                                         "b"));
+
+        assertEquals(index.getCluster(userId, "a", null).getMemberGUIDs(), Collections.singletonList("a"));
+        assertEquals(index.getCluster(userId, "a", null).getActivePeerGUIDs("a"), Collections.emptyList());
+        assertNull(index.getCluster(userId, "b", null));
+    }
+
+
+    @Test
+    public void testConsolidatedEntities()
+    {
+        DuplicateClusterIndex index = new DuplicateClusterIndex();
+
+        assertEquals(index.saveConsolidatedLinks(userId,
+                                                 "a",
+                                                 Collections.singletonList(getLink("r1", DuplicateClusterIndex.consolidatedDuplicateLinkGUID, "a", "x", 0)),
+                                                 null),
+                     Collections.singletonList("x"));
+        assertNull(index.getCluster(userId, "a", null).isConsolidatedDuplicateActive("x"));
+        assertNull(index.getCluster(otherUserId, "a", null).getConsolidatedEntityGUIDs("a"));
+
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                         getEntityProxy("x"),
+                                                         getConsolidatedDuplicate(),
+                                                         null));
+
+        assertEquals(index.getCluster(userId, "a", null).isConsolidatedDuplicateActive("x"), Boolean.FALSE);
+
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                         getEntityProxy("x"),
+                                                         null,
+                                                         getConsolidatedDuplicate()));
+
+        assertTrue(index.isConsolidatedDuplicateActive("x", null));
+
+        index.removeEntity("x");
+
+        assertEquals(index.getCluster(userId, "a", null).getConsolidatedEntityGUIDs("a"), Collections.emptyList());
+    }
+
+
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+
+        return entityProxy;
+    }
+
+
+    private Classification getConsolidatedDuplicate()
+    {
+        Classification classification = new Classification();
+
+        classification.setName(DuplicateClusterIndex.consolidatedDuplicate);
+        classification.setProperties(getStatusProperties(1));
+
+        return classification;
+    }
+}
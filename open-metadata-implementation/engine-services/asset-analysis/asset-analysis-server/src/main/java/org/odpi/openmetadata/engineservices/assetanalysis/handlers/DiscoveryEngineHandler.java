@@ -170,7 +170,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Run an instance of a governance action service on the governance engine's execution pool and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -229,8 +229,12 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                               governanceActionGUID,
                                                                                               governanceServiceCache);
 
-            Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date());
-            thread.start();
+            super.submitGovernanceService(discoveryServiceHandler,
+                                          governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date(),
+                                          governanceActionGUID,
+                                          startDate,
+                                          requestParameters,
+                                          methodName);
 
             return discoveryServiceHandler;
         }
@@ -240,7 +244,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Run an instance of a discovery service on the discovery engine's execution pool.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
@@ -263,6 +267,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                              UserNotAuthorizedException,
                                                                                              PropertyServerException
     {
+        final String methodName = "runDiscoveryService";
+
         DiscoveryServiceHandler discoveryServiceHandler = this.getDiscoveryServiceHandler(assetGUID,
                                                                                           discoveryRequestType,
                                                                                           suppliedAnalysisParameters,
@@ -271,8 +277,12 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                           null,
                                                                                           governanceServiceCache);
 
-        Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date());
-        thread.start();
+        super.submitGovernanceService(discoveryServiceHandler,
+                                      governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date(),
+                                      assetGUID,
+                                      new Date(),
+                                      suppliedAnalysisParameters,
+                                      methodName);
 
         return discoveryServiceHandler.getDiscoveryReportGUID();
     }
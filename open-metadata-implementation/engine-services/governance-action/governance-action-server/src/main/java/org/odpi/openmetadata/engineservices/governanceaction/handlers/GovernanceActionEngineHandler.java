@@ -93,7 +93,7 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Run an instance of a governance action service on the governance engine's execution pool and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -146,8 +146,12 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
                                                                                                                governanceEngineClient,
                                                                                                                auditLog);
 
-            Thread thread = new Thread(governanceActionServiceHandler, governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date());
-            thread.start();
+            super.submitGovernanceService(governanceActionServiceHandler,
+                                          governanceServiceCache.getGovernanceServiceName() + governanceActionGUID + new Date(),
+                                          governanceActionGUID,
+                                          startDate,
+                                          requestParameters,
+                                          methodName);
 
             return governanceActionServiceHandler;
         }
@@ -42,6 +42,28 @@ public class OpenMetadataStore
     }
 
 
+    /**
+     * Return the name of the metadata server that this store retrieves metadata from.
+     *
+     * @return server name
+     */
+    public String getMetadataServerName()
+    {
+        return openMetadataClient.getServerName();
+    }
+
+
+    /**
+     * Return the network address of the platform hosting the metadata server that this store retrieves metadata from.
+     *
+     * @return URL root
+     */
+    public String getMetadataServerPlatformURLRoot()
+    {
+        return openMetadataClient.getServerPlatformURLRoot();
+    }
+
+
     /**
      * Retrieve the metadata element using its unique identifier.
      *
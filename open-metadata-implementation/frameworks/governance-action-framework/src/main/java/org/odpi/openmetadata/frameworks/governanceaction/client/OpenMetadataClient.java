@@ -48,6 +48,28 @@ public abstract class OpenMetadataClient implements MetadataElementInterface,
     }
 
 
+    /**
+     * Return the name of the server that this client connects to.
+     *
+     * @return server name
+     */
+    public String getServerName()
+    {
+        return serverName;
+    }
+
+
+    /**
+     * Return the network address of the platform hosting the server that this client connects to.
+     *
+     * @return URL root
+     */
+    public String getServerPlatformURLRoot()
+    {
+        return serverPlatformURLRoot;
+    }
+
+
     /**
      * Retrieve the metadata element using its unique identifier.
      *
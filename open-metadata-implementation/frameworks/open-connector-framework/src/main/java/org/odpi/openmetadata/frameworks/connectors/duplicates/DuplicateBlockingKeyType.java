@@ -0,0 +1,132 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.duplicates;
+
+import java.io.Serializable;
+
+/**
+ * DuplicateBlockingKeyType identifies the property that a blocking key in the DuplicateCandidateIndex was
+ * generated from.  Elements that share a blocking key are candidate duplicates of one another.
+ */
+public enum DuplicateBlockingKeyType implements Serializable
+{
+    QUALIFIED_NAME  (0, "qn", "qualifiedName",                 "The normalized qualified names of the elements are the same."),
+    DISPLAY_NAME    (1, "dn", "displayName",                   "The normalized display names of the elements are the same."),
+    SIMILAR_NAME    (2, "mh", "similarName",                   "The display names of the elements share enough words to match on a MinHash band."),
+    NETWORK_ADDRESS (3, "ep", "Connection::Endpoint::address", "The elements are accessed through the same endpoint network address.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private final int    ordinal;
+    private final String keyPrefix;
+    private final String propertyName;
+    private final String description;
+
+
+    /**
+     * Constructor to set up the instance of this enum.
+     *
+     * @param ordinal code number
+     * @param keyPrefix prefix used for the blocking keys of this type
+     * @param propertyName name of the property reported when elements match on this type of key
+     * @param description description of the match
+     */
+    DuplicateBlockingKeyType(int ordinal, String keyPrefix, String propertyName, String description)
+    {
+        this.ordinal = ordinal;
+        this.keyPrefix = keyPrefix;
+        this.propertyName = propertyName;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the key type for a blocking key.
+     *
+     * @param blockingKey key generated by DuplicateBlockingKeys
+     * @return key type or null if the key is not recognized
+     */
+    public static DuplicateBlockingKeyType getKeyType(String blockingKey)
+    {
+        if (blockingKey != null)
+        {
+            int separator = blockingKey.indexOf(':');
+
+            if (separator > 0)
+            {
+                String keyPrefix = blockingKey.substring(0, separator);
+
+                for (DuplicateBlockingKeyType keyType : DuplicateBlockingKeyType.values())
+                {
+                    if (keyType.keyPrefix.equals(keyPrefix))
+                    {
+                        return keyType;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int key type code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the prefix used on the blocking keys of this type.
+     *
+     * @return String prefix
+     */
+    public String getKeyPrefix()
+    {
+        return keyPrefix;
+    }
+
+
+    /**
+     * Return the name of the property that elements match on when they share a key of this type.
+     *
+     * @return String property name
+     */
+    public String getPropertyName()
+    {
+        return propertyName;
+    }
+
+
+    /**
+     * Return the default description for the key type for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "DuplicateBlockingKeyType{" +
+                "ordinal=" + ordinal +
+                ", keyPrefix='" + keyPrefix + '\'' +
+                ", propertyName='" + propertyName + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,262 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.duplicates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * DuplicateBlockingKeys generates the normalized blocking keys for an element.  Two elements that share a key
+ * are candidate duplicates.  The keys are:
+ *
+ * <ul>
+ *     <li>The qualified name and display name, lower-cased with punctuation and repeated white space removed.</li>
+ *     <li>A MinHash signature of the words in the display name, split into bands.  Names that share most of their
+ *     words are likely to share at least one band.</li>
+ *     <li>Each endpoint network address, lower-cased with any trailing slash removed.</li>
+ * </ul>
+ *
+ * The hash functions are fixed so keys generated in different processes can be compared.
+ */
+public class DuplicateBlockingKeys
+{
+    public static final int DEFAULT_MIN_HASH_BANDS = 8;
+    public static final int DEFAULT_MIN_HASH_ROWS  = 2;
+
+    private static final long HASH_SEED = 0x5DEECE66DL;
+
+    private final int    minHashBands;
+    private final int    minHashRows;
+    private final long[] hashMultipliers;
+    private final long[] hashIncrements;
+
+
+    /**
+     * Constructor using the default MinHash banding.
+     */
+    public DuplicateBlockingKeys()
+    {
+        this(DEFAULT_MIN_HASH_BANDS, DEFAULT_MIN_HASH_ROWS);
+    }
+
+
+    /**
+     * Constructor.  More bands make similar names more likely to match; more rows per band make the
+     * match stricter.
+     *
+     * @param minHashBands number of bands in the MinHash signature
+     * @param minHashRows number of hash values in each band
+     */
+    public DuplicateBlockingKeys(int minHashBands,
+                                 int minHashRows)
+    {
+        this.minHashBands = Math.max(1, minHashBands);
+        this.minHashRows  = Math.max(1, minHashRows);
+
+        int  hashCount = this.minHashBands * this.minHashRows;
+        long state     = HASH_SEED;
+
+        hashMultipliers = new long[hashCount];
+        hashIncrements  = new long[hashCount];
+
+        for (int i = 0; i < hashCount; i++)
+        {
+            state = mix(state + i);
+            hashMultipliers[i] = state | 1L;
+            state = mix(state);
+            hashIncrements[i] = state;
+        }
+    }
+
+
+    /**
+     * Return all the blocking keys for an element.
+     *
+     * @param qualifiedName unique name of the element (may be null)
+     * @param displayName display name of the element (may be null)
+     * @param networkAddresses endpoint network addresses used to access the element (may be null)
+     * @return list of keys; each key starts with the prefix of its DuplicateBlockingKeyType
+     */
+    public List<String> getBlockingKeys(String       qualifiedName,
+                                        String       displayName,
+                                        List<String> networkAddresses)
+    {
+        Set<String> blockingKeys = new LinkedHashSet<>();
+
+        String qualifiedNameKey = this.getNameKey(qualifiedName);
+
+        if (qualifiedNameKey != null)
+        {
+            blockingKeys.add(DuplicateBlockingKeyType.QUALIFIED_NAME.getKeyPrefix() + ":" + qualifiedNameKey);
+        }
+
+        String displayNameKey = this.getNameKey(displayName);
+
+        if (displayNameKey != null)
+        {
+            blockingKeys.add(DuplicateBlockingKeyType.DISPLAY_NAME.getKeyPrefix() + ":" + displayNameKey);
+            blockingKeys.addAll(this.getMinHashKeys(displayNameKey));
+        }
+
+        if (networkAddresses != null)
+        {
+            for (String networkAddress : networkAddresses)
+            {
+                String addressKey = this.getAddressKey(networkAddress);
+
+                if (addressKey != null)
+                {
+                    blockingKeys.add(DuplicateBlockingKeyType.NETWORK_ADDRESS.getKeyPrefix() + ":" + addressKey);
+                }
+            }
+        }
+
+        return new ArrayList<>(blockingKeys);
+    }
+
+
+    /**
+     * Normalize a name: lower case, with every run of characters that are not letters or digits replaced
+     * by a single space.
+     *
+     * @param name name to normalize
+     * @return normalized name or null if there is nothing left
+     */
+    String getNameKey(String name)
+    {
+        if (name == null)
+        {
+            return null;
+        }
+
+        StringBuilder normalizedName = new StringBuilder(name.length());
+        boolean       pendingSpace   = false;
+
+        for (int i = 0; i < name.length(); i++)
+        {
+            char character = name.charAt(i);
+
+            if (Character.isLetterOrDigit(character))
+            {
+                if (pendingSpace && (normalizedName.length() > 0))
+                {
+                    normalizedName.append(' ');
+                }
+
+                normalizedName.append(Character.toLowerCase(character));
+                pendingSpace = false;
+            }
+            else
+            {
+                pendingSpace = true;
+            }
+        }
+
+        if (normalizedName.length() == 0)
+        {
+            return null;
+        }
+
+        return normalizedName.toString();
+    }
+
+
+    /**
+     * Normalize a network address.
+     *
+     * @param networkAddress address to normalize
+     * @return normalized address or null if it is empty
+     */
+    String getAddressKey(String networkAddress)
+    {
+        if (networkAddress == null)
+        {
+            return null;
+        }
+
+        String addressKey = networkAddress.trim().toLowerCase(Locale.ROOT);
+
+        while (addressKey.endsWith("/"))
+        {
+            addressKey = addressKey.substring(0, addressKey.length() - 1);
+        }
+
+        if (addressKey.isEmpty())
+        {
+            return null;
+        }
+
+        return addressKey;
+    }
+
+
+    /**
+     * Return the band keys from the MinHash signature of the words in a normalized name.
+     *
+     * @param nameKey normalized name
+     * @return one key per band
+     */
+    List<String> getMinHashKeys(String nameKey)
+    {
+        List<String> minHashKeys = new ArrayList<>();
+
+        if (nameKey == null)
+        {
+            return minHashKeys;
+        }
+
+        long[] signature = new long[hashMultipliers.length];
+
+        Arrays.fill(signature, Long.MAX_VALUE);
+
+        for (String token : nameKey.split(" "))
+        {
+            long tokenHash = mix(token.hashCode());
+
+            for (int i = 0; i < signature.length; i++)
+            {
+                long hashValue = mix(tokenHash * hashMultipliers[i] + hashIncrements[i]);
+
+                if (hashValue < signature[i])
+                {
+                    signature[i] = hashValue;
+                }
+            }
+        }
+
+        for (int band = 0; band < minHashBands; band++)
+        {
+            long bandHash = band;
+
+            for (int row = 0; row < minHashRows; row++)
+            {
+                bandHash = mix(bandHash ^ signature[band * minHashRows + row]);
+            }
+
+            minHashKeys.add(DuplicateBlockingKeyType.SIMILAR_NAME.getKeyPrefix() + ":" + band + ":" + Long.toHexString(bandHash));
+        }
+
+        return minHashKeys;
+    }
+
+
+    /**
+     * Scramble the bits of a value (the finalizer from SplitMix64).
+     *
+     * @param value value to scramble
+     * @return scrambled value
+     */
+    private static long mix(long value)
+    {
+        long result = value;
+
+        result = (result ^ (result >>> 30)) * 0xBF58476D1CE4E5B9L;
+        result = (result ^ (result >>> 27)) * 0x94D049BB133111EBL;
+
+        return result ^ (result >>> 31);
+    }
+}
@@ -0,0 +1,495 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.duplicates;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DuplicateCandidateIndex keeps the blocking keys of the elements it has been told about, so that the candidate
+ * duplicates of an element can be looked up without searching the catalog.  Each key maps to the block of elements
+ * that share it.  Looking up the candidates for an element only touches the blocks for its own keys.  Blocks
+ * larger than the maximum block size (for example a very common display name) are ignored since they say little
+ * about duplication and would make each look-up expensive.
+ *
+ * Connectors maintain the index as they see elements change and may share an index with other connectors
+ * running in the same process through getSharedIndex.  Shared indexes are scoped by the metadata server that the
+ * elements come from, so connectors working with different catalogs never see each other's elements.  A connector
+ * that cannot name its metadata server is given its own, unshared index.  An index is only complete once every element of
+ * interest has been loaded into it - the connector that loads it calls setLoaded(true).  Until then, connectors
+ * should continue to search the catalog.
+ *
+ * The connectors do not see the elements that other servers and tools create or delete, so the load expires after
+ * the maximum load age.  After that, isLoaded returns false and connectors search the catalog again until
+ * the index is reloaded.
+ */
+public class DuplicateCandidateIndex
+{
+    /**
+     * Name of the configuration property that selects the shared index that a connector uses.
+     */
+    public static final String INDEX_NAME_CONFIGURATION_PROPERTY = "duplicateCandidateIndexName";
+
+    /**
+     * Name of the configuration property that sets the number of seconds that a load of the shared index is trusted for.
+     */
+    public static final String MAX_LOAD_AGE_CONFIGURATION_PROPERTY = "duplicateCandidateIndexMaxLoadAgeSeconds";
+
+    public static final String DEFAULT_INDEX_NAME           = "default";
+    public static final int    DEFAULT_MAX_BLOCK_SIZE       = 1000;
+    public static final long   DEFAULT_MAX_LOAD_AGE_SECONDS = 300;
+
+    private static final Map<String, DuplicateCandidateIndex> sharedIndexes = new ConcurrentHashMap<>();
+
+    private final DuplicateBlockingKeys     keyGenerator;
+    private final int                       maxBlockSize;
+    private final Map<String, Set<String>>  blocks      = new HashMap<>();
+    private final Map<String, List<String>> elementKeys = new HashMap<>();
+    private volatile boolean                loaded      = false;
+    private volatile long                   loadTime    = 0;
+    private volatile long                   maxLoadAge  = DEFAULT_MAX_LOAD_AGE_SECONDS * 1000;
+
+
+    /**
+     * Return the index shared by all connectors in this process that use the same index name with the same
+     * metadata server.
+     *
+     * @param metadataServerName name of the metadata server that the elements come from (null means the index is not shared)
+     * @param metadataServerPlatformURLRoot platform URL root of the metadata server
+     * @param indexName name of the index (null means the default index)
+     * @return shared index
+     */
+    public static DuplicateCandidateIndex getSharedIndex(String metadataServerName,
+                                                         String metadataServerPlatformURLRoot,
+                                                         String indexName)
+    {
+        if (metadataServerName == null)
+        {
+            return new DuplicateCandidateIndex();
+        }
+
+        String name = indexName;
+
+        if (name == null)
+        {
+            name = DEFAULT_INDEX_NAME;
+        }
+
+        return sharedIndexes.computeIfAbsent(metadataServerPlatformURLRoot + "/servers/" + metadataServerName + ":" + name,
+                                             newIndexName -> new DuplicateCandidateIndex());
+    }
+
+
+    /**
+     * Return the shared index selected by a connector's configuration properties, applying the configured
+     * maximum load age if there is one.
+     *
+     * @param metadataServerName name of the metadata server that the elements come from (null means the index is not shared)
+     * @param metadataServerPlatformURLRoot platform URL root of the metadata server
+     * @param configurationProperties configuration properties from the connector's connection (may be null)
+     * @return shared index
+     * @throws NumberFormatException the maximum load age is not a number
+     */
+    public static DuplicateCandidateIndex getConfiguredIndex(String              metadataServerName,
+                                                             String              metadataServerPlatformURLRoot,
+                                                             Map<String, Object> configurationProperties) throws NumberFormatException
+    {
+        Object indexName  = null;
+        Object maxLoadAge = null;
+
+        if (configurationProperties != null)
+        {
+            indexName = configurationProperties.get(INDEX_NAME_CONFIGURATION_PROPERTY);
+            maxLoadAge = configurationProperties.get(MAX_LOAD_AGE_CONFIGURATION_PROPERTY);
+        }
+
+        /*
+         * The maximum load age is validated before the index is located so a bad value leaves the shared index untouched.
+         */
+        Long maxLoadAgeSeconds = null;
+
+        if (maxLoadAge != null)
+        {
+            maxLoadAgeSeconds = Long.parseLong(maxLoadAge.toString());
+        }
+
+        DuplicateCandidateIndex index = getSharedIndex(metadataServerName,
+                                                       metadataServerPlatformURLRoot,
+                                                       indexName == null ? null : indexName.toString());
+
+        if (maxLoadAgeSeconds != null)
+        {
+            index.setMaxLoadAge(maxLoadAgeSeconds);
+        }
+
+        return index;
+    }
+
+
+    /**
+     * Constructor using the default key generator and block size.
+     */
+    public DuplicateCandidateIndex()
+    {
+        this(new DuplicateBlockingKeys(), DEFAULT_MAX_BLOCK_SIZE);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param keyGenerator generator for the blocking keys
+     * @param maxBlockSize largest block that is used to produce candidates
+     */
+    public DuplicateCandidateIndex(DuplicateBlockingKeys keyGenerator,
+                                   int                   maxBlockSize)
+    {
+        this.keyGenerator = keyGenerator;
+        this.maxBlockSize = maxBlockSize;
+    }
+
+
+    /**
+     * Add an element to the index, or replace its keys if it is already there.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param qualifiedName unique name of the element (may be null)
+     * @param displayName display name of the element (may be null)
+     * @param networkAddresses endpoint network addresses used to access the element - null means they are not known
+     *                         so any addresses already in the index for the element are kept
+     */
+    public void updateElement(String       elementGUID,
+                              String       qualifiedName,
+                              String       displayName,
+                              List<String> networkAddresses)
+    {
+        if (elementGUID == null)
+        {
+            return;
+        }
+
+        List<String> newKeys = keyGenerator.getBlockingKeys(qualifiedName, displayName, networkAddresses);
+
+        synchronized (this)
+        {
+            List<String> oldKeys = this.removeKeys(elementGUID);
+
+            if ((networkAddresses == null) && (oldKeys != null))
+            {
+                for (String oldKey : oldKeys)
+                {
+                    if (DuplicateBlockingKeyType.getKeyType(oldKey) == DuplicateBlockingKeyType.NETWORK_ADDRESS)
+                    {
+                        newKeys.add(oldKey);
+                    }
+                }
+            }
+
+            for (String blockingKey : newKeys)
+            {
+                blocks.computeIfAbsent(blockingKey, newKey -> new LinkedHashSet<>()).add(elementGUID);
+            }
+
+            elementKeys.put(elementGUID, newKeys);
+        }
+    }
+
+
+    /**
+     * Remove an element from the index, typically because it has been deleted.
+     *
+     * @param elementGUID unique identifier of the element
+     */
+    public synchronized void removeElement(String elementGUID)
+    {
+        if (elementGUID != null)
+        {
+            this.removeKeys(elementGUID);
+        }
+    }
+
+
+    /**
+     * Remove every element that is not in the supplied collection.  This is used after all elements of
+     * interest have been loaded to remove the elements that have since been deleted.
+     *
+     * @param elementGUIDs unique identifiers of the elements to keep
+     */
+    public synchronized void retainElements(Collection<String> elementGUIDs)
+    {
+        List<String> removedGUIDs = new ArrayList<>();
+
+        for (String elementGUID : elementKeys.keySet())
+        {
+            if (! elementGUIDs.contains(elementGUID))
+            {
+                removedGUIDs.add(elementGUID);
+            }
+        }
+
+        for (String elementGUID : removedGUIDs)
+        {
+            this.removeKeys(elementGUID);
+        }
+    }
+
+
+    /**
+     * Return the candidate duplicates for an element that is already in the index.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param keyTypes types of key to match on
+     * @return map of candidate unique identifier to the names of the properties that it matches on
+     */
+    public synchronized Map<String, List<String>> getCandidates(String                        elementGUID,
+                                                                Set<DuplicateBlockingKeyType> keyTypes)
+    {
+        Map<String, List<String>> candidates = new TreeMap<>();
+        List<String>              keys       = elementKeys.get(elementGUID);
+
+        if (keys != null)
+        {
+            for (String blockingKey : keys)
+            {
+                DuplicateBlockingKeyType keyType = DuplicateBlockingKeyType.getKeyType(blockingKey);
+                Set<String>              block   = blocks.get(blockingKey);
+
+                if ((keyType != null) && (keyTypes.contains(keyType)) && (block != null) && (block.size() <= maxBlockSize))
+                {
+                    for (String candidateGUID : block)
+                    {
+                        if (! elementGUID.equals(candidateGUID))
+                        {
+                            List<String> matchingPropertyNames = candidates.computeIfAbsent(candidateGUID, newGUID -> new ArrayList<>());
+
+                            if (! matchingPropertyNames.contains(keyType.getPropertyName()))
+                            {
+                                matchingPropertyNames.add(keyType.getPropertyName());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+
+    /**
+     * Return every group of elements that are linked, directly or through other elements, by a shared key.
+     * This is a single pass over the blocks using a union-find structure.
+     *
+     * @param keyTypes types of key to match on
+     * @return list of clusters; each cluster is the sorted list of the unique identifiers of its elements
+     */
+    public synchronized List<List<String>> getDuplicateClusters(Set<DuplicateBlockingKeyType> keyTypes)
+    {
+        Map<String, Integer> elementIndexes = new HashMap<>();
+        List<String>         elementGUIDs   = new ArrayList<>(elementKeys.keySet());
+
+        elementGUIDs.sort(null);
+
+        for (String elementGUID : elementGUIDs)
+        {
+            elementIndexes.put(elementGUID, elementIndexes.size());
+        }
+
+        int[] parents = new int[elementGUIDs.size()];
+
+        for (int i = 0; i < parents.length; i++)
+        {
+            parents[i] = i;
+        }
+
+        for (Map.Entry<String, Set<String>> block : blocks.entrySet())
+        {
+            DuplicateBlockingKeyType keyType = DuplicateBlockingKeyType.getKeyType(block.getKey());
+
+            if ((keyType != null) && (keyTypes.contains(keyType)) && (block.getValue().size() > 1) && (block.getValue().size() <= maxBlockSize))
+            {
+                int firstRoot = -1;
+
+                for (String elementGUID : block.getValue())
+                {
+                    int root = findRoot(parents, elementIndexes.get(elementGUID));
+
+                    if (firstRoot == -1)
+                    {
+                        firstRoot = root;
+                    }
+                    else if (root != firstRoot)
+                    {
+                        /*
+                         * The lower index becomes the root so clusters come out in GUID order.
+                         */
+                        parents[Math.max(root, firstRoot)] = Math.min(root, firstRoot);
+                        firstRoot = Math.min(root, firstRoot);
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<String>> clusters = new TreeMap<>();
+
+        for (int i = 0; i < parents.length; i++)
+        {
+            clusters.computeIfAbsent(findRoot(parents, i), newRoot -> new ArrayList<>()).add(elementGUIDs.get(i));
+        }
+
+        List<List<String>> duplicateClusters = new ArrayList<>();
+
+        for (List<String> cluster : clusters.values())
+        {
+            if (cluster.size() > 1)
+            {
+                duplicateClusters.add(cluster);
+            }
+        }
+
+        return duplicateClusters;
+    }
+
+
+    /**
+     * Return the number of elements in the index.
+     *
+     * @return count
+     */
+    public synchronized int getElementCount()
+    {
+        return elementKeys.size();
+    }
+
+
+    /**
+     * Return whether every element of interest has been loaded into the index within the maximum load age.
+     *
+     * @return flag
+     */
+    public boolean isLoaded()
+    {
+        if ((loaded) && ((maxLoadAge <= 0) || (System.currentTimeMillis() - loadTime > maxLoadAge)))
+        {
+            loaded = false;
+        }
+
+        return loaded;
+    }
+
+
+    /**
+     * Set whether every element of interest has been loaded into the index.  Setting the flag to true
+     * starts the maximum load age again.
+     *
+     * @param loaded flag
+     */
+    public void setLoaded(boolean loaded)
+    {
+        this.loadTime = System.currentTimeMillis();
+        this.loaded = loaded;
+    }
+
+
+    /**
+     * Set the number of seconds that a load of the index is trusted for.
+     *
+     * @param maxLoadAgeSeconds number of seconds (zero or less means the index is never trusted)
+     */
+    public void setMaxLoadAge(long maxLoadAgeSeconds)
+    {
+        this.maxLoadAge = maxLoadAgeSeconds * 1000;
+    }
+
+
+    /**
+     * Remove all elements from the index.
+     */
+    public synchronized void clear()
+    {
+        blocks.clear();
+        elementKeys.clear();
+        loaded = false;
+    }
+
+
+    /**
+     * Return whether an element is in the index.
+     *
+     * @param elementGUID unique identifier of the element
+     * @return flag
+     */
+    public synchronized boolean containsElement(String elementGUID)
+    {
+        return elementKeys.containsKey(elementGUID);
+    }
+
+
+    /**
+     * Remove the keys of an element from the blocks.  The caller must hold the lock.
+     *
+     * @param elementGUID unique identifier of the element
+     * @return the keys that were removed (null if the element was not in the index)
+     */
+    private List<String> removeKeys(String elementGUID)
+    {
+        List<String> oldKeys = elementKeys.remove(elementGUID);
+
+        if (oldKeys != null)
+        {
+            for (String blockingKey : oldKeys)
+            {
+                Set<String> block = blocks.get(blockingKey);
+
+                if (block != null)
+                {
+                    block.remove(elementGUID);
+
+                    if (block.isEmpty())
+                    {
+                        blocks.remove(blockingKey);
+                    }
+                }
+            }
+        }
+
+        return oldKeys;
+    }
+
+
+    /**
+     * Return the root of an element's cluster, compressing the path on the way.
+     *
+     * @param parents parent of each element
+     * @param elementIndex element to start from
+     * @return index of the root element
+     */
+    private static int findRoot(int[] parents, int elementIndex)
+    {
+        int root = elementIndex;
+
+        while (parents[root] != root)
+        {
+            root = parents[root];
+        }
+
+        int current = elementIndex;
+
+        while (parents[current] != root)
+        {
+            int next = parents[current];
+
+            parents[current] = root;
+            current = next;
+        }
+
+        return root;
+    }
+}
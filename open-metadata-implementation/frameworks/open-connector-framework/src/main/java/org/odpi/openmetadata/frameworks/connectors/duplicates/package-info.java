@@ -0,0 +1,9 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * The duplicates package provides an in-memory index of blocking keys that connectors use to find candidate
+ * duplicate elements without searching the catalog for each element.  The keys are normalized names,
+ * MinHash bands of the words in the display name and endpoint network addresses.
+ */
+package org.odpi.openmetadata.frameworks.connectors.duplicates;
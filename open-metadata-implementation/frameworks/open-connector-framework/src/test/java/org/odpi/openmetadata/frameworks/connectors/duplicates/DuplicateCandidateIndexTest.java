@@ -0,0 +1,268 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.duplicates;
+
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that the duplicate candidate index returns the expected candidates and clusters.
+ */
+public class DuplicateCandidateIndexTest
+{
+    private final Set<DuplicateBlockingKeyType> allKeyTypes = EnumSet.allOf(DuplicateBlockingKeyType.class);
+
+
+    /**
+     * Test that names that differ only in case and punctuation share a key.
+     */
+    @Test public void testNormalizedNames()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        index.updateElement("guid1", "Data:Customer-Accounts", "Customer Accounts", null);
+        index.updateElement("guid2", "data:customer accounts", "customer_accounts", null);
+        index.updateElement("guid3", "Data:Suppliers", "Suppliers", null);
+
+        Map<String, List<String>> candidates = index.getCandidates("guid1", allKeyTypes);
+
+        assertEquals(candidates.keySet(), Collections.singleton("guid2"));
+        assertTrue(candidates.get("guid2").contains("qualifiedName"));
+        assertTrue(candidates.get("guid2").contains("displayName"));
+        assertTrue(index.getCandidates("guid3", allKeyTypes).isEmpty());
+
+        candidates = index.getCandidates("guid1", EnumSet.of(DuplicateBlockingKeyType.QUALIFIED_NAME));
+
+        assertEquals(candidates.get("guid2"), Collections.singletonList("qualifiedName"));
+    }
+
+
+    /**
+     * Test that elements with the same endpoint address are candidates.
+     */
+    @Test public void testNetworkAddress()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        index.updateElement("guid1", "qn1", "First", Collections.singletonList("HTTPS://host:8080/data/"));
+        index.updateElement("guid2", "qn2", "Second", Collections.singletonList("https://host:8080/data"));
+
+        Map<String, List<String>> candidates = index.getCandidates("guid2", allKeyTypes);
+
+        assertEquals(candidates.get("guid1"), Collections.singletonList("Connection::Endpoint::address"));
+    }
+
+
+    /**
+     * Test that names that share most of their words match on the MinHash keys.
+     */
+    @Test public void testSimilarNames()
+    {
+        DuplicateBlockingKeys keyGenerator = new DuplicateBlockingKeys();
+
+        List<String> keys1 = keyGenerator.getMinHashKeys(keyGenerator.getNameKey("Weekly Sales Figures For Europe"));
+        List<String> keys2 = keyGenerator.getMinHashKeys(keyGenerator.getNameKey("weekly sales figures europe"));
+        List<String> keys3 = keyGenerator.getMinHashKeys(keyGenerator.getNameKey("Employee Holiday Records"));
+
+        assertEquals(keys1.size(), DuplicateBlockingKeys.DEFAULT_MIN_HASH_BANDS);
+        assertFalse(Collections.disjoint(keys1, keys2));
+        assertTrue(Collections.disjoint(keys1, keys3));
+    }
+
+
+    /**
+     * Test that updating and removing elements maintains the blocks.
+     */
+    @Test public void testUpdateAndRemove()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        index.updateElement("guid1", "qn1", null, null);
+        index.updateElement("guid2", "qn1", null, null);
+
+        assertEquals(index.getCandidates("guid1", allKeyTypes).keySet(), Collections.singleton("guid2"));
+
+        index.updateElement("guid2", "qn2", null, null);
+        assertTrue(index.getCandidates("guid1", allKeyTypes).isEmpty());
+
+        index.updateElement("guid2", "qn1", null, null);
+        index.removeElement("guid2");
+        assertTrue(index.getCandidates("guid1", allKeyTypes).isEmpty());
+        assertEquals(index.getElementCount(), 1);
+    }
+
+
+    /**
+     * Test that addresses are kept when an update does not know them and that retain removes deleted elements.
+     */
+    @Test public void testPartialUpdateAndRetain()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        index.updateElement("guid1", "qn1", "First", Collections.singletonList("host:1234"));
+        index.updateElement("guid2", "qn2", "Second", Collections.singletonList("host:1234"));
+        index.updateElement("guid1", "qn1", "First Renamed", null);
+
+        assertEquals(index.getCandidates("guid1", allKeyTypes).keySet(), Collections.singleton("guid2"));
+
+        index.updateElement("guid1", "qn1", "First Renamed", Collections.emptyList());
+
+        assertTrue(index.getCandidates("guid1", allKeyTypes).isEmpty());
+
+        index.retainElements(Collections.singleton("guid1"));
+
+        assertTrue(index.containsElement("guid1"));
+        assertFalse(index.containsElement("guid2"));
+    }
+
+
+    /**
+     * Test that oversized blocks do not produce candidates.
+     */
+    @Test public void testMaxBlockSize()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(new DuplicateBlockingKeys(), 2);
+
+        index.updateElement("guid1", "qn1", "Common", null);
+        index.updateElement("guid2", "qn2", "Common", null);
+
+        assertEquals(index.getCandidates("guid1", allKeyTypes).keySet(), Collections.singleton("guid2"));
+
+        index.updateElement("guid3", "qn3", "Common", null);
+
+        assertTrue(index.getCandidates("guid1", allKeyTypes).isEmpty());
+    }
+
+
+    /**
+     * Test that clusters are built transitively across different keys.
+     */
+    @Test public void testClusters()
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        index.updateElement("guidA", "qnA", "Orders", null);
+        index.updateElement("guidB", "qnB", "orders", Collections.singletonList("file:///orders.csv"));
+        index.updateElement("guidC", "qnC", "Shipments", Collections.singletonList("file:///orders.csv"));
+        index.updateElement("guidD", "qnD", "Invoices", null);
+        index.updateElement("guidE", "qnD", "Billing", null);
+        index.updateElement("guidF", "qnF", "Unique", null);
+
+        List<List<String>> clusters = index.getDuplicateClusters(allKeyTypes);
+
+        assertEquals(clusters.size(), 2);
+        assertEquals(clusters.get(0), List.of("guidA", "guidB", "guidC"));
+        assertEquals(clusters.get(1), List.of("guidD", "guidE"));
+
+        clusters = index.getDuplicateClusters(EnumSet.of(DuplicateBlockingKeyType.QUALIFIED_NAME));
+
+        assertEquals(clusters.size(), 1);
+        assertEquals(clusters.get(0), List.of("guidD", "guidE"));
+    }
+
+
+    /**
+     * Test that the shared index is returned for the same name and metadata server, and that indexes are not
+     * shared between metadata servers.
+     */
+    @Test public void testSharedIndex()
+    {
+        final String serverName  = "testServer";
+        final String platformURL = "https://localhost:9443";
+
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, "testSharedIndex");
+
+        assertTrue(index == DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, "testSharedIndex"));
+        assertFalse(index == DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, null));
+        assertFalse(index == DuplicateCandidateIndex.getSharedIndex("otherServer", platformURL, "testSharedIndex"));
+        assertFalse(index == DuplicateCandidateIndex.getSharedIndex(serverName, "https://otherhost:9443", "testSharedIndex"));
+        assertTrue(DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, null) ==
+                           DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, DuplicateCandidateIndex.DEFAULT_INDEX_NAME));
+
+        /*
+         * An index for an unknown metadata server is never shared.
+         */
+        assertFalse(DuplicateCandidateIndex.getSharedIndex(null, null, "testSharedIndex") ==
+                            DuplicateCandidateIndex.getSharedIndex(null, null, "testSharedIndex"));
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(DuplicateCandidateIndex.INDEX_NAME_CONFIGURATION_PROPERTY, "testSharedIndex");
+        configurationProperties.put(DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY, 0);
+
+        assertTrue(index == DuplicateCandidateIndex.getConfiguredIndex(serverName, platformURL, configurationProperties));
+        assertTrue(DuplicateCandidateIndex.getSharedIndex(serverName, platformURL, null) ==
+                           DuplicateCandidateIndex.getConfiguredIndex(serverName, platformURL, null));
+
+        index.setLoaded(true);
+        assertFalse(index.isLoaded());
+    }
+
+
+    /**
+     * Test that a maximum load age that is not a number is rejected without changing the shared index.
+     */
+    @Test public void testInvalidMaxLoadAge()
+    {
+        DuplicateCandidateIndex index = DuplicateCandidateIndex.getSharedIndex("testServer", "https://localhost:9443", "testInvalidMaxLoadAge");
+
+        index.setMaxLoadAge(60);
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(DuplicateCandidateIndex.INDEX_NAME_CONFIGURATION_PROPERTY, "testInvalidMaxLoadAge");
+        configurationProperties.put(DuplicateCandidateIndex.MAX_LOAD_AGE_CONFIGURATION_PROPERTY, "five minutes");
+
+        try
+        {
+            DuplicateCandidateIndex.getConfiguredIndex("testServer", "https://localhost:9443", configurationProperties);
+            fail("NumberFormatException expected");
+        }
+        catch (NumberFormatException expected)
+        {
+            // expected
+        }
+
+        index.setLoaded(true);
+        assertTrue(index.isLoaded());
+    }
+
+
+    /**
+     * Test that a load of the index is only trusted for the maximum load age.
+     */
+    @Test public void testLoadExpiry() throws Exception
+    {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex();
+
+        assertFalse(index.isLoaded());
+
+        index.setMaxLoadAge(1);
+        index.setLoaded(true);
+        assertTrue(index.isLoaded());
+
+        Thread.sleep(1100);
+        assertFalse(index.isLoaded());
+
+        /*
+         * Loading the index again trusts it for another period.
+         */
+        index.setLoaded(true);
+        assertTrue(index.isLoaded());
+
+        index.setLoaded(false);
+        assertFalse(index.isLoaded());
+    }
+}
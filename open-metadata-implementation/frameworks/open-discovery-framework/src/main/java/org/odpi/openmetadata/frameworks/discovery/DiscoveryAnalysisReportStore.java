@@ -9,6 +9,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.discovery.properties.DiscoveryRequestStatus;
 
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * DiscoveryAnalysisReportStore provides a client to the open metadata repository that manages the content
@@ -29,6 +31,12 @@ public abstract class DiscoveryAnalysisReportStore
 
     protected String                     analysisStep = null;
 
+    /*
+     * Discovery pipelines that run discovery services in parallel set the analysis step for each worker thread.
+     */
+    private final ThreadLocal<String>    threadAnalysisStep  = new ThreadLocal<>();
+    private final Map<String, Long>      analysisStepTimings = new LinkedHashMap<>();
+
     /**
      * Default constructor
      */
@@ -83,11 +91,20 @@ public abstract class DiscoveryAnalysisReportStore
 
     /**
      * Return the locally defined analysis step.  This value is used in annotations generated in this phase.
+     * If an analysis step has been set up for the calling thread, it is returned in preference to the
+     * analysis step for the report.
      *
      * @return name of analysis step
      */
     public String getAnalysisStep()
     {
+        String currentThreadAnalysisStep = threadAnalysisStep.get();
+
+        if (currentThreadAnalysisStep != null)
+        {
+            return currentThreadAnalysisStep;
+        }
+
         return analysisStep;
     }
 
@@ -103,6 +120,60 @@ public abstract class DiscoveryAnalysisReportStore
     }
 
 
+    /**
+     * Set up the name of the analysis step being run by the calling thread.  This is used by discovery pipelines that
+     * run discovery services in parallel.  Passing null removes the analysis step for the thread.
+     *
+     * @param analysisStep name
+     */
+    public void setThreadAnalysisStep(String analysisStep)
+    {
+        if (analysisStep == null)
+        {
+            threadAnalysisStep.remove();
+        }
+        else
+        {
+            threadAnalysisStep.set(analysisStep);
+        }
+    }
+
+
+    /**
+     * Record the time taken by an analysis step.
+     *
+     * @param analysisStep name of the analysis step
+     * @param startTime time the analysis step started
+     * @param endTime time the analysis step ended
+     */
+    public void recordAnalysisStepTiming(String analysisStep,
+                                         Date   startTime,
+                                         Date   endTime)
+    {
+        if ((analysisStep != null) && (startTime != null) && (endTime != null))
+        {
+            synchronized (analysisStepTimings)
+            {
+                analysisStepTimings.put(analysisStep, endTime.getTime() - startTime.getTime());
+            }
+        }
+    }
+
+
+    /**
+     * Return the time taken by each analysis step (in milliseconds) in the order that the analysis steps completed.
+     *
+     * @return map of analysis step name to duration
+     */
+    public Map<String, Long> getAnalysisStepTimings()
+    {
+        synchronized (analysisStepTimings)
+        {
+            return new LinkedHashMap<>(analysisStepTimings);
+        }
+    }
+
+
     /**
      * Return the unique name of the discovery analysis report that will result from this discovery request.
      *
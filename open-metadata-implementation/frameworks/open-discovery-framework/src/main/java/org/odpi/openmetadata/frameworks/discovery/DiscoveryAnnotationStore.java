@@ -6,9 +6,12 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationBatchElement;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataFieldBatchElement;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -359,4 +362,135 @@ public abstract class DiscoveryAnnotationStore
     public abstract void  deleteDataField(String   dataFieldGUID) throws InvalidParameterException,
                                                                          UserNotAuthorizedException,
                                                                          PropertyServerException;
+
+
+    /**
+     * Add a tree of annotations, data fields and the annotations attached to the data fields in a single request.
+     * The top level annotations are linked directly off of the report.  This implementation adds each element in turn
+     * using the single element methods - annotation stores that call a remote server override it to send the
+     * whole tree in one call.
+     *
+     * @param annotations top level annotations with their nested elements
+     * @return map of client reference to unique identifier for each element that has a client reference
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    public Map<String, String>  addAnnotationBatchToDiscoveryReport(List<AnnotationBatchElement> annotations) throws InvalidParameterException,
+                                                                                                                    UserNotAuthorizedException,
+                                                                                                                    PropertyServerException
+    {
+        Map<String, String> guidMap = new HashMap<>();
+
+        if (annotations != null)
+        {
+            for (AnnotationBatchElement annotation : annotations)
+            {
+                if ((annotation != null) && (annotation.getAnnotation() != null))
+                {
+                    addAnnotationBatchElement(this.addAnnotationToDiscoveryReport(annotation.getAnnotation()), annotation, guidMap);
+                }
+            }
+        }
+
+        return guidMap;
+    }
+
+
+    /**
+     * Add the nested elements of an annotation that has just been created.
+     *
+     * @param annotationGUID unique identifier of the new annotation
+     * @param annotation batch element for the annotation
+     * @param guidMap map of client reference to unique identifier
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    private void addAnnotationBatchElement(String                 annotationGUID,
+                                           AnnotationBatchElement annotation,
+                                           Map<String, String>    guidMap) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        if (annotation.getClientReference() != null)
+        {
+            guidMap.put(annotation.getClientReference(), annotationGUID);
+        }
+
+        if (annotation.getExtendedAnnotations() != null)
+        {
+            for (AnnotationBatchElement extendedAnnotation : annotation.getExtendedAnnotations())
+            {
+                if ((extendedAnnotation != null) && (extendedAnnotation.getAnnotation() != null))
+                {
+                    addAnnotationBatchElement(this.addAnnotationToAnnotation(annotationGUID, extendedAnnotation.getAnnotation()),
+                                              extendedAnnotation,
+                                              guidMap);
+                }
+            }
+        }
+
+        if (annotation.getDataFields() != null)
+        {
+            for (DataFieldBatchElement dataField : annotation.getDataFields())
+            {
+                if ((dataField != null) && (dataField.getDataField() != null))
+                {
+                    addDataFieldBatchElement(this.addDataFieldToDiscoveryReport(annotationGUID, dataField.getDataField()),
+                                             dataField,
+                                             guidMap);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add the nested elements of a data field that has just been created.
+     *
+     * @param dataFieldGUID unique identifier of the new data field
+     * @param dataField batch element for the data field
+     * @param guidMap map of client reference to unique identifier
+     * @throws InvalidParameterException one of the elements is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the elements to the annotation store.
+     */
+    private void addDataFieldBatchElement(String                dataFieldGUID,
+                                          DataFieldBatchElement dataField,
+                                          Map<String, String>   guidMap) throws InvalidParameterException,
+                                                                                UserNotAuthorizedException,
+                                                                                PropertyServerException
+    {
+        if (dataField.getClientReference() != null)
+        {
+            guidMap.put(dataField.getClientReference(), dataFieldGUID);
+        }
+
+        if (dataField.getNestedDataFields() != null)
+        {
+            for (DataFieldBatchElement nestedDataField : dataField.getNestedDataFields())
+            {
+                if ((nestedDataField != null) && (nestedDataField.getDataField() != null))
+                {
+                    addDataFieldBatchElement(this.addDataFieldToDataField(dataFieldGUID, nestedDataField.getDataField()),
+                                             nestedDataField,
+                                             guidMap);
+                }
+            }
+        }
+
+        if (dataField.getAnnotations() != null)
+        {
+            for (AnnotationBatchElement annotation : dataField.getAnnotations())
+            {
+                if ((annotation != null) && (annotation.getAnnotation() != null))
+                {
+                    addAnnotationBatchElement(this.addAnnotationToDataField(dataFieldGUID, annotation.getAnnotation()),
+                                              annotation,
+                                              guidMap);
+                }
+            }
+        }
+    }
 }
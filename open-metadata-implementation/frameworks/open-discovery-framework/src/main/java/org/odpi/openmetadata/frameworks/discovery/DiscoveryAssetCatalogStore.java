@@ -17,6 +17,8 @@ public abstract class DiscoveryAssetCatalogStore
 {
     protected String  userId;
     protected int     maxPageSize;
+    protected String  metadataServerName            = null;
+    protected String  metadataServerPlatformURLRoot = null;
 
     /**
      * Constructor sets the max page size which is used by the caller to ensure they
@@ -33,6 +35,48 @@ public abstract class DiscoveryAssetCatalogStore
     }
 
 
+    /**
+     * Constructor for an asset catalog store that knows the metadata server that holds the asset catalog.
+     *
+     * @param userId calling user
+     * @param metadataServerName name of the metadata server that holds the asset catalog
+     * @param metadataServerPlatformURLRoot network address of the platform hosting the metadata server
+     * @param maxPageSize maximum number of assets that can be returned on a single request.
+     */
+    public DiscoveryAssetCatalogStore(String  userId,
+                                      String  metadataServerName,
+                                      String  metadataServerPlatformURLRoot,
+                                      int     maxPageSize)
+    {
+        this(userId, maxPageSize);
+
+        this.metadataServerName = metadataServerName;
+        this.metadataServerPlatformURLRoot = metadataServerPlatformURLRoot;
+    }
+
+
+    /**
+     * Return the name of the metadata server that holds the asset catalog.
+     *
+     * @return server name or null if it is not known
+     */
+    public String getMetadataServerName()
+    {
+        return metadataServerName;
+    }
+
+
+    /**
+     * Return the network address of the platform hosting the metadata server that holds the asset catalog.
+     *
+     * @return URL root or null if it is not known
+     */
+    public String getMetadataServerPlatformURLRoot()
+    {
+        return metadataServerPlatformURLRoot;
+    }
+
+
     /**
      * Return the maximum number of assets that can be returned by getAssets().
      *
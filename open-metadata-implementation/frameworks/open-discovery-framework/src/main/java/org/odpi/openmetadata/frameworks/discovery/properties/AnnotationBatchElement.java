@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AnnotationBatchElement describes an annotation to add to the annotation store as part of a batch, along with the
+ * annotations that extend it and the data fields that are linked off of it.  The client reference is chosen
+ * by the discovery service and is used to return the unique identifier of the annotation once it is created.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AnnotationBatchElement implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String                       clientReference     = null;
+    private Annotation                   annotation          = null;
+    private List<AnnotationBatchElement> extendedAnnotations = null;
+    private List<DataFieldBatchElement>  dataFields          = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AnnotationBatchElement()
+    {
+    }
+
+
+    /**
+     * Copy clone constructor
+     *
+     * @param template object to copy
+     */
+    public AnnotationBatchElement(AnnotationBatchElement template)
+    {
+        if (template != null)
+        {
+            clientReference = template.getClientReference();
+            annotation = template.getAnnotation();
+            extendedAnnotations = template.getExtendedAnnotations();
+            dataFields = template.getDataFields();
+        }
+    }
+
+
+    /**
+     * Return the reference that the caller uses to identify this annotation in the batch.
+     *
+     * @return string
+     */
+    public String getClientReference()
+    {
+        return clientReference;
+    }
+
+
+    /**
+     * Set up the reference that the caller uses to identify this annotation in the batch.
+     *
+     * @param clientReference string
+     */
+    public void setClientReference(String clientReference)
+    {
+        this.clientReference = clientReference;
+    }
+
+
+    /**
+     * Return the annotation to create.
+     *
+     * @return annotation
+     */
+    public Annotation getAnnotation()
+    {
+        return annotation;
+    }
+
+
+    /**
+     * Set up the annotation to create.
+     *
+     * @param annotation annotation
+     */
+    public void setAnnotation(Annotation annotation)
+    {
+        this.annotation = annotation;
+    }
+
+
+    /**
+     * Return the annotations that extend this annotation.
+     *
+     * @return list of batch elements
+     */
+    public List<AnnotationBatchElement> getExtendedAnnotations()
+    {
+        return extendedAnnotations;
+    }
+
+
+    /**
+     * Set up the annotations that extend this annotation.
+     *
+     * @param extendedAnnotations list of batch elements
+     */
+    public void setExtendedAnnotations(List<AnnotationBatchElement> extendedAnnotations)
+    {
+        this.extendedAnnotations = extendedAnnotations;
+    }
+
+
+    /**
+     * Return the data fields linked off of this annotation (typically a SchemaAnalysisAnnotation).
+     *
+     * @return list of batch elements
+     */
+    public List<DataFieldBatchElement> getDataFields()
+    {
+        return dataFields;
+    }
+
+
+    /**
+     * Set up the data fields linked off of this annotation (typically a SchemaAnalysisAnnotation).
+     *
+     * @param dataFields list of batch elements
+     */
+    public void setDataFields(List<DataFieldBatchElement> dataFields)
+    {
+        this.dataFields = dataFields;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AnnotationBatchElement{" +
+                "clientReference='" + clientReference + '\'' +
+                ", annotation=" + annotation +
+                ", extendedAnnotations=" + extendedAnnotations +
+                ", dataFields=" + dataFields +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        AnnotationBatchElement that = (AnnotationBatchElement) objectToCompare;
+        return Objects.equals(clientReference, that.clientReference) &&
+                Objects.equals(annotation, that.annotation) &&
+                Objects.equals(extendedAnnotations, that.extendedAnnotations) &&
+                Objects.equals(dataFields, that.dataFields);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(clientReference, annotation, extendedAnnotations, dataFields);
+    }
+}
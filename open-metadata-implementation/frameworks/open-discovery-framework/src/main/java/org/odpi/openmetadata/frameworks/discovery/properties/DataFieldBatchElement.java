@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DataFieldBatchElement describes a data field to add to the annotation store as part of a batch, along with its
+ * nested data fields and the annotations attached to it.  The client reference is chosen by the discovery service and
+ * is used to return the unique identifier of the data field once it is created.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DataFieldBatchElement implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String                       clientReference  = null;
+    private DataField                    dataField        = null;
+    private List<DataFieldBatchElement>  nestedDataFields = null;
+    private List<AnnotationBatchElement> annotations      = null;
+
+
+    /**
+     * Default constructor
+     */
+    public DataFieldBatchElement()
+    {
+    }
+
+
+    /**
+     * Copy clone constructor
+     *
+     * @param template object to copy
+     */
+    public DataFieldBatchElement(DataFieldBatchElement template)
+    {
+        if (template != null)
+        {
+            clientReference = template.getClientReference();
+            dataField = template.getDataField();
+            nestedDataFields = template.getNestedDataFields();
+            annotations = template.getAnnotations();
+        }
+    }
+
+
+    /**
+     * Return the reference that the caller uses to identify this data field in the batch.
+     *
+     * @return string
+     */
+    public String getClientReference()
+    {
+        return clientReference;
+    }
+
+
+    /**
+     * Set up the reference that the caller uses to identify this data field in the batch.
+     *
+     * @param clientReference string
+     */
+    public void setClientReference(String clientReference)
+    {
+        this.clientReference = clientReference;
+    }
+
+
+    /**
+     * Return the data field to create.
+     *
+     * @return data field
+     */
+    public DataField getDataField()
+    {
+        return dataField;
+    }
+
+
+    /**
+     * Set up the data field to create.
+     *
+     * @param dataField data field
+     */
+    public void setDataField(DataField dataField)
+    {
+        this.dataField = dataField;
+    }
+
+
+    /**
+     * Return the data fields nested in this data field.
+     *
+     * @return list of batch elements
+     */
+    public List<DataFieldBatchElement> getNestedDataFields()
+    {
+        return nestedDataFields;
+    }
+
+
+    /**
+     * Set up the data fields nested in this data field.
+     *
+     * @param nestedDataFields list of batch elements
+     */
+    public void setNestedDataFields(List<DataFieldBatchElement> nestedDataFields)
+    {
+        this.nestedDataFields = nestedDataFields;
+    }
+
+
+    /**
+     * Return the annotations attached to this data field.
+     *
+     * @return list of batch elements
+     */
+    public List<AnnotationBatchElement> getAnnotations()
+    {
+        return annotations;
+    }
+
+
+    /**
+     * Set up the annotations attached to this data field.
+     *
+     * @param annotations list of batch elements
+     */
+    public void setAnnotations(List<AnnotationBatchElement> annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "DataFieldBatchElement{" +
+                "clientReference='" + clientReference + '\'' +
+                ", dataField=" + dataField +
+                ", nestedDataFields=" + nestedDataFields +
+                ", annotations=" + annotations +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        DataFieldBatchElement that = (DataFieldBatchElement) objectToCompare;
+        return Objects.equals(clientReference, that.clientReference) &&
+                Objects.equals(dataField, that.dataField) &&
+                Objects.equals(nestedDataFields, that.nestedDataFields) &&
+                Objects.equals(annotations, that.annotations);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(clientReference, dataField, nestedDataFields, annotations);
+    }
+}
@@ -37,7 +37,20 @@ public enum OIFErrorCode implements ExceptionMessageSet
                                           "will terminate the thread once the engage() method returns.",
                     "If the connector does not need to issue blocking calls update the configuration to remove the need for the " +
                                           "dedicated thread.  Otherwise update the integration connector's implementation to override " +
-                                          "the default engage() method implementation.");
+                                          "the default engage() method implementation."),
+
+    SNAPSHOT_NOT_READABLE(500,"OIF-CONNECTOR-500-001",
+                    "The integration connector {0} is unable to read its reconciliation snapshot from file {1} due to a {2} exception with message {3}",
+                    "The connector is not able to compare the third party technology with the snapshot of the elements it catalogued " +
+                                          "on earlier refreshes.  The refresh fails.",
+                    "Use the exception message to correct the problem with the file.  If the file is damaged, delete it.  " +
+                                          "The connector will rebuild the snapshot from the open metadata catalog on its next refresh."),
+
+    SNAPSHOT_NOT_WRITABLE(500,"OIF-CONNECTOR-500-002",
+                    "The integration connector {0} is unable to save its reconciliation snapshot to file {1} due to a {2} exception with message {3}",
+                    "The changes made by the refresh are in the open metadata catalog but the snapshot that records them could " +
+                                          "not be saved.  The connector will rebuild the snapshot from the open metadata catalog if it restarts.",
+                    "Use the exception message to correct the problem with the file or its directory.");
 
     private final ExceptionMessageDefinition messageDefinition;
 
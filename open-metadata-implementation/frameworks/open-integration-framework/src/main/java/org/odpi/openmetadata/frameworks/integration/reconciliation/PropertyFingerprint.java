@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * PropertyFingerprint calculates a fingerprint for a set of properties.  The properties are sorted by name and each
+ * name and value is written with its length, so the fingerprint does not depend on the order of the map or on how
+ * the values happen to concatenate.  Values are converted to strings with toString().
+ */
+public class PropertyFingerprint
+{
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+
+    /**
+     * Private constructor - use the static method.
+     */
+    private PropertyFingerprint()
+    {
+    }
+
+
+    /**
+     * Return the fingerprint of a set of properties.  Properties with a null value are ignored.
+     *
+     * @param properties map of property name to value
+     * @return hexadecimal fingerprint
+     */
+    public static String getFingerprint(Map<String, ?> properties)
+    {
+        StringBuilder canonicalProperties = new StringBuilder();
+
+        if (properties != null)
+        {
+            for (Map.Entry<String, ?> property : new TreeMap<>(properties).entrySet())
+            {
+                if (property.getValue() != null)
+                {
+                    appendValue(canonicalProperties, property.getKey());
+                    appendValue(canonicalProperties, property.getValue().toString());
+                }
+            }
+        }
+
+        try
+        {
+            byte[]        digest      = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(canonicalProperties.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder fingerprint = new StringBuilder(digest.length * 2);
+
+            for (byte digestByte : digest)
+            {
+                fingerprint.append(Character.forDigit((digestByte >> 4) & 0xF, 16));
+                fingerprint.append(Character.forDigit(digestByte & 0xF, 16));
+            }
+
+            return fingerprint.toString();
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            /*
+             * Every Java platform supports SHA-256.
+             */
+            throw new IllegalStateException(error);
+        }
+    }
+
+
+    /**
+     * Add a value to the canonical form, prefixed by its length.
+     *
+     * @param canonicalProperties canonical form being built
+     * @param value value to add
+     */
+    private static void appendValue(StringBuilder canonicalProperties,
+                                    String        value)
+    {
+        canonicalProperties.append(value.length()).append(':').append(value).append(';');
+    }
+}
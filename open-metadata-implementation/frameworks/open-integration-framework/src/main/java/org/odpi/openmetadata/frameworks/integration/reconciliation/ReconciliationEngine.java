@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.integration.ffdc.OIFErrorCode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ReconciliationEngine synchronizes the catalog with the elements listed from a third party technology on each
+ * refresh of an integration connector.  It keeps a snapshot of the key, catalog GUID and property fingerprint of
+ * each element it has catalogued, so a refresh only makes a call to the metadata server for elements that are new,
+ * have changed or have gone.  Unchanged elements cost nothing beyond calculating their fingerprint.
+ *
+ * At the start of each refresh the snapshot is merged with the listing of the catalogued elements returned by the
+ * ReconciliationTarget so that changes made to the catalog by others (or while the connector was stopped) are
+ * picked up.  If a snapshot file is supplied, the snapshot is loaded from it on the first refresh and saved to it at
+ * the end of every refresh.
+ *
+ * @param <T> type of the element from the third party technology
+ */
+public class ReconciliationEngine<T>
+{
+    private final String                  connectorName;
+    private final ReconciliationTarget<T> target;
+    private final String                  snapshotFileName;
+    private final boolean                 deleteMissingElements;
+
+    private final ReconciliationSnapshot  snapshot       = new ReconciliationSnapshot();
+    private boolean                       snapshotLoaded = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectorName name of the connector using the engine (for messages)
+     * @param target connector's implementation of the catalog operations
+     * @param snapshotFileName file to save the snapshot in between restarts (null means keep it in memory only)
+     * @param deleteMissingElements should catalog elements be deleted when their third party element is not listed
+     */
+    public ReconciliationEngine(String                  connectorName,
+                                ReconciliationTarget<T> target,
+                                String                  snapshotFileName,
+                                boolean                 deleteMissingElements)
+    {
+        this.connectorName         = connectorName;
+        this.target                = target;
+        this.snapshotFileName      = snapshotFileName;
+        this.deleteMissingElements = deleteMissingElements;
+    }
+
+
+    /**
+     * Synchronize the catalog with the complete list of elements from the third party technology.
+     *
+     * @param elements every element currently in the third party technology
+     * @return counts of the changes made
+     * @throws ConnectorCheckedException the snapshot file could not be read or written
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to maintain the catalog
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    public synchronized ReconciliationResult reconcile(Collection<T> elements) throws ConnectorCheckedException,
+                                                                                      InvalidParameterException,
+                                                                                      UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String methodName = "reconcile";
+
+        this.loadSnapshot(methodName);
+
+        ReconciliationResult result = new ReconciliationResult();
+
+        try
+        {
+            snapshot.mergeCatalogue(target.getCataloguedElements());
+
+            Set<String> listedKeys = new HashSet<>();
+
+            if (elements != null)
+            {
+                for (T element : elements)
+                {
+                    String key = target.getKey(element);
+
+                    if ((key != null) && (listedKeys.add(key)))
+                    {
+                        String                      fingerprint = target.getFingerprint(element);
+                        ReconciliationSnapshotEntry entry       = snapshot.getEntry(key);
+
+                        if (entry == null)
+                        {
+                            String elementGUID = target.createElement(element);
+
+                            if (elementGUID != null)
+                            {
+                                snapshot.putEntry(key, elementGUID, fingerprint);
+                                result.countCreated();
+                            }
+                        }
+                        else if ((fingerprint == null) || (! fingerprint.equals(entry.getFingerprint())))
+                        {
+                            target.updateElement(entry.getElementGUID(), element);
+                            snapshot.putEntry(key, entry.getElementGUID(), fingerprint);
+                            result.countUpdated();
+                        }
+                        else
+                        {
+                            result.countUnchanged();
+                        }
+                    }
+                }
+            }
+
+            if (deleteMissingElements)
+            {
+                for (String key : snapshot.getKeys())
+                {
+                    if (! listedKeys.contains(key))
+                    {
+                        target.deleteElement(snapshot.getEntry(key).getElementGUID(), key);
+                        snapshot.removeEntry(key);
+                        result.countDeleted();
+                    }
+                }
+            }
+        }
+        finally
+        {
+            /*
+             * The snapshot is saved even if the refresh fails part way through so that the changes that were
+             * made are not repeated on the next refresh.
+             */
+            this.saveSnapshot(methodName);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Return the catalog GUID recorded for a key.
+     *
+     * @param key identifier of the third party element
+     * @return unique identifier or null if the element has not been catalogued
+     */
+    public synchronized String getElementGUID(String key)
+    {
+        ReconciliationSnapshotEntry entry = snapshot.getEntry(key);
+
+        if (entry != null)
+        {
+            return entry.getElementGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the number of elements in the snapshot.
+     *
+     * @return count
+     */
+    public synchronized int getSnapshotSize()
+    {
+        return snapshot.size();
+    }
+
+
+    /**
+     * Load the snapshot from its file on the first refresh.
+     *
+     * @param methodName calling method
+     * @throws ConnectorCheckedException the file could not be read
+     */
+    private void loadSnapshot(String methodName) throws ConnectorCheckedException
+    {
+        if ((! snapshotLoaded) && (snapshotFileName != null))
+        {
+            try
+            {
+                snapshot.load(snapshotFileName);
+            }
+            catch (IOException error)
+            {
+                throw new ConnectorCheckedException(OIFErrorCode.SNAPSHOT_NOT_READABLE.getMessageDefinition(connectorName,
+                                                                                                            snapshotFileName,
+                                                                                                            error.getClass().getName(),
+                                                                                                            error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+            }
+        }
+
+        snapshotLoaded = true;
+    }
+
+
+    /**
+     * Save the snapshot to its file.
+     *
+     * @param methodName calling method
+     * @throws ConnectorCheckedException the file could not be written
+     */
+    private void saveSnapshot(String methodName) throws ConnectorCheckedException
+    {
+        if (snapshotFileName != null)
+        {
+            try
+            {
+                snapshot.save(snapshotFileName);
+            }
+            catch (IOException error)
+            {
+                throw new ConnectorCheckedException(OIFErrorCode.SNAPSHOT_NOT_WRITABLE.getMessageDefinition(connectorName,
+                                                                                                            snapshotFileName,
+                                                                                                            error.getClass().getName(),
+                                                                                                            error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+            }
+        }
+    }
+}
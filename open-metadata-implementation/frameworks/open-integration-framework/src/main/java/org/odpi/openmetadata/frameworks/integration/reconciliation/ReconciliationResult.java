@@ -0,0 +1,122 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+/**
+ * ReconciliationResult counts the changes made to the catalog by one call to ReconciliationEngine.reconcile.
+ */
+public class ReconciliationResult
+{
+    private int createdCount   = 0;
+    private int updatedCount   = 0;
+    private int deletedCount   = 0;
+    private int unchangedCount = 0;
+
+
+    /**
+     * Return the number of catalog elements created.
+     *
+     * @return count
+     */
+    public int getCreatedCount()
+    {
+        return createdCount;
+    }
+
+
+    /**
+     * Return the number of catalog elements updated.
+     *
+     * @return count
+     */
+    public int getUpdatedCount()
+    {
+        return updatedCount;
+    }
+
+
+    /**
+     * Return the number of catalog elements deleted.
+     *
+     * @return count
+     */
+    public int getDeletedCount()
+    {
+        return deletedCount;
+    }
+
+
+    /**
+     * Return the number of third party elements that had not changed since the last refresh.
+     *
+     * @return count
+     */
+    public int getUnchangedCount()
+    {
+        return unchangedCount;
+    }
+
+
+    /**
+     * Return whether the catalog was changed.
+     *
+     * @return flag
+     */
+    public boolean hasChanges()
+    {
+        return (createdCount + updatedCount + deletedCount) > 0;
+    }
+
+
+    /**
+     * Count a created element.
+     */
+    void countCreated()
+    {
+        createdCount ++;
+    }
+
+
+    /**
+     * Count an updated element.
+     */
+    void countUpdated()
+    {
+        updatedCount ++;
+    }
+
+
+    /**
+     * Count a deleted element.
+     */
+    void countDeleted()
+    {
+        deletedCount ++;
+    }
+
+
+    /**
+     * Count an unchanged element.
+     */
+    void countUnchanged()
+    {
+        unchangedCount ++;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ReconciliationResult{" +
+                       "createdCount=" + createdCount +
+                       ", updatedCount=" + updatedCount +
+                       ", deletedCount=" + deletedCount +
+                       ", unchangedCount=" + unchangedCount +
+                       '}';
+    }
+}
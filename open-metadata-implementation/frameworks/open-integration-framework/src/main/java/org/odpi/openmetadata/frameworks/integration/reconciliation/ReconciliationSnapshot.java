@@ -0,0 +1,222 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * ReconciliationSnapshot is the keyed set of elements that an integration connector has catalogued.  The key is the
+ * identifier of the element in the third party technology (typically the qualified name used in the catalog).
+ * The snapshot can be saved to a file so that it survives a restart of the connector.
+ */
+public class ReconciliationSnapshot
+{
+    private static final String FINGERPRINT_SEPARATOR = " ";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Map<String, ReconciliationSnapshotEntry> entries = new HashMap<>();
+
+
+    /**
+     * Return the entry for a key.
+     *
+     * @param key identifier of the third party element
+     * @return entry or null if the element is not in the snapshot
+     */
+    public ReconciliationSnapshotEntry getEntry(String key)
+    {
+        return entries.get(key);
+    }
+
+
+    /**
+     * Add or replace the entry for a key.
+     *
+     * @param key identifier of the third party element
+     * @param elementGUID unique identifier of the catalog element
+     * @param fingerprint fingerprint of the properties the catalog element was synchronized with (may be null)
+     */
+    public void putEntry(String key,
+                         String elementGUID,
+                         String fingerprint)
+    {
+        entries.put(key, new ReconciliationSnapshotEntry(elementGUID, fingerprint));
+    }
+
+
+    /**
+     * Remove the entry for a key.
+     *
+     * @param key identifier of the third party element
+     * @return the removed entry or null
+     */
+    public ReconciliationSnapshotEntry removeEntry(String key)
+    {
+        return entries.remove(key);
+    }
+
+
+    /**
+     * Return a copy of the keys in the snapshot.
+     *
+     * @return set of keys
+     */
+    public Set<String> getKeys()
+    {
+        return new HashSet<>(entries.keySet());
+    }
+
+
+    /**
+     * Return the number of elements in the snapshot.
+     *
+     * @return count
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+
+    /**
+     * Bring the snapshot into line with a fresh listing of the catalog.  Entries for elements that are no longer in
+     * the catalog are removed.  Elements that are new to the snapshot, or that have been replaced in the catalog,
+     * take the fingerprint from the listing.  When the listing supplies a fingerprint it replaces the one in the
+     * snapshot since the catalog element may have been changed by another process.  A null listing means that the
+     * snapshot from the last refresh is trusted so it is left unchanged.
+     *
+     * @param cataloguedElements map of key to the catalog element's guid and fingerprint (if known), or null
+     */
+    public void mergeCatalogue(Map<String, ReconciliationSnapshotEntry> cataloguedElements)
+    {
+        if (cataloguedElements != null)
+        {
+            entries.keySet().retainAll(cataloguedElements.keySet());
+
+            for (Map.Entry<String, ReconciliationSnapshotEntry> cataloguedElement : cataloguedElements.entrySet())
+            {
+                ReconciliationSnapshotEntry existingEntry = entries.get(cataloguedElement.getKey());
+                ReconciliationSnapshotEntry newEntry      = cataloguedElement.getValue();
+
+                if ((existingEntry == null) ||
+                    (! existingEntry.getElementGUID().equals(newEntry.getElementGUID())) ||
+                    (newEntry.getFingerprint() != null))
+                {
+                    entries.put(cataloguedElement.getKey(), newEntry);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Replace the contents of the snapshot with those saved in a file.  If the file does not exist,
+     * the snapshot is emptied.
+     *
+     * @param fileName name of the file
+     * @throws IOException the file could not be read
+     */
+    public void load(String fileName) throws IOException
+    {
+        Path       snapshotFile = Path.of(fileName);
+        Properties properties   = new Properties();
+
+        entries.clear();
+
+        if (Files.exists(snapshotFile))
+        {
+            try (InputStream inputStream = Files.newInputStream(snapshotFile))
+            {
+                properties.load(inputStream);
+            }
+
+            for (String key : properties.stringPropertyNames())
+            {
+                String value     = properties.getProperty(key);
+                int    separator = value.indexOf(FINGERPRINT_SEPARATOR);
+
+                if (separator < 0)
+                {
+                    entries.put(key, new ReconciliationSnapshotEntry(value, null));
+                }
+                else
+                {
+                    entries.put(key, new ReconciliationSnapshotEntry(value.substring(0, separator), value.substring(separator + 1)));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save the snapshot to a file.  The snapshot is written to a temporary file that then replaces the old file
+     * so a failure part way through does not leave a damaged file.
+     *
+     * @param fileName name of the file
+     * @throws IOException the file could not be written
+     */
+    public void save(String fileName) throws IOException
+    {
+        Path       snapshotFile  = Path.of(fileName).toAbsolutePath();
+        Path       temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMPORARY_FILE_SUFFIX);
+        Properties properties    = new Properties();
+
+        for (Map.Entry<String, ReconciliationSnapshotEntry> entry : entries.entrySet())
+        {
+            String value = entry.getValue().getElementGUID();
+
+            if (entry.getValue().getFingerprint() != null)
+            {
+                value = value + FINGERPRINT_SEPARATOR + entry.getValue().getFingerprint();
+            }
+
+            properties.setProperty(entry.getKey(), value);
+        }
+
+        try
+        {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile))
+            {
+                properties.store(outputStream, "Integration connector reconciliation snapshot");
+            }
+
+            try
+            {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException notSupported)
+            {
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ReconciliationSnapshot{" +
+                       "entries=" + entries +
+                       '}';
+    }
+}
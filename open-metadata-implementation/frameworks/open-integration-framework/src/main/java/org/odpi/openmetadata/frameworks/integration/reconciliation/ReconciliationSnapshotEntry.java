@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import java.util.Objects;
+
+/**
+ * ReconciliationSnapshotEntry records the catalog element that represents one element of the third party technology,
+ * and the fingerprint of the third party element's properties when the catalog element was last synchronized.
+ */
+public class ReconciliationSnapshotEntry
+{
+    private final String elementGUID;
+    private final String fingerprint;
+
+
+    /**
+     * Constructor.
+     *
+     * @param elementGUID unique identifier of the catalog element
+     * @param fingerprint fingerprint of the properties that the catalog element was last synchronized with
+     *                    (null means they are not known so the element will be updated on the next refresh)
+     */
+    public ReconciliationSnapshotEntry(String elementGUID,
+                                       String fingerprint)
+    {
+        this.elementGUID = elementGUID;
+        this.fingerprint = fingerprint;
+    }
+
+
+    /**
+     * Return the unique identifier of the catalog element.
+     *
+     * @return string guid
+     */
+    public String getElementGUID()
+    {
+        return elementGUID;
+    }
+
+
+    /**
+     * Return the fingerprint of the properties that the catalog element was last synchronized with.
+     *
+     * @return string fingerprint or null
+     */
+    public String getFingerprint()
+    {
+        return fingerprint;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ReconciliationSnapshotEntry{" +
+                       "elementGUID='" + elementGUID + '\'' +
+                       ", fingerprint='" + fingerprint + '\'' +
+                       '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ReconciliationSnapshotEntry that = (ReconciliationSnapshotEntry) objectToCompare;
+        return Objects.equals(elementGUID, that.elementGUID) &&
+                       Objects.equals(fingerprint, that.fingerprint);
+    }
+
+
+    /**
+     * Return hash code based on properties.
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(elementGUID, fingerprint);
+    }
+}
@@ -0,0 +1,96 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.Map;
+
+/**
+ * ReconciliationTarget is implemented by an integration connector to tell the ReconciliationEngine how to identify
+ * the elements from the third party technology and how to maintain their counterparts in the open metadata catalog.
+ *
+ * @param <T> type of the element from the third party technology
+ */
+public interface ReconciliationTarget<T>
+{
+    /**
+     * Return the key that identifies the element.  This must be the same from one refresh to the next.
+     *
+     * @param element element from the third party technology
+     * @return key or null if the element should be ignored
+     */
+    String getKey(T element);
+
+
+    /**
+     * Return the fingerprint of the properties of the element that are copied into the catalog.  When the fingerprint
+     * is unchanged since the last refresh, the catalog element is not updated.
+     * PropertyFingerprint.getFingerprint creates a suitable value.
+     *
+     * @param element element from the third party technology
+     * @return fingerprint
+     */
+    String getFingerprint(T element);
+
+
+    /**
+     * Return the elements that this connector has catalogued.  This is called once at the start of each refresh,
+     * typically with a single paged query, so that the engine does not need to look elements up one at a time.
+     * The fingerprint in each entry may be null if it can not be calculated from the catalog element.
+     *
+     * @return map of key to catalog element, or null if the snapshot from the last refresh should be trusted
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to retrieve the elements
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    Map<String, ReconciliationSnapshotEntry> getCataloguedElements() throws InvalidParameterException,
+                                                                            UserNotAuthorizedException,
+                                                                            PropertyServerException;
+
+
+    /**
+     * Create the catalog element for a new third party element.
+     *
+     * @param element element from the third party technology
+     * @return unique identifier of the new catalog element
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to create the element
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    String createElement(T element) throws InvalidParameterException,
+                                           UserNotAuthorizedException,
+                                           PropertyServerException;
+
+
+    /**
+     * Update the catalog element for a third party element whose properties have changed.
+     *
+     * @param elementGUID unique identifier of the catalog element
+     * @param element element from the third party technology
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to update the element
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    void updateElement(String elementGUID,
+                       T      element) throws InvalidParameterException,
+                                              UserNotAuthorizedException,
+                                              PropertyServerException;
+
+
+    /**
+     * Delete the catalog element for a third party element that no longer exists.
+     *
+     * @param elementGUID unique identifier of the catalog element
+     * @param key key of the third party element
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the connector's userId is not authorized to delete the element
+     * @throws PropertyServerException there is a problem in the metadata server
+     */
+    void deleteElement(String elementGUID,
+                       String key) throws InvalidParameterException,
+                                          UserNotAuthorizedException,
+                                          PropertyServerException;
+}
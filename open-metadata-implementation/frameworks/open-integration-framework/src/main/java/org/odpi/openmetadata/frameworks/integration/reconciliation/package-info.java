@@ -0,0 +1,10 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+/**
+ * The reconciliation package helps an integration connector keep the open metadata catalog in step with a third party
+ * technology.  The connector supplies the current listing from the third party technology and the reconciliation engine
+ * compares it with a snapshot of the elements that the connector has catalogued, issuing only the creates, updates and
+ * deletes needed to bring the catalog up to date.
+ */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+/**
+ * Validate that PropertyFingerprint is independent of map order and distinguishes values that concatenate
+ * to the same string.
+ */
+public class TestPropertyFingerprint
+{
+    @Test
+    public void testOrderIndependence()
+    {
+        Map<String, Object> properties          = new LinkedHashMap<>();
+        Map<String, Object> reorderedProperties = new LinkedHashMap<>();
+
+        properties.put("name", "value1");
+        properties.put("description", "value2");
+        properties.put("count", 3);
+
+        reorderedProperties.put("count", 3);
+        reorderedProperties.put("description", "value2");
+        reorderedProperties.put("name", "value1");
+
+        assertEquals(PropertyFingerprint.getFingerprint(properties), PropertyFingerprint.getFingerprint(reorderedProperties));
+        assertEquals(PropertyFingerprint.getFingerprint(properties).length(), 64);
+    }
+
+
+    @Test
+    public void testDistinctValues()
+    {
+        Map<String, Object> properties1 = new HashMap<>();
+        Map<String, Object> properties2 = new HashMap<>();
+
+        properties1.put("a", "bc");
+        properties2.put("ab", "c");
+
+        assertNotEquals(PropertyFingerprint.getFingerprint(properties1), PropertyFingerprint.getFingerprint(properties2));
+
+        properties2.clear();
+        properties2.put("a", "bd");
+
+        assertNotEquals(PropertyFingerprint.getFingerprint(properties1), PropertyFingerprint.getFingerprint(properties2));
+    }
+
+
+    @Test
+    public void testNullValues()
+    {
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put("name", "value1");
+        properties.put("description", null);
+
+        assertEquals(PropertyFingerprint.getFingerprint(properties),
+                     PropertyFingerprint.getFingerprint(Map.of("name", "value1")));
+        assertEquals(PropertyFingerprint.getFingerprint(null),
+                     PropertyFingerprint.getFingerprint(new HashMap<>()));
+    }
+}
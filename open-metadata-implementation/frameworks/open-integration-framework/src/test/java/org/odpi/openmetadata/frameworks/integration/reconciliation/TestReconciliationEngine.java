@@ -0,0 +1,282 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that ReconciliationEngine only calls the target for elements that are new, have changed or have gone,
+ * and that the snapshot is reloaded from its file.
+ */
+public class TestReconciliationEngine
+{
+    /**
+     * Third party element - a name and a value.
+     */
+    static class TestElement
+    {
+        final String name;
+        final String value;
+
+        TestElement(String name,
+                    String value)
+        {
+            this.name  = name;
+            this.value = value;
+        }
+    }
+
+
+    /**
+     * Target that keeps the catalog in memory and counts the calls made to it.
+     */
+    static class TestTarget implements ReconciliationTarget<TestElement>
+    {
+        final Map<String, String> catalogGUIDs  = new HashMap<>();
+        final Map<String, String> catalogValues = new HashMap<>();
+
+        boolean listingAvailable = true;
+        int     listingCount     = 0;
+        int     createCount      = 0;
+        int     updateCount      = 0;
+        int     deleteCount      = 0;
+
+        @Override
+        public String getKey(TestElement element)
+        {
+            return element.name;
+        }
+
+
+        @Override
+        public String getFingerprint(TestElement element)
+        {
+            return PropertyFingerprint.getFingerprint(Collections.singletonMap("value", element.value));
+        }
+
+
+        @Override
+        public Map<String, ReconciliationSnapshotEntry> getCataloguedElements()
+        {
+            listingCount ++;
+
+            if (! listingAvailable)
+            {
+                return null;
+            }
+
+            /*
+             * The catalog does not store the fingerprint so the snapshot from the last refresh is used.
+             */
+            Map<String, ReconciliationSnapshotEntry> cataloguedElements = new HashMap<>();
+
+            for (String name : catalogGUIDs.keySet())
+            {
+                cataloguedElements.put(name, new ReconciliationSnapshotEntry(catalogGUIDs.get(name), null));
+            }
+
+            return cataloguedElements;
+        }
+
+
+        @Override
+        public String createElement(TestElement element)
+        {
+            createCount ++;
+
+            String guid = "guid-" + element.name + "-" + createCount;
+
+            catalogGUIDs.put(element.name, guid);
+            catalogValues.put(element.name, element.value);
+
+            return guid;
+        }
+
+
+        @Override
+        public void updateElement(String      elementGUID,
+                                  TestElement element)
+        {
+            updateCount ++;
+
+            assertEquals(catalogGUIDs.get(element.name), elementGUID);
+            catalogValues.put(element.name, element.value);
+        }
+
+
+        @Override
+        public void deleteElement(String elementGUID,
+                                  String key)
+        {
+            deleteCount ++;
+
+            assertEquals(catalogGUIDs.get(key), elementGUID);
+            catalogGUIDs.remove(key);
+            catalogValues.remove(key);
+        }
+    }
+
+
+    /**
+     * Return a list of elements.
+     *
+     * @param namesAndValues alternating names and values
+     * @return list of elements
+     */
+    private List<TestElement> getElements(String... namesAndValues)
+    {
+        List<TestElement> elements = new ArrayList<>();
+
+        for (int i = 0; i < namesAndValues.length; i = i + 2)
+        {
+            elements.add(new TestElement(namesAndValues[i], namesAndValues[i + 1]));
+        }
+
+        return elements;
+    }
+
+
+    @Test
+    public void testAddUpdateDelete() throws Exception
+    {
+        TestTarget                        target = new TestTarget();
+        ReconciliationEngine<TestElement> engine = new ReconciliationEngine<>("TestConnector", target, null, true);
+
+        ReconciliationResult result = engine.reconcile(getElements("a", "1", "b", "2", "c", "3"));
+
+        assertEquals(result.getCreatedCount(), 3);
+        assertEquals(target.createCount, 3);
+        assertEquals(engine.getSnapshotSize(), 3);
+        assertEquals(engine.getElementGUID("a"), target.catalogGUIDs.get("a"));
+
+        /*
+         * Nothing has changed so the target is only asked for its listing.
+         */
+        result = engine.reconcile(getElements("a", "1", "b", "2", "c", "3"));
+
+        assertEquals(result.getUnchangedCount(), 3);
+        assertEquals(target.createCount, 3);
+        assertEquals(target.updateCount, 0);
+        assertEquals(target.deleteCount, 0);
+
+        /*
+         * One element changes, one is new and one has gone.
+         */
+        result = engine.reconcile(getElements("a", "1", "b", "20", "d", "4"));
+
+        assertEquals(result.getCreatedCount(), 1);
+        assertEquals(result.getUpdatedCount(), 1);
+        assertEquals(result.getDeletedCount(), 1);
+        assertEquals(result.getUnchangedCount(), 1);
+        assertEquals(target.catalogValues.get("b"), "20");
+        assertNull(target.catalogGUIDs.get("c"));
+        assertNull(engine.getElementGUID("c"));
+        assertNotNull(engine.getElementGUID("d"));
+        assertEquals(target.listingCount, 3);
+    }
+
+
+    @Test
+    public void testKeepMissingElements() throws Exception
+    {
+        TestTarget                        target = new TestTarget();
+        ReconciliationEngine<TestElement> engine = new ReconciliationEngine<>("TestConnector", target, null, false);
+
+        engine.reconcile(getElements("a", "1", "b", "2"));
+
+        ReconciliationResult result = engine.reconcile(getElements("a", "1"));
+
+        assertEquals(result.getDeletedCount(), 0);
+        assertEquals(target.deleteCount, 0);
+        assertEquals(engine.getSnapshotSize(), 2);
+    }
+
+
+    @Test
+    public void testCatalogChanges() throws Exception
+    {
+        TestTarget                        target = new TestTarget();
+        ReconciliationEngine<TestElement> engine = new ReconciliationEngine<>("TestConnector", target, null, true);
+
+        engine.reconcile(getElements("a", "1", "b", "2"));
+
+        /*
+         * Another process removes an element from the catalog.  It is catalogued again on the next refresh.
+         */
+        target.catalogGUIDs.remove("a");
+
+        ReconciliationResult result = engine.reconcile(getElements("a", "1", "b", "2"));
+
+        assertEquals(result.getCreatedCount(), 1);
+        assertEquals(result.getUnchangedCount(), 1);
+        assertEquals(engine.getElementGUID("a"), target.catalogGUIDs.get("a"));
+
+        /*
+         * When the catalog can not be listed, the snapshot from the last refresh is used.
+         */
+        target.listingAvailable = false;
+
+        result = engine.reconcile(getElements("a", "1", "b", "2"));
+
+        assertEquals(result.getUnchangedCount(), 2);
+        assertEquals(engine.getSnapshotSize(), 2);
+    }
+
+
+    @Test
+    public void testSnapshotReload() throws Exception
+    {
+        Path   directory        = Files.createTempDirectory("reconciliation");
+        String snapshotFileName = directory.resolve("snapshot.properties").toString();
+
+        try
+        {
+            TestTarget                        target = new TestTarget();
+            ReconciliationEngine<TestElement> engine = new ReconciliationEngine<>("TestConnector", target, snapshotFileName, true);
+
+            engine.reconcile(getElements("a", "1", "b", "2"));
+            assertTrue(Files.exists(Path.of(snapshotFileName)));
+
+            /*
+             * A new engine (for example after a restart) loads the fingerprints from the file so the
+             * unchanged elements are not updated.
+             */
+            ReconciliationEngine<TestElement> restartedEngine = new ReconciliationEngine<>("TestConnector", target, snapshotFileName, true);
+
+            ReconciliationResult result = restartedEngine.reconcile(getElements("a", "1", "b", "3"));
+
+            assertEquals(result.getUnchangedCount(), 1);
+            assertEquals(result.getUpdatedCount(), 1);
+            assertEquals(target.createCount, 2);
+            assertEquals(target.updateCount, 1);
+            assertEquals(restartedEngine.getElementGUID("a"), engine.getElementGUID("a"));
+
+            /*
+             * Without the file every element must be updated because the fingerprints are not known.
+             */
+            ReconciliationEngine<TestElement> newEngine = new ReconciliationEngine<>("TestConnector", target, null, true);
+
+            result = newEngine.reconcile(getElements("a", "1", "b", "3"));
+
+            assertEquals(result.getUpdatedCount(), 2);
+        }
+        finally
+        {
+            Files.deleteIfExists(Path.of(snapshotFileName));
+            Files.deleteIfExists(directory);
+        }
+    }
+}
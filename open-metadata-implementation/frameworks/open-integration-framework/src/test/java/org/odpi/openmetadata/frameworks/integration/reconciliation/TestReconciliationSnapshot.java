@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.reconciliation;
+
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate that ReconciliationSnapshot merges catalog listings and survives a save and load.
+ */
+public class TestReconciliationSnapshot
+{
+    @Test
+    public void testMergeCatalogue()
+    {
+        ReconciliationSnapshot                   snapshot           = new ReconciliationSnapshot();
+        Map<String, ReconciliationSnapshotEntry> cataloguedElements = new HashMap<>();
+
+        snapshot.putEntry("kept", "guid1", "fingerprint1");
+        snapshot.putEntry("replaced", "guid2", "fingerprint2");
+        snapshot.putEntry("refreshed", "guid3", "fingerprint3");
+        snapshot.putEntry("removed", "guid4", "fingerprint4");
+
+        cataloguedElements.put("kept", new ReconciliationSnapshotEntry("guid1", null));
+        cataloguedElements.put("replaced", new ReconciliationSnapshotEntry("guid2a", null));
+        cataloguedElements.put("refreshed", new ReconciliationSnapshotEntry("guid3", "fingerprint3a"));
+        cataloguedElements.put("new", new ReconciliationSnapshotEntry("guid5", null));
+
+        snapshot.mergeCatalogue(cataloguedElements);
+
+        assertEquals(snapshot.size(), 4);
+        assertEquals(snapshot.getEntry("kept"), new ReconciliationSnapshotEntry("guid1", "fingerprint1"));
+        assertEquals(snapshot.getEntry("replaced"), new ReconciliationSnapshotEntry("guid2a", null));
+        assertEquals(snapshot.getEntry("refreshed"), new ReconciliationSnapshotEntry("guid3", "fingerprint3a"));
+        assertEquals(snapshot.getEntry("new"), new ReconciliationSnapshotEntry("guid5", null));
+        assertNull(snapshot.getEntry("removed"));
+
+        /*
+         * A null listing leaves the snapshot unchanged.
+         */
+        snapshot.mergeCatalogue(null);
+
+        assertEquals(snapshot.size(), 4);
+        assertEquals(snapshot.getEntry("kept"), new ReconciliationSnapshotEntry("guid1", "fingerprint1"));
+    }
+
+
+    @Test
+    public void testSaveAndLoad() throws Exception
+    {
+        Path   directory    = Files.createTempDirectory("reconciliation");
+        Path   snapshotFile = directory.resolve("snapshot.properties");
+
+        try
+        {
+            ReconciliationSnapshot snapshot = new ReconciliationSnapshot();
+
+            snapshot.putEntry("topic one", "guid1", "fingerprint1");
+            snapshot.putEntry("topic=two", "guid2", null);
+            snapshot.save(snapshotFile.toString());
+
+            assertFalse(Files.exists(directory.resolve("snapshot.properties.tmp")));
+
+            ReconciliationSnapshot loadedSnapshot = new ReconciliationSnapshot();
+
+            loadedSnapshot.putEntry("stale", "guid3", null);
+            loadedSnapshot.load(snapshotFile.toString());
+
+            assertEquals(loadedSnapshot.size(), 2);
+            assertEquals(loadedSnapshot.getEntry("topic one"), new ReconciliationSnapshotEntry("guid1", "fingerprint1"));
+            assertEquals(loadedSnapshot.getEntry("topic=two"), new ReconciliationSnapshotEntry("guid2", null));
+            assertNull(loadedSnapshot.getEntry("stale"));
+
+            /*
+             * A missing file gives an empty snapshot.
+             */
+            loadedSnapshot.load(directory.resolve("missing.properties").toString());
+
+            assertEquals(loadedSnapshot.size(), 0);
+        }
+        finally
+        {
+            Files.deleteIfExists(snapshotFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -71,6 +71,11 @@ public enum DataEngineProxyAuditCode implements AuditLogMessageSet {
             "The Data Engine Proxy processing interrupted due to runtime error.",
             "The system was unable to complete processing because the sub-system error. System will attempt to retry the process if possible.",
             "Check diagnostic message from audit log to determine the cause if the problem persists."),
+    POLLING_STATISTICS("DATA-ENGINE-PROXY-0015",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Data Engine Proxy sent {0} schema types, {1} data stores, {2} processes, {3} process hierarchies and {4} data flows in {5} requests taking {6} ms ({7} elements per second)",
+            "The local server has sent the changes found by the last poll to the Data Engine OMAS.",
+            "No action is required.  This is part of the normal operation of the service."),
 
     ;
 
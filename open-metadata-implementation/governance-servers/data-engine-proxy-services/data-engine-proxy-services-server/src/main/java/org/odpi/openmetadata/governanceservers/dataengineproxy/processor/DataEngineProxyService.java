@@ -25,15 +25,23 @@ import org.odpi.openmetadata.governanceservers.dataengineproxy.connectors.DataEn
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Class to handle periodically polling a Data Engine for changes, for those data engines that do not
- * provide any event-based mechanism to notify on changes.
+ * provide any event-based mechanism to notify on changes.  The changes found by each poll are sent to the
+ * Data Engine OMAS in batches; the batches for one type of element are sent concurrently.
  */
 public class DataEngineProxyService implements Runnable {
 
@@ -43,6 +51,8 @@ public class DataEngineProxyService implements Runnable {
     private final DataEngineConnectorBase connector;
     private final String userId;
 
+    private final ExecutorService batchExecutor;
+
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     public void initialize() throws ConnectorCheckedException, UserNotAuthorizedException, InvalidParameterException, PropertyServerException {
@@ -65,6 +75,7 @@ public class DataEngineProxyService implements Runnable {
 
     public void stop() {
         running.set(false);
+        batchExecutor.shutdown();
     }
 
     /**
@@ -87,6 +98,15 @@ public class DataEngineProxyService implements Runnable {
         this.dataEngineOMASClient = dataEngineOMASClient;
         this.auditLog = auditLog;
 
+        int batchThreadCount = Math.max(1, dataEngineProxyConfig.getBatchThreadCount());
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(batchThreadCount, batchThreadCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread batchThread = new Thread(runnable, DataEngineProxyService.class.getName() + "-batch");
+                    batchThread.setDaemon(true);
+                    return batchThread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.batchExecutor = threadPoolExecutor;
     }
 
     /**
@@ -127,11 +147,7 @@ public class DataEngineProxyService implements Runnable {
                         ));
 
                 // Send the changes, and ordering here is important
-                upsertSchemaTypes(oldestSinceSync, changesCutoff);
-                upsertDataStores(oldestSinceSync, changesCutoff);
-                upsertProcesses(oldestSinceSync, changesCutoff);
-                upsertProcessHierarchies(oldestSinceSync, changesCutoff);
-                upsertDataFlows(oldestSinceSync, changesCutoff);
+                upsertChanges(oldestSinceSync, changesCutoff);
 
                 // Update the timestamp at which changes were last synced
                 connector.setChangesLastSynced(changesCutoff);
@@ -157,11 +173,7 @@ public class DataEngineProxyService implements Runnable {
         try {
 
             ensureSourceNameIsSet();
-            upsertSchemaTypes(now, now);
-            upsertDataStores(now, now);
-            upsertProcesses(now, now);
-            upsertProcessHierarchies(now, now);
-            upsertDataFlows(now, now);
+            upsertChanges(now, now);
 
             upsertProcessingState(now);
 
@@ -210,8 +222,48 @@ public class DataEngineProxyService implements Runnable {
         }
     }
 
+    /**
+     * Send the changes between the two dates to the Data Engine OMAS.  The types are sent in dependency order:
+     * schema types, then data stores, then processes, then process hierarchies and finally data flows.  The changes
+     * of each type are split into batches that are sent concurrently, and each type is complete before the next starts.
+     *
+     * @param changesLastSynced start of the window of changes
+     * @param changesCutoff     end of the window of changes
+     */
+    private void upsertChanges(Date changesLastSynced,
+                               Date changesCutoff) throws
+            InvalidParameterException,
+            PropertyServerException,
+            UserNotAuthorizedException,
+            ConnectorCheckedException {
+        final String methodName = "upsertChanges";
+
+        long startTime = System.currentTimeMillis();
+        PollStatistics statistics = new PollStatistics();
+
+        upsertSchemaTypes(changesLastSynced, changesCutoff, statistics);
+        upsertDataStores(changesLastSynced, changesCutoff, statistics);
+        List<DataFlow> processDataFlows = upsertProcesses(changesLastSynced, changesCutoff, statistics);
+        upsertProcessHierarchies(changesLastSynced, changesCutoff, statistics);
+        upsertDataFlows(changesLastSynced, changesCutoff, processDataFlows, statistics);
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        long elementsPerSecond = statistics.getElementCount() * 1000L / Math.max(1L, elapsedTime);
+
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_STATISTICS.getMessageDefinition(
+                Integer.toString(statistics.schemaTypeCount),
+                Integer.toString(statistics.dataStoreCount),
+                Integer.toString(statistics.processCount),
+                Integer.toString(statistics.processHierarchyCount),
+                Integer.toString(statistics.dataFlowCount),
+                Integer.toString(statistics.requestCount),
+                Long.toString(elapsedTime),
+                Long.toString(elementsPerSecond)));
+    }
+
     private void upsertSchemaTypes(Date changesLastSynced,
-                                   Date changesCutoff) throws
+                                   Date changesCutoff,
+                                   PollStatistics statistics) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
@@ -220,16 +272,17 @@ public class DataEngineProxyService implements Runnable {
         String type = "SchemaTypes";
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
         List<SchemaType> changedSchemaTypes = connector.getChangedSchemaTypes(changesLastSynced, changesCutoff);
-        if (changedSchemaTypes != null) {
-            for (SchemaType changedSchemaType : changedSchemaTypes) {
-                dataEngineOMASClient.createOrUpdateSchemaType(userId, changedSchemaType);
-            }
+        if (CollectionUtils.isNotEmpty(changedSchemaTypes)) {
+            statistics.requestCount += sendInBatches(changedSchemaTypes,
+                    batch -> dataEngineOMASClient.createOrUpdateSchemaTypes(userId, batch));
+            statistics.schemaTypeCount += changedSchemaTypes.size();
         }
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
     }
 
     private void upsertDataStores(Date changesLastSynced,
-                                  Date changesCutoff) throws
+                                  Date changesCutoff,
+                                  PollStatistics statistics) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
@@ -240,33 +293,60 @@ public class DataEngineProxyService implements Runnable {
         // get  list of incomplete relational tables & data files
         List<? super Referenceable> changedDataStores = connector.getChangedDataStores(changesLastSynced, changesCutoff);
         if (CollectionUtils.isNotEmpty(changedDataStores)) {
+            List<DataFile> dataFiles = new ArrayList<>();
+            List<Database> databases = new ArrayList<>();
             for (Object changedDataStore : changedDataStores) {
                 if (changedDataStore instanceof DataFile) {
-                    dataEngineOMASClient.upsertDataFile(userId, (DataFile) changedDataStore);
+                    dataFiles.add((DataFile) changedDataStore);
                 }
                 if (changedDataStore instanceof Database) {
-                    Database database = (Database) changedDataStore;
-                    // create the database only if it's incomplete
-                    // will also create database schemas and relational table
-                    if (database.getIncomplete()) {
-                        dataEngineOMASClient.upsertDatabase(userId, database);
-                    } else {
-                        // create the database schema only if it's incomplete
-                        if (database.getDatabaseSchema().getIncomplete()) {
-                            dataEngineOMASClient.upsertDatabaseSchema(userId, database.getDatabaseSchema(), database.getQualifiedName());
-                        }
-                        // create the table separately if the database was not created
-                        dataEngineOMASClient.upsertRelationalTable(userId, database.getTables().get(0),
-                                database.getDatabaseSchema().getQualifiedName());
-                    }
+                    databases.add((Database) changedDataStore);
                 }
             }
+
+            // data files and databases do not depend on each other, so their batches are sent together
+            List<Future<Void>> batchResults = new ArrayList<>();
+            submitBatches(dataFiles, batch -> dataEngineOMASClient.upsertDataFiles(userId, batch), batchResults);
+            submitBatches(databases, batch -> {
+                for (Database database : batch) {
+                    upsertDatabase(database);
+                }
+            }, batchResults);
+            statistics.requestCount += waitForBatches(batchResults);
+            statistics.dataStoreCount += dataFiles.size() + databases.size();
         }
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
     }
 
-    private void upsertProcesses(Date changesLastSynced,
-                                 Date changesCutoff) throws
+    private void upsertDatabase(Database database) throws
+            InvalidParameterException,
+            PropertyServerException,
+            UserNotAuthorizedException,
+            ConnectorCheckedException {
+        // create the database only if it's incomplete
+        // will also create database schemas and relational table
+        if (database.getIncomplete()) {
+            dataEngineOMASClient.upsertDatabase(userId, database);
+        } else {
+            // create the database schema only if it's incomplete
+            if (database.getDatabaseSchema().getIncomplete()) {
+                dataEngineOMASClient.upsertDatabaseSchema(userId, database.getDatabaseSchema(), database.getQualifiedName());
+            }
+            // create the table separately if the database was not created
+            dataEngineOMASClient.upsertRelationalTable(userId, database.getTables().get(0),
+                    database.getDatabaseSchema().getQualifiedName());
+        }
+    }
+
+    /**
+     * Send the process details.  The data flows of the processes are returned rather than sent so that they can
+     * be sent with the other data flows once all processes exist.
+     *
+     * @return the data flows of the changed processes
+     */
+    private List<DataFlow> upsertProcesses(Date changesLastSynced,
+                                           Date changesCutoff,
+                                           PollStatistics statistics) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
@@ -274,26 +354,26 @@ public class DataEngineProxyService implements Runnable {
         String methodName = "upsertProcesses";
         String type = "Processes";
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
+        List<DataFlow> processDataFlows = new ArrayList<>();
         List<Process> changedProcesses = connector.getChangedProcesses(changesLastSynced, changesCutoff);
-        if (changedProcesses != null && !changedProcesses.isEmpty()) {
+        if (CollectionUtils.isNotEmpty(changedProcesses)) {
+            // We split up the process details and data flows into separate calls to achieve optimal processing in DE OMAS.
             for (Process changedProcess : changedProcesses) {
-                // We split up the process details (1) and data flows (2) into separate calls to achieve optimal processing in DE OMAS.
-                // (1) Send process details
-                dataEngineOMASClient.createOrUpdateProcess(userId, changedProcess);
-
-                List<DataFlow> dataFlows = changedProcess.getDataFlows();
-                if (dataFlows != null) {
-                    // (2) Send data flows
-                    dataEngineOMASClient.addDataFlows(userId, dataFlows);
+                if (changedProcess.getDataFlows() != null) {
+                    processDataFlows.addAll(changedProcess.getDataFlows());
                 }
             }
-
+            statistics.requestCount += sendInBatches(changedProcesses,
+                    batch -> dataEngineOMASClient.createOrUpdateProcesses(userId, batch));
+            statistics.processCount += changedProcesses.size();
         }
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+        return processDataFlows;
     }
 
     private void upsertProcessHierarchies(Date changesLastSynced,
-                                          Date changesCutoff) throws
+                                          Date changesCutoff,
+                                          PollStatistics statistics) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
@@ -302,16 +382,18 @@ public class DataEngineProxyService implements Runnable {
         String type = "ProcessHierarchies";
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
         List<ProcessHierarchy> changedProcessHierarchies = connector.getChangedProcessHierarchies(changesLastSynced, changesCutoff);
-        if (changedProcessHierarchies != null) {
-            for (ProcessHierarchy changedProcessHierarchy : changedProcessHierarchies) {
-                dataEngineOMASClient.addProcessHierarchy(userId, changedProcessHierarchy);
-            }
+        if (CollectionUtils.isNotEmpty(changedProcessHierarchies)) {
+            statistics.requestCount += sendInBatches(changedProcessHierarchies,
+                    batch -> dataEngineOMASClient.addProcessHierarchies(userId, batch));
+            statistics.processHierarchyCount += changedProcessHierarchies.size();
         }
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
     }
 
     private void upsertDataFlows(Date changesLastSynced,
-                                 Date changesCutoff) throws
+                                 Date changesCutoff,
+                                 List<DataFlow> processDataFlows,
+                                 PollStatistics statistics) throws
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException,
@@ -319,19 +401,135 @@ public class DataEngineProxyService implements Runnable {
         String methodName = "upsertDataFlows";
         String type = "DataFlows";
         auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_START.getMessageDefinition(type));
-        List<DataFlow> changedDataFlows = connector.getChangedDataFlows(changesLastSynced, changesCutoff);
+        List<DataFlow> changedDataFlows = new ArrayList<>(processDataFlows);
+        List<DataFlow> connectorDataFlows = connector.getChangedDataFlows(changesLastSynced, changesCutoff);
+        if (connectorDataFlows != null) {
+            changedDataFlows.addAll(connectorDataFlows);
+        }
         if (CollectionUtils.isNotEmpty(changedDataFlows)) {
-            if (dataEngineProxyConfig.isEventsClientEnabled()) {
-                for (DataFlow changedDataFlow : changedDataFlows) {
-                    // If we are using the event-based interface, send the data flows one-by-one rather than as
-                    // an array
-                    dataEngineOMASClient.addDataFlows(userId, Collections.singletonList(changedDataFlow));
+            // Batches also keep each event small when we are using the event-based interface
+            statistics.requestCount += sendInBatches(changedDataFlows,
+                    batch -> dataEngineOMASClient.addDataFlows(userId, batch));
+            statistics.dataFlowCount += changedDataFlows.size();
+        }
+        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+    }
+
+    /**
+     * Split the elements into batches of the configured size and send the batches concurrently.  This returns
+     * when every batch has been sent.
+     *
+     * @param elements     elements of the same type
+     * @param batchRequest request that sends one batch
+     * @param <T>          type of element
+     *
+     * @return the number of batches sent
+     */
+    private <T> int sendInBatches(List<T> elements,
+                                  BatchRequest<T> batchRequest) throws
+            InvalidParameterException,
+            PropertyServerException,
+            UserNotAuthorizedException,
+            ConnectorCheckedException {
+        List<Future<Void>> batchResults = new ArrayList<>();
+        submitBatches(elements, batchRequest, batchResults);
+        return waitForBatches(batchResults);
+    }
+
+    /**
+     * Split the elements into batches of the configured size and submit each batch to the batch executor.
+     *
+     * @param elements     elements of the same type
+     * @param batchRequest request that sends one batch
+     * @param batchResults list to which the result of each batch is added
+     * @param <T>          type of element
+     */
+    private <T> void submitBatches(List<T> elements,
+                                   BatchRequest<T> batchRequest,
+                                   List<Future<Void>> batchResults) {
+        int batchSize = Math.max(1, dataEngineProxyConfig.getBatchSize());
+
+        for (int start = 0; start < elements.size(); start += batchSize) {
+            List<T> batch = elements.subList(start, Math.min(start + batchSize, elements.size()));
+            batchResults.add(batchExecutor.submit(() -> {
+                batchRequest.send(batch);
+                return null;
+            }));
+        }
+    }
+
+    /**
+     * Wait for the submitted batches to complete.  If any batch fails, the first failure is thrown once the other
+     * batches are complete.
+     *
+     * @param batchResults results of the submitted batches
+     *
+     * @return the number of batches sent
+     */
+    private int waitForBatches(List<Future<Void>> batchResults) throws
+            InvalidParameterException,
+            PropertyServerException,
+            UserNotAuthorizedException,
+            ConnectorCheckedException {
+        final String methodName = "waitForBatches";
+
+        Throwable firstFailure = null;
+        for (Future<Void> batchResult : batchResults) {
+            try {
+                batchResult.get();
+            } catch (ExecutionException e) {
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
                 }
-            } else {
-                dataEngineOMASClient.addDataFlows(userId, changedDataFlows);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batchResults.forEach(result -> result.cancel(true));
+                throw new OCFRuntimeException(DataEngineProxyErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), methodName, e);
             }
         }
-        auditLog.logMessage(methodName, DataEngineProxyAuditCode.POLLING_TYPE_FINISH.getMessageDefinition(type));
+
+        if (firstFailure instanceof InvalidParameterException) {
+            throw (InvalidParameterException) firstFailure;
+        } else if (firstFailure instanceof PropertyServerException) {
+            throw (PropertyServerException) firstFailure;
+        } else if (firstFailure instanceof UserNotAuthorizedException) {
+            throw (UserNotAuthorizedException) firstFailure;
+        } else if (firstFailure instanceof ConnectorCheckedException) {
+            throw (ConnectorCheckedException) firstFailure;
+        } else if (firstFailure instanceof RuntimeException) {
+            throw (RuntimeException) firstFailure;
+        } else if (firstFailure != null) {
+            throw new OCFRuntimeException(DataEngineProxyErrorCode.UNKNOWN_ERROR.getMessageDefinition(), this.getClass().getName(), methodName,
+                    firstFailure);
+        }
+
+        return batchResults.size();
+    }
+
+    /**
+     * A request to the Data Engine OMAS that sends one batch of elements.
+     *
+     * @param <T> type of element
+     */
+    @FunctionalInterface
+    private interface BatchRequest<T> {
+        void send(List<T> batch) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException, ConnectorCheckedException;
+    }
+
+    /**
+     * Counts of the elements and requests sent by one poll.  It is only updated by the polling thread.
+     */
+    private static class PollStatistics {
+        private int schemaTypeCount = 0;
+        private int dataStoreCount = 0;
+        private int processCount = 0;
+        private int processHierarchyCount = 0;
+        private int dataFlowCount = 0;
+        private int requestCount = 0;
+
+        private long getElementCount() {
+            return (long) schemaTypeCount + dataStoreCount + processCount + processHierarchyCount + dataFlowCount;
+        }
     }
 
 }
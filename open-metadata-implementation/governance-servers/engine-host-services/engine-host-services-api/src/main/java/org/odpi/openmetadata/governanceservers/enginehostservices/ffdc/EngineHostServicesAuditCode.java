@@ -311,6 +311,27 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                              "Review the error messages and resolve the cause of the problem.  Once resolved, it is possible to " +
                                      "retry the governance action by updating its status back to REQUESTED status."),
 
+    EXECUTION_POOL_CREATED("ENGINE-HOST-SERVICES-0035",
+                           OMRSAuditLogRecordSeverity.STARTUP,
+                           "Governance engine {0} in server {1} will run up to {2} governance services at once with up to {3} waiting requests; platform threads: {4}",
+                           "The governance engine has created the pool of threads that run its governance services.",
+                           "No action is required.  The limits can be changed in the engine's configuration."),
+
+    VIRTUAL_THREADS_NOT_SUPPORTED("ENGINE-HOST-SERVICES-0036",
+                                  OMRSAuditLogRecordSeverity.ERROR,
+                                  "Governance engine {0} in server {1} is configured to use virtual threads but they are not supported by Java runtime {2}",
+                                  "The governance engine runs its governance services on platform threads.",
+                                  "Either run the engine host on a Java runtime that supports virtual threads or remove the useVirtualThreads " +
+                                          "option from the engine's configuration."),
+
+    GOVERNANCE_ACTION_WAITING("ENGINE-HOST-SERVICES-0037",
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "Governance engine {0} has no capacity to run governance action {1}; it remains APPROVED until the engine's queue has space",
+                              "The governance action is not claimed by this engine host.  The governance engine looks for waiting governance actions " +
+                                      "once its waiting requests have been processed.",
+                              "No action is required.  If this message occurs frequently, increase the maxConcurrentServices or " +
+                                      "maxQueuedRequests values in the engine's configuration."),
+
     NO_OMAS_SERVER_URL("ENGINE-HOST-SERVICES-0150",
                        OMRSAuditLogRecordSeverity.ERROR,
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
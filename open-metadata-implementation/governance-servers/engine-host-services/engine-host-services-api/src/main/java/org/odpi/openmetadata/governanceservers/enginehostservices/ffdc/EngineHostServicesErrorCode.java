@@ -241,6 +241,12 @@ public enum EngineHostServicesErrorCode implements ExceptionMessageSet
                                      "This is a configuration error.  Update the configuration for the engine host service to ensure governance engines are correctly " +
                                              "matched to the engine services.  Once the cause is resolved, restart the server."),
 
+    GOVERNANCE_ENGINE_BUSY(503, "ENGINE-HOST-SERVICES-503-001",
+                           "Governance engine {0} in engine host server {1} is already running {2} governance services and has {3} waiting requests; request {4} is rejected",
+                           "The governance engine has reached the limits set in its configuration and is not able to accept the request.",
+                           "Retry the request once the governance engine has completed some of its work.  If this occurs frequently, " +
+                                   "increase the maxConcurrentServices or maxQueuedRequests values in the engine's configuration."),
+
     NO_OMAS_SERVER_URL(400,"ENGINE-HOST-SERVICES-400-102",
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
                        "The engine service is not able to locate the metadata server to retrieve the configuration for " +
@@ -31,6 +31,9 @@ public class GovernanceEngineSummary implements Serializable
     private String                 governanceEngineDescription = null;
     private GovernanceEngineStatus governanceEngineStatus      = null;
     private List<String>           governanceRequestTypes      = null;
+    private int                    maxConcurrentServices       = 0;
+    private int                    activeServiceCount          = 0;
+    private int                    queuedRequestCount          = 0;
 
 
     /**
@@ -57,6 +60,9 @@ public class GovernanceEngineSummary implements Serializable
             governanceEngineDescription = template.getGovernanceEngineDescription();
             governanceEngineStatus = template.getGovernanceEngineStatus();
             governanceRequestTypes = template.getGovernanceRequestTypes();
+            maxConcurrentServices = template.getMaxConcurrentServices();
+            activeServiceCount = template.getActiveServiceCount();
+            queuedRequestCount = template.getQueuedRequestCount();
         }
     }
 
@@ -224,6 +230,72 @@ public class GovernanceEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of governance services that the governance engine can run at once.
+     *
+     * @return int
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that the governance engine can run at once.
+     *
+     * @param maxConcurrentServices int
+     */
+    public void setMaxConcurrentServices(int maxConcurrentServices)
+    {
+        this.maxConcurrentServices = maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the number of governance services that were running when the summary was created.
+     *
+     * @return int
+     */
+    public int getActiveServiceCount()
+    {
+        return activeServiceCount;
+    }
+
+
+    /**
+     * Set up the number of governance services that were running when the summary was created.
+     *
+     * @param activeServiceCount int
+     */
+    public void setActiveServiceCount(int activeServiceCount)
+    {
+        this.activeServiceCount = activeServiceCount;
+    }
+
+
+    /**
+     * Return the number of requests that were waiting for a free thread when the summary was created.
+     *
+     * @return int
+     */
+    public int getQueuedRequestCount()
+    {
+        return queuedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of requests that were waiting for a free thread when the summary was created.
+     *
+     * @param queuedRequestCount int
+     */
+    public void setQueuedRequestCount(int queuedRequestCount)
+    {
+        this.queuedRequestCount = queuedRequestCount;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -240,6 +312,9 @@ public class GovernanceEngineSummary implements Serializable
                        ", governanceEngineDescription='" + governanceEngineDescription + '\'' +
                        ", governanceEngineStatus=" + governanceEngineStatus +
                        ", governanceRequestTypes=" + governanceRequestTypes +
+                       ", maxConcurrentServices=" + maxConcurrentServices +
+                       ", activeServiceCount=" + activeServiceCount +
+                       ", queuedRequestCount=" + queuedRequestCount +
                        '}';
     }
 
@@ -268,7 +343,10 @@ public class GovernanceEngineSummary implements Serializable
                        Objects.equals(governanceEngineGUID, that.governanceEngineGUID) &&
                 Objects.equals(governanceEngineDescription, that.governanceEngineDescription) &&
                 governanceEngineStatus == that.governanceEngineStatus &&
-                Objects.equals(governanceRequestTypes, that.governanceRequestTypes);
+                Objects.equals(governanceRequestTypes, that.governanceRequestTypes) &&
+                maxConcurrentServices == that.maxConcurrentServices &&
+                activeServiceCount == that.activeServiceCount &&
+                queuedRequestCount == that.queuedRequestCount;
     }
 
 
@@ -281,6 +359,7 @@ public class GovernanceEngineSummary implements Serializable
    public int hashCode()
    {
        return Objects.hash(governanceEngineName, governanceEngineTypeName, governanceEngineService,
-                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes);
+                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes,
+                           maxConcurrentServices, activeServiceCount, queuedRequestCount);
    }
 }
@@ -31,6 +31,12 @@ import java.util.*;
  */
 public abstract class GovernanceEngineHandler
 {
+    /**
+     * Name of the request parameter that sets the priority of a governance request.  Requests with a higher priority
+     * are run first when the governance engine has requests waiting for a free thread.
+     */
+    public static final String REQUEST_PRIORITY_PARAMETER = "requestPriority";
+
     protected String                 serverName;        /* Initialized in constructor */
     protected String                 serverUserId;      /* Initialized in constructor */
     protected GovernanceEngineClient serverClient;      /* Initialized in constructor */
@@ -50,7 +56,8 @@ public abstract class GovernanceEngineHandler
 
     private final GovernanceEngineConfigurationClient configurationClient;        /* Initialized in constructor */
 
-    private final GovernanceServiceCacheMap  governanceServiceLookupTable = new GovernanceServiceCacheMap();
+    private final GovernanceServiceCacheMap      governanceServiceLookupTable = new GovernanceServiceCacheMap();
+    private final GovernanceServiceExecutionPool executionPool;               /* Initialized in constructor */
 
 
     /**
@@ -87,6 +94,14 @@ public abstract class GovernanceEngineHandler
         this.serverClient = serverClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+
+        this.executionPool = new GovernanceServiceExecutionPool(serverName,
+                                                                governanceEngineName,
+                                                                engineConfig.getMaxConcurrentServices(),
+                                                                engineConfig.getMaxQueuedRequests(),
+                                                                engineConfig.getUseVirtualThreads(),
+                                                                auditLog);
+        this.executionPool.setDrainedListener(this::executeWaitingGovernanceActions);
     }
 
 
@@ -133,6 +148,10 @@ public abstract class GovernanceEngineHandler
             mySummary.setGovernanceEngineStatus(GovernanceEngineStatus.RUNNING);
         }
 
+        mySummary.setMaxConcurrentServices(executionPool.getMaxConcurrentServices());
+        mySummary.setActiveServiceCount(executionPool.getActiveCount());
+        mySummary.setQueuedRequestCount(executionPool.getQueueDepth());
+
         return mySummary;
     }
 
@@ -436,7 +455,121 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Execute the requested governance action on or after the start time.
+     * Queue a governance service handler to run on this governance engine's execution pool.  The handler is run when
+     * a thread is free, in order of the priority set in the request parameters and then the start date.  If space in the
+     * execution pool was reserved for the request identifier, the reserved space is used.
+     *
+     * @param governanceServiceHandler handler for the governance service
+     * @param requestName name of the request - used to name the thread
+     * @param requestIdentifier identifier of the request used in the error message
+     * @param startDate date/time to start the governance service
+     * @param requestParameters name-value properties supplied with the request
+     * @param methodName calling method
+     *
+     * @throws PropertyServerException the governance engine is not able to accept more work
+     */
+    protected void submitGovernanceService(Runnable            governanceServiceHandler,
+                                           String              requestName,
+                                           String              requestIdentifier,
+                                           Date                startDate,
+                                           Map<String, String> requestParameters,
+                                           String              methodName) throws PropertyServerException
+    {
+        if (! executionPool.submit(requestName, requestIdentifier, getRequestPriority(requestParameters), startDate, governanceServiceHandler))
+        {
+            throw new PropertyServerException(EngineHostServicesErrorCode.GOVERNANCE_ENGINE_BUSY.getMessageDefinition(governanceEngineName,
+                                                                                                                      serverName,
+                                                                                                                      Integer.toString(executionPool.getActiveCount()),
+                                                                                                                      Integer.toString(executionPool.getQueueDepth()),
+                                                                                                                      requestIdentifier),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+    }
+
+
+    /**
+     * Return the priority of a request from its request parameters.  The default priority is zero.
+     *
+     * @param requestParameters name-value properties supplied with the request
+     * @return priority
+     */
+    private int getRequestPriority(Map<String, String> requestParameters)
+    {
+        if (requestParameters != null)
+        {
+            String priority = requestParameters.get(REQUEST_PRIORITY_PARAMETER);
+
+            if (priority != null)
+            {
+                try
+                {
+                    return Integer.parseInt(priority.trim());
+                }
+                catch (NumberFormatException notNumeric)
+                {
+                    // ignore and use the default priority
+                }
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Look for governance actions for this governance engine that were left in APPROVED status because the execution pool was full.
+     * This is called by the execution pool once it has processed the requests that were waiting.
+     */
+    private void executeWaitingGovernanceActions()
+    {
+        final String methodName = "executeWaitingGovernanceActions";
+
+        try
+        {
+            int startFrom = 0;
+
+            while (executionPool.hasCapacity())
+            {
+                List<GovernanceActionElement> activeGovernanceActions = serverClient.getActiveGovernanceActions(serverUserId, startFrom, maxPageSize);
+
+                if ((activeGovernanceActions == null) || (activeGovernanceActions.isEmpty()))
+                {
+                    return;
+                }
+
+                for (GovernanceActionElement governanceAction : activeGovernanceActions)
+                {
+                    if ((governanceAction != null) &&
+                        (governanceAction.getElementHeader() != null) &&
+                        (governanceAction.getActionStatus() == GovernanceActionStatus.APPROVED) &&
+                        (governanceEngineGUID != null) &&
+                        (governanceEngineGUID.equals(governanceAction.getGovernanceEngineGUID())))
+                    {
+                        executeGovernanceAction(governanceAction.getElementHeader().getGUID());
+                    }
+                }
+
+                startFrom = startFrom + maxPageSize;
+            }
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                           error.getClass().getName(),
+                                                                                                           governanceEngineName,
+                                                                                                           error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Execute the requested governance action on or after the start time.  Space in the governance engine's execution pool is
+     * reserved before the governance action is claimed so a claimed governance action is always able to run.  If the execution
+     * pool is full, the governance action is left in APPROVED status and picked up once the execution pool has processed its
+     * waiting requests.
      *
      * @param governanceActionGUID unique identifier of potential governance action to run.
      */
@@ -450,17 +583,36 @@ public abstract class GovernanceEngineHandler
 
             if (latestGovernanceActionElement.getActionStatus() == GovernanceActionStatus.APPROVED)
             {
-                serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
+                if (! executionPool.reserve(governanceActionGUID))
+                {
+                    auditLog.logMessage(methodName,
+                                        EngineHostServicesAuditCode.GOVERNANCE_ACTION_WAITING.getMessageDefinition(governanceEngineName,
+                                                                                                                   governanceActionGUID));
+                    return;
+                }
+
+                try
+                {
+                    serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
 
 
-                serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
+                    serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
 
-                runGovernanceService(governanceActionGUID,
-                                     latestGovernanceActionElement.getRequestType(),
-                                     latestGovernanceActionElement.getStartTime(),
-                                     latestGovernanceActionElement.getRequestParameters(),
-                                     latestGovernanceActionElement.getRequestSourceElements(),
-                                     latestGovernanceActionElement.getActionTargetElements());
+                    runGovernanceService(governanceActionGUID,
+                                         latestGovernanceActionElement.getRequestType(),
+                                         latestGovernanceActionElement.getStartTime(),
+                                         latestGovernanceActionElement.getRequestParameters(),
+                                         latestGovernanceActionElement.getRequestSourceElements(),
+                                         latestGovernanceActionElement.getActionTargetElements());
+                }
+                finally
+                {
+                    /*
+                     * The reservation is used when the governance service is submitted - this returns it to the pool
+                     * if the governance action could not be claimed or its governance service failed to start.
+                     */
+                    executionPool.releaseReservation(governanceActionGUID);
+                }
             }
         }
         catch (Exception error)
@@ -476,7 +628,7 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Run an instance of a governance action service on the governance engine's execution pool and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param governanceRequestType governance request type to use when calling the governance engine
@@ -535,5 +687,6 @@ public abstract class GovernanceEngineHandler
         governanceEngineGUID = null;
         governanceEngineProperties = null;
         governanceServiceLookupTable.clear();
+        executionPool.shutdown();
     }
 }
@@ -0,0 +1,441 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GovernanceServiceExecutionPool runs the governance services for a single governance engine.  Each governance engine has
+ * its own pool so a burst of requests to one engine does not take the threads needed by the other engines in the engine host.
+ * The number of governance services running at once is bounded, as is the number of requests that are waiting to run.
+ * Waiting requests are run in order of priority (highest first) and then start time (earliest first).
+ * A slot in the pool can be reserved for a request before the work to prepare it starts (such as claiming a governance action)
+ * so the request is not turned away by the pool once it has been prepared.
+ * The pool optionally uses virtual threads when the Java runtime supports them.
+ */
+public class GovernanceServiceExecutionPool
+{
+    private static final long keepAliveSeconds = 60L;
+
+    private final int                maxConcurrentServices;
+    private final int                maxQueuedRequests;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong    requestSequence     = new AtomicLong(0);
+    private final AtomicInteger activeCount         = new AtomicInteger(0);
+    private final Set<String>   reservedRequests    = new HashSet<>();
+    private int                 outstandingRequests = 0;
+    private volatile boolean    requestRejected     = false;
+    private volatile Runnable   drainedListener     = null;
+
+
+    /**
+     * Create the execution pool for a governance engine.
+     *
+     * @param serverName name of the engine host server
+     * @param governanceEngineName name of the governance engine that owns the pool
+     * @param maxConcurrentServices maximum number of governance services that can run at once
+     * @param maxQueuedRequests maximum number of requests that can wait for a free thread
+     * @param useVirtualThreads run the governance services on virtual threads if the runtime supports them
+     * @param auditLog logging destination
+     */
+    public GovernanceServiceExecutionPool(String   serverName,
+                                          String   governanceEngineName,
+                                          int      maxConcurrentServices,
+                                          int      maxQueuedRequests,
+                                          boolean  useVirtualThreads,
+                                          AuditLog auditLog)
+    {
+        final String actionDescription = "Create governance service execution pool";
+
+        this.maxConcurrentServices = Math.max(maxConcurrentServices, 1);
+        this.maxQueuedRequests     = Math.max(maxQueuedRequests, 0);
+
+        ThreadFactory threadFactory = null;
+
+        if (useVirtualThreads)
+        {
+            threadFactory = getVirtualThreadFactory(governanceEngineName);
+
+            if ((threadFactory == null) && (auditLog != null))
+            {
+                auditLog.logMessage(actionDescription,
+                                    EngineHostServicesAuditCode.VIRTUAL_THREADS_NOT_SUPPORTED.getMessageDefinition(governanceEngineName,
+                                                                                                                   serverName,
+                                                                                                                   System.getProperty("java.version")));
+            }
+        }
+
+        if (threadFactory == null)
+        {
+            threadFactory = new PlatformThreadFactory(governanceEngineName);
+        }
+
+        this.executor = new ThreadPoolExecutor(this.maxConcurrentServices,
+                                               this.maxConcurrentServices,
+                                               keepAliveSeconds,
+                                               TimeUnit.SECONDS,
+                                               new PriorityBlockingQueue<>(),
+                                               threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                EngineHostServicesAuditCode.EXECUTION_POOL_CREATED.getMessageDefinition(governanceEngineName,
+                                                                                                        serverName,
+                                                                                                        Integer.toString(this.maxConcurrentServices),
+                                                                                                        Integer.toString(this.maxQueuedRequests),
+                                                                                                        Boolean.toString(threadFactory instanceof PlatformThreadFactory)));
+        }
+    }
+
+
+    /**
+     * Return a thread factory for virtual threads.  Reflection is used so the engine host can be built for
+     * Java runtimes that do not have virtual threads.
+     *
+     * @param governanceEngineName name of the governance engine used to name the threads
+     * @return thread factory or null if virtual threads are not supported
+     */
+    private static ThreadFactory getVirtualThreadFactory(String governanceEngineName)
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method   ofVirtual    = Thread.class.getMethod("ofVirtual");
+            Method   name         = builderClass.getMethod("name", String.class, long.class);
+            Method   factory      = builderClass.getMethod("factory");
+
+            Object builder = name.invoke(ofVirtual.invoke(null), governanceEngineName + "-", 0L);
+
+            return (ThreadFactory) factory.invoke(builder);
+        }
+        catch (Exception unsupported)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Register the listener that is called when the pool has worked through all of its waiting requests
+     * after at least one request was rejected because the pool was full.  This allows the governance engine
+     * to pick up the requests that were left waiting in the metadata store.
+     *
+     * @param drainedListener callback
+     */
+    public void setDrainedListener(Runnable drainedListener)
+    {
+        this.drainedListener = drainedListener;
+    }
+
+
+    /**
+     * Return whether there is space in the pool for another request.  Requests that are reserved, waiting or running
+     * all take space in the pool.
+     *
+     * @return boolean
+     */
+    public synchronized boolean hasCapacity()
+    {
+        return (! executor.isShutdown()) && (outstandingRequests < maxConcurrentServices + maxQueuedRequests);
+    }
+
+
+    /**
+     * Reserve space in the pool for a request.  The reserved space is used when the request is submitted with the same
+     * identifier, and is returned to the pool by releaseReservation if the request is not submitted.
+     *
+     * @param requestIdentifier unique identifier of the request
+     * @return boolean flag indicating whether the space was reserved (false means the pool is full or the request is
+     * already reserved)
+     */
+    public synchronized boolean reserve(String requestIdentifier)
+    {
+        if ((requestIdentifier == null) || (reservedRequests.contains(requestIdentifier)))
+        {
+            return false;
+        }
+
+        if (! hasCapacity())
+        {
+            requestRejected = true;
+            return false;
+        }
+
+        reservedRequests.add(requestIdentifier);
+        outstandingRequests++;
+
+        return true;
+    }
+
+
+    /**
+     * Return the space reserved for a request that was not submitted.  Nothing happens if the reservation has already
+     * been used.
+     *
+     * @param requestIdentifier unique identifier of the request
+     */
+    public synchronized void releaseReservation(String requestIdentifier)
+    {
+        if ((requestIdentifier != null) && (reservedRequests.remove(requestIdentifier)))
+        {
+            outstandingRequests--;
+        }
+    }
+
+
+    /**
+     * Queue a request to run a governance service.  If space was reserved for the request, the reserved space is used.
+     *
+     * @param requestName name of the request - used to name the thread while the request is running
+     * @param requestIdentifier unique identifier of the request - used to find its reservation
+     * @param priority priority of the request - higher values run first
+     * @param startTime requested start time of the request - earlier start times run first
+     * @param governanceServiceHandler handler that runs the governance service
+     * @return boolean flag indicating whether the request was accepted (false means the pool is full or stopped)
+     */
+    public synchronized boolean submit(String   requestName,
+                                       String   requestIdentifier,
+                                       int      priority,
+                                       Date     startTime,
+                                       Runnable governanceServiceHandler)
+    {
+        boolean reserved = (requestIdentifier != null) && (reservedRequests.remove(requestIdentifier));
+
+        if (executor.isShutdown())
+        {
+            if (reserved)
+            {
+                outstandingRequests--;
+            }
+
+            return false;
+        }
+
+        if (! reserved)
+        {
+            if (! hasCapacity())
+            {
+                requestRejected = true;
+                return false;
+            }
+
+            outstandingRequests++;
+        }
+
+        long startTimeValue = Long.MAX_VALUE;
+
+        if (startTime != null)
+        {
+            startTimeValue = startTime.getTime();
+        }
+
+        executor.execute(new QueuedRequest(requestName,
+                                           priority,
+                                           startTimeValue,
+                                           requestSequence.getAndIncrement(),
+                                           governanceServiceHandler));
+
+        return true;
+    }
+
+
+    /**
+     * Return the maximum number of governance services that can run at once.
+     *
+     * @return count
+     */
+    public int getMaxConcurrentServices()
+    {
+        return maxConcurrentServices;
+    }
+
+
+    /**
+     * Return the number of governance services that are running.
+     *
+     * @return count
+     */
+    public int getActiveCount()
+    {
+        return activeCount.get();
+    }
+
+
+    /**
+     * Return the number of requests that are waiting for a free thread.
+     *
+     * @return count
+     */
+    public int getQueueDepth()
+    {
+        return executor.getQueue().size();
+    }
+
+
+    /**
+     * Stop the pool.  Requests that are waiting are discarded - the running governance services are allowed to complete.
+     */
+    public synchronized void shutdown()
+    {
+        executor.shutdown();
+        executor.getQueue().clear();
+        reservedRequests.clear();
+    }
+
+
+    /**
+     * Called as each governance service completes.
+     */
+    private void requestComplete()
+    {
+        synchronized (this)
+        {
+            outstandingRequests--;
+        }
+
+        Runnable listener = drainedListener;
+
+        if ((requestRejected) && (listener != null) && (executor.getQueue().isEmpty()) && (! executor.isShutdown()))
+        {
+            requestRejected = false;
+            listener.run();
+        }
+    }
+
+
+    /**
+     * QueuedRequest wraps a governance service handler with the values used to order the waiting requests.
+     */
+    private class QueuedRequest implements Runnable, Comparable<QueuedRequest>
+    {
+        private final String   requestName;
+        private final int      priority;
+        private final long     startTime;
+        private final long     sequence;
+        private final Runnable governanceServiceHandler;
+
+
+        /**
+         * Constructor
+         *
+         * @param requestName name of the request
+         * @param priority priority of the request
+         * @param startTime requested start time in milliseconds
+         * @param sequence order the request was submitted in
+         * @param governanceServiceHandler handler that runs the governance service
+         */
+        QueuedRequest(String   requestName,
+                      int      priority,
+                      long     startTime,
+                      long     sequence,
+                      Runnable governanceServiceHandler)
+        {
+            this.requestName              = requestName;
+            this.priority                 = priority;
+            this.startTime                = startTime;
+            this.sequence                 = sequence;
+            this.governanceServiceHandler = governanceServiceHandler;
+        }
+
+
+        /**
+         * Run the governance service on the pool's thread.  The thread is named after the request while it runs.
+         */
+        @Override
+        public void run()
+        {
+            Thread currentThread = Thread.currentThread();
+            String threadName    = currentThread.getName();
+
+            activeCount.incrementAndGet();
+
+            try
+            {
+                currentThread.setName(requestName);
+                governanceServiceHandler.run();
+            }
+            finally
+            {
+                currentThread.setName(threadName);
+                activeCount.decrementAndGet();
+                requestComplete();
+            }
+        }
+
+
+        /**
+         * Order by priority (highest first), then start time (earliest first) then submission order.
+         *
+         * @param other request to compare
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(QueuedRequest other)
+        {
+            if (priority != other.priority)
+            {
+                return Integer.compare(other.priority, priority);
+            }
+
+            if (startTime != other.startTime)
+            {
+                return Long.compare(startTime, other.startTime);
+            }
+
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+
+    /**
+     * PlatformThreadFactory creates daemon platform threads named after the governance engine.
+     */
+    private static class PlatformThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+
+        /**
+         * Constructor
+         *
+         * @param governanceEngineName name of the governance engine
+         */
+        PlatformThreadFactory(String governanceEngineName)
+        {
+            this.threadNamePrefix = governanceEngineName + "-";
+        }
+
+
+        /**
+         * Create a new thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that GovernanceServiceExecutionPool bounds the requests it accepts, honours reservations and runs
+ * waiting requests in priority order.
+ */
+public class GovernanceServiceExecutionPoolTest
+{
+    private static final long waitSeconds = 10L;
+
+
+    private GovernanceServiceExecutionPool getPool(int maxConcurrentServices,
+                                                   int maxQueuedRequests)
+    {
+        return new GovernanceServiceExecutionPool("TestServer",
+                                                  "TestEngine",
+                                                  maxConcurrentServices,
+                                                  maxQueuedRequests,
+                                                  false,
+                                                  null);
+    }
+
+
+    /**
+     * Return a request that waits for the supplied latch before completing.
+     *
+     * @param started counted down when the request starts
+     * @param release latch that the request waits for
+     * @return request
+     */
+    private Runnable getBlockingRequest(CountDownLatch started,
+                                        CountDownLatch release)
+    {
+        return () ->
+        {
+            started.countDown();
+
+            try
+            {
+                release.await(waitSeconds, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+
+    @Test
+    public void testCapacity() throws Exception
+    {
+        GovernanceServiceExecutionPool pool    = getPool(1, 1);
+        CountDownLatch                 started = new CountDownLatch(1);
+        CountDownLatch                 release = new CountDownLatch(1);
+        CountDownLatch                 done    = new CountDownLatch(1);
+
+        try
+        {
+            assertTrue(pool.submit("request1", "guid1", 0, new Date(), getBlockingRequest(started, release)));
+            assertTrue(started.await(waitSeconds, TimeUnit.SECONDS));
+
+            assertTrue(pool.submit("request2", "guid2", 0, new Date(), done::countDown));
+            assertEquals(pool.getActiveCount(), 1);
+            assertEquals(pool.getQueueDepth(), 1);
+
+            /*
+             * One request is running and one is waiting so the pool is full.
+             */
+            assertFalse(pool.hasCapacity());
+            assertFalse(pool.submit("request3", "guid3", 0, new Date(), () -> {}));
+
+            release.countDown();
+            assertTrue(done.await(waitSeconds, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testReservation() throws Exception
+    {
+        GovernanceServiceExecutionPool pool = getPool(1, 0);
+        CountDownLatch                 done = new CountDownLatch(1);
+
+        try
+        {
+            assertTrue(pool.reserve("guid1"));
+
+            /*
+             * The reserved space can not be taken by another request.
+             */
+            assertFalse(pool.hasCapacity());
+            assertFalse(pool.reserve("guid1"));
+            assertFalse(pool.reserve("guid2"));
+            assertFalse(pool.submit("request2", "guid2", 0, new Date(), () -> {}));
+
+            /*
+             * The reserved request is accepted even though the pool is full.
+             */
+            assertTrue(pool.submit("request1", "guid1", 0, new Date(), done::countDown));
+            assertTrue(done.await(waitSeconds, TimeUnit.SECONDS));
+
+            /*
+             * A reservation that is not used is returned to the pool.
+             */
+            waitForCapacity(pool);
+            assertTrue(pool.reserve("guid3"));
+            assertFalse(pool.hasCapacity());
+            pool.releaseReservation("guid3");
+            assertTrue(pool.hasCapacity());
+
+            /*
+             * Releasing a reservation that has been used does not create extra space.
+             */
+            pool.releaseReservation("guid1");
+            assertTrue(pool.reserve("guid4"));
+            assertFalse(pool.hasCapacity());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testPriorityOrder() throws Exception
+    {
+        GovernanceServiceExecutionPool pool     = getPool(1, 10);
+        CountDownLatch                 started  = new CountDownLatch(1);
+        CountDownLatch                 release  = new CountDownLatch(1);
+        CountDownLatch                 done     = new CountDownLatch(4);
+        List<String>                   runOrder = Collections.synchronizedList(new ArrayList<>());
+
+        try
+        {
+            assertTrue(pool.submit("blocker", "guid0", 0, new Date(), getBlockingRequest(started, release)));
+            assertTrue(started.await(waitSeconds, TimeUnit.SECONDS));
+
+            Date earlier = new Date(1000L);
+            Date later   = new Date(2000L);
+
+            assertTrue(pool.submit("low", "guid1", 0, earlier, () -> { runOrder.add("low"); done.countDown(); }));
+            assertTrue(pool.submit("highLater", "guid2", 5, later, () -> { runOrder.add("highLater"); done.countDown(); }));
+            assertTrue(pool.submit("highEarlier", "guid3", 5, earlier, () -> { runOrder.add("highEarlier"); done.countDown(); }));
+            assertTrue(pool.submit("medium", "guid4", 1, null, () -> { runOrder.add("medium"); done.countDown(); }));
+
+            release.countDown();
+            assertTrue(done.await(waitSeconds, TimeUnit.SECONDS));
+
+            List<String> expectedOrder = new ArrayList<>();
+
+            expectedOrder.add("highEarlier");
+            expectedOrder.add("highLater");
+            expectedOrder.add("medium");
+            expectedOrder.add("low");
+
+            assertEquals(runOrder, expectedOrder);
+        }
+        finally
+        {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testDrainedListener() throws Exception
+    {
+        GovernanceServiceExecutionPool pool    = getPool(1, 0);
+        CountDownLatch                 started = new CountDownLatch(1);
+        CountDownLatch                 release = new CountDownLatch(1);
+        CountDownLatch                 drained = new CountDownLatch(1);
+
+        pool.setDrainedListener(drained::countDown);
+
+        try
+        {
+            assertTrue(pool.submit("request1", "guid1", 0, new Date(), getBlockingRequest(started, release)));
+            assertTrue(started.await(waitSeconds, TimeUnit.SECONDS));
+
+            /*
+             * The rejected reservation is remembered so the engine looks for waiting governance actions later.
+             */
+            assertFalse(pool.reserve("guid2"));
+
+            release.countDown();
+            assertTrue(drained.await(waitSeconds, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testShutdown()
+    {
+        GovernanceServiceExecutionPool pool = getPool(2, 2);
+
+        assertTrue(pool.reserve("guid1"));
+
+        pool.shutdown();
+
+        assertFalse(pool.hasCapacity());
+        assertFalse(pool.reserve("guid2"));
+        assertFalse(pool.submit("request1", "guid1", 0, new Date(), () -> {}));
+        assertFalse(pool.submit("request3", "guid3", 0, new Date(), () -> {}));
+    }
+
+
+    /**
+     * The space used by a request is returned after the request completes, so wait for it.
+     *
+     * @param pool pool to test
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitForCapacity(GovernanceServiceExecutionPool pool) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(waitSeconds);
+
+        while ((! pool.hasCapacity()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(pool.hasCapacity());
+    }
+}
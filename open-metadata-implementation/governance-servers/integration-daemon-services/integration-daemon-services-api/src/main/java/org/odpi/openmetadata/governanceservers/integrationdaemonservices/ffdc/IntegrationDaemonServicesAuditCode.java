@@ -308,9 +308,10 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
 
     DAEMON_THREAD_STARTING("INTEGRATION-DAEMON-SERVICES-0040",
                               OMRSAuditLogRecordSeverity.STARTUP,
-                              "The integration daemon thread for integration daemon {0} has started",
+                              "The integration daemon thread for integration daemon {0} has started with {1} refresh worker threads",
                               "The thread will periodically call refresh() on the integration connectors hosted in this daemon.  " +
-                                   "The time between each refresh is set up in the configuration for the integration connector.",
+                                   "The time between each refresh is set up in the configuration for the integration connector.  " +
+                                   "The refresh calls run on a pool of worker threads so a slow connector does not delay the others.",
                               "Ensure that the connector is running successfully."),
 
     DAEMON_CONNECTOR_FIRST_REFRESH("INTEGRATION-DAEMON-SERVICES-0041",
@@ -345,6 +346,14 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
                     "Use the message from the exception and knowledge of the integration connector's behavior to " +
                             "track down and resolve the cause of the error and then restart the connector.  The integration daemon thread will then continue to call the connector."),
 
+    DAEMON_CONNECTOR_REFRESH_OVERRUN("INTEGRATION-DAEMON-SERVICES-0046",
+                                     OMRSAuditLogRecordSeverity.ERROR,
+                                     "The integration connector {0} in integration daemon {1} is due to refresh but its previous refresh started {2} milliseconds ago and is still running",
+                                     "The integration daemon thread skips this refresh and schedules the next refresh once the running refresh completes.  " +
+                                             "The other integration connectors continue to be refreshed.",
+                                     "Verify that the connector is not blocked.  If the refresh processing is simply slow, increase the minimum time " +
+                                             "between refresh calls in the connector's configuration."),
+
     SERVER_NOT_AUTHORIZED("INTEGRATION-DAEMON-SERVICES-0050",
                           OMRSAuditLogRecordSeverity.SECURITY,
                           "Integration service {0} is not authorized to call its partner " +
@@ -36,6 +36,12 @@ public class IntegrationConnectorReport implements Serializable
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
     private long                       minMinutesBetweenRefresh = 0L;
+    private long                       refreshCount             = 0L;
+    private long                       refreshFailureCount      = 0L;
+    private long                       refreshOverrunCount      = 0L;
+    private long                       lastRefreshDuration      = 0L;
+    private long                       maxRefreshDuration       = 0L;
+    private long                       lastRefreshLag           = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
 
@@ -65,6 +71,12 @@ public class IntegrationConnectorReport implements Serializable
             lastStatusChange         = template.getLastStatusChange();
             lastRefreshTime          = template.getLastRefreshTime();
             minMinutesBetweenRefresh = template.getMinMinutesBetweenRefresh();
+            refreshCount             = template.getRefreshCount();
+            refreshFailureCount      = template.getRefreshFailureCount();
+            refreshOverrunCount      = template.getRefreshOverrunCount();
+            lastRefreshDuration      = template.getLastRefreshDuration();
+            maxRefreshDuration       = template.getMaxRefreshDuration();
+            lastRefreshLag           = template.getLastRefreshLag();
             failingExceptionMessage  = template.getFailingExceptionMessage();
             statistics               = template.getStatistics();
         }
@@ -298,6 +310,138 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the number of times that refresh() has been called on the connector.
+     *
+     * @return count
+     */
+    public long getRefreshCount()
+    {
+        return refreshCount;
+    }
+
+
+    /**
+     * Set up the number of times that refresh() has been called on the connector.
+     *
+     * @param refreshCount count
+     */
+    public void setRefreshCount(long refreshCount)
+    {
+        this.refreshCount = refreshCount;
+    }
+
+
+    /**
+     * Return the number of refresh calls that failed.
+     *
+     * @return count
+     */
+    public long getRefreshFailureCount()
+    {
+        return refreshFailureCount;
+    }
+
+
+    /**
+     * Set up the number of refresh calls that failed.
+     *
+     * @param refreshFailureCount count
+     */
+    public void setRefreshFailureCount(long refreshFailureCount)
+    {
+        this.refreshFailureCount = refreshFailureCount;
+    }
+
+
+    /**
+     * Return the number of times that the connector was due to refresh while its previous refresh was still running.
+     *
+     * @return count
+     */
+    public long getRefreshOverrunCount()
+    {
+        return refreshOverrunCount;
+    }
+
+
+    /**
+     * Set up the number of times that the connector was due to refresh while its previous refresh was still running.
+     *
+     * @param refreshOverrunCount count
+     */
+    public void setRefreshOverrunCount(long refreshOverrunCount)
+    {
+        this.refreshOverrunCount = refreshOverrunCount;
+    }
+
+
+    /**
+     * Return the time taken by the last refresh in milliseconds.
+     *
+     * @return duration
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the time taken by the last refresh in milliseconds.
+     *
+     * @param lastRefreshDuration duration
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the longest time taken by a refresh in milliseconds.
+     *
+     * @return duration
+     */
+    public long getMaxRefreshDuration()
+    {
+        return maxRefreshDuration;
+    }
+
+
+    /**
+     * Set up the longest time taken by a refresh in milliseconds.
+     *
+     * @param maxRefreshDuration duration
+     */
+    public void setMaxRefreshDuration(long maxRefreshDuration)
+    {
+        this.maxRefreshDuration = maxRefreshDuration;
+    }
+
+
+    /**
+     * Return the time in milliseconds between when the last scheduled refresh was due and when it started.
+     *
+     * @return lag
+     */
+    public long getLastRefreshLag()
+    {
+        return lastRefreshLag;
+    }
+
+
+    /**
+     * Set up the time in milliseconds between when the last scheduled refresh was due and when it started.
+     *
+     * @param lastRefreshLag lag
+     */
+    public void setLastRefreshLag(long lastRefreshLag)
+    {
+        this.lastRefreshLag = lastRefreshLag;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -315,6 +459,12 @@ public class IntegrationConnectorReport implements Serializable
                        ", lastStatusChange=" + lastStatusChange +
                        ", lastRefreshTime=" + lastRefreshTime +
                        ", minMinutesBetweenRefresh=" + minMinutesBetweenRefresh +
+                       ", refreshCount=" + refreshCount +
+                       ", refreshFailureCount=" + refreshFailureCount +
+                       ", refreshOverrunCount=" + refreshOverrunCount +
+                       ", lastRefreshDuration=" + lastRefreshDuration +
+                       ", maxRefreshDuration=" + maxRefreshDuration +
+                       ", lastRefreshLag=" + lastRefreshLag +
                        ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                        ", statistics=" + statistics +
                        '}';
@@ -340,6 +490,12 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minMinutesBetweenRefresh == that.minMinutesBetweenRefresh &&
+                       refreshCount == that.refreshCount &&
+                       refreshFailureCount == that.refreshFailureCount &&
+                       refreshOverrunCount == that.refreshOverrunCount &&
+                       lastRefreshDuration == that.lastRefreshDuration &&
+                       maxRefreshDuration == that.maxRefreshDuration &&
+                       lastRefreshLag == that.lastRefreshLag &&
                        Objects.equals(connectorId, that.connectorId) &&
                        Objects.equals(connectorName, that.connectorName) &&
                        Objects.equals(connection, that.connection) &&
@@ -361,6 +517,7 @@ public class IntegrationConnectorReport implements Serializable
     public int hashCode()
     {
         return Objects.hash(connectorId, connectorName, connection, connectorInstanceId, connectorStatus, lastStatusChange,
-                            lastRefreshTime, minMinutesBetweenRefresh, failingExceptionMessage, statistics);
+                            lastRefreshTime, minMinutesBetweenRefresh, refreshCount, refreshFailureCount, refreshOverrunCount,
+                            lastRefreshDuration, maxRefreshDuration, lastRefreshLag, failingExceptionMessage, statistics);
     }
 }
@@ -19,6 +19,20 @@ public class IntegrationConnectorCacheMap
 
     private final    List<String> permanentConnectorIds = new ArrayList<>();
 
+    private volatile Runnable processingListListener = null;
+
+
+    /**
+     * Register the listener that is called when a connector is added to the processing list.  This is used by the
+     * integration daemon thread to schedule the new connector's refresh without waiting.
+     *
+     * @param processingListListener callback
+     */
+    public void setProcessingListListener(Runnable processingListListener)
+    {
+        this.processingListListener = processingListListener;
+    }
+
 
     /**
      * Add a new integration connector to the map/list.  New connectors are added to the front of the list, so they get processed first in the next
@@ -28,9 +42,34 @@ public class IntegrationConnectorCacheMap
      * @param integrationConnectorHandler mapped integration connector
      * @param permanent is this connector part of the static configuration?
      */
-    public synchronized void putHandlerByConnectorId(String                      connectorId,
-                                                     IntegrationConnectorHandler integrationConnectorHandler,
-                                                     boolean                     permanent)
+    public void putHandlerByConnectorId(String                      connectorId,
+                                        IntegrationConnectorHandler integrationConnectorHandler,
+                                        boolean                     permanent)
+    {
+        this.addHandler(connectorId, integrationConnectorHandler, permanent);
+
+        /*
+         * The listener is called outside the lock on this map because it may take the integration daemon thread's lock.
+         */
+        Runnable listener = processingListListener;
+
+        if ((listener != null) && (! integrationConnectorHandler.needsDedicatedThread()))
+        {
+            listener.run();
+        }
+    }
+
+
+    /**
+     * Add a new integration connector to the map/list.
+     *
+     * @param connectorId unique identifier of the connector
+     * @param integrationConnectorHandler mapped integration connector
+     * @param permanent is this connector part of the static configuration?
+     */
+    private synchronized void addHandler(String                      connectorId,
+                                         IntegrationConnectorHandler integrationConnectorHandler,
+                                         boolean                     permanent)
     {
         integrationConnectorLookupTable.put(connectorId, integrationConnectorHandler);
 
@@ -22,6 +22,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads
 import java.io.Serializable;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -65,6 +66,17 @@ public class IntegrationConnectorHandler implements Serializable
     private String                              failingExceptionMessage             = null;
     private Date                                lastRefreshTime                     = null;
 
+    /*
+     * Refresh statistics reported through the integration connector report.  They are updated by the refresh
+     * threads and the scheduler thread and read by the threads building the report.
+     */
+    private final    AtomicLong refreshCount        = new AtomicLong();
+    private final    AtomicLong refreshFailureCount = new AtomicLong();
+    private final    AtomicLong refreshOverrunCount = new AtomicLong();
+    private volatile long       lastRefreshDuration = 0L;
+    private volatile long       maxRefreshDuration  = 0L;
+    private volatile long       lastRefreshLag      = 0L;
+
 
     /**
      * Constructor creates the integration connector and manages it state.
@@ -269,6 +281,92 @@ public class IntegrationConnectorHandler implements Serializable
     }
 
 
+    /**
+     * Return the number of times that refresh() has been called on the connector.
+     *
+     * @return count
+     */
+    long getRefreshCount()
+    {
+        return refreshCount.get();
+    }
+
+
+    /**
+     * Return the number of refresh calls that failed.
+     *
+     * @return count
+     */
+    long getRefreshFailureCount()
+    {
+        return refreshFailureCount.get();
+    }
+
+
+    /**
+     * Return the number of times that the connector was due to refresh while its previous refresh was still running.
+     *
+     * @return count
+     */
+    long getRefreshOverrunCount()
+    {
+        return refreshOverrunCount.get();
+    }
+
+
+    /**
+     * Return the time taken by the last refresh in milliseconds.
+     *
+     * @return duration
+     */
+    long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the longest time taken by a refresh in milliseconds.
+     *
+     * @return duration
+     */
+    long getMaxRefreshDuration()
+    {
+        return maxRefreshDuration;
+    }
+
+
+    /**
+     * Return the time in milliseconds between when the last scheduled refresh was due and when it started.
+     *
+     * @return lag
+     */
+    long getLastRefreshLag()
+    {
+        return lastRefreshLag;
+    }
+
+
+    /**
+     * Record the time between when a scheduled refresh was due and when it started.
+     *
+     * @param refreshLag lag in milliseconds
+     */
+    public void recordRefreshLag(long refreshLag)
+    {
+        this.lastRefreshLag = refreshLag;
+    }
+
+
+    /**
+     * Record that the connector was due to refresh while its previous refresh was still running.
+     */
+    public void recordRefreshOverrun()
+    {
+        refreshOverrunCount.incrementAndGet();
+    }
+
+
     /**
      * Return the configured minimum time between calls to refresh.  This gives an indication of when the
      * next refresh is due.  Null means refresh is only called at server start up and in response to an API request.
@@ -532,6 +630,8 @@ public class IntegrationConnectorHandler implements Serializable
             {
                 Date refreshStart = new Date();
 
+                refreshCount.incrementAndGet();
+
                 if (auditLog != null)
                 {
                     if (firstCall)
@@ -548,18 +648,33 @@ public class IntegrationConnectorHandler implements Serializable
                     }
                 }
 
-                integrationContext.startRecording();
-                integrationConnector.refresh();
-                integrationContext.publishReport();
+                try
+                {
+                    integrationContext.startRecording();
+                    integrationConnector.refresh();
+                    integrationContext.publishReport();
+                }
+                finally
+                {
+                    long refreshDuration = new Date().getTime() - refreshStart.getTime();
+
+                    /*
+                     * Only the refresh thread holding this handler's lock updates the durations.
+                     */
+                    lastRefreshDuration = refreshDuration;
+
+                    if (refreshDuration > maxRefreshDuration)
+                    {
+                        maxRefreshDuration = refreshDuration;
+                    }
+                }
 
                 if (auditLog != null)
                 {
-                    Date refreshEnd = new Date();
-
                     auditLog.logMessage(actionDescription,
                                         IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_COMPLETE.getMessageDefinition(integrationConnectorName,
                                                                                                                                   integrationDaemonName,
-                                                                                                                                  Long.toString(refreshEnd.getTime() - refreshStart.getTime())));
+                                                                                                                                  Long.toString(lastRefreshDuration)));
                 }
             }
 
@@ -567,6 +682,7 @@ public class IntegrationConnectorHandler implements Serializable
         }
         catch (Exception error)
         {
+            refreshFailureCount.incrementAndGet();
             processConnectorException(actionDescription, operationName, error);
         }
     }
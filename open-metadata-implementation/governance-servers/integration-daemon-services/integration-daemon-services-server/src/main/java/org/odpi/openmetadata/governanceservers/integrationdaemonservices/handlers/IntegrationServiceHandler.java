@@ -180,6 +180,12 @@ public class IntegrationServiceHandler
                     connectorReport.setLastStatusChange(connectorHandler.getLastStatusChange());
                     connectorReport.setLastRefreshTime(connectorHandler.getLastRefreshTime());
                     connectorReport.setMinMinutesBetweenRefresh(connectorHandler.getMinMinutesBetweenRefresh());
+                    connectorReport.setRefreshCount(connectorHandler.getRefreshCount());
+                    connectorReport.setRefreshFailureCount(connectorHandler.getRefreshFailureCount());
+                    connectorReport.setRefreshOverrunCount(connectorHandler.getRefreshOverrunCount());
+                    connectorReport.setLastRefreshDuration(connectorHandler.getLastRefreshDuration());
+                    connectorReport.setMaxRefreshDuration(connectorHandler.getMaxRefreshDuration());
+                    connectorReport.setLastRefreshLag(connectorHandler.getLastRefreshLag());
 
                     connectorReports.add(connectorReport);
                 }
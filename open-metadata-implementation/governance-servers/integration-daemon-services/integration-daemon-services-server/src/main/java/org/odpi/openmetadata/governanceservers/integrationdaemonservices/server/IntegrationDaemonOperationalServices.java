@@ -6,6 +6,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEn
 import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineEventClient;
 import org.odpi.openmetadata.accessservices.governanceengine.client.IntegrationGroupConfigurationClient;
 import org.odpi.openmetadata.accessservices.governanceengine.client.rest.GovernanceEngineRESTClient;
+import org.odpi.openmetadata.adminservices.configuration.properties.IntegrationDaemonServicesConfig;
 import org.odpi.openmetadata.adminservices.configuration.properties.IntegrationGroupConfig;
 import org.odpi.openmetadata.adminservices.configuration.properties.IntegrationServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.GovernanceServicesDescription;
@@ -43,6 +44,7 @@ public class IntegrationDaemonOperationalServices
     private final String                         localServerUserId;             /* Initialized in constructor */
     private final String                         localServerPassword;           /* Initialized in constructor */
     private final int                            maxPageSize;                   /* Initialized in constructor */
+    private final int                            refreshThreads;                /* Initialized in constructor */
 
 
     private AuditLog                        auditLog                  = null;
@@ -60,18 +62,29 @@ public class IntegrationDaemonOperationalServices
      * @param localServerUserId user id for this server to use on REST calls if processing inbound messages.
      * @param localServerPassword user password for this server to use on REST calls if processing inbound messages.
      * @param maxPageSize maximum number of records that can be requested on the pageSize parameter
+     * @param daemonConfiguration properties for the integration daemon services - null means use the defaults
      */
-    public IntegrationDaemonOperationalServices(String localServerName,
-                                                String localServerId,
-                                                String localServerUserId,
-                                                String localServerPassword,
-                                                int    maxPageSize)
+    public IntegrationDaemonOperationalServices(String                          localServerName,
+                                                String                          localServerId,
+                                                String                          localServerUserId,
+                                                String                          localServerPassword,
+                                                int                             maxPageSize,
+                                                IntegrationDaemonServicesConfig daemonConfiguration)
     {
         this.localServerName       = localServerName;
         this.localServerId         = localServerId;
         this.localServerUserId     = localServerUserId;
         this.localServerPassword   = localServerPassword;
         this.maxPageSize           = maxPageSize;
+
+        if (daemonConfiguration == null)
+        {
+            this.refreshThreads = IntegrationDaemonServicesConfig.defaultRefreshThreads;
+        }
+        else
+        {
+            this.refreshThreads = daemonConfiguration.getRefreshThreads();
+        }
     }
 
 
@@ -292,7 +305,7 @@ public class IntegrationDaemonOperationalServices
             /*
              * Create the thread that calls refresh on all the connectors.
              */
-            integrationDaemonThread = new IntegrationDaemonThread(localServerName, daemonConnectorHandlers, auditLog);
+            integrationDaemonThread = new IntegrationDaemonThread(localServerName, daemonConnectorHandlers, refreshThreads, auditLog);
             integrationDaemonThread.start();
 
             /*
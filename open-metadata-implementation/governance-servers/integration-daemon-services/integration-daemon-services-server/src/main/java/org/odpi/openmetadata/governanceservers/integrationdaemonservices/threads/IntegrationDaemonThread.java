@@ -11,24 +11,84 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ * <p>
+ * The thread keeps a queue of the connectors ordered by the time of their next refresh and sleeps until
+ * the first one is due (or a new connector is added).  The refresh calls are made on a pool of worker threads so that
+ * a slow connector does not delay the refresh of the other connectors.  A connector is only refreshed by one worker
+ * at a time - if it is due to refresh while its previous refresh is still running, the overrun is reported and
+ * the connector is rescheduled once the running refresh completes.
  */
 public class IntegrationDaemonThread implements Runnable
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
-    private final String                            integrationDaemonName;
-    private final IntegrationConnectorCacheMap      connectorHandlers;
-    private final AuditLog                          auditLog;
+    public  static final int  defaultRefreshWorkerCount = 4;
 
+    /*
+     * Maximum time the thread waits before checking the connector list for changes that were not signalled.
+     */
+    private static final long maxWaitTime = 60000L;
+
+    /*
+     * Minimum time before a connector that has not completed a refresh is retried.
+     */
+    private static final long minRetryTime = 1000L;
+
+    /*
+     * Number of milliseconds in a minute - the unit of a connector's minMinutesBetweenRefresh.
+     */
+    private static final long millisecondsPerMinute = 60000L;
+
+    private final String                       integrationDaemonName;
+    private final IntegrationConnectorCacheMap connectorHandlers;
+    private final AuditLog                     auditLog;
+    private final int                          refreshWorkerCount;
+    private final long                         refreshIntervalUnit;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Object        wakeUp  = new Object();
+
+    /*
+     * The scheduling state is only accessed under the wakeUp lock.
+     */
+    private final PriorityQueue<ScheduledRefresh>                    refreshQueue       = new PriorityQueue<>();
+    private final Map<IntegrationConnectorHandler, ScheduledRefresh> scheduledRefreshes = new IdentityHashMap<>();
+
+    private ExecutorService refreshWorkers = null;
+    private boolean         listChanged    = true;
+    private long            lastListCheck  = 0L;
+
+
+    /**
+     * Constructor provides access to the variables needed to run the connector.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param connectorHandlers wrapper for the connector.
+     * @param auditLog logging destination
+     */
+    public IntegrationDaemonThread(String                       integrationDaemonName,
+                                   IntegrationConnectorCacheMap connectorHandlers,
+                                   AuditLog                     auditLog)
+    {
+        this(integrationDaemonName, connectorHandlers, defaultRefreshWorkerCount, auditLog);
+    }
 
 
     /**
@@ -36,15 +96,49 @@ public class IntegrationDaemonThread implements Runnable
      *
      * @param integrationDaemonName name of this integration daemon server
      * @param connectorHandlers wrapper for the connector.
+     * @param refreshWorkerCount number of threads used to call refresh on the connectors
      * @param auditLog logging destination
      */
     public IntegrationDaemonThread(String                       integrationDaemonName,
                                    IntegrationConnectorCacheMap connectorHandlers,
+                                   int                          refreshWorkerCount,
                                    AuditLog                     auditLog)
+    {
+        this(integrationDaemonName, connectorHandlers, refreshWorkerCount, millisecondsPerMinute, auditLog);
+    }
+
+
+    /**
+     * Constructor that sets the length of the unit used for the connectors' minMinutesBetweenRefresh.  This allows
+     * the scheduling to be tested with refresh intervals of milliseconds rather than minutes.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param connectorHandlers wrapper for the connector.
+     * @param refreshWorkerCount number of threads used to call refresh on the connectors
+     * @param refreshIntervalUnit number of milliseconds in one unit of minMinutesBetweenRefresh
+     * @param auditLog logging destination
+     */
+    IntegrationDaemonThread(String                       integrationDaemonName,
+                            IntegrationConnectorCacheMap connectorHandlers,
+                            int                          refreshWorkerCount,
+                            long                         refreshIntervalUnit,
+                            AuditLog                     auditLog)
     {
         this.integrationDaemonName = integrationDaemonName;
+        this.refreshIntervalUnit   = refreshIntervalUnit;
         this.connectorHandlers     = connectorHandlers;
         this.auditLog              = auditLog;
+
+        if (refreshWorkerCount > 0)
+        {
+            this.refreshWorkerCount = refreshWorkerCount;
+        }
+        else
+        {
+            this.refreshWorkerCount = defaultRefreshWorkerCount;
+        }
+
+        connectorHandlers.setProcessingListListener(this::connectorListChanged);
     }
 
 
@@ -66,6 +160,24 @@ public class IntegrationDaemonThread implements Runnable
     public void stop()
     {
         running.set(false);
+
+        synchronized (wakeUp)
+        {
+            wakeUp.notifyAll();
+        }
+    }
+
+
+    /**
+     * Called when a connector is added to the processing list so that it is scheduled without delay.
+     */
+    private void connectorListChanged()
+    {
+        synchronized (wakeUp)
+        {
+            listChanged = true;
+            wakeUp.notifyAll();
+        }
     }
 
 
@@ -80,76 +192,341 @@ public class IntegrationDaemonThread implements Runnable
         running.set(true);
 
         auditLog.logMessage(actionDescription,
-                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName));
+                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName,
+                                                                                                           Integer.toString(refreshWorkerCount)));
+
+        refreshWorkers = Executors.newFixedThreadPool(refreshWorkerCount, new RefreshWorkerThreadFactory());
 
-        while (running.get())
+        try
         {
-            Date now = new Date();
+            synchronized (wakeUp)
+            {
+                while (running.get())
+                {
+                    long now = System.currentTimeMillis();
+
+                    if ((listChanged) || (now - lastListCheck >= maxWaitTime))
+                    {
+                        this.synchronizeConnectorList(now);
+                    }
+
+                    this.dispatchDueRefreshes(actionDescription, now);
+
+                    long waitTime = maxWaitTime - (now - lastListCheck);
+
+                    ScheduledRefresh nextRefresh = refreshQueue.peek();
 
-            List<IntegrationConnectorHandler> integrationConnectorHandlers = connectorHandlers.getIntegrationConnectorProcessingList();
+                    if (nextRefresh != null)
+                    {
+                        waitTime = Math.min(waitTime, nextRefresh.nextRefreshTime - now);
+                    }
 
-            if (integrationConnectorHandlers != null)
+                    if ((waitTime > 0) && (running.get()) && (! listChanged))
+                    {
+                        try
+                        {
+                            wakeUp.wait(waitTime);
+                        }
+                        catch (InterruptedException error)
+                        {
+                            log.error("Ignored exception from wait - probably ok", error);
+                        }
+                    }
+                }
+            }
+        }
+        finally
+        {
+            refreshWorkers.shutdown();
+        }
+
+        auditLog.logMessage(actionDescription,
+                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
+    }
+
+
+    /**
+     * Make sure the schedule contains the connectors in the processing list and no others.
+     *
+     * @param now current time
+     */
+    private void synchronizeConnectorList(long now)
+    {
+        listChanged   = false;
+        lastListCheck = now;
+
+        Set<IntegrationConnectorHandler>  currentHandlers              = new HashSet<>();
+        List<IntegrationConnectorHandler> integrationConnectorHandlers = connectorHandlers.getIntegrationConnectorProcessingList();
+
+        if (integrationConnectorHandlers != null)
+        {
+            for (IntegrationConnectorHandler connectorHandler : integrationConnectorHandlers)
             {
-                for (IntegrationConnectorHandler connectorHandler : connectorHandlers.getIntegrationConnectorProcessingList())
+                if (connectorHandler != null)
                 {
-                    if (connectorHandler != null)
+                    currentHandlers.add(connectorHandler);
+
+                    if (! scheduledRefreshes.containsKey(connectorHandler))
                     {
-                        if (((connectorHandler.getStartDate() == null) || now.after(connectorHandler.getStartDate())) &&
-                            ((connectorHandler.getStopDate() == null)  || now.before(connectorHandler.getStopDate())))
+                        ScheduledRefresh scheduledRefresh = new ScheduledRefresh(connectorHandler);
+
+                        scheduledRefresh.nextRefreshTime = this.getNextRefreshTime(connectorHandler, now);
+                        scheduledRefreshes.put(connectorHandler, scheduledRefresh);
+
+                        if (scheduledRefresh.nextRefreshTime != Long.MAX_VALUE)
                         {
-                            try
-                            {
-                                if (connectorHandler.getLastRefreshTime() == null)
-                                {
-                                    connectorHandler.refreshConnector(actionDescription, true);
-                                }
-                                else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
-                                {
-                                    long nextRefreshTime =
-                                            connectorHandler.getLastRefreshTime().getTime() +
-                                                    (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
-
-                                    if (nextRefreshTime < now.getTime())
-                                    {
-                                        connectorHandler.refreshConnector(actionDescription, false);
-                                    }
-                                }
-                            }
-                            catch (Exception error)
-                            {
-                                auditLog.logMessage(actionDescription,
-                                                    IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
-                                                                                                                                          error.getClass().getName(),
-                                                                                                                                          error.getMessage()));
-                            }
+                            refreshQueue.add(scheduledRefresh);
                         }
                     }
                 }
             }
+        }
 
-            waitToRetry();
+        scheduledRefreshes.keySet().removeIf(connectorHandler -> ! currentHandlers.contains(connectorHandler));
+        refreshQueue.removeIf(scheduledRefresh -> ! currentHandlers.contains(scheduledRefresh.connectorHandler));
+
+        /*
+         * Connectors that are not in the queue (for example because they have no periodic refresh) may have
+         * been refreshed or reconfigured through the REST API, so recalculate their schedule.
+         */
+        for (ScheduledRefresh scheduledRefresh : scheduledRefreshes.values())
+        {
+            if ((! scheduledRefresh.inProgress) && (! refreshQueue.contains(scheduledRefresh)))
+            {
+                scheduledRefresh.nextRefreshTime = this.getNextRefreshTime(scheduledRefresh.connectorHandler, now);
+
+                if (scheduledRefresh.nextRefreshTime != Long.MAX_VALUE)
+                {
+                    refreshQueue.add(scheduledRefresh);
+                }
+            }
         }
+    }
 
-        auditLog.logMessage(actionDescription,
-                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
 
+    /**
+     * Pass the connectors that are due to refresh to the worker threads.
+     *
+     * @param actionDescription calling activity
+     * @param now current time
+     */
+    private void dispatchDueRefreshes(String actionDescription,
+                                      long   now)
+    {
+        while ((! refreshQueue.isEmpty()) && (refreshQueue.peek().nextRefreshTime <= now))
+        {
+            ScheduledRefresh scheduledRefresh = refreshQueue.poll();
+            long             dueTime          = scheduledRefresh.nextRefreshTime;
+
+            /*
+             * The connector may have been refreshed through the REST API or had its configuration changed
+             * since it was queued.
+             */
+            long nextRefreshTime = this.getNextRefreshTime(scheduledRefresh.connectorHandler, now);
+
+            if (nextRefreshTime > now)
+            {
+                scheduledRefresh.nextRefreshTime = nextRefreshTime;
+
+                if (nextRefreshTime != Long.MAX_VALUE)
+                {
+                    refreshQueue.add(scheduledRefresh);
+                }
+            }
+            else if (scheduledRefresh.inProgress)
+            {
+                /*
+                 * The connector is rescheduled when the running refresh completes.
+                 */
+                scheduledRefresh.connectorHandler.recordRefreshOverrun();
+
+                auditLog.logMessage(actionDescription,
+                                    IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_OVERRUN.getMessageDefinition(scheduledRefresh.connectorHandler.getIntegrationConnectorName(),
+                                                                                                                             integrationDaemonName,
+                                                                                                                             Long.toString(now - scheduledRefresh.refreshStartTime)));
+            }
+            else
+            {
+                scheduledRefresh.inProgress       = true;
+                scheduledRefresh.refreshStartTime = now;
+                scheduledRefresh.connectorHandler.recordRefreshLag(Math.max(now - dueTime, 0L));
+
+                try
+                {
+                    refreshWorkers.execute(() -> this.refreshConnector(actionDescription, scheduledRefresh));
+
+                    /*
+                     * Queue the connector for the time its next refresh is due so that an overrun can be detected.
+                     * The worker reschedules the connector when the refresh completes.
+                     */
+                    long minMinutesBetweenRefresh = scheduledRefresh.connectorHandler.getMinMinutesBetweenRefresh();
+
+                    if (minMinutesBetweenRefresh > 0)
+                    {
+                        scheduledRefresh.nextRefreshTime = now + (minMinutesBetweenRefresh * refreshIntervalUnit);
+                        refreshQueue.add(scheduledRefresh);
+                    }
+                }
+                catch (RejectedExecutionException error)
+                {
+                    scheduledRefresh.inProgress = false;
+                }
+            }
+        }
     }
 
 
     /**
-     * Wait before retrying ...
+     * Call refresh on a connector.  This runs on a worker thread.
+     *
+     * @param actionDescription calling activity
+     * @param scheduledRefresh connector to refresh
      */
-    private void waitToRetry()
+    private void refreshConnector(String           actionDescription,
+                                  ScheduledRefresh scheduledRefresh)
     {
-        final int  sleepTime = 1000;
+        IntegrationConnectorHandler connectorHandler = scheduledRefresh.connectorHandler;
 
         try
         {
-            Thread.sleep(sleepTime);
+            connectorHandler.refreshConnector(actionDescription, connectorHandler.getLastRefreshTime() == null);
         }
         catch (Exception error)
         {
-            log.error("Ignored exception from sleep - probably ok", error);
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
+                                                                                                                      error.getClass().getName(),
+                                                                                                                      error.getMessage()));
+        }
+        finally
+        {
+            synchronized (wakeUp)
+            {
+                scheduledRefresh.inProgress = false;
+
+                if (scheduledRefreshes.get(connectorHandler) == scheduledRefresh)
+                {
+                    long now = System.currentTimeMillis();
+
+                    refreshQueue.remove(scheduledRefresh);
+                    scheduledRefresh.nextRefreshTime = Math.max(this.getNextRefreshTime(connectorHandler, now), now + minRetryTime);
+
+                    if (scheduledRefresh.nextRefreshTime != Long.MAX_VALUE)
+                    {
+                        refreshQueue.add(scheduledRefresh);
+                    }
+                }
+
+                wakeUp.notifyAll();
+            }
+        }
+    }
+
+
+    /**
+     * Calculate when the connector is next due to refresh.  The connector is refreshed as soon as its start date is
+     * reached and then at the interval set in its configuration until its stop date.
+     *
+     * @param connectorHandler connector to test
+     * @param now current time
+     * @return time of next refresh or Long.MAX_VALUE if there is no refresh due
+     */
+    private long getNextRefreshTime(IntegrationConnectorHandler connectorHandler,
+                                    long                        now)
+    {
+        Date startDate       = connectorHandler.getStartDate();
+        Date stopDate        = connectorHandler.getStopDate();
+        Date lastRefreshTime = connectorHandler.getLastRefreshTime();
+
+        long nextRefreshTime;
+
+        if (lastRefreshTime == null)
+        {
+            nextRefreshTime = now;
+        }
+        else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+        {
+            nextRefreshTime = lastRefreshTime.getTime() + (connectorHandler.getMinMinutesBetweenRefresh() * refreshIntervalUnit);
+        }
+        else
+        {
+            return Long.MAX_VALUE;
+        }
+
+        if ((startDate != null) && (nextRefreshTime <= startDate.getTime()))
+        {
+            nextRefreshTime = startDate.getTime() + 1;
+        }
+
+        if ((stopDate != null) && (nextRefreshTime >= stopDate.getTime()))
+        {
+            return Long.MAX_VALUE;
+        }
+
+        return nextRefreshTime;
+    }
+
+
+    /**
+     * ScheduledRefresh records the scheduling state of a single connector.
+     */
+    private static class ScheduledRefresh implements Comparable<ScheduledRefresh>
+    {
+        private final IntegrationConnectorHandler connectorHandler;
+        private       long                        nextRefreshTime  = 0L;
+        private       long                        refreshStartTime = 0L;
+        private       boolean                     inProgress       = false;
+
+
+        /**
+         * Constructor
+         *
+         * @param connectorHandler connector to schedule
+         */
+        ScheduledRefresh(IntegrationConnectorHandler connectorHandler)
+        {
+            this.connectorHandler = connectorHandler;
+        }
+
+
+        /**
+         * Order by the time of the next refresh.
+         *
+         * @param other scheduled refresh to compare
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(ScheduledRefresh other)
+        {
+            return Long.compare(nextRefreshTime, other.nextRefreshTime);
+        }
+    }
+
+
+    /**
+     * RefreshWorkerThreadFactory names the refresh worker threads after the integration daemon.
+     */
+    private class RefreshWorkerThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            final String threadName = "::IntegrationDaemonRefreshWorker::";
+
+            Thread thread = new Thread(runnable, integrationDaemonName + threadName + threadCount.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
         }
     }
 }
@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.integration.contextmanager.PermittedSynchronization;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MockIntegrationConnectorHandler replaces the integration connector with a refresh() that records how it was
+ * called by the integration daemon thread.  Its refresh can be held until the test releases it.
+ */
+public class MockIntegrationConnectorHandler extends IntegrationConnectorHandler
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final long waitSeconds = 10L;
+
+    private final AtomicInteger refreshCalls        = new AtomicInteger(0);
+    private final AtomicInteger firstCalls          = new AtomicInteger(0);
+    private final AtomicInteger activeRefreshes     = new AtomicInteger(0);
+    private final AtomicInteger maxActiveRefreshes  = new AtomicInteger(0);
+    private final Semaphore     refreshesStarted    = new Semaphore(0);
+    private final Semaphore     refreshesCompleted  = new Semaphore(0);
+
+    private volatile CountDownLatch refreshRelease  = null;
+    private volatile Date           lastRefreshTime = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param connectorName name of the connector
+     * @param minMinutesBetweenRefresh minimum number of minutes (or test time units) between each refresh
+     * @param auditLog logging destination
+     */
+    public MockIntegrationConnectorHandler(String   connectorName,
+                                           long     minMinutesBetweenRefresh,
+                                           AuditLog auditLog)
+    {
+        super(connectorName,
+              null,
+              connectorName,
+              "testUser",
+              null,
+              null,
+              minMinutesBetweenRefresh,
+              null,
+              null,
+              false,
+              PermittedSynchronization.BOTH_DIRECTIONS,
+              false,
+              "Test Integration Service",
+              "TestDaemon",
+              null,
+              auditLog);
+    }
+
+
+    /**
+     * There is no real connector to create.
+     *
+     * @param actionDescription description of caller's operation
+     */
+    @Override
+    public synchronized void reinitializeConnector(String actionDescription)
+    {
+    }
+
+
+    /**
+     * Record the call and wait until the test releases the refresh.  This method is deliberately not synchronized
+     * so that overlapping calls from the integration daemon thread are detected.
+     *
+     * @param actionDescription external caller's activity
+     * @param firstCall is this the first call to refresh?
+     */
+    @Override
+    public void refreshConnector(String  actionDescription,
+                                 boolean firstCall)
+    {
+        int active = activeRefreshes.incrementAndGet();
+
+        maxActiveRefreshes.accumulateAndGet(active, Math::max);
+        refreshCalls.incrementAndGet();
+
+        if (firstCall)
+        {
+            firstCalls.incrementAndGet();
+        }
+
+        refreshesStarted.release();
+
+        try
+        {
+            CountDownLatch release = refreshRelease;
+
+            if (release != null)
+            {
+                release.await(waitSeconds, TimeUnit.SECONDS);
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            lastRefreshTime = new Date();
+            activeRefreshes.decrementAndGet();
+            refreshesCompleted.release();
+        }
+    }
+
+
+    /**
+     * Return the time that the mock refresh last completed.
+     *
+     * @return timestamp
+     */
+    @Override
+    public Date getLastRefreshTime()
+    {
+        return lastRefreshTime;
+    }
+
+
+    /**
+     * Hold each refresh until the latch is counted down.  Null means refresh completes immediately.
+     *
+     * @param refreshRelease latch
+     */
+    public void setRefreshRelease(CountDownLatch refreshRelease)
+    {
+        this.refreshRelease = refreshRelease;
+    }
+
+
+    /**
+     * Wait for the requested number of refreshes to start.
+     *
+     * @param count number of refreshes
+     * @return true if they started in time
+     * @throws InterruptedException interrupted
+     */
+    public boolean awaitRefreshesStarted(int count) throws InterruptedException
+    {
+        return refreshesStarted.tryAcquire(count, waitSeconds, TimeUnit.SECONDS);
+    }
+
+
+    /**
+     * Wait for the requested number of refreshes to complete.
+     *
+     * @param count number of refreshes
+     * @return true if they completed in time
+     * @throws InterruptedException interrupted
+     */
+    public boolean awaitRefreshesCompleted(int count) throws InterruptedException
+    {
+        return refreshesCompleted.tryAcquire(count, waitSeconds, TimeUnit.SECONDS);
+    }
+
+
+    /**
+     * Return the number of calls to refresh.
+     *
+     * @return count
+     */
+    public int getRefreshCalls()
+    {
+        return refreshCalls.get();
+    }
+
+
+    /**
+     * Return the number of calls to refresh that were flagged as the first call.
+     *
+     * @return count
+     */
+    public int getFirstCalls()
+    {
+        return firstCalls.get();
+    }
+
+
+    /**
+     * Return the largest number of refresh calls that were running at the same time.
+     *
+     * @return count
+     */
+    public int getMaxActiveRefreshes()
+    {
+        return maxActiveRefreshes.get();
+    }
+
+
+    /**
+     * Return the number of overruns recorded by the integration daemon thread.
+     *
+     * @return count
+     */
+    public long getOverrunCount()
+    {
+        return getRefreshOverrunCount();
+    }
+}
@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorCacheMap;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.MockIntegrationConnectorHandler;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that IntegrationDaemonThread refreshes each connector on its schedule, that a slow connector does not
+ * delay the others, and that a connector that is due while its previous refresh is still running is reported as an
+ * overrun rather than refreshed a second time.
+ */
+public class IntegrationDaemonThreadTest
+{
+    /*
+     * Each unit of minMinutesBetweenRefresh is 100 milliseconds in these tests.
+     */
+    private static final long refreshIntervalUnit = 100L;
+    private static final long waitTime            = 10000L;
+
+    private final AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+
+
+    /**
+     * Create and start an integration daemon thread for the connectors.
+     *
+     * @param refreshWorkerCount number of refresh threads
+     * @param connectorHandlers connectors to run
+     * @return running thread
+     */
+    private IntegrationDaemonThread startThread(int                                refreshWorkerCount,
+                                                MockIntegrationConnectorHandler... connectorHandlers)
+    {
+        IntegrationConnectorCacheMap cacheMap = new IntegrationConnectorCacheMap();
+
+        for (MockIntegrationConnectorHandler connectorHandler : connectorHandlers)
+        {
+            cacheMap.putHandlerByConnectorId(connectorHandler.getIntegrationConnectorId(), connectorHandler, true);
+        }
+
+        IntegrationDaemonThread thread = new IntegrationDaemonThread("TestDaemon",
+                                                                     cacheMap,
+                                                                     refreshWorkerCount,
+                                                                     refreshIntervalUnit,
+                                                                     auditLog);
+
+        thread.start();
+
+        return thread;
+    }
+
+
+    /**
+     * Wait until the connector has recorded an overrun.
+     *
+     * @param connectorHandler connector to check
+     * @return true if an overrun was recorded in time
+     * @throws InterruptedException interrupted
+     */
+    private boolean awaitOverrun(MockIntegrationConnectorHandler connectorHandler) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + waitTime;
+
+        while (System.currentTimeMillis() < deadline)
+        {
+            if (connectorHandler.getOverrunCount() > 0)
+            {
+                return true;
+            }
+
+            Thread.sleep(10);
+        }
+
+        return false;
+    }
+
+
+    @Test
+    public void testPeriodicRefresh() throws Exception
+    {
+        MockIntegrationConnectorHandler periodicConnector = new MockIntegrationConnectorHandler("Periodic", 1, auditLog);
+        MockIntegrationConnectorHandler startupConnector  = new MockIntegrationConnectorHandler("Startup", 0, auditLog);
+
+        IntegrationDaemonThread thread = startThread(2, periodicConnector, startupConnector);
+
+        try
+        {
+            assertTrue(periodicConnector.awaitRefreshesCompleted(3));
+            assertTrue(startupConnector.awaitRefreshesCompleted(1));
+
+            /*
+             * A connector with no refresh interval is only refreshed when it starts.
+             */
+            assertEquals(startupConnector.getRefreshCalls(), 1);
+            assertEquals(startupConnector.getFirstCalls(), 1);
+            assertEquals(periodicConnector.getFirstCalls(), 1);
+        }
+        finally
+        {
+            thread.stop();
+        }
+
+        /*
+         * A refresh that was already dispatched may still complete, but no more are started.
+         */
+        Thread.sleep(500);
+
+        int refreshCalls = periodicConnector.getRefreshCalls();
+
+        Thread.sleep(1500);
+
+        assertEquals(periodicConnector.getRefreshCalls(), refreshCalls);
+    }
+
+
+    @Test
+    public void testNewConnector() throws Exception
+    {
+        MockIntegrationConnectorHandler startupConnector = new MockIntegrationConnectorHandler("Startup", 0, auditLog);
+        IntegrationConnectorCacheMap    cacheMap         = new IntegrationConnectorCacheMap();
+
+        cacheMap.putHandlerByConnectorId(startupConnector.getIntegrationConnectorId(), startupConnector, true);
+
+        IntegrationDaemonThread thread = new IntegrationDaemonThread("TestDaemon", cacheMap, 1, refreshIntervalUnit, auditLog);
+
+        thread.start();
+
+        try
+        {
+            assertTrue(startupConnector.awaitRefreshesCompleted(1));
+
+            /*
+             * The thread is now waiting for its periodic check of the connector list so the new connector is only
+             * refreshed within the test's wait time if adding it wakes the thread.
+             */
+            MockIntegrationConnectorHandler newConnector = new MockIntegrationConnectorHandler("New", 0, auditLog);
+
+            cacheMap.putHandlerByConnectorId(newConnector.getIntegrationConnectorId(), newConnector, false);
+
+            assertTrue(newConnector.awaitRefreshesCompleted(1));
+            assertEquals(startupConnector.getRefreshCalls(), 1);
+        }
+        finally
+        {
+            thread.stop();
+        }
+    }
+
+
+    @Test
+    public void testSlowConnector() throws Exception
+    {
+        MockIntegrationConnectorHandler slowConnector = new MockIntegrationConnectorHandler("Slow", 0, auditLog);
+        MockIntegrationConnectorHandler fastConnector = new MockIntegrationConnectorHandler("Fast", 1, auditLog);
+        CountDownLatch                  release       = new CountDownLatch(1);
+
+        slowConnector.setRefreshRelease(release);
+
+        IntegrationDaemonThread thread = startThread(2, slowConnector, fastConnector);
+
+        try
+        {
+            assertTrue(slowConnector.awaitRefreshesStarted(1));
+
+            /*
+             * The fast connector keeps refreshing on the other worker while the slow connector is blocked.
+             */
+            assertTrue(fastConnector.awaitRefreshesCompleted(2));
+            assertEquals(slowConnector.getRefreshCalls(), 1);
+        }
+        finally
+        {
+            release.countDown();
+            thread.stop();
+        }
+
+        assertTrue(slowConnector.awaitRefreshesCompleted(1));
+    }
+
+
+    @Test
+    public void testOverrun() throws Exception
+    {
+        MockIntegrationConnectorHandler overrunConnector = new MockIntegrationConnectorHandler("Overrun", 1, auditLog);
+        CountDownLatch                  release          = new CountDownLatch(1);
+
+        overrunConnector.setRefreshRelease(release);
+
+        IntegrationDaemonThread thread = startThread(2, overrunConnector);
+
+        try
+        {
+            assertTrue(overrunConnector.awaitRefreshesStarted(1));
+
+            /*
+             * The next refresh is due after one interval but the first is still running, so it is reported rather
+             * than started on the second worker.
+             */
+            assertTrue(awaitOverrun(overrunConnector));
+            assertEquals(overrunConnector.getRefreshCalls(), 1);
+
+            overrunConnector.setRefreshRelease(null);
+            release.countDown();
+
+            /*
+             * Once the running refresh completes, the connector is rescheduled.
+             */
+            assertTrue(overrunConnector.awaitRefreshesCompleted(2));
+            assertEquals(overrunConnector.getMaxActiveRefreshes(), 1);
+        }
+        finally
+        {
+            release.countDown();
+            thread.stop();
+        }
+    }
+}
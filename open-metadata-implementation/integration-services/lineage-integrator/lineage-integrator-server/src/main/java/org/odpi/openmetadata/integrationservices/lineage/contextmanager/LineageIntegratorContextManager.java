@@ -3,8 +3,6 @@
 
 package org.odpi.openmetadata.integrationservices.lineage.contextmanager;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.accessservices.assetmanager.client.*;
 import org.odpi.openmetadata.accessservices.assetmanager.client.exchange.DataAssetExchangeClient;
@@ -28,6 +26,7 @@ import org.odpi.openmetadata.integrationservices.lineage.connector.OpenLineageLi
 import org.odpi.openmetadata.integrationservices.lineage.ffdc.LineageIntegratorAuditCode;
 import org.odpi.openmetadata.integrationservices.lineage.ffdc.LineageIntegratorErrorCode;
 import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageRunEvent;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -45,9 +44,7 @@ public class LineageIntegratorContextManager extends IntegrationContextManager i
     private LineageExchangeClient      lineageExchangeClient;
     private GovernanceExchangeClient   governanceExchangeClient;
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
+    private static final ObjectWriter OBJECT_WRITER = OMRSJSONCodec.getWriter();
     private final List<OpenLineageEventListener> registeredEventListeners = new ArrayList<>();
 
 
@@ -280,7 +277,7 @@ public class LineageIntegratorContextManager extends IntegrationContextManager i
         {
             try
             {
-                event = OBJECT_READER.readValue(rawEvent, OpenLineageRunEvent.class);
+                event = OMRSJSONCodec.readValue(rawEvent, OpenLineageRunEvent.class);
             }
             catch (Exception error)
             {
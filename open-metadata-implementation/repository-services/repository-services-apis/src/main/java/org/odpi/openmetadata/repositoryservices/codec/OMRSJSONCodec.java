@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSJSONCodec provides the JSON encoding shared by the events, audit log records and REST payloads of the
+ * open metadata repository services and the access services.  There is a single ObjectMapper so the serializers
+ * and deserializers that Jackson builds for each class are created once for the platform.  The mapper has the
+ * default Jackson settings, so the JSON it produces is unchanged, and it uses the Blackbird module so that
+ * properties are read and written through generated accessors rather than reflection.
+ * <p>
+ * The readers and writers returned are immutable and may be shared between threads.  The readers for the
+ * InstancePropertyValue hierarchy and the repository services event bean are created when the class is loaded
+ * so that their subtypes are resolved before the first event arrives.
+ * </p>
+ */
+public class OMRSJSONCodec
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(getAccessorModule());
+    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
+    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+
+    private static final Map<Class<?>, ObjectReader> typedReaders = new ConcurrentHashMap<>();
+
+    static
+    {
+        getReader(InstancePropertyValue.class);
+        getReader(InstanceProperties.class);
+        getReader(OMRSEventBean.class);
+    }
+
+
+    /**
+     * Private constructor - all methods are static.
+     */
+    private OMRSJSONCodec()
+    {
+    }
+
+
+    /**
+     * Return the Jackson module that replaces reflection with generated accessors.  This is used by the
+     * platform to tune the object mapper of the REST APIs in the same way as this codec.
+     *
+     * @return jackson module
+     */
+    public static Module getAccessorModule()
+    {
+        return new BlackbirdModule();
+    }
+
+
+    /**
+     * Return a reader where the class of the value is supplied on each call.
+     *
+     * @return thread-safe reader
+     */
+    public static ObjectReader getReader()
+    {
+        return OBJECT_READER;
+    }
+
+
+    /**
+     * Return a reader for a specific class.  The deserializer for the class is located once and the reader is
+     * reused for later calls.
+     *
+     * @param valueClass class of the values to read
+     * @return thread-safe reader
+     */
+    public static ObjectReader getReader(Class<?> valueClass)
+    {
+        return typedReaders.computeIfAbsent(valueClass, OBJECT_MAPPER::readerFor);
+    }
+
+
+    /**
+     * Return a writer.  Values are written using their runtime class.
+     *
+     * @return thread-safe writer
+     */
+    public static ObjectWriter getWriter()
+    {
+        return OBJECT_WRITER;
+    }
+
+
+    /**
+     * Encode a value as a JSON string.
+     *
+     * @param value value to encode
+     * @return JSON string
+     * @throws JsonProcessingException the value can not be encoded
+     */
+    public static String writeValueAsString(Object value) throws JsonProcessingException
+    {
+        return OBJECT_WRITER.writeValueAsString(value);
+    }
+
+
+    /**
+     * Encode a value as UTF-8 JSON bytes without building an intermediate string.
+     *
+     * @param value value to encode
+     * @return JSON bytes
+     * @throws JsonProcessingException the value can not be encoded
+     */
+    public static byte[] writeValueAsBytes(Object value) throws JsonProcessingException
+    {
+        return OBJECT_WRITER.writeValueAsBytes(value);
+    }
+
+
+    /**
+     * Decode a JSON string.
+     *
+     * @param content JSON string
+     * @param valueClass class of the value
+     * @param <T> class of the value
+     * @return decoded value
+     * @throws JsonProcessingException the content does not match the class
+     */
+    public static <T> T readValue(String   content,
+                                  Class<T> valueClass) throws JsonProcessingException
+    {
+        return getReader(valueClass).readValue(content);
+    }
+
+
+    /**
+     * Decode a JSON string into a generic type such as a map.
+     *
+     * @param content JSON string
+     * @param valueType type of the value
+     * @param <T> type of the value
+     * @return decoded value
+     * @throws JsonProcessingException the content does not match the type
+     */
+    public static <T> T readValue(String           content,
+                                  TypeReference<T> valueType) throws JsonProcessingException
+    {
+        return OBJECT_READER.forType(valueType).readValue(content);
+    }
+
+
+    /**
+     * Decode UTF-8 JSON bytes without building an intermediate string.
+     *
+     * @param content JSON bytes
+     * @param valueClass class of the value
+     * @param <T> class of the value
+     * @return decoded value
+     * @throws IOException the content does not match the class
+     */
+    public static <T> T readValue(byte[]   content,
+                                  Class<T> valueClass) throws IOException
+    {
+        return getReader(valueClass).readValue(content);
+    }
+}
@@ -3,11 +3,10 @@
 
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 
 import java.util.List;
 
@@ -22,7 +21,6 @@ public abstract class OpenMetadataTopicListenerConnectorBase extends OpenMetadat
                                                                                                               VirtualConnectorExtension
 {
 
-    private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
 
     /**
      * Set up the list of connectors that this virtual connector will use to support its interface.
@@ -76,7 +74,7 @@ public abstract class OpenMetadataTopicListenerConnectorBase extends OpenMetadat
          * Parse the string (JSON) event into a bean.
          */
 
-        return OBJECT_READER.readValue(event, eventClass);
+        return OMRSJSONCodec.readValue(event, eventClass);
     }
 
 
@@ -3,21 +3,128 @@
 
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * OpenMetadataTopicConnectorBase is a base class to topic connectors that only send
- * events on the embedded event bus connector
+ * events on the embedded event bus connector.
+ *
+ * Events are passed to the event bus connectors on a thread owned by this connector, in the order they are sent.
+ * The caller gets back a future and only needs to wait on it if it must know that the event bus connectors have
+ * accepted the event.  When the outbound queue is full, the caller waits for space.
  */
 public class OpenMetadataTopicSenderConnectorBase extends OpenMetadataTopicConsumerBase
 {
     /**
-     * Send the request to the embedded event bus connector(s).
+     * Name of the configuration property that sets the number of events that may be waiting to be passed to the
+     * event bus connectors.
+     */
+    public static final String OUTBOUND_QUEUE_SIZE_PROPERTY = "outboundQueueSize";
+    public static final int    DEFAULT_OUTBOUND_QUEUE_SIZE  = 1000;
+
+    private static final long  SHUTDOWN_TIMEOUT = 10; // seconds
+
+    /**
+     * Thread-safe writer shared by all connectors for serializing their events.
+     */
+    private static final ObjectWriter OBJECT_WRITER = OMRSJSONCodec.getWriter();
+
+    private int                outboundQueueSize = DEFAULT_OUTBOUND_QUEUE_SIZE;
+    private ThreadPoolExecutor outboundExecutor  = null;
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.  The size of the outbound
+     * queue is validated here so that a bad value is reported when the server starts rather than on the first event.
+     *
+     * @throws ConnectorCheckedException the outbound queue size is invalid or there is a problem with the
+     * embedded event bus connector(s).
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        final String methodName = "start";
+
+        if ((super.connectionProperties != null) && (super.connectionProperties.getConfigurationProperties() != null))
+        {
+            Object queueSizeOption = super.connectionProperties.getConfigurationProperties().get(OUTBOUND_QUEUE_SIZE_PROPERTY);
+
+            if (queueSizeOption != null)
+            {
+                int queueSize;
+
+                try
+                {
+                    queueSize = Integer.parseInt(queueSizeOption.toString().trim());
+                }
+                catch (NumberFormatException error)
+                {
+                    throw new ConnectorCheckedException(OMRSErrorCode.INVALID_OUTBOUND_QUEUE_SIZE.getMessageDefinition(connectionName,
+                                                                                                                       OUTBOUND_QUEUE_SIZE_PROPERTY,
+                                                                                                                       queueSizeOption.toString()),
+                                                        this.getClass().getName(),
+                                                        methodName,
+                                                        error);
+                }
+
+                if (queueSize < 1)
+                {
+                    throw new ConnectorCheckedException(OMRSErrorCode.INVALID_OUTBOUND_QUEUE_SIZE.getMessageDefinition(connectionName,
+                                                                                                                       OUTBOUND_QUEUE_SIZE_PROPERTY,
+                                                                                                                       queueSizeOption.toString()),
+                                                        this.getClass().getName(),
+                                                        methodName);
+                }
+
+                this.setOutboundQueueSize(queueSize);
+            }
+        }
+    }
+
+
+    /**
+     * Set the number of events that may be waiting to be passed to the event bus connectors.  It only takes effect
+     * if no event has been sent yet.
+     *
+     * @param outboundQueueSize positive number of events
+     */
+    private synchronized void setOutboundQueueSize(int outboundQueueSize)
+    {
+        this.outboundQueueSize = outboundQueueSize;
+    }
+
+
+    /**
+     * Serialize an event object to the string that is sent to the event bus connectors.
+     *
+     * @param event event object
+     * @return JSON string
+     * @throws JsonProcessingException the event can not be serialized
+     */
+    protected String serializeEvent(Object event) throws JsonProcessingException
+    {
+        return OBJECT_WRITER.writeValueAsString(event);
+    }
+
+
+    /**
+     * Send the request to the embedded event bus connector(s).  The event is queued and this method returns
+     * without waiting for the event bus connectors, unless the outbound queue is full.
      *
      * @param event event as a string
      * @return a completable future with the sendEvent result
@@ -44,14 +151,119 @@ public class OpenMetadataTopicSenderConnectorBase extends OpenMetadataTopicConsu
         /*
          * Each of the event bus connectors need to be passed the new event.
          */
-        return CompletableFuture.runAsync(() -> {
-            for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors) {
-                try {
-                    eventBusConnector.sendEvent(event);
-                } catch (ConnectorCheckedException e) {
-                    throw new CompletionException(e);
+        CompletableFuture<Void> future;
+
+        try
+        {
+            future = CompletableFuture.runAsync(() -> {
+                for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors) {
+                    try {
+                        eventBusConnector.sendEvent(event);
+                    } catch (ConnectorCheckedException e) {
+                        throw new CompletionException(e);
+                    }
                 }
+            }, this.getOutboundExecutor());
+        }
+        catch (RejectedExecutionException error)
+        {
+            throw new ConnectorCheckedException(OMRSErrorCode.OUTBOUND_QUEUE_CLOSED.getMessageDefinition(connectionName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+
+        future.whenComplete((result, error) -> {
+            if ((error != null) && (auditLog != null))
+            {
+                Throwable cause = (error instanceof CompletionException) && (error.getCause() != null) ? error.getCause() : error;
+
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.OUTBOUND_EVENT_NOT_SENT.getMessageDefinition(connectionName,
+                                                                                                 cause.getClass().getName(),
+                                                                                                 cause.getMessage()),
+                                      event,
+                                      cause);
             }
         });
+
+        return future;
+    }
+
+
+    /**
+     * Return the executor that passes events to the event bus connectors, creating it if needed.  It has a single
+     * thread so events keep their order.  When its queue is full, the submitting thread waits for space.
+     *
+     * @return executor
+     */
+    private synchronized ThreadPoolExecutor getOutboundExecutor()
+    {
+        if (outboundExecutor == null)
+        {
+            final String threadName = "OutboundEvents-" + connectionName;
+
+            outboundExecutor = new ThreadPoolExecutor(1,
+                                                      1,
+                                                      0L,
+                                                      TimeUnit.MILLISECONDS,
+                                                      new ArrayBlockingQueue<>(outboundQueueSize),
+                                                      runnable -> {
+                                                          Thread thread = new Thread(runnable, threadName);
+                                                          thread.setDaemon(true);
+                                                          return thread;
+                                                      },
+                                                      (runnable, executor) -> {
+                                                          if (executor.isShutdown())
+                                                          {
+                                                              throw new RejectedExecutionException(threadName + " is shut down");
+                                                          }
+
+                                                          try
+                                                          {
+                                                              executor.getQueue().put(runnable);
+                                                          }
+                                                          catch (InterruptedException interrupted)
+                                                          {
+                                                              Thread.currentThread().interrupt();
+                                                              throw new RejectedExecutionException(interrupted);
+                                                          }
+                                                      });
+        }
+
+        return outboundExecutor;
+    }
+
+
+    /**
+     * Pass the events that are already queued to the event bus connectors before disconnecting them.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        ThreadPoolExecutor executor;
+
+        synchronized (this)
+        {
+            executor = outboundExecutor;
+        }
+
+        if (executor != null)
+        {
+            executor.shutdown();
+
+            try
+            {
+                executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        super.disconnect();
     }
 }
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -28,6 +29,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceProjector;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityConflictException;
@@ -996,6 +998,77 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException;
 
+    /**
+     * Variant of findEntities that limits the content of the returned instances to the requested projection.
+     * The default implementation retrieves the complete instances and then applies the projection.  Repository
+     * connectors that are able to retrieve only the requested content may override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntities(String                userId,
+                                           String                entityTypeGUID,
+                                           List<String>          entitySubtypeGUIDs,
+                                           SearchProperties      matchProperties,
+                                           int                   fromEntityElement,
+                                           List<InstanceStatus>  limitResultsByStatus,
+                                           SearchClassifications matchClassifications,
+                                           Date                  asOfTime,
+                                           String                sequencingProperty,
+                                           SequencingOrder       sequencingOrder,
+                                           int                   pageSize,
+                                           InstanceProjection    projection) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    PagingErrorException,
+                                                                                    FunctionNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
+        return OMRSInstanceProjector.projectEntities(this.findEntities(userId,
+                                                                       entityTypeGUID,
+                                                                       entitySubtypeGUIDs,
+                                                                       matchProperties,
+                                                                       fromEntityElement,
+                                                                       limitResultsByStatus,
+                                                                       matchClassifications,
+                                                                       asOfTime,
+                                                                       sequencingProperty,
+                                                                       sequencingOrder,
+                                                                       pageSize),
+                                                     projection);
+    }
+
+
 
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
@@ -1165,6 +1238,78 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                           FunctionNotSupportedException,
                                                                                                           UserNotAuthorizedException;
 
+    /**
+     * Variant of findEntitiesByPropertyValue that limits the content of the returned instances to the requested projection.
+     * The default implementation retrieves the complete instances and then applies the projection.  Repository
+     * connectors that are able to retrieve only the requested content may override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within entity instances of the specified type(s).
+     *                       This parameter must not be null.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public List<EntityDetail> findEntitiesByPropertyValue(String               userId,
+                                                          String               entityTypeGUID,
+                                                          String               searchCriteria,
+                                                          int                  fromEntityElement,
+                                                          List<InstanceStatus> limitResultsByStatus,
+                                                          List<String>         limitResultsByClassification,
+                                                          Date                 asOfTime,
+                                                          String               sequencingProperty,
+                                                          SequencingOrder      sequencingOrder,
+                                                          int                  pageSize,
+                                                          InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        return OMRSInstanceProjector.projectEntities(this.findEntitiesByPropertyValue(userId,
+                                                                                      entityTypeGUID,
+                                                                                      searchCriteria,
+                                                                                      fromEntityElement,
+                                                                                      limitResultsByStatus,
+                                                                                      limitResultsByClassification,
+                                                                                      asOfTime,
+                                                                                      sequencingProperty,
+                                                                                      sequencingOrder,
+                                                                                      pageSize),
+                                                     projection);
+    }
+
+
 
     /**
      * Returns a relationship indicating if the relationship is stored in the metadata collection.
@@ -1315,6 +1460,76 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                      FunctionNotSupportedException,
                                                                                                      UserNotAuthorizedException;
 
+    /**
+     * Variant of findRelationships that limits the content of the returned instances to the requested projection.
+     * The default implementation retrieves the complete instances and then applies the projection.  Repository
+     * connectors that are able to retrieve only the requested content may override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    public List<Relationship> findRelationships(String               userId,
+                                                String               relationshipTypeGUID,
+                                                List<String>         relationshipSubtypeGUIDs,
+                                                SearchProperties     matchProperties,
+                                                int                  fromRelationshipElement,
+                                                List<InstanceStatus> limitResultsByStatus,
+                                                Date                 asOfTime,
+                                                String               sequencingProperty,
+                                                SequencingOrder      sequencingOrder,
+                                                int                  pageSize,
+                                                InstanceProjection   projection) throws InvalidParameterException,
+                                                                                        TypeErrorException,
+                                                                                        RepositoryErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        return OMRSInstanceProjector.projectRelationships(this.findRelationships(userId,
+                                                                                 relationshipTypeGUID,
+                                                                                 relationshipSubtypeGUIDs,
+                                                                                 matchProperties,
+                                                                                 fromRelationshipElement,
+                                                                                 limitResultsByStatus,
+                                                                                 asOfTime,
+                                                                                 sequencingProperty,
+                                                                                 sequencingOrder,
+                                                                                 pageSize),
+                                                          projection);
+    }
+
+
 
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
@@ -1422,6 +1637,74 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                                    FunctionNotSupportedException,
                                                                                                                    UserNotAuthorizedException;
 
+    /**
+     * Variant of findRelationshipsByPropertyValue that limits the content of the returned instances to the requested projection.
+     * The default implementation retrieves the complete instances and then applies the projection.  Repository
+     * connectors that are able to retrieve only the requested content may override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationship instances of the specified type(s).
+     *                       This parameter must not be null.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    public List<Relationship> findRelationshipsByPropertyValue(String               userId,
+                                                               String               relationshipTypeGUID,
+                                                               String               searchCriteria,
+                                                               int                  fromRelationshipElement,
+                                                               List<InstanceStatus> limitResultsByStatus,
+                                                               Date                 asOfTime,
+                                                               String               sequencingProperty,
+                                                               SequencingOrder      sequencingOrder,
+                                                               int                  pageSize,
+                                                               InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        return OMRSInstanceProjector.projectRelationships(this.findRelationshipsByPropertyValue(userId,
+                                                                                                relationshipTypeGUID,
+                                                                                                searchCriteria,
+                                                                                                fromRelationshipElement,
+                                                                                                limitResultsByStatus,
+                                                                                                asOfTime,
+                                                                                                sequencingProperty,
+                                                                                                sequencingOrder,
+                                                                                                pageSize),
+                                                          projection);
+    }
+
+
 
     /**
      * Return all the relationships and intermediate entities that connect the startEntity with the endEntity.
@@ -1500,6 +1783,65 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                            FunctionNotSupportedException,
                                                                                            UserNotAuthorizedException;
 
+    /**
+     * Variant of getEntityNeighborhood that limits the content of the returned instances to the requested projection.
+     * The default implementation retrieves the complete instances and then applies the projection.  Repository
+     * connectors that are able to retrieve only the requested content may override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level,
+                                               InstanceProjection   projection) throws InvalidParameterException,
+                                                                                       TypeErrorException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
+    {
+        return OMRSInstanceProjector.projectInstanceGraph(this.getEntityNeighborhood(userId,
+                                                                                     entityGUID,
+                                                                                     entityTypeGUIDs,
+                                                                                     relationshipTypeGUIDs,
+                                                                                     limitResultsByStatus,
+                                                                                     limitResultsByClassification,
+                                                                                     asOfTime,
+                                                                                     level),
+                                                          projection);
+    }
+
+
 
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
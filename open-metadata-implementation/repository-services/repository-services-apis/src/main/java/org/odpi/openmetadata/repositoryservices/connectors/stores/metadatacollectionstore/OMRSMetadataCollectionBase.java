@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchStringMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -509,7 +510,8 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (typeDefName != null)
         {
-            List<TypeDef>         matchedTypeDefs = new ArrayList<>();
+            OMRSSearchStringMatcher typeDefNameMatcher = OMRSSearchStringMatcher.getMatcher(typeDefName);
+            List<TypeDef>           matchedTypeDefs    = new ArrayList<>();
 
             if (allTypeDefs != null)
             {
@@ -517,7 +519,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (typeDefNameMatcher.matches(typeDef.getName()))
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -533,7 +535,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (typeDefNameMatcher.matches(attributeTypeDef.getName()))
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -975,13 +977,14 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (allTypes != null)
         {
-            List<TypeDef> matchedTypeDefs = new ArrayList<>();
+            OMRSSearchStringMatcher searchCriteriaMatcher = OMRSSearchStringMatcher.getMatcher(searchCriteria);
+            List<TypeDef>           matchedTypeDefs       = new ArrayList<>();
 
             for (TypeDef typeDef : allTypes)
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (searchCriteriaMatcher.matches(typeDef.getName()))
                     {
                         matchedTypeDefs.add(typeDef);
                     }
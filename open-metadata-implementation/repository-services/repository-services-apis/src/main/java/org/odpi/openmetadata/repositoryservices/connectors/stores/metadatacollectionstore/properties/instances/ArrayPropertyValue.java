@@ -69,7 +69,7 @@ public class ArrayPropertyValue extends InstancePropertyValue
      * @return string value
      */
     public String valueAsString() {
-        return mapValuesAsString(arrayValues.getInstanceProperties()).toString();
+        return mapValuesAsString(arrayValues.getInstancePropertiesView()).toString();
     }
 
 
@@ -79,7 +79,7 @@ public class ArrayPropertyValue extends InstancePropertyValue
      * @return object value
      */
     public Object valueAsObject() {
-        return mapValuesAsObject(arrayValues.getInstanceProperties());
+        return mapValuesAsObject(arrayValues.getInstancePropertiesView());
     }
 
 
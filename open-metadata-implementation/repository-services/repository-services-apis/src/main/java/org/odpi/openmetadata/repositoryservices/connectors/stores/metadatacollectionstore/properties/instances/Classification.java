@@ -144,7 +144,7 @@ public class Classification extends InstanceAuditHeader
         {
             return null;
         }
-        else if ((classificationProperties.getInstanceProperties() == null) &&
+        else if ((classificationProperties.getPropertyCount() == 0) &&
                  (classificationProperties.getEffectiveFromTime() == null) &&
                  (classificationProperties.getEffectiveToTime() == null))
         {
@@ -60,7 +60,7 @@ public class EntityDetail extends EntitySummary
         {
             return null;
         }
-        else if ((entityProperties.getInstanceProperties() == null) &&
+        else if ((entityProperties.getPropertyCount() == 0) &&
                  (entityProperties.getEffectiveFromTime() == null) &&
                  (entityProperties.getEffectiveToTime() == null))
         {
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -69,6 +70,11 @@ public class InstanceProperties extends InstanceElementHeader
     private Date                                effectiveToTime = null;
     private Map<String, InstancePropertyValue>  instanceProperties = new HashMap<>();
 
+    /*
+     * Read-only view of instanceProperties - it is created once for each map rather than on each call.
+     */
+    private transient Map<String, InstancePropertyValue> instancePropertiesView = null;
+
     public static final long CURRENT_INSTANCE_PROPERTIES_HEADER_VERSION = 1;
 
     /**
@@ -96,18 +102,8 @@ public class InstanceProperties extends InstanceElementHeader
         {
             this.effectiveFromTime = templateProperties.getEffectiveFromTime();
             this.effectiveToTime = templateProperties.getEffectiveToTime();
-            Iterator<String> propertyNames = templateProperties.getPropertyNames();
-
-            if (propertyNames != null)
-            {
-                while (propertyNames.hasNext())
-                {
-                    String                 newPropertyName  = propertyNames.next();
-                    InstancePropertyValue  newPropertyValue = templateProperties.getPropertyValue(newPropertyName);
-
-                    instanceProperties.put(newPropertyName, newPropertyValue);
-                }
-            }
+
+            instanceProperties.putAll(templateProperties.getInstancePropertiesView());
         }
     }
 
@@ -164,9 +160,10 @@ public class InstanceProperties extends InstanceElementHeader
 
 
     /**
-     * Return the instance properties as a map.
+     * Return a copy of the instance properties as a map.  Callers that only read the properties should use
+     * getPropertyValue(), getInstancePropertiesView() or forEachProperty() since they do not copy the map.
      *
-     * @return  instance properties map.
+     * @return  instance properties map or null if there are no properties.
      */
     public Map<String, InstancePropertyValue> getInstanceProperties()
     {
@@ -200,6 +197,41 @@ public class InstanceProperties extends InstanceElementHeader
         {
             this.instanceProperties = instanceProperties;
         }
+
+        this.instancePropertiesView = null;
+    }
+
+
+    /**
+     * Return a read-only view of the instance properties.  The view is not a copy - it reflects later changes
+     * to the properties.  It is empty (rather than null) if there are no properties.
+     *
+     * @return unmodifiable map of property name to value
+     */
+    @JsonIgnore
+    public Map<String, InstancePropertyValue> getInstancePropertiesView()
+    {
+        if (instancePropertiesView == null)
+        {
+            instancePropertiesView = Collections.unmodifiableMap(instanceProperties);
+        }
+
+        return instancePropertiesView;
+    }
+
+
+    /**
+     * Pass each property name and value to the supplied visitor without copying the properties.
+     * The visitor must not change the properties.
+     *
+     * @param visitor function called for each property
+     */
+    public void forEachProperty(BiConsumer<String, InstancePropertyValue> visitor)
+    {
+        if (visitor != null)
+        {
+            instanceProperties.forEach(visitor);
+        }
     }
 
 
@@ -309,7 +341,7 @@ public class InstanceProperties extends InstanceElementHeader
         InstanceProperties that = (InstanceProperties) objectToCompare;
         return Objects.equals(getEffectiveFromTime(), that.getEffectiveFromTime()) &&
                 Objects.equals(getEffectiveToTime(), that.getEffectiveToTime()) &&
-                Objects.equals(getInstanceProperties(), that.getInstanceProperties());
+                Objects.equals(instanceProperties, that.instanceProperties);
     }
 
 
@@ -322,7 +354,7 @@ public class InstanceProperties extends InstanceElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstanceProperties());
+        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), instanceProperties);
     }
 }
 
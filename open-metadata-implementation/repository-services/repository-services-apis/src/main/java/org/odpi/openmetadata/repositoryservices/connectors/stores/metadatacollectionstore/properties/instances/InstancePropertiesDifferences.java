@@ -43,46 +43,31 @@ public class InstancePropertiesDifferences extends Differences
         }
         else if (left == null)
         {
-            setOnlyOnOne(onlyOnRight, right.getInstanceProperties());
+            setOnlyOnOne(onlyOnRight, right.getInstancePropertiesView());
         }
         else if (right == null)
         {
-            setOnlyOnOne(onlyOnLeft, left.getInstanceProperties());
+            setOnlyOnOne(onlyOnLeft, left.getInstancePropertiesView());
         }
         else
         {
-            Map<String, InstancePropertyValue> propertiesLeft = left.getInstanceProperties();
-            Map<String, InstancePropertyValue> propertiesRight = right.getInstanceProperties();
-            if (propertiesLeft == null && propertiesRight == null)
+            Map<String, InstancePropertyValue> propertiesLeft = left.getInstancePropertiesView();
+            Map<String, InstancePropertyValue> propertiesRight = right.getInstancePropertiesView();
+            if (propertiesLeft.isEmpty() && propertiesRight.isEmpty())
             {
                 // Do nothing, they are equal and nothing to capture
             }
-            else if (propertiesLeft == null)
+            else if (propertiesLeft.isEmpty())
             {
                 setOnlyOnOne(onlyOnRight, propertiesRight);
             }
-            else if (propertiesRight == null)
+            else if (propertiesRight.isEmpty())
             {
-                setOnlyOnOne(onlyOnLeft, left.getInstanceProperties());
+                setOnlyOnOne(onlyOnLeft, propertiesLeft);
             }
             else
             {
-                if (propertiesLeft.isEmpty() && propertiesRight.isEmpty())
-                {
-                    // Do nothing...
-                }
-                else if (propertiesLeft.isEmpty())
-                {
-                    setOnlyOnOne(onlyOnRight, propertiesRight);
-                }
-                else if (propertiesRight.isEmpty())
-                {
-                    setOnlyOnOne(onlyOnLeft, left.getInstanceProperties());
-                }
-                else
-                {
-                    calculateDifferences(propertiesLeft, propertiesRight);
-                }
+                calculateDifferences(propertiesLeft, propertiesRight);
             }
         }
     }
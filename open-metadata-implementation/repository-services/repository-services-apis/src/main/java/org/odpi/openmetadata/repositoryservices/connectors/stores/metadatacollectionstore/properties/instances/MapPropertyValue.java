@@ -67,7 +67,7 @@ public class MapPropertyValue extends InstancePropertyValue
      */
     public String valueAsString()
     {
-      return mapValuesAsString(mapValues.getInstanceProperties()).toString();
+      return mapValuesAsString(mapValues.getInstancePropertiesView()).toString();
     }
 
 
@@ -78,7 +78,7 @@ public class MapPropertyValue extends InstancePropertyValue
      */
     public Object valueAsObject()
     {
-        return mapValuesAsObject(mapValues.getInstanceProperties());
+        return mapValuesAsObject(mapValues.getInstancePropertiesView());
     }
 
 
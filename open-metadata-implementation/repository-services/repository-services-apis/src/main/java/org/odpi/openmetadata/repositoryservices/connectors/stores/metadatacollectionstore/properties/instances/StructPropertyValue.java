@@ -67,7 +67,7 @@ public class StructPropertyValue extends InstancePropertyValue
      */
     public String valueAsString()
     {
-        return mapValuesAsString(attributes.getInstanceProperties()).toString();
+        return mapValuesAsString(attributes.getInstancePropertiesView()).toString();
     }
 
 
@@ -78,7 +78,7 @@ public class StructPropertyValue extends InstancePropertyValue
      */
     public Object valueAsObject()
     {
-        return mapValuesAsObject(attributes.getInstanceProperties());
+        return mapValuesAsObject(attributes.getInstancePropertiesView());
     }
 
 
@@ -0,0 +1,154 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * The InstanceProjection class allows the caller of a find request to limit the content of the instances that are
+ * returned.  If headerOnly is set, only the instance header is returned (no properties, classifications or
+ * maintenance information).  Otherwise, if propertyNames is set, only the named properties are returned with each
+ * instance.  A null projection returns the complete instances.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceProjection implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private boolean      headerOnly    = false;
+    private List<String> propertyNames = null;
+
+
+    /**
+     * Typical constructor
+     */
+    public InstanceProjection()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template template object to copy.
+     */
+    public InstanceProjection(InstanceProjection template)
+    {
+        if (template != null)
+        {
+            this.headerOnly = template.getHeaderOnly();
+
+            if (template.getPropertyNames() != null)
+            {
+                this.propertyNames = new ArrayList<>(template.getPropertyNames());
+            }
+        }
+    }
+
+
+    /**
+     * Return whether only the instance header should be returned.
+     *
+     * @return boolean
+     */
+    public boolean getHeaderOnly()
+    {
+        return headerOnly;
+    }
+
+
+    /**
+     * Set up whether only the instance header should be returned.
+     *
+     * @param headerOnly boolean
+     */
+    public void setHeaderOnly(boolean headerOnly)
+    {
+        this.headerOnly = headerOnly;
+    }
+
+
+    /**
+     * Return the names of the properties to return with each instance.  Null means all properties.
+     *
+     * @return list of property names
+     */
+    public List<String> getPropertyNames()
+    {
+        return propertyNames;
+    }
+
+
+    /**
+     * Set up the names of the properties to return with each instance.  Null means all properties.
+     *
+     * @param propertyNames list of property names
+     */
+    public void setPropertyNames(List<String> propertyNames)
+    {
+        this.propertyNames = propertyNames;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceProjection{" +
+                "headerOnly=" + headerOnly +
+                ", propertyNames=" + propertyNames +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceProjection))
+        {
+            return false;
+        }
+        InstanceProjection that = (InstanceProjection) objectToCompare;
+        return getHeaderOnly() == that.getHeaderOnly() &&
+                Objects.equals(getPropertyNames(), that.getPropertyNames());
+    }
+
+
+    /**
+     * Return a hash code based on the property values
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getHeaderOnly(), getPropertyNames());
+    }
+}
@@ -0,0 +1,379 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * OMRSInstancePageCollector selects one page of instances from the candidates found by a repository query, using the
+ * paging and sequencing parameters of the query.  Candidates are added one at a time as they are found.  When a page
+ * size is set, only the first fromElement + pageSize candidates in sequence are retained, in a bounded priority queue,
+ * so selecting a page costs O(n log k) rather than sorting every candidate.  When no sequencing is requested, the
+ * collector keeps the first candidates in the order they are added and reports when it is complete so the repository
+ * connectors can stop iterating over their stores.
+ * <p>
+ * The comparator for the sequencing order is built once for each collector.  Instances that are equal in the
+ * sequencing order are ordered by GUID so that the boundaries between pages are the same on every call.
+ * </p>
+ *
+ * Note: this class is not thread-safe - use only within a single request.
+ *
+ * @param <T> type of instance (entity or relationship)
+ */
+public class OMRSInstancePageCollector<T extends InstanceHeader>
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSInstancePageCollector.class);
+
+    private final int              fromElement;
+    private final int              pageSize;
+    private final Comparator<T>    comparator;
+    private final PriorityQueue<T> retainedQueue;    // sequenced and paged - head is the last instance in sequence
+    private final List<T>          retainedList;     // unsequenced or unpaged
+    private final long             retainedLimit;
+
+
+    /**
+     * Constructor for a collector that selects one page of results.
+     *
+     * @param fromElement the starting element number of the instances to return. This is used when retrieving elements
+     *                    beyond the first page of results. Zero means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result instances that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     */
+    public OMRSInstancePageCollector(int             fromElement,
+                                     String          sequencingProperty,
+                                     SequencingOrder sequencingOrder,
+                                     int             pageSize)
+    {
+        this.fromElement   = Math.max(fromElement, 0);
+        this.pageSize      = Math.max(pageSize, 0);
+        this.comparator    = getComparator(sequencingProperty, sequencingOrder);
+        this.retainedLimit = (this.pageSize == 0) ? Long.MAX_VALUE : (long)this.fromElement + this.pageSize;
+
+        if ((comparator != null) && (this.pageSize != 0))
+        {
+            this.retainedQueue = new PriorityQueue<>(comparator.reversed());
+            this.retainedList  = null;
+        }
+        else
+        {
+            this.retainedQueue = null;
+            this.retainedList  = new ArrayList<>();
+        }
+    }
+
+
+    /**
+     * Add a candidate instance.
+     *
+     * @param instance instance that matches the query
+     */
+    public void add(T instance)
+    {
+        if (retainedQueue != null)
+        {
+            if (retainedQueue.size() < retainedLimit)
+            {
+                retainedQueue.add(instance);
+            }
+            else if (comparator.compare(instance, retainedQueue.peek()) < 0)
+            {
+                retainedQueue.poll();
+                retainedQueue.add(instance);
+            }
+        }
+        else if (retainedList.size() < retainedLimit)
+        {
+            retainedList.add(instance);
+        }
+    }
+
+
+    /**
+     * Add a collection of candidate instances.
+     *
+     * @param instances instances that match the query
+     */
+    public void addAll(Collection<T> instances)
+    {
+        if (instances != null)
+        {
+            for (T instance : instances)
+            {
+                this.add(instance);
+            }
+        }
+    }
+
+
+    /**
+     * Return whether further candidates can change the results.  This is only the case when the results are not
+     * sequenced and the page is full.
+     *
+     * @return flag
+     */
+    public boolean isComplete()
+    {
+        return (retainedQueue == null) && (comparator == null) && (retainedList.size() >= retainedLimit);
+    }
+
+
+    /**
+     * Return the requested page of results.
+     *
+     * @return list of instances or null if there are no results on the requested page
+     */
+    public List<T> getResults()
+    {
+        List<T> sequencedResults;
+
+        if (retainedQueue != null)
+        {
+            sequencedResults = new ArrayList<>(retainedQueue);
+        }
+        else
+        {
+            sequencedResults = retainedList;
+        }
+
+        if (sequencedResults.size() <= fromElement)
+        {
+            return null;
+        }
+
+        if (comparator != null)
+        {
+            sequencedResults.sort(comparator);
+        }
+
+        if (fromElement == 0)
+        {
+            return sequencedResults;
+        }
+
+        return new ArrayList<>(sequencedResults.subList(fromElement, sequencedResults.size()));
+    }
+
+
+    /**
+     * Return the comparator for a sequencing order.  Instances that are equal in the sequencing order are ordered by GUID.
+     *
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param <T> type of instance
+     * @return comparator or null if no sequencing is required
+     */
+    public static <T extends InstanceHeader> Comparator<T> getComparator(String          sequencingProperty,
+                                                                       SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY))
+        {
+            return null;
+        }
+
+        Comparator<T> guidComparator = Comparator.nullsFirst(Comparator.comparing(InstanceHeader::getGUID,
+                                                                                  Comparator.nullsFirst(Comparator.naturalOrder())));
+        Comparator<T> comparator;
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return guidComparator;
+
+            case LAST_UPDATE_OLDEST:
+            case LAST_UPDATE_RECENT:
+                comparator = Comparator.comparing(InstanceHeader::getUpdateTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+
+            case CREATION_DATE_OLDEST:
+            case CREATION_DATE_RECENT:
+                comparator = Comparator.comparing(InstanceHeader::getCreateTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+
+            case PROPERTY_ASCENDING:
+            case PROPERTY_DESCENDING:
+                comparator = (one, two) -> compareProperties(getProperties(one), getProperties(two), sequencingProperty);
+                break;
+
+            default:
+                return null;
+        }
+
+        if ((sequencingOrder == SequencingOrder.LAST_UPDATE_RECENT) ||
+            (sequencingOrder == SequencingOrder.CREATION_DATE_RECENT) ||
+            (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            comparator = comparator.reversed();
+        }
+
+        return Comparator.nullsFirst(comparator).thenComparing(guidComparator);
+    }
+
+
+    /**
+     * Return the properties of an entity or relationship.
+     *
+     * @param instance instance
+     * @return properties or null
+     */
+    private static InstanceProperties getProperties(InstanceHeader instance)
+    {
+        if (instance instanceof EntityDetail)
+        {
+            return ((EntityDetail)instance).getProperties();
+        }
+        else if (instance instanceof Relationship)
+        {
+            return ((Relationship)instance).getProperties();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Compare the properties of two instances in ascending order of the value of the named property.  Only primitive
+     * values are compared.  An instance with a value sorts after an instance without one, and values of different
+     * types are treated as equal.
+     *
+     * @param instance1Properties properties from first instance
+     * @param instance2Properties properties from second instance
+     * @param propertyName name of property to compare
+     * @return sort result
+     */
+    private static int compareProperties(InstanceProperties instance1Properties,
+                                         InstanceProperties instance2Properties,
+                                         String             propertyName)
+    {
+        PrimitivePropertyValue value1 = getPrimitiveValue(instance1Properties, propertyName);
+        PrimitivePropertyValue value2 = getPrimitiveValue(instance2Properties, propertyName);
+
+        String typeName1 = (value1 == null) ? null : value1.getTypeName();
+        String typeName2 = (value2 == null) ? null : value2.getTypeName();
+
+        if (typeName1 == null && typeName2 == null)
+        {
+            return 0;
+        }
+        else if (typeName2 == null)
+        {
+            return 1;
+        }
+        else if (typeName1 == null)
+        {
+            return -1;
+        }
+        else if (! typeName1.equals(typeName2))
+        {
+            return 0;
+        }
+
+        return typeSpecificCompare(typeName1, value1.getPrimitiveValue(), value2.getPrimitiveValue());
+    }
+
+
+    /**
+     * Return the named property if it is a primitive.
+     *
+     * @param properties properties of an instance
+     * @param propertyName name of the property
+     * @return value or null
+     */
+    private static PrimitivePropertyValue getPrimitiveValue(InstanceProperties properties,
+                                                            String             propertyName)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if ((propertyValue != null) && (propertyValue.getInstancePropertyCategory() == InstancePropertyCategory.PRIMITIVE))
+            {
+                return (PrimitivePropertyValue)propertyValue;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Compare two objects based on their type.
+     * It must have been previously established that both objects are of the type
+     * indicated by the supplied typeName
+     *
+     * @param typeName name of type
+     * @param v1 value from instance 1
+     * @param v2 value from instance 2
+     * @return sort order
+     */
+    private static int typeSpecificCompare(String typeName, Object v1, Object v2)
+    {
+        int sortOrder;
+        switch (typeName)
+        {
+            case "boolean":
+                sortOrder = ((Boolean) v1).compareTo((Boolean) v2);
+                break;
+            case "byte":
+                sortOrder = ((Byte) v1).compareTo((Byte) v2);
+                break;
+            case "char":
+                sortOrder = ((Character) v1).compareTo((Character) v2);
+                break;
+            case "short":
+                sortOrder = ((Short) v1).compareTo((Short) v2);
+                break;
+            case "integer":
+                sortOrder = ((Integer) v1).compareTo((Integer) v2);
+                break;
+            case "long":
+                sortOrder = ((Long) v1).compareTo((Long) v2);
+                break;
+            case "float":
+                sortOrder = ((Float) v1).compareTo((Float) v2);
+                break;
+            case "double":
+                sortOrder = ((Double) v1).compareTo((Double) v2);
+                break;
+            case "biginteger":
+                sortOrder = ((BigInteger) v1).compareTo((BigInteger) v2);
+                break;
+            case "bigdecimal":
+                sortOrder = ((BigDecimal) v1).compareTo((BigDecimal) v2);
+                break;
+            case "string":
+                sortOrder = ((String) v1).compareTo((String) v2);
+                break;
+            case "date":
+                sortOrder = ((Date) v1).compareTo((Date) v2);
+                break;
+            default:
+                log.debug("Property type not catered for in compare function");
+                sortOrder = 0;
+        }
+
+        return sortOrder;
+    }
+}
@@ -0,0 +1,243 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OMRSInstanceProjector applies an InstanceProjection to the instances returned from a find request.
+ * The supplied instances are not changed - the projected instances are copies that share the retained
+ * property values.  A null projection returns the supplied instances unchanged.
+ */
+public class OMRSInstanceProjector
+{
+    /**
+     * Return whether the projection changes the instances it is applied to.
+     *
+     * @param projection requested projection
+     * @return boolean
+     */
+    public static boolean isProjected(InstanceProjection projection)
+    {
+        return (projection != null) && ((projection.getHeaderOnly()) || (projection.getPropertyNames() != null));
+    }
+
+
+    /**
+     * Return the projection to use when retrieving instances that are to be sequenced (and then projected) by the
+     * caller.  The sequencing property must be retained until the results have been sorted.
+     *
+     * @param projection requested projection
+     * @param sequencingProperty name of the property used to sequence the results (may be null)
+     * @return projection to pass to the repository
+     */
+    public static InstanceProjection getSequencingProjection(InstanceProjection projection,
+                                                             String             sequencingProperty)
+    {
+        if ((sequencingProperty == null) || (! isProjected(projection)))
+        {
+            return projection;
+        }
+
+        InstanceProjection sequencingProjection = new InstanceProjection();
+        List<String>       propertyNames        = new ArrayList<>();
+
+        if (! projection.getHeaderOnly())
+        {
+            propertyNames.addAll(projection.getPropertyNames());
+        }
+
+        if (! propertyNames.contains(sequencingProperty))
+        {
+            propertyNames.add(sequencingProperty);
+        }
+
+        sequencingProjection.setPropertyNames(propertyNames);
+
+        return sequencingProjection;
+    }
+
+
+    /**
+     * Apply the projection to a list of entities.
+     *
+     * @param entities retrieved entities
+     * @param projection requested projection
+     * @return projected entities
+     */
+    public static List<EntityDetail> projectEntities(List<EntityDetail> entities,
+                                                     InstanceProjection projection)
+    {
+        if ((entities == null) || (! isProjected(projection)))
+        {
+            return entities;
+        }
+
+        List<EntityDetail> projectedEntities = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            projectedEntities.add(projectEntity(entity, projection));
+        }
+
+        return projectedEntities;
+    }
+
+
+    /**
+     * Apply the projection to a single entity.
+     *
+     * @param entity retrieved entity
+     * @param projection requested projection
+     * @return projected entity
+     */
+    public static EntityDetail projectEntity(EntityDetail       entity,
+                                             InstanceProjection projection)
+    {
+        if ((entity == null) || (! isProjected(projection)))
+        {
+            return entity;
+        }
+
+        EntityDetail projectedEntity = new EntityDetail(entity);
+
+        if (projection.getHeaderOnly())
+        {
+            projectedEntity.setProperties(null);
+            projectedEntity.setClassifications(null);
+            projectedEntity.setMaintainedBy(null);
+            projectedEntity.setMappingProperties(null);
+        }
+        else
+        {
+            projectedEntity.setProperties(projectProperties(entity.getProperties(), projection.getPropertyNames()));
+        }
+
+        return projectedEntity;
+    }
+
+
+    /**
+     * Apply the projection to a list of relationships.
+     *
+     * @param relationships retrieved relationships
+     * @param projection requested projection
+     * @return projected relationships
+     */
+    public static List<Relationship> projectRelationships(List<Relationship> relationships,
+                                                          InstanceProjection projection)
+    {
+        if ((relationships == null) || (! isProjected(projection)))
+        {
+            return relationships;
+        }
+
+        List<Relationship> projectedRelationships = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            projectedRelationships.add(projectRelationship(relationship, projection));
+        }
+
+        return projectedRelationships;
+    }
+
+
+    /**
+     * Apply the projection to a single relationship.  The entity proxies are retained since they identify the
+     * ends of the relationship.
+     *
+     * @param relationship retrieved relationship
+     * @param projection requested projection
+     * @return projected relationship
+     */
+    public static Relationship projectRelationship(Relationship       relationship,
+                                                   InstanceProjection projection)
+    {
+        if ((relationship == null) || (! isProjected(projection)))
+        {
+            return relationship;
+        }
+
+        Relationship projectedRelationship = new Relationship(relationship);
+
+        if (projection.getHeaderOnly())
+        {
+            projectedRelationship.setProperties(null);
+            projectedRelationship.setMaintainedBy(null);
+            projectedRelationship.setMappingProperties(null);
+        }
+        else
+        {
+            projectedRelationship.setProperties(projectProperties(relationship.getProperties(), projection.getPropertyNames()));
+        }
+
+        return projectedRelationship;
+    }
+
+
+    /**
+     * Apply the projection to the entities and relationships in an instance graph.
+     *
+     * @param instanceGraph retrieved graph
+     * @param projection requested projection
+     * @return projected graph
+     */
+    public static InstanceGraph projectInstanceGraph(InstanceGraph      instanceGraph,
+                                                     InstanceProjection projection)
+    {
+        if ((instanceGraph == null) || (! isProjected(projection)))
+        {
+            return instanceGraph;
+        }
+
+        return new InstanceGraph(projectEntities(instanceGraph.getEntities(), projection),
+                                 projectRelationships(instanceGraph.getRelationships(), projection));
+    }
+
+
+    /**
+     * Return the properties that are named in the projection.
+     *
+     * @param properties retrieved properties
+     * @param propertyNames names of the properties to retain
+     * @return projected properties or null if none of the named properties are present
+     */
+    private static InstanceProperties projectProperties(InstanceProperties properties,
+                                                        List<String>       propertyNames)
+    {
+        if ((properties == null) || (propertyNames == null))
+        {
+            return properties;
+        }
+
+        InstanceProperties projectedProperties = new InstanceProperties();
+
+        projectedProperties.setEffectiveFromTime(properties.getEffectiveFromTime());
+        projectedProperties.setEffectiveToTime(properties.getEffectiveToTime());
+
+        for (String propertyName : propertyNames)
+        {
+            if (propertyName != null)
+            {
+                InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+                if (propertyValue != null)
+                {
+                    projectedProperties.setProperty(propertyName, propertyValue);
+                }
+            }
+        }
+
+        return projectedProperties;
+    }
+}
@@ -53,15 +53,9 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
      */
     protected void removeProperty(String    propertyName, InstanceProperties properties)
     {
-        if (properties != null)
+        if ((properties != null) && (propertyName != null))
         {
-            Map<String, InstancePropertyValue> instancePropertyValueMap = properties.getInstanceProperties();
-
-            if (instancePropertyValueMap != null)
-            {
-                instancePropertyValueMap.remove(propertyName);
-                properties.setInstanceProperties(instancePropertyValueMap);
-            }
+            properties.setProperty(propertyName, null);
         }
     }
 
@@ -367,17 +361,19 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
         if (instanceProperties != null)
         {
-            Map<String, InstancePropertyValue> instancePropertyValues = instanceProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue> instancePropertyValues = instanceProperties.getInstancePropertiesView();
             List<String>                       resultingArray = new ArrayList<>();
 
-            for (String arrayOrdinalName : instancePropertyValues.keySet())
+            for (Map.Entry<String, InstancePropertyValue> arrayElement : instancePropertyValues.entrySet())
             {
+                String arrayOrdinalName = arrayElement.getKey();
+
                 if (arrayOrdinalName != null)
                 {
                     log.debug(thisMethodName + " processing array element: " + arrayOrdinalName);
 
                     int                   arrayOrdinalNumber  = Integer.decode(arrayOrdinalName);
-                    InstancePropertyValue actualPropertyValue = instanceProperties.getPropertyValue(arrayOrdinalName);
+                    InstancePropertyValue actualPropertyValue = arrayElement.getValue();
 
                     if (actualPropertyValue != null)
                     {
@@ -901,14 +897,15 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (instanceProperties != null)
         {
-            Map<String, InstancePropertyValue> instancePropertyValues = instanceProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue> instancePropertyValues = instanceProperties.getInstancePropertiesView();
             Map<String, Object>                resultingMap      = new HashMap<>();
 
             if (instancePropertyValues != null)
             {
-                for (String mapPropertyName : instancePropertyValues.keySet())
+                for (Map.Entry<String, InstancePropertyValue> mapProperty : instancePropertyValues.entrySet())
                 {
-                    InstancePropertyValue actualPropertyValue = instanceProperties.getPropertyValue(mapPropertyName);
+                    String                mapPropertyName     = mapProperty.getKey();
+                    InstancePropertyValue actualPropertyValue = mapProperty.getValue();
 
                     if (actualPropertyValue != null)
                     {
@@ -0,0 +1,362 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSSearchStringMatcher tests string values against a search string (regular expression) with the same result as
+ * String.matches().  The search strings built by the OMRSRepositoryHelper getExactMatchRegex, getStartsWithRegex,
+ * getEndsWithRegex and getContainsRegex methods (and regular expressions that contain no metacharacters) are recognized
+ * and evaluated using plain string operations.  Any other search string is compiled into a Pattern once.
+ * Matchers are shared through a bounded cache so a search string used to test many instances is only analysed once.
+ */
+public class OMRSSearchStringMatcher
+{
+    /**
+     * The type of test performed by the matcher.
+     */
+    public enum MatchType
+    {
+        ANY,
+        EXACT,
+        STARTS_WITH,
+        ENDS_WITH,
+        CONTAINS,
+        REGEX
+    }
+
+    private static final int    MAX_CACHED_MATCHERS = 1000;
+    private static final String CASE_INSENSITIVE    = "(?i)";
+    private static final String ANY_CHARACTERS      = ".*";
+    private static final String QUOTE_START         = "\\Q";
+    private static final String QUOTE_END           = "\\E";
+    private static final String METACHARACTERS      = "\\.[]{}()*+?^$|";
+
+    private static final Map<String, OMRSSearchStringMatcher> matcherCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OMRSSearchStringMatcher> eldest)
+                {
+                    return size() > MAX_CACHED_MATCHERS;
+                }
+            });
+
+    private final String    searchString;
+    private final MatchType matchType;
+    private final String    literal;
+    private final boolean   caseInsensitive;
+    private final boolean   asciiLiteral;
+    private volatile Pattern pattern = null;
+
+
+    /**
+     * Return the matcher for the search string.  Matchers are cached.
+     *
+     * @param searchString regular expression
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException the search string is not a valid regular expression
+     */
+    public static OMRSSearchStringMatcher getMatcher(String searchString)
+    {
+        OMRSSearchStringMatcher matcher = matcherCache.get(searchString);
+
+        if (matcher == null)
+        {
+            matcher = new OMRSSearchStringMatcher(searchString);
+
+            matcherCache.put(searchString, matcher);
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Return whether the value matches the search string.  This gives the same result as value.matches(searchString).
+     *
+     * @param searchString regular expression
+     * @param value value to test
+     * @return boolean
+     * @throws java.util.regex.PatternSyntaxException the search string is not a valid regular expression
+     */
+    public static boolean matches(String searchString,
+                                  String value)
+    {
+        return getMatcher(searchString).matches(value);
+    }
+
+
+    /**
+     * Analyse the search string.
+     *
+     * @param searchString regular expression
+     * @throws java.util.regex.PatternSyntaxException the search string is not a valid regular expression
+     */
+    private OMRSSearchStringMatcher(String searchString)
+    {
+        this.searchString = searchString;
+
+        String  remainder    = searchString;
+        boolean insensitive  = false;
+
+        if (remainder.startsWith(CASE_INSENSITIVE))
+        {
+            insensitive = true;
+            remainder   = remainder.substring(CASE_INSENSITIVE.length());
+        }
+
+        boolean leadingWildcard  = false;
+        boolean trailingWildcard = false;
+
+        if (remainder.startsWith(ANY_CHARACTERS))
+        {
+            leadingWildcard = true;
+            remainder = remainder.substring(ANY_CHARACTERS.length());
+        }
+
+        if ((remainder.endsWith(ANY_CHARACTERS)) && (! remainder.endsWith("\\" + ANY_CHARACTERS)))
+        {
+            trailingWildcard = true;
+            remainder = remainder.substring(0, remainder.length() - ANY_CHARACTERS.length());
+        }
+
+        String literalValue = this.getLiteral(remainder);
+
+        if (literalValue == null)
+        {
+            this.matchType = MatchType.REGEX;
+            this.literal   = null;
+            this.pattern   = Pattern.compile(searchString);
+        }
+        else
+        {
+            if ((leadingWildcard) && (literalValue.isEmpty()))
+            {
+                this.matchType = MatchType.ANY;
+            }
+            else if ((leadingWildcard) && (trailingWildcard))
+            {
+                this.matchType = MatchType.CONTAINS;
+            }
+            else if (leadingWildcard)
+            {
+                this.matchType = MatchType.ENDS_WITH;
+            }
+            else if (trailingWildcard)
+            {
+                this.matchType = MatchType.STARTS_WITH;
+            }
+            else
+            {
+                this.matchType = MatchType.EXACT;
+            }
+
+            this.literal = literalValue;
+        }
+
+        this.caseInsensitive = insensitive;
+        this.asciiLiteral    = (literal != null) && isASCII(literal);
+    }
+
+
+    /**
+     * Return the literal string that the regular expression fragment represents, or null if it is not a literal.
+     *
+     * @param fragment fragment of the search string
+     * @return literal string or null
+     */
+    private String getLiteral(String fragment)
+    {
+        if ((fragment.startsWith(QUOTE_START)) &&
+            (fragment.endsWith(QUOTE_END)) &&
+            (fragment.indexOf(QUOTE_END) == fragment.length() - QUOTE_END.length()) &&
+            (fragment.length() >= QUOTE_START.length() + QUOTE_END.length()))
+        {
+            return fragment.substring(QUOTE_START.length(), fragment.length() - QUOTE_END.length());
+        }
+
+        for (int i = 0; i < fragment.length(); i++)
+        {
+            if (METACHARACTERS.indexOf(fragment.charAt(i)) != -1)
+            {
+                return null;
+            }
+        }
+
+        return fragment;
+    }
+
+
+    /**
+     * Return the search string used to create this matcher.
+     *
+     * @return regular expression
+     */
+    public String getSearchString()
+    {
+        return searchString;
+    }
+
+
+    /**
+     * Return the type of test performed by this matcher.
+     *
+     * @return match type
+     */
+    public MatchType getMatchType()
+    {
+        return matchType;
+    }
+
+
+    /**
+     * Return whether the value matches the search string.
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    public boolean matches(String value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        if ((matchType == MatchType.EXACT) && (! caseInsensitive))
+        {
+            return value.equals(literal);
+        }
+
+        /*
+         * The plain string operations are only equivalent to the regular expression when the .* wildcards can
+         * match every character in the value (they do not match line terminators) and, for case-insensitive tests,
+         * when the Unicode case rules give the same answer as the regular expression's ASCII-only rules.
+         */
+        if ((matchType != MatchType.REGEX) && (this.isSimpleValue(value)))
+        {
+            switch (matchType)
+            {
+                case ANY:
+                    return true;
+
+                case EXACT:
+                    return (value.length() == literal.length()) && (this.regionMatches(value, 0));
+
+                case STARTS_WITH:
+                    return this.regionMatches(value, 0);
+
+                case ENDS_WITH:
+                    return this.regionMatches(value, value.length() - literal.length());
+
+                case CONTAINS:
+                    if (! caseInsensitive)
+                    {
+                        return value.contains(literal);
+                    }
+
+                    for (int offset = 0; offset <= value.length() - literal.length(); offset++)
+                    {
+                        if (this.regionMatches(value, offset))
+                        {
+                            return true;
+                        }
+                    }
+
+                    return false;
+            }
+        }
+
+        return this.getPattern().matcher(value).matches();
+    }
+
+
+    /**
+     * Return whether the literal occurs in the value at the requested offset.
+     *
+     * @param value value to test
+     * @param offset position in value
+     * @return boolean
+     */
+    private boolean regionMatches(String value,
+                                  int    offset)
+    {
+        return (offset >= 0) && value.regionMatches(caseInsensitive, offset, literal, 0, literal.length());
+    }
+
+
+    /**
+     * Return whether the value can be tested with plain string operations.
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private boolean isSimpleValue(String value)
+    {
+        if ((caseInsensitive) && (! asciiLiteral))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == '\n') || (character == '\r') || (character == '\u0085') || (character == '\u2028') || (character == '\u2029'))
+            {
+                return false;
+            }
+
+            if ((caseInsensitive) && (character > 127))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the compiled pattern, compiling it on first use.
+     *
+     * @return pattern
+     */
+    private Pattern getPattern()
+    {
+        Pattern compiledPattern = pattern;
+
+        if (compiledPattern == null)
+        {
+            compiledPattern = Pattern.compile(searchString);
+            pattern = compiledPattern;
+        }
+
+        return compiledPattern;
+    }
+
+
+    /**
+     * Return whether all the characters in the string are ASCII.
+     *
+     * @param string string to test
+     * @return boolean
+     */
+    private static boolean isASCII(String string)
+    {
+        for (int i = 0; i < string.length(); i++)
+        {
+            if (string.charAt(i) > 127)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -1132,7 +1132,13 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                              OMRSAuditLogRecordSeverity.EXCEPTION,
                                              "The type definition event processor for the {0} service caught an unexpected exception {1} with message {2}",
                                              "The contents of the type were not accepted by the topic listener.",
-                                             "Review the exception and resolve the issue with the type that it documents.")
+                                             "Review the exception and resolve the issue with the type that it documents."),
+
+    OUTBOUND_EVENT_NOT_SENT("OMRS-AUDIT-9020",
+                            OMRSAuditLogRecordSeverity.EXCEPTION,
+                            "The connector {0} was unable to pass an outbound event to its event bus connectors due to exception {1} with message {2}",
+                            "The event has not been sent.  Other events continue to be sent.",
+                            "Review the exception to determine why the event bus connectors rejected the event.  The event is included in the log record.")
 
 
     ;
@@ -444,6 +444,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The connector {0} has been configured without an embedded event bus connector",
             "There is an error in the connection for the connector. The connection is defined in the server's configuration document.",
             "Review the configuration document and correct the definition of the connection."),
+    INVALID_OUTBOUND_QUEUE_SIZE(400, "OMRS-TOPIC-CONNECTOR-400-003",
+            "The connector {0} has been configured with a {1} configuration property of {2} which is not a positive whole number",
+            "The connector is unable to start because it does not know how many outbound events it may queue.",
+            "Correct the value of the configuration property in the connection for the connector and restart the server."),
     NULL_REGISTRY_STORE(400, "OMRS-COHORT-REGISTRY-404-001",
             "The Open Metadata Repository Cohort Registry Store for cohort {0} is not available.",
             "The system is unable to process registration requests from the open metadata repository cohort.",
@@ -835,6 +839,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "Connector {0} received an unexpected exception from sending event {1}. The exception message was: {2}",
             "There is an internal issue in the open metadata repository logic.",
             "Report this to the Egeria team via a GitHub issue so that it can be investigated and fixed."),
+    OUTBOUND_QUEUE_CLOSED(500, "OMRS-TOPIC-CONNECTOR-500-004",
+             "Connector {0} is unable to send an event because its outbound event queue is closed",
+             "The connector is disconnecting or has been disconnected and is no longer accepting events.",
+             "Review the server's status to determine why events are being sent after the connector has shut down."),
     OMRS_TOPIC_SEND_NULL_EVENT(500, "OMRS-TOPIC-CONNECTOR-500-003",
              "Connector {0} is unable to send a null event",
              "There is an internal problem in the open metadata repository code logic.",
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.rest.properties;
 
 import com.fasterxml.jackson.annotation.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 
 import java.util.List;
 import java.util.Objects;
@@ -32,6 +33,7 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
     private static final long    serialVersionUID = 1L;
 
     private List<InstanceStatus> limitResultsByStatus = null;
+    private InstanceProjection   projection           = null;
 
 
     /**
@@ -52,6 +54,7 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
         if (template != null)
         {
             this.limitResultsByStatus = template.getLimitResultsByStatus();
+            this.projection           = template.getProjection();
         }
     }
 
@@ -89,6 +92,28 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
     }
 
 
+    /**
+     * Return the projection that limits the content of the returned instances.  Null means return complete instances.
+     *
+     * @return instance projection
+     */
+    public InstanceProjection getProjection()
+    {
+        return projection;
+    }
+
+
+    /**
+     * Set up the projection that limits the content of the returned instances.  Null means return complete instances.
+     *
+     * @param projection instance projection
+     */
+    public void setProjection(InstanceProjection projection)
+    {
+        this.projection = projection;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -99,6 +124,7 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
     {
         return "OMRSAPISearchRequest{" +
                 "limitResultsByStatus=" + limitResultsByStatus +
+                ", projection=" + projection +
                 '}';
     }
 
@@ -122,7 +148,8 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
         }
         OMRSAPIFindRequest
                 that = (OMRSAPIFindRequest) objectToCompare;
-        return Objects.equals(getLimitResultsByStatus(), that.getLimitResultsByStatus());
+        return Objects.equals(getLimitResultsByStatus(), that.getLimitResultsByStatus()) &&
+                Objects.equals(getProjection(), that.getProjection());
     }
 
 
@@ -135,6 +162,6 @@ public class OMRSAPIFindRequest extends OMRSAPIRequest
     public int hashCode()
     {
 
-        return Objects.hash(getLimitResultsByStatus());
+        return Objects.hash(getLimitResultsByStatus(), getProjection());
     }
 }
@@ -0,0 +1,83 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Verify that OMRSJSONCodec reads back the values it writes, including the subtypes of InstancePropertyValue,
+ * and that its JSON is the same as the JSON of an object mapper with the default settings.
+ */
+public class TestOMRSJSONCodec
+{
+    private InstanceProperties getInstanceProperties()
+    {
+        InstanceProperties     instanceProperties = new InstanceProperties();
+        PrimitivePropertyValue stringValue        = new PrimitivePropertyValue();
+        PrimitivePropertyValue intValue           = new PrimitivePropertyValue();
+        EnumPropertyValue      enumValue          = new EnumPropertyValue();
+        ArrayPropertyValue     arrayValue         = new ArrayPropertyValue();
+
+        stringValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        stringValue.setPrimitiveValue("TestValue");
+
+        intValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+        intValue.setPrimitiveValue(42);
+
+        enumValue.setOrdinal(1);
+        enumValue.setSymbolicName("TestSymbol");
+
+        arrayValue.setArrayCount(1);
+        arrayValue.setArrayValue(0, stringValue);
+
+        instanceProperties.setProperty("stringProperty", stringValue);
+        instanceProperties.setProperty("intProperty", intValue);
+        instanceProperties.setProperty("enumProperty", enumValue);
+        instanceProperties.setProperty("arrayProperty", arrayValue);
+
+        return instanceProperties;
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String or JSON bytes has the same content as the object used
+     * to create the JSON.
+     */
+    @Test public void testJSON() throws Exception
+    {
+        InstanceProperties instanceProperties = getInstanceProperties();
+
+        String jsonString = OMRSJSONCodec.writeValueAsString(instanceProperties);
+
+        assertEquals(OMRSJSONCodec.readValue(jsonString, InstanceProperties.class), instanceProperties);
+        assertEquals(OMRSJSONCodec.readValue(OMRSJSONCodec.writeValueAsBytes(instanceProperties), InstanceProperties.class),
+                     instanceProperties);
+        assertEquals(OMRSJSONCodec.getReader().forType(InstanceProperties.class).readValue(jsonString), instanceProperties);
+
+        /*
+         * The JSON is unchanged by the tuning of the codec.
+         */
+        assertEquals(jsonString, new ObjectMapper().writeValueAsString(instanceProperties));
+        assertEquals(new ObjectMapper().readValue(jsonString, InstanceProperties.class), instanceProperties);
+    }
+
+
+    /**
+     * Validate that the reader for a class is reused.
+     */
+    @Test public void testReaders()
+    {
+        assertSame(OMRSJSONCodec.getReader(InstanceProperties.class), OMRSJSONCodec.getReader(InstanceProperties.class));
+        assertSame(OMRSJSONCodec.getWriter(), OMRSJSONCodec.getWriter());
+    }
+}
@@ -0,0 +1,192 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that OpenMetadataTopicSenderConnectorBase passes events to each of its event bus connectors in order,
+ * without the caller waiting for the event bus connectors.
+ */
+public class OpenMetadataTopicSenderConnectorBaseTest
+{
+    private static final int EVENT_COUNT = 50;
+
+
+    /**
+     * Event bus connector that records the events it is sent.  It can be made to wait before accepting events.
+     */
+    private static class RecordingTopicConnector extends OpenMetadataTopicConnector
+    {
+        final List<String>   events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch gate;
+
+        RecordingTopicConnector(CountDownLatch gate)
+        {
+            this.gate = gate;
+        }
+
+        @Override
+        public void sendEvent(String event) throws ConnectorCheckedException
+        {
+            try
+            {
+                gate.await();
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            events.add(event);
+        }
+
+        @Override
+        public void start()
+        {
+        }
+
+        @Override
+        public void disconnect()
+        {
+        }
+    }
+
+
+    /**
+     * Test that events are queued while the event bus connectors are busy, and then delivered in order to each of
+     * them.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testOrderedFanOut() throws Exception
+    {
+        CountDownLatch                       gate       = new CountDownLatch(1);
+        RecordingTopicConnector              connector1 = new RecordingTopicConnector(gate);
+        RecordingTopicConnector              connector2 = new RecordingTopicConnector(gate);
+        OpenMetadataTopicSenderConnectorBase sender     = new OpenMetadataTopicSenderConnectorBase();
+
+        sender.initializeEmbeddedConnectors(Arrays.asList((Connector)connector1, connector2));
+
+        List<String>                  expectedEvents = new ArrayList<>();
+        List<CompletableFuture<Void>> futures        = new ArrayList<>();
+
+        for (int i = 0; i < EVENT_COUNT; i++)
+        {
+            String event = sender.serializeEvent(Collections.singletonMap("sequence", i));
+
+            expectedEvents.add(event);
+            futures.add(sender.sendEvent(event));
+        }
+
+        /*
+         * None of the events can have been delivered because the event bus connectors are waiting.
+         */
+        assertFalse(futures.get(0).isDone());
+        assertTrue(connector1.events.isEmpty());
+
+        gate.countDown();
+        sender.disconnect();
+
+        for (CompletableFuture<Void> future : futures)
+        {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(connector1.events, expectedEvents);
+        assertEquals(connector2.events, expectedEvents);
+    }
+
+
+    /**
+     * Test that events sent after disconnect are rejected.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testSendAfterDisconnect() throws Exception
+    {
+        OpenMetadataTopicSenderConnectorBase sender = new OpenMetadataTopicSenderConnectorBase();
+
+        sender.initializeEmbeddedConnectors(Collections.singletonList(new RecordingTopicConnector(new CountDownLatch(0))));
+        sender.sendEvent("first").get(10, TimeUnit.SECONDS);
+        sender.disconnect();
+
+        try
+        {
+            sender.sendEvent("second");
+            fail("Event sent after disconnect");
+        }
+        catch (ConnectorCheckedException expected)
+        {
+            assertTrue(expected.getReportedErrorMessageId().startsWith("OMRS-TOPIC-CONNECTOR-500-004"));
+        }
+    }
+
+
+    /**
+     * Test that an outbound queue size that is not a positive whole number is rejected when the connector starts.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidOutboundQueueSize() throws Exception
+    {
+        for (Object queueSize : Arrays.asList("lots", 0))
+        {
+            try
+            {
+                getStartedSender(queueSize);
+                fail("Outbound queue size of " + queueSize + " accepted");
+            }
+            catch (ConnectorCheckedException expected)
+            {
+                assertTrue(expected.getReportedErrorMessageId().startsWith("OMRS-TOPIC-CONNECTOR-400-003"));
+            }
+        }
+
+        OpenMetadataTopicSenderConnectorBase sender = getStartedSender("5");
+
+        sender.sendEvent("event").get(10, TimeUnit.SECONDS);
+        sender.disconnect();
+    }
+
+
+    /**
+     * Return a started sender with a single event bus connector and the requested outbound queue size.
+     *
+     * @param queueSize value of the outbound queue size configuration property
+     * @return sender
+     * @throws ConnectorCheckedException the sender did not start
+     */
+    private OpenMetadataTopicSenderConnectorBase getStartedSender(Object queueSize) throws ConnectorCheckedException
+    {
+        OpenMetadataTopicSenderConnectorBase sender     = new OpenMetadataTopicSenderConnectorBase();
+        Connection                           connection = new Connection();
+
+        connection.setConfigurationProperties(Collections.singletonMap(OpenMetadataTopicSenderConnectorBase.OUTBOUND_QUEUE_SIZE_PROPERTY,
+                                                                       queueSize));
+
+        sender.initialize("testSender", new ConnectionProperties(connection));
+        sender.initializeEmbeddedConnectors(Collections.singletonList(new RecordingTopicConnector(new CountDownLatch(0))));
+        sender.start();
+
+        return sender;
+    }
+}
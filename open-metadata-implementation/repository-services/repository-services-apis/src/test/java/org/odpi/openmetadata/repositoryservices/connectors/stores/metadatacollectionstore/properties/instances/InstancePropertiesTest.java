@@ -0,0 +1,157 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the read-only access to InstanceProperties, and that reading the properties through the view creates less
+ * garbage than reading them through a copy.
+ */
+public class InstancePropertiesTest
+{
+    private InstanceProperties getInstanceProperties(int propertyCount)
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        for (int i = 0; i < propertyCount; i++)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setPrimitiveValue("value" + i);
+
+            instanceProperties.setProperty("property" + i, propertyValue);
+        }
+
+        return instanceProperties;
+    }
+
+
+    @Test
+    public void testInstancePropertiesView()
+    {
+        InstanceProperties instanceProperties = getInstanceProperties(3);
+
+        Map<String, InstancePropertyValue> view = instanceProperties.getInstancePropertiesView();
+
+        assertEquals(view.size(), 3);
+        assertSame(instanceProperties.getInstancePropertiesView(), view);
+        assertNotSame(instanceProperties.getInstanceProperties(), instanceProperties.getInstanceProperties());
+        assertEquals(view, instanceProperties.getInstanceProperties());
+
+        try
+        {
+            view.remove("property0");
+            fail("The view can be changed");
+        }
+        catch (UnsupportedOperationException expected)
+        {
+            /*
+             * The view is read-only.
+             */
+        }
+
+        /*
+         * The view reflects later changes.
+         */
+        instanceProperties.setProperty("property0", null);
+        assertEquals(view.size(), 2);
+
+        Map<String, InstancePropertyValue> replacementProperties = new HashMap<>();
+
+        instanceProperties.setInstanceProperties(replacementProperties);
+        assertTrue(instanceProperties.getInstancePropertiesView().isEmpty());
+        assertNull(instanceProperties.getInstanceProperties());
+        assertEquals(instanceProperties, new InstanceProperties());
+        assertEquals(instanceProperties.hashCode(), new InstanceProperties().hashCode());
+    }
+
+
+    @Test
+    public void testForEachProperty()
+    {
+        InstanceProperties instanceProperties = getInstanceProperties(5);
+        Map<String, InstancePropertyValue> visited = new HashMap<>();
+
+        instanceProperties.forEachProperty(visited::put);
+
+        assertEquals(visited, instanceProperties.getInstanceProperties());
+        assertEquals(new InstanceProperties(instanceProperties), instanceProperties);
+    }
+
+
+    @Test
+    public void testGarbage()
+    {
+        InstanceProperties instanceProperties = getInstanceProperties(20);
+        final int          readCount          = 100000;
+
+        long copyBytes = getAllocatedBytes(() ->
+        {
+            for (int i = 0; i < readCount; i++)
+            {
+                instanceProperties.getInstanceProperties().get("property" + (i % 20));
+            }
+        });
+
+        long viewBytes = getAllocatedBytes(() ->
+        {
+            for (int i = 0; i < readCount; i++)
+            {
+                instanceProperties.getInstancePropertiesView().get("property" + (i % 20));
+            }
+        });
+
+        /*
+         * Allocations can only be measured on platforms that provide com.sun.management.ThreadMXBean.
+         */
+        if ((copyBytes >= 0) && (viewBytes >= 0))
+        {
+            assertTrue(viewBytes < copyBytes, "View allocated " + viewBytes + " bytes and copy allocated " + copyBytes + " bytes");
+        }
+    }
+
+
+    /**
+     * Return the number of bytes allocated by the calling thread while running the supplied code, or -1 if the
+     * platform does not measure allocations or the measurement is disabled.
+     *
+     * @param code code to run
+     * @return number of bytes
+     */
+    private long getAllocatedBytes(Runnable code)
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)
+        {
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+            if ((threadMXBean.isThreadAllocatedMemorySupported()) && (threadMXBean.isThreadAllocatedMemoryEnabled()))
+            {
+                long threadId = Thread.currentThread().getId();
+                long start    = threadMXBean.getThreadAllocatedBytes(threadId);
+
+                code.run();
+
+                return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+            }
+        }
+
+        code.run();
+
+        return -1;
+    }
+}
@@ -0,0 +1,196 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSInstancePageCollector returns the same pages as sorting every candidate, and that instances that
+ * are equal in the sequencing order fall on the same page whatever order they are added in.
+ */
+public class OMRSInstancePageCollectorTest
+{
+    private static final String propertyName = "name";
+
+
+    /**
+     * Build a list of entities with few distinct property values and dates so that there are many ties.
+     *
+     * @param count number of entities
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(int count)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+        Random             random   = new Random(42);
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(String.format("guid-%05d", random.nextInt(100000)) + "-" + i);
+            entity.setCreateTime(new Date(random.nextInt(20)));
+
+            if (i % 10 != 0)
+            {
+                entity.setUpdateTime(new Date(random.nextInt(20)));
+
+                PrimitivePropertyValue value      = new PrimitivePropertyValue();
+                InstanceProperties     properties = new InstanceProperties();
+
+                value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                value.setPrimitiveValue("value" + random.nextInt(20));
+                properties.setProperty(propertyName, value);
+                entity.setProperties(properties);
+            }
+
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Select a page by sorting every candidate.
+     *
+     * @param entities candidates
+     * @param comparator sequencing
+     * @param fromElement first element
+     * @param pageSize maximum number of elements
+     * @return page or null
+     */
+    private List<EntityDetail> getSortedPage(List<EntityDetail>       entities,
+                                             Comparator<EntityDetail> comparator,
+                                             int                      fromElement,
+                                             int                      pageSize)
+    {
+        List<EntityDetail> sortedEntities = new ArrayList<>(entities);
+
+        sortedEntities.sort(comparator);
+
+        if (fromElement >= sortedEntities.size())
+        {
+            return null;
+        }
+
+        int toElement = (pageSize == 0) ? sortedEntities.size() : Math.min(sortedEntities.size(), fromElement + pageSize);
+
+        return sortedEntities.subList(fromElement, toElement);
+    }
+
+
+    /**
+     * Validate that every page matches the page from a full sort for each sequencing order.
+     */
+    @Test public void testPagesMatchFullSort()
+    {
+        List<EntityDetail> entities = getEntities(500);
+
+        SequencingOrder[] sequencingOrders = { SequencingOrder.GUID,
+                                               SequencingOrder.CREATION_DATE_OLDEST,
+                                               SequencingOrder.CREATION_DATE_RECENT,
+                                               SequencingOrder.LAST_UPDATE_OLDEST,
+                                               SequencingOrder.LAST_UPDATE_RECENT,
+                                               SequencingOrder.PROPERTY_ASCENDING,
+                                               SequencingOrder.PROPERTY_DESCENDING };
+
+        for (SequencingOrder sequencingOrder : sequencingOrders)
+        {
+            Comparator<EntityDetail> comparator = OMRSInstancePageCollector.getComparator(propertyName, sequencingOrder);
+
+            for (int pageSize : new int[] { 0, 1, 7, 50 })
+            {
+                for (int fromElement : new int[] { 0, 3, 49, 495, 500 })
+                {
+                    OMRSInstancePageCollector<EntityDetail> collector = new OMRSInstancePageCollector<>(fromElement,
+                                                                                                        propertyName,
+                                                                                                        sequencingOrder,
+                                                                                                        pageSize);
+                    collector.addAll(entities);
+
+                    assertEquals(collector.getResults(),
+                                 getSortedPage(entities, comparator, fromElement, pageSize),
+                                 sequencingOrder + " from " + fromElement + " size " + pageSize);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Validate that consecutive pages do not overlap or miss instances when the candidates arrive in a different
+     * order on each call.
+     */
+    @Test public void testStablePageBoundaries()
+    {
+        List<EntityDetail> entities      = getEntities(200);
+        List<EntityDetail> pagedEntities = new ArrayList<>();
+        int                pageSize      = 15;
+
+        for (int fromElement = 0; fromElement < entities.size(); fromElement = fromElement + pageSize)
+        {
+            Collections.shuffle(entities, new Random(fromElement));
+
+            OMRSInstancePageCollector<EntityDetail> collector = new OMRSInstancePageCollector<>(fromElement,
+                                                                                                propertyName,
+                                                                                                SequencingOrder.PROPERTY_ASCENDING,
+                                                                                                pageSize);
+            collector.addAll(entities);
+            pagedEntities.addAll(collector.getResults());
+        }
+
+        assertEquals(pagedEntities, getSortedPage(entities,
+                                                  OMRSInstancePageCollector.getComparator(propertyName, SequencingOrder.PROPERTY_ASCENDING),
+                                                  0,
+                                                  0));
+    }
+
+
+    /**
+     * Validate that an unsequenced collector keeps the first candidates and reports when it is complete.
+     */
+    @Test public void testUnsequenced()
+    {
+        List<EntityDetail> entities = getEntities(20);
+
+        OMRSInstancePageCollector<EntityDetail> collector = new OMRSInstancePageCollector<>(5, null, SequencingOrder.ANY, 10);
+
+        for (EntityDetail entity : entities)
+        {
+            collector.add(entity);
+
+            if (collector.isComplete())
+            {
+                break;
+            }
+        }
+
+        assertTrue(collector.isComplete());
+        assertEquals(collector.getResults(), entities.subList(5, 15));
+
+        collector = new OMRSInstancePageCollector<>(20, null, null, 10);
+        collector.addAll(entities);
+
+        assertFalse(collector.isComplete());
+        assertNull(collector.getResults());
+    }
+}
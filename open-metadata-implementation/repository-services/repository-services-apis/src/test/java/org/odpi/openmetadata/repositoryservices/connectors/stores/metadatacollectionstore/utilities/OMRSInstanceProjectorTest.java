@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSInstanceProjector returns projected copies of the retrieved instances.
+ */
+public class OMRSInstanceProjectorTest
+{
+    /**
+     * Build an entity with three properties and a classification.
+     *
+     * @return entity
+     */
+    private EntityDetail getTestEntity()
+    {
+        EntityDetail       entity     = new EntityDetail();
+        InstanceProperties properties = new InstanceProperties();
+
+        for (String propertyName : new String[] { "qualifiedName", "displayName", "description" })
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveValue(propertyName + "Value");
+            properties.setProperty(propertyName, propertyValue);
+        }
+
+        entity.setGUID("testGUID");
+        entity.setProperties(properties);
+        entity.setClassifications(Collections.singletonList(new Classification()));
+
+        return entity;
+    }
+
+
+    /**
+     * Validate that a null projection returns the retrieved instances.
+     */
+    @Test public void testNoProjection()
+    {
+        List<EntityDetail> entities = Collections.singletonList(getTestEntity());
+
+        assertSame(OMRSInstanceProjector.projectEntities(entities, null), entities);
+        assertSame(OMRSInstanceProjector.projectEntities(entities, new InstanceProjection()), entities);
+    }
+
+
+    /**
+     * Validate a header only projection.
+     */
+    @Test public void testHeaderOnly()
+    {
+        EntityDetail       entity     = getTestEntity();
+        InstanceProjection projection = new InstanceProjection();
+
+        projection.setHeaderOnly(true);
+
+        EntityDetail projectedEntity = OMRSInstanceProjector.projectEntity(entity, projection);
+
+        assertEquals(projectedEntity.getGUID(), "testGUID");
+        assertNull(projectedEntity.getProperties());
+        assertNull(projectedEntity.getClassifications());
+        assertNotNull(entity.getProperties());
+        assertNotNull(entity.getClassifications());
+    }
+
+
+    /**
+     * Validate a projection that names the properties to return.
+     */
+    @Test public void testPropertyNames()
+    {
+        EntityDetail       entity     = getTestEntity();
+        InstanceProjection projection = new InstanceProjection();
+
+        projection.setPropertyNames(Arrays.asList("displayName", "unknownName"));
+
+        EntityDetail projectedEntity = OMRSInstanceProjector.projectEntity(entity, projection);
+
+        assertEquals(projectedEntity.getProperties().getPropertyCount(), 1);
+        assertNotNull(projectedEntity.getProperties().getPropertyValue("displayName"));
+        assertNotNull(projectedEntity.getClassifications());
+        assertEquals(entity.getProperties().getPropertyCount(), 3);
+    }
+
+
+    /**
+     * Validate that the sequencing property is retained until the results are sequenced.
+     */
+    @Test public void testSequencingProjection()
+    {
+        InstanceProjection projection = new InstanceProjection();
+
+        projection.setHeaderOnly(true);
+
+        InstanceProjection sequencingProjection = OMRSInstanceProjector.getSequencingProjection(projection, "qualifiedName");
+
+        assertEquals(sequencingProjection.getPropertyNames(), Collections.singletonList("qualifiedName"));
+        assertSame(OMRSInstanceProjector.getSequencingProjection(projection, null), projection);
+
+        projection = new InstanceProjection();
+        projection.setPropertyNames(Collections.singletonList("displayName"));
+
+        sequencingProjection = OMRSInstanceProjector.getSequencingProjection(projection, "qualifiedName");
+
+        assertTrue(sequencingProjection.getPropertyNames().contains("displayName"));
+        assertTrue(sequencingProjection.getPropertyNames().contains("qualifiedName"));
+        assertEquals(projection.getPropertyNames().size(), 1);
+    }
+}
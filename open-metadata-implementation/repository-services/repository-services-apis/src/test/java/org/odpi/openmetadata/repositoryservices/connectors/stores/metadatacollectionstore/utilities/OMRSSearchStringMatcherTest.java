@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Verify that OMRSSearchStringMatcher recognizes the search strings built by the repository helper and
+ * always gives the same result as String.matches().
+ */
+public class OMRSSearchStringMatcherTest
+{
+    private static final String[] literals = { "Asset", "asset", "Ass", "set", "a.b", "a\\E", "", "Kelvin" };
+
+    private static final String[] values = { "Asset", "asset", "ASSET", "MyAsset", "Assets", "MyAssets", "a.b", "axb",
+                                             "a\\E", "", "line\nAsset", "Asset\r", "\u212Aelvin", "kelvin", "Ass\u00e9t" };
+
+
+    /**
+     * Validate that the helper's regular expressions are recognized.
+     */
+    @Test public void testMatchTypes()
+    {
+        assertEquals(OMRSSearchStringMatcher.getMatcher(Pattern.quote("Asset")).getMatchType(), OMRSSearchStringMatcher.MatchType.EXACT);
+        assertEquals(OMRSSearchStringMatcher.getMatcher("(?i)" + Pattern.quote("Asset")).getMatchType(), OMRSSearchStringMatcher.MatchType.EXACT);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(Pattern.quote("Asset") + ".*").getMatchType(), OMRSSearchStringMatcher.MatchType.STARTS_WITH);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(".*" + Pattern.quote("Asset")).getMatchType(), OMRSSearchStringMatcher.MatchType.ENDS_WITH);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(".*" + Pattern.quote("Asset") + ".*").getMatchType(), OMRSSearchStringMatcher.MatchType.CONTAINS);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(".*Asset.*").getMatchType(), OMRSSearchStringMatcher.MatchType.CONTAINS);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(".*").getMatchType(), OMRSSearchStringMatcher.MatchType.ANY);
+        assertEquals(OMRSSearchStringMatcher.getMatcher("Asset").getMatchType(), OMRSSearchStringMatcher.MatchType.EXACT);
+        assertEquals(OMRSSearchStringMatcher.getMatcher("As+et").getMatchType(), OMRSSearchStringMatcher.MatchType.REGEX);
+        assertEquals(OMRSSearchStringMatcher.getMatcher(Pattern.quote("a\\E")).getMatchType(), OMRSSearchStringMatcher.MatchType.REGEX);
+    }
+
+
+    /**
+     * Validate that every matcher gives the same result as String.matches().
+     */
+    @Test public void testEquivalence()
+    {
+        for (String literal : literals)
+        {
+            for (String insensitive : new String[] { "", "(?i)" })
+            {
+                String[] searchStrings = { insensitive + Pattern.quote(literal),
+                                           insensitive + Pattern.quote(literal) + ".*",
+                                           insensitive + ".*" + Pattern.quote(literal),
+                                           insensitive + ".*" + Pattern.quote(literal) + ".*",
+                                           insensitive + literal.replace("\\", "\\\\").replace(".", "\\."),
+                                           insensitive + ".*" + literal.replace("\\", "\\\\").replace(".", "\\.") + ".*",
+                                           insensitive + literal.replace("\\", "\\\\").replace(".", "\\.") + ".*",
+                                           insensitive + ".*" };
+
+                for (String searchString : searchStrings)
+                {
+                    for (String value : values)
+                    {
+                        assertEquals(OMRSSearchStringMatcher.matches(searchString, value),
+                                     value.matches(searchString),
+                                     "search string " + searchString + " value " + value);
+                    }
+                }
+            }
+        }
+    }
+}
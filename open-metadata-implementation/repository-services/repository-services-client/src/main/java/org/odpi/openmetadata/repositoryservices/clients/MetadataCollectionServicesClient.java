@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
@@ -1469,6 +1470,76 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                       PagingErrorException,
                                                                                       FunctionNotSupportedException,
                                                                                       UserNotAuthorizedException
+    {
+        return this.findEntities(userId,
+                                 entityTypeGUID,
+                                 entitySubtypeGUIDs,
+                                 matchProperties,
+                                 fromEntityElement,
+                                 limitResultsByStatus,
+                                 matchClassifications,
+                                 asOfTime,
+                                 sequencingProperty,
+                                 sequencingOrder,
+                                 pageSize,
+                                 null);
+    }
+
+
+    /**
+     * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntities(String                userId,
+                                           String                entityTypeGUID,
+                                           List<String>          entitySubtypeGUIDs,
+                                           SearchProperties      matchProperties,
+                                           int                   fromEntityElement,
+                                           List<InstanceStatus>  limitResultsByStatus,
+                                           SearchClassifications matchClassifications,
+                                           Date                  asOfTime,
+                                           String                sequencingProperty,
+                                           SequencingOrder       sequencingOrder,
+                                           int                   pageSize,
+                                           InstanceProjection    projection) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    PagingErrorException,
+                                                                                    FunctionNotSupportedException,
+                                                                                    UserNotAuthorizedException
     {
         final String       methodName = "findEntities";
         EntityListResponse restResult;
@@ -1487,6 +1558,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callEntityListPostRESTCall(methodName,
                     restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -1508,6 +1580,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callEntityListPostRESTCall(methodName,
                     restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -1805,6 +1878,75 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                   PagingErrorException,
                                                                                                   FunctionNotSupportedException,
                                                                                                   UserNotAuthorizedException
+    {
+        return this.findEntitiesByPropertyValue(userId,
+                                                entityTypeGUID,
+                                                searchCriteria,
+                                                fromEntityElement,
+                                                limitResultsByStatus,
+                                                limitResultsByClassification,
+                                                asOfTime,
+                                                sequencingProperty,
+                                                sequencingOrder,
+                                                pageSize,
+                                                null);
+    }
+
+
+    /**
+     * Return a list of entities whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the entities of the supplied type, even if it should be an exact match.
+     *                       (Retrieve all entities of the supplied type if this is either null or an empty string.)
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<EntityDetail> findEntitiesByPropertyValue(String               userId,
+                                                           String               entityTypeGUID,
+                                                           String               searchCriteria,
+                                                           int                  fromEntityElement,
+                                                           List<InstanceStatus> limitResultsByStatus,
+                                                           List<String>         limitResultsByClassification,
+                                                           Date                 asOfTime,
+                                                           String               sequencingProperty,
+                                                           SequencingOrder      sequencingOrder,
+                                                           int                  pageSize,
+                                                           InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                   TypeErrorException,
+                                                                                                   RepositoryErrorException,
+                                                                                                   PropertyErrorException,
+                                                                                                   PagingErrorException,
+                                                                                                   FunctionNotSupportedException,
+                                                                                                   UserNotAuthorizedException
     {
         final String       methodName  = "findEntitiesByPropertyValue";
         EntityListResponse restResult;
@@ -1821,6 +1963,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callEntityListPostRESTCall(methodName,
                                                          restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -1841,6 +1984,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callEntityListPostRESTCall(methodName,
                                                          restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2084,6 +2228,75 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                             PagingErrorException,
                                                                                             FunctionNotSupportedException,
                                                                                             UserNotAuthorizedException
+    {
+        return this.findRelationships(userId,
+                                      relationshipTypeGUID,
+                                      relationshipSubtypeGUIDs,
+                                      matchProperties,
+                                      fromRelationshipElement,
+                                      limitResultsByStatus,
+                                      asOfTime,
+                                      sequencingProperty,
+                                      sequencingOrder,
+                                      pageSize,
+                                      null);
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested conditions.  The results can be received as a series of
+     * pages.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<Relationship> findRelationships(String               userId,
+                                                 String               relationshipTypeGUID,
+                                                 List<String>         relationshipSubtypeGUIDs,
+                                                 SearchProperties     matchProperties,
+                                                 int                  fromRelationshipElement,
+                                                 List<InstanceStatus> limitResultsByStatus,
+                                                 Date                 asOfTime,
+                                                 String               sequencingProperty,
+                                                 SequencingOrder      sequencingOrder,
+                                                 int                  pageSize,
+                                                 InstanceProjection   projection) throws InvalidParameterException,
+                                                                                         TypeErrorException,
+                                                                                         RepositoryErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
     {
         final String             methodName  = "findRelationships";
         RelationshipListResponse restResult;
@@ -2102,6 +2315,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callRelationshipListPostRESTCall(methodName,
                     restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2123,6 +2337,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callRelationshipListPostRESTCall(methodName,
                     restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2298,6 +2513,70 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                            PagingErrorException,
                                                                                                            FunctionNotSupportedException,
                                                                                                            UserNotAuthorizedException
+    {
+        return this.findRelationshipsByPropertyValue(userId,
+                                                     relationshipTypeGUID,
+                                                     searchCriteria,
+                                                     fromRelationshipElement,
+                                                     limitResultsByStatus,
+                                                     asOfTime,
+                                                     sequencingProperty,
+                                                     sequencingOrder,
+                                                     pageSize,
+                                                     null);
+    }
+
+
+    /**
+     * Return a list of relationships whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationships of the supplied type, even if it should be an exact match.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<Relationship> findRelationshipsByPropertyValue(String               userId,
+                                                                String               relationshipTypeGUID,
+                                                                String               searchCriteria,
+                                                                int                  fromRelationshipElement,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime,
+                                                                String               sequencingProperty,
+                                                                SequencingOrder      sequencingOrder,
+                                                                int                  pageSize,
+                                                                InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                        TypeErrorException,
+                                                                                                        RepositoryErrorException,
+                                                                                                        PropertyErrorException,
+                                                                                                        PagingErrorException,
+                                                                                                        FunctionNotSupportedException,
+                                                                                                        UserNotAuthorizedException
     {
         final String             methodName  = "findRelationshipsByPropertyValue";
         RelationshipListResponse restResult;
@@ -2313,6 +2592,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callRelationshipListPostRESTCall(methodName,
                                                                restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2332,6 +2612,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setSequencingOrder(sequencingOrder);
             findRequestParameters.setSequencingProperty(sequencingProperty);
             findRequestParameters.setPageSize(pageSize);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callRelationshipListPostRESTCall(methodName,
                                                                restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2471,6 +2752,65 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                   PropertyErrorException,
                                                                                   FunctionNotSupportedException,
                                                                                   UserNotAuthorizedException
+    {
+        return this.getEntityNeighborhood(userId,
+                                          entityGUID,
+                                          entityTypeGUIDs,
+                                          relationshipTypeGUIDs,
+                                          limitResultsByStatus,
+                                          limitResultsByClassification,
+                                          asOfTime,
+                                          level,
+                                          null);
+    }
+
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level,
+                                               InstanceProjection   projection) throws InvalidParameterException,
+                                                                                       RepositoryErrorException,
+                                                                                       TypeErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
     {
         final String          methodName  = "getEntityNeighborhood";
         InstanceGraphResponse restResult;
@@ -2484,6 +2824,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
             findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
             findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callInstanceGraphPostRESTCall(methodName,
                                                             restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -2502,6 +2843,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
             findRequestParameters.setAsOfTime(asOfTime);
             findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
             findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+            findRequestParameters.setProjection(projection);
 
             restResult = this.callInstanceGraphPostRESTCall(methodName,
                                                             restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
@@ -26,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventMapperConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectionConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseInstanceCache;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSConnection;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
@@ -44,6 +45,7 @@ import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTSe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -208,6 +210,27 @@ public class OMRSOperationalServices
     }
 
 
+    /**
+     * Return the statistics of the enterprise instance cache for the server status.
+     *
+     * @return map of statistic name to value or null if the cache is not enabled
+     */
+    public Map<String, Long> getEnterpriseInstanceCacheStatistics()
+    {
+        if (enterpriseConnectorManager != null)
+        {
+            OMRSEnterpriseInstanceCache instanceCache = enterpriseConnectorManager.getInstanceCache();
+
+            if (instanceCache != null)
+            {
+                return instanceCache.getStatistics();
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Create an audit log for an external component.
      *
@@ -354,6 +377,27 @@ public class OMRSOperationalServices
         enterpriseOMRSTopicConnector = initializeEnterpriseOMRSTopicConnector(enterpriseAccessConfig);
         remoteEnterpriseOMRSTopicConnector = initializeRemoteEnterpriseOMRSTopicConnector(enterpriseAccessConfig);
 
+        /*
+         * The instance events on the enterprise topic keep the enterprise connectors' index of where each
+         * instance is stored up to date.  They also keep the optional cache of federated retrievals up to date,
+         * so the cache is only used when there is an enterprise topic.
+         */
+        if (enterpriseOMRSTopicConnector != null)
+        {
+            enterpriseOMRSTopicConnector.registerListener(enterpriseConnectorManager.getInstanceLocationIndex(),
+                                                          OMRSAuditingComponent.ENTERPRISE_CONNECTOR_MANAGER.getComponentName());
+
+            if ((enterpriseAccessConfig != null) && (enterpriseAccessConfig.getEnterpriseInstanceCacheSize() > 0))
+            {
+                OMRSEnterpriseInstanceCache instanceCache = new OMRSEnterpriseInstanceCache(enterpriseAccessConfig.getEnterpriseInstanceCacheSize(),
+                                                                                            enterpriseAccessConfig.getEnterpriseInstanceCacheMaxAge());
+
+                enterpriseConnectorManager.setInstanceCache(instanceCache);
+                enterpriseOMRSTopicConnector.registerListener(instanceCache,
+                                                              OMRSAuditingComponent.ENTERPRISE_CONNECTOR_MANAGER.getComponentName());
+            }
+        }
+
         /*
          * The archive manager loads pre-defined types and instances that are stored in open metadata archives.
          */
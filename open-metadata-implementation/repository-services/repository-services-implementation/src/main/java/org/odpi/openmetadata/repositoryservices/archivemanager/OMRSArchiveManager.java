@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveSnapshot;
 
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorClassificationExtension;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -134,12 +135,13 @@ public class OMRSArchiveManager
 
     /**
      * Unpack and process the contents an open metadata archive store, passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The types are read from the snapshot packaged with them if it matches,
+     * otherwise they are built programmatically.
      */
     private void processOpenMetadataTypes()
     {
         OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        OpenMetadataArchive      openMetadataTypes        = new OpenMetadataTypesArchiveSnapshot().getOpenMetadataArchive();
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
         processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
@@ -30,4 +30,22 @@ public interface OMRSConnectorManager
      *                             registerConnectorConsumer.
      */
     void unregisterConnectorConsumer(String   connectorConsumerId);
+
+
+    /**
+     * Return the index of the cohort members that hold each instance.  It is shared by the connector consumers
+     * so that what one of them learns about the location of an instance can be used by the others.
+     *
+     * @return instance location index
+     */
+    OMRSInstanceLocationIndex getInstanceLocationIndex();
+
+
+    /**
+     * Return the cache of instances retrieved from the cohorts.  It is shared by the connector consumers so that
+     * an instance retrieved by one of them can be returned to the others.
+     *
+     * @return instance cache or null if caching is not enabled
+     */
+    OMRSEnterpriseInstanceCache getInstanceCache();
 }
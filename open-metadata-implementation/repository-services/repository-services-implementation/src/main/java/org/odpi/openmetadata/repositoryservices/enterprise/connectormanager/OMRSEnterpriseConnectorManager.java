@@ -81,9 +81,11 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     private final AuditLog                          auditLog;
     private final String                            localServerUserId;
     private final String                            localServerPassword;
+    private final OMRSInstanceLocationIndex         instanceLocationIndex        = new OMRSInstanceLocationIndex();
 
     private String                            localMetadataCollectionId    = null;
     private LocalOMRSRepositoryConnector      localRepositoryConnector     = null;
+    private OMRSEnterpriseInstanceCache       instanceCache                = null;
 
     /**
      * Constructor for the enterprise connector manager.
@@ -129,6 +131,45 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     }
 
 
+    /**
+     * Return the index of the cohort members that hold each instance.  It is shared by all the enterprise
+     * repository connectors in the server and is maintained from the instance events on the enterprise OMRS topic and
+     * the entities that the connectors retrieve.
+     *
+     * @return instance location index
+     */
+    @Override
+    public OMRSInstanceLocationIndex getInstanceLocationIndex()
+    {
+        return instanceLocationIndex;
+    }
+
+
+    /**
+     * Set up the cache of instances retrieved from the cohorts.  This is only called if the cache is enabled in the
+     * enterprise access configuration, and must be called before the enterprise repository connectors are created.
+     *
+     * @param instanceCache instance cache
+     */
+    public void setInstanceCache(OMRSEnterpriseInstanceCache instanceCache)
+    {
+        this.instanceCache = instanceCache;
+    }
+
+
+    /**
+     * Return the cache of instances retrieved from the cohorts.  It is shared by all the enterprise repository
+     * connectors in the server and is maintained from the instance events on the enterprise OMRS topic.
+     *
+     * @return instance cache or null if caching is not enabled
+     */
+    @Override
+    public OMRSEnterpriseInstanceCache getInstanceCache()
+    {
+        return instanceCache;
+    }
+
+
     /**
      * The disconnect processing involves disconnecting the local connector then unregistering all remote repositories with
      * each of the connector consumers. Each connector consumer will pass the disconnect() request to each of their repository
@@ -468,6 +509,13 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
          */
         if ((enterpriseAccessEnabled) && (repositoryRegistrationCount == 0))
         {
+            instanceLocationIndex.removeMetadataCollection(metadataCollectionId);
+
+            if (instanceCache != null)
+            {
+                instanceCache.clear();
+            }
+
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
                 registeredConnectorConsumer.getConnectorConsumer().removeRemoteConnector(metadataCollectionId);
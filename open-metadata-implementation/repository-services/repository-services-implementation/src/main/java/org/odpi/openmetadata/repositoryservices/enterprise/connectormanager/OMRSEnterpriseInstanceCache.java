@@ -0,0 +1,778 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OMRSEnterpriseInstanceCache remembers the results of federated retrievals of entities, relationships and the
+ * relationships for an entity so that repeated reads of popular elements are not sent to every member of the cohorts.
+ * It is shared by all the enterprise repository connectors in the server and is only created if it is enabled in the
+ * enterprise access configuration.
+ * <p>
+ * Results are held for each calling user, since the members may return different results to different users.  Each
+ * cached entity or relationship is held with its version, and a result for an older version than the one cached is
+ * not saved.  Results are discarded when an instance event on the enterprise OMRS topic, or an update made through
+ * the enterprise repository connector, reports that the instance has changed.  A result retrieved while the instance
+ * was changing is not saved.  Results are also discarded once they are older than the maximum entry age, and the
+ * least recently used instances are discarded first when the cache is full.
+ * </p>
+ * <p>
+ * Historical (asOfTime) retrievals do not use the cache.
+ * </p>
+ */
+public class OMRSEnterpriseInstanceCache implements OMRSTopicRepositoryEventListener
+{
+    public static final long DEFAULT_MAX_ENTRY_AGE = 30000; // milliseconds
+
+    private final long                                 maxEntryAge;
+    private final Map<String, CachedInstance>          instances;
+    private final Map<String, CachedRelationshipLists> relationshipLists;
+    private final Map<String, Long>                    changeSequences;
+
+    /*
+     * The sequence is incremented each time instances are discarded because they have changed.  A retrieval that
+     * started before an instance changed may have returned the old values, so its results are not saved.
+     */
+    private long sequence          = 0;
+    private long discardedSequence = 0;
+
+    private long hitCount     = 0;
+    private long missCount    = 0;
+    private long staleCount   = 0;
+    private long expiredCount = 0;
+    private long evictedCount = 0;
+
+
+    /**
+     * Constructor for a cache with specific limits.
+     *
+     * @param maxEntries maximum number of instances (and entities with relationship lists) to remember
+     * @param maxEntryAge number of milliseconds that a result is used for; zero means use the default
+     */
+    public OMRSEnterpriseInstanceCache(int  maxEntries,
+                                       long maxEntryAge)
+    {
+        this.maxEntryAge = (maxEntryAge > 0) ? maxEntryAge : DEFAULT_MAX_ENTRY_AGE;
+
+        this.instances = new LinkedHashMap<String, CachedInstance>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedInstance> eldest)
+            {
+                if (size() > maxEntries)
+                {
+                    evictedCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        this.relationshipLists = new LinkedHashMap<String, CachedRelationshipLists>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRelationshipLists> eldest)
+            {
+                if (size() > maxEntries)
+                {
+                    evictedCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        this.changeSequences = new LinkedHashMap<String, Long>(16, 0.75f, false)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest)
+            {
+                if (size() > maxEntries)
+                {
+                    /*
+                     * The change is forgotten, so retrievals that started before it can not be saved.
+                     */
+                    discardedSequence = Math.max(discardedSequence, eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return the current sequence number.  This is called before a retrieval starts and passed to the save method
+     * with the results.
+     *
+     * @return sequence number
+     */
+    public synchronized long getSequence()
+    {
+        return sequence;
+    }
+
+
+    /**
+     * Return a cached entity.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @return copy of the entity or null if it is not cached
+     */
+    public EntityDetail getEntity(String userId,
+                                  String entityGUID)
+    {
+        Object entity = this.getInstance(userId, entityGUID);
+
+        if (entity instanceof EntityDetail)
+        {
+            return new EntityDetail((EntityDetail)entity);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save an entity retrieved from the cohorts.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     * @param startSequence sequence number from before the retrieval started
+     */
+    public void saveEntity(String       userId,
+                           EntityDetail entity,
+                           long         startSequence)
+    {
+        if (entity != null)
+        {
+            this.saveInstance(userId, new EntityDetail(entity), startSequence);
+        }
+    }
+
+
+    /**
+     * Return a cached relationship.
+     *
+     * @param userId calling user
+     * @param relationshipGUID unique identifier of the relationship
+     * @return copy of the relationship or null if it is not cached
+     */
+    public Relationship getRelationship(String userId,
+                                        String relationshipGUID)
+    {
+        Object relationship = this.getInstance(userId, relationshipGUID);
+
+        if (relationship instanceof Relationship)
+        {
+            return new Relationship((Relationship)relationship);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save a relationship retrieved from the cohorts.
+     *
+     * @param userId calling user
+     * @param relationship retrieved relationship
+     * @param startSequence sequence number from before the retrieval started
+     */
+    public void saveRelationship(String       userId,
+                                 Relationship relationship,
+                                 long         startSequence)
+    {
+        if (relationship != null)
+        {
+            this.saveInstance(userId, new Relationship(relationship), startSequence);
+        }
+    }
+
+
+    /**
+     * Return the cached relationships for an entity.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param queryKey the parameters of the query (other than the user and entity)
+     * @return cached result (its list may be null) or null if the relationships are not cached
+     */
+    public synchronized RelationshipList getRelationshipsForEntity(String userId,
+                                                                   String entityGUID,
+                                                                   String queryKey)
+    {
+        CachedRelationshipLists cachedLists = (entityGUID == null) ? null : relationshipLists.get(entityGUID);
+        CachedResult<List<Relationship>> cachedResult = null;
+
+        if (cachedLists != null)
+        {
+            cachedResult = cachedLists.results.get(getUserKey(userId, queryKey));
+
+            if ((cachedResult != null) && (this.isExpired(cachedResult)))
+            {
+                cachedLists.results.remove(getUserKey(userId, queryKey));
+                expiredCount++;
+                cachedResult = null;
+            }
+        }
+
+        if (cachedResult == null)
+        {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+
+        return new RelationshipList(copyRelationships(cachedResult.value));
+    }
+
+
+    /**
+     * Save the relationships for an entity retrieved from the cohorts.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @param queryKey the parameters of the query (other than the user and entity)
+     * @param relationships retrieved relationships or null if there are none
+     * @param startSequence sequence number from before the retrieval started
+     */
+    public synchronized void saveRelationshipsForEntity(String             userId,
+                                                        String             entityGUID,
+                                                        String             queryKey,
+                                                        List<Relationship> relationships,
+                                                        long               startSequence)
+    {
+        if ((entityGUID == null) || (this.isChangedSince(entityGUID, startSequence)))
+        {
+            return;
+        }
+
+        CachedRelationshipLists cachedLists = relationshipLists.computeIfAbsent(entityGUID, guid -> new CachedRelationshipLists());
+
+        cachedLists.results.put(getUserKey(userId, queryKey), new CachedResult<>(copyRelationships(relationships)));
+    }
+
+
+    /**
+     * Discard the cached values of an entity and its relationships because it has changed.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    public synchronized void removeEntity(String entityGUID)
+    {
+        if (entityGUID != null)
+        {
+            this.recordChange(entityGUID);
+
+            if (instances.remove(entityGUID) != null)
+            {
+                staleCount++;
+            }
+
+            this.removeRelationshipLists(entityGUID);
+        }
+    }
+
+
+    /**
+     * Discard the cached relationships for an entity because a relationship has been added to, or removed from,
+     * the entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    public synchronized void removeRelationshipsForEntity(String entityGUID)
+    {
+        if (entityGUID != null)
+        {
+            this.recordChange(entityGUID);
+            this.removeRelationshipLists(entityGUID);
+        }
+    }
+
+
+    /**
+     * Discard the cached values of a relationship, and the relationship lists of its ends, because it has changed.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     * @param relationship new values of the relationship, if known - they identify its ends
+     */
+    public synchronized void removeRelationship(String       relationshipGUID,
+                                                Relationship relationship)
+    {
+        if (relationshipGUID == null)
+        {
+            return;
+        }
+
+        this.recordChange(relationshipGUID);
+
+        CachedInstance cachedInstance = instances.remove(relationshipGUID);
+
+        if (cachedInstance != null)
+        {
+            staleCount++;
+        }
+
+        if ((relationship == null) && (cachedInstance != null) && (cachedInstance.anyValue() instanceof Relationship))
+        {
+            relationship = (Relationship)cachedInstance.anyValue();
+        }
+
+        if ((relationship != null) && (relationship.getEntityOneProxy() != null) && (relationship.getEntityTwoProxy() != null))
+        {
+            this.removeRelationshipsForEntity(relationship.getEntityOneProxy().getGUID());
+            this.removeRelationshipsForEntity(relationship.getEntityTwoProxy().getGUID());
+        }
+        else if (! relationshipLists.isEmpty())
+        {
+            /*
+             * The ends of the relationship are not known so any of the relationship lists may be out of date.
+             */
+            staleCount = staleCount + relationshipLists.size();
+            relationshipLists.clear();
+            discardedSequence = ++sequence;
+        }
+    }
+
+
+    /**
+     * Discard all cached values.  This is called when the types change or a member leaves the cohorts.
+     */
+    public synchronized void clear()
+    {
+        staleCount = staleCount + instances.size() + relationshipLists.size();
+
+        instances.clear();
+        relationshipLists.clear();
+        changeSequences.clear();
+        discardedSequence = ++sequence;
+    }
+
+
+    /**
+     * Return the statistics of the cache.
+     *
+     * @return map of statistic name to value
+     */
+    public synchronized Map<String, Long> getStatistics()
+    {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+
+        statistics.put("enterpriseCacheHits", hitCount);
+        statistics.put("enterpriseCacheMisses", missCount);
+        statistics.put("enterpriseCacheStaleEntries", staleCount);
+        statistics.put("enterpriseCacheExpiredEntries", expiredCount);
+        statistics.put("enterpriseCacheEvictedEntries", evictedCount);
+        statistics.put("enterpriseCacheInstances", (long)instances.size());
+        statistics.put("enterpriseCacheRelationshipLists", (long)relationshipLists.size());
+
+        return statistics;
+    }
+
+
+    /**
+     * Return the cached value of an instance for a user.
+     *
+     * @param userId calling user
+     * @param instanceGUID unique identifier of the instance
+     * @return cached value or null
+     */
+    private synchronized Object getInstance(String userId,
+                                            String instanceGUID)
+    {
+        CachedInstance  cachedInstance = (instanceGUID == null) ? null : instances.get(instanceGUID);
+        CachedResult<?> cachedResult   = (cachedInstance == null) ? null : cachedInstance.results.get(userId);
+
+        if ((cachedResult != null) && (this.isExpired(cachedResult)))
+        {
+            cachedInstance.results.remove(userId);
+            expiredCount++;
+            cachedResult = null;
+        }
+
+        if (cachedResult == null)
+        {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+
+        return cachedResult.value;
+    }
+
+
+    /**
+     * Save the value of an instance for a user.  All values for older versions of the instance are discarded.
+     *
+     * @param userId calling user
+     * @param instance retrieved instance
+     * @param startSequence sequence number from before the retrieval started
+     * @param <T> type of instance
+     */
+    private synchronized <T extends InstanceHeader> void saveInstance(String userId,
+                                                                      T      instance,
+                                                                      long   startSequence)
+    {
+        String instanceGUID = instance.getGUID();
+
+        if ((instanceGUID == null) || (this.isChangedSince(instanceGUID, startSequence)))
+        {
+            return;
+        }
+
+        CachedInstance cachedInstance = instances.get(instanceGUID);
+
+        if ((cachedInstance != null) && (instance.getVersion() < cachedInstance.version))
+        {
+            /*
+             * The retrieved instance is older than the cached one.
+             */
+            return;
+        }
+
+        if ((cachedInstance == null) || (instance.getVersion() > cachedInstance.version) ||
+            (! instance.getClass().equals(cachedInstance.instanceClass)))
+        {
+            cachedInstance = new CachedInstance(instance.getClass(), instance.getVersion());
+            instances.put(instanceGUID, cachedInstance);
+        }
+
+        cachedInstance.results.put(userId, new CachedResult<>(instance));
+    }
+
+
+    /**
+     * Discard the relationship lists for an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void removeRelationshipLists(String entityGUID)
+    {
+        if (relationshipLists.remove(entityGUID) != null)
+        {
+            staleCount++;
+        }
+    }
+
+
+    /**
+     * Record that an instance has changed.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    private void recordChange(String instanceGUID)
+    {
+        sequence++;
+        changeSequences.put(instanceGUID, sequence);
+    }
+
+
+    /**
+     * Return whether an instance has changed since a retrieval started.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param startSequence sequence number from before the retrieval started
+     * @return flag
+     */
+    private boolean isChangedSince(String instanceGUID,
+                                   long   startSequence)
+    {
+        if (discardedSequence > startSequence)
+        {
+            return true;
+        }
+
+        Long changeSequence = changeSequences.get(instanceGUID);
+
+        return (changeSequence != null) && (changeSequence > startSequence);
+    }
+
+
+    /**
+     * Return whether a result is older than the maximum entry age.
+     *
+     * @param cachedResult result
+     * @return flag
+     */
+    private boolean isExpired(CachedResult<?> cachedResult)
+    {
+        return System.currentTimeMillis() - cachedResult.saveTime > maxEntryAge;
+    }
+
+
+    /**
+     * Return the key for the results of a user.
+     *
+     * @param userId calling user
+     * @param queryKey the parameters of the query
+     * @return key
+     */
+    private static String getUserKey(String userId,
+                                     String queryKey)
+    {
+        return userId + ':' + queryKey;
+    }
+
+
+    /**
+     * Copy a list of relationships so the cached values can not be changed by the caller.
+     *
+     * @param relationships list of relationships
+     * @return copy or null
+     */
+    private static List<Relationship> copyRelationships(List<Relationship> relationships)
+    {
+        if (relationships == null)
+        {
+            return null;
+        }
+
+        List<Relationship> copies = new ArrayList<>(relationships.size());
+
+        for (Relationship relationship : relationships)
+        {
+            copies.add((relationship == null) ? null : new Relationship(relationship));
+        }
+
+        return copies;
+    }
+
+
+    /**
+     * Discard all cached values if the types change since the instances may no longer match their types.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+        if ((event != null) && (event.getTypeDefEventType() != null))
+        {
+            switch (event.getTypeDefEventType())
+            {
+                case NEW_TYPEDEF_EVENT:
+                case NEW_ATTRIBUTE_TYPEDEF_EVENT:
+                case TYPEDEF_ERROR_EVENT:
+                    break;
+
+                default:
+                    this.clear();
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Discard the cached values of an instance that has changed.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if ((event == null) || (event.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        switch (event.getInstanceEventType())
+        {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case CLASSIFIED_ENTITY_EVENT:
+            case DECLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+            case DELETED_ENTITY_EVENT:
+            case PURGED_ENTITY_EVENT:
+            case RESTORED_ENTITY_EVENT:
+            case RETYPED_ENTITY_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                if (event.getInstanceGUID() != null)
+                {
+                    this.removeEntity(event.getInstanceGUID());
+                }
+                else if (event.getEntity() != null)
+                {
+                    this.removeEntity(event.getEntity().getGUID());
+                }
+                else if (event.getEntityProxy() != null)
+                {
+                    this.removeEntity(event.getEntityProxy().getGUID());
+                }
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                this.removeEntity(event.getOriginalInstanceGUID());
+                if (event.getEntity() != null)
+                {
+                    this.removeEntity(event.getEntity().getGUID());
+                }
+                break;
+
+            case NEW_RELATIONSHIP_EVENT:
+            case UPDATED_RELATIONSHIP_EVENT:
+            case UNDONE_RELATIONSHIP_EVENT:
+            case DELETED_RELATIONSHIP_EVENT:
+            case PURGED_RELATIONSHIP_EVENT:
+            case RESTORED_RELATIONSHIP_EVENT:
+            case RETYPED_RELATIONSHIP_EVENT:
+            case RE_HOMED_RELATIONSHIP_EVENT:
+            case REFRESHED_RELATIONSHIP_EVENT:
+                Relationship relationship = event.getRelationship();
+
+                if (event.getInstanceGUID() != null)
+                {
+                    this.removeRelationship(event.getInstanceGUID(), relationship);
+                }
+                else if (relationship != null)
+                {
+                    this.removeRelationship(relationship.getGUID(), relationship);
+                }
+                break;
+
+            case RE_IDENTIFIED_RELATIONSHIP_EVENT:
+                this.removeRelationship(event.getOriginalInstanceGUID(), event.getRelationship());
+                if (event.getRelationship() != null)
+                {
+                    this.removeRelationship(event.getRelationship().getGUID(), event.getRelationship());
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+
+    /**
+     * RelationshipList wraps the cached relationships for an entity so that a cached empty result can be told apart
+     * from a result that is not cached.
+     */
+    public static class RelationshipList
+    {
+        private final List<Relationship> relationships;
+
+
+        /**
+         * Constructor for a cached result.
+         *
+         * @param relationships copy of the cached relationships
+         */
+        private RelationshipList(List<Relationship> relationships)
+        {
+            this.relationships = relationships;
+        }
+
+
+        /**
+         * Return the relationships.
+         *
+         * @return list of relationships or null if the entity has no relationships that match the query
+         */
+        public List<Relationship> getRelationships()
+        {
+            return relationships;
+        }
+    }
+
+
+    /**
+     * CachedResult holds a value retrieved from the cohorts and when it was saved.
+     *
+     * @param <V> type of value
+     */
+    private static class CachedResult<V>
+    {
+        private final V    value;
+        private final long saveTime = System.currentTimeMillis();
+
+
+        /**
+         * Constructor for a retrieved value.
+         *
+         * @param value value
+         */
+        private CachedResult(V value)
+        {
+            this.value = value;
+        }
+    }
+
+
+    /**
+     * CachedInstance holds the values of one version of an instance retrieved by each user.
+     */
+    private static class CachedInstance
+    {
+        private final Class<?>                     instanceClass;
+        private final long                         version;
+        private final Map<String, CachedResult<?>> results = new HashMap<>();
+
+
+        /**
+         * Constructor for a version of an instance.
+         *
+         * @param instanceClass class of the instance
+         * @param version version of the instance
+         */
+        private CachedInstance(Class<?> instanceClass,
+                               long     version)
+        {
+            this.instanceClass = instanceClass;
+            this.version       = version;
+        }
+
+
+        /**
+         * Return any of the cached values.
+         *
+         * @return value or null
+         */
+        private Object anyValue()
+        {
+            for (CachedResult<?> result : results.values())
+            {
+                return result.value;
+            }
+
+            return null;
+        }
+    }
+
+
+    /**
+     * CachedRelationshipLists holds the relationships for an entity retrieved for each user and query.
+     */
+    private static class CachedRelationshipLists
+    {
+        private final Map<String, CachedResult<List<Relationship>>> results = new HashMap<>();
+    }
+}
@@ -0,0 +1,378 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicRepositoryEventListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OMRSInstanceLocationIndex remembers which members of the connected cohorts hold each entity.  This is the home
+ * metadata collection of the entity plus any metadata collections that are the home of one of its classifications.
+ * It is shared by all the enterprise repository connectors in the server so that retrievals of a single entity can be
+ * directed to the members that hold it rather than to every member of the cohorts.
+ * <p>
+ * Entries are only created, or refreshed, from the entities that the enterprise repository connectors retrieve by
+ * querying every member of the cohorts, since only those results show every member that holds a classification for the
+ * entity.  The instance events received on the enterprise OMRS topic add the classification holders they mention to
+ * existing entries, and discard entries for entities that have moved or been purged, but they never create entries or
+ * extend their age.  The index is a hint: the enterprise repository connector falls back to querying all members if
+ * the home member does not return the entity.  Entries are discarded once the maximum entry age has passed since they
+ * were last refreshed, so classifications added by a member that does not send events are not missed for long.
+ * The number of entries is bounded, and the least recently used entries are discarded first.
+ * </p>
+ */
+public class OMRSInstanceLocationIndex implements OMRSTopicRepositoryEventListener
+{
+    public static final int  DEFAULT_MAX_ENTRIES   = 100000;
+    public static final long DEFAULT_MAX_ENTRY_AGE = 60000; // milliseconds
+
+    private final long                         maxEntryAge;
+    private final Map<String, InstanceLocation> locations;
+
+
+    /**
+     * Constructor for an index with the default limits.
+     */
+    public OMRSInstanceLocationIndex()
+    {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_ENTRY_AGE);
+    }
+
+
+    /**
+     * Constructor for an index with specific limits.
+     *
+     * @param maxEntries maximum number of instances to remember
+     * @param maxEntryAge number of milliseconds that an entry is used for after it was last refreshed
+     */
+    public OMRSInstanceLocationIndex(int  maxEntries,
+                                     long maxEntryAge)
+    {
+        this.maxEntryAge = maxEntryAge;
+        this.locations   = new LinkedHashMap<String, InstanceLocation>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, InstanceLocation> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return the location of an instance.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @return location or null if the location is not known or has not been refreshed recently
+     */
+    public synchronized InstanceLocation getLocation(String instanceGUID)
+    {
+        if (instanceGUID == null)
+        {
+            return null;
+        }
+
+        InstanceLocation location = locations.get(instanceGUID);
+
+        if ((location != null) && (System.currentTimeMillis() - location.lastRefreshed > maxEntryAge))
+        {
+            locations.remove(instanceGUID);
+            return null;
+        }
+
+        return location;
+    }
+
+
+    /**
+     * Record the location of an entity and the metadata collections of its classifications.  This must only be
+     * called with an entity that has been retrieved from every member of the cohorts.
+     *
+     * @param entity entity with the classifications from all cohort members
+     */
+    public synchronized void saveEntityLocation(EntitySummary entity)
+    {
+        if ((entity != null) && (entity.getGUID() != null) && (entity.getMetadataCollectionId() != null))
+        {
+            InstanceLocation location = this.refreshLocation(entity.getGUID(), entity.getMetadataCollectionId());
+
+            if (entity.getClassifications() != null)
+            {
+                for (Classification classification : entity.getClassifications())
+                {
+                    location.addClassification(classification);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add the metadata collections of an entity's classifications to its existing entry.  The entry is discarded if
+     * the entity now has a different home.  No entry is created, and the age of the entry is unchanged, because
+     * the entity may have classifications from members that the index has not learnt about.
+     *
+     * @param entity entity (or proxy) sent by a cohort member
+     * @param classifications classifications to record (null means those of the entity)
+     */
+    public synchronized void updateEntityLocation(EntitySummary        entity,
+                                                  List<Classification> classifications)
+    {
+        if ((entity != null) && (entity.getGUID() != null) && (entity.getMetadataCollectionId() != null))
+        {
+            InstanceLocation location = locations.get(entity.getGUID());
+
+            if (location != null)
+            {
+                if (! entity.getMetadataCollectionId().equals(location.homeMetadataCollectionId))
+                {
+                    locations.remove(entity.getGUID());
+                }
+                else
+                {
+                    List<Classification> newClassifications = classifications;
+
+                    if (newClassifications == null)
+                    {
+                        newClassifications = entity.getClassifications();
+                    }
+
+                    if (newClassifications != null)
+                    {
+                        for (Classification classification : newClassifications)
+                        {
+                            location.addClassification(classification);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Forget the location of an instance.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    public synchronized void removeInstance(String instanceGUID)
+    {
+        if (instanceGUID != null)
+        {
+            locations.remove(instanceGUID);
+        }
+    }
+
+
+    /**
+     * Forget all instances that refer to a metadata collection.  This is called when a member leaves the cohorts.
+     *
+     * @param metadataCollectionId unique identifier of the metadata collection
+     */
+    public synchronized void removeMetadataCollection(String metadataCollectionId)
+    {
+        Iterator<InstanceLocation> iterator = locations.values().iterator();
+
+        while (iterator.hasNext())
+        {
+            InstanceLocation location = iterator.next();
+
+            if ((metadataCollectionId.equals(location.homeMetadataCollectionId)) ||
+                (location.classificationMetadataCollectionIds.contains(metadataCollectionId)))
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of instances in the index.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return locations.size();
+    }
+
+
+    /**
+     * Retrieve the entry for an instance, replacing it if its home has changed, and mark it as refreshed.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @param homeMetadataCollectionId metadata collection id of the instance's home
+     * @return entry
+     */
+    private InstanceLocation refreshLocation(String instanceGUID,
+                                             String homeMetadataCollectionId)
+    {
+        InstanceLocation location = locations.get(instanceGUID);
+
+        if ((location == null) || (! homeMetadataCollectionId.equals(location.homeMetadataCollectionId)))
+        {
+            location = new InstanceLocation(homeMetadataCollectionId);
+            locations.put(instanceGUID, location);
+        }
+
+        location.lastRefreshed = System.currentTimeMillis();
+
+        return location;
+    }
+
+
+    /**
+     * Type definition events do not affect the location of instances.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+    }
+
+
+    /**
+     * Update the index from an instance event.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if ((event == null) || (event.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        OMRSInstanceEventType eventType = event.getInstanceEventType();
+
+        switch (eventType)
+        {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case DELETED_ENTITY_EVENT:
+            case RESTORED_ENTITY_EVENT:
+            case RETYPED_ENTITY_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                this.updateEntityLocation(event.getEntity(), null);
+                break;
+
+            case CLASSIFIED_ENTITY_EVENT:
+            case RECLASSIFIED_ENTITY_EVENT:
+                EntitySummary classifiedEntity = event.getEntity();
+
+                if (classifiedEntity == null)
+                {
+                    classifiedEntity = event.getEntityProxy();
+                }
+
+                if (event.getClassification() != null)
+                {
+                    this.updateEntityLocation(classifiedEntity, Collections.singletonList(event.getClassification()));
+                }
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                String originalEntityGUID = event.getOriginalInstanceGUID();
+
+                if ((originalEntityGUID == null) && (event.getOriginalEntity() != null))
+                {
+                    originalEntityGUID = event.getOriginalEntity().getGUID();
+                }
+
+                this.removeInstance(originalEntityGUID);
+                break;
+
+            case PURGED_ENTITY_EVENT:
+                this.removeInstance(event.getInstanceGUID());
+                break;
+
+            default:
+                /*
+                 * Declassified entities keep their entry: querying a member that no longer holds a classification
+                 * costs a call but does not lose information.
+                 */
+                break;
+        }
+    }
+
+
+    /**
+     * InstanceLocation describes the members that hold an instance.
+     */
+    public static class InstanceLocation
+    {
+        private final String      homeMetadataCollectionId;
+        private final Set<String> classificationMetadataCollectionIds = new LinkedHashSet<>();
+        private volatile long     lastRefreshed = 0;
+
+
+        /**
+         * Constructor for a new entry.
+         *
+         * @param homeMetadataCollectionId metadata collection id of the instance's home
+         */
+        private InstanceLocation(String homeMetadataCollectionId)
+        {
+            this.homeMetadataCollectionId = homeMetadataCollectionId;
+        }
+
+
+        /**
+         * Record the metadata collection of a classification if it is not the home of the instance.
+         *
+         * @param classification classification attached to the instance
+         */
+        private synchronized void addClassification(Classification classification)
+        {
+            if ((classification != null) &&
+                (classification.getMetadataCollectionId() != null) &&
+                (! homeMetadataCollectionId.equals(classification.getMetadataCollectionId())))
+            {
+                classificationMetadataCollectionIds.add(classification.getMetadataCollectionId());
+            }
+        }
+
+
+        /**
+         * Return the metadata collection id of the instance's home.
+         *
+         * @return unique identifier
+         */
+        public String getHomeMetadataCollectionId()
+        {
+            return homeMetadataCollectionId;
+        }
+
+
+        /**
+         * Return the metadata collection ids of the members, other than the home, that hold classifications for
+         * the instance.
+         *
+         * @return list of unique identifiers
+         */
+        public synchronized List<String> getClassificationMetadataCollectionIds()
+        {
+            return new ArrayList<>(classificationMetadataCollectionIds);
+        }
+    }
+}
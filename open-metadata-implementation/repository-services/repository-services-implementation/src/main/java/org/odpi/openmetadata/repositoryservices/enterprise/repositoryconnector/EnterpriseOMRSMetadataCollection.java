@@ -9,12 +9,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSInstanceProjector;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseInstanceCache;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
@@ -889,22 +892,52 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Validation complete, ok to continue with request
          *
-         * The list of cohort connectors are retrieved for each request to ensure that any changes in
-         * the shape of the cohort are reflected immediately.
+         * A recently retrieved copy of the entity is returned if it is cached.  Otherwise, the request is directed
+         * to the repositories known to hold the entity, if any.
          */
-        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+        long                        startSequence = 0;
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
-        GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, auditLog, methodName);
+        if (instanceCache != null)
+        {
+            EntityDetail cachedEntity = instanceCache.getEntity(userId, guid);
 
-        /*
-         * Ready to process the request.  Create requests occur in the first repository that accepts the call.
-         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
-         * there are no positive results from any repository.
-         */
-        federationControl.executeCommand(executor);
+            if (cachedEntity != null)
+            {
+                return cachedEntity;
+            }
+
+            startSequence = instanceCache.getSequence();
+        }
 
-        return executor.isEntityKnown(true);
+        boolean                 allRepositoriesQueried = false;
+        GetEntityDetailExecutor executor               = this.retrieveLocatedEntity(userId,
+                                                                                    guid,
+                                                                                    new GetEntityDetailExecutor(userId, guid, auditLog, methodName),
+                                                                                    methodName);
+
+        if (executor == null)
+        {
+            allRepositoriesQueried = true;
+            executor = this.retrieveEntity(userId, new GetEntityDetailExecutor(userId, guid, auditLog, methodName), methodName);
+        }
+
+        EntityDetail entity = executor.isEntityKnown(true);
+
+        if (executor.isHomeInstanceRetrieved())
+        {
+            if (allRepositoriesQueried)
+            {
+                enterpriseParentConnector.saveEntityLocation(entity);
+            }
+
+            if (instanceCache != null)
+            {
+                instanceCache.saveEntity(userId, entity, startSequence);
+            }
+        }
+
+        return entity;
     }
 
 
@@ -938,22 +971,28 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Validation complete, ok to continue with request
          *
-         * The list of cohort connectors are retrieved for each request to ensure that any changes in
-         * the shape of the cohort are reflected immediately.
+         * The request is directed to the repositories known to hold the entity, if any.
          */
-        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+        boolean                  allRepositoriesQueried = false;
+        GetEntitySummaryExecutor executor               = this.retrieveLocatedEntity(userId,
+                                                                                     guid,
+                                                                                     new GetEntitySummaryExecutor(userId, guid, auditLog, methodName),
+                                                                                     methodName);
 
-        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
-        GetEntitySummaryExecutor executor          = new GetEntitySummaryExecutor(userId, guid, auditLog, methodName);
+        if (executor == null)
+        {
+            allRepositoriesQueried = true;
+            executor = this.retrieveEntity(userId, new GetEntitySummaryExecutor(userId, guid, auditLog, methodName), methodName);
+        }
 
-        /*
-         * Ready to process the request.  Get requests occur in the first repository that accepts the call.
-         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
-         * there are no positive results from any repository.
-         */
-        federationControl.executeCommand(executor);
+        EntitySummary entity = executor.getEntitySummary();
+
+        if ((allRepositoriesQueried) && (executor.isHomeInstanceRetrieved()))
+        {
+            enterpriseParentConnector.saveEntityLocation(entity);
+        }
 
-        return executor.getEntitySummary();
+        return entity;
     }
 
 
@@ -988,17 +1027,178 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Validation complete, ok to continue with request
          *
+         * A recently retrieved copy of the entity is returned if it is cached.  Otherwise, the request is directed
+         * to the repositories known to hold the entity, if any.
+         */
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+        long                        startSequence = 0;
+
+        if (instanceCache != null)
+        {
+            EntityDetail cachedEntity = instanceCache.getEntity(userId, guid);
+
+            if (cachedEntity != null)
+            {
+                return cachedEntity;
+            }
+
+            startSequence = instanceCache.getSequence();
+        }
+
+        boolean                 allRepositoriesQueried = false;
+        GetEntityDetailExecutor executor               = this.retrieveLocatedEntity(userId,
+                                                                                    guid,
+                                                                                    new GetEntityDetailExecutor(userId, guid, auditLog, methodName),
+                                                                                    methodName);
+
+        if (executor == null)
+        {
+            allRepositoriesQueried = true;
+            executor = this.retrieveEntity(userId, new GetEntityDetailExecutor(userId, guid, auditLog, methodName), methodName);
+        }
+
+        EntityDetail entity = executor.getEntityDetail();
+
+        if (executor.isHomeInstanceRetrieved())
+        {
+            if (allRepositoriesQueried)
+            {
+                enterpriseParentConnector.saveEntityLocation(entity);
+            }
+
+            if (instanceCache != null)
+            {
+                instanceCache.saveEntity(userId, entity, startSequence);
+            }
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Run the executor for a single entity retrieval against the repositories that are known to hold the entity.
+     * Null is returned if the location of the entity is not known, or its home repository does not return it (the
+     * entity may have been re-homed or purged), to show that all repositories need to be queried.  The results are
+     * not used to refresh the location of the entity because a classification from a repository that is not yet
+     * known to hold one would be missed.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the entity.
+     * @param executor executor for the request
+     * @param methodName calling method
+     * @param <E> type of executor
+     * @return executor holding the results or null
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    private <E extends GetEntityExecutor> E retrieveLocatedEntity(String userId,
+                                                                  String guid,
+                                                                  E      executor,
+                                                                  String methodName) throws RepositoryErrorException
+    {
+        List<OMRSRepositoryConnector> locatedConnectors = enterpriseParentConnector.getLocatedConnectors(guid, methodName);
+
+        if (locatedConnectors != null)
+        {
+            FederationControl federationControl = new ParallelFederationControl(userId, locatedConnectors, auditLog, methodName);
+
+            federationControl.executeCommand(executor);
+
+            if (executor.isHomeInstanceRetrieved())
+            {
+                return executor;
+            }
+
+            enterpriseParentConnector.removeEntityLocation(guid);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Run the executor for a single entity retrieval against all repositories.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param executor executor for the request
+     * @param methodName calling method
+     * @param <E> type of executor
+     * @return executor holding the results
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    private <E extends GetEntityExecutor> E retrieveEntity(String userId,
+                                                           E      executor,
+                                                           String methodName) throws RepositoryErrorException
+    {
+        /*
          * The list of cohort connectors are retrieved for each request to ensure that any changes in
          * the shape of the cohort are reflected immediately.
+         *
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl       federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
-        GetEntityDetailExecutor executor          = new GetEntityDetailExecutor(userId, guid, auditLog, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, auditLog, methodName);
 
         federationControl.executeCommand(executor);
 
-        return executor.getEntityDetail();
+        return executor;
+    }
+
+
+    /**
+     * Discard any cached copies of an entity that has been changed through this connector.  The instance event
+     * for the change arrives later.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void removeCachedEntity(String entityGUID)
+    {
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache != null)
+        {
+            instanceCache.removeEntity(entityGUID);
+        }
+    }
+
+
+    /**
+     * Discard any cached relationships for an entity because a relationship has been added to it through this
+     * connector.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void removeCachedRelationshipsForEntity(String entityGUID)
+    {
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache != null)
+        {
+            instanceCache.removeRelationshipsForEntity(entityGUID);
+        }
+    }
+
+
+    /**
+     * Discard any cached copies of a relationship that has been changed through this connector, along with the
+     * cached relationships of its ends.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     * @param relationship new values of the relationship, or null if not known
+     */
+    private void removeCachedRelationship(String       relationshipGUID,
+                                          Relationship relationship)
+    {
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache != null)
+        {
+            instanceCache.removeRelationship(relationshipGUID, relationship);
+        }
     }
 
 
@@ -1221,6 +1421,35 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Validation complete, ok to continue with request
          *
+         * A recently retrieved copy of the relationships is returned if it is cached.  Historical queries are
+         * not cached.
+         */
+        OMRSEnterpriseInstanceCache instanceCache = null;
+        String                      queryKey      = null;
+        long                        startSequence = 0;
+
+        if (asOfTime == null)
+        {
+            instanceCache = enterpriseParentConnector.getInstanceCache();
+        }
+
+        if (instanceCache != null)
+        {
+            queryKey = relationshipTypeGUID + ':' + fromRelationshipElement + ':' + limitResultsByStatus + ':' +
+                       sequencingProperty + ':' + sequencingOrder + ':' + pageSize;
+
+            OMRSEnterpriseInstanceCache.RelationshipList cachedRelationships = instanceCache.getRelationshipsForEntity(userId,
+                                                                                                                       entityGUID,
+                                                                                                                       queryKey);
+            if (cachedRelationships != null)
+            {
+                return cachedRelationships.getRelationships();
+            }
+
+            startSequence = instanceCache.getSequence();
+        }
+
+        /*
          * The list of cohort connectors are retrieved for each request to ensure that any changes in
          * the shape of the cohort are reflected immediately.
          */
@@ -1261,6 +1490,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             results = null;
         }
 
+        if (instanceCache != null)
+        {
+            instanceCache.saveRelationshipsForEntity(userId, entityGUID, queryKey, results, startSequence);
+        }
+
         return results;
     }
 
@@ -1425,6 +1659,77 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                   PagingErrorException,
                                                                                   FunctionNotSupportedException,
                                                                                   UserNotAuthorizedException
+    {
+        return this.findEntities(userId,
+                                 entityTypeGUID,
+                                 entitySubtypeGUIDs,
+                                 matchProperties,
+                                 fromEntityElement,
+                                 limitResultsByStatus,
+                                 matchClassifications,
+                                 asOfTime,
+                                 sequencingProperty,
+                                 sequencingOrder,
+                                 pageSize,
+                                 null);
+    }
+
+
+    /**
+     * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntities(String                userId,
+                                           String                entityTypeGUID,
+                                           List<String>          entitySubtypeGUIDs,
+                                           SearchProperties      matchProperties,
+                                           int                   fromEntityElement,
+                                           List<InstanceStatus>  limitResultsByStatus,
+                                           SearchClassifications matchClassifications,
+                                           Date                  asOfTime,
+                                           String                sequencingProperty,
+                                           SequencingOrder       sequencingOrder,
+                                           int                   pageSize,
+                                           InstanceProjection    projection) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    PagingErrorException,
+                                                                                    FunctionNotSupportedException,
+                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "findEntities";
 
@@ -1463,6 +1768,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                           sequencingProperty,
                                                                           sequencingOrder,
                                                                           pageSize,
+                                                                          OMRSInstanceProjector.getSequencingProjection(projection, sequencingProperty),
                                                                           localMetadataCollectionId,
                                                                           auditLog,
                                                                           repositoryValidator,
@@ -1475,7 +1781,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return OMRSInstanceProjector.projectEntities(executor.getResults(enterpriseParentConnector, this), projection);
     }
 
 
@@ -1646,6 +1952,79 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                 PagingErrorException,
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException
+    {
+        return this.findEntitiesByPropertyValue(userId,
+                                                entityTypeGUID,
+                                                searchCriteria,
+                                                fromEntityElement,
+                                                limitResultsByStatus,
+                                                limitResultsByClassification,
+                                                asOfTime,
+                                                sequencingProperty,
+                                                sequencingOrder,
+                                                pageSize,
+                                                null);
+    }
+
+
+    /**
+     * Return a list of entities whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within entity instances of the specified type(s).
+     *                       This parameter must not be null.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByPropertyValue(String               userId,
+                                                          String               entityTypeGUID,
+                                                          String               searchCriteria,
+                                                          int                  fromEntityElement,
+                                                          List<InstanceStatus> limitResultsByStatus,
+                                                          List<String>         limitResultsByClassification,
+                                                          Date                 asOfTime,
+                                                          String               sequencingProperty,
+                                                          SequencingOrder      sequencingOrder,
+                                                          int                  pageSize,
+                                                          InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
     {
         final String  methodName = "findEntitiesByPropertyValue";
 
@@ -1682,6 +2061,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         sequencingProperty,
                                                                                                         sequencingOrder,
                                                                                                         pageSize,
+                                                                                                        OMRSInstanceProjector.getSequencingProjection(projection, sequencingProperty),
                                                                                                         localMetadataCollectionId,
                                                                                                         auditLog,
                                                                                                         repositoryValidator,
@@ -1694,7 +2074,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return OMRSInstanceProjector.projectEntities(executor.getResults(enterpriseParentConnector, this), projection);
     }
 
 
@@ -1775,6 +2155,24 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Validation complete, ok to continue with request
          *
+         * A recently retrieved copy of the relationship is returned if it is cached.
+         */
+        OMRSEnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+        long                        startSequence = 0;
+
+        if (instanceCache != null)
+        {
+            Relationship cachedRelationship = instanceCache.getRelationship(userId, guid);
+
+            if (cachedRelationship != null)
+            {
+                return cachedRelationship;
+            }
+
+            startSequence = instanceCache.getSequence();
+        }
+
+        /*
          * The list of cohort connectors are retrieved for each request to ensure that any changes in
          * the shape of the cohort are reflected immediately.
          */
@@ -1790,7 +2188,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRelationship();
+        Relationship relationship = executor.getRelationship();
+
+        if (instanceCache != null)
+        {
+            instanceCache.saveRelationship(userId, relationship, startSequence);
+        }
+
+        return relationship;
     }
 
 
@@ -1900,6 +2305,77 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                        PagingErrorException,
                                                                                        FunctionNotSupportedException,
                                                                                        UserNotAuthorizedException
+    {
+        return this.findRelationships(userId,
+                                      relationshipTypeGUID,
+                                      relationshipSubtypeGUIDs,
+                                      matchProperties,
+                                      fromRelationshipElement,
+                                      limitResultsByStatus,
+                                      asOfTime,
+                                      sequencingProperty,
+                                      sequencingOrder,
+                                      pageSize,
+                                      null);
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested conditions.  The results can be received as a series of
+     * pages.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     */
+    @Override
+    public  List<Relationship> findRelationships(String               userId,
+                                                 String               relationshipTypeGUID,
+                                                 List<String>         relationshipSubtypeGUIDs,
+                                                 SearchProperties     matchProperties,
+                                                 int                  fromRelationshipElement,
+                                                 List<InstanceStatus> limitResultsByStatus,
+                                                 Date                 asOfTime,
+                                                 String               sequencingProperty,
+                                                 SequencingOrder      sequencingOrder,
+                                                 int                  pageSize,
+                                                 InstanceProjection   projection) throws InvalidParameterException,
+                                                                                         TypeErrorException,
+                                                                                         RepositoryErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
     {
         final String  methodName = "findRelationships";
 
@@ -1936,6 +2412,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     sequencingProperty,
                                                                                     sequencingOrder,
                                                                                     pageSize,
+                                                                                    OMRSInstanceProjector.getSequencingProjection(projection, sequencingProperty),
                                                                                     localMetadataCollectionId,
                                                                                     auditLog,
                                                                                     repositoryValidator,
@@ -1948,7 +2425,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return OMRSInstanceProjector.projectRelationships(executor.getResults(enterpriseParentConnector), projection);
     }
 
 
@@ -2110,6 +2587,75 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                       PagingErrorException,
                                                                                                       FunctionNotSupportedException,
                                                                                                       UserNotAuthorizedException
+    {
+        return this.findRelationshipsByPropertyValue(userId,
+                                                     relationshipTypeGUID,
+                                                     searchCriteria,
+                                                     fromRelationshipElement,
+                                                     limitResultsByStatus,
+                                                     asOfTime,
+                                                     sequencingProperty,
+                                                     sequencingOrder,
+                                                     pageSize,
+                                                     null);
+    }
+
+
+    /**
+     * Return a list of relationships whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String Java regular expression used to match against any of the String property values
+     *                       within the relationship instances of the specified type(s).
+     *                       This parameter must not be null.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @see OMRSRepositoryHelper#getExactMatchRegex(String)
+     * @see OMRSRepositoryHelper#getContainsRegex(String)
+     */
+    @Override
+    public  List<Relationship> findRelationshipsByPropertyValue(String               userId,
+                                                                String               relationshipTypeGUID,
+                                                                String               searchCriteria,
+                                                                int                  fromRelationshipElement,
+                                                                List<InstanceStatus> limitResultsByStatus,
+                                                                Date                 asOfTime,
+                                                                String               sequencingProperty,
+                                                                SequencingOrder      sequencingOrder,
+                                                                int                  pageSize,
+                                                                InstanceProjection   projection) throws InvalidParameterException,
+                                                                                                        TypeErrorException,
+                                                                                                        RepositoryErrorException,
+                                                                                                        PropertyErrorException,
+                                                                                                        PagingErrorException,
+                                                                                                        FunctionNotSupportedException,
+                                                                                                        UserNotAuthorizedException
     {
         final String  methodName = "findRelationshipsByPropertyValue";
 
@@ -2144,6 +2690,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                                   sequencingProperty,
                                                                                                                   sequencingOrder,
                                                                                                                   pageSize,
+                                                                                                                  OMRSInstanceProjector.getSequencingProjection(projection, sequencingProperty),
                                                                                                                   localMetadataCollectionId,
                                                                                                                   auditLog,
                                                                                                                   repositoryValidator,
@@ -2156,7 +2703,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return OMRSInstanceProjector.projectRelationships(executor.getResults(enterpriseParentConnector), projection);
     }
 
 
@@ -2350,6 +2897,66 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                   PropertyErrorException,
                                                                                   FunctionNotSupportedException,
                                                                                   UserNotAuthorizedException
+    {
+        return this.getEntityNeighborhood(userId,
+                                          entityGUID,
+                                          entityTypeGUIDs,
+                                          relationshipTypeGUIDs,
+                                          limitResultsByStatus,
+                                          limitResultsByClassification,
+                                          asOfTime,
+                                          level,
+                                          null);
+    }
+
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.
+     * The content of the returned instances is limited by the supplied projection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level,
+                                               InstanceProjection   projection) throws InvalidParameterException,
+                                                                                       TypeErrorException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
     {
         final String methodName = "getEntityNeighborhood";
 
@@ -2410,7 +3017,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                      limitResultsByStatus,
                                                                                      limitResultsByClassification,
                                                                                      asOfTime,
-                                                                                     level);
+                                                                                     level,
+                                                                                     projection);
 
                     /*
                      * Step through the list of returned TypeDefs and consolidate.
@@ -2456,16 +3064,18 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
 
-        return validatedInstanceGraphResults(repositoryName,
-                                             combinedEntityResults,
-                                             combinedRelationshipResults,
-                                             userNotAuthorizedException,
-                                             propertyErrorException,
-                                             functionNotSupportedException,
-                                             entityNotKnownException,
-                                             repositoryErrorException,
-                                             anotherException,
-                                             methodName);
+        InstanceGraph instanceGraph = validatedInstanceGraphResults(repositoryName,
+                                                                    combinedEntityResults,
+                                                                    combinedRelationshipResults,
+                                                                    userNotAuthorizedException,
+                                                                    propertyErrorException,
+                                                                    functionNotSupportedException,
+                                                                    entityNotKnownException,
+                                                                    repositoryErrorException,
+                                                                    anotherException,
+                                                                    methodName);
+
+        return OMRSInstanceProjector.projectInstanceGraph(instanceGraph, projection);
     }
 
 
@@ -2893,7 +3503,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityStatus(userId, entityGUID, newStatus);
+            EntityDetail updatedEntity = metadataCollection.updateEntityStatus(userId, entityGUID, newStatus);
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
 
         return null;
@@ -2945,7 +3559,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityProperties(userId, entityGUID, properties);
+            EntityDetail updatedEntity = metadataCollection.updateEntityProperties(userId, entityGUID, properties);
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
 
         return null;
@@ -2993,7 +3611,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.undoEntityUpdate(userId, entityGUID);
+            EntityDetail updatedEntity = metadataCollection.undoEntityUpdate(userId, entityGUID);
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
 
         return null;
@@ -3055,7 +3677,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, obsoleteEntityGUID);
+            EntityDetail deletedEntity = metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, obsoleteEntityGUID);
+
+            this.removeCachedEntity(obsoleteEntityGUID);
+
+            return deletedEntity;
         }
 
         return null;
@@ -3127,6 +3753,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         federationControl.executeCommand(executor);
 
         executor.getResult();
+
+        this.removeCachedEntity(deletedEntityGUID);
     }
 
 
@@ -3182,7 +3810,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRestoredEntity();
+        EntityDetail restoredEntity = executor.getRestoredEntity();
+
+        this.removeCachedEntity(deletedEntityGUID);
+
+        return restoredEntity;
     }
 
 
@@ -3263,7 +3895,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             federationControl.executeCommand(executor);
 
-            return executor.getUpdatedEntity();
+            EntityDetail updatedEntity = executor.getUpdatedEntity();
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
         else
         {
@@ -3351,7 +3987,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             federationControl.executeCommand(executor);
 
-            return executor.getAddedClassification();
+            Classification addedClassification = executor.getAddedClassification();
+
+            this.removeCachedEntity(entityProxy.getGUID());
+
+            return addedClassification;
         }
         else
         {
@@ -3445,7 +4085,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             federationControl.executeCommand(executor);
 
-            return executor.getUpdatedEntity();
+            EntityDetail updatedEntity = executor.getUpdatedEntity();
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
         else
         {
@@ -3537,7 +4181,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
              */
             federationControl.executeCommand(executor);
 
-            return executor.getAddedClassification();
+            Classification addedClassification = executor.getAddedClassification();
+
+            this.removeCachedEntity(entityProxy.getGUID());
+
+            return addedClassification;
         }
         else
         {
@@ -3590,7 +4238,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.declassifyEntity(userId, entityGUID, classificationName);
+            EntityDetail updatedEntity = metadataCollection.declassifyEntity(userId, entityGUID, classificationName);
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
 
         return null;
@@ -3640,7 +4292,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.declassifyEntity(userId, entityProxy, classificationName);
+            Classification removedClassification = metadataCollection.declassifyEntity(userId, entityProxy, classificationName);
+
+            this.removeCachedEntity(entityProxy.getGUID());
+
+            return removedClassification;
         }
 
         return null;
@@ -3695,10 +4351,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityClassification(userId,
-                                                                 entityGUID,
-                                                                 classificationName,
-                                                                 properties);
+            EntityDetail updatedEntity = metadataCollection.updateEntityClassification(userId,
+                                                                                       entityGUID,
+                                                                                       classificationName,
+                                                                                       properties);
+
+            this.removeCachedEntity(entityGUID);
+
+            return updatedEntity;
         }
 
         return null;
@@ -3754,10 +4414,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityClassification(userId,
-                                                                 entityProxy,
-                                                                 classificationName,
-                                                                 properties);
+            Classification updatedClassification = metadataCollection.updateEntityClassification(userId,
+                                                                                                 entityProxy,
+                                                                                                 classificationName,
+                                                                                                 properties);
+
+            this.removeCachedEntity(entityProxy.getGUID());
+
+            return updatedClassification;
         }
 
         return null;
@@ -3854,7 +4518,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getNewRelationship();
+        Relationship newRelationship = executor.getNewRelationship();
+
+        this.removeCachedRelationshipsForEntity(entityOneGUID);
+        this.removeCachedRelationshipsForEntity(entityTwoGUID);
+
+        return newRelationship;
     }
 
 
@@ -3948,7 +4617,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getNewRelationship();
+        Relationship newRelationship = executor.getNewRelationship();
+
+        this.removeCachedRelationshipsForEntity(entityOneGUID);
+        this.removeCachedRelationshipsForEntity(entityTwoGUID);
+
+        return newRelationship;
     }
 
 
@@ -3997,7 +4671,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateRelationshipStatus(userId, relationshipGUID, newStatus);
+            Relationship updatedRelationship = metadataCollection.updateRelationshipStatus(userId, relationshipGUID, newStatus);
+
+            this.removeCachedRelationship(relationshipGUID, updatedRelationship);
+
+            return updatedRelationship;
         }
 
         return null;
@@ -4049,7 +4727,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateRelationshipProperties(userId, relationshipGUID, properties);
+            Relationship updatedRelationship = metadataCollection.updateRelationshipProperties(userId, relationshipGUID, properties);
+
+            this.removeCachedRelationship(relationshipGUID, updatedRelationship);
+
+            return updatedRelationship;
         }
 
         return null;
@@ -4097,7 +4779,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.undoRelationshipUpdate(userId, relationshipGUID);
+            Relationship updatedRelationship = metadataCollection.undoRelationshipUpdate(userId, relationshipGUID);
+
+            this.removeCachedRelationship(relationshipGUID, updatedRelationship);
+
+            return updatedRelationship;
         }
 
         return null;
@@ -4157,10 +4843,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.deleteRelationship(userId,
-                                                         typeDefGUID,
-                                                         typeDefName,
-                                                         obsoleteRelationshipGUID);
+            Relationship deletedRelationship = metadataCollection.deleteRelationship(userId,
+                                                                                     typeDefGUID,
+                                                                                     typeDefName,
+                                                                                     obsoleteRelationshipGUID);
+
+            this.removeCachedRelationship(obsoleteRelationshipGUID, deletedRelationship);
+
+            return deletedRelationship;
         }
 
         return null;
@@ -4230,6 +4920,8 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         federationControl.executeCommand(executor);
 
         executor.getResult();
+
+        this.removeCachedRelationship(deletedRelationshipGUID, null);
     }
 
 
@@ -4286,7 +4978,11 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRestoredRelationship();
+        Relationship restoredRelationship = executor.getRestoredRelationship();
+
+        this.removeCachedRelationship(deletedRelationshipGUID, restoredRelationship);
+
+        return restoredRelationship;
     }
 
 
@@ -13,6 +13,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseInstanceCache;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSInstanceLocationIndex;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -38,6 +40,8 @@ import java.util.List;
 public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector implements OMRSConnectorConsumer
 {
     private final OMRSConnectorManager                connectorManager;
+    private final OMRSInstanceLocationIndex           instanceLocationIndex;
+    private final OMRSEnterpriseInstanceCache         instanceCache;
     private String                              connectorConsumerId;
 
     private LocalOMRSRepositoryConnector        localConnector            = null;
@@ -59,6 +63,17 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     {
         super();
         this.connectorManager = connectorManager;
+
+        if (connectorManager != null)
+        {
+            this.instanceLocationIndex = connectorManager.getInstanceLocationIndex();
+            this.instanceCache         = connectorManager.getInstanceCache();
+        }
+        else
+        {
+            this.instanceLocationIndex = null;
+            this.instanceCache         = null;
+        }
     }
 
 
@@ -483,6 +498,121 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Returns the connectors to the repositories that are known to hold an entity: its home repository followed by
+     * the repositories that hold its classifications.  Null is returned if the location of the entity is not known, or
+     * its home repository is not currently registered, to show that all repositories need to be queried.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param methodName name of method making the request (used for logging)
+     * @return list of repository connectors or null
+     * @throws RepositoryErrorException the enterprise services are not available
+     */
+    synchronized List<OMRSRepositoryConnector> getLocatedConnectors(String entityGUID,
+                                                                    String methodName) throws RepositoryErrorException
+    {
+        this.validateRepositoryIsActive(methodName);
+
+        if (instanceLocationIndex == null)
+        {
+            return null;
+        }
+
+        OMRSInstanceLocationIndex.InstanceLocation location = instanceLocationIndex.getLocation(entityGUID);
+
+        if (location == null)
+        {
+            return null;
+        }
+
+        OMRSRepositoryConnector homeConnector = this.getConnector(location.getHomeMetadataCollectionId());
+
+        if (homeConnector == null)
+        {
+            return null;
+        }
+
+        List<OMRSRepositoryConnector> locatedConnectors = new ArrayList<>();
+
+        locatedConnectors.add(homeConnector);
+
+        for (String metadataCollectionId : location.getClassificationMetadataCollectionIds())
+        {
+            OMRSRepositoryConnector connector = this.getConnector(metadataCollectionId);
+
+            if ((connector != null) && (! locatedConnectors.contains(connector)))
+            {
+                locatedConnectors.add(connector);
+            }
+        }
+
+        return locatedConnectors;
+    }
+
+
+    /**
+     * Return the connector for a metadata collection id.
+     *
+     * @param metadataCollectionId unique id for the metadata collection
+     * @return repository connector or null if the repository is not registered
+     */
+    private OMRSRepositoryConnector getConnector(String metadataCollectionId)
+    {
+        if ((localMetadataCollectionId != null) && (localMetadataCollectionId.equals(metadataCollectionId)))
+        {
+            return localConnector;
+        }
+
+        FederatedConnector federatedConnector = this.getFederatedConnector(metadataCollectionId);
+
+        if (federatedConnector != null)
+        {
+            return federatedConnector.getConnector();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record the repositories that hold an entity returned by the home repository when every repository was queried.
+     *
+     * @param entity retrieved entity with its accumulated classifications
+     */
+    void saveEntityLocation(EntitySummary entity)
+    {
+        if (instanceLocationIndex != null)
+        {
+            instanceLocationIndex.saveEntityLocation(entity);
+        }
+    }
+
+
+    /**
+     * Return the cache of instances retrieved from the cohorts.
+     *
+     * @return instance cache or null if caching is not enabled
+     */
+    OMRSEnterpriseInstanceCache getInstanceCache()
+    {
+        return instanceCache;
+    }
+
+
+    /**
+     * Forget where an entity is stored because the home repository did not return it.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    void removeEntityLocation(String entityGUID)
+    {
+        if (instanceLocationIndex != null)
+        {
+            instanceLocationIndex.removeInstance(entityGUID);
+        }
+    }
+
+
     /**
      * Request the refresh of this instance.
      *
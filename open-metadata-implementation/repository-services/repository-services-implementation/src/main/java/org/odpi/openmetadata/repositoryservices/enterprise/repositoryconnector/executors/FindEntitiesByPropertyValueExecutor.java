@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntitiesAccumulator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
@@ -20,8 +21,9 @@ import java.util.List;
  */
 public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositoryExecutorBase
 {
-    private final String       searchCriteria;
-    private final List<String> limitResultsByClassification;
+    private final String             searchCriteria;
+    private final List<String>       limitResultsByClassification;
+    private final InstanceProjection projection;
 
 
     /**
@@ -46,6 +48,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
      * @param auditLog logging destination
      * @param repositoryValidator validator for resulting relationships
@@ -61,6 +64,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
                                                String                  sequencingProperty,
                                                SequencingOrder         sequencingOrder,
                                                int                     pageSize,
+                                               InstanceProjection      projection,
                                                String                  localMetadataCollectionId,
                                                AuditLog                auditLog,
                                                OMRSRepositoryValidator repositoryValidator,
@@ -76,6 +80,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
              sequencingProperty,
              sequencingOrder,
              pageSize,
+             projection,
              new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
              methodName);
     }
@@ -103,6 +108,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param accumulator location for results and returned exceptions
      * @param methodName calling method
      */
@@ -116,6 +122,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
                                                 String               sequencingProperty,
                                                 SequencingOrder      sequencingOrder,
                                                 int                  pageSize,
+                                                InstanceProjection   projection,
                                                 EntitiesAccumulator accumulator,
                                                 String               methodName)
     {
@@ -132,6 +139,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
 
         this.searchCriteria = searchCriteria;
         this.limitResultsByClassification = limitResultsByClassification;
+        this.projection = projection;
     }
 
 
@@ -154,6 +162,7 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
                                                        sequencingProperty,
                                                        sequencingOrder,
                                                        pageSize,
+                                                       projection,
                                                        accumulator,
                                                        methodName);
     }
@@ -183,7 +192,8 @@ public class FindEntitiesByPropertyValueExecutor extends PageableEntityRepositor
                                                                                         asOfTime,
                                                                                         sequencingProperty,
                                                                                         sequencingOrder,
-                                                                                        pageSize);
+                                                                                        pageSize,
+                                                                                        projection);
 
             accumulator.addEntities(results, metadataCollectionId);
         }
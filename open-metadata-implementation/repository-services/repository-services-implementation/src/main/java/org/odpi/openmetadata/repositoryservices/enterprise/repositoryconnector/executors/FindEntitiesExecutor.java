@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
@@ -25,6 +26,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
     private final SearchProperties      matchProperties;
     private final SearchClassifications matchClassifications;
     private final List<String>          instanceSubtypeGUIDs;
+    private final InstanceProjection    projection;
 
     /**
      * Create the executor.  The parameters provide the parameters for issuing the requests and
@@ -48,6 +50,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
      * @param auditLog logging destination
      * @param repositoryValidator validator for resulting relationships
@@ -64,6 +67,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                 String                  sequencingProperty,
                                 SequencingOrder         sequencingOrder,
                                 int                     pageSize,
+                                InstanceProjection      projection,
                                 String                  localMetadataCollectionId,
                                 AuditLog                auditLog,
                                 OMRSRepositoryValidator repositoryValidator,
@@ -80,6 +84,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
              sequencingProperty,
              sequencingOrder,
              pageSize,
+             projection,
              new EntitiesAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
              methodName);
     }
@@ -107,6 +112,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param accumulator location for results and returned exceptions
      * @param methodName calling method
      */
@@ -121,6 +127,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                  String                sequencingProperty,
                                  SequencingOrder       sequencingOrder,
                                  int                   pageSize,
+                                 InstanceProjection    projection,
                                  EntitiesAccumulator accumulator,
                                  String                methodName)
     {
@@ -139,6 +146,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
         this.matchClassifications = matchClassifications;
         this.instanceSubtypeGUIDs = entitySubtypeGUIDs;
         this.accumulator = accumulator;
+        this.projection = projection;
 
     }
 
@@ -163,6 +171,7 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                         sequencingProperty,
                                         sequencingOrder,
                                         pageSize,
+                                        projection,
                                         accumulator,
                                         methodName);
     }
@@ -193,7 +202,8 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
                                                                          asOfTime,
                                                                          sequencingProperty,
                                                                          sequencingOrder,
-                                                                         pageSize);
+                                                                         pageSize,
+                                                                         projection);
 
             accumulator.addEntities(results, metadataCollectionId);
         }
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
@@ -22,7 +23,8 @@ import java.util.List;
  */
 public class FindRelationshipsByPropertyValueExecutor extends PageableRepositoryExecutorBase
 {
-    private final String searchCriteria;
+    private final String             searchCriteria;
+    private final InstanceProjection projection;
 
     private final RelationshipsAccumulator accumulator;
 
@@ -49,6 +51,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
      * @param auditLog logging destination
      * @param repositoryValidator validator for resulting relationships
@@ -63,6 +66,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                     String                  sequencingProperty,
                                                     SequencingOrder         sequencingOrder,
                                                     int                     pageSize,
+                                                    InstanceProjection      projection,
                                                     String                  localMetadataCollectionId,
                                                     AuditLog                auditLog,
                                                     OMRSRepositoryValidator repositoryValidator,
@@ -77,6 +81,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
              sequencingProperty,
              sequencingOrder,
              pageSize,
+             projection,
              new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
              methodName);
     }
@@ -104,6 +109,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param accumulator captures results and exceptions
      * @param methodName calling method
      */
@@ -116,6 +122,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                      String                  sequencingProperty,
                                                      SequencingOrder         sequencingOrder,
                                                      int                     pageSize,
+                                                     InstanceProjection      projection,
                                                      RelationshipsAccumulator accumulator,
                                                      String                  methodName)
     {
@@ -132,6 +139,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
 
         this.searchCriteria = searchCriteria;
         this.accumulator = accumulator;
+        this.projection = projection;
     }
 
 
@@ -153,6 +161,7 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                             sequencingProperty,
                                                             sequencingOrder,
                                                             pageSize,
+                                                            projection,
                                                             accumulator,
                                                             methodName);
     }
@@ -181,7 +190,8 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
                                                                                              asOfTime,
                                                                                              sequencingProperty,
                                                                                              sequencingOrder,
-                                                                                             pageSize);
+                                                                                             pageSize,
+                                                                                             projection);
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
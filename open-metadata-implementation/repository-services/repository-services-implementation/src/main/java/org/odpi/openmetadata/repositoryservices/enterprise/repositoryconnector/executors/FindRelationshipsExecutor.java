@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
@@ -23,8 +24,9 @@ import java.util.List;
  */
 public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
 {
-    private final SearchProperties matchProperties;
-    private final List<String>     instanceSubtypeGUIDs;
+    private final SearchProperties   matchProperties;
+    private final List<String>       instanceSubtypeGUIDs;
+    private final InstanceProjection projection;
 
     private final RelationshipsAccumulator accumulator;
 
@@ -51,6 +53,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
      * @param auditLog logging destination
      * @param repositoryValidator validator for resulting relationships
@@ -66,6 +69,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                      String                  sequencingProperty,
                                      SequencingOrder         sequencingOrder,
                                      int                     pageSize,
+                                     InstanceProjection      projection,
                                      String                  localMetadataCollectionId,
                                      AuditLog                auditLog,
                                      OMRSRepositoryValidator repositoryValidator,
@@ -81,6 +85,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
              sequencingProperty,
              sequencingOrder,
              pageSize,
+             projection,
              new RelationshipsAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
              methodName);
     }
@@ -109,6 +114,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
+     * @param projection optional projection of the content of the returned instances; null means complete instances.
      * @param accumulator captures results and exceptions
      * @param methodName calling method
      */
@@ -122,6 +128,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                       String                  sequencingProperty,
                                       SequencingOrder         sequencingOrder,
                                       int                     pageSize,
+                                      InstanceProjection      projection,
                                       RelationshipsAccumulator accumulator,
                                       String                  methodName)
     {
@@ -140,6 +147,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
         this.instanceSubtypeGUIDs = relationshipSubtypeGUIDs;
 
         this.accumulator = accumulator;
+        this.projection = projection;
     }
 
 
@@ -162,6 +170,7 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                              sequencingProperty,
                                              sequencingOrder,
                                              pageSize,
+                                             projection,
                                              accumulator,
                                              methodName);
     }
@@ -191,7 +200,8 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
                                                                               asOfTime,
                                                                               sequencingProperty,
                                                                               sequencingOrder,
-                                                                              pageSize);
+                                                                              pageSize,
+                                                                              projection);
 
             accumulator.addRelationships(results, metadataCollectionId);
         }
@@ -52,6 +52,17 @@ public abstract class GetEntityExecutor extends RepositoryExecutorBase
     }
 
 
+    /**
+     * Return whether the entity was returned by its home repository.  If not, the result may be missing or out of date.
+     *
+     * @return boolean
+     */
+    public boolean isHomeInstanceRetrieved()
+    {
+        return ! accumulator.isInPhaseOne();
+    }
+
+
     /**
      * Perform the required action to augment a result by calling a specific repository.
      *
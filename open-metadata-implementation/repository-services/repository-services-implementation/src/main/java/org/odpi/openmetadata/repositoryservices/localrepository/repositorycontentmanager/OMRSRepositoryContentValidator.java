@@ -5,6 +5,7 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconte
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchStringMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -3699,133 +3700,120 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchPropertyValue != null)
                     {
-                        String           matchPropertyValueString = this.getStringFromPropertyValue(matchPropertyValue);
-                        Iterator<String> instancePropertyNames    = instanceProperties.getPropertyNames();
+                        String                matchPropertyValueString = this.getStringFromPropertyValue(matchPropertyValue);
+                        InstancePropertyValue instancePropertyValue    = instanceProperties.getPropertyValue(matchPropertyName);
 
-                        while (instancePropertyNames.hasNext())
+                        if (instancePropertyValue != null)
                         {
-                            String instancePropertyName = instancePropertyNames.next();
-
-                            if (instancePropertyName != null)
+                            /*
+                             * The property names match - do the values?
+                             */
+
+
+                            /*
+                             * The type of match performed depends on the property category [and for primitives also
+                             * the primitive def category]. The rules are as follows:
+                             *
+                             * Primitives:
+                             *   ** String        - the match value is used as a full regex.
+                             *   ** Non-String    - the match value must be an exact match (.equals() not regex)
+                             * Non-primitives:
+                             *   ** Array         - flattened to "{ value, ... }" and matched using contains regex
+                             *   ** Map           - flattened to "{ key -> value, ... }" and matched using contains regex
+                             *   ** Struct        - flattened to "{ key : value, ... }" and matched using contains regex
+                             *   ** Enums:        - matched using exact match (not regex)
+                             *
+                             */
+                            MatchOption matchOption;
+
+                            InstancePropertyCategory ipCat = instancePropertyValue.getInstancePropertyCategory();
+
+                            if (ipCat == PRIMITIVE)
                             {
-                                InstancePropertyValue instancePropertyValue = instanceProperties.getPropertyValue(instancePropertyName);
 
-                                if (instancePropertyValue != null)
+                                /*
+                                 * Property is a primitive.
+                                 * If it is a string, use a full regex match.
+                                 * If not a string, use an exact match.
+                                 */
+
+                                PrimitivePropertyValue primPropValue = (PrimitivePropertyValue) instancePropertyValue;
+
+                                if (primPropValue.getPrimitiveDefCategory() == OM_PRIMITIVE_TYPE_STRING)
                                 {
-                                    if (instancePropertyName.equals(matchPropertyName))
-                                    {
-                                        /*
-                                         * The property names match - do the values?
-                                         */
+                                    matchOption = MatchOption.RegexFullMatch;
+                                }
+                                else
+                                {
+                                    matchOption = MatchOption.ExactMatch;
+                                }
+                            }
+                            else
+                            {
 
+                                /*
+                                 * Property is not a primitive.
+                                 * If it is an Array, Struct or Map use a contains regex match (against stringified collection)
+                                 * If it is an Enum use an exact match
+                                 *
+                                 */
+                                if (ipCat == ENUM)
+                                {
+                                    matchOption = MatchOption.ExactMatch;
+                                }
+                                else
+                                {
+                                    matchOption = MatchOption.RegexContainsMatch;
+                                }
+                            }
 
+                            /*
+                             *  Perform the appropriate comparison
+                             */
+                            switch (matchOption)
+                            {
+                                case ExactMatch:
+                                    if (instancePropertyValue.equals(matchPropertyValue))
+                                    {
                                         /*
-                                         * The type of match performed depends on the property category [and for primitives also
-                                         * the primitive def category]. The rules are as follows:
-                                         *
-                                         * Primitives:
-                                         *   ** String        - the match value is used as a full regex.
-                                         *   ** Non-String    - the match value must be an exact match (.equals() not regex)
-                                         * Non-primitives:
-                                         *   ** Array         - flattened to "{ value, ... }" and matched using contains regex
-                                         *   ** Map           - flattened to "{ key -> value, ... }" and matched using contains regex
-                                         *   ** Struct        - flattened to "{ key : value, ... }" and matched using contains regex
-                                         *   ** Enums:        - matched using exact match (not regex)
-                                         *
+                                         * The values match exactly.
                                          */
-                                        MatchOption matchOption;
-
-                                        InstancePropertyCategory ipCat = instancePropertyValue.getInstancePropertyCategory();
-
-                                        if (ipCat == PRIMITIVE)
-                                        {
-
-                                            /*
-                                             * Property is a primitive.
-                                             * If it is a string, use a full regex match.
-                                             * If not a string, use an exact match.
-                                             */
-
-                                            PrimitivePropertyValue primPropValue = (PrimitivePropertyValue) instancePropertyValue;
-
-                                            if (primPropValue.getPrimitiveDefCategory() == OM_PRIMITIVE_TYPE_STRING)
-                                            {
-                                                matchOption = MatchOption.RegexFullMatch;
-                                            }
-                                            else
-                                            {
-                                                matchOption = MatchOption.ExactMatch;
-                                            }
-                                        }
-                                        else
+                                        matchingProperties++;
+                                    }
+                                    break;
+
+                                case RegexContainsMatch:
+                                    matchPropertyValueString = ".*" + matchPropertyValueString + ".*";
+                                    // deliberate no break; let this drop through with the modified match string
+                                case RegexFullMatch:
+                                    /*
+                                     * Does a regex match work? It must match the complete regex...
+                                     */
+                                    String instancePropertyValueString = this.getStringFromPropertyValue(instancePropertyValue);
+
+                                    if (instancePropertyValueString != null)
+                                    {
+                                        try
                                         {
-
-                                            /*
-                                             * Property is not a primitive.
-                                             * If it is an Array, Struct or Map use a contains regex match (against stringified collection)
-                                             * If it is an Enum use an exact match
-                                             *
-                                             */
-                                            if (ipCat == ENUM)
-                                            {
-                                                matchOption = MatchOption.ExactMatch;
-                                            }
-                                            else
+                                            if (OMRSSearchStringMatcher.matches(matchPropertyValueString, instancePropertyValueString))
                                             {
-                                                matchOption = MatchOption.RegexContainsMatch;
+                                                matchingProperties++;
                                             }
                                         }
-
-                                        /*
-                                         *  Perform the appropriate comparison
-                                         */
-                                        switch (matchOption)
+                                        catch (Exception error)
                                         {
-                                            case ExactMatch:
-                                                if (instancePropertyValue.equals(matchPropertyValue))
-                                                {
-                                                    /*
-                                                     * The values match exactly.
-                                                     */
-                                                    matchingProperties++;
-                                                }
-                                                break;
-
-                                            case RegexContainsMatch:
-                                                matchPropertyValueString = ".*" + matchPropertyValueString + ".*";
-                                                // deliberate no break; let this drop through with the modified match string
-                                            case RegexFullMatch:
-                                                /*
-                                                 * Does a regex match work? It must match the complete regex...
-                                                 */
-                                                String instancePropertyValueString = this.getStringFromPropertyValue(instancePropertyValue);
-
-                                                if (instancePropertyValueString != null)
-                                                {
-                                                    try
-                                                    {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
-                                                        {
-                                                            matchingProperties++;
-                                                        }
-                                                    }
-                                                    catch (Exception error)
-                                                    {
-                                                        throw new InvalidParameterException(
-                                                                OMRSErrorCode.INVALID_SEARCH_CRITERIA.getMessageDefinition(error.getClass().getName(),
-                                                                                                                           matchPropertyValueString,
-                                                                                                                           instancePropertyValueString,
-                                                                                                                           error.getMessage(),
-                                                                                                                           methodName),
-                                                                this.getClass().getName(),
-                                                                methodName,
-                                                                "instanceProperties");
-                                                    }
-                                                }
-                                                break;
+                                            throw new InvalidParameterException(
+                                                    OMRSErrorCode.INVALID_SEARCH_CRITERIA.getMessageDefinition(error.getClass().getName(),
+                                                                                                               matchPropertyValueString,
+                                                                                                               instancePropertyValueString,
+                                                                                                               error.getMessage(),
+                                                                                                               methodName),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    "instanceProperties");
                                         }
                                     }
-                                }
+                                    break;
                             }
                         }
                     }
@@ -3956,7 +3944,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if ((matchProperties != null) && (instanceHeader != null))
         {
-            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstancePropertiesView();
 
             if (propertyMap != null)
             {
@@ -4025,7 +4013,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                         InstanceProperties   instanceProperties,
                                                         MatchCriteria        matchCriteria) throws InvalidParameterException
     {
-        if (matchProperties != null && matchProperties.getInstanceProperties() != null)
+        if (matchProperties != null && matchProperties.getPropertyCount() > 0)
         {
             int matchingProperties = this.countMatchingPropertyValues(matchProperties, instanceProperties) +
                                      this.countMatchingHeaderPropertyValues(matchProperties, instanceHeader, instanceProperties);
@@ -4221,7 +4209,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                             else
                             {
                                 String actual = actualValue.valueAsString();
-                                matchesProperties = actual.matches(test);
+                                matchesProperties = OMRSSearchStringMatcher.matches(test, actual);
                             }
                         }
                         else
@@ -4474,6 +4462,11 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         try
         {
+            /*
+             * The search criteria is analysed once for all the property values.
+             */
+            OMRSSearchStringMatcher searchCriteriaMatcher = OMRSSearchStringMatcher.getMatcher(searchCriteria);
+
             while (propertyNames.hasNext())
             {
                 InstancePropertyValue  propertyValue = properties.getPropertyValue(propertyNames.next());
@@ -4488,7 +4481,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (searchCriteriaMatcher.matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -4502,7 +4495,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (searchCriteriaMatcher.matches(enumValue))
                             {
                                 return true;
                             }
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.auditlog.MessageFormatter;
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.InstanceProjection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -2353,6 +2354,7 @@ public class OMRSRepositoryRESTServices
         String                sequencingProperty           = null;
         SequencingOrder       sequencingOrder              = null;
         int                   pageSize                     = 0;
+        InstanceProjection    projection                   = null;
 
         EntityListResponse response = new EntityListResponse();
 
@@ -2367,6 +2369,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -2383,7 +2386,8 @@ public class OMRSRepositoryRESTServices
                                                                            null,
                                                                            sequencingProperty,
                                                                            sequencingOrder,
-                                                                           pageSize);
+                                                                           pageSize,
+                                                                           projection);
             response.setEntities(entities);
             if (entities != null)
             {
@@ -2468,6 +2472,7 @@ public class OMRSRepositoryRESTServices
         String                    sequencingProperty                = null;
         SequencingOrder           sequencingOrder                   = null;
         int                       pageSize                          = 0;
+        InstanceProjection        projection                        = null;
 
         EntityListResponse response = new EntityListResponse();
 
@@ -2483,6 +2488,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -2499,7 +2505,8 @@ public class OMRSRepositoryRESTServices
                                                                            asOfTime,
                                                                            sequencingProperty,
                                                                            sequencingOrder,
-                                                                           pageSize);
+                                                                           pageSize,
+                                                                           projection);
             response.setEntities(entities);
             if (entities != null)
             {
@@ -3054,6 +3061,7 @@ public class OMRSRepositoryRESTServices
         String                  sequencingProperty                = null;
         SequencingOrder         sequencingOrder                   = null;
         int                     pageSize                          = 0;
+        InstanceProjection      projection                        = null;
 
         EntityListResponse response = new EntityListResponse();
 
@@ -3066,6 +3074,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -3081,7 +3090,8 @@ public class OMRSRepositoryRESTServices
                                                                                           null,
                                                                                           sequencingProperty,
                                                                                           sequencingOrder,
-                                                                                          pageSize);
+                                                                                          pageSize,
+                                                                                          projection);
             response.setEntities(entities);
             if (entities != null)
             {
@@ -3167,6 +3177,7 @@ public class OMRSRepositoryRESTServices
         String                  sequencingProperty                = null;
         SequencingOrder         sequencingOrder                   = null;
         int                     pageSize                          = 0;
+        InstanceProjection      projection                        = null;
 
         EntityListResponse response = new EntityListResponse();
 
@@ -3180,6 +3191,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -3195,7 +3207,8 @@ public class OMRSRepositoryRESTServices
                                                                                           asOfTime,
                                                                                           sequencingProperty,
                                                                                           sequencingOrder,
-                                                                                          pageSize);
+                                                                                          pageSize,
+                                                                                          projection);
             response.setEntities(entities);
             if (entities != null)
             {
@@ -3564,6 +3577,7 @@ public class OMRSRepositoryRESTServices
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
+        InstanceProjection        projection               = null;
 
         RelationshipListResponse response = new RelationshipListResponse();
 
@@ -3577,6 +3591,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -3592,7 +3607,8 @@ public class OMRSRepositoryRESTServices
                                                                                      null,
                                                                                      sequencingProperty,
                                                                                      sequencingOrder,
-                                                                                     pageSize);
+                                                                                     pageSize,
+                                                                                     projection);
             response.setRelationships(relationships);
             if (relationships != null)
             {
@@ -3675,6 +3691,7 @@ public class OMRSRepositoryRESTServices
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
+        InstanceProjection        projection               = null;
 
         RelationshipListResponse response = new RelationshipListResponse();
 
@@ -3689,6 +3706,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -3704,7 +3722,8 @@ public class OMRSRepositoryRESTServices
                                                                                      asOfTime,
                                                                                      sequencingProperty,
                                                                                      sequencingOrder,
-                                                                                     pageSize);
+                                                                                     pageSize,
+                                                                                     projection);
             response.setRelationships(relationships);
             if (relationships != null)
             {
@@ -4009,6 +4028,7 @@ public class OMRSRepositoryRESTServices
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
+        InstanceProjection        projection               = null;
 
         RelationshipListResponse response = new RelationshipListResponse();
 
@@ -4020,6 +4040,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -4034,7 +4055,8 @@ public class OMRSRepositoryRESTServices
                                                                                                     null,
                                                                                                     sequencingProperty,
                                                                                                     sequencingOrder,
-                                                                                                    pageSize);
+                                                                                                    pageSize,
+                                                                                                    projection);
             response.setRelationships(relationships);
             if (relationships != null)
             {
@@ -4116,6 +4138,7 @@ public class OMRSRepositoryRESTServices
         String                    sequencingProperty       = null;
         SequencingOrder           sequencingOrder          = null;
         int                       pageSize                 = 0;
+        InstanceProjection        projection               = null;
 
         RelationshipListResponse response = new RelationshipListResponse();
 
@@ -4128,6 +4151,7 @@ public class OMRSRepositoryRESTServices
             sequencingProperty                = findRequestParameters.getSequencingProperty();
             sequencingOrder                   = findRequestParameters.getSequencingOrder();
             pageSize                          = findRequestParameters.getPageSize();
+            projection                        = findRequestParameters.getProjection();
         }
 
         try
@@ -4142,7 +4166,8 @@ public class OMRSRepositoryRESTServices
                                                                                                     asOfTime,
                                                                                                     sequencingProperty,
                                                                                                     sequencingOrder,
-                                                                                                    pageSize);
+                                                                                                    pageSize,
+                                                                                                    projection);
             response.setRelationships(relationships);
             if (relationships != null)
             {
@@ -4403,6 +4428,7 @@ public class OMRSRepositoryRESTServices
         List<String>         relationshipTypeGUIDs          = null;
         List<InstanceStatus> limitResultsByStatus           = null;
         List<String>         limitResultsByClassification   = null;
+        InstanceProjection   projection                     = null;
 
         InstanceGraphResponse response = new InstanceGraphResponse();
 
@@ -4412,6 +4438,7 @@ public class OMRSRepositoryRESTServices
             relationshipTypeGUIDs = findRequestParameters.getRelationshipTypeGUIDs();
             limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
             limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            projection                   = findRequestParameters.getProjection();
         }
 
         try
@@ -4425,7 +4452,8 @@ public class OMRSRepositoryRESTServices
                                                                                    limitResultsByStatus,
                                                                                    limitResultsByClassification,
                                                                                    null,
-                                                                                   level);
+                                                                                   level,
+                                                                                   projection);
             if (instanceGraph != null)
             {
                 response.setEntityElementList(instanceGraph.getEntities());
@@ -4507,6 +4535,7 @@ public class OMRSRepositoryRESTServices
         List<InstanceStatus> limitResultsByStatus           = null;
         List<String>         limitResultsByClassification   = null;
         Date                 asOfTime                       = null;
+        InstanceProjection   projection                     = null;
 
         InstanceGraphResponse response = new InstanceGraphResponse();
 
@@ -4517,6 +4546,7 @@ public class OMRSRepositoryRESTServices
             limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
             asOfTime = findRequestParameters.getAsOfTime();
             limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            projection                   = findRequestParameters.getProjection();
         }
 
         try
@@ -4530,7 +4560,8 @@ public class OMRSRepositoryRESTServices
                                                                                    limitResultsByStatus,
                                                                                    limitResultsByClassification,
                                                                                    asOfTime,
-                                                                                   level);
+                                                                                   level,
+                                                                                   projection);
             if (instanceGraph != null)
             {
                 response.setEntityElementList(instanceGraph.getEntities());
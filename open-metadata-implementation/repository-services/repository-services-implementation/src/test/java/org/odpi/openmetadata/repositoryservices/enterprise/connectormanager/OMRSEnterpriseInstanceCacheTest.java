@@ -0,0 +1,184 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate that OMRSEnterpriseInstanceCache returns the results saved for each user, and discards them when
+ * the instances change.
+ */
+public class OMRSEnterpriseInstanceCacheTest
+{
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid, String entityOneGUID, String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    @Test
+    public void testSaveEntity()
+    {
+        OMRSEnterpriseInstanceCache cache = new OMRSEnterpriseInstanceCache(10, 0);
+
+        assertNull(cache.getEntity("user1", "guid1"));
+
+        cache.saveEntity("user1", getEntity("guid1", 2), cache.getSequence());
+
+        assertNotNull(cache.getEntity("user1", "guid1"));
+        assertEquals(cache.getEntity("user1", "guid1").getVersion(), 2);
+
+        /*
+         * Results are held for each user since the repositories may return different values to different users.
+         */
+        assertNull(cache.getEntity("user2", "guid1"));
+
+        /*
+         * An older version does not replace a newer one.
+         */
+        cache.saveEntity("user2", getEntity("guid1", 1), cache.getSequence());
+        assertNull(cache.getEntity("user2", "guid1"));
+
+        /*
+         * A newer version replaces the results of all users.
+         */
+        cache.saveEntity("user2", getEntity("guid1", 3), cache.getSequence());
+        assertEquals(cache.getEntity("user2", "guid1").getVersion(), 3);
+        assertNull(cache.getEntity("user1", "guid1"));
+
+        /*
+         * An entity is not returned for a relationship.
+         */
+        assertNull(cache.getRelationship("user2", "guid1"));
+    }
+
+
+    @Test
+    public void testInstanceEvents()
+    {
+        OMRSEnterpriseInstanceCache cache = new OMRSEnterpriseInstanceCache(10, 0);
+
+        cache.saveEntity("user1", getEntity("guid1", 1), cache.getSequence());
+        cache.saveRelationshipsForEntity("user1", "guid1", "query", Collections.emptyList(), cache.getSequence());
+        assertNotNull(cache.getRelationshipsForEntity("user1", "guid1", "query"));
+
+        long startSequence = cache.getSequence();
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                         getEntity("guid1", 1),
+                                                         getEntity("guid1", 2)));
+
+        assertNull(cache.getEntity("user1", "guid1"));
+        assertNull(cache.getRelationshipsForEntity("user1", "guid1", "query"));
+
+        /*
+         * A retrieval that started before the change may have returned the old values so it is not saved.
+         */
+        cache.saveEntity("user1", getEntity("guid1", 1), startSequence);
+        assertNull(cache.getEntity("user1", "guid1"));
+
+        cache.saveEntity("user1", getEntity("guid1", 2), cache.getSequence());
+        assertNotNull(cache.getEntity("user1", "guid1"));
+    }
+
+
+    @Test
+    public void testRelationshipEvents()
+    {
+        OMRSEnterpriseInstanceCache cache = new OMRSEnterpriseInstanceCache(10, 0);
+
+        cache.saveRelationship("user1", getRelationship("rel1", "guid1", "guid2"), cache.getSequence());
+        cache.saveRelationshipsForEntity("user1", "guid1", "query", null, cache.getSequence());
+        cache.saveRelationshipsForEntity("user1", "guid2", "query", null, cache.getSequence());
+        cache.saveRelationshipsForEntity("user1", "guid3", "query", null, cache.getSequence());
+
+        OMRSEnterpriseInstanceCache.RelationshipList relationships = cache.getRelationshipsForEntity("user1", "guid1", "query");
+
+        assertNotNull(relationships);
+        assertNull(relationships.getRelationships());
+
+        /*
+         * A new relationship changes the relationship lists of its ends.
+         */
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                         getRelationship("rel2", "guid1", "guid2")));
+
+        assertNull(cache.getRelationshipsForEntity("user1", "guid1", "query"));
+        assertNull(cache.getRelationshipsForEntity("user1", "guid2", "query"));
+        assertNotNull(cache.getRelationshipsForEntity("user1", "guid3", "query"));
+        assertNotNull(cache.getRelationship("user1", "rel1"));
+
+        /*
+         * The ends of a purged relationship are not known, so all relationship lists are discarded.
+         */
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT,
+                                                         "typeGUID",
+                                                         "typeName",
+                                                         "rel3"));
+
+        assertNull(cache.getRelationshipsForEntity("user1", "guid3", "query"));
+        assertNotNull(cache.getRelationship("user1", "rel1"));
+    }
+
+
+    @Test
+    public void testStatistics()
+    {
+        OMRSEnterpriseInstanceCache cache = new OMRSEnterpriseInstanceCache(2, 0);
+
+        cache.getEntity("user1", "guid1");
+        cache.saveEntity("user1", getEntity("guid1", 1), cache.getSequence());
+        cache.saveEntity("user1", getEntity("guid2", 1), cache.getSequence());
+        cache.getEntity("user1", "guid1");
+        cache.saveEntity("user1", getEntity("guid3", 1), cache.getSequence());
+        cache.removeEntity("guid3");
+
+        Map<String, Long> statistics = cache.getStatistics();
+
+        assertEquals(statistics.get("enterpriseCacheHits"), Long.valueOf(1));
+        assertEquals(statistics.get("enterpriseCacheMisses"), Long.valueOf(1));
+        assertEquals(statistics.get("enterpriseCacheEvictedEntries"), Long.valueOf(1));
+        assertEquals(statistics.get("enterpriseCacheStaleEntries"), Long.valueOf(1));
+        assertEquals(statistics.get("enterpriseCacheInstances"), Long.valueOf(1));
+
+        /*
+         * The least recently used entity was evicted.
+         */
+        assertNotNull(cache.getEntity("user1", "guid1"));
+        assertNull(cache.getEntity("user1", "guid2"));
+    }
+}
@@ -0,0 +1,181 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate that OMRSInstanceLocationIndex records the home and classification holders of entities, that instance
+ * events only update existing entries, and that entries that are out of date are forgotten.
+ */
+public class OMRSInstanceLocationIndexTest
+{
+    private EntityDetail getEntity(String guid, String homeMetadataCollectionId, String... classificationMetadataCollectionIds)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId(homeMetadataCollectionId);
+
+        Classification[] classifications = new Classification[classificationMetadataCollectionIds.length];
+
+        for (int i = 0; i < classificationMetadataCollectionIds.length; i++)
+        {
+            classifications[i] = new Classification();
+            classifications[i].setName("Classification" + i);
+            classifications[i].setMetadataCollectionId(classificationMetadataCollectionIds[i]);
+        }
+
+        entity.setClassifications(Arrays.asList(classifications));
+
+        return entity;
+    }
+
+
+    @Test
+    public void testSaveEntityLocation()
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex();
+
+        index.saveEntityLocation(getEntity("guid1", "home", "home", "other1", "other2"));
+
+        OMRSInstanceLocationIndex.InstanceLocation location = index.getLocation("guid1");
+
+        assertNotNull(location);
+        assertEquals(location.getHomeMetadataCollectionId(), "home");
+        assertEquals(location.getClassificationMetadataCollectionIds(), Arrays.asList("other1", "other2"));
+        assertNull(index.getLocation("guid2"));
+
+        /*
+         * A change of home replaces the entry.
+         */
+        index.saveEntityLocation(getEntity("guid1", "newHome"));
+
+        location = index.getLocation("guid1");
+
+        assertEquals(location.getHomeMetadataCollectionId(), "newHome");
+        assertEquals(location.getClassificationMetadataCollectionIds(), Collections.emptyList());
+
+        index.removeInstance("guid1");
+        assertNull(index.getLocation("guid1"));
+    }
+
+
+    @Test
+    public void testRemoveMetadataCollection()
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex();
+
+        index.saveEntityLocation(getEntity("guid1", "home1"));
+        index.saveEntityLocation(getEntity("guid2", "home2", "home1"));
+        index.saveEntityLocation(getEntity("guid3", "home2"));
+
+        index.removeMetadataCollection("home1");
+
+        assertNull(index.getLocation("guid1"));
+        assertNull(index.getLocation("guid2"));
+        assertNotNull(index.getLocation("guid3"));
+    }
+
+
+    @Test
+    public void testLimits() throws InterruptedException
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex(2, 50);
+
+        index.saveEntityLocation(getEntity("guid1", "home"));
+        index.saveEntityLocation(getEntity("guid2", "home"));
+        index.getLocation("guid1");
+        index.saveEntityLocation(getEntity("guid3", "home"));
+
+        assertEquals(index.size(), 2);
+        assertNotNull(index.getLocation("guid1"));
+        assertNull(index.getLocation("guid2"));
+
+        Thread.sleep(100);
+
+        assertNull(index.getLocation("guid1"));
+        assertNull(index.getLocation("guid3"));
+    }
+
+
+    @Test
+    public void testEventsDoNotCreateEntries()
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex();
+
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("guid1", "home", "other1")));
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("guid1", "home", "other1")));
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                         getEntity("guid2", "home"),
+                                                         null,
+                                                         getEntity("unused", "unused", "other2").getClassifications().get(0)));
+
+        assertNull(index.getLocation("guid1"));
+        assertNull(index.getLocation("guid2"));
+        assertEquals(index.size(), 0);
+    }
+
+
+    @Test
+    public void testEventsUpdateExistingEntries()
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex();
+
+        index.saveEntityLocation(getEntity("guid1", "home", "other1"));
+        index.saveEntityLocation(getEntity("guid2", "home"));
+
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("guid1", "home", "other2")));
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                         getEntity("guid1", "home"),
+                                                         null,
+                                                         getEntity("unused", "unused", "other3").getClassifications().get(0)));
+
+        assertEquals(index.getLocation("guid1").getClassificationMetadataCollectionIds(), Arrays.asList("other1", "other2", "other3"));
+
+        /*
+         * An entity that has moved to a new home is forgotten until it is next retrieved from all members.
+         */
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT, getEntity("guid1", "newHome")));
+
+        assertNull(index.getLocation("guid1"));
+
+        /*
+         * A re-identified entity is forgotten and its new identity is not added.
+         */
+        index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                         getEntity("guid2", "home"),
+                                                         getEntity("guid3", "home")));
+
+        assertNull(index.getLocation("guid2"));
+        assertNull(index.getLocation("guid3"));
+    }
+
+
+    @Test
+    public void testEventsDoNotExtendAge() throws InterruptedException
+    {
+        OMRSInstanceLocationIndex index = new OMRSInstanceLocationIndex(10, 200);
+
+        index.saveEntityLocation(getEntity("guid1", "home"));
+
+        for (int i = 0; i < 6; i++)
+        {
+            Thread.sleep(50);
+            index.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, getEntity("guid1", "home")));
+        }
+
+        assertNull(index.getLocation("guid1"));
+    }
+}
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.serverchassis.springboot;
 
+import com.fasterxml.jackson.databind.Module;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
@@ -11,6 +12,7 @@ import org.odpi.openmetadata.adminservices.server.OMAGServerOperationalServices;
 import org.odpi.openmetadata.adminservices.rest.SuccessMessageResponse;
 import org.odpi.openmetadata.http.HttpHelper;
 import org.odpi.openmetadata.http.HttpRequestHeadersFilter;
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -216,6 +218,17 @@ public class OMAGServerPlatform
 
     }
 
+    /**
+     * Tune the object mapper that Spring uses for the REST APIs in the same way as the JSON codec used for
+     * the events of the repository and access services.
+     *
+     * @return jackson module registered with the platform's object mapper
+     */
+    @Bean
+    public Module getJSONCodecModule() {
+        return OMRSJSONCodec.getAccessorModule();
+    }
+
     /**
      * Initialization of HttpRequestHeadersFilter. headerNames is a list of headers defined in application properties.
      * @return bean of an initialized FilterRegistrationBean
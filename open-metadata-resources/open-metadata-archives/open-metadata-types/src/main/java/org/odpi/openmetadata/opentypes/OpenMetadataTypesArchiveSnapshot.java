@@ -0,0 +1,260 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.codec.OMRSJSONCodec;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OpenMetadataTypesArchiveSnapshot writes and reads a precompiled snapshot of the open metadata types archive.
+ * The snapshot is written once by the build and packaged into the jar of this module as a classpath resource.
+ * When the archive is requested, the snapshot is read back in place of creating and linking every type definition.
+ * Reading the snapshot is not faster than building the archive in a newly started JVM because the time goes on
+ * loading and compiling the JSON deserializers, so the snapshot does not shorten the start-up of a server.
+ * <p>
+ * The snapshot has a short binary header followed by the compressed JSON encoding of the archive (the same encoding
+ * as an archive file).  The header holds a format version, the GUID and version of the archive that was written,
+ * and a SHA-256 hash of the encoded archive.  The snapshot is only used if all of these match and the lengths in
+ * the header are consistent with the stream.  Otherwise, or if the snapshot can not be decoded, the archive is
+ * built programmatically.
+ * </p>
+ * <p>
+ * The hash is a corruption check only.  It is calculated from the snapshot's own content, so it does not detect
+ * a snapshot written from different type definitions that carry the same archive GUID and version.  The snapshot is
+ * kept in step with the type definitions by the build, which writes it from the classes that are packaged
+ * alongside it in the same jar.  The snapshot is not on the classpath when the module's classes are run from
+ * outside the jar, so the archive is then always built programmatically.
+ * </p>
+ */
+public class OpenMetadataTypesArchiveSnapshot
+{
+    public static final String SNAPSHOT_RESOURCE_NAME = "OpenMetadataTypes.snapshot";
+
+    private static final byte[] snapshotMagic         = { 'O', 'M', 'T', 'S' };
+    private static final int    snapshotFormatVersion = 1;
+    private static final String hashAlgorithm         = "SHA-256";
+
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataTypesArchiveSnapshot()
+    {
+    }
+
+
+    /**
+     * Return the open metadata types archive.  The snapshot is used if it matches the types in this module,
+     * otherwise the archive is built programmatically.
+     *
+     * @return open metadata types archive
+     */
+    public OpenMetadataArchive getOpenMetadataArchive()
+    {
+        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
+        OpenMetadataArchive      openMetadataTypes        = null;
+
+        try (InputStream snapshotStream = OpenMetadataTypesArchiveSnapshot.class.getClassLoader().getResourceAsStream(SNAPSHOT_RESOURCE_NAME))
+        {
+            if (snapshotStream != null)
+            {
+                openMetadataTypes = this.readSnapshot(snapshotStream,
+                                                      openMetadataTypesArchive.getArchiveGUID(),
+                                                      openMetadataTypesArchive.getArchiveVersion());
+            }
+        }
+        catch (IOException | RuntimeException error)
+        {
+            /*
+             * A snapshot that can not be read is treated as missing - the archive is built programmatically instead.
+             */
+            openMetadataTypes = null;
+        }
+
+        if (openMetadataTypes == null)
+        {
+            openMetadataTypes = openMetadataTypesArchive.getOpenMetadataArchive();
+        }
+
+        return openMetadataTypes;
+    }
+
+
+    /**
+     * Read a snapshot.
+     *
+     * @param snapshotStream stream containing the snapshot
+     * @param expectedArchiveGUID unique identifier of the archive that the caller expects
+     * @param expectedArchiveVersion version of the archive that the caller expects
+     * @return archive or null if the snapshot is for a different archive GUID or version, the lengths in its header
+     *         are invalid or its content does not match its hash
+     * @throws IOException problem reading the stream
+     */
+    public OpenMetadataArchive readSnapshot(InputStream snapshotStream,
+                                            String      expectedArchiveGUID,
+                                            String      expectedArchiveVersion) throws IOException
+    {
+        DataInputStream snapshotInput = new DataInputStream(snapshotStream);
+
+        byte[] magic = new byte[snapshotMagic.length];
+
+        snapshotInput.readFully(magic);
+
+        if ((! Arrays.equals(magic, snapshotMagic)) || (snapshotInput.readInt() != snapshotFormatVersion))
+        {
+            return null;
+        }
+
+        String archiveGUID    = snapshotInput.readUTF();
+        String archiveVersion = snapshotInput.readUTF();
+
+        if ((! archiveGUID.equals(expectedArchiveGUID)) || (! archiveVersion.equals(expectedArchiveVersion)))
+        {
+            return null;
+        }
+
+        byte[] contentHash = this.readBlock(snapshotInput);
+        byte[] content     = null;
+
+        if (contentHash != null)
+        {
+            content = this.readBlock(snapshotInput);
+        }
+
+        if ((content == null) || (! Arrays.equals(contentHash, getContentHash(content))))
+        {
+            return null;
+        }
+
+        try (InputStream contentStream = new GZIPInputStream(new ByteArrayInputStream(content)))
+        {
+            return OMRSJSONCodec.getReader(OpenMetadataArchive.class).readValue(contentStream);
+        }
+    }
+
+
+    /**
+     * Read a block of bytes that is preceded by its length.  The length is checked against the bytes remaining in
+     * the stream as they are read, so a damaged length does not allocate a large buffer.
+     *
+     * @param snapshotInput stream positioned at the length of the block
+     * @return bytes of the block or null if the length is negative or larger than the rest of the stream
+     * @throws IOException problem reading the stream
+     */
+    private byte[] readBlock(DataInputStream snapshotInput) throws IOException
+    {
+        int length = snapshotInput.readInt();
+
+        if (length >= 0)
+        {
+            byte[] block = snapshotInput.readNBytes(length);
+
+            if (block.length == length)
+            {
+                return block;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Write a snapshot of an archive.
+     *
+     * @param openMetadataArchive archive to write
+     * @param archiveVersion version of the archive
+     * @param snapshotStream destination of the snapshot
+     * @throws IOException problem writing the snapshot
+     */
+    public void writeSnapshot(OpenMetadataArchive openMetadataArchive,
+                              String              archiveVersion,
+                              OutputStream        snapshotStream) throws IOException
+    {
+        ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+
+        try (OutputStream contentStream = new GZIPOutputStream(contentBytes))
+        {
+            OMRSJSONCodec.getWriter().writeValue(contentStream, openMetadataArchive);
+        }
+
+        byte[] content     = contentBytes.toByteArray();
+        byte[] contentHash = getContentHash(content);
+
+        DataOutputStream snapshotOutput = new DataOutputStream(snapshotStream);
+
+        snapshotOutput.write(snapshotMagic);
+        snapshotOutput.writeInt(snapshotFormatVersion);
+        snapshotOutput.writeUTF(openMetadataArchive.getArchiveProperties().getArchiveGUID());
+        snapshotOutput.writeUTF(archiveVersion);
+        snapshotOutput.writeInt(contentHash.length);
+        snapshotOutput.write(contentHash);
+        snapshotOutput.writeInt(content.length);
+        snapshotOutput.write(content);
+        snapshotOutput.flush();
+    }
+
+
+    /**
+     * Return the hash of the encoded archive.  This detects a damaged snapshot, not a change to the type definitions.
+     *
+     * @param content encoded archive
+     * @return hash
+     */
+    private byte[] getContentHash(byte[] content)
+    {
+        try
+        {
+            return MessageDigest.getInstance(hashAlgorithm).digest(content);
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            /*
+             * Every Java platform supports SHA-256.
+             */
+            throw new IllegalStateException(error);
+        }
+    }
+
+
+    /**
+     * Build the open metadata types archive programmatically and write its snapshot into the supplied directory.
+     * This is called by the build so that the snapshot is packaged with the types.
+     *
+     * @param args name of the directory to write the snapshot into
+     * @throws IOException problem writing the snapshot
+     */
+    public static void main(String[] args) throws IOException
+    {
+        File snapshotDirectory = new File((args.length > 0) ? args[0] : ".");
+
+        if ((! snapshotDirectory.isDirectory()) && (! snapshotDirectory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + snapshotDirectory.getAbsolutePath());
+        }
+
+        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
+
+        try (OutputStream snapshotStream = new FileOutputStream(new File(snapshotDirectory, SNAPSHOT_RESOURCE_NAME)))
+        {
+            new OpenMetadataTypesArchiveSnapshot().writeSnapshot(openMetadataTypesArchive.getOpenMetadataArchive(),
+                                                                 openMetadataTypesArchive.getArchiveVersion(),
+                                                                 snapshotStream);
+        }
+    }
+}
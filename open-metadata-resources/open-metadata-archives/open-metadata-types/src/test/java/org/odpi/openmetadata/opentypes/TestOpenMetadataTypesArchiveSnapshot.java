@@ -0,0 +1,135 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Test that the snapshot of the open metadata types archive reads back as the same archive as the one built
+ * programmatically and that snapshots that do not match or are damaged are ignored.  The programmatic archive holds some type
+ * links as full type definitions, so the snapshot is compared with the archive as it would be read from an archive file.
+ * The build and read times are logged at debug level for information only.
+ */
+public class TestOpenMetadataTypesArchiveSnapshot
+{
+    private static final Logger       log           = LoggerFactory.getLogger(TestOpenMetadataTypesArchiveSnapshot.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testSnapshotRoundTrip() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+        OpenMetadataTypesArchive         archive  = new OpenMetadataTypesArchive();
+
+        long                buildStart   = System.nanoTime();
+        OpenMetadataArchive builtArchive = archive.getOpenMetadataArchive();
+        long                buildTime    = System.nanoTime() - buildStart;
+
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+        snapshot.writeSnapshot(builtArchive, archive.getArchiveVersion(), snapshotBytes);
+
+        long                readStart   = System.nanoTime();
+        OpenMetadataArchive readArchive = snapshot.readSnapshot(new ByteArrayInputStream(snapshotBytes.toByteArray()),
+                                                                archive.getArchiveGUID(),
+                                                                archive.getArchiveVersion());
+        long                readTime    = System.nanoTime() - readStart;
+
+        OpenMetadataArchive fileArchive = OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsBytes(builtArchive),
+                                                                  OpenMetadataArchive.class);
+
+        assertEquals(readArchive, fileArchive);
+        assertEquals(readArchive.getArchiveTypeStore().getNewTypeDefs().size(),
+                     builtArchive.getArchiveTypeStore().getNewTypeDefs().size());
+
+        log.debug("Open metadata types built in {}ms and read from a {} byte snapshot in {}ms",
+                  buildTime / 1000000, snapshotBytes.size(), readTime / 1000000);
+    }
+
+
+    @Test
+    public void testMismatchedSnapshot() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+        OpenMetadataTypesArchive         archive  = new OpenMetadataTypesArchive();
+
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+        snapshot.writeSnapshot(archive.getOpenMetadataArchive(), archive.getArchiveVersion(), snapshotBytes);
+
+        byte[] snapshotContent = snapshotBytes.toByteArray();
+
+        /*
+         * A snapshot written for another version of the archive is not used.
+         */
+        assertNull(snapshot.readSnapshot(new ByteArrayInputStream(snapshotContent),
+                                         archive.getArchiveGUID(),
+                                         archive.getArchiveVersion() + ".1"));
+
+        /*
+         * A snapshot whose content does not match its hash is not used.
+         */
+        snapshotContent[snapshotContent.length - 10] ^= 0x01;
+
+        assertNull(snapshot.readSnapshot(new ByteArrayInputStream(snapshotContent),
+                                         archive.getArchiveGUID(),
+                                         archive.getArchiveVersion()));
+    }
+
+
+    @Test
+    public void testInvalidLengths() throws Exception
+    {
+        OpenMetadataTypesArchiveSnapshot snapshot = new OpenMetadataTypesArchiveSnapshot();
+        OpenMetadataTypesArchive         archive  = new OpenMetadataTypesArchive();
+
+        ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream();
+        snapshot.writeSnapshot(archive.getOpenMetadataArchive(), archive.getArchiveVersion(), snapshotBytes);
+
+        byte[] snapshotContent = snapshotBytes.toByteArray();
+
+        /*
+         * The header is the magic number, the format version and the archive GUID and version, followed by the
+         * length of the hash.
+         */
+        int hashLengthOffset = 8 +
+                               2 + archive.getArchiveGUID().getBytes(StandardCharsets.UTF_8).length +
+                               2 + archive.getArchiveVersion().getBytes(StandardCharsets.UTF_8).length;
+        int hashLength       = ByteBuffer.wrap(snapshotContent).getInt(hashLengthOffset);
+        int contentOffset    = hashLengthOffset + 4 + hashLength;
+
+        for (int lengthOffset : new int[] { hashLengthOffset, contentOffset })
+        {
+            for (int length : new int[] { -1, Integer.MAX_VALUE })
+            {
+                byte[] damagedContent = Arrays.copyOf(snapshotContent, snapshotContent.length);
+
+                ByteBuffer.wrap(damagedContent).putInt(lengthOffset, length);
+
+                assertNull(snapshot.readSnapshot(new ByteArrayInputStream(damagedContent),
+                                                 archive.getArchiveGUID(),
+                                                 archive.getArchiveVersion()));
+            }
+        }
+
+        /*
+         * A truncated snapshot is not used.
+         */
+        assertNull(snapshot.readSnapshot(new ByteArrayInputStream(Arrays.copyOf(snapshotContent, snapshotContent.length - 10)),
+                                         archive.getArchiveGUID(),
+                                         archive.getArchiveVersion()));
+    }
+}